@@ -0,0 +1,199 @@
+package com.zsmartsystems.zwave.benchmark;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.zsmartsystems.zwave.commandclass.impl.CommandClassAssociationV2;
+import com.zsmartsystems.zwave.commandclass.impl.CommandClassBasicV2;
+import com.zsmartsystems.zwave.commandclass.impl.CommandClassBatteryV1;
+import com.zsmartsystems.zwave.commandclass.impl.CommandClassCentralSceneV3;
+import com.zsmartsystems.zwave.commandclass.impl.CommandClassConfigurationV4;
+import com.zsmartsystems.zwave.commandclass.impl.CommandClassDoorLockV3;
+import com.zsmartsystems.zwave.commandclass.impl.CommandClassManufacturerSpecificV2;
+import com.zsmartsystems.zwave.commandclass.impl.CommandClassMeterV4;
+import com.zsmartsystems.zwave.commandclass.impl.CommandClassMultiChannelV4;
+import com.zsmartsystems.zwave.commandclass.impl.CommandClassNotificationV8;
+import com.zsmartsystems.zwave.commandclass.impl.CommandClassProtectionV2;
+import com.zsmartsystems.zwave.commandclass.impl.CommandClassSensorBinaryV2;
+import com.zsmartsystems.zwave.commandclass.impl.CommandClassSensorMultilevelV10;
+import com.zsmartsystems.zwave.commandclass.impl.CommandClassSwitchBinaryV2;
+import com.zsmartsystems.zwave.commandclass.impl.CommandClassSwitchMultilevelV4;
+import com.zsmartsystems.zwave.commandclass.impl.CommandClassThermostatModeV3;
+import com.zsmartsystems.zwave.commandclass.impl.CommandClassThermostatOperatingStateV2;
+import com.zsmartsystems.zwave.commandclass.impl.CommandClassThermostatSetpointV3;
+import com.zsmartsystems.zwave.commandclass.impl.CommandClassVersionV2;
+import com.zsmartsystems.zwave.commandclass.impl.CommandClassWakeUpV2;
+
+/**
+ * Benchmarks the generated encoders and decoders for the command classes most often seen on a network.
+ * <p>
+ * Each command class is a separate parameter, so the results are reported per command class. The decoder is passed
+ * the frame produced by the encoder, so each pair is also checked for consistency when the benchmark is set up.
+ * Where the generated encoder doesn't produce a complete frame, the decoder is passed a captured frame instead.
+ *
+ * @author Chris Jackson
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZWaveCodecBenchmark {
+    interface ZWaveEncoder {
+        byte[] encode();
+    }
+
+    interface ZWaveDecoder {
+        Map<String, Object> decode(byte[] payload);
+    }
+
+    private static class ZWaveCodec {
+        private final ZWaveEncoder encoder;
+        private final ZWaveDecoder decoder;
+        private final byte[] frame;
+
+        ZWaveCodec(ZWaveEncoder encoder, ZWaveDecoder decoder) {
+            this(encoder, decoder, null);
+        }
+
+        /**
+         * Creates a codec where the decoder is passed a captured frame rather than the frame from the encoder
+         */
+        ZWaveCodec(ZWaveEncoder encoder, ZWaveDecoder decoder, byte[] frame) {
+            this.encoder = encoder;
+            this.decoder = decoder;
+            this.frame = frame;
+        }
+    }
+
+    private static final Map<String, ZWaveCodec> codecs = new HashMap<String, ZWaveCodec>();
+
+    static {
+        codecs.put("BASIC", new ZWaveCodec(() -> CommandClassBasicV2.getBasicReport(0x63, 0x63, 0),
+                CommandClassBasicV2::handleBasicReport));
+        codecs.put("SWITCH_BINARY",
+                new ZWaveCodec(() -> CommandClassSwitchBinaryV2.getSwitchBinaryReport("ON_ENABLE", "ON_ENABLE",
+                        "ALREADY_AT_THE_TARGET_VALUE"), CommandClassSwitchBinaryV2::handleSwitchBinaryReport));
+        codecs.put("SWITCH_MULTILEVEL",
+                new ZWaveCodec(() -> CommandClassSwitchMultilevelV4.getSwitchMultilevelReport("ON_ENABLE", 0x63,
+                        "ALREADY_AT_THE_TARGET_VALUE"), CommandClassSwitchMultilevelV4::handleSwitchMultilevelReport));
+        codecs.put("SENSOR_BINARY",
+                new ZWaveCodec(() -> CommandClassSensorBinaryV2.getSensorBinaryReport("DETECTED_AN_EVENT", "MOTION"),
+                        CommandClassSensorBinaryV2::handleSensorBinaryReport));
+        codecs.put("SENSOR_MULTILEVEL",
+                new ZWaveCodec(
+                        () -> CommandClassSensorMultilevelV10.getSensorMultilevelReport(
+                                CommandClassSensorMultilevelV10.SensorType.TEMPERATURE, 0, 1,
+                                new byte[] { 0x00, (byte) 0xD7 }),
+                        CommandClassSensorMultilevelV10::handleSensorMultilevelReport));
+        codecs.put("METER",
+                new ZWaveCodec(
+                        () -> CommandClassMeterV4.getMeterReport(CommandClassMeterV4.MeterType.ELECTRIC_METER,
+                                CommandClassMeterV4.RateType.IMPORT, false, 2, 1,
+                                new byte[] { 0x00, 0x00, 0x01, (byte) 0xB7 }, 0,
+                                new byte[] { 0x00, 0x00, 0x00, 0x00 }, 0),
+                        CommandClassMeterV4::handleMeterReport));
+        codecs.put("BATTERY", new ZWaveCodec(() -> CommandClassBatteryV1.getBatteryReport("BATTERY_LOW_WARNING"),
+                CommandClassBatteryV1::handleBatteryReport));
+        // The generated interval report encoder doesn't write the interval, so the decoder is given a captured report
+        codecs.put("WAKE_UP", new ZWaveCodec(() -> CommandClassWakeUpV2.getWakeUpIntervalReport(1),
+                CommandClassWakeUpV2::handleWakeUpIntervalReport,
+                new byte[] { (byte) 0x84, 0x06, 0x00, 0x0E, 0x10, 0x01 }));
+        codecs.put("CONFIGURATION",
+                new ZWaveCodec(() -> CommandClassConfigurationV4.getConfigurationReport(10, new byte[] { 0x00, 0x3C }),
+                        CommandClassConfigurationV4::handleConfigurationReport));
+        codecs.put("ASSOCIATION",
+                new ZWaveCodec(() -> CommandClassAssociationV2.getAssociationReport(1, 5, 0, new byte[] { 0x01 }),
+                        CommandClassAssociationV2::handleAssociationReport));
+        codecs.put("MANUFACTURER_SPECIFIC",
+                new ZWaveCodec(() -> CommandClassManufacturerSpecificV2.getManufacturerSpecificReport(0x86, 0x02, 0x64),
+                        CommandClassManufacturerSpecificV2::handleManufacturerSpecificReport));
+        codecs.put("VERSION", new ZWaveCodec(() -> CommandClassVersionV2.getVersionCommandClassReport(0x25, 1),
+                CommandClassVersionV2::handleVersionCommandClassReport));
+        codecs.put("THERMOSTAT_SETPOINT",
+                new ZWaveCodec(
+                        () -> CommandClassThermostatSetpointV3.getThermostatSetpointReport("HEATING_1", 0, 1,
+                                new byte[] { 0x00, (byte) 0xD2 }),
+                        CommandClassThermostatSetpointV3::handleThermostatSetpointReport));
+        codecs.put("THERMOSTAT_MODE",
+                new ZWaveCodec(() -> CommandClassThermostatModeV3.getThermostatModeReport("HEAT", 1, new byte[] { 0x00 }),
+                        CommandClassThermostatModeV3::handleThermostatModeReport));
+        codecs.put("THERMOSTAT_OPERATING_STATE",
+                new ZWaveCodec(() -> CommandClassThermostatOperatingStateV2.getThermostatOperatingStateReport("IDLE"),
+                        CommandClassThermostatOperatingStateV2::handleThermostatOperatingStateReport));
+        codecs.put("DOOR_LOCK",
+                new ZWaveCodec(
+                        () -> CommandClassDoorLockV3.getDoorLockOperationReport("DOOR_SECURED", 0, 0, 0, 0xFE, 0xFE,
+                                "DOOR_SECURED", "ALREADY_AT_THE_TARGET_VALUE"),
+                        CommandClassDoorLockV3::handleDoorLockOperationReport));
+        codecs.put("NOTIFICATION",
+                new ZWaveCodec(
+                        () -> CommandClassNotificationV8.getNotificationReport(0, 0, "ON", "HOME_SECURITY", 0x08,
+                                false, new byte[0], 0),
+                        CommandClassNotificationV8::handleNotificationReport));
+        codecs.put("CENTRAL_SCENE",
+                new ZWaveCodec(
+                        () -> CommandClassCentralSceneV3.getCentralSceneNotification(1, "KEY_PRESSED_1_TIME", false, 1),
+                        CommandClassCentralSceneV3::handleCentralSceneNotification));
+        codecs.put("MULTI_CHANNEL",
+                new ZWaveCodec(
+                        () -> CommandClassMultiChannelV4.getMultiChannelCmdEncap(0, false, 1, false, 0x25, 0x03,
+                                new int[] { 0xFF }),
+                        CommandClassMultiChannelV4::handleMultiChannelCmdEncap));
+        codecs.put("PROTECTION", new ZWaveCodec(() -> CommandClassProtectionV2.getProtectionReport(0, 0),
+                CommandClassProtectionV2::handleProtectionReport));
+    }
+
+    @Param({ "BASIC", "SWITCH_BINARY", "SWITCH_MULTILEVEL", "SENSOR_BINARY", "SENSOR_MULTILEVEL", "METER", "BATTERY",
+            "WAKE_UP", "CONFIGURATION", "ASSOCIATION", "MANUFACTURER_SPECIFIC", "VERSION", "THERMOSTAT_SETPOINT",
+            "THERMOSTAT_MODE", "THERMOSTAT_OPERATING_STATE", "DOOR_LOCK", "NOTIFICATION", "CENTRAL_SCENE",
+            "MULTI_CHANNEL", "PROTECTION" })
+    public String commandClass;
+
+    private ZWaveCodec codec;
+    private byte[] frame;
+
+    @Setup
+    public void setup() {
+        codec = codecs.get(commandClass);
+        if (codec == null) {
+            throw new IllegalArgumentException("No codec for command class " + commandClass);
+        }
+
+        byte[] encoded = codec.encoder.encode();
+        if (encoded == null || encoded.length < 2) {
+            throw new IllegalStateException("Encoder for " + commandClass + " failed");
+        }
+        frame = codec.frame == null ? encoded : codec.frame;
+        Map<String, Object> fields = codec.decoder.decode(Arrays.copyOf(frame, frame.length));
+        if (fields == null || fields.isEmpty()) {
+            throw new IllegalStateException("Decoder for " + commandClass + " failed");
+        }
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return codec.encoder.encode();
+    }
+
+    @Benchmark
+    public Map<String, Object> decode() {
+        return codec.decoder.decode(frame);
+    }
+}
@@ -0,0 +1,86 @@
+package com.zsmartsystems.zwave.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.zsmartsystems.zwave.ZWaveCommandClassPayload;
+import com.zsmartsystems.zwave.transaction.ZWaveCrc16;
+import com.zsmartsystems.zwave.transaction.ZWaveCrc16Encapsulation;
+
+/**
+ * Benchmarks the CRC-CCITT used by CRC_16_ENCAP and the transport service.
+ * <p>
+ * The table driven {@link ZWaveCrc16} is compared with a bit at a time calculation over the sizes of a short command,
+ * a full frame, a typical segmented datagram and the largest transport service datagram. The encapsulation benchmarks
+ * measure wrapping a command in, and checking and unwrapping a command from, a CRC_16_ENCAP.
+ *
+ * @author Chris Jackson
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZWaveCrc16Benchmark {
+    @Param({ "8", "46", "256", "2047" })
+    public int size;
+
+    private byte[] buffer;
+
+    private ZWaveCommandClassPayload command;
+    private ZWaveCommandClassPayload encapsulated;
+
+    @Setup
+    public void setup() {
+        buffer = new byte[size];
+        new Random(size).nextBytes(buffer);
+
+        command = new ZWaveCommandClassPayload(buffer);
+        encapsulated = ZWaveCrc16Encapsulation.encapsulate(command);
+    }
+
+    @Benchmark
+    public int calculate() {
+        return ZWaveCrc16.calculate(buffer, 0, buffer.length);
+    }
+
+    @Benchmark
+    public int calculateBitwise() {
+        int crc = ZWaveCrc16.INITIAL_VALUE;
+        for (int cnt = 0; cnt < buffer.length; cnt++) {
+            crc ^= (buffer[cnt] & 0xFF) << 8;
+            for (int bit = 0; bit < 8; bit++) {
+                crc = (crc & 0x8000) != 0 ? (crc << 1) ^ 0x1021 : crc << 1;
+            }
+        }
+        return crc & 0xFFFF;
+    }
+
+    @Benchmark
+    public ZWaveCommandClassPayload encapsulate() {
+        return ZWaveCrc16Encapsulation.encapsulate(command);
+    }
+
+    @Benchmark
+    public ZWaveCommandClassPayload decapsulate() {
+        ZWaveCommandClassPayload payload = ZWaveCrc16Encapsulation.decapsulate(encapsulated);
+        if (payload == null) {
+            throw new IllegalStateException("CRC check failed");
+        }
+        return payload;
+    }
+}
@@ -0,0 +1,87 @@
+package com.zsmartsystems.zwave.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.zsmartsystems.zwave.ZWaveCommandClassPayload;
+import com.zsmartsystems.zwave.ZWaveEndpoint;
+import com.zsmartsystems.zwave.ZWaveNetwork;
+import com.zsmartsystems.zwave.ZWaveNode;
+import com.zsmartsystems.zwave.commandclass.ZWaveCommandClass;
+import com.zsmartsystems.zwave.commandclass.ZWaveCommandClassEnum;
+import com.zsmartsystems.zwave.commandclass.ZWaveResponseHandler;
+
+/**
+ * Benchmarks the dispatch of a received command to its response handler through
+ * {@link ZWaveCommandClass#handleApplicationCommandRequest(ZWaveCommandClassPayload)}, including finding the command
+ * class in the endpoint.
+ *
+ * @author Chris Jackson
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZWaveDispatchBenchmark {
+    /**
+     * A command class with a handler for the report and a default handler, as used by the command class
+     * implementations
+     */
+    public static class BenchmarkCommandClass extends ZWaveCommandClass {
+        private int value;
+
+        public BenchmarkCommandClass(ZWaveEndpoint endpoint) {
+            super(endpoint, ZWaveCommandClassEnum.COMMAND_CLASS_SWITCH_BINARY);
+        }
+
+        @ZWaveResponseHandler(id = 0x03, name = "SWITCH_BINARY_REPORT")
+        public void handleSwitchBinaryReport(ZWaveCommandClassPayload payload, int endpoint) {
+            value = payload.getPayloadByte(2);
+        }
+
+        @ZWaveResponseHandler(id = 0, name = "DEFAULT")
+        public void handleDefault(ZWaveCommandClassPayload payload, int endpoint) {
+            value = -1;
+        }
+    }
+
+    private ZWaveEndpoint endpoint;
+
+    private final ZWaveCommandClassPayload report = new ZWaveCommandClassPayload(new byte[] { 0x25, 0x03, (byte) 0xFF });
+    private final ZWaveCommandClassPayload other = new ZWaveCommandClassPayload(new byte[] { 0x25, 0x07 });
+
+    @Setup
+    public void setup() {
+        ZWaveNode node = new ZWaveNode(new ZWaveNetwork(), 2);
+        endpoint = node.addEndpoint(0);
+        endpoint.addCommandClass(new BenchmarkCommandClass(endpoint));
+    }
+
+    @Benchmark
+    public int dispatchHandler() {
+        BenchmarkCommandClass commandClass = (BenchmarkCommandClass) endpoint
+                .getCommandClass(report.getCommandClassId());
+        commandClass.handleApplicationCommandRequest(report);
+        return commandClass.value;
+    }
+
+    @Benchmark
+    public int dispatchDefaultHandler() {
+        BenchmarkCommandClass commandClass = (BenchmarkCommandClass) endpoint.getCommandClass(other.getCommandClassId());
+        commandClass.handleApplicationCommandRequest(other);
+        return commandClass.value;
+    }
+}
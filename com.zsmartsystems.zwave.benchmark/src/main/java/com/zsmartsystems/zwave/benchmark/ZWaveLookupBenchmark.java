@@ -0,0 +1,94 @@
+package com.zsmartsystems.zwave.benchmark;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.zsmartsystems.zwave.ZWaveDeviceClass.Generic;
+import com.zsmartsystems.zwave.ZWaveDeviceClass.Specific;
+import com.zsmartsystems.zwave.commandclass.ZWaveCommandClassEnum;
+
+/**
+ * Benchmarks the command class and device class lookups that are made for every received frame.
+ * <p>
+ * The map benchmarks use a boxed {@link HashMap} built in the same way as the original lazily initialised lookups, to
+ * provide a baseline for the array indexed tables.
+ *
+ * @author Chris Jackson
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZWaveLookupBenchmark {
+    /**
+     * A node information frame command class list, including codes that aren't known
+     */
+    private final byte[] commandClasses = new byte[] { 0x5E, (byte) 0x86, 0x72, 0x5A, 0x73, (byte) 0x98, 0x20, 0x25,
+            0x26, 0x27, 0x70, (byte) 0x85, (byte) 0x8E, 0x59, 0x71, 0x32, 0x31, 0x60, (byte) 0xFE, 0x7A };
+
+    private Map<Integer, ZWaveCommandClassEnum> commandClassMap;
+    private Map<Generic, Map<Integer, Specific>> specificMap;
+
+    @Setup
+    public void setup() {
+        commandClassMap = new HashMap<Integer, ZWaveCommandClassEnum>();
+        for (ZWaveCommandClassEnum commandClass : ZWaveCommandClassEnum.values()) {
+            commandClassMap.put(commandClass.getKey(), commandClass);
+        }
+
+        specificMap = new HashMap<Generic, Map<Integer, Specific>>();
+        for (Specific specific : Specific.values()) {
+            if (!specificMap.containsKey(specific.getGenericDeviceClass())) {
+                specificMap.put(specific.getGenericDeviceClass(), new HashMap<Integer, Specific>());
+            }
+            specificMap.get(specific.getGenericDeviceClass()).put(specific.getKey(), specific);
+        }
+    }
+
+    @Benchmark
+    public void commandClassMapLookup(Blackhole blackhole) {
+        for (byte code : commandClasses) {
+            blackhole.consume(commandClassMap.get(code & 0xFF));
+        }
+    }
+
+    @Benchmark
+    public void commandClassTableLookup(Blackhole blackhole) {
+        for (byte code : commandClasses) {
+            blackhole.consume(ZWaveCommandClassEnum.getCommandClass(code & 0xFF));
+        }
+    }
+
+    @Benchmark
+    public EnumSet<ZWaveCommandClassEnum> commandClassSet() {
+        return ZWaveCommandClassEnum.getCommandClasses(commandClasses, 0, commandClasses.length);
+    }
+
+    @Benchmark
+    public Specific specificMapLookup() {
+        Map<Integer, Specific> specifics = specificMap.get(Generic.GENERIC_TYPE_ENTRY_CONTROL);
+        return specifics == null ? null : specifics.get(0x03);
+    }
+
+    @Benchmark
+    public Specific specificTableLookup() {
+        return Specific.getSpecific(Generic.GENERIC_TYPE_ENTRY_CONTROL, 0x03);
+    }
+}
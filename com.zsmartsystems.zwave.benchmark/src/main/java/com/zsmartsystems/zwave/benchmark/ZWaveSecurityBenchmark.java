@@ -0,0 +1,117 @@
+package com.zsmartsystems.zwave.benchmark;
+
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.zsmartsystems.zwave.ZWaveCommandClassPayload;
+import com.zsmartsystems.zwave.ZWaveNetwork;
+import com.zsmartsystems.zwave.ZWaveNode;
+import com.zsmartsystems.zwave.commandclass.ZWaveSecurityCommandClass;
+import com.zsmartsystems.zwave.security.ZWaveSecurityCipher;
+
+/**
+ * Benchmarks S0 security encapsulation and decapsulation.
+ * <p>
+ * The cipher benchmarks measure the frames per second that a {@link ZWaveSecurityCipher} can encrypt and authenticate,
+ * or authenticate and decrypt, for a frame the size of a typical encapsulated report. The command class benchmark
+ * measures the full encapsulation of a command through {@link ZWaveSecurityCommandClass}, including receiving the nonce
+ * from the node and building the frame. Decapsulation through the command class needs a nonce that we sent to the node,
+ * which is not exposed, so decapsulation is measured with the cipher directly.
+ *
+ * @author Chris Jackson
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZWaveSecurityBenchmark {
+    private static final byte COMMAND = (byte) 0x81;
+    private static final byte SENDING_NODE = 1;
+    private static final byte RECEIVING_NODE = 2;
+
+    /**
+     * The offset and length of the encrypted part of the frame - a multilevel sensor report with the sequence byte
+     */
+    private static final int DATA_OFFSET = 10;
+    private static final int DATA_LENGTH = 7;
+
+    private ZWaveSecurityCipher cipher;
+
+    private final byte[] iv = new byte[16];
+    private final byte[] plaintext = new byte[DATA_OFFSET + DATA_LENGTH + 9];
+    private final byte[] ciphertext = new byte[plaintext.length];
+    private final byte[] frame = new byte[plaintext.length];
+
+    private ZWaveSecurityCommandClass securityCommandClass;
+    private final ZWaveCommandClassPayload nonceReport = new ZWaveCommandClassPayload(
+            new byte[] { (byte) 0x98, (byte) 0x80, 0x11, 0x22, 0x33, 0x44, 0x55, 0x66, 0x77, (byte) 0x88 });
+    private final byte[] command = new byte[] { 0x00, 0x31, 0x05, 0x01, 0x22, 0x00, (byte) 0xD7 };
+
+    @Setup
+    public void setup() throws GeneralSecurityException {
+        SecureRandom random = new SecureRandom();
+        byte[] encryptionKey = new byte[16];
+        byte[] authenticationKey = new byte[16];
+        random.nextBytes(encryptionKey);
+        random.nextBytes(authenticationKey);
+        random.nextBytes(iv);
+        cipher = new ZWaveSecurityCipher(new SecretKeySpec(encryptionKey, "AES"),
+                new SecretKeySpec(authenticationKey, "AES"));
+
+        System.arraycopy(command, 0, plaintext, DATA_OFFSET, DATA_LENGTH);
+        System.arraycopy(plaintext, 0, ciphertext, 0, plaintext.length);
+        encrypt(ciphertext);
+
+        ZWaveNode node = new ZWaveNode(new ZWaveNetwork(), RECEIVING_NODE);
+        securityCommandClass = new ZWaveSecurityCommandClass(node.addEndpoint(0));
+        securityCommandClass.setNetworkKey("0102030405060708090A0B0C0D0E0F10");
+    }
+
+    private void encrypt(byte[] buffer) throws GeneralSecurityException {
+        cipher.crypt(iv, buffer, DATA_OFFSET, DATA_LENGTH);
+        cipher.generateMac(iv, COMMAND, SENDING_NODE, RECEIVING_NODE, buffer, DATA_OFFSET, DATA_LENGTH, buffer,
+                buffer.length - 8);
+    }
+
+    @Benchmark
+    public byte[] cipherEncapsulate() throws GeneralSecurityException {
+        System.arraycopy(plaintext, 0, frame, 0, plaintext.length);
+        encrypt(frame);
+        return frame;
+    }
+
+    @Benchmark
+    public byte[] cipherDecapsulate() throws GeneralSecurityException {
+        System.arraycopy(ciphertext, 0, frame, 0, ciphertext.length);
+        if (!cipher.checkMac(iv, COMMAND, SENDING_NODE, RECEIVING_NODE, frame, DATA_OFFSET, DATA_LENGTH, frame,
+                frame.length - 8)) {
+            throw new IllegalStateException("MAC check failed");
+        }
+        cipher.crypt(iv, frame, DATA_OFFSET, DATA_LENGTH);
+        return frame;
+    }
+
+    @Benchmark
+    public byte[] commandClassEncapsulate() {
+        // Each nonce may only be used once, so the node provides a new one for each frame
+        securityCommandClass.handleSecurityNonceReport(nonceReport, 0);
+        return securityCommandClass.getSecurityMessageEncapsulation(command);
+    }
+}
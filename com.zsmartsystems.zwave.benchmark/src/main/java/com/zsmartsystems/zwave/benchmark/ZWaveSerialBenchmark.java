@@ -0,0 +1,134 @@
+package com.zsmartsystems.zwave.benchmark;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.zsmartsystems.zwave.ZWaveLoopbackTransport;
+import com.zsmartsystems.zwave.ZWaveSerialController;
+
+/**
+ * Benchmarks sending requests through the {@link ZWaveSerialController} to a simulated controller over the
+ * {@link ZWaveLoopbackTransport}. Each request is framed, written to the transport and acknowledged by the simulated
+ * controller before the next request is sent.
+ *
+ * @author Chris Jackson
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZWaveSerialBenchmark {
+    private static final int SOF = 0x01;
+    private static final int ACK = 0x06;
+
+    /**
+     * The ZW_SEND_DATA function
+     */
+    private static final int FUNCTION = 0x13;
+
+    private ZWaveLoopbackTransport transport;
+    private ZWaveSerialController controller;
+    private Thread simulator;
+
+    private final ByteBuffer request = ByteBuffer
+            .wrap(new byte[] { 0x02, 0x03, 0x25, 0x01, (byte) 0xFF, 0x25, 0x01 });
+
+    @Setup
+    public void setup() throws IOException {
+        transport = new ZWaveLoopbackTransport();
+        controller = new ZWaveSerialController(transport.getHostChannel());
+        controller.start();
+
+        simulator = new Thread(new ControllerSimulator(transport.getControllerChannel()), "ZWaveControllerSimulator");
+        simulator.setDaemon(true);
+        simulator.start();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        controller.shutdown();
+        transport.getControllerChannel().close();
+        simulator.interrupt();
+    }
+
+    @Benchmark
+    public boolean sendRequest() {
+        if (!controller.sendRequest(FUNCTION, request)) {
+            throw new IllegalStateException("Request not acknowledged");
+        }
+        return true;
+    }
+
+    /**
+     * Reads frames written by the host and acknowledges each one
+     */
+    private static class ControllerSimulator implements Runnable {
+        private final ByteChannel channel;
+        private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(256);
+        private final ByteBuffer ackBuffer = ByteBuffer.allocateDirect(1);
+
+        private int remaining = 0;
+        private boolean waitingLength = false;
+
+        ControllerSimulator(ByteChannel channel) {
+            this.channel = channel;
+            ackBuffer.put((byte) ACK);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    readBuffer.clear();
+                    if (channel.read(readBuffer) < 0) {
+                        return;
+                    }
+                    readBuffer.flip();
+                    while (readBuffer.hasRemaining()) {
+                        processByte(readBuffer.get() & 0xFF);
+                    }
+                }
+            } catch (IOException e) {
+                // The transport has been closed
+            }
+        }
+
+        private void processByte(int value) throws IOException {
+            if (waitingLength) {
+                // The length covers the type, function, data and checksum
+                remaining = value;
+                waitingLength = false;
+                return;
+            }
+            if (remaining > 0) {
+                if (--remaining == 0) {
+                    ackBuffer.rewind();
+                    while (ackBuffer.hasRemaining()) {
+                        channel.write(ackBuffer);
+                    }
+                }
+                return;
+            }
+            if (value == SOF) {
+                waitingLength = true;
+            }
+        }
+    }
+}
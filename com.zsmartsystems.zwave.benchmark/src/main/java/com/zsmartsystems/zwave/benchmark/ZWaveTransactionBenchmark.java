@@ -0,0 +1,133 @@
+package com.zsmartsystems.zwave.benchmark;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.zsmartsystems.zwave.ZWaveCommandClassPayload;
+import com.zsmartsystems.zwave.ZWaveNetwork;
+import com.zsmartsystems.zwave.ZWaveNode;
+import com.zsmartsystems.zwave.commandclass.ZWaveCommandClassEnum;
+import com.zsmartsystems.zwave.transaction.TransactionPriority;
+import com.zsmartsystems.zwave.transaction.ZWaveCommandClassTransactionPayload;
+import com.zsmartsystems.zwave.transaction.ZWaveTransactionManager;
+import com.zsmartsystems.zwave.transaction.ZWaveTransactionResponse;
+
+/**
+ * Benchmarks the {@link ZWaveTransactionManager} queueing transactions and matching the responses.
+ * <p>
+ * The nodes are simulated in a loopback - the response to each GET is passed straight back to the manager through
+ * {@link ZWaveTransactionManager#processReceiveMessage(int, ByteBuffer)}, as the transport reader would. This measures
+ * the queues, the receive ring and the response correlation without the serial link.
+ *
+ * @author Chris Jackson
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZWaveTransactionBenchmark {
+    private static final int NODES = 8;
+    private static final int BATCH = 32;
+
+    private ZWaveTransactionManager manager;
+
+    private final ZWaveCommandClassTransactionPayload[] sets = new ZWaveCommandClassTransactionPayload[NODES];
+    private final ZWaveCommandClassTransactionPayload[] gets = new ZWaveCommandClassTransactionPayload[NODES];
+    private final ByteBuffer report = ByteBuffer.wrap(new byte[] { 0x25, 0x03, (byte) 0xFF });
+
+    @SuppressWarnings("unchecked")
+    private final CompletableFuture<ZWaveTransactionResponse>[] futures = new CompletableFuture[BATCH];
+
+    private int nextNode;
+
+    @Setup
+    public void setup() {
+        ZWaveNetwork network = new ZWaveNetwork() {
+            @Override
+            public int getSendQueueLength(int nodeId) {
+                return 0;
+            }
+        };
+
+        for (int nodeId = 1; nodeId <= NODES; nodeId++) {
+            // The simulated node returns the received command to be correlated with the transactions
+            ZWaveNode node = new ZWaveNode(network, nodeId) {
+                @Override
+                public List<ZWaveCommandClassPayload> processCommand(int endpointId, ZWaveCommandClassPayload payload) {
+                    return Collections.singletonList(payload);
+                }
+            };
+            node.setListening(true);
+            network.registerNode(node);
+
+            sets[nodeId - 1] = new ZWaveCommandClassTransactionPayload(nodeId, new byte[] { 0x25, 0x01, (byte) 0xFF },
+                    TransactionPriority.Set, null, null);
+            gets[nodeId - 1] = new ZWaveCommandClassTransactionPayload(nodeId, new byte[] { 0x25, 0x02 },
+                    TransactionPriority.Get, ZWaveCommandClassEnum.COMMAND_CLASS_SWITCH_BINARY, 0x03);
+        }
+
+        manager = new ZWaveTransactionManager(network);
+    }
+
+    @TearDown
+    public void tearDown() {
+        manager.shutdown();
+    }
+
+    private int nextNode() {
+        nextNode = (nextNode + 1) % NODES;
+        return nextNode;
+    }
+
+    /**
+     * Sends a transaction that completes as soon as it is sent
+     */
+    @Benchmark
+    public ZWaveTransactionResponse set() throws Exception {
+        return manager.sendTransactionAsync(sets[nextNode()]).get(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Queues a batch of transactions to several nodes before waiting for them to complete
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void setBatch() throws Exception {
+        for (int cnt = 0; cnt < BATCH; cnt++) {
+            futures[cnt] = manager.sendTransactionAsync(sets[nextNode()]);
+        }
+        for (int cnt = 0; cnt < BATCH; cnt++) {
+            futures[cnt].get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Sends a GET and completes it with the report from the node
+     */
+    @Benchmark
+    public ZWaveTransactionResponse getReport() throws Exception {
+        int node = nextNode();
+        CompletableFuture<ZWaveTransactionResponse> future = manager.sendTransactionAsync(gets[node]);
+        manager.processReceiveMessage(node + 1, report);
+        return future.get(5, TimeUnit.SECONDS);
+    }
+}
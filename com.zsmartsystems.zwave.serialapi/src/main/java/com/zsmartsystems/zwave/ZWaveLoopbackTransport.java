@@ -0,0 +1,87 @@
+package com.zsmartsystems.zwave;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.Pipe;
+
+/**
+ * An in-memory transport connecting a {@link ZWaveSerialController} to a simulated controller, for testing and
+ * benchmarking without hardware.
+ * <p>
+ * The transport has two ends - bytes written to the host channel are read from the controller channel, and bytes
+ * written to the controller channel are read from the host channel. Reads block until data is available, as they would
+ * on a serial port. Closing either end causes reads on the other end to return end of stream.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZWaveLoopbackTransport {
+    private final ByteChannel hostChannel;
+    private final ByteChannel controllerChannel;
+
+    /**
+     * Creates a connected pair of channels
+     *
+     * @throws IOException if the channels can't be opened
+     */
+    public ZWaveLoopbackTransport() throws IOException {
+        Pipe hostToController = Pipe.open();
+        Pipe controllerToHost = Pipe.open();
+
+        hostChannel = new LoopbackChannel(controllerToHost.source(), hostToController.sink());
+        controllerChannel = new LoopbackChannel(hostToController.source(), controllerToHost.sink());
+    }
+
+    /**
+     * Gets the channel to pass to the {@link ZWaveSerialController}
+     *
+     * @return the host {@link ByteChannel}
+     */
+    public ByteChannel getHostChannel() {
+        return hostChannel;
+    }
+
+    /**
+     * Gets the channel used to simulate the controller
+     *
+     * @return the controller {@link ByteChannel}
+     */
+    public ByteChannel getControllerChannel() {
+        return controllerChannel;
+    }
+
+    private static class LoopbackChannel implements ByteChannel {
+        private final Pipe.SourceChannel source;
+        private final Pipe.SinkChannel sink;
+
+        LoopbackChannel(Pipe.SourceChannel source, Pipe.SinkChannel sink) {
+            this.source = source;
+            this.sink = sink;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return source.read(dst);
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            return sink.write(src);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return source.isOpen() && sink.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                sink.close();
+            } finally {
+                source.close();
+            }
+        }
+    }
+}
@@ -1,12 +1,499 @@
 package com.zsmartsystems.zwave;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
  * An implementation of the low level serial controller for ZWave.
  * This provides an interface between the ZWave stack and the serial API controllers.
- * 
+ * <p>
+ * The controller handles the serial API framing - frames start with SOF, followed by the length, type, function and
+ * data, and end with a checksum. Every valid frame received is acknowledged with ACK, and every corrupted frame with
+ * NAK. Frames we send are retransmitted if the controller responds with NAK or CAN, or doesn't respond within the ACK
+ * timeout. Only a single frame may be waiting for an ACK at once, so requests are sent one at a time. The send lock is
+ * released while waiting to retransmit, so a frame that isn't acknowledged doesn't hold up other requests.
+ * <p>
+ * A request sent with a callback has a callback ID appended to its data. The controller reports the result of the
+ * request in a request frame with the same function, starting with the callback ID, and this frame is passed to the
+ * callback rather than the receiver. A frame that isn't completed within the byte timeout of its last byte is
+ * discarded when the next bytes are received, so a truncated frame doesn't absorb the start of the next frame.
+ * <p>
+ * The controller talks to the serial port through a {@link ByteChannel}, so any transport can be used - eg a serial
+ * port, a TCP socket or the {@link ZWaveLoopbackTransport} for testing. Frames are built and parsed in preallocated
+ * direct buffers, so nothing is allocated per frame.
+ *
  * @author Chris Jackson
  *
  */
-public class ZWaveSerialController {
+public class ZWaveSerialController implements ZWaveTransportTransmit {
+    private static final Logger logger = LoggerFactory.getLogger(ZWaveSerialController.class);
+
+    static final int SOF = 0x01;
+    static final int ACK = 0x06;
+    static final int NAK = 0x15;
+    static final int CAN = 0x18;
+
+    static final int REQUEST = 0x00;
+    static final int RESPONSE = 0x01;
+
+    /**
+     * The maximum length of a frame - the length field is a single byte
+     */
+    private static final int MAX_FRAME_LENGTH = 257;
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private static final long DEFAULT_ACK_TIMEOUT = 1600;
+
+    /**
+     * The maximum time between bytes of a frame
+     */
+    private static final long BYTE_TIMEOUT = TimeUnit.MILLISECONDS.toNanos(150);
+
+    private static final int MAX_CALLBACK_ID = 255;
+
+    private enum ReceiveState {
+        WAIT_SOF,
+        WAIT_LENGTH,
+        WAIT_DATA
+    }
+
+    private enum TransmitState {
+        IDLE,
+        WAIT_ACK,
+        ACK,
+        NAK,
+        CAN
+    }
+
+    private final ByteChannel channel;
+
+    private volatile ZWaveTransportReceive receiver;
+
+    private final AtomicInteger callbackId = new AtomicInteger();
+
+    private volatile long ackTimeout = DEFAULT_ACK_TIMEOUT;
+
+    private Thread readerThread;
+    private volatile boolean running;
+
+    /**
+     * Receive state - only accessed by the reader thread
+     */
+    private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(256);
+    private final ByteBuffer frameBuffer = ByteBuffer.allocateDirect(MAX_FRAME_LENGTH);
+    private ReceiveState receiveState = ReceiveState.WAIT_SOF;
+    private int frameLength;
+    private int frameChecksum;
+    private long lastReceiveTime;
+
+    /**
+     * Callbacks waiting for the controller to report the result of a request, indexed by callback ID. The function of
+     * the request is written before the callback is published.
+     */
+    private final AtomicReferenceArray<ZWaveTransportReceive> callbacks = new AtomicReferenceArray<ZWaveTransportReceive>(
+            MAX_CALLBACK_ID + 1);
+    private final int[] callbackFunctions = new int[MAX_CALLBACK_ID + 1];
+
+    /**
+     * Transmit frame buffer - guarded by sendLock
+     */
+    private final Object sendLock = new Object();
+    private final ByteBuffer txBuffer = ByteBuffer.allocateDirect(MAX_FRAME_LENGTH + 1);
+
+    /**
+     * Acknowledgement buffers - guarded by writeLock
+     */
+    private final Object writeLock = new Object();
+    private final ByteBuffer ackBuffer = ByteBuffer.allocateDirect(1);
+    private final ByteBuffer nakBuffer = ByteBuffer.allocateDirect(1);
+
+    /**
+     * State of the frame waiting for an acknowledgement - guarded by ackLock
+     */
+    private final Object ackLock = new Object();
+    private TransmitState transmitState = TransmitState.IDLE;
+
+    private final AtomicInteger checksumErrors = new AtomicInteger();
+    private final AtomicInteger retransmissions = new AtomicInteger();
+    private final AtomicInteger frameTimeouts = new AtomicInteger();
+
+    /**
+     * Creates a serial controller
+     *
+     * @param channel the {@link ByteChannel} connected to the controller
+     */
+    public ZWaveSerialController(ByteChannel channel) {
+        this.channel = channel;
+        ackBuffer.put((byte) ACK).flip();
+        nakBuffer.put((byte) NAK).flip();
+    }
+
+    /**
+     * Sets the receiver that is passed messages from the controller
+     *
+     * @param receiver the {@link ZWaveTransportReceive}
+     */
+    public void setReceiver(ZWaveTransportReceive receiver) {
+        this.receiver = receiver;
+    }
+
+    /**
+     * Sets the time to wait for the controller to acknowledge a frame before it is retransmitted
+     *
+     * @param ackTimeout the timeout in milliseconds
+     */
+    public void setAckTimeout(long ackTimeout) {
+        if (ackTimeout < 1) {
+            throw new IllegalArgumentException("ACK timeout must be at least 1ms");
+        }
+        this.ackTimeout = ackTimeout;
+    }
+
+    /**
+     * Starts the thread reading from the channel
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        readerThread = new Thread(new ZWaveSerialReader(), "ZWaveSerialReader");
+        readerThread.setDaemon(true);
+        readerThread.start();
+    }
+
+    /**
+     * Stops the reader thread and closes the channel
+     */
+    public synchronized void shutdown() {
+        running = false;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.debug("Error closing channel: {}", e.getMessage());
+        }
+        if (readerThread != null) {
+            readerThread.interrupt();
+            try {
+                readerThread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            readerThread = null;
+        }
+    }
+
+    @Override
+    public int getNextCallbackId() {
+        while (true) {
+            int id = callbackId.incrementAndGet() & 0xFF;
+            if (id != 0) {
+                return id;
+            }
+        }
+    }
+
+    @Override
+    public boolean sendRequest(int function, ByteBuffer data) {
+        return sendFrame(function, data, 0);
+    }
+
+    @Override
+    public int sendRequest(int function, ByteBuffer data, ZWaveTransportReceive callback) {
+        int id = getNextCallbackId();
+
+        // The callback is registered first as the controller may report the result before the ACK is processed
+        callbackFunctions[id] = function;
+        callbacks.set(id, callback);
+        if (!sendFrame(function, data, id)) {
+            callbacks.compareAndSet(id, callback, null);
+            return 0;
+        }
+        return id;
+    }
+
+    /**
+     * Sends a frame and waits for the controller to acknowledge it, retransmitting it if it isn't acknowledged
+     *
+     * @param function the serial API function ID
+     * @param data the {@link ByteBuffer} holding the request data
+     * @param callbackId the callback ID to append to the data, or 0 if the request has no callback
+     * @return true if the controller acknowledged the frame
+     */
+    private boolean sendFrame(int function, ByteBuffer data, int callbackId) {
+        int length = data.remaining() + (callbackId == 0 ? 0 : 1);
+        if (length > MAX_FRAME_LENGTH - 3) {
+            logger.debug("Request data too long for frame: {} bytes", length);
+            return false;
+        }
+
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            if (attempt > 0) {
+                retransmissions.incrementAndGet();
+                try {
+                    Thread.sleep(100 + (attempt - 1) * 1000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+
+            TransmitState result;
+            synchronized (sendLock) {
+                try {
+                    writeFrame(function, data, callbackId);
+                } catch (IOException e) {
+                    logger.debug("Error writing frame: {}", e.getMessage());
+                    synchronized (ackLock) {
+                        transmitState = TransmitState.IDLE;
+                    }
+                    return false;
+                }
+                result = waitForAck();
+            }
+            if (result == TransmitState.ACK) {
+                return true;
+            }
+            logger.debug("Frame function {} not acknowledged: {}", function, result);
+        }
+
+        logger.debug("Frame function {} failed after {} attempts", function, MAX_ATTEMPTS);
+        return false;
+    }
+
+    /**
+     * Builds the frame in the transmit buffer and writes it to the channel. Must be called with sendLock held.
+     */
+    private void writeFrame(int function, ByteBuffer data, int callbackId) throws IOException {
+        int length = data.remaining() + (callbackId == 0 ? 0 : 1);
+        txBuffer.clear();
+        txBuffer.put((byte) SOF);
+        txBuffer.put((byte) (length + 3));
+        txBuffer.put((byte) REQUEST);
+        txBuffer.put((byte) function);
+        int position = data.position();
+        txBuffer.put(data);
+        data.position(position);
+        if (callbackId != 0) {
+            txBuffer.put((byte) callbackId);
+        }
+
+        int checksum = 0xFF;
+        for (int cnt = 1; cnt < txBuffer.position(); cnt++) {
+            checksum ^= txBuffer.get(cnt);
+        }
+        txBuffer.put((byte) checksum);
+        txBuffer.flip();
+
+        synchronized (ackLock) {
+            transmitState = TransmitState.WAIT_ACK;
+        }
+        synchronized (writeLock) {
+            while (txBuffer.hasRemaining()) {
+                channel.write(txBuffer);
+            }
+        }
+    }
+
+    private TransmitState waitForAck() {
+        synchronized (ackLock) {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ackTimeout);
+            while (transmitState == TransmitState.WAIT_ACK) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    break;
+                }
+                try {
+                    ackLock.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            TransmitState result = transmitState;
+            transmitState = TransmitState.IDLE;
+            return result;
+        }
+    }
+
+    private void acknowledgementReceived(TransmitState state) {
+        synchronized (ackLock) {
+            if (transmitState != TransmitState.WAIT_ACK) {
+                logger.debug("Unexpected {} received", state);
+                return;
+            }
+            transmitState = state;
+            ackLock.notifyAll();
+        }
+    }
+
+    /**
+     * Gets the number of frames received with an invalid checksum
+     *
+     * @return the number of checksum errors
+     */
+    public int getChecksumErrors() {
+        return checksumErrors.get();
+    }
+
+    /**
+     * Gets the number of partial frames that were discarded as the rest of the frame wasn't received in time
+     *
+     * @return the number of frame timeouts
+     */
+    public int getFrameTimeouts() {
+        return frameTimeouts.get();
+    }
+
+    /**
+     * Gets the number of frames that were retransmitted as they were not acknowledged
+     *
+     * @return the number of retransmissions
+     */
+    public int getRetransmissions() {
+        return retransmissions.get();
+    }
+
+    private void writeAcknowledgement(ByteBuffer buffer) throws IOException {
+        synchronized (writeLock) {
+            buffer.rewind();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Processes a received byte. Called from the reader thread.
+     *
+     * @param value the received byte
+     * @throws IOException if the acknowledgement can't be written
+     */
+    private void processByte(int value) throws IOException {
+        switch (receiveState) {
+            case WAIT_SOF:
+                switch (value) {
+                    case SOF:
+                        receiveState = ReceiveState.WAIT_LENGTH;
+                        break;
+                    case ACK:
+                        acknowledgementReceived(TransmitState.ACK);
+                        break;
+                    case NAK:
+                        acknowledgementReceived(TransmitState.NAK);
+                        break;
+                    case CAN:
+                        acknowledgementReceived(TransmitState.CAN);
+                        break;
+                    default:
+                        logger.debug("Discarding byte {} waiting for SOF", value);
+                        break;
+                }
+                break;
+
+            case WAIT_LENGTH:
+                if (value < 3) {
+                    logger.debug("Invalid frame length {}", value);
+                    receiveState = ReceiveState.WAIT_SOF;
+                    break;
+                }
+                frameLength = value;
+                frameChecksum = 0xFF ^ value;
+                frameBuffer.clear();
+                receiveState = ReceiveState.WAIT_DATA;
+                break;
+
+            case WAIT_DATA:
+                if (frameBuffer.position() < frameLength - 1) {
+                    frameBuffer.put((byte) value);
+                    frameChecksum ^= value;
+                    break;
+                }
+
+                // This is the checksum
+                receiveState = ReceiveState.WAIT_SOF;
+                if (frameChecksum != value) {
+                    logger.debug("Frame checksum error: expected {}, received {}", frameChecksum, value);
+                    checksumErrors.incrementAndGet();
+                    writeAcknowledgement(nakBuffer);
+                    break;
+                }
+
+                writeAcknowledgement(ackBuffer);
+                frameReceived();
+                break;
+
+            default:
+                break;
+        }
+    }
+
+    private void frameReceived() {
+        ZWaveTransportReceive currentReceiver = receiver;
+
+        frameBuffer.flip();
+        int type = frameBuffer.get() & 0xFF;
+        int function = frameBuffer.get() & 0xFF;
+
+        // The result of a request sent with a callback starts with the callback ID
+        if (type == REQUEST && frameBuffer.hasRemaining()) {
+            int id = frameBuffer.get(frameBuffer.position()) & 0xFF;
+            ZWaveTransportReceive callback = callbacks.get(id);
+            if (callback != null && callbackFunctions[id] == function && callbacks.compareAndSet(id, callback, null)) {
+                frameBuffer.get();
+                currentReceiver = callback;
+            }
+        }
+
+        if (currentReceiver == null) {
+            return;
+        }
+        try {
+            currentReceiver.receiveMessage(type, function, frameBuffer);
+        } catch (RuntimeException e) {
+            logger.error("Exception processing received frame: ", e);
+        }
+    }
+
+    private class ZWaveSerialReader implements Runnable {
+        @Override
+        public void run() {
+            logger.debug("Starting serial reader");
+            try {
+                while (running) {
+                    readBuffer.clear();
+                    if (channel.read(readBuffer) < 0) {
+                        break;
+                    }
+                    readBuffer.flip();
+
+                    // A frame that has stalled is discarded, so the bytes are checked for the start of a new frame
+                    long now = System.nanoTime();
+                    if (receiveState != ReceiveState.WAIT_SOF && now - lastReceiveTime > BYTE_TIMEOUT) {
+                        logger.debug("Frame timeout - discarding partial frame");
+                        frameTimeouts.incrementAndGet();
+                        receiveState = ReceiveState.WAIT_SOF;
+                    }
+                    lastReceiveTime = now;
 
+                    while (readBuffer.hasRemaining()) {
+                        processByte(readBuffer.get() & 0xFF);
+                    }
+                }
+            } catch (IOException e) {
+                if (running) {
+                    logger.error("Error reading from serial channel: {}", e.getMessage());
+                }
+            }
+            logger.debug("Exiting serial reader");
+        }
+    }
 }
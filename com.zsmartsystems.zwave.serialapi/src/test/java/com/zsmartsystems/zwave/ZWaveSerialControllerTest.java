@@ -0,0 +1,180 @@
+/**
+ * Copyright (c) 2016-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zwave;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link ZWaveSerialController}.
+ *
+ * @author Chris Jackson
+ */
+public class ZWaveSerialControllerTest {
+    private ZWaveLoopbackTransport transport;
+    private ByteChannel controllerChannel;
+    private ZWaveSerialController controller;
+    private final BlockingQueue<byte[]> received = new ArrayBlockingQueue<byte[]>(10);
+
+    @Before
+    public void setUp() throws IOException {
+        transport = new ZWaveLoopbackTransport();
+        controllerChannel = transport.getControllerChannel();
+        controller = new ZWaveSerialController(transport.getHostChannel());
+        controller.setReceiver(new ZWaveTransportReceive() {
+            @Override
+            public void receiveMessage(int type, int function, ByteBuffer data) {
+                byte[] message = new byte[data.remaining() + 2];
+                message[0] = (byte) type;
+                message[1] = (byte) function;
+                data.get(message, 2, data.remaining());
+                received.add(message);
+            }
+        });
+        controller.start();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        controller.shutdown();
+        controllerChannel.close();
+    }
+
+    private byte[] read(int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            controllerChannel.read(buffer);
+        }
+        return buffer.array();
+    }
+
+    private void write(int... values) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length);
+        for (int value : values) {
+            buffer.put((byte) value);
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            controllerChannel.write(buffer);
+        }
+    }
+
+    private void writeFrame(int function, int... data) throws IOException {
+        int[] frame = new int[data.length + 5];
+        frame[0] = ZWaveSerialController.SOF;
+        frame[1] = data.length + 3;
+        frame[2] = ZWaveSerialController.REQUEST;
+        frame[3] = function;
+        System.arraycopy(data, 0, frame, 4, data.length);
+        int checksum = 0xFF;
+        for (int cnt = 1; cnt < frame.length - 1; cnt++) {
+            checksum ^= frame[cnt];
+        }
+        frame[frame.length - 1] = checksum;
+        write(frame);
+    }
+
+    private CompletableFuture<Boolean> sendRequest(final int function, final byte[] data) {
+        return CompletableFuture.supplyAsync(() -> controller.sendRequest(function, ByteBuffer.wrap(data)));
+    }
+
+    @Test
+    public void requestIsFramedAndAcknowledged() throws Exception {
+        CompletableFuture<Boolean> result = sendRequest(0x13, new byte[] { 0x02, 0x25, 0x01 });
+
+        assertArrayEquals(new byte[] { 0x01, 0x06, 0x00, 0x13, 0x02, 0x25, 0x01, (byte) 0xCC }, read(8));
+        write(ZWaveSerialController.ACK);
+        assertTrue(result.get(5, TimeUnit.SECONDS));
+        assertEquals(0, controller.getRetransmissions());
+    }
+
+    @Test
+    public void requestIsRetransmittedAfterNak() throws Exception {
+        CompletableFuture<Boolean> result = sendRequest(0x15, new byte[0]);
+
+        byte[] frame = read(5);
+        write(ZWaveSerialController.NAK);
+        assertArrayEquals(frame, read(5));
+        write(ZWaveSerialController.ACK);
+        assertTrue(result.get(5, TimeUnit.SECONDS));
+        assertEquals(1, controller.getRetransmissions());
+    }
+
+    @Test
+    public void receivedFramesAreAcknowledged() throws Exception {
+        write(0x01, 0x04, 0x01, 0x15, 0x01, 0xEE);
+        assertEquals(ZWaveSerialController.ACK, read(1)[0]);
+        assertArrayEquals(new byte[] { 0x01, 0x15, 0x01 }, received.poll(5, TimeUnit.SECONDS));
+
+        // Corrupt checksum
+        write(0x01, 0x04, 0x01, 0x15, 0x01, 0xEF);
+        assertEquals(ZWaveSerialController.NAK, read(1)[0]);
+        assertEquals(1, controller.getChecksumErrors());
+        assertTrue(received.isEmpty());
+    }
+
+    @Test
+    public void callbackIdsSkipZero() {
+        for (int cnt = 0; cnt < 600; cnt++) {
+            int id = controller.getNextCallbackId();
+            assertTrue(id >= 1 && id <= 255);
+        }
+    }
+
+    @Test
+    public void callbackIsMatchedToRequest() throws Exception {
+        final BlockingQueue<byte[]> callbacks = new ArrayBlockingQueue<byte[]>(10);
+        CompletableFuture<Integer> result = CompletableFuture.supplyAsync(() -> controller.sendRequest(0x13,
+                ByteBuffer.wrap(new byte[] { 0x02, 0x02, 0x25, 0x02, 0x25 }), (type, function, data) -> {
+                    byte[] message = new byte[data.remaining()];
+                    data.get(message);
+                    callbacks.add(message);
+                }));
+
+        // The callback ID is the last byte of the data
+        byte[] frame = read(11);
+        int id = frame[9] & 0xFF;
+        write(ZWaveSerialController.ACK);
+        assertEquals(id, (int) result.get(5, TimeUnit.SECONDS));
+
+        // A result with another callback ID is passed to the receiver
+        writeFrame(0x13, id ^ 0x01, 0x00);
+        assertEquals(ZWaveSerialController.ACK, read(1)[0]);
+        assertArrayEquals(new byte[] { 0x00, 0x13, (byte) (id ^ 0x01), 0x00 }, received.poll(5, TimeUnit.SECONDS));
+
+        writeFrame(0x13, id, 0x00);
+        assertEquals(ZWaveSerialController.ACK, read(1)[0]);
+        assertArrayEquals(new byte[] { 0x00 }, callbacks.poll(5, TimeUnit.SECONDS));
+        assertTrue(received.isEmpty());
+    }
+
+    @Test
+    public void truncatedFrameIsDiscarded() throws Exception {
+        write(0x01, 0x06, 0x00, 0x13);
+        Thread.sleep(300);
+
+        write(0x01, 0x04, 0x01, 0x15, 0x01, 0xEE);
+        assertEquals(ZWaveSerialController.ACK, read(1)[0]);
+        assertArrayEquals(new byte[] { 0x01, 0x15, 0x01 }, received.poll(5, TimeUnit.SECONDS));
+        assertEquals(1, controller.getFrameTimeouts());
+    }
+}
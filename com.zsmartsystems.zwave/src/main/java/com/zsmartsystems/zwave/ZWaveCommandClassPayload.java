@@ -4,49 +4,177 @@ import java.util.Arrays;
 
 /**
  * The {@link ZWaveCommandClassPayload} implements an encapsulated command class payload.
+ * <p>
+ * The payload may be held within a larger buffer - for example a frame buffer that the command was encoded into
+ * directly. {@link #getBuffer()} and {@link #getOffset()} provide access to the payload without copying it.
  *
  * @author Chris Jackson - Initial implementation
  *
  */
 public class ZWaveCommandClassPayload {
     protected final byte[] payload;
+    protected final int offset;
+    protected final int length;
+
+    /**
+     * True if the rest of the buffer is reserved for the encapsulation of the payload
+     */
+    protected final boolean reserved;
 
     public ZWaveCommandClassPayload(final byte[] payload) {
-        this.payload = payload;
+        this(payload, 0, payload.length);
+    }
+
+    /**
+     * Creates a payload held within a larger buffer. The buffer is not copied.
+     *
+     * @param buffer the buffer holding the payload
+     * @param offset the offset of the command class key within the buffer
+     * @param length the length of the payload
+     */
+    public ZWaveCommandClassPayload(final byte[] buffer, final int offset, final int length) {
+        this(buffer, offset, length, false);
     }
 
+    /**
+     * Creates a payload held within a larger buffer, and optionally reserves the rest of the buffer for encapsulation.
+     * An encapsulation can then write its header into the space before the payload and its trailer into the space after
+     * it, rather than copying the payload into a new buffer. The buffer is not copied.
+     *
+     * @param buffer the buffer holding the payload
+     * @param offset the offset of the command class key within the buffer
+     * @param length the length of the payload
+     * @param reserved true if the space before and after the payload is only used to encapsulate this payload
+     */
+    public ZWaveCommandClassPayload(final byte[] buffer, final int offset, final int length, final boolean reserved) {
+        this.payload = buffer;
+        this.offset = offset;
+        this.length = length;
+        this.reserved = reserved;
+    }
+
+    /**
+     * Creates a payload held within another payload - for example the command held in an encapsulation. The buffer is
+     * not copied.
+     *
+     * @param initialPayload the {@link ZWaveCommandClassPayload} holding the payload
+     * @param start the offset of the command class key within the initial payload
+     */
     public ZWaveCommandClassPayload(final ZWaveCommandClassPayload initialPayload, final int start) {
-        payload = Arrays.copyOfRange(initialPayload.getPayloadBuffer(), start, initialPayload.getPayloadLength());
+        this(initialPayload, start, initialPayload.getPayloadLength());
     }
 
+    /**
+     * Creates a payload held within another payload. The buffer is not copied.
+     *
+     * @param initialPayload the {@link ZWaveCommandClassPayload} holding the payload
+     * @param start the offset of the command class key within the initial payload
+     * @param end the offset of the end of the payload within the initial payload
+     */
     public ZWaveCommandClassPayload(final ZWaveCommandClassPayload initialPayload, final int start, final int end) {
-        payload = Arrays.copyOfRange(initialPayload.getPayloadBuffer(), start, end);
+        this(initialPayload.payload, initialPayload.offset + start, end - start);
     }
 
     public int getCommandClassId() {
-        return payload[0] & 0xFF;
+        return payload[offset] & 0xFF;
     }
 
     public int getCommandClassCommand() {
-        if (payload.length >= 2) {
-            return payload[1] & 0xFF;
+        if (length >= 2) {
+            return payload[offset + 1] & 0xFF;
         }
         return -1;
     }
 
     public int getPayloadByte(int offset) {
-        return payload[offset] & 0xFF;
+        return payload[this.offset + offset] & 0xFF;
     }
 
     public int getPayloadLength() {
-        return payload.length;
+        return length;
     }
 
+    /**
+     * Gets the payload as an array. If the payload is held within a larger buffer, this returns a copy.
+     *
+     * @return the payload
+     */
     public byte[] getPayloadBuffer() {
-        return payload;
+        if (offset == 0 && length == payload.length) {
+            return payload;
+        }
+        return Arrays.copyOfRange(payload, offset, offset + length);
     }
 
     public byte[] getPayloadBuffer(int start, int end) {
-        return Arrays.copyOfRange(payload, start, end);
+        return Arrays.copyOfRange(payload, offset + start, offset + end);
+    }
+
+    /**
+     * Gets the buffer holding the payload. The payload starts at {@link #getOffset()} and is
+     * {@link #getPayloadLength()} bytes long.
+     *
+     * @return the buffer holding the payload
+     */
+    public byte[] getBuffer() {
+        return payload;
+    }
+
+    /**
+     * Gets the offset of the payload within {@link #getBuffer()}
+     *
+     * @return the offset of the command class key
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Gets the space reserved in {@link #getBuffer()} before the payload for an encapsulation header
+     *
+     * @return the number of bytes that can be written before the payload
+     */
+    public int getHeadroom() {
+        return reserved ? offset : 0;
+    }
+
+    /**
+     * Gets the space reserved in {@link #getBuffer()} after the payload for an encapsulation trailer
+     *
+     * @return the number of bytes that can be written after the payload
+     */
+    public int getTailroom() {
+        return reserved ? payload.length - offset - length : 0;
+    }
+
+    /**
+     * Compares the payload with another payload without copying either of them
+     *
+     * @param other the {@link ZWaveCommandClassPayload} to compare
+     * @return true if both payloads hold the same bytes
+     */
+    public boolean payloadEquals(ZWaveCommandClassPayload other) {
+        if (length != other.length) {
+            return false;
+        }
+        for (int cnt = 0; cnt < length; cnt++) {
+            if (payload[offset + cnt] != other.payload[other.offset + cnt]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets a hash code for the payload bytes that is consistent with {@link #payloadEquals(ZWaveCommandClassPayload)}
+     *
+     * @return the hash code of the payload bytes
+     */
+    public int payloadHashCode() {
+        int hash = 1;
+        for (int cnt = 0; cnt < length; cnt++) {
+            hash = 31 * hash + payload[offset + cnt];
+        }
+        return hash;
     }
 }
@@ -8,8 +8,7 @@
  */
 package com.zsmartsystems.zwave;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.EnumSet;
 
 /**
  * Z-Wave device class definitions.
@@ -155,10 +154,17 @@ public class ZWaveDeviceClass {
         BASIC_TYPE_STATIC_CONTROLLER(0x02);
 
         /**
-         * A mapping between the integer code and its corresponding Basic device
-         * class to facilitate lookup by code.
+         * A table indexed by the basic device class code to facilitate lookup by code.
          */
-        private static Map<Integer, Basic> codeToBasicMapping;
+        private static final Basic[] codeToBasicMapping = new Basic[256];
+
+        static {
+            for (Basic s : values()) {
+                if (s.key < codeToBasicMapping.length) {
+                    codeToBasicMapping[s.key] = s;
+                }
+            }
+        }
 
         private int key;
 
@@ -166,13 +172,6 @@ public class ZWaveDeviceClass {
             this.key = key;
         }
 
-        private static void initMapping() {
-            codeToBasicMapping = new HashMap<Integer, Basic>();
-            for (Basic s : values()) {
-                codeToBasicMapping.put(s.key, s);
-            }
-        }
-
         /**
          * Lookup function based on the basic device class code.
          * Returns null if the code does not exist.
@@ -181,11 +180,14 @@ public class ZWaveDeviceClass {
          * @return enumeration value of the basic device class.
          */
         public static Basic getBasic(int i) {
-            if (codeToBasicMapping == null) {
-                initMapping();
+            if (i == BASIC_TYPE_UNKNOWN.key) {
+                return BASIC_TYPE_UNKNOWN;
+            }
+            if (i < 0 || i >= codeToBasicMapping.length) {
+                return null;
             }
 
-            return codeToBasicMapping.get(i);
+            return codeToBasicMapping[i];
         }
 
         /**
@@ -232,10 +234,15 @@ public class ZWaveDeviceClass {
         GENERIC_TYPE_SENSOR_NOTIFICATION(0x07);
 
         /**
-         * A mapping between the integer code and its corresponding Generic
-         * Device class to facilitate lookup by code.
+         * A table indexed by the generic device class code to facilitate lookup by code.
          */
-        private static Map<Integer, Generic> codeToGenericMapping;
+        private static final Generic[] codeToGenericMapping = new Generic[256];
+
+        static {
+            for (Generic s : values()) {
+                codeToGenericMapping[s.key] = s;
+            }
+        }
 
         private int key;
 
@@ -243,13 +250,6 @@ public class ZWaveDeviceClass {
             this.key = key;
         }
 
-        private static void initMapping() {
-            codeToGenericMapping = new HashMap<Integer, Generic>();
-            for (Generic s : values()) {
-                codeToGenericMapping.put(s.key, s);
-            }
-        }
-
         /**
          * Lookup function based on the generic device class code.
          * Returns null if the code does not exist.
@@ -258,11 +258,27 @@ public class ZWaveDeviceClass {
          * @return enumeration value of the generic device class.
          */
         public static Generic getGeneric(int i) {
-            if (codeToGenericMapping == null) {
-                initMapping();
+            if (i < 0 || i >= codeToGenericMapping.length) {
+                return null;
             }
 
-            return codeToGenericMapping.get(i);
+            return codeToGenericMapping[i];
+        }
+
+        /**
+         * Gets the specific device classes defined for this generic device class. {@link Specific#SPECIFIC_TYPE_NOT_USED}
+         * is valid for all generic device classes, so is always included.
+         *
+         * @return the {@link EnumSet} of {@link Specific} device classes
+         */
+        public EnumSet<Specific> getSpecificDeviceClasses() {
+            EnumSet<Specific> specificDeviceClasses = EnumSet.of(Specific.SPECIFIC_TYPE_NOT_USED);
+            for (Specific specific : Specific.values()) {
+                if (specific.genericDeviceClass == this) {
+                    specificDeviceClasses.add(specific);
+                }
+            }
+            return specificDeviceClasses;
         }
 
         /**
@@ -362,9 +378,16 @@ public class ZWaveDeviceClass {
         SPECIFIC_TYPE_NOTIFICATION_SENSOR(Generic.GENERIC_TYPE_SENSOR_NOTIFICATION, 0x01);
 
         /**
-         * A mapping between the integer code and its corresponding Generic Device class to facilitate lookup by code.
+         * A table indexed by the generic device class ordinal and the specific device class code to facilitate lookup
+         * by code.
          */
-        private static Map<Generic, Map<Integer, Specific>> codeToSpecificMapping;
+        private static final Specific[][] codeToSpecificMapping = new Specific[Generic.values().length][256];
+
+        static {
+            for (Specific s : values()) {
+                codeToSpecificMapping[s.genericDeviceClass.ordinal()][s.key] = s;
+            }
+        }
 
         private int key;
         private Generic genericDeviceClass;
@@ -374,16 +397,6 @@ public class ZWaveDeviceClass {
             this.genericDeviceClass = genericDeviceClass;
         }
 
-        private static void initMapping() {
-            codeToSpecificMapping = new HashMap<Generic, Map<Integer, Specific>>();
-            for (Specific s : values()) {
-                if (!codeToSpecificMapping.containsKey(s.genericDeviceClass)) {
-                    codeToSpecificMapping.put(s.genericDeviceClass, new HashMap<Integer, Specific>());
-                }
-                codeToSpecificMapping.get(s.genericDeviceClass).put(s.key, s);
-            }
-        }
-
         /**
          * Lookup function based on the generic device class and the specific device class code.
          * Returns null if the code does not exist.
@@ -393,20 +406,23 @@ public class ZWaveDeviceClass {
          * @return the Specific enumeration
          */
         public static Specific getSpecific(Generic genericDeviceClass, int i) {
-            if (codeToSpecificMapping == null) {
-                initMapping();
-            }
-
             // Special case for SPECIFIC_TYPE_NOT_USED as it's valid for all generic classes.
             if (i == 0) {
                 return Specific.SPECIFIC_TYPE_NOT_USED;
             }
 
-            if (!codeToSpecificMapping.containsKey(genericDeviceClass)) {
+            if (genericDeviceClass == null || i < 0 || i >= 256) {
                 return null;
             }
 
-            return codeToSpecificMapping.get(genericDeviceClass).get(i);
+            return codeToSpecificMapping[genericDeviceClass.ordinal()][i];
+        }
+
+        /**
+         * @return the generic device class
+         */
+        public Generic getGenericDeviceClass() {
+            return genericDeviceClass;
         }
 
         /**
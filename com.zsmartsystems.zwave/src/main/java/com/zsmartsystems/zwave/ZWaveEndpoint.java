@@ -1,9 +1,8 @@
 package com.zsmartsystems.zwave;
 
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.Map;
-import java.util.Set;
 
 import com.zsmartsystems.zwave.commandclass.ZWaveCommandClass;
 import com.zsmartsystems.zwave.commandclass.ZWaveCommandClassEnum;
@@ -32,8 +31,22 @@ public class ZWaveEndpoint {
      */
     private final int endpointId;
 
-    private final Set<ZWaveCommandClassEnum> secureCommandClasses = new HashSet<ZWaveCommandClassEnum>();
-    private final Map<ZWaveCommandClassEnum, ZWaveCommandClass> supportedCommandClasses = new HashMap<ZWaveCommandClassEnum, ZWaveCommandClass>();
+    /**
+     * Supported command classes indexed by command class key. This is used for all lookups so that the send and
+     * receive paths don't need to convert the key to a {@link ZWaveCommandClassEnum}.
+     */
+    private final ZWaveCommandClass[] commandClassTable = new ZWaveCommandClass[256];
+
+    /**
+     * Bitset of the command classes supported in secure mode, indexed by command class key
+     */
+    private final long[] secureCommandClasses = new long[4];
+
+    /**
+     * Supported command classes - this holds the same command classes as the table and is used for the API view
+     */
+    private final Map<ZWaveCommandClassEnum, ZWaveCommandClass> supportedCommandClasses = new EnumMap<ZWaveCommandClassEnum, ZWaveCommandClass>(
+            ZWaveCommandClassEnum.class);
 
     ZWaveEndpoint(ZWaveNode node, int endpointId, ZWaveDeviceClass deviceClass) {
         this.node = node;
@@ -50,7 +63,27 @@ public class ZWaveEndpoint {
      * @return the command class.
      */
     public ZWaveCommandClass getCommandClass(ZWaveCommandClassEnum commandClass) {
-        return supportedCommandClasses.get(commandClass);
+        return commandClassTable[commandClass.getKey()];
+    }
+
+    /**
+     * Gets a commandClass object this endpoint implements. Returns null if this endpoint does not support this command
+     * class.
+     *
+     * @param commandClassKey the key of the command class to get
+     * @return the command class.
+     */
+    public ZWaveCommandClass getCommandClass(int commandClassKey) {
+        return commandClassTable[commandClassKey & 0xFF];
+    }
+
+    /**
+     * Gets all the command classes supported by this endpoint
+     *
+     * @return an unmodifiable map of the supported command classes
+     */
+    public Map<ZWaveCommandClassEnum, ZWaveCommandClass> getCommandClasses() {
+        return Collections.unmodifiableMap(supportedCommandClasses);
     }
 
     /**
@@ -62,7 +95,8 @@ public class ZWaveEndpoint {
     public void addCommandClass(ZWaveCommandClass commandClass) {
         ZWaveCommandClassEnum key = commandClass.getCommandClass();
 
-        if (!supportedCommandClasses.containsKey(key)) {
+        if (commandClassTable[key.getKey()] == null) {
+            commandClassTable[key.getKey()] = commandClass;
             supportedCommandClasses.put(key, commandClass);
         }
     }
@@ -74,7 +108,8 @@ public class ZWaveEndpoint {
      * @param commandClass the command class instance to add.
      */
     public void addSecureCommandClass(ZWaveCommandClassEnum commandClass) {
-        secureCommandClasses.add(commandClass);
+        int key = commandClass.getKey();
+        secureCommandClasses[key >> 6] |= 1L << key;
     }
 
     /**
@@ -85,7 +120,7 @@ public class ZWaveEndpoint {
      * @return true if the command class is supported.
      */
     public boolean supportsCommandClass(ZWaveCommandClassEnum commandClass) {
-        return supportedCommandClasses.containsKey(commandClass);
+        return commandClassTable[commandClass.getKey()] != null;
     }
 
     /**
@@ -96,7 +131,18 @@ public class ZWaveEndpoint {
      * @return true if the command class is supported in secure mode.
      */
     public boolean supportsSecureCommandClass(ZWaveCommandClassEnum commandClass) {
-        return secureCommandClasses.contains(commandClass);
+        return supportsSecureCommandClass(commandClass.getKey());
+    }
+
+    /**
+     * Checks if a commandClass is supported in secure mode by this endpoint.
+     *
+     * @param commandClassKey the key of the command class to test
+     * @return true if the command class is supported in secure mode.
+     */
+    public boolean supportsSecureCommandClass(int commandClassKey) {
+        int key = commandClassKey & 0xFF;
+        return (secureCommandClasses[key >> 6] & (1L << key)) != 0;
     }
 
     /**
@@ -107,6 +153,7 @@ public class ZWaveEndpoint {
      * @param commandClass The command class key
      */
     public void removeCommandClass(ZWaveCommandClassEnum commandClass) {
+        commandClassTable[commandClass.getKey()] = null;
         supportedCommandClasses.remove(commandClass);
     }
 
@@ -1,16 +1,19 @@
 package com.zsmartsystems.zwave;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.zsmartsystems.zwave.commandclass.impl.CommandClassNetworkManagementInclusionV1;
+import com.zsmartsystems.zwave.timer.ZWaveTimer;
 import com.zsmartsystems.zwave.transaction.ZWaveCommandClassTransactionPayload;
+import com.zsmartsystems.zwave.transaction.ZWaveResponseCache;
 import com.zsmartsystems.zwave.transaction.ZWaveTransactionManager;
 import com.zsmartsystems.zwave.transaction.ZWaveTransactionResponse;
 
@@ -29,14 +32,30 @@ public class ZWaveNetwork {
     private int[] networkSecurityKey;
 
     /**
-     * 
+     * The transaction manager that sends transactions to the nodes in this network. The manager registers itself when
+     * it is created.
      */
-    private ZWaveTransactionManager transactionManager;
+    private volatile ZWaveTransactionManager transactionManager;
 
     /**
-     * 
+     * Timer shared by the transaction manager and all nodes in the network
+     */
+    private final ZWaveTimer timer = new ZWaveTimer();
+
+    /**
+     * The highest node ID - this covers standard node IDs and Z-Wave Long Range IDs
      */
-    private final Map<Integer, ZWaveNode> zwaveNodes = new HashMap<Integer, ZWaveNode>();
+    private static final int MAX_NODE_ID = 4095;
+
+    /**
+     * Nodes in the network indexed by node ID. The array is never modified once published - adding or removing a node
+     * replaces the array, so it can be read without locking. Updates are made while holding nodeLock.
+     */
+    private volatile ZWaveNode[] zwaveNodes = new ZWaveNode[233];
+
+    private final Object nodeLock = new Object();
+
+    private final List<ZWaveNodeListener> nodeListeners = new CopyOnWriteArrayList<ZWaveNodeListener>();
 
     /**
      * Unique sequence number used within the network management command classes
@@ -45,12 +64,134 @@ public class ZWaveNetwork {
 
     /**
      * Get a {@link ZWaveNode} given the node ID. Returns null if the node can not be found.
+     * This does not lock, and may be called from any thread.
      * 
      * @param nodeId the ZWave node
      * @return the {@link ZWaveNode} or null if the node can not be found.
      */
     public ZWaveNode getNode(int nodeId) {
-        return null;
+        ZWaveNode[] nodes = zwaveNodes;
+        if (nodeId < 0 || nodeId >= nodes.length) {
+            return null;
+        }
+        return nodes[nodeId];
+    }
+
+    /**
+     * Gets all the nodes in the network
+     *
+     * @return a list of the {@link ZWaveNode}s, ordered by node ID
+     */
+    public List<ZWaveNode> getNodes() {
+        List<ZWaveNode> nodeList = new ArrayList<ZWaveNode>();
+        for (ZWaveNode node : zwaveNodes) {
+            if (node != null) {
+                nodeList.add(node);
+            }
+        }
+        return nodeList;
+    }
+
+    /**
+     * Adds a node to the network, replacing any existing node with the same ID. Listeners are notified once the node
+     * is available from {@link #getNode(int)}.
+     *
+     * @param node the {@link ZWaveNode} to add
+     */
+    public void registerNode(ZWaveNode node) {
+        int nodeId = node.getNodeId();
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node ID " + nodeId + " is out of range");
+        }
+
+        synchronized (nodeLock) {
+            ZWaveNode[] nodes = zwaveNodes;
+            ZWaveNode[] newNodes = Arrays.copyOf(nodes, Math.max(nodes.length, nodeId + 1));
+            newNodes[nodeId] = node;
+            zwaveNodes = newNodes;
+        }
+        logger.debug("NODE {}: Added to network", nodeId);
+
+        for (ZWaveNodeListener listener : nodeListeners) {
+            listener.nodeAdded(node);
+        }
+    }
+
+    /**
+     * Removes a node from the network
+     *
+     * @param nodeId the ID of the node to remove
+     * @return the removed {@link ZWaveNode} or null if the node was not in the network
+     */
+    public ZWaveNode removeNode(int nodeId) {
+        ZWaveNode node;
+        synchronized (nodeLock) {
+            ZWaveNode[] nodes = zwaveNodes;
+            if (nodeId < 0 || nodeId >= nodes.length || nodes[nodeId] == null) {
+                return null;
+            }
+            node = nodes[nodeId];
+            ZWaveNode[] newNodes = nodes.clone();
+            newNodes[nodeId] = null;
+            zwaveNodes = newNodes;
+        }
+        logger.debug("NODE {}: Removed from network", nodeId);
+
+        for (ZWaveNodeListener listener : nodeListeners) {
+            listener.nodeRemoved(node);
+        }
+        return node;
+    }
+
+    /**
+     * Adds a listener to be notified when nodes are added to or removed from the network
+     *
+     * @param listener the {@link ZWaveNodeListener} to add
+     */
+    public void addNodeListener(ZWaveNodeListener listener) {
+        nodeListeners.add(listener);
+    }
+
+    /**
+     * Removes a node listener
+     *
+     * @param listener the {@link ZWaveNodeListener} to remove
+     */
+    public void removeNodeListener(ZWaveNodeListener listener) {
+        nodeListeners.remove(listener);
+    }
+
+    /**
+     * Sets the transaction manager that sends transactions to the nodes in this network. This is called by the
+     * {@link ZWaveTransactionManager} when it is created for the network.
+     *
+     * @param transactionManager the {@link ZWaveTransactionManager}
+     */
+    public void setTransactionManager(ZWaveTransactionManager transactionManager) {
+        this.transactionManager = transactionManager;
+    }
+
+    /**
+     * Gets the transaction manager that sends transactions to the nodes in this network
+     *
+     * @return the {@link ZWaveTransactionManager}
+     * @throws IllegalStateException if no transaction manager has been created for the network
+     */
+    public ZWaveTransactionManager getTransactionManager() {
+        ZWaveTransactionManager manager = transactionManager;
+        if (manager == null) {
+            throw new IllegalStateException("No transaction manager has been created for the network");
+        }
+        return manager;
+    }
+
+    /**
+     * Gets the {@link ZWaveTimer} used for all timeouts within the network
+     *
+     * @return the {@link ZWaveTimer}
+     */
+    public ZWaveTimer getTimer() {
+        return timer;
     }
 
     /**
@@ -89,7 +230,7 @@ public class ZWaveNetwork {
             return;
         }
 
-        transactionManager.queueNonceReportForSend(transaction);
+        getTransactionManager().queueNonceReportForSend(transaction);
     }
 
     /**
@@ -99,14 +240,52 @@ public class ZWaveNetwork {
      *            the {@link ZWaveMessagePayloadTransaction} message to enqueue.
      */
     public ZWaveTransactionResponse sendTransaction(ZWaveCommandClassTransactionPayload transaction) {
-        return transactionManager.sendTransaction(transaction);
+        return getTransactionManager().sendTransaction(transaction);
+    }
+
+    /**
+     * Queues a message for sending and returns a future that is completed with the response once received. The
+     * calling thread is not blocked.
+     *
+     * @param transaction
+     *            the {@link ZWaveMessagePayloadTransaction} message to enqueue.
+     * @return a {@link CompletableFuture} completed with the {@link ZWaveTransactionResponse}
+     */
+    public CompletableFuture<ZWaveTransactionResponse> sendTransactionAsync(
+            ZWaveCommandClassTransactionPayload transaction) {
+        return getTransactionManager().sendTransactionAsync(transaction);
     }
 
     /**
-     * Returns the size of the send queue for a specific node.
+     * Sets the cache used to answer GET transactions without sending them to the node. Caching is disabled by
+     * default.
+     *
+     * @param responseCache the {@link ZWaveResponseCache}, or null to disable caching
+     */
+    public void setResponseCache(ZWaveResponseCache responseCache) {
+        getTransactionManager().setResponseCache(responseCache);
+    }
+
+    /**
+     * Returns the size of the send queue for a specific node. Nothing can be queued until a transaction manager has
+     * been created, so this is 0 until then.
      */
     public int getSendQueueLength(int nodeId) {
-        return transactionManager.getSendQueueLength(nodeId);
+        ZWaveTransactionManager manager = transactionManager;
+        return manager == null ? 0 : manager.getSendQueueLength(nodeId);
+    }
+
+    /**
+     * Notifies the network that a node has woken up so that any transactions waiting for the node can be sent. Nodes
+     * call this whenever they wake up, and there's nothing waiting if no transaction manager has been created.
+     *
+     * @param nodeId the node that is now awake
+     */
+    public void notifyNodeAwake(int nodeId) {
+        ZWaveTransactionManager manager = transactionManager;
+        if (manager != null) {
+            manager.notifyNodeAwake(nodeId);
+        }
     }
 
     /**
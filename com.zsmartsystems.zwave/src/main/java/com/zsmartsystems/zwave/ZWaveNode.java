@@ -7,18 +7,28 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.zsmartsystems.zwave.commandclass.ZWaveCommandClass;
 import com.zsmartsystems.zwave.commandclass.ZWaveCommandClassEnum;
 import com.zsmartsystems.zwave.commandclass.ZWaveSecurityCommandClass;
+import com.zsmartsystems.zwave.timer.ZWaveTimeout;
 
 public class ZWaveNode {
     private static final Logger logger = LoggerFactory.getLogger(ZWaveNode.class);
 
+    /**
+     * The maximum number of endpoints - endpoint 0 is the root device and multi channel endpoints are 1 to 127
+     */
+    private static final int MAX_ENDPOINTS = 128;
+
+    private static final int COMMAND_CLASS_SECURITY_KEY = ZWaveCommandClassEnum.COMMAND_CLASS_SECURITY.getKey();
+    private static final int COMMAND_CLASS_NO_OPERATION_KEY = ZWaveCommandClassEnum.COMMAND_CLASS_NO_OPERATION
+            .getKey();
+
     /**
      * The {@link ZWaveNetwork} that's the parent of this node
      */
@@ -59,12 +69,18 @@ public class ZWaveNode {
     /**
      * Provides the list of command classes reported in the NIF (Node Information Frame)
      */
-    private List<ZWaveCommandClassEnum> nodeInformationFrame = null;
+    private final List<ZWaveCommandClassEnum> nodeInformationFrame = new ArrayList<ZWaveCommandClassEnum>();
+
+    /**
+     * Bitmap of the command classes reported in the NIF, indexed by command class key. The array is never modified
+     * once it is published, so it is replaced as a whole when the NIF changes and can be read without locking.
+     */
+    private volatile long[] nifCommandClasses = new long[4];
 
     /**
      * Endpoints supported by this node
      */
-    private final Map<Integer, ZWaveEndpoint> endpoints = new HashMap<Integer, ZWaveEndpoint>();
+    private final ZWaveEndpoint[] endpoints = new ZWaveEndpoint[MAX_ENDPOINTS];
 
     /**
      * Neighbours of this node
@@ -82,14 +98,14 @@ public class ZWaveNode {
     private final Map<Integer, ZWaveAssociationGroup> associationGroups = new HashMap<Integer, ZWaveAssociationGroup>();
 
     /**
-     * A timer used for the device wakeup management
+     * The wakeup timer task
      */
-    private Timer timer = null;
+    private WakeupTimerTask timerTask = null;
 
     /**
-     * The wakeup timer task
+     * The scheduled run of the wakeup timer task on the network timer
      */
-    private TimerTask timerTask = null;
+    private ZWaveTimeout timerTimeout = null;
 
     /**
      * Flag recalls if the device is currently awake or asleep
@@ -128,12 +144,15 @@ public class ZWaveNode {
      * @return
      */
     public ZWaveEndpoint addEndpoint(int endpointNumber) {
-        if (endpoints.containsKey(endpointNumber)) {
+        if (endpointNumber < 0 || endpointNumber >= MAX_ENDPOINTS) {
+            throw new IllegalArgumentException("Endpoint " + endpointNumber + " is out of range");
+        }
+        if (endpoints[endpointNumber] != null) {
             logger.debug("NODE {}: Endpoint {} already exists", nodeId, endpointNumber);
-            return endpoints.get(endpointNumber);
+            return endpoints[endpointNumber];
         }
         ZWaveEndpoint endpoint = new ZWaveEndpoint(this, endpointNumber, null);
-        endpoints.put(endpointNumber, endpoint);
+        endpoints[endpointNumber] = endpoint;
 
         logger.debug("NODE {}: Endpoint {} added", nodeId, endpointNumber);
 
@@ -147,7 +166,10 @@ public class ZWaveNode {
      * @return
      */
     public ZWaveEndpoint getEndpoint(int endpointId) {
-        return endpoints.get(endpointId);
+        if (endpointId < 0 || endpointId >= MAX_ENDPOINTS) {
+            return null;
+        }
+        return endpoints[endpointId];
     }
 
     /**
@@ -311,9 +333,28 @@ public class ZWaveNode {
         synchronized (nodeInformationFrame) {
             nodeInformationFrame.clear();
             nodeInformationFrame.addAll(nifClasses);
+
+            long[] commandClasses = new long[4];
+            for (ZWaveCommandClassEnum commandClass : nifClasses) {
+                int key = commandClass.getKey();
+                commandClasses[key >> 6] |= 1L << key;
+            }
+            nifCommandClasses = commandClasses;
         }
     }
 
+    /**
+     * Checks if a command class is reported in the NIF. This is used for the encapsulation command classes, which have
+     * no command class instance on the endpoint.
+     *
+     * @param commandClass the {@link ZWaveCommandClassEnum} to check
+     * @return true if the command class is listed in the NIF
+     */
+    public boolean isCommandClassInNif(ZWaveCommandClassEnum commandClass) {
+        int key = commandClass.getKey();
+        return (nifCommandClasses[key >> 6] & (1L << key)) != 0;
+    }
+
     /**
      * Checks if the specified class should be securely encrypted for transmission
      * 
@@ -323,27 +364,28 @@ public class ZWaveNode {
      */
     public boolean doesMessageRequireSecurityEncapsulation(int endpoint, ZWaveCommandClassPayload payload) {
         // Does this node support security at all?
-        if (endpoints.get(0).getCommandClass(ZWaveCommandClassEnum.COMMAND_CLASS_SECURITY) == null) {
+        if (endpoints[0] == null || endpoints[0].getCommandClass(COMMAND_CLASS_SECURITY_KEY) == null) {
             logger.debug("NODE {}: SECURITY not supported", nodeId);
             return false;
         }
 
-        final ZWaveCommandClassEnum commandClass = ZWaveCommandClassEnum.getCommandClass(payload.getCommandClassId());
+        final int commandClass = payload.getCommandClassId();
 
-        if (ZWaveCommandClassEnum.COMMAND_CLASS_SECURITY == commandClass) {
+        if (commandClass == COMMAND_CLASS_SECURITY_KEY) {
             logger.debug("NODE {}: SECURITY check internal", nodeId);
             // CommandClass.SECURITY is a special case because only some commands get encrypted
             return ZWaveSecurityCommandClass.doesCommandRequireSecurityEncapsulation(payload.getCommandClassCommand());
         }
 
         // PING should not be encrypted
-        if (commandClass == ZWaveCommandClassEnum.COMMAND_CLASS_NO_OPERATION) {
+        if (commandClass == COMMAND_CLASS_NO_OPERATION_KEY) {
             logger.debug("NODE {}: SECURITY doesn't encrypt PING", nodeId);
             return false;
         }
 
         // Does this endpoint support this class secure
-        if (endpoints.get(endpoint).supportsSecureCommandClass(commandClass)) {
+        ZWaveEndpoint zwaveEndpoint = getEndpoint(endpoint);
+        if (zwaveEndpoint != null && zwaveEndpoint.supportsSecureCommandClass(commandClass)) {
             logger.debug("NODE {}: SECURITY required on {}", nodeId, commandClass);
             return true;
         }
@@ -364,12 +406,6 @@ public class ZWaveNode {
             return;
         }
 
-        // Create the timer if this is our first call
-        if (timer == null) {
-            logger.debug("NODE {}: Creating wakeup timer", getNodeId());
-            timer = new Timer();
-        }
-
         // We're awake
         this.awake = awake;
 
@@ -380,6 +416,9 @@ public class ZWaveNode {
 
             setSleepTimer();
 
+            // Release any transactions waiting for this node
+            network.notifyNodeAwake(getNodeId());
+
             // Notify application
             // ZWaveEvent event = new ZWaveNodeStatusEvent(getNodeId(), ZWaveNodeState.AWAKE);
             // network.notifyEventListeners(event);
@@ -406,7 +445,7 @@ public class ZWaveNode {
      * be sent in the wake-up queue. When the timer times out it will send the 'Go To Sleep' message to the node.
      * The timer just provides some time for anything further to be sent as a result of any processing.
      */
-    private class WakeupTimerTask extends TimerTask {
+    private class WakeupTimerTask implements Runnable {
         // Two cycles through the loop are required to send a device to sleep
         private boolean triggered;
         // private ZWaveWakeUpCommandClass wakeUpCommandClass;
@@ -435,12 +474,14 @@ public class ZWaveNode {
                     network.getSendQueueLength(getNodeId()));
             if (network.getSendQueueLength(getNodeId()) != 0) {
                 triggered = false;
+                schedule();
                 return;
             }
 
             if (!triggered) {
                 logger.debug("NODE {}: WakeupTimerTask First iteration", getNodeId());
                 triggered = true;
+                schedule();
                 return;
             }
 
@@ -456,30 +497,78 @@ public class ZWaveNode {
             // Stop the timer
             resetSleepTimer();
         }
+
+        /**
+         * Schedules the next run of this task, unless the timer has been reset in the meantime
+         */
+        private void schedule() {
+            synchronized (ZWaveNode.this) {
+                if (timerTask != this) {
+                    return;
+                }
+                timerTimeout = network.getTimer().schedule(this, sleepDelay / 2, TimeUnit.MILLISECONDS);
+            }
+        }
     }
 
     private synchronized void setSleepTimer() {
         // Stop any existing timer
         resetSleepTimer();
 
-        // Create the timer task
+        // Create the timer task and start the timer
         timerTask = new WakeupTimerTask();
-
-        // Start the timer
-        timer.schedule(timerTask, sleepDelay / 2, sleepDelay / 2);
+        timerTask.schedule();
     }
 
     private synchronized void resetSleepTimer() {
         // Stop any existing timer
-        if (timerTask != null) {
-            timerTask.cancel();
+        if (timerTimeout != null) {
+            timerTimeout.cancel();
         }
+        timerTimeout = null;
         timerTask = null;
     }
 
-    public List<ZWaveCommandClassPayload> processCommand(ZWaveCommandClassPayload zWaveCommandClassPayload) {
-        // TODO Auto-generated method stub
-        return null;
+    /**
+     * Processes a command received from the root device of the node
+     *
+     * @param payload the received {@link ZWaveCommandClassPayload}
+     * @return the commands to correlate with outstanding transactions, or null if the command was not handled
+     */
+    public List<ZWaveCommandClassPayload> processCommand(ZWaveCommandClassPayload payload) {
+        return processCommand(0, payload);
+    }
+
+    /**
+     * Processes a command received from the node once all encapsulation has been removed. The command is passed to the
+     * command class on the endpoint that sent it.
+     * <p>
+     * If the endpoint or command class isn't known, or the command class has no handler for the command, null is
+     * returned. The caller may still correlate the command with its transactions, as it may be the response to a
+     * transaction sent while the node is being initialised.
+     *
+     * @param endpointId the endpoint that sent the command
+     * @param payload the received {@link ZWaveCommandClassPayload}
+     * @return the commands to correlate with outstanding transactions, or null if the command was not handled
+     */
+    public List<ZWaveCommandClassPayload> processCommand(int endpointId, ZWaveCommandClassPayload payload) {
+        ZWaveEndpoint endpoint = getEndpoint(endpointId);
+        if (endpoint == null) {
+            logger.debug("NODE {}: Command received from unknown endpoint {}", nodeId, endpointId);
+            return null;
+        }
+
+        ZWaveCommandClass commandClass = endpoint.getCommandClass(payload.getCommandClassId());
+        if (commandClass == null) {
+            logger.debug("NODE {}: Command class {} not supported by endpoint {}", nodeId, payload.getCommandClassId(),
+                    endpointId);
+            return null;
+        }
+
+        if (!commandClass.handleApplicationCommandRequest(payload)) {
+            return null;
+        }
+        return Collections.singletonList(payload);
     }
 
 }
@@ -0,0 +1,23 @@
+package com.zsmartsystems.zwave;
+
+/**
+ * Listener notified when nodes are added to or removed from the {@link ZWaveNetwork}.
+ *
+ * @author Chris Jackson
+ *
+ */
+public interface ZWaveNodeListener {
+    /**
+     * Called when a node is added to the network, or an existing node is replaced
+     *
+     * @param node the {@link ZWaveNode} that has been added
+     */
+    void nodeAdded(ZWaveNode node);
+
+    /**
+     * Called when a node is removed from the network
+     *
+     * @param node the {@link ZWaveNode} that has been removed
+     */
+    void nodeRemoved(ZWaveNode node);
+}
@@ -0,0 +1,23 @@
+package com.zsmartsystems.zwave;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Interface used by a transport to pass messages received from the Z-Wave controller to the stack.
+ *
+ * @author Chris Jackson
+ *
+ */
+public interface ZWaveTransportReceive {
+    /**
+     * Called when a valid message has been received from the controller.
+     * <p>
+     * The data is available from the position to the limit of the buffer. The buffer is reused by the transport for
+     * the next message, so it is only valid until this method returns and must be copied if it is needed later.
+     *
+     * @param type the message type - 0 for a request, 1 for a response
+     * @param function the serial API function ID
+     * @param data the {@link ByteBuffer} holding the message data
+     */
+    void receiveMessage(int type, int function, ByteBuffer data);
+}
@@ -1,5 +1,46 @@
 package com.zsmartsystems.zwave;
 
+import java.nio.ByteBuffer;
+
+/**
+ * Interface used by the stack to send messages to the Z-Wave controller.
+ * <p>
+ * Implementations handle the framing and acknowledgement of messages with the controller, so a message is either
+ * acknowledged by the controller or has failed once this returns.
+ *
+ * @author Chris Jackson
+ *
+ */
 public interface ZWaveTransportTransmit {
+    /**
+     * Sends a request to the controller.
+     * <p>
+     * The data is read from the position to the limit of the buffer, and is copied before this method returns, so the
+     * caller may reuse the buffer.
+     *
+     * @param function the serial API function ID
+     * @param data the {@link ByteBuffer} holding the request data
+     * @return true if the controller acknowledged the request, false if it failed
+     */
+    boolean sendRequest(int function, ByteBuffer data);
+
+    /**
+     * Sends a request that the controller completes by reporting the result in a request with the same function. A
+     * callback ID is allocated and appended to the request data. When the controller reports the result, the callback
+     * is called once with the data following the callback ID, and the frame is not passed to the receiver.
+     *
+     * @param function the serial API function ID
+     * @param data the {@link ByteBuffer} holding the request data, without the callback ID
+     * @param callback the {@link ZWaveTransportReceive} called with the result
+     * @return the callback ID, or 0 if the controller did not acknowledge the request
+     */
+    int sendRequest(int function, ByteBuffer data, ZWaveTransportReceive callback);
 
+    /**
+     * Gets the next callback ID to use in a request. The controller returns the callback ID in the request that reports
+     * the result of the function, which allows the result to be correlated with the request.
+     *
+     * @return a callback ID between 1 and 255
+     */
+    int getNextCallbackId();
 }
@@ -1,9 +1,13 @@
 package com.zsmartsystems.zwave.commandclass;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.HashMap;
 import java.util.Map;
 
 import org.slf4j.Logger;
@@ -31,35 +35,128 @@ public abstract class ZWaveCommandClass {
      */
     private ZWaveEndpoint endpoint;
 
-    private Map<Integer, ZWaveResponseHandlerMethod> commands;
+    /**
+     * The response handlers for this class, indexed by command. Shared by all instances of the class.
+     */
+    private final ZWaveResponseHandlerMethod[] commands;
 
     private int version = 0;
     private int instances = 0;
 
-    private class ZWaveResponseHandlerMethod {
-        private int id;
-        private String name;
-        private Method method;
+    /**
+     * Calls a response handler method directly
+     */
+    interface ZWaveResponseHandlerInvoker {
+        void invoke(ZWaveCommandClass commandClass, ZWaveCommandClassPayload payload, int endpoint);
+    }
 
-        ZWaveResponseHandlerMethod(int id, String name, Method method) {
+    private static class ZWaveResponseHandlerMethod {
+        private final int id;
+        private final String name;
+        private final ZWaveResponseHandlerInvoker invoker;
+
+        ZWaveResponseHandlerMethod(int id, String name, ZWaveResponseHandlerInvoker invoker) {
             this.id = id;
             this.name = name;
-            this.method = method;
+            this.invoker = invoker;
         }
     };
 
-    protected ZWaveCommandClass(ZWaveEndpoint endpoint, ZWaveCommandClassEnum commandClass) {
-        // Create the map of response command handlers
-        commands = new HashMap<Integer, ZWaveResponseHandlerMethod>();
-        Method[] methods = getClass().getMethods();
-        for (Method method : methods) {
-            ZWaveResponseHandler handler = method.getAnnotation(ZWaveResponseHandler.class);
-            if (handler != null) {
-                ZWaveResponseHandlerMethod handlerMethod = new ZWaveResponseHandlerMethod(handler.id(), handler.name(),
-                        method);
-                commands.put(handler.id(), handlerMethod);
+    /**
+     * Dispatch tables for each command class implementation. The annotations are scanned once per class when the
+     * first instance is created - the table holds an entry for every command, with commands that have no handler of
+     * their own pointing to the default handler (id 0) if there is one.
+     */
+    private static final ClassValue<ZWaveResponseHandlerMethod[]> dispatchTables = new DispatchTables();
+
+    private static class DispatchTables extends ClassValue<ZWaveResponseHandlerMethod[]> {
+        @Override
+        protected ZWaveResponseHandlerMethod[] computeValue(Class<?> type) {
+            ZWaveResponseHandlerMethod[] table = new ZWaveResponseHandlerMethod[256];
+            for (Method method : type.getMethods()) {
+                ZWaveResponseHandler handler = method.getAnnotation(ZWaveResponseHandler.class);
+                if (handler == null) {
+                    continue;
+                }
+                if (handler.id() < 0 || handler.id() > 255) {
+                    logger.debug("Command class {}: Response handler {} has invalid id {}", type.getSimpleName(),
+                            handler.name(), handler.id());
+                    continue;
+                }
+                ZWaveResponseHandlerInvoker invoker = createInvoker(method);
+                if (invoker == null) {
+                    continue;
+                }
+                table[handler.id()] = new ZWaveResponseHandlerMethod(handler.id(), handler.name(), invoker);
+            }
+
+            ZWaveResponseHandlerMethod defaultHandler = table[0];
+            if (defaultHandler != null) {
+                for (int command = 1; command < table.length; command++) {
+                    if (table[command] == null) {
+                        table[command] = defaultHandler;
+                    }
+                }
             }
+            return table;
         }
+    }
+
+    /**
+     * Creates an invoker that calls the handler method directly rather than through reflection. Falls back to
+     * {@link Method#invoke(Object, Object...)} if the call site can't be created.
+     *
+     * @param method the handler {@link Method}
+     * @return the {@link ZWaveResponseHandlerInvoker}, or null if the method does not have the handler signature
+     */
+    private static ZWaveResponseHandlerInvoker createInvoker(final Method method) {
+        Class<?>[] parameters = method.getParameterTypes();
+        if (parameters.length != 2 || parameters[0] != ZWaveCommandClassPayload.class || parameters[1] != int.class) {
+            logger.debug("Command class {}: Response handler {} must take (ZWaveCommandClassPayload, int)",
+                    method.getDeclaringClass().getSimpleName(), method.getName());
+            return null;
+        }
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle handle = lookup.unreflect(method);
+            CallSite site = LambdaMetafactory.metafactory(lookup, "invoke",
+                    MethodType.methodType(ZWaveResponseHandlerInvoker.class),
+                    MethodType.methodType(void.class, ZWaveCommandClass.class, ZWaveCommandClassPayload.class,
+                            int.class),
+                    handle, handle.type().changeReturnType(void.class));
+            return (ZWaveResponseHandlerInvoker) site.getTarget().invoke();
+        } catch (Throwable e) {
+            logger.debug("Command class {}: Using reflection for response handler {}: {}",
+                    method.getDeclaringClass().getSimpleName(), method.getName(), e.getMessage());
+        }
+
+        return new ZWaveResponseHandlerInvoker() {
+            @Override
+            public void invoke(ZWaveCommandClass commandClass, ZWaveCommandClassPayload payload, int endpoint) {
+                try {
+                    method.invoke(commandClass, payload, endpoint);
+                } catch (InvocationTargetException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    }
+                    if (cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+                    logger.warn("Command class {}: Response handler {} failed: ",
+                            commandClass.getClass().getSimpleName(), method.getName(), cause);
+                } catch (IllegalAccessException | IllegalArgumentException e) {
+                    logger.error("Command class {}: Unable to call response handler {}: ",
+                            commandClass.getClass().getSimpleName(), method.getName(), e);
+                }
+            }
+        };
+    }
+
+    protected ZWaveCommandClass(ZWaveEndpoint endpoint, ZWaveCommandClassEnum commandClass) {
+        // Get the table of response command handlers for this class
+        commands = dispatchTables.get(getClass());
 
         this.endpoint = endpoint;
         this.commandClass = commandClass;
@@ -128,42 +225,35 @@ public abstract class ZWaveCommandClass {
 
     /**
      * Handles an incoming application command request.
+     * <p>
+     * The handler is found with a single lookup in the dispatch table for the class, and is called with the payload
+     * and the id of the endpoint this class belongs to.
      *
-     * @param serialMessage the incoming message to process.
-     * @param offset the offset position from which to start message processing.
-     * @param endpoint the endpoint or instance number this message is meant for.
+     * @param payload the incoming {@link ZWaveCommandClassPayload} to process.
+     * @return true if the command was processed by a handler, false if the class has no handler for the command or
+     *         the handler failed
      */
-    public void handleApplicationCommandRequest(ZWaveCommandClassPayload payload) {
-
-        if (commands == null) {
-            logger.debug("NODE {}: Received {} V{} but class has no handlers.", endpoint.getNodeId(), commandClass,
-                    getVersion());
-        }
-
-        ZWaveResponseHandlerMethod commandMethod = commands.get(payload.getCommandClassCommand());
+    public boolean handleApplicationCommandRequest(ZWaveCommandClassPayload payload) {
+        int command = payload.getCommandClassCommand();
+        ZWaveResponseHandlerMethod commandMethod = command < 0 ? null : commands[command];
         if (commandMethod == null) {
-            // Check if there's a default handler
-            commandMethod = commands.get(0);
-            if (commandMethod == null) {
-                logger.debug("NODE {}: Received {} V{} unknown command {}", endpoint.getNodeId(), commandClass,
-                        getVersion(), payload.getCommandClassCommand());
-                return;
-            }
+            logger.debug("NODE {}: Received {} V{} unknown command {}", endpoint.getNodeId(), commandClass,
+                    getVersion(), command);
+            return false;
         }
 
         logger.debug("NODE {}: Received {} V{} {}", endpoint.getNodeId(), commandClass, getVersion(),
-                commands.get(payload.getCommandClassCommand()).name);
+                commandMethod.name);
 
-        Object[] parms = { payload, endpoint };
+        // A malformed command must not escape dispatch, as it would stop the thread processing received messages
         try {
-            commands.get(payload.getCommandClassCommand()).method.invoke(this, parms);
-        } catch (IllegalAccessException e) {
-            e.printStackTrace();
-        } catch (IllegalArgumentException e) {
-            e.printStackTrace();
-        } catch (InvocationTargetException e) {
-            e.printStackTrace();
+            commandMethod.invoker.invoke(this, payload, endpoint.getEndpointId());
+        } catch (RuntimeException e) {
+            logger.warn("NODE {}: Exception processing {} V{} {}: ", endpoint.getNodeId(), commandClass, getVersion(),
+                    commandMethod.name, e);
+            return false;
         }
+        return true;
     }
 
     /**
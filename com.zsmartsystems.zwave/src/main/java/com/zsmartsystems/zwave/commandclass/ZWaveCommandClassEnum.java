@@ -1,5 +1,6 @@
 package com.zsmartsystems.zwave.commandclass;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -141,16 +142,23 @@ public enum ZWaveCommandClassEnum {
     // MANUFACTURER_PROPRIETARY class definitions are defined by the manufacturer and device id
 
     /**
-     * A mapping between the integer code and its corresponding
-     * Command class to facilitate lookup by code.
+     * A table indexed by the command class code to facilitate lookup by code. The table is built when the class is
+     * initialised, so lookups don't need to be synchronised.
      */
-    private static Map<Integer, ZWaveCommandClassEnum> codeToCommandClassMapping;
+    private static final ZWaveCommandClassEnum[] codeToCommandClassMapping = new ZWaveCommandClassEnum[256];
 
     /**
      * A mapping between the string label and its corresponding
      * Command class to facilitate lookup by label.
      */
-    private static Map<String, ZWaveCommandClassEnum> labelToCommandClassMapping;
+    private static final Map<String, ZWaveCommandClassEnum> labelToCommandClassMapping = new HashMap<String, ZWaveCommandClassEnum>();
+
+    static {
+        for (ZWaveCommandClassEnum s : values()) {
+            codeToCommandClassMapping[s.key] = s;
+            labelToCommandClassMapping.put(s.name(), s);
+        }
+    }
 
     private int key;
     private Class<? extends ZWaveCommandClass> commandClassClass;
@@ -160,15 +168,6 @@ public enum ZWaveCommandClassEnum {
         this.commandClassClass = commandClassClass;
     }
 
-    private static void initMapping() {
-        codeToCommandClassMapping = new HashMap<Integer, ZWaveCommandClassEnum>();
-        labelToCommandClassMapping = new HashMap<String, ZWaveCommandClassEnum>();
-        for (ZWaveCommandClassEnum s : values()) {
-            codeToCommandClassMapping.put(s.key, s);
-            labelToCommandClassMapping.put(s.name(), s);
-        }
-    }
-
     /**
      * Lookup function based on the command class code.
      * Returns null if there is no command class with code i
@@ -177,11 +176,11 @@ public enum ZWaveCommandClassEnum {
      * @return enumeration value of the command class or null if command class is not known
      */
     public static ZWaveCommandClassEnum getCommandClass(int id) {
-        if (codeToCommandClassMapping == null) {
-            initMapping();
+        if (id < 0 || id >= codeToCommandClassMapping.length) {
+            return null;
         }
 
-        return codeToCommandClassMapping.get(id);
+        return codeToCommandClassMapping[id];
     }
 
     /**
@@ -192,13 +191,29 @@ public enum ZWaveCommandClassEnum {
      * @return enumeration value of the command class.
      */
     public static ZWaveCommandClassEnum getCommandClass(String label) {
-        if (labelToCommandClassMapping == null) {
-            initMapping();
-        }
-
         return labelToCommandClassMapping.get(label.toUpperCase());
     }
 
+    /**
+     * Gets the set of command classes from a list of command class codes, such as the list in a node information frame.
+     * Codes that are not known are ignored.
+     *
+     * @param buffer the buffer holding the command class codes
+     * @param offset the offset of the first code in the buffer
+     * @param length the number of codes
+     * @return the {@link EnumSet} of known command classes
+     */
+    public static EnumSet<ZWaveCommandClassEnum> getCommandClasses(byte[] buffer, int offset, int length) {
+        EnumSet<ZWaveCommandClassEnum> commandClasses = EnumSet.noneOf(ZWaveCommandClassEnum.class);
+        for (int cnt = offset; cnt < offset + length; cnt++) {
+            ZWaveCommandClassEnum commandClass = codeToCommandClassMapping[buffer[cnt] & 0xFF];
+            if (commandClass != null) {
+                commandClasses.add(commandClass);
+            }
+        }
+        return commandClasses;
+    }
+
     /**
      * @return the key - ie the ZWave Command class reference ID
      */
@@ -0,0 +1,120 @@
+package com.zsmartsystems.zwave.commandclass;
+
+/**
+ * Base class for the flyweight views generated for received command class frames.
+ * <p>
+ * A view does not copy or decode the frame - it holds a reference to the payload and the generated getters read each
+ * field directly from the buffer at its offset. A view can be reused for any number of frames by calling
+ * {@link #wrap(byte[], int, int)}, so decoding high volume reports needs no allocation at all.
+ * <p>
+ * The wrapped buffer must not be modified while the view is in use. Views are not thread safe.
+ *
+ * @author Chris Jackson
+ *
+ */
+public abstract class ZWaveCommandClassView {
+    protected byte[] payload;
+    protected int offset;
+    protected int length;
+
+    /**
+     * Wraps a complete command class frame, starting with the command class key
+     *
+     * @param payload the frame
+     * @return this view
+     */
+    public ZWaveCommandClassView wrap(byte[] payload) {
+        return wrap(payload, 0, payload.length);
+    }
+
+    /**
+     * Wraps a command class frame held within a larger buffer
+     *
+     * @param payload the buffer holding the frame
+     * @param offset the offset of the command class key within the buffer
+     * @param length the length of the frame
+     * @return this view
+     */
+    public ZWaveCommandClassView wrap(byte[] payload, int offset, int length) {
+        this.payload = payload;
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+
+    /**
+     * Gets the command class key of the wrapped frame
+     *
+     * @return the command class key
+     */
+    public int getCommandClassKey() {
+        return payload[offset] & 0xff;
+    }
+
+    /**
+     * Gets the command of the wrapped frame
+     *
+     * @return the command
+     */
+    public int getCommand() {
+        return payload[offset + 1] & 0xff;
+    }
+
+    /**
+     * Gets the buffer holding the wrapped frame
+     *
+     * @return the buffer
+     */
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    /**
+     * Gets the offset of the wrapped frame within the buffer
+     *
+     * @return the offset of the command class key
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Gets the length of the wrapped frame
+     *
+     * @return the frame length
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Reads a big endian signed value
+     *
+     * @param payload the buffer
+     * @param offset the offset of the most significant byte
+     * @param size the number of bytes - 1, 2 or 4
+     * @return the signed value
+     */
+    protected static int getSignedValue(byte[] payload, int offset, int size) {
+        int value = payload[offset];
+        for (int cnt = 1; cnt < size; cnt++) {
+            value = (value << 8) | (payload[offset + cnt] & 0xff);
+        }
+        return value;
+    }
+
+    /**
+     * Applies the precision to a value
+     *
+     * @param value the value as received
+     * @param precision the number of decimal places
+     * @return the scaled value
+     */
+    protected static double getScaledValue(int value, int precision) {
+        double result = value;
+        for (int cnt = 0; cnt < precision; cnt++) {
+            result /= 10;
+        }
+        return result;
+    }
+}
@@ -1,19 +1,11 @@
 package com.zsmartsystems.zwave.commandclass;
 
 import java.security.GeneralSecurityException;
-import java.security.InvalidAlgorithmParameterException;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
-import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
-import javax.crypto.IllegalBlockSizeException;
-import javax.crypto.NoSuchPaddingException;
 import javax.crypto.SecretKey;
-import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 
 import org.slf4j.Logger;
@@ -23,6 +15,8 @@ import com.zsmartsystems.zwave.ZWaveCommandClassPayload;
 import com.zsmartsystems.zwave.ZWaveEndpoint;
 import com.zsmartsystems.zwave.commandclass.impl.CommandClassSecurityV1;
 import com.zsmartsystems.zwave.security.ZWaveNonce;
+import com.zsmartsystems.zwave.security.ZWaveNonceTable;
+import com.zsmartsystems.zwave.security.ZWaveSecurityCipher;
 import com.zsmartsystems.zwave.transaction.TransactionPriority;
 import com.zsmartsystems.zwave.transaction.ZWaveCommandClassTransactionPayload;
 import com.zsmartsystems.zwave.transaction.ZWaveCommandClassTransactionPayloadBuilder;
@@ -35,6 +29,12 @@ import com.zsmartsystems.zwave.transaction.ZWaveCommandClassTransactionPayloadBu
 public class ZWaveSecurityCommandClass extends ZWaveCommandClass {
     private static final Logger logger = LoggerFactory.getLogger(ZWaveSecurityCommandClass.class);
 
+    /**
+     * The number of bytes added to a command by the SECURITY_MESSAGE_ENCAPSULATION - the command class and command,
+     * initialization vector, sequence byte, nonce identifier and MAC
+     */
+    public static final int OVERHEAD = 20;
+
     private static final byte[] DERIVE_ENCRYPT_KEY = { (byte) 0xAA, (byte) 0xAA, (byte) 0xAA, (byte) 0xAA, (byte) 0xAA,
             (byte) 0xAA, (byte) 0xAA, (byte) 0xAA, (byte) 0xAA, (byte) 0xAA, (byte) 0xAA, (byte) 0xAA, (byte) 0xAA,
             (byte) 0xAA, (byte) 0xAA, (byte) 0xAA };
@@ -45,26 +45,37 @@ public class ZWaveSecurityCommandClass extends ZWaveCommandClass {
 
     private SecretKey networkKey;
 
-    private SecretKey txEncryptionKey;
-
-    private SecretKey txAuthenticationKey;
-
-    private SecretKey rxEncryptionKey;
+    /**
+     * Cipher contexts keyed with the derived keys. These are created in {@link #setupNetworkKey(boolean)} and reused
+     * for every frame.
+     */
+    private ZWaveSecurityCipher txCipher;
 
-    private SecretKey rxAuthenticationKey;
+    private ZWaveSecurityCipher rxCipher;
 
-    // Our last nonce we sent to the remove
-    private ZWaveNonce ourNonce = null;
+    // The nonces we have sent to the remote that are waiting to be used
+    private final ZWaveNonceTable ourNonces = new ZWaveNonceTable();
 
     // The last nonce we received from the remote
     private ZWaveNonce theirNonce = null;
 
     private static final String AES = "AES";
 
-    private static final List<Byte> securityRequired = Arrays.asList(new Byte[] {
-            CommandClassSecurityV1.NETWORK_KEY_SET, CommandClassSecurityV1.NETWORK_KEY_VERIFY,
-            CommandClassSecurityV1.SECURITY_SCHEME_INHERIT, CommandClassSecurityV1.SECURITY_COMMANDS_SUPPORTED_GET,
-            CommandClassSecurityV1.SECURITY_COMMANDS_SUPPORTED_REPORT });
+    private static final byte[] EMPTY_MAC = new byte[8];
+
+    /**
+     * Security commands that must be encapsulated, indexed by command key
+     */
+    private static final boolean[] securityRequired = new boolean[256];
+
+    static {
+        for (int command : new int[] { CommandClassSecurityV1.NETWORK_KEY_SET,
+                CommandClassSecurityV1.NETWORK_KEY_VERIFY, CommandClassSecurityV1.SECURITY_SCHEME_INHERIT,
+                CommandClassSecurityV1.SECURITY_COMMANDS_SUPPORTED_GET,
+                CommandClassSecurityV1.SECURITY_COMMANDS_SUPPORTED_REPORT }) {
+            securityRequired[command & 0xFF] = true;
+        }
+    }
 
     /**
      * Creates a new instance of the ZWaveSecurityCommandClass class.
@@ -236,78 +247,104 @@ public class ZWaveSecurityCommandClass extends ZWaveCommandClass {
 
     @ZWaveResponseHandler(id = CommandClassSecurityV1.SECURITY_NONCE_GET, name = "SECURITY_NONCE_GET")
     public void handleSecurityNonceGet(ZWaveCommandClassPayload payload, int endpoint) {
-        ourNonce = new ZWaveNonce();
+        // The nonce is taken from the pre-generated pool so the report can be sent straight away
+        ZWaveNonce ourNonce = ourNonces.createNonce();
+        logger.debug("NODE {}: NONCE Created {}", getEndpoint().getNodeId(), ourNonce);
         // getController().enqueueNonce(new ZWaveCommandClassTransactionPayloadBuilder(getEndpoint().getNodeId(),
         // CommandClassSecurityV1.getSecurityNonceReport(ourNonce.getNonceBytes()))
         // .withPriority(TransactionPriority.NonceResponse).build());
     }
 
+    /**
+     * Checks if a command is a SECURITY_MESSAGE_ENCAPSULATION that needs to be decapsulated
+     *
+     * @param payload the received {@link ZWaveCommandClassPayload}
+     * @return true if the command holds an encrypted command
+     */
+    public static boolean isMessageEncapsulation(ZWaveCommandClassPayload payload) {
+        if (payload.getCommandClassId() != CommandClassSecurityV1.COMMAND_CLASS_KEY) {
+            return false;
+        }
+        int command = payload.getCommandClassCommand();
+        return command == CommandClassSecurityV1.SECURITY_MESSAGE_ENCAPSULATION
+                || command == CommandClassSecurityV1.SECURITY_MESSAGE_ENCAPSULATION_NONCE_GET;
+    }
+
     public byte[] getSecurityMessageDecapsulation(byte[] ciphertextBytes) { // Check if this is a decapsulation message
-        if ((ciphertextBytes[1] & 0xff) != CommandClassSecurityV1.SECURITY_MESSAGE_ENCAPSULATION
-                && (ciphertextBytes[1] & 0xff) != CommandClassSecurityV1.SECURITY_MESSAGE_ENCAPSULATION_NONCE_GET) {
+        ZWaveCommandClassPayload payload = new ZWaveCommandClassPayload(ciphertextBytes);
+        if (!isMessageEncapsulation(payload)) {
             return ciphertextBytes;
         }
 
-        // Sanity check the length
-        if (ciphertextBytes.length < 19) {
-            logger.debug("NODE {}: SECURITY_ERR Packet too short to decrypt! ({})", getEndpoint().getNodeId(),
-                    ciphertextBytes.length);
+        ZWaveCommandClassPayload command = getSecurityMessageDecapsulation(payload);
+        return command == null ? null : command.getPayloadBuffer();
+    }
+
+    /**
+     * Authenticates and decrypts a SECURITY_MESSAGE_ENCAPSULATION. The command is decrypted in place, so the returned
+     * command is held within the buffer of the encapsulation rather than being copied.
+     *
+     * @param payload the SECURITY_MESSAGE_ENCAPSULATION {@link ZWaveCommandClassPayload}
+     * @return the decrypted {@link ZWaveCommandClassPayload}, or null if the command can't be authenticated
+     */
+    public ZWaveCommandClassPayload getSecurityMessageDecapsulation(ZWaveCommandClassPayload payload) {
+        byte[] ciphertextBytes = payload.getBuffer();
+        int offset = payload.getOffset();
+        int length = payload.getPayloadLength();
+
+        // Sanity check the length - there must be at least the command class after the sequence byte
+        if (length < 20) {
+            logger.debug("NODE {}: SECURITY_ERR Packet too short to decrypt! ({})", getEndpoint().getNodeId(), length);
             return null;
         }
 
-        // Make sure we sent a NONCE
-        if (ourNonce == null || !ourNonce.isValid()) {
-            logger.debug("NODE {}: SECURITY_ERR No valid NONCE! {}", getEndpoint().getNodeId(), ourNonce);
+        if (rxCipher == null) {
+            logger.debug("NODE {}: SECURITY_ERR Network key is not set", getEndpoint().getNodeId());
+            return null;
+        }
+
+        // Make sure we sent a NONCE - the receiver's nonce identifier is not encrypted, so we can find it directly.
+        // The nonce is only used up once the frame has been authenticated.
+        int nonceId = ciphertextBytes[offset + length - 9] & 0xff;
+        ZWaveNonce ourNonce = ourNonces.getNonce(nonceId);
+        if (ourNonce == null) {
+            logger.debug("NODE {}: SECURITY_ERR No valid NONCE! {}", getEndpoint().getNodeId(),
+                    String.format("%02X", nonceId));
             return null;
         }
 
         // Get the IV
         byte[] initializationVector = new byte[16];
-        System.arraycopy(ciphertextBytes, 2, initializationVector, 0, 8);
+        System.arraycopy(ciphertextBytes, offset + 2, initializationVector, 0, 8);
         System.arraycopy(ourNonce.getNonceBytes(), 0, initializationVector, 8, 8);
 
-        Cipher cipher;
         try {
             byte nodeid = (byte) getEndpoint().getNodeId();
             byte ourid = (byte) ownNodeId;
-            byte[] messageAuthenticationCode = generateMAC(rxAuthenticationKey, ciphertextBytes, nodeid, ourid,
-                    initializationVector);
-
-            byte[] securePayload = new byte[ciphertextBytes.length - 19];
-            System.arraycopy(ciphertextBytes, 10, securePayload, 0, ciphertextBytes.length - 19);
-            cipher = Cipher.getInstance("AES/OFB/NoPadding");
-            cipher.init(Cipher.DECRYPT_MODE, rxEncryptionKey, new IvParameterSpec(initializationVector));
-            byte[] plaintextBytes = cipher.doFinal(securePayload);
-            System.arraycopy(plaintextBytes, 0, ciphertextBytes, 10, plaintextBytes.length);
+            int secureLength = length - 19;
 
-            Map<String, Object> response = CommandClassSecurityV1.handleSecurityMessageEncapsulation(ciphertextBytes);
-
-            if ((Integer) response.get("RECEIVERS_NONCE_IDENTIFIER") != ourNonce.getId()) {
-                logger.debug("NODE {}: SECURITY_ERR NONCE ID invalid! {}<>{}", getEndpoint().getNodeId(),
-                        (int) response.get("RECEIVERS_NONCE_IDENTIFIER") & 0xff, ourNonce.getId());
+            // The MAC is calculated over the encrypted data, so check it before decrypting
+            if (!rxCipher.checkMac(initializationVector, ciphertextBytes[offset + 1], nodeid, ourid, ciphertextBytes,
+                    offset + 10, secureLength, ciphertextBytes, offset + length - 8)) {
+                logger.debug("NODE {}: SECURITY_ERR Failed authentication! [{}]", getEndpoint().getNodeId(),
+                        bb2hex(payload.getPayloadBuffer(length - 8, length)));
                 return null;
             }
 
-            if (!Arrays.equals(messageAuthenticationCode, (byte[]) response.get("MESSAGE_AUTHENTICATION_CODE_BYTE"))) {
-                logger.debug("NODE {}: SECURITY_ERR Failed authentication! [{}]<>[{}]", getEndpoint().getNodeId(),
-                        bb2hex(messageAuthenticationCode),
-                        bb2hex((byte[]) response.get("MESSAGE_AUTHENTICATION_CODE_BYTE")));
+            // A nonce may only be used once
+            if (!ourNonces.removeNonce(ourNonce)) {
+                logger.debug("NODE {}: SECURITY_ERR NONCE already used! {}", getEndpoint().getNodeId(),
+                        String.format("%02X", nonceId));
                 return null;
             }
 
-            // Our nonce has been used - forget it
-            ourNonce = null;
+            rxCipher.crypt(initializationVector, ciphertextBytes, offset + 10, secureLength);
 
-            logger.debug("NODE {}: SECURITY_RXD {}", getEndpoint().getNodeId(),
-                    bb2hex((byte[]) response.get("COMMAND_BYTE")));
+            // The command follows the sequence byte, and is followed by the nonce identifier and MAC
+            ZWaveCommandClassPayload command = new ZWaveCommandClassPayload(payload, 11, length - 9);
+            logger.debug("NODE {}: SECURITY_RXD {}", getEndpoint().getNodeId(), command.getCommandClassId());
 
-            return (byte[]) response.get("COMMAND_BYTE");
-        } catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
-            e.printStackTrace();
-        } catch (InvalidKeyException e) {
-            e.printStackTrace();
-        } catch (InvalidAlgorithmParameterException e) {
-            e.printStackTrace();
+            return command;
         } catch (GeneralSecurityException e) {
             e.printStackTrace();
         }
@@ -316,6 +353,11 @@ public class ZWaveSecurityCommandClass extends ZWaveCommandClass {
     }
 
     public byte[] getSecurityMessageEncapsulation(byte[] payload) {
+        if (txCipher == null) {
+            logger.debug("NODE {}: SECURITY_ERR Network key is not set", getEndpoint().getNodeId());
+            return null;
+        }
+
         // tmpNonce.setNonceBytes(new byte[] { 0, 0, 0, 0, 0, 0, 0, 0 });
         // theirNonce.setNonceBytes(new byte[] { 1, 1, 1, 1, 1, 1, 1, 1 });
 
@@ -326,24 +368,19 @@ public class ZWaveSecurityCommandClass extends ZWaveCommandClass {
         System.arraycopy(theirNonce.getNonceBytes(), 0, initializationVector, 8, 8);
 
         try {
-            // Create the message payload with a fake MAC
+            // Create the message payload with a space for the MAC
             // This puts all the elements in the correct part of the packet for encryption
-            byte[] messageAuthenticationCode = new byte[] { 0, 0, 0, 0, 0, 0, 0, 0 };
             byte[] securePayload = CommandClassSecurityV1.getSecurityMessageEncapsulation(tmpNonce.getNonceBytes(), 0,
-                    false, false, payload, (int) theirNonce.getId(), messageAuthenticationCode);
+                    false, false, payload, (int) theirNonce.getId(), EMPTY_MAC);
+            int secureLength = securePayload.length - 19;
 
             // Now encrypt the secure part of the securePayload
-            Cipher encryptCipher = Cipher.getInstance("AES/OFB/NoPadding");
-            encryptCipher.init(Cipher.ENCRYPT_MODE, txEncryptionKey, new IvParameterSpec(initializationVector));
-            byte[] ciphertextBytes = encryptCipher.doFinal(securePayload, 10, securePayload.length - 19);
-            System.arraycopy(ciphertextBytes, 0, securePayload, 10, securePayload.length - 19);
+            txCipher.crypt(initializationVector, securePayload, 10, secureLength);
 
-            // Now generate the MAC
-            messageAuthenticationCode = generateMAC(txAuthenticationKey, securePayload, (byte) ownNodeId,
-                    (byte) getEndpoint().getNodeId(), initializationVector);
-
-            // And copy the MAC to the end of securePayload
-            System.arraycopy(messageAuthenticationCode, 0, securePayload, securePayload.length - 8, 8);
+            // Now generate the MAC directly into the end of securePayload
+            txCipher.generateMac(initializationVector, securePayload[1], (byte) ownNodeId,
+                    (byte) getEndpoint().getNodeId(), securePayload, 10, secureLength, securePayload,
+                    securePayload.length - 8);
 
             logger.debug("NODE {}: SECURITY_TXD {}", getEndpoint().getNodeId(), bb2hex(payload));
 
@@ -351,18 +388,6 @@ public class ZWaveSecurityCommandClass extends ZWaveCommandClass {
             theirNonce = null;
 
             return securePayload;
-        } catch (NoSuchAlgorithmException e) {
-            e.printStackTrace();
-        } catch (NoSuchPaddingException e) {
-            e.printStackTrace();
-        } catch (InvalidKeyException e) {
-            e.printStackTrace();
-        } catch (InvalidAlgorithmParameterException e) {
-            e.printStackTrace();
-        } catch (IllegalBlockSizeException e) {
-            e.printStackTrace();
-        } catch (BadPaddingException e) {
-            e.printStackTrace();
         } catch (GeneralSecurityException e) {
             e.printStackTrace();
         }
@@ -424,22 +449,23 @@ public class ZWaveSecurityCommandClass extends ZWaveCommandClass {
             // Derived the message encryption key from the network key
             cipher = Cipher.getInstance("AES/ECB/NoPadding");
             cipher.init(Cipher.ENCRYPT_MODE, key);
-            txEncryptionKey = new SecretKeySpec(cipher.doFinal(DERIVE_ENCRYPT_KEY), AES);
+            SecretKey txEncryptionKey = new SecretKeySpec(cipher.doFinal(DERIVE_ENCRYPT_KEY), AES);
 
             // Derived the message auth key from the network key
-            cipher.init(Cipher.ENCRYPT_MODE, key);
-            txAuthenticationKey = new SecretKeySpec(cipher.doFinal(DERIVE_AUTH_KEY), AES);
+            SecretKey txAuthenticationKey = new SecretKeySpec(cipher.doFinal(DERIVE_AUTH_KEY), AES);
+
+            // Key the cipher context once so it can be reused for every frame
+            txCipher = new ZWaveSecurityCipher(txEncryptionKey, txAuthenticationKey);
 
             // Always use the real key for RX
 
             // Derived the message encryption key from the network key
-            cipher = Cipher.getInstance("AES/ECB/NoPadding");
             cipher.init(Cipher.ENCRYPT_MODE, networkKey);
-            rxEncryptionKey = new SecretKeySpec(cipher.doFinal(DERIVE_ENCRYPT_KEY), AES);
+            SecretKey rxEncryptionKey = new SecretKeySpec(cipher.doFinal(DERIVE_ENCRYPT_KEY), AES);
 
             // Derived the message auth key from the network key
-            cipher.init(Cipher.ENCRYPT_MODE, networkKey);
-            rxAuthenticationKey = new SecretKeySpec(cipher.doFinal(DERIVE_AUTH_KEY), AES);
+            SecretKey rxAuthenticationKey = new SecretKeySpec(cipher.doFinal(DERIVE_AUTH_KEY), AES);
+            rxCipher = new ZWaveSecurityCipher(rxEncryptionKey, rxAuthenticationKey);
 
         } catch (GeneralSecurityException e) {
             logger.error("NODE {}: Error building derived keys {}", getEndpoint().getNodeId(), e);
@@ -447,7 +473,7 @@ public class ZWaveSecurityCommandClass extends ZWaveCommandClass {
     }
 
     public static boolean doesCommandRequireSecurityEncapsulation(int commandKey) {
-        return securityRequired.contains(commandKey);
+        return commandKey >= 0 && commandKey < securityRequired.length && securityRequired[commandKey];
     }
 
     public boolean isNonceAvailable() {
@@ -457,79 +483,4 @@ public class ZWaveSecurityCommandClass extends ZWaveCommandClass {
         }
         return theirNonce.isValid();
     }
-
-    /**
-     * Generate the MAC (Message Authentication Code) for an encrypted message
-     *
-     * @param commandByte the security command we're sending
-     * @param ciphertext
-     * @param sendingNode
-     * @param receivingNode
-     * @param iv
-     * @return
-     * @throws GeneralSecurityException
-     */
-    public byte[] generateMAC(SecretKey key, byte[] payload, byte sendingNode, byte receivingNode, byte[] iv)
-            throws GeneralSecurityException {
-        // Build a buffer containing a 4-byte header and the encrypted message data
-        // padded with zeros to a 16-byte boundary.
-        byte[] tempAuth = new byte[16];
-
-        int bufferSize = payload.length - 19 + 4; // -19 for packet overhead, +4 to account for the header
-        byte[] buffer = new byte[bufferSize];
-        buffer[0] = payload[1]; // Command byte
-        buffer[1] = sendingNode;
-        buffer[2] = receivingNode;
-        buffer[3] = (byte) (payload.length - 19);
-
-        System.arraycopy(payload, 10, buffer, 4, payload.length - 19);
-
-        // Encrypt the IV with ECB
-        Cipher encryptCipher = Cipher.getInstance("AES/ECB/NoPadding");
-        encryptCipher.init(Cipher.ENCRYPT_MODE, key);
-        tempAuth = encryptCipher.doFinal(iv);
-
-        // Working buffer
-        byte[] encpck = new byte[16];
-        int block = 0;
-
-        // Now XOR the buffer with our encrypted IV
-        for (int i = 0; i < bufferSize; i++) {
-            encpck[block] = buffer[i];
-            block++;
-
-            // If we hit a block boundary, then XOR and encrypt
-            if (block == 16) {
-                for (int j = 0; j < 16; j++) {
-                    // here we do our xor
-                    tempAuth[j] = (byte) (encpck[j] ^ tempAuth[j]);
-                    encpck[j] = 0;
-                }
-                // Reset encpck for good measure
-                Arrays.fill(encpck, (byte) 0);
-
-                // Reset our block counter back to 0
-                block = 0;
-
-                encryptCipher.init(Cipher.ENCRYPT_MODE, key);
-                tempAuth = encryptCipher.doFinal(tempAuth);
-            }
-        }
-
-        // Add any left over data that isn't a full block size
-        if (block > 0) {
-            for (int i = 0; i < 16; i++) {
-                // encpck from block to 16 is already guaranteed to be 0 so its safe to XOR it with out tempAuth
-                tempAuth[i] = (byte) (encpck[i] ^ tempAuth[i]);
-            }
-
-            encryptCipher.init(Cipher.ENCRYPT_MODE, key);
-            tempAuth = encryptCipher.doFinal(tempAuth);
-        }
-
-        // We only care about the first 8 bytes of tempAuth as the MAC
-        byte[] mac = new byte[8];
-        System.arraycopy(tempAuth, 0, mac, 0, 8);
-        return mac;
-    }
 }
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -67,6 +68,31 @@ public class CommandClassAlarmV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ALARM_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Alarm Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param alarmType {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAlarmGet(ByteBuffer buffer, Integer alarmType) {
+        logger.debug("Creating command message ALARM_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ALARM_GET);
+
+        // Process 'Alarm Type'
+        buffer.put(alarmType.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ALARM_GET command.
      * <p>
@@ -118,6 +144,35 @@ public class CommandClassAlarmV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ALARM_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Alarm Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param alarmType {@link Integer}
+     * @param alarmLevel {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAlarmReport(ByteBuffer buffer, Integer alarmType, Integer alarmLevel) {
+        logger.debug("Creating command message ALARM_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ALARM_REPORT);
+
+        // Process 'Alarm Type'
+        buffer.put(alarmType.byteValue());
+
+        // Process 'Alarm Level'
+        buffer.put(alarmLevel.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ALARM_REPORT command.
      * <p>
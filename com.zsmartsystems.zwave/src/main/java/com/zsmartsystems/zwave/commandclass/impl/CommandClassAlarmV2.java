@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -210,6 +211,59 @@ public class CommandClassAlarmV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ALARM_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Alarm Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param alarmType {@link Integer}
+     * @param zwaveAlarmType {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>SMOKE
+     *            <li>CO
+     *            <li>CO2
+     *            <li>HEAT
+     *            <li>WATER
+     *            <li>ACCESS_CONTROL
+     *            <li>BURGLAR
+     *            <li>POWER_MANAGEMENT
+     *            <li>SYSTEM
+     *            <li>EMERGENCY
+     *            <li>CLOCK
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAlarmGet(ByteBuffer buffer, Integer alarmType, String zwaveAlarmType) {
+        logger.debug("Creating command message ALARM_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ALARM_GET);
+
+        // Process 'Alarm Type'
+        buffer.put(alarmType.byteValue());
+
+        // Process 'ZWave Alarm Type'
+        boolean foundZwaveAlarmType = false;
+        for (Integer entry : constantAlarmGetZwaveAlarmType.keySet()) {
+            if (constantAlarmGetZwaveAlarmType.get(entry).equals(zwaveAlarmType)) {
+                buffer.put(entry.byteValue());
+                foundZwaveAlarmType = true;
+                break;
+            }
+        }
+        if (!foundZwaveAlarmType) {
+            throw new IllegalArgumentException("Unknown constant value '" + zwaveAlarmType + "' for zwaveAlarmType");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ALARM_GET command.
      * <p>
@@ -340,6 +394,108 @@ public class CommandClassAlarmV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ALARM_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Alarm Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param alarmType {@link Integer}
+     * @param alarmLevel {@link Integer}
+     * @param zensorNetSourceNodeId {@link Integer}
+     * @param zwaveAlarmStatus {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF
+     *            <li>ON
+     *            </ul>
+     * @param zwaveAlarmType {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>SMOKE
+     *            <li>CO
+     *            <li>CO2
+     *            <li>HEAT
+     *            <li>WATER
+     *            <li>ACCESS_CONTROL
+     *            <li>BURGLAR
+     *            <li>POWER_MANAGEMENT
+     *            <li>SYSTEM
+     *            <li>EMERGENCY
+     *            <li>CLOCK
+     *            </ul>
+     * @param zwaveAlarmEvent {@link Integer}
+     * @param numberOfEventParameters {@link Integer}
+     * @param eventParameter {@link byte[]}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getAlarmReport(ByteBuffer buffer, Integer alarmType, Integer alarmLevel,
+            Integer zensorNetSourceNodeId, String zwaveAlarmStatus, String zwaveAlarmType, Integer zwaveAlarmEvent,
+            Integer numberOfEventParameters, byte[] eventParameter) {
+        logger.debug("Creating command message ALARM_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ALARM_REPORT);
+
+        // Process 'Alarm Type'
+        buffer.put(alarmType.byteValue());
+
+        // Process 'Alarm Level'
+        buffer.put(alarmLevel.byteValue());
+
+        // Process 'Zensor Net Source Node ID'
+        // Check the node number boundary
+        if (zensorNetSourceNodeId < 1 || zensorNetSourceNodeId > 232) {
+            logger.debug("Node number is out of bounds {}", zensorNetSourceNodeId);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(zensorNetSourceNodeId.byteValue());
+
+        // Process 'ZWave Alarm Status'
+        boolean foundZwaveAlarmStatus = false;
+        for (Integer entry : constantAlarmReportZwaveAlarmStatus.keySet()) {
+            if (constantAlarmReportZwaveAlarmStatus.get(entry).equals(zwaveAlarmStatus)) {
+                buffer.put(entry.byteValue());
+                foundZwaveAlarmStatus = true;
+                break;
+            }
+        }
+        if (!foundZwaveAlarmStatus) {
+            throw new IllegalArgumentException("Unknown constant value '" + zwaveAlarmStatus + "' for zwaveAlarmStatus");
+        }
+
+        // Process 'ZWave Alarm Type'
+        boolean foundZwaveAlarmType = false;
+        for (Integer entry : constantAlarmReportZwaveAlarmType.keySet()) {
+            if (constantAlarmReportZwaveAlarmType.get(entry).equals(zwaveAlarmType)) {
+                buffer.put(entry.byteValue());
+                foundZwaveAlarmType = true;
+                break;
+            }
+        }
+        if (!foundZwaveAlarmType) {
+            throw new IllegalArgumentException("Unknown constant value '" + zwaveAlarmType + "' for zwaveAlarmType");
+        }
+
+        // Process 'ZWave Alarm Event'
+        buffer.put(zwaveAlarmEvent.byteValue());
+
+        // Process 'Number of Event Parameters'
+        buffer.put(numberOfEventParameters.byteValue());
+
+        // Process 'Event Parameter'
+        if (eventParameter != null) {
+            buffer.put(eventParameter);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ALARM_REPORT command.
      * <p>
@@ -474,6 +630,74 @@ public class CommandClassAlarmV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ALARM_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Alarm Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param zwaveAlarmType {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>SMOKE
+     *            <li>CO
+     *            <li>CO2
+     *            <li>HEAT
+     *            <li>WATER
+     *            <li>ACCESS_CONTROL
+     *            <li>BURGLAR
+     *            <li>POWER_MANAGEMENT
+     *            <li>SYSTEM
+     *            <li>EMERGENCY
+     *            <li>CLOCK
+     *            </ul>
+     * @param zwaveAlarmStatus {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF
+     *            <li>ON
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAlarmSet(ByteBuffer buffer, String zwaveAlarmType, String zwaveAlarmStatus) {
+        logger.debug("Creating command message ALARM_SET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ALARM_SET);
+
+        // Process 'ZWave Alarm Type'
+        boolean foundZwaveAlarmType = false;
+        for (Integer entry : constantAlarmSetZwaveAlarmType.keySet()) {
+            if (constantAlarmSetZwaveAlarmType.get(entry).equals(zwaveAlarmType)) {
+                buffer.put(entry.byteValue());
+                foundZwaveAlarmType = true;
+                break;
+            }
+        }
+        if (!foundZwaveAlarmType) {
+            throw new IllegalArgumentException("Unknown constant value '" + zwaveAlarmType + "' for zwaveAlarmType");
+        }
+
+        // Process 'ZWave Alarm Status'
+        boolean foundZwaveAlarmStatus = false;
+        for (Integer entry : constantAlarmSetZwaveAlarmStatus.keySet()) {
+            if (constantAlarmSetZwaveAlarmStatus.get(entry).equals(zwaveAlarmStatus)) {
+                buffer.put(entry.byteValue());
+                foundZwaveAlarmStatus = true;
+                break;
+            }
+        }
+        if (!foundZwaveAlarmStatus) {
+            throw new IllegalArgumentException("Unknown constant value '" + zwaveAlarmStatus + "' for zwaveAlarmStatus");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ALARM_SET command.
      * <p>
@@ -521,6 +745,27 @@ public class CommandClassAlarmV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ALARM_TYPE_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Alarm Type Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAlarmTypeSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message ALARM_TYPE_SUPPORTED_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ALARM_TYPE_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ALARM_TYPE_SUPPORTED_GET command.
      * <p>
@@ -594,6 +839,66 @@ public class CommandClassAlarmV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ALARM_TYPE_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Alarm Type Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param v1Alarm {@link Boolean}
+     * @param bitMask {@link List<String>}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>SMOKE
+     *            <li>CO
+     *            <li>CO2
+     *            <li>HEAT
+     *            <li>WATER
+     *            <li>ACCESS_CONTROL
+     *            <li>BURGLAR
+     *            <li>POWER_MANAGEMENT
+     *            <li>SYSTEM
+     *            <li>EMERGENCY
+     *            <li>CLOCK
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAlarmTypeSupportedReport(ByteBuffer buffer, Boolean v1Alarm, List<String> bitMask) {
+        logger.debug("Creating command message ALARM_TYPE_SUPPORTED_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ALARM_TYPE_SUPPORTED_REPORT);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= 4;
+        valProperties1 |= v1Alarm ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Bit Mask'
+        int valBitMask = 0;
+        for (String value : bitMask) {
+            boolean foundBitMask = false;
+            for (Integer entry : constantAlarmTypeSupportedReportBitMask.keySet()) {
+                if (constantAlarmTypeSupportedReportBitMask.get(entry).equals(value)) {
+                    foundBitMask = true;
+                    valBitMask += entry;
+                    break;
+                }
+            }
+            if (!foundBitMask) {
+                throw new IllegalArgumentException("Unknown constant value '" + bitMask + "' for bitMask");
+            }
+        }
+        buffer.put((byte) valBitMask);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ALARM_TYPE_SUPPORTED_REPORT command.
      * <p>
@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -115,6 +116,58 @@ public class CommandClassAntitheftV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ANTITHEFT_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Anti-theft Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param enable {@link Boolean}
+     * @param magicCode {@link byte[]}
+     * @param manufacturerId {@link Integer}
+     * @param antiTheftHintNumberBytes {@link Integer}
+     * @param antiTheftHintByte {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAntitheftSet(ByteBuffer buffer, Boolean enable, byte[] magicCode, Integer manufacturerId,
+            Integer antiTheftHintNumberBytes, byte[] antiTheftHintByte) {
+        logger.debug("Creating command message ANTITHEFT_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ANTITHEFT_SET);
+
+        // Process 'Properties1'
+        // Number of Magic Code bytes is used by 'Magic Code'
+        int numberOfMagicCodeBytes = magicCode.length;
+        int valProperties1 = 0;
+        valProperties1 |= numberOfMagicCodeBytes & 0x7F;
+        valProperties1 |= enable ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Magic Code'
+        if (magicCode != null) {
+            buffer.put(magicCode);
+        }
+
+        // Process 'Manufacturer ID'
+        buffer.put((byte) ((manufacturerId >> 8) & 0xff));
+        buffer.put((byte) (manufacturerId & 0xff));
+
+        // Process 'Anti-theft Hint Number Bytes'
+        buffer.put(antiTheftHintNumberBytes.byteValue());
+
+        // Process 'Anti-theft Hint Byte'
+        if (antiTheftHintByte != null) {
+            buffer.put(antiTheftHintByte);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ANTITHEFT_SET command.
      * <p>
@@ -189,6 +242,27 @@ public class CommandClassAntitheftV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ANTITHEFT_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Anti-theft Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAntitheftGet(ByteBuffer buffer) {
+        logger.debug("Creating command message ANTITHEFT_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ANTITHEFT_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ANTITHEFT_GET command.
      * <p>
@@ -246,6 +320,47 @@ public class CommandClassAntitheftV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ANTITHEFT_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Anti-theft Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param antiTheftProtectionStatus {@link Integer}
+     * @param manufacturerId {@link Integer}
+     * @param antiTheftHintNumberBytes {@link Integer}
+     * @param antiTheftHintByte {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAntitheftReport(ByteBuffer buffer, Integer antiTheftProtectionStatus, Integer manufacturerId,
+            Integer antiTheftHintNumberBytes, byte[] antiTheftHintByte) {
+        logger.debug("Creating command message ANTITHEFT_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ANTITHEFT_REPORT);
+
+        // Process 'Anti-theft Protection Status'
+        buffer.put(antiTheftProtectionStatus.byteValue());
+
+        // Process 'Manufacturer ID'
+        buffer.put((byte) ((manufacturerId >> 8) & 0xff));
+        buffer.put((byte) (manufacturerId & 0xff));
+
+        // Process 'Anti-theft Hint Number Bytes'
+        buffer.put(antiTheftHintNumberBytes.byteValue());
+
+        // Process 'Anti-theft Hint Byte'
+        if (antiTheftHintByte != null) {
+            buffer.put(antiTheftHintByte);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ANTITHEFT_REPORT command.
      * <p>
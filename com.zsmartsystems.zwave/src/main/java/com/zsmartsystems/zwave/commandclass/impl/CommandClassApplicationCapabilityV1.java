@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -82,6 +83,40 @@ public class CommandClassApplicationCapabilityV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the COMMAND_COMMAND_CLASS_NOT_SUPPORTED command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Command Command Class Not Supported
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param dynamic {@link Boolean}
+     * @param offendingCommandClass {@link Integer}
+     * @param offendingCommand {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCommandCommandClassNotSupported(ByteBuffer buffer, Boolean dynamic,
+            Integer offendingCommandClass, Integer offendingCommand) {
+        logger.debug("Creating command message COMMAND_COMMAND_CLASS_NOT_SUPPORTED version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) COMMAND_COMMAND_CLASS_NOT_SUPPORTED);
+
+        // Process 'Properties1'
+        buffer.put((byte) (dynamic ? 0x80 : 0));
+
+        // Process 'Offending Command Class'
+        buffer.put(offendingCommandClass.byteValue());
+
+        // Process 'Offending Command'
+        buffer.put(offendingCommand.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the COMMAND_COMMAND_CLASS_NOT_SUPPORTED command.
      * <p>
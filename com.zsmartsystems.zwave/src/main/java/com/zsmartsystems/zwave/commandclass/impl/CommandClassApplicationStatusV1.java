@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -99,6 +100,51 @@ public class CommandClassApplicationStatusV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the APPLICATION_BUSY command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Application Busy
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param status {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>TRY_AGAIN_LATER
+     *            <li>TRY_AGAIN_IN_WAIT_TIME_SECONDS
+     *            <li>REQUEST_QUEUED_EXECUTED_LATER
+     *            </ul>
+     * @param waitTime {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getApplicationBusy(ByteBuffer buffer, String status, Integer waitTime) {
+        logger.debug("Creating command message APPLICATION_BUSY version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) APPLICATION_BUSY);
+
+        // Process 'Status'
+        boolean foundStatus = false;
+        for (Integer entry : constantApplicationBusyStatus.keySet()) {
+            if (constantApplicationBusyStatus.get(entry).equals(status)) {
+                buffer.put(entry.byteValue());
+                foundStatus = true;
+                break;
+            }
+        }
+        if (!foundStatus) {
+            throw new IllegalArgumentException("Unknown constant value '" + status + "' for status");
+        }
+
+        // Process 'Wait Time'
+        buffer.put(waitTime.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the APPLICATION_BUSY command.
      * <p>
@@ -150,6 +196,31 @@ public class CommandClassApplicationStatusV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the APPLICATION_REJECTED_REQUEST command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Application Rejected Request
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param status {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getApplicationRejectedRequest(ByteBuffer buffer, Integer status) {
+        logger.debug("Creating command message APPLICATION_REJECTED_REQUEST version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) APPLICATION_REJECTED_REQUEST);
+
+        // Process 'Status'
+        buffer.put(status.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the APPLICATION_REJECTED_REQUEST command.
      * <p>
@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -94,6 +95,27 @@ public class CommandClassAssociationCommandConfigurationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the COMMAND_RECORDS_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Command Records Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCommandRecordsSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message COMMAND_RECORDS_SUPPORTED_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) COMMAND_RECORDS_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the COMMAND_RECORDS_SUPPORTED_GET command.
      * <p>
@@ -149,6 +171,48 @@ public class CommandClassAssociationCommandConfigurationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the COMMAND_RECORDS_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Command Records Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param confCmd {@link Boolean}
+     * @param vC {@link Boolean}
+     * @param maxCommandLength {@link Integer}
+     * @param freeCommandRecords {@link Integer}
+     * @param maxCommandRecords {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCommandRecordsSupportedReport(ByteBuffer buffer, Boolean confCmd, Boolean vC,
+            Integer maxCommandLength, Integer freeCommandRecords, Integer maxCommandRecords) {
+        logger.debug("Creating command message COMMAND_RECORDS_SUPPORTED_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) COMMAND_RECORDS_SUPPORTED_REPORT);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= confCmd ? 0x01 : 0;
+        valProperties1 |= vC ? 0x02 : 0;
+        valProperties1 |= ((maxCommandLength << 2) & 0xFC);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Free Command records'
+        buffer.put((byte) ((freeCommandRecords >> 8) & 0xff));
+        buffer.put((byte) (freeCommandRecords & 0xff));
+
+        // Process 'Max Command records'
+        buffer.put((byte) ((maxCommandRecords >> 8) & 0xff));
+        buffer.put((byte) (maxCommandRecords & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the COMMAND_RECORDS_SUPPORTED_REPORT command.
      * <p>
@@ -239,6 +303,60 @@ public class CommandClassAssociationCommandConfigurationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the COMMAND_CONFIGURATION_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Command Configuration Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupingIdentifier {@link Integer}
+     * @param nodeId {@link Integer}
+     * @param commandLength {@link Integer}
+     * @param commandClassIdentifier {@link Integer}
+     * @param commandIdentifier {@link Integer}
+     * @param commandByte {@link byte[]}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getCommandConfigurationSet(ByteBuffer buffer, Integer groupingIdentifier, Integer nodeId,
+            Integer commandLength, Integer commandClassIdentifier, Integer commandIdentifier, byte[] commandByte) {
+        logger.debug("Creating command message COMMAND_CONFIGURATION_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) COMMAND_CONFIGURATION_SET);
+
+        // Process 'Grouping identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        // Process 'Node ID'
+        // Check the node number boundary
+        if (nodeId < 1 || nodeId > 232) {
+            logger.debug("Node number is out of bounds {}", nodeId);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(nodeId.byteValue());
+
+        // Process 'Command length'
+        buffer.put(commandLength.byteValue());
+
+        // Process 'Command Class identifier'
+        buffer.put(commandClassIdentifier.byteValue());
+
+        // Process 'Command identifier'
+        buffer.put(commandIdentifier.byteValue());
+
+        // Process 'Command byte'
+        if (commandByte != null) {
+            buffer.put(commandByte);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the COMMAND_CONFIGURATION_SET command.
      * <p>
@@ -328,6 +446,41 @@ public class CommandClassAssociationCommandConfigurationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the COMMAND_CONFIGURATION_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Command Configuration Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupingIdentifier {@link Integer}
+     * @param nodeId {@link Integer}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getCommandConfigurationGet(ByteBuffer buffer, Integer groupingIdentifier, Integer nodeId) {
+        logger.debug("Creating command message COMMAND_CONFIGURATION_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) COMMAND_CONFIGURATION_GET);
+
+        // Process 'Grouping identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        // Process 'Node ID'
+        // Check the node number boundary
+        if (nodeId < 1 || nodeId > 232) {
+            logger.debug("Node number is out of bounds {}", nodeId);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(nodeId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the COMMAND_CONFIGURATION_GET command.
      * <p>
@@ -415,6 +568,65 @@ public class CommandClassAssociationCommandConfigurationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the COMMAND_CONFIGURATION_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Command Configuration Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupingIdentifier {@link Integer}
+     * @param nodeId {@link Integer}
+     * @param reportsToFollow {@link Integer}
+     * @param commandLength {@link Integer}
+     * @param commandClassIdentifier {@link Integer}
+     * @param commandIdentifier {@link Integer}
+     * @param commandByte {@link byte[]}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getCommandConfigurationReport(ByteBuffer buffer, Integer groupingIdentifier, Integer nodeId,
+            Integer reportsToFollow, Integer commandLength, Integer commandClassIdentifier, Integer commandIdentifier,
+            byte[] commandByte) {
+        logger.debug("Creating command message COMMAND_CONFIGURATION_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) COMMAND_CONFIGURATION_REPORT);
+
+        // Process 'Grouping identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        // Process 'Node ID'
+        // Check the node number boundary
+        if (nodeId < 1 || nodeId > 232) {
+            logger.debug("Node number is out of bounds {}", nodeId);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(nodeId.byteValue());
+
+        // Process 'Properties1'
+        buffer.put((byte) (reportsToFollow & 0x0F));
+
+        // Process 'Command length'
+        buffer.put(commandLength.byteValue());
+
+        // Process 'Command Class identifier'
+        buffer.put(commandClassIdentifier.byteValue());
+
+        // Process 'Command identifier'
+        buffer.put(commandIdentifier.byteValue());
+
+        // Process 'Command byte'
+        if (commandByte != null) {
+            buffer.put(commandByte);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the COMMAND_CONFIGURATION_REPORT command.
      * <p>
@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -126,6 +127,31 @@ public class CommandClassAssociationGrpInfoV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ASSOCIATION_GROUP_NAME_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Association Group Name Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupingIdentifier {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAssociationGroupNameGet(ByteBuffer buffer, Integer groupingIdentifier) {
+        logger.debug("Creating command message ASSOCIATION_GROUP_NAME_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ASSOCIATION_GROUP_NAME_GET);
+
+        // Process 'Grouping Identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ASSOCIATION_GROUP_NAME_GET command.
      * <p>
@@ -186,6 +212,42 @@ public class CommandClassAssociationGrpInfoV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ASSOCIATION_GROUP_NAME_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Association Group Name Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupingIdentifier {@link Integer}
+     * @param lengthOfName {@link Integer}
+     * @param name {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAssociationGroupNameReport(ByteBuffer buffer, Integer groupingIdentifier, Integer lengthOfName,
+            byte[] name) {
+        logger.debug("Creating command message ASSOCIATION_GROUP_NAME_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ASSOCIATION_GROUP_NAME_REPORT);
+
+        // Process 'Grouping Identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        // Process 'Length of Name'
+        buffer.put(lengthOfName.byteValue());
+
+        // Process 'Name'
+        if (name != null) {
+            buffer.put(name);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ASSOCIATION_GROUP_NAME_REPORT command.
      * <p>
@@ -260,6 +322,40 @@ public class CommandClassAssociationGrpInfoV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ASSOCIATION_GROUP_INFO_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Association Group Info Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param listMode {@link Boolean}
+     * @param refreshCache {@link Boolean}
+     * @param groupingIdentifier {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAssociationGroupInfoGet(ByteBuffer buffer, Boolean listMode, Boolean refreshCache,
+            Integer groupingIdentifier) {
+        logger.debug("Creating command message ASSOCIATION_GROUP_INFO_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ASSOCIATION_GROUP_INFO_GET);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= listMode ? 0x40 : 0;
+        valProperties1 |= refreshCache ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Grouping Identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ASSOCIATION_GROUP_INFO_GET command.
      * <p>
@@ -321,6 +417,40 @@ public class CommandClassAssociationGrpInfoV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ASSOCIATION_GROUP_INFO_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Association Group Info Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupCount {@link Integer}
+     * @param dynamicInfo {@link Boolean}
+     * @param listMode {@link Boolean}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAssociationGroupInfoReport(ByteBuffer buffer, Integer groupCount, Boolean dynamicInfo,
+            Boolean listMode) {
+        logger.debug("Creating command message ASSOCIATION_GROUP_INFO_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ASSOCIATION_GROUP_INFO_REPORT);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= groupCount & 0x3F;
+        valProperties1 |= dynamicInfo ? 0x40 : 0;
+        valProperties1 |= listMode ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'vg1'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ASSOCIATION_GROUP_INFO_REPORT command.
      * <p>
@@ -410,6 +540,36 @@ public class CommandClassAssociationGrpInfoV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ASSOCIATION_GROUP_COMMAND_LIST_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Association Group Command List Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param allowCache {@link Boolean}
+     * @param groupingIdentifier {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAssociationGroupCommandListGet(ByteBuffer buffer, Boolean allowCache,
+            Integer groupingIdentifier) {
+        logger.debug("Creating command message ASSOCIATION_GROUP_COMMAND_LIST_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ASSOCIATION_GROUP_COMMAND_LIST_GET);
+
+        // Process 'Properties1'
+        buffer.put((byte) (allowCache ? 0x80 : 0));
+
+        // Process 'Grouping Identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ASSOCIATION_GROUP_COMMAND_LIST_GET command.
      * <p>
@@ -475,6 +635,42 @@ public class CommandClassAssociationGrpInfoV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ASSOCIATION_GROUP_COMMAND_LIST_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Association Group Command List Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupingIdentifier {@link Integer}
+     * @param listLength {@link Integer}
+     * @param command {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAssociationGroupCommandListReport(ByteBuffer buffer, Integer groupingIdentifier,
+            Integer listLength, byte[] command) {
+        logger.debug("Creating command message ASSOCIATION_GROUP_COMMAND_LIST_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ASSOCIATION_GROUP_COMMAND_LIST_REPORT);
+
+        // Process 'Grouping Identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        // Process 'List Length'
+        buffer.put(listLength.byteValue());
+
+        // Process 'Command'
+        if (command != null) {
+            buffer.put(command);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ASSOCIATION_GROUP_COMMAND_LIST_REPORT command.
      * <p>
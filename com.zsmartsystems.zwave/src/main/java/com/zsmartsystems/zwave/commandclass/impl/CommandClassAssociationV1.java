@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -93,6 +94,37 @@ public class CommandClassAssociationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ASSOCIATION_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Association Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupingIdentifier {@link Integer}
+     * @param nodeId {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAssociationSet(ByteBuffer buffer, Integer groupingIdentifier, byte[] nodeId) {
+        logger.debug("Creating command message ASSOCIATION_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ASSOCIATION_SET);
+
+        // Process 'Grouping Identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        // Process 'Node ID'
+        if (nodeId != null) {
+            buffer.put(nodeId);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ASSOCIATION_SET command.
      * <p>
@@ -153,6 +185,31 @@ public class CommandClassAssociationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ASSOCIATION_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Association Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupingIdentifier {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAssociationGet(ByteBuffer buffer, Integer groupingIdentifier) {
+        logger.debug("Creating command message ASSOCIATION_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ASSOCIATION_GET);
+
+        // Process 'Grouping Identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ASSOCIATION_GET command.
      * <p>
@@ -218,6 +275,46 @@ public class CommandClassAssociationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ASSOCIATION_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Association Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupingIdentifier {@link Integer}
+     * @param maxNodesSupported {@link Integer}
+     * @param reportsToFollow {@link Integer}
+     * @param nodeid {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAssociationReport(ByteBuffer buffer, Integer groupingIdentifier, Integer maxNodesSupported,
+            Integer reportsToFollow, byte[] nodeid) {
+        logger.debug("Creating command message ASSOCIATION_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ASSOCIATION_REPORT);
+
+        // Process 'Grouping Identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        // Process 'Max Nodes Supported'
+        buffer.put(maxNodesSupported.byteValue());
+
+        // Process 'Reports to Follow'
+        buffer.put(reportsToFollow.byteValue());
+
+        // Process 'NodeID'
+        if (nodeid != null) {
+            buffer.put(nodeid);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ASSOCIATION_REPORT command.
      * <p>
@@ -297,6 +394,37 @@ public class CommandClassAssociationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ASSOCIATION_REMOVE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Association Remove
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupingIdentifier {@link Integer}
+     * @param nodeId {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAssociationRemove(ByteBuffer buffer, Integer groupingIdentifier, byte[] nodeId) {
+        logger.debug("Creating command message ASSOCIATION_REMOVE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ASSOCIATION_REMOVE);
+
+        // Process 'Grouping Identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        // Process 'Node ID'
+        if (nodeId != null) {
+            buffer.put(nodeId);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ASSOCIATION_REMOVE command.
      * <p>
@@ -353,6 +481,27 @@ public class CommandClassAssociationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ASSOCIATION_GROUPINGS_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Association Groupings Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAssociationGroupingsGet(ByteBuffer buffer) {
+        logger.debug("Creating command message ASSOCIATION_GROUPINGS_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ASSOCIATION_GROUPINGS_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ASSOCIATION_GROUPINGS_GET command.
      * <p>
@@ -391,6 +540,31 @@ public class CommandClassAssociationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ASSOCIATION_GROUPINGS_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Association Groupings Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param supportedGroupings {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAssociationGroupingsReport(ByteBuffer buffer, Integer supportedGroupings) {
+        logger.debug("Creating command message ASSOCIATION_GROUPINGS_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ASSOCIATION_GROUPINGS_REPORT);
+
+        // Process 'Supported Groupings'
+        buffer.put(supportedGroupings.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ASSOCIATION_GROUPINGS_REPORT command.
      * <p>
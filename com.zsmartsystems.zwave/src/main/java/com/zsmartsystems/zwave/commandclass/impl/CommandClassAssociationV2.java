@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -101,6 +102,37 @@ public class CommandClassAssociationV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ASSOCIATION_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Association Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupingIdentifier {@link Integer}
+     * @param nodeId {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAssociationSet(ByteBuffer buffer, Integer groupingIdentifier, byte[] nodeId) {
+        logger.debug("Creating command message ASSOCIATION_SET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ASSOCIATION_SET);
+
+        // Process 'Grouping Identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        // Process 'Node ID'
+        if (nodeId != null) {
+            buffer.put(nodeId);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ASSOCIATION_SET command.
      * <p>
@@ -161,6 +193,31 @@ public class CommandClassAssociationV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ASSOCIATION_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Association Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupingIdentifier {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAssociationGet(ByteBuffer buffer, Integer groupingIdentifier) {
+        logger.debug("Creating command message ASSOCIATION_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ASSOCIATION_GET);
+
+        // Process 'Grouping Identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ASSOCIATION_GET command.
      * <p>
@@ -226,6 +283,46 @@ public class CommandClassAssociationV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ASSOCIATION_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Association Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupingIdentifier {@link Integer}
+     * @param maxNodesSupported {@link Integer}
+     * @param reportsToFollow {@link Integer}
+     * @param nodeid {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAssociationReport(ByteBuffer buffer, Integer groupingIdentifier, Integer maxNodesSupported,
+            Integer reportsToFollow, byte[] nodeid) {
+        logger.debug("Creating command message ASSOCIATION_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ASSOCIATION_REPORT);
+
+        // Process 'Grouping Identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        // Process 'Max Nodes Supported'
+        buffer.put(maxNodesSupported.byteValue());
+
+        // Process 'Reports to Follow'
+        buffer.put(reportsToFollow.byteValue());
+
+        // Process 'NodeID'
+        if (nodeid != null) {
+            buffer.put(nodeid);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ASSOCIATION_REPORT command.
      * <p>
@@ -305,6 +402,37 @@ public class CommandClassAssociationV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ASSOCIATION_REMOVE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Association Remove
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupingIdentifier {@link Integer}
+     * @param nodeId {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAssociationRemove(ByteBuffer buffer, Integer groupingIdentifier, byte[] nodeId) {
+        logger.debug("Creating command message ASSOCIATION_REMOVE version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ASSOCIATION_REMOVE);
+
+        // Process 'Grouping Identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        // Process 'Node ID'
+        if (nodeId != null) {
+            buffer.put(nodeId);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ASSOCIATION_REMOVE command.
      * <p>
@@ -361,6 +489,27 @@ public class CommandClassAssociationV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ASSOCIATION_GROUPINGS_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Association Groupings Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAssociationGroupingsGet(ByteBuffer buffer) {
+        logger.debug("Creating command message ASSOCIATION_GROUPINGS_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ASSOCIATION_GROUPINGS_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ASSOCIATION_GROUPINGS_GET command.
      * <p>
@@ -399,6 +548,31 @@ public class CommandClassAssociationV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ASSOCIATION_GROUPINGS_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Association Groupings Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param supportedGroupings {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAssociationGroupingsReport(ByteBuffer buffer, Integer supportedGroupings) {
+        logger.debug("Creating command message ASSOCIATION_GROUPINGS_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ASSOCIATION_GROUPINGS_REPORT);
+
+        // Process 'Supported Groupings'
+        buffer.put(supportedGroupings.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ASSOCIATION_GROUPINGS_REPORT command.
      * <p>
@@ -442,6 +616,27 @@ public class CommandClassAssociationV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ASSOCIATION_SPECIFIC_GROUP_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Association Specific Group Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAssociationSpecificGroupGet(ByteBuffer buffer) {
+        logger.debug("Creating command message ASSOCIATION_SPECIFIC_GROUP_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ASSOCIATION_SPECIFIC_GROUP_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ASSOCIATION_SPECIFIC_GROUP_GET command.
      * <p>
@@ -480,6 +675,31 @@ public class CommandClassAssociationV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ASSOCIATION_SPECIFIC_GROUP_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Association Specific Group Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param group {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAssociationSpecificGroupReport(ByteBuffer buffer, Integer group) {
+        logger.debug("Creating command message ASSOCIATION_SPECIFIC_GROUP_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ASSOCIATION_SPECIFIC_GROUP_REPORT);
+
+        // Process 'Group'
+        buffer.put(group.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ASSOCIATION_SPECIFIC_GROUP_REPORT command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -87,6 +88,27 @@ public class CommandClassAvContentDirectoryMdV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the AV_CONTENT_BROWSE_MD_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Av Content Browse Md Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAvContentBrowseMdGet(ByteBuffer buffer) {
+        logger.debug("Creating command message AV_CONTENT_BROWSE_MD_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) AV_CONTENT_BROWSE_MD_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the AV_CONTENT_BROWSE_MD_GET command.
      * <p>
@@ -121,6 +143,27 @@ public class CommandClassAvContentDirectoryMdV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the AV_CONTENT_BROWSE_MD_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Av Content Browse Md Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAvContentBrowseMdReport(ByteBuffer buffer) {
+        logger.debug("Creating command message AV_CONTENT_BROWSE_MD_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) AV_CONTENT_BROWSE_MD_REPORT);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the AV_CONTENT_BROWSE_MD_REPORT command.
      * <p>
@@ -155,6 +198,27 @@ public class CommandClassAvContentDirectoryMdV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the AV_CONTENT_BROWSE_MD_BY_LETTER_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Av Content Browse Md By Letter Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAvContentBrowseMdByLetterGet(ByteBuffer buffer) {
+        logger.debug("Creating command message AV_CONTENT_BROWSE_MD_BY_LETTER_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) AV_CONTENT_BROWSE_MD_BY_LETTER_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the AV_CONTENT_BROWSE_MD_BY_LETTER_GET command.
      * <p>
@@ -189,6 +253,27 @@ public class CommandClassAvContentDirectoryMdV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the AV_CONTENT_BROWSE_MD_BY_LETTER_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Av Content Browse Md By Letter Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAvContentBrowseMdByLetterReport(ByteBuffer buffer) {
+        logger.debug("Creating command message AV_CONTENT_BROWSE_MD_BY_LETTER_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) AV_CONTENT_BROWSE_MD_BY_LETTER_REPORT);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the AV_CONTENT_BROWSE_MD_BY_LETTER_REPORT command.
      * <p>
@@ -223,6 +308,27 @@ public class CommandClassAvContentDirectoryMdV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the AV_CONTENT_BROWSE_MD_CHILD_COUNT_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Av Content Browse Md Child Count Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAvContentBrowseMdChildCountGet(ByteBuffer buffer) {
+        logger.debug("Creating command message AV_CONTENT_BROWSE_MD_CHILD_COUNT_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) AV_CONTENT_BROWSE_MD_CHILD_COUNT_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the AV_CONTENT_BROWSE_MD_CHILD_COUNT_GET command.
      * <p>
@@ -257,6 +363,27 @@ public class CommandClassAvContentDirectoryMdV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the AV_CONTENT_BROWSE_MD_CHILD_COUNT_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Av Content Browse Md Child Count Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAvContentBrowseMdChildCountReport(ByteBuffer buffer) {
+        logger.debug("Creating command message AV_CONTENT_BROWSE_MD_CHILD_COUNT_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) AV_CONTENT_BROWSE_MD_CHILD_COUNT_REPORT);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the AV_CONTENT_BROWSE_MD_CHILD_COUNT_REPORT command.
      * <p>
@@ -291,6 +418,27 @@ public class CommandClassAvContentDirectoryMdV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the AV_MATCH_ITEM_TO_RENDERER_MD_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Av Match Item To Renderer Md Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAvMatchItemToRendererMdGet(ByteBuffer buffer) {
+        logger.debug("Creating command message AV_MATCH_ITEM_TO_RENDERER_MD_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) AV_MATCH_ITEM_TO_RENDERER_MD_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the AV_MATCH_ITEM_TO_RENDERER_MD_GET command.
      * <p>
@@ -325,6 +473,27 @@ public class CommandClassAvContentDirectoryMdV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the AV_MATCH_ITEM_TO_RENDERER_MD_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Av Match Item To Renderer Md Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAvMatchItemToRendererMdReport(ByteBuffer buffer) {
+        logger.debug("Creating command message AV_MATCH_ITEM_TO_RENDERER_MD_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) AV_MATCH_ITEM_TO_RENDERER_MD_REPORT);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the AV_MATCH_ITEM_TO_RENDERER_MD_REPORT command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -63,6 +64,27 @@ public class CommandClassAvTaggingMdV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the AV_TAGGING_MD_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Av Tagging Md Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAvTaggingMdGet(ByteBuffer buffer) {
+        logger.debug("Creating command message AV_TAGGING_MD_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) AV_TAGGING_MD_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the AV_TAGGING_MD_GET command.
      * <p>
@@ -97,6 +119,27 @@ public class CommandClassAvTaggingMdV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the AV_TAGGING_MD_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Av Tagging Md Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAvTaggingMdReport(ByteBuffer buffer) {
+        logger.debug("Creating command message AV_TAGGING_MD_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) AV_TAGGING_MD_REPORT);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the AV_TAGGING_MD_REPORT command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -189,6 +190,46 @@ public class CommandClassBarrierOperatorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the BARRIER_OPERATOR_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Barrier Operator Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param targetValue {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>CLOSE
+     *            <li>OPEN
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getBarrierOperatorSet(ByteBuffer buffer, String targetValue) {
+        logger.debug("Creating command message BARRIER_OPERATOR_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) BARRIER_OPERATOR_SET);
+
+        // Process 'Target Value'
+        boolean foundTargetValue = false;
+        for (Integer entry : constantBarrierOperatorSetTargetValue.keySet()) {
+            if (constantBarrierOperatorSetTargetValue.get(entry).equals(targetValue)) {
+                buffer.put(entry.byteValue());
+                foundTargetValue = true;
+                break;
+            }
+        }
+        if (!foundTargetValue) {
+            throw new IllegalArgumentException("Unknown constant value '" + targetValue + "' for targetValue");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the BARRIER_OPERATOR_SET command.
      * <p>
@@ -232,6 +273,27 @@ public class CommandClassBarrierOperatorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the BARRIER_OPERATOR_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Barrier Operator Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getBarrierOperatorGet(ByteBuffer buffer) {
+        logger.debug("Creating command message BARRIER_OPERATOR_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) BARRIER_OPERATOR_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the BARRIER_OPERATOR_GET command.
      * <p>
@@ -288,6 +350,49 @@ public class CommandClassBarrierOperatorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the BARRIER_OPERATOR_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Barrier Operator Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param state {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OPENING
+     *            <li>CLOSED
+     *            <li>OPEN
+     *            <li>CLOSING
+     *            <li>STOPPED
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getBarrierOperatorReport(ByteBuffer buffer, String state) {
+        logger.debug("Creating command message BARRIER_OPERATOR_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) BARRIER_OPERATOR_REPORT);
+
+        // Process 'State'
+        boolean foundState = false;
+        for (Integer entry : constantBarrierOperatorReportState.keySet()) {
+            if (constantBarrierOperatorReportState.get(entry).equals(state)) {
+                buffer.put(entry.byteValue());
+                foundState = true;
+                break;
+            }
+        }
+        if (!foundState) {
+            throw new IllegalArgumentException("Unknown constant value '" + state + "' for state");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the BARRIER_OPERATOR_REPORT command.
      * <p>
@@ -331,6 +436,27 @@ public class CommandClassBarrierOperatorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the BARRIER_OPERATOR_SIGNAL_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Barrier Operator Signal Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getBarrierOperatorSignalSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message BARRIER_OPERATOR_SIGNAL_SUPPORTED_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) BARRIER_OPERATOR_SIGNAL_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the BARRIER_OPERATOR_SIGNAL_SUPPORTED_GET command.
      * <p>
@@ -389,6 +515,51 @@ public class CommandClassBarrierOperatorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the BARRIER_OPERATOR_SIGNAL_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Barrier Operator Signal Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param bitMask {@link List<String>}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NOT_SUPPORTED
+     *            <li>AUDIBLE_NOTIFICATION
+     *            <li>VISUAL_NOTIFICATION
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getBarrierOperatorSignalSupportedReport(ByteBuffer buffer, List<String> bitMask) {
+        logger.debug("Creating command message BARRIER_OPERATOR_SIGNAL_SUPPORTED_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) BARRIER_OPERATOR_SIGNAL_SUPPORTED_REPORT);
+
+        // Process 'Bit Mask'
+        int valBitMask = 0;
+        for (String value : bitMask) {
+            boolean foundBitMask = false;
+            for (Integer entry : constantBarrierOperatorSignalSupportedReportBitMask.keySet()) {
+                if (constantBarrierOperatorSignalSupportedReportBitMask.get(entry).equals(value)) {
+                    foundBitMask = true;
+                    valBitMask += entry;
+                    break;
+                }
+            }
+            if (!foundBitMask) {
+                throw new IllegalArgumentException("Unknown constant value '" + bitMask + "' for bitMask");
+            }
+        }
+        buffer.put((byte) valBitMask);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the BARRIER_OPERATOR_SIGNAL_SUPPORTED_REPORT command.
      * <p>
@@ -478,6 +649,66 @@ public class CommandClassBarrierOperatorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the BARRIER_OPERATOR_SIGNAL_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Barrier Operator Signal Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param subsystemType {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NOT_SUPPORTED
+     *            <li>AUDIBLE_NOTIFICATION
+     *            <li>VISUAL_NOTIFICATION
+     *            </ul>
+     * @param subsystemState {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF
+     *            <li>ON
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getBarrierOperatorSignalSet(ByteBuffer buffer, String subsystemType, String subsystemState) {
+        logger.debug("Creating command message BARRIER_OPERATOR_SIGNAL_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) BARRIER_OPERATOR_SIGNAL_SET);
+
+        // Process 'Subsystem Type'
+        boolean foundSubsystemType = false;
+        for (Integer entry : constantBarrierOperatorSignalSetSubsystemType.keySet()) {
+            if (constantBarrierOperatorSignalSetSubsystemType.get(entry).equals(subsystemType)) {
+                buffer.put(entry.byteValue());
+                foundSubsystemType = true;
+                break;
+            }
+        }
+        if (!foundSubsystemType) {
+            throw new IllegalArgumentException("Unknown constant value '" + subsystemType + "' for subsystemType");
+        }
+
+        // Process 'Subsystem State'
+        boolean foundSubsystemState = false;
+        for (Integer entry : constantBarrierOperatorSignalSetSubsystemState.keySet()) {
+            if (constantBarrierOperatorSignalSetSubsystemState.get(entry).equals(subsystemState)) {
+                buffer.put(entry.byteValue());
+                foundSubsystemState = true;
+                break;
+            }
+        }
+        if (!foundSubsystemState) {
+            throw new IllegalArgumentException("Unknown constant value '" + subsystemState + "' for subsystemState");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the BARRIER_OPERATOR_SIGNAL_SET command.
      * <p>
@@ -545,6 +776,47 @@ public class CommandClassBarrierOperatorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the BARRIER_OPERATOR_SIGNAL_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Barrier Operator Signal Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param subsystemType {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NOT_SUPPORTED
+     *            <li>AUDIBLE_NOTIFICATION
+     *            <li>VISUAL_NOTIFICATION
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getBarrierOperatorSignalGet(ByteBuffer buffer, String subsystemType) {
+        logger.debug("Creating command message BARRIER_OPERATOR_SIGNAL_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) BARRIER_OPERATOR_SIGNAL_GET);
+
+        // Process 'Subsystem Type'
+        boolean foundSubsystemType = false;
+        for (Integer entry : constantBarrierOperatorSignalGetSubsystemType.keySet()) {
+            if (constantBarrierOperatorSignalGetSubsystemType.get(entry).equals(subsystemType)) {
+                buffer.put(entry.byteValue());
+                foundSubsystemType = true;
+                break;
+            }
+        }
+        if (!foundSubsystemType) {
+            throw new IllegalArgumentException("Unknown constant value '" + subsystemType + "' for subsystemType");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the BARRIER_OPERATOR_SIGNAL_GET command.
      * <p>
@@ -627,6 +899,66 @@ public class CommandClassBarrierOperatorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the BARRIER_OPERATOR_SIGNAL_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Barrier Operator Signal Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param subsystemType {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NOT_SUPPORTED
+     *            <li>AUDIBLE_NOTIFICATION
+     *            <li>VISUAL_NOTIFICATION
+     *            </ul>
+     * @param subsystemState {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF
+     *            <li>ON
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getBarrierOperatorSignalReport(ByteBuffer buffer, String subsystemType, String subsystemState) {
+        logger.debug("Creating command message BARRIER_OPERATOR_SIGNAL_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) BARRIER_OPERATOR_SIGNAL_REPORT);
+
+        // Process 'Subsystem Type'
+        boolean foundSubsystemType = false;
+        for (Integer entry : constantBarrierOperatorSignalReportSubsystemType.keySet()) {
+            if (constantBarrierOperatorSignalReportSubsystemType.get(entry).equals(subsystemType)) {
+                buffer.put(entry.byteValue());
+                foundSubsystemType = true;
+                break;
+            }
+        }
+        if (!foundSubsystemType) {
+            throw new IllegalArgumentException("Unknown constant value '" + subsystemType + "' for subsystemType");
+        }
+
+        // Process 'Subsystem State'
+        boolean foundSubsystemState = false;
+        for (Integer entry : constantBarrierOperatorSignalReportSubsystemState.keySet()) {
+            if (constantBarrierOperatorSignalReportSubsystemState.get(entry).equals(subsystemState)) {
+                buffer.put(entry.byteValue());
+                foundSubsystemState = true;
+                break;
+            }
+        }
+        if (!foundSubsystemState) {
+            throw new IllegalArgumentException("Unknown constant value '" + subsystemState + "' for subsystemState");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the BARRIER_OPERATOR_SIGNAL_REPORT command.
      * <p>
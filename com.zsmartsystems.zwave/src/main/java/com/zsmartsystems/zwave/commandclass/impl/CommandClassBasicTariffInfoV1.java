@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -73,6 +74,27 @@ public class CommandClassBasicTariffInfoV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the BASIC_TARIFF_INFO_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Basic Tariff Info Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getBasicTariffInfoGet(ByteBuffer buffer) {
+        logger.debug("Creating command message BASIC_TARIFF_INFO_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) BASIC_TARIFF_INFO_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the BASIC_TARIFF_INFO_GET command.
      * <p>
@@ -151,6 +173,72 @@ public class CommandClassBasicTariffInfoV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the BASIC_TARIFF_INFO_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Basic Tariff Info Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param totalNoImportRates {@link Integer}
+     * @param dual {@link Boolean}
+     * @param e1CurrentRateInUse {@link Integer}
+     * @param e1RateConsumptionRegister {@link Long}
+     * @param e1TimeForNextRateHours {@link Integer}
+     * @param e1TimeForNextRateMinutes {@link Integer}
+     * @param e1TimeForNextRateSeconds {@link Integer}
+     * @param e2CurrentRateInUse {@link Integer}
+     * @param e2RateConsumptionRegister {@link Long}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getBasicTariffInfoReport(ByteBuffer buffer, Integer totalNoImportRates, Boolean dual,
+            Integer e1CurrentRateInUse, Long e1RateConsumptionRegister, Integer e1TimeForNextRateHours,
+            Integer e1TimeForNextRateMinutes, Integer e1TimeForNextRateSeconds, Integer e2CurrentRateInUse,
+            Long e2RateConsumptionRegister) {
+        logger.debug("Creating command message BASIC_TARIFF_INFO_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) BASIC_TARIFF_INFO_REPORT);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= totalNoImportRates & 0x0F;
+        valProperties1 |= dual ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Properties2'
+        buffer.put((byte) (e1CurrentRateInUse & 0x0F));
+
+        // Process 'E1 Rate Consumption Register'
+        buffer.put((byte) ((e1RateConsumptionRegister >> 24) & 0xff));
+        buffer.put((byte) ((e1RateConsumptionRegister >> 16) & 0xff));
+        buffer.put((byte) ((e1RateConsumptionRegister >> 8) & 0xff));
+        buffer.put((byte) (e1RateConsumptionRegister & 0xff));
+
+        // Process 'E1 Time for Next Rate Hours'
+        buffer.put(e1TimeForNextRateHours.byteValue());
+
+        // Process 'E1 Time for Next Rate Minutes'
+        buffer.put(e1TimeForNextRateMinutes.byteValue());
+
+        // Process 'E1 Time for Next Rate Seconds'
+        buffer.put(e1TimeForNextRateSeconds.byteValue());
+
+        // Process 'Properties3'
+        buffer.put((byte) (e2CurrentRateInUse & 0x0F));
+
+        // Process 'E2 Rate Consumption Register'
+        buffer.put((byte) ((e2RateConsumptionRegister >> 24) & 0xff));
+        buffer.put((byte) ((e2RateConsumptionRegister >> 16) & 0xff));
+        buffer.put((byte) ((e2RateConsumptionRegister >> 8) & 0xff));
+        buffer.put((byte) (e2RateConsumptionRegister & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the BASIC_TARIFF_INFO_REPORT command.
      * <p>
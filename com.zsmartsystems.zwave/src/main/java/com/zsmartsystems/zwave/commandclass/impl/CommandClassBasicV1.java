@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -71,6 +72,31 @@ public class CommandClassBasicV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the BASIC_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Basic Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param value {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getBasicSet(ByteBuffer buffer, Integer value) {
+        logger.debug("Creating command message BASIC_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) BASIC_SET);
+
+        // Process 'Value'
+        buffer.put(value.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the BASIC_SET command.
      * <p>
@@ -114,6 +140,27 @@ public class CommandClassBasicV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the BASIC_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Basic Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getBasicGet(ByteBuffer buffer) {
+        logger.debug("Creating command message BASIC_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) BASIC_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the BASIC_GET command.
      * <p>
@@ -152,6 +199,31 @@ public class CommandClassBasicV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the BASIC_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Basic Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param value {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getBasicReport(ByteBuffer buffer, Integer value) {
+        logger.debug("Creating command message BASIC_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) BASIC_REPORT);
+
+        // Process 'Value'
+        buffer.put(value.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the BASIC_REPORT command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -77,6 +78,31 @@ public class CommandClassBasicWindowCoveringV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the BASIC_WINDOW_COVERING_START_LEVEL_CHANGE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Basic Window Covering Start Level Change
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param openClose {@link Boolean}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getBasicWindowCoveringStartLevelChange(ByteBuffer buffer, Boolean openClose) {
+        logger.debug("Creating command message BASIC_WINDOW_COVERING_START_LEVEL_CHANGE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) BASIC_WINDOW_COVERING_START_LEVEL_CHANGE);
+
+        // Process 'Level'
+        buffer.put((byte) (openClose ? 0x40 : 0));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the BASIC_WINDOW_COVERING_START_LEVEL_CHANGE command.
      * <p>
@@ -120,6 +146,27 @@ public class CommandClassBasicWindowCoveringV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the BASIC_WINDOW_COVERING_STOP_LEVEL_CHANGE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Basic Window Covering Stop Level Change
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getBasicWindowCoveringStopLevelChange(ByteBuffer buffer) {
+        logger.debug("Creating command message BASIC_WINDOW_COVERING_STOP_LEVEL_CHANGE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) BASIC_WINDOW_COVERING_STOP_LEVEL_CHANGE);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the BASIC_WINDOW_COVERING_STOP_LEVEL_CHANGE command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -73,6 +74,27 @@ public class CommandClassBatteryV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the BATTERY_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Battery Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getBatteryGet(ByteBuffer buffer) {
+        logger.debug("Creating command message BATTERY_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) BATTERY_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the BATTERY_GET command.
      * <p>
@@ -125,6 +147,45 @@ public class CommandClassBatteryV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the BATTERY_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Battery Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param batteryLevel {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>BATTERY_LOW_WARNING
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getBatteryReport(ByteBuffer buffer, String batteryLevel) {
+        logger.debug("Creating command message BATTERY_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) BATTERY_REPORT);
+
+        // Process 'Battery Level'
+        boolean foundBatteryLevel = false;
+        for (Integer entry : constantBatteryReportBatteryLevel.keySet()) {
+            if (constantBatteryReportBatteryLevel.get(entry).equals(batteryLevel)) {
+                buffer.put(entry.byteValue());
+                foundBatteryLevel = true;
+                break;
+            }
+        }
+        if (!foundBatteryLevel) {
+            throw new IllegalArgumentException("Unknown constant value '" + batteryLevel + "' for batteryLevel");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the BATTERY_REPORT command.
      * <p>
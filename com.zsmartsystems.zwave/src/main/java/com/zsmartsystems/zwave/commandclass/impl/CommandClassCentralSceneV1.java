@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -67,6 +68,27 @@ public class CommandClassCentralSceneV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CENTRAL_SCENE_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Central Scene Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCentralSceneSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message CENTRAL_SCENE_SUPPORTED_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CENTRAL_SCENE_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CENTRAL_SCENE_SUPPORTED_GET command.
      * <p>
@@ -105,6 +127,31 @@ public class CommandClassCentralSceneV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CENTRAL_SCENE_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Central Scene Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param supportedScenes {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCentralSceneSupportedReport(ByteBuffer buffer, Integer supportedScenes) {
+        logger.debug("Creating command message CENTRAL_SCENE_SUPPORTED_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CENTRAL_SCENE_SUPPORTED_REPORT);
+
+        // Process 'Supported Scenes'
+        buffer.put(supportedScenes.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CENTRAL_SCENE_SUPPORTED_REPORT command.
      * <p>
@@ -160,6 +207,40 @@ public class CommandClassCentralSceneV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CENTRAL_SCENE_NOTIFICATION command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Central Scene Notification
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sequenceNumber {@link Integer}
+     * @param keyAttributes {@link Integer}
+     * @param sceneNumber {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCentralSceneNotification(ByteBuffer buffer, Integer sequenceNumber, Integer keyAttributes,
+            Integer sceneNumber) {
+        logger.debug("Creating command message CENTRAL_SCENE_NOTIFICATION version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CENTRAL_SCENE_NOTIFICATION);
+
+        // Process 'Sequence Number'
+        buffer.put(sequenceNumber.byteValue());
+
+        // Process 'Properties1'
+        buffer.put((byte) (keyAttributes & 0x07));
+
+        // Process 'Scene Number'
+        buffer.put(sceneNumber.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CENTRAL_SCENE_NOTIFICATION command.
      * <p>
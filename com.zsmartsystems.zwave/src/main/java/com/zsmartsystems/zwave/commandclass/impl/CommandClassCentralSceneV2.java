@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -93,6 +94,27 @@ public class CommandClassCentralSceneV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CENTRAL_SCENE_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Central Scene Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCentralSceneSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message CENTRAL_SCENE_SUPPORTED_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CENTRAL_SCENE_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CENTRAL_SCENE_SUPPORTED_GET command.
      * <p>
@@ -142,6 +164,42 @@ public class CommandClassCentralSceneV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CENTRAL_SCENE_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Central Scene Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param supportedScenes {@link Integer}
+     * @param identical {@link Boolean}
+     * @param numberOfBitMaskBytes {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCentralSceneSupportedReport(ByteBuffer buffer, Integer supportedScenes, Boolean identical,
+            Integer numberOfBitMaskBytes) {
+        logger.debug("Creating command message CENTRAL_SCENE_SUPPORTED_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CENTRAL_SCENE_SUPPORTED_REPORT);
+
+        // Process 'Supported Scenes'
+        buffer.put(supportedScenes.byteValue());
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= identical ? 0x01 : 0;
+        valProperties1 |= ((numberOfBitMaskBytes << 1) & 0x06);
+        buffer.put((byte) valProperties1);
+
+        // Process 'vg1'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CENTRAL_SCENE_SUPPORTED_REPORT command.
      * <p>
@@ -260,6 +318,66 @@ public class CommandClassCentralSceneV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CENTRAL_SCENE_NOTIFICATION command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Central Scene Notification
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sequenceNumber {@link Integer}
+     * @param keyAttributes {@link String}
+     * @param sceneNumber {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCentralSceneNotification(ByteBuffer buffer, Integer sequenceNumber, String keyAttributes,
+            Integer sceneNumber) {
+        logger.debug("Creating command message CENTRAL_SCENE_NOTIFICATION version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CENTRAL_SCENE_NOTIFICATION);
+
+        // Process 'Sequence Number'
+        buffer.put(sequenceNumber.byteValue());
+
+        // Process 'Properties1'
+        int valkeyAttributes;
+        switch (keyAttributes) {
+            case "KEY_PRESSED_1_TIME":
+                valkeyAttributes = 0;
+                break;
+            case "KEY_RELEASED":
+                valkeyAttributes = 1;
+                break;
+            case "KEY_HELD_DOWN":
+                valkeyAttributes = 2;
+                break;
+            case "KEY_PRESSED_2_TIMES":
+                valkeyAttributes = 3;
+                break;
+            case "KEY_PRESSED_3_TIMES":
+                valkeyAttributes = 4;
+                break;
+            case "KEY_PRESSED_4_TIMES":
+                valkeyAttributes = 5;
+                break;
+            case "KEY_PRESSED_5_TIMES":
+                valkeyAttributes = 6;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for keyAttributes: " + keyAttributes);
+        }
+        buffer.put((byte) (valkeyAttributes & 0x07));
+
+        // Process 'Scene Number'
+        buffer.put(sceneNumber.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CENTRAL_SCENE_NOTIFICATION command.
      * <p>
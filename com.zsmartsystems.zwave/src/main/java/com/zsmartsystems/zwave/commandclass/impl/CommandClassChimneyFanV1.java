@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -420,6 +421,45 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_STATE_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan State Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param state {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NEXT_STATE
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanStateSet(ByteBuffer buffer, String state) {
+        logger.debug("Creating command message CHIMNEY_FAN_STATE_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_STATE_SET);
+
+        // Process 'State'
+        boolean foundState = false;
+        for (Integer entry : constantChimneyFanStateSetState.keySet()) {
+            if (constantChimneyFanStateSetState.get(entry).equals(state)) {
+                buffer.put(entry.byteValue());
+                foundState = true;
+                break;
+            }
+        }
+        if (!foundState) {
+            throw new IllegalArgumentException("Unknown constant value '" + state + "' for state");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_STATE_SET command.
      * <p>
@@ -463,6 +503,27 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_STATE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan State Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanStateGet(ByteBuffer buffer) {
+        logger.debug("Creating command message CHIMNEY_FAN_STATE_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_STATE_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_STATE_GET command.
      * <p>
@@ -525,6 +586,55 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_STATE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan State Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param state {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF
+     *            <li>BOOST
+     *            <li>EXHAUST
+     *            <li>RELOAD
+     *            <li>VENTING
+     *            <li>STOP
+     *            <li>VENTING_EX
+     *            <li>SERVICE
+     *            <li>SENSOR_FAILURE
+     *            <li>CHIMNEY_FIRE
+     *            <li>EXTERNAL_ALARM
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanStateReport(ByteBuffer buffer, String state) {
+        logger.debug("Creating command message CHIMNEY_FAN_STATE_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_STATE_REPORT);
+
+        // Process 'State'
+        boolean foundState = false;
+        for (Integer entry : constantChimneyFanStateReportState.keySet()) {
+            if (constantChimneyFanStateReportState.get(entry).equals(state)) {
+                buffer.put(entry.byteValue());
+                foundState = true;
+                break;
+            }
+        }
+        if (!foundState) {
+            throw new IllegalArgumentException("Unknown constant value '" + state + "' for state");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_STATE_REPORT command.
      * <p>
@@ -587,6 +697,46 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_SPEED_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Speed Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param speed {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>SPEED_DOWN
+     *            <li>SPEED_UP
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanSpeedSet(ByteBuffer buffer, String speed) {
+        logger.debug("Creating command message CHIMNEY_FAN_SPEED_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_SPEED_SET);
+
+        // Process 'Speed'
+        boolean foundSpeed = false;
+        for (Integer entry : constantChimneyFanSpeedSetSpeed.keySet()) {
+            if (constantChimneyFanSpeedSetSpeed.get(entry).equals(speed)) {
+                buffer.put(entry.byteValue());
+                foundSpeed = true;
+                break;
+            }
+        }
+        if (!foundSpeed) {
+            throw new IllegalArgumentException("Unknown constant value '" + speed + "' for speed");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_SPEED_SET command.
      * <p>
@@ -630,6 +780,27 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_SPEED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Speed Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanSpeedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message CHIMNEY_FAN_SPEED_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_SPEED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_SPEED_GET command.
      * <p>
@@ -668,6 +839,31 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_SPEED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Speed Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param speed {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanSpeedReport(ByteBuffer buffer, Integer speed) {
+        logger.debug("Creating command message CHIMNEY_FAN_SPEED_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_SPEED_REPORT);
+
+        // Process 'Speed'
+        buffer.put(speed.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_SPEED_REPORT command.
      * <p>
@@ -731,6 +927,44 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_START_TEMP_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Start Temp Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param scale {@link Integer}
+     * @param precision {@link Integer}
+     * @param value {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanStartTempSet(ByteBuffer buffer, Integer scale, Integer precision, byte[] value) {
+        logger.debug("Creating command message CHIMNEY_FAN_START_TEMP_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_START_TEMP_SET);
+
+        // Process 'Properties1'
+        // Size is used by 'Value'
+        int size = value.length;
+        int valProperties1 = 0;
+        valProperties1 |= size & 0x07;
+        valProperties1 |= ((scale << 3) & 0x18);
+        valProperties1 |= ((precision << 5) & 0xE0);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Value'
+        if (value != null) {
+            buffer.put(value);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_START_TEMP_SET command.
      * <p>
@@ -787,6 +1021,27 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_START_TEMP_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Start Temp Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanStartTempGet(ByteBuffer buffer) {
+        logger.debug("Creating command message CHIMNEY_FAN_START_TEMP_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_START_TEMP_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_START_TEMP_GET command.
      * <p>
@@ -841,6 +1096,44 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_START_TEMP_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Start Temp Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param scale {@link Integer}
+     * @param precision {@link Integer}
+     * @param value {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanStartTempReport(ByteBuffer buffer, Integer scale, Integer precision, byte[] value) {
+        logger.debug("Creating command message CHIMNEY_FAN_START_TEMP_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_START_TEMP_REPORT);
+
+        // Process 'Properties1'
+        // Size is used by 'Value'
+        int size = value.length;
+        int valProperties1 = 0;
+        valProperties1 |= size & 0x07;
+        valProperties1 |= ((scale << 3) & 0x18);
+        valProperties1 |= ((precision << 5) & 0xE0);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Value'
+        if (value != null) {
+            buffer.put(value);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_START_TEMP_REPORT command.
      * <p>
@@ -917,6 +1210,44 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_STOP_TEMP_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Stop Temp Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param scale {@link Integer}
+     * @param precision {@link Integer}
+     * @param value {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanStopTempSet(ByteBuffer buffer, Integer scale, Integer precision, byte[] value) {
+        logger.debug("Creating command message CHIMNEY_FAN_STOP_TEMP_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_STOP_TEMP_SET);
+
+        // Process 'Properties1'
+        // Size is used by 'Value'
+        int size = value.length;
+        int valProperties1 = 0;
+        valProperties1 |= size & 0x07;
+        valProperties1 |= ((scale << 3) & 0x18);
+        valProperties1 |= ((precision << 5) & 0xE0);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Value'
+        if (value != null) {
+            buffer.put(value);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_STOP_TEMP_SET command.
      * <p>
@@ -973,6 +1304,27 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_STOP_TEMP_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Stop Temp Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanStopTempGet(ByteBuffer buffer) {
+        logger.debug("Creating command message CHIMNEY_FAN_STOP_TEMP_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_STOP_TEMP_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_STOP_TEMP_GET command.
      * <p>
@@ -1028,34 +1380,72 @@ public class CommandClassChimneyFanV1 {
     }
 
     /**
-     * Processes a received frame with the CHIMNEY_FAN_STOP_TEMP_REPORT command.
+     * Writes a new message with the CHIMNEY_FAN_STOP_TEMP_REPORT command.
      * <p>
-     * Chimney Fan Stop Temp Report
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
      * <p>
-     * The output data {@link Map} has the following properties -:
-     *
-     * <ul>
-     * <li>SCALE {@link Integer}
-     * <li>PRECISION {@link Integer}
-     * <li>VALUE {@link byte[]}
-     * </ul>
+     * Chimney Fan Stop Temp Report
      *
-     * @param payload the {@link byte[]} payload data to process
-     * @return a {@link Map} of processed response data
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param scale {@link Integer}
+     * @param precision {@link Integer}
+     * @param value {@link byte[]}
+     * @return the number of bytes written to the buffer
      */
-    public static Map<String, Object> handleChimneyFanStopTempReport(byte[] payload) {
-        // Create our response map
-        Map<String, Object> response = new HashMap<String, Object>();
+    static public int getChimneyFanStopTempReport(ByteBuffer buffer, Integer scale, Integer precision, byte[] value) {
+        logger.debug("Creating command message CHIMNEY_FAN_STOP_TEMP_REPORT version 1");
 
-        // We're using variable length fields, so track the offset
-        int msgOffset = 2;
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_STOP_TEMP_REPORT);
 
         // Process 'Properties1'
         // Size is used by 'Value'
-        int varSize = payload[msgOffset] & 0x07;
-        response.put("SCALE", Integer.valueOf(payload[msgOffset] & 0x18 >> 3));
-        response.put("PRECISION", Integer.valueOf(payload[msgOffset] & 0xE0 >> 5));
-        msgOffset += 1;
+        int size = value.length;
+        int valProperties1 = 0;
+        valProperties1 |= size & 0x07;
+        valProperties1 |= ((scale << 3) & 0x18);
+        valProperties1 |= ((precision << 5) & 0xE0);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Value'
+        if (value != null) {
+            buffer.put(value);
+        }
+
+        return buffer.position() - start;
+    }
+
+    /**
+     * Processes a received frame with the CHIMNEY_FAN_STOP_TEMP_REPORT command.
+     * <p>
+     * Chimney Fan Stop Temp Report
+     * <p>
+     * The output data {@link Map} has the following properties -:
+     *
+     * <ul>
+     * <li>SCALE {@link Integer}
+     * <li>PRECISION {@link Integer}
+     * <li>VALUE {@link byte[]}
+     * </ul>
+     *
+     * @param payload the {@link byte[]} payload data to process
+     * @return a {@link Map} of processed response data
+     */
+    public static Map<String, Object> handleChimneyFanStopTempReport(byte[] payload) {
+        // Create our response map
+        Map<String, Object> response = new HashMap<String, Object>();
+
+        // We're using variable length fields, so track the offset
+        int msgOffset = 2;
+
+        // Process 'Properties1'
+        // Size is used by 'Value'
+        int varSize = payload[msgOffset] & 0x07;
+        response.put("SCALE", Integer.valueOf(payload[msgOffset] & 0x18 >> 3));
+        response.put("PRECISION", Integer.valueOf(payload[msgOffset] & 0xE0 >> 5));
+        msgOffset += 1;
 
         // Process 'Value'
         response.put("VALUE", Integer.valueOf(payload[msgOffset]));
@@ -1103,6 +1493,44 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_ALARM_TEMP_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Alarm Temp Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param scale {@link Integer}
+     * @param precision {@link Integer}
+     * @param value {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanAlarmTempSet(ByteBuffer buffer, Integer scale, Integer precision, byte[] value) {
+        logger.debug("Creating command message CHIMNEY_FAN_ALARM_TEMP_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_ALARM_TEMP_SET);
+
+        // Process 'Properties1'
+        // Size is used by 'Value'
+        int size = value.length;
+        int valProperties1 = 0;
+        valProperties1 |= size & 0x07;
+        valProperties1 |= ((scale << 3) & 0x18);
+        valProperties1 |= ((precision << 5) & 0xE0);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Value'
+        if (value != null) {
+            buffer.put(value);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_ALARM_TEMP_SET command.
      * <p>
@@ -1159,6 +1587,27 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_ALARM_TEMP_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Alarm Temp Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanAlarmTempGet(ByteBuffer buffer) {
+        logger.debug("Creating command message CHIMNEY_FAN_ALARM_TEMP_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_ALARM_TEMP_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_ALARM_TEMP_GET command.
      * <p>
@@ -1213,6 +1662,44 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_ALARM_TEMP_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Alarm Temp Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param scale {@link Integer}
+     * @param precision {@link Integer}
+     * @param value {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanAlarmTempReport(ByteBuffer buffer, Integer scale, Integer precision, byte[] value) {
+        logger.debug("Creating command message CHIMNEY_FAN_ALARM_TEMP_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_ALARM_TEMP_REPORT);
+
+        // Process 'Properties1'
+        // Size is used by 'Value'
+        int size = value.length;
+        int valProperties1 = 0;
+        valProperties1 |= size & 0x07;
+        valProperties1 |= ((scale << 3) & 0x18);
+        valProperties1 |= ((precision << 5) & 0xE0);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Value'
+        if (value != null) {
+            buffer.put(value);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_ALARM_TEMP_REPORT command.
      * <p>
@@ -1273,6 +1760,31 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_BOOST_TIME_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Boost Time Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param time {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanBoostTimeSet(ByteBuffer buffer, Integer time) {
+        logger.debug("Creating command message CHIMNEY_FAN_BOOST_TIME_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_BOOST_TIME_SET);
+
+        // Process 'Time'
+        buffer.put(time.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_BOOST_TIME_SET command.
      * <p>
@@ -1316,6 +1828,27 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_BOOST_TIME_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Boost Time Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanBoostTimeGet(ByteBuffer buffer) {
+        logger.debug("Creating command message CHIMNEY_FAN_BOOST_TIME_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_BOOST_TIME_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_BOOST_TIME_GET command.
      * <p>
@@ -1354,6 +1887,31 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_BOOST_TIME_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Boost Time Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param time {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanBoostTimeReport(ByteBuffer buffer, Integer time) {
+        logger.debug("Creating command message CHIMNEY_FAN_BOOST_TIME_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_BOOST_TIME_REPORT);
+
+        // Process 'Time'
+        buffer.put(time.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_BOOST_TIME_REPORT command.
      * <p>
@@ -1401,6 +1959,31 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_STOP_TIME_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Stop Time Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param time {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanStopTimeSet(ByteBuffer buffer, Integer time) {
+        logger.debug("Creating command message CHIMNEY_FAN_STOP_TIME_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_STOP_TIME_SET);
+
+        // Process 'Time'
+        buffer.put(time.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_STOP_TIME_SET command.
      * <p>
@@ -1444,6 +2027,27 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_STOP_TIME_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Stop Time Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanStopTimeGet(ByteBuffer buffer) {
+        logger.debug("Creating command message CHIMNEY_FAN_STOP_TIME_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_STOP_TIME_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_STOP_TIME_GET command.
      * <p>
@@ -1482,6 +2086,31 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_STOP_TIME_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Stop Time Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param time {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanStopTimeReport(ByteBuffer buffer, Integer time) {
+        logger.debug("Creating command message CHIMNEY_FAN_STOP_TIME_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_STOP_TIME_REPORT);
+
+        // Process 'Time'
+        buffer.put(time.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_STOP_TIME_REPORT command.
      * <p>
@@ -1544,6 +2173,46 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_MODE_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Mode Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param mode {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF
+     *            <li>ON
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanModeSet(ByteBuffer buffer, String mode) {
+        logger.debug("Creating command message CHIMNEY_FAN_MODE_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_MODE_SET);
+
+        // Process 'Mode'
+        boolean foundMode = false;
+        for (Integer entry : constantChimneyFanModeSetMode.keySet()) {
+            if (constantChimneyFanModeSetMode.get(entry).equals(mode)) {
+                buffer.put(entry.byteValue());
+                foundMode = true;
+                break;
+            }
+        }
+        if (!foundMode) {
+            throw new IllegalArgumentException("Unknown constant value '" + mode + "' for mode");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_MODE_SET command.
      * <p>
@@ -1587,6 +2256,27 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_MODE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Mode Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanModeGet(ByteBuffer buffer) {
+        logger.debug("Creating command message CHIMNEY_FAN_MODE_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_MODE_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_MODE_GET command.
      * <p>
@@ -1640,6 +2330,46 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_MODE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Mode Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param mode {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF
+     *            <li>ON
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanModeReport(ByteBuffer buffer, String mode) {
+        logger.debug("Creating command message CHIMNEY_FAN_MODE_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_MODE_REPORT);
+
+        // Process 'Mode'
+        boolean foundMode = false;
+        for (Integer entry : constantChimneyFanModeReportMode.keySet()) {
+            if (constantChimneyFanModeReportMode.get(entry).equals(mode)) {
+                buffer.put(entry.byteValue());
+                foundMode = true;
+                break;
+            }
+        }
+        if (!foundMode) {
+            throw new IllegalArgumentException("Unknown constant value '" + mode + "' for mode");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_MODE_REPORT command.
      * <p>
@@ -1777,13 +2507,119 @@ public class CommandClassChimneyFanV1 {
     }
 
     /**
-     * Processes a received frame with the CHIMNEY_FAN_SETUP_SET command.
+     * Writes a new message with the CHIMNEY_FAN_SETUP_SET command.
      * <p>
-     * Chimney Fan Setup Set
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
      * <p>
-     * The output data {@link Map} has the following properties -:
+     * Chimney Fan Setup Set
      *
-     * <ul>
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param mode {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF
+     *            <li>ON
+     *            </ul>
+     * @param boostTime {@link Integer}
+     * @param stopTime {@link Integer}
+     * @param minSpeed {@link Integer}
+     * @param scale1 {@link Integer}
+     * @param precision1 {@link Integer}
+     * @param startTemperature {@link byte[]}
+     * @param scale2 {@link Integer}
+     * @param precision2 {@link Integer}
+     * @param stopTemperature {@link byte[]}
+     * @param scale3 {@link Integer}
+     * @param precision3 {@link Integer}
+     * @param alarmTemperatureValue {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanSetupSet(ByteBuffer buffer, String mode, Integer boostTime, Integer stopTime,
+            Integer minSpeed, Integer scale1, Integer precision1, byte[] startTemperature, Integer scale2,
+            Integer precision2, byte[] stopTemperature, Integer scale3, Integer precision3,
+            byte[] alarmTemperatureValue) {
+        logger.debug("Creating command message CHIMNEY_FAN_SETUP_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_SETUP_SET);
+
+        // Process 'Mode'
+        boolean foundMode = false;
+        for (Integer entry : constantChimneyFanSetupSetMode.keySet()) {
+            if (constantChimneyFanSetupSetMode.get(entry).equals(mode)) {
+                buffer.put(entry.byteValue());
+                foundMode = true;
+                break;
+            }
+        }
+        if (!foundMode) {
+            throw new IllegalArgumentException("Unknown constant value '" + mode + "' for mode");
+        }
+
+        // Process 'Boost Time'
+        buffer.put(boostTime.byteValue());
+
+        // Process 'Stop Time'
+        buffer.put(stopTime.byteValue());
+
+        // Process 'Min. Speed'
+        buffer.put(minSpeed.byteValue());
+
+        // Process 'Properties1'
+        // Size 1 is used by 'Start Temperature'
+        int size1 = startTemperature.length;
+        int valProperties1 = 0;
+        valProperties1 |= size1 & 0x07;
+        valProperties1 |= ((scale1 << 3) & 0x18);
+        valProperties1 |= ((precision1 << 5) & 0xE0);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Start Temperature'
+        if (startTemperature != null) {
+            buffer.put(startTemperature);
+        }
+
+        // Process 'Properties2'
+        // Size 2 is used by 'Stop Temperature'
+        int size2 = stopTemperature.length;
+        int valProperties2 = 0;
+        valProperties2 |= size2 & 0x07;
+        valProperties2 |= ((scale2 << 3) & 0x18);
+        valProperties2 |= ((precision2 << 5) & 0xE0);
+        buffer.put((byte) valProperties2);
+
+        // Process 'Stop Temperature'
+        if (stopTemperature != null) {
+            buffer.put(stopTemperature);
+        }
+
+        // Process 'Properties3'
+        // Size 3 is used by 'Alarm Temperature Value'
+        int size3 = alarmTemperatureValue.length;
+        int valProperties3 = 0;
+        valProperties3 |= size3 & 0x07;
+        valProperties3 |= ((scale3 << 3) & 0x18);
+        valProperties3 |= ((precision3 << 5) & 0xE0);
+        buffer.put((byte) valProperties3);
+
+        // Process 'Alarm Temperature Value'
+        if (alarmTemperatureValue != null) {
+            buffer.put(alarmTemperatureValue);
+        }
+
+        return buffer.position() - start;
+    }
+
+    /**
+     * Processes a received frame with the CHIMNEY_FAN_SETUP_SET command.
+     * <p>
+     * Chimney Fan Setup Set
+     * <p>
+     * The output data {@link Map} has the following properties -:
+     *
+     * <ul>
      * <li>MODE {@link String}
      * <li>BOOST_TIME {@link Integer}
      * <li>STOP_TIME {@link Integer}
@@ -1892,6 +2728,27 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_SETUP_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Setup Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanSetupGet(ByteBuffer buffer) {
+        logger.debug("Creating command message CHIMNEY_FAN_SETUP_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_SETUP_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_SETUP_GET command.
      * <p>
@@ -2019,6 +2876,112 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_SETUP_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Setup Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param mode {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF
+     *            <li>ON
+     *            </ul>
+     * @param boostTime {@link Integer}
+     * @param stopTime {@link Integer}
+     * @param minSpeed {@link Integer}
+     * @param scale1 {@link Integer}
+     * @param precision1 {@link Integer}
+     * @param startTemperature {@link byte[]}
+     * @param scale2 {@link Integer}
+     * @param precision2 {@link Integer}
+     * @param stopTemperature {@link byte[]}
+     * @param scale3 {@link Integer}
+     * @param precision3 {@link Integer}
+     * @param alarmTemperatureValue {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanSetupReport(ByteBuffer buffer, String mode, Integer boostTime, Integer stopTime,
+            Integer minSpeed, Integer scale1, Integer precision1, byte[] startTemperature, Integer scale2,
+            Integer precision2, byte[] stopTemperature, Integer scale3, Integer precision3,
+            byte[] alarmTemperatureValue) {
+        logger.debug("Creating command message CHIMNEY_FAN_SETUP_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_SETUP_REPORT);
+
+        // Process 'Mode'
+        boolean foundMode = false;
+        for (Integer entry : constantChimneyFanSetupReportMode.keySet()) {
+            if (constantChimneyFanSetupReportMode.get(entry).equals(mode)) {
+                buffer.put(entry.byteValue());
+                foundMode = true;
+                break;
+            }
+        }
+        if (!foundMode) {
+            throw new IllegalArgumentException("Unknown constant value '" + mode + "' for mode");
+        }
+
+        // Process 'Boost Time'
+        buffer.put(boostTime.byteValue());
+
+        // Process 'Stop Time'
+        buffer.put(stopTime.byteValue());
+
+        // Process 'Min. Speed'
+        buffer.put(minSpeed.byteValue());
+
+        // Process 'Properties1'
+        // Size 1 is used by 'Start Temperature'
+        int size1 = startTemperature.length;
+        int valProperties1 = 0;
+        valProperties1 |= size1 & 0x07;
+        valProperties1 |= ((scale1 << 3) & 0x18);
+        valProperties1 |= ((precision1 << 5) & 0xE0);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Start Temperature'
+        if (startTemperature != null) {
+            buffer.put(startTemperature);
+        }
+
+        // Process 'Properties2'
+        // Size 2 is used by 'Stop Temperature'
+        int size2 = stopTemperature.length;
+        int valProperties2 = 0;
+        valProperties2 |= size2 & 0x07;
+        valProperties2 |= ((scale2 << 3) & 0x18);
+        valProperties2 |= ((precision2 << 5) & 0xE0);
+        buffer.put((byte) valProperties2);
+
+        // Process 'Stop Temperature'
+        if (stopTemperature != null) {
+            buffer.put(stopTemperature);
+        }
+
+        // Process 'Properties3'
+        // Size 3 is used by 'Alarm Temperature Value'
+        int size3 = alarmTemperatureValue.length;
+        int valProperties3 = 0;
+        valProperties3 |= size3 & 0x07;
+        valProperties3 |= ((scale3 << 3) & 0x18);
+        valProperties3 |= ((precision3 << 5) & 0xE0);
+        buffer.put((byte) valProperties3);
+
+        // Process 'Alarm Temperature Value'
+        if (alarmTemperatureValue != null) {
+            buffer.put(alarmTemperatureValue);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_SETUP_REPORT command.
      * <p>
@@ -2136,27 +3099,139 @@ public class CommandClassChimneyFanV1 {
     }
 
     /**
-     * Processes a received frame with the CHIMNEY_FAN_STATUS_GET command.
+     * Writes a new message with the CHIMNEY_FAN_STATUS_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Status Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanStatusGet(ByteBuffer buffer) {
+        logger.debug("Creating command message CHIMNEY_FAN_STATUS_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_STATUS_GET);
+
+        return buffer.position() - start;
+    }
+
+    /**
+     * Processes a received frame with the CHIMNEY_FAN_STATUS_GET command.
+     * <p>
+     * Chimney Fan Status Get
+     *
+     * @param payload the {@link byte[]} payload data to process
+     * @return a {@link Map} of processed response data
+     */
+    public static Map<String, Object> handleChimneyFanStatusGet(byte[] payload) {
+        // Create our response map
+        Map<String, Object> response = new HashMap<String, Object>();
+
+        // Return the map of processed response data;
+        return response;
+    }
+
+
+    /**
+     * Creates a new message with the CHIMNEY_FAN_STATUS_REPORT command.
+     * <p>
+     * Chimney Fan Status Report
+     *
+     * @param state {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF
+     *            <li>BOOST
+     *            <li>EXHAUST
+     *            <li>RELOAD
+     *            <li>VENTING
+     *            <li>STOP
+     *            <li>VENTING_EX
+     *            <li>SERVICE
+     *            <li>SENSOR_FAILURE
+     *            <li>CHIMNEY_FIRE
+     *            <li>EXTERNAL_ALARM
+     *            </ul>
+     * @param speed {@link Integer}
+     * @param service {@link Boolean}
+     * @param externalAlarm {@link Boolean}
+     * @param sensorError {@link Boolean}
+     * @param alarmTemperatureExceeded {@link Boolean}
+     * @param speedChangeEnable {@link Boolean}
+     * @param startTemperatureExceeded {@link Boolean}
+     * @param scale {@link Integer}
+     * @param precision {@link Integer}
+     * @param value {@link byte[]}
+     * @return the {@link byte[]} array with the command to send
+     */
+    static public byte[] getChimneyFanStatusReport(String state, Integer speed, Boolean service, Boolean externalAlarm,
+            Boolean sensorError, Boolean alarmTemperatureExceeded, Boolean speedChangeEnable,
+            Boolean startTemperatureExceeded, Integer scale, Integer precision, byte[] value) {
+        logger.debug("Creating command message CHIMNEY_FAN_STATUS_REPORT version 1");
+
+        ByteArrayOutputStream outputData = new ByteArrayOutputStream();
+        outputData.write(COMMAND_CLASS_KEY);
+        outputData.write(CHIMNEY_FAN_STATUS_REPORT);
+
+        // Process 'State'
+        boolean foundState = false;
+        for (Integer entry : constantChimneyFanStatusReportState.keySet()) {
+            if (constantChimneyFanStatusReportState.get(entry).equals(state)) {
+                outputData.write(entry);
+                foundState = true;
+                break;
+            }
+        }
+        if (!foundState) {
+            throw new IllegalArgumentException("Unknown constant value '" + state + "' for state");
+        }
+
+        // Process 'Speed'
+        outputData.write(speed);
+
+        // Process 'Alarm Status'
+        int valAlarmStatus = 0;
+        valAlarmStatus |= service ? 0x01 : 0;
+        valAlarmStatus |= externalAlarm ? 0x02 : 0;
+        valAlarmStatus |= sensorError ? 0x04 : 0;
+        valAlarmStatus |= alarmTemperatureExceeded ? 0x08 : 0;
+        valAlarmStatus |= speedChangeEnable ? 0x40 : 0;
+        valAlarmStatus |= startTemperatureExceeded ? 0x80 : 0;
+        outputData.write(valAlarmStatus);
+
+        // Process 'Properties1'
+        // Size is used by 'Value'
+        int size = value.length;
+        int valProperties1 = 0;
+        valProperties1 |= size & 0x07;
+        valProperties1 |= ((scale << 3) & 0x18);
+        valProperties1 |= ((precision << 5) & 0xE0);
+        outputData.write(valProperties1);
+
+        // Process 'Value'
+        if (value != null) {
+            try {
+                outputData.write(value);
+            } catch (IOException e) {
+            }
+        }
+
+        return outputData.toByteArray();
+    }
+
+    /**
+     * Writes a new message with the CHIMNEY_FAN_STATUS_REPORT command.
      * <p>
-     * Chimney Fan Status Get
-     *
-     * @param payload the {@link byte[]} payload data to process
-     * @return a {@link Map} of processed response data
-     */
-    public static Map<String, Object> handleChimneyFanStatusGet(byte[] payload) {
-        // Create our response map
-        Map<String, Object> response = new HashMap<String, Object>();
-
-        // Return the map of processed response data;
-        return response;
-    }
-
-
-    /**
-     * Creates a new message with the CHIMNEY_FAN_STATUS_REPORT command.
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
      * <p>
      * Chimney Fan Status Report
      *
+     * @param buffer the {@link ByteBuffer} to write the message to
      * @param state {@link String}
      *            Can be one of the following -:
      *            <ul>
@@ -2182,22 +3257,22 @@ public class CommandClassChimneyFanV1 {
      * @param scale {@link Integer}
      * @param precision {@link Integer}
      * @param value {@link byte[]}
-     * @return the {@link byte[]} array with the command to send
+     * @return the number of bytes written to the buffer
      */
-    static public byte[] getChimneyFanStatusReport(String state, Integer speed, Boolean service, Boolean externalAlarm,
-            Boolean sensorError, Boolean alarmTemperatureExceeded, Boolean speedChangeEnable,
+    static public int getChimneyFanStatusReport(ByteBuffer buffer, String state, Integer speed, Boolean service,
+            Boolean externalAlarm, Boolean sensorError, Boolean alarmTemperatureExceeded, Boolean speedChangeEnable,
             Boolean startTemperatureExceeded, Integer scale, Integer precision, byte[] value) {
         logger.debug("Creating command message CHIMNEY_FAN_STATUS_REPORT version 1");
 
-        ByteArrayOutputStream outputData = new ByteArrayOutputStream();
-        outputData.write(COMMAND_CLASS_KEY);
-        outputData.write(CHIMNEY_FAN_STATUS_REPORT);
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_STATUS_REPORT);
 
         // Process 'State'
         boolean foundState = false;
         for (Integer entry : constantChimneyFanStatusReportState.keySet()) {
             if (constantChimneyFanStatusReportState.get(entry).equals(state)) {
-                outputData.write(entry);
+                buffer.put(entry.byteValue());
                 foundState = true;
                 break;
             }
@@ -2207,7 +3282,7 @@ public class CommandClassChimneyFanV1 {
         }
 
         // Process 'Speed'
-        outputData.write(speed);
+        buffer.put(speed.byteValue());
 
         // Process 'Alarm Status'
         int valAlarmStatus = 0;
@@ -2217,7 +3292,7 @@ public class CommandClassChimneyFanV1 {
         valAlarmStatus |= alarmTemperatureExceeded ? 0x08 : 0;
         valAlarmStatus |= speedChangeEnable ? 0x40 : 0;
         valAlarmStatus |= startTemperatureExceeded ? 0x80 : 0;
-        outputData.write(valAlarmStatus);
+        buffer.put((byte) valAlarmStatus);
 
         // Process 'Properties1'
         // Size is used by 'Value'
@@ -2226,17 +3301,14 @@ public class CommandClassChimneyFanV1 {
         valProperties1 |= size & 0x07;
         valProperties1 |= ((scale << 3) & 0x18);
         valProperties1 |= ((precision << 5) & 0xE0);
-        outputData.write(valProperties1);
+        buffer.put((byte) valProperties1);
 
         // Process 'Value'
         if (value != null) {
-            try {
-                outputData.write(value);
-            } catch (IOException e) {
-            }
+            buffer.put(value);
         }
 
-        return outputData.toByteArray();
+        return buffer.position() - start;
     }
 
     /**
@@ -2342,6 +3414,45 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_ALARM_LOG_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Alarm Log Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param message {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>RESET_LOG
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanAlarmLogSet(ByteBuffer buffer, String message) {
+        logger.debug("Creating command message CHIMNEY_FAN_ALARM_LOG_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_ALARM_LOG_SET);
+
+        // Process 'Message'
+        boolean foundMessage = false;
+        for (Integer entry : constantChimneyFanAlarmLogSetMessage.keySet()) {
+            if (constantChimneyFanAlarmLogSetMessage.get(entry).equals(message)) {
+                buffer.put(entry.byteValue());
+                foundMessage = true;
+                break;
+            }
+        }
+        if (!foundMessage) {
+            throw new IllegalArgumentException("Unknown constant value '" + message + "' for message");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_ALARM_LOG_SET command.
      * <p>
@@ -2385,6 +3496,27 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_ALARM_LOG_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Alarm Log Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanAlarmLogGet(ByteBuffer buffer) {
+        logger.debug("Creating command message CHIMNEY_FAN_ALARM_LOG_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_ALARM_LOG_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_ALARM_LOG_GET command.
      * <p>
@@ -2484,6 +3616,92 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_ALARM_LOG_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Alarm Log Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param externalAlarm1 {@link Boolean}
+     * @param sensorError1 {@link Boolean}
+     * @param alarmTemperatureExceeded1 {@link Boolean}
+     * @param alarmStillActive1 {@link Boolean}
+     * @param externalAlarm2 {@link Boolean}
+     * @param sensorError2 {@link Boolean}
+     * @param alarmTemperatureExceeded2 {@link Boolean}
+     * @param alarmStillActive2 {@link Boolean}
+     * @param externalAlarm3 {@link Boolean}
+     * @param sensorError3 {@link Boolean}
+     * @param alarmTemperatureExceeded3 {@link Boolean}
+     * @param alarmStillActive3 {@link Boolean}
+     * @param externalAlarm4 {@link Boolean}
+     * @param sensorError4 {@link Boolean}
+     * @param alarmTemperatureExceeded4 {@link Boolean}
+     * @param alarmStillActive4 {@link Boolean}
+     * @param externalAlarm5 {@link Boolean}
+     * @param sensorError5 {@link Boolean}
+     * @param alarmTemperatureExceeded5 {@link Boolean}
+     * @param alarmStillActive5 {@link Boolean}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanAlarmLogReport(ByteBuffer buffer, Boolean externalAlarm1, Boolean sensorError1,
+            Boolean alarmTemperatureExceeded1, Boolean alarmStillActive1, Boolean externalAlarm2, Boolean sensorError2,
+            Boolean alarmTemperatureExceeded2, Boolean alarmStillActive2, Boolean externalAlarm3, Boolean sensorError3,
+            Boolean alarmTemperatureExceeded3, Boolean alarmStillActive3, Boolean externalAlarm4, Boolean sensorError4,
+            Boolean alarmTemperatureExceeded4, Boolean alarmStillActive4, Boolean externalAlarm5, Boolean sensorError5,
+            Boolean alarmTemperatureExceeded5, Boolean alarmStillActive5) {
+        logger.debug("Creating command message CHIMNEY_FAN_ALARM_LOG_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_ALARM_LOG_REPORT);
+
+        // Process 'Alarm Event 1'
+        int valAlarmEvent1 = 0;
+        valAlarmEvent1 |= externalAlarm1 ? 0x02 : 0;
+        valAlarmEvent1 |= sensorError1 ? 0x04 : 0;
+        valAlarmEvent1 |= alarmTemperatureExceeded1 ? 0x08 : 0;
+        valAlarmEvent1 |= alarmStillActive1 ? 0x80 : 0;
+        buffer.put((byte) valAlarmEvent1);
+
+        // Process 'Alarm Event 2'
+        int valAlarmEvent2 = 0;
+        valAlarmEvent2 |= externalAlarm2 ? 0x02 : 0;
+        valAlarmEvent2 |= sensorError2 ? 0x04 : 0;
+        valAlarmEvent2 |= alarmTemperatureExceeded2 ? 0x08 : 0;
+        valAlarmEvent2 |= alarmStillActive2 ? 0x80 : 0;
+        buffer.put((byte) valAlarmEvent2);
+
+        // Process 'Alarm Event 3'
+        int valAlarmEvent3 = 0;
+        valAlarmEvent3 |= externalAlarm3 ? 0x02 : 0;
+        valAlarmEvent3 |= sensorError3 ? 0x04 : 0;
+        valAlarmEvent3 |= alarmTemperatureExceeded3 ? 0x08 : 0;
+        valAlarmEvent3 |= alarmStillActive3 ? 0x80 : 0;
+        buffer.put((byte) valAlarmEvent3);
+
+        // Process 'Alarm Event 4'
+        int valAlarmEvent4 = 0;
+        valAlarmEvent4 |= externalAlarm4 ? 0x02 : 0;
+        valAlarmEvent4 |= sensorError4 ? 0x04 : 0;
+        valAlarmEvent4 |= alarmTemperatureExceeded4 ? 0x08 : 0;
+        valAlarmEvent4 |= alarmStillActive4 ? 0x80 : 0;
+        buffer.put((byte) valAlarmEvent4);
+
+        // Process 'Alarm Event 5'
+        int valAlarmEvent5 = 0;
+        valAlarmEvent5 |= externalAlarm5 ? 0x02 : 0;
+        valAlarmEvent5 |= sensorError5 ? 0x04 : 0;
+        valAlarmEvent5 |= alarmTemperatureExceeded5 ? 0x08 : 0;
+        valAlarmEvent5 |= alarmStillActive5 ? 0x80 : 0;
+        buffer.put((byte) valAlarmEvent5);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_ALARM_LOG_REPORT command.
      * <p>
@@ -2584,6 +3802,38 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_ALARM_STATUS_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Alarm Status Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param acknowledgeExternalAlarm {@link Boolean}
+     * @param acknowledgeSensorError {@link Boolean}
+     * @param acknowledgeAlarmTemperatureExceeded {@link Boolean}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanAlarmStatusSet(ByteBuffer buffer, Boolean acknowledgeExternalAlarm,
+            Boolean acknowledgeSensorError, Boolean acknowledgeAlarmTemperatureExceeded) {
+        logger.debug("Creating command message CHIMNEY_FAN_ALARM_STATUS_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_ALARM_STATUS_SET);
+
+        // Process 'Message'
+        int valMessage = 0;
+        valMessage |= acknowledgeExternalAlarm ? 0x02 : 0;
+        valMessage |= acknowledgeSensorError ? 0x04 : 0;
+        valMessage |= acknowledgeAlarmTemperatureExceeded ? 0x08 : 0;
+        buffer.put((byte) valMessage);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_ALARM_STATUS_SET command.
      * <p>
@@ -2631,6 +3881,27 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_ALARM_STATUS_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Alarm Status Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanAlarmStatusGet(ByteBuffer buffer) {
+        logger.debug("Creating command message CHIMNEY_FAN_ALARM_STATUS_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_ALARM_STATUS_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_ALARM_STATUS_GET command.
      * <p>
@@ -2682,6 +3953,45 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_ALARM_STATUS_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Alarm Status Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param service {@link Boolean}
+     * @param externalAlarm {@link Boolean}
+     * @param sensorError {@link Boolean}
+     * @param alarmTemperatureExceeded {@link Boolean}
+     * @param speedChangeEnable {@link Boolean}
+     * @param startTemperatureExceeded {@link Boolean}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanAlarmStatusReport(ByteBuffer buffer, Boolean service, Boolean externalAlarm,
+            Boolean sensorError, Boolean alarmTemperatureExceeded, Boolean speedChangeEnable,
+            Boolean startTemperatureExceeded) {
+        logger.debug("Creating command message CHIMNEY_FAN_ALARM_STATUS_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_ALARM_STATUS_REPORT);
+
+        // Process 'Alarm Status'
+        int valAlarmStatus = 0;
+        valAlarmStatus |= service ? 0x01 : 0;
+        valAlarmStatus |= externalAlarm ? 0x02 : 0;
+        valAlarmStatus |= sensorError ? 0x04 : 0;
+        valAlarmStatus |= alarmTemperatureExceeded ? 0x08 : 0;
+        valAlarmStatus |= speedChangeEnable ? 0x40 : 0;
+        valAlarmStatus |= startTemperatureExceeded ? 0x80 : 0;
+        buffer.put((byte) valAlarmStatus);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_ALARM_STATUS_REPORT command.
      * <p>
@@ -2739,6 +4049,31 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_MIN_SPEED_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Min Speed Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param minSpeed {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanMinSpeedSet(ByteBuffer buffer, Integer minSpeed) {
+        logger.debug("Creating command message CHIMNEY_FAN_MIN_SPEED_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_MIN_SPEED_SET);
+
+        // Process 'Min Speed'
+        buffer.put(minSpeed.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_MIN_SPEED_SET command.
      * <p>
@@ -2782,6 +4117,27 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_MIN_SPEED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Min Speed Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanMinSpeedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message CHIMNEY_FAN_MIN_SPEED_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_MIN_SPEED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_MIN_SPEED_GET command.
      * <p>
@@ -2820,6 +4176,31 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_MIN_SPEED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Min Speed Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param minSpeed {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanMinSpeedReport(ByteBuffer buffer, Integer minSpeed) {
+        logger.debug("Creating command message CHIMNEY_FAN_MIN_SPEED_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_MIN_SPEED_REPORT);
+
+        // Process 'Min Speed'
+        buffer.put(minSpeed.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_MIN_SPEED_REPORT command.
      * <p>
@@ -2863,6 +4244,27 @@ public class CommandClassChimneyFanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CHIMNEY_FAN_DEFAULT_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Chimney Fan Default Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getChimneyFanDefaultSet(ByteBuffer buffer) {
+        logger.debug("Creating command message CHIMNEY_FAN_DEFAULT_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CHIMNEY_FAN_DEFAULT_SET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CHIMNEY_FAN_DEFAULT_SET command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -131,6 +132,49 @@ public class CommandClassClimateControlScheduleV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param weekday {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleSet(ByteBuffer buffer, Integer weekday) {
+        logger.debug("Creating command message SCHEDULE_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_SET);
+
+        // Process 'Properties1'
+        buffer.put((byte) (weekday & 0x07));
+
+        // Process 'Switchpoint 0'
+
+        // Process 'Switchpoint 1'
+
+        // Process 'Switchpoint 2'
+
+        // Process 'Switchpoint 3'
+
+        // Process 'Switchpoint 4'
+
+        // Process 'Switchpoint 5'
+
+        // Process 'Switchpoint 6'
+
+        // Process 'Switchpoint 7'
+
+        // Process 'Switchpoint 8'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_SET command.
      * <p>
@@ -196,6 +240,31 @@ public class CommandClassClimateControlScheduleV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param weekday {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleGet(ByteBuffer buffer, Integer weekday) {
+        logger.debug("Creating command message SCHEDULE_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_GET);
+
+        // Process 'Properties1'
+        buffer.put((byte) (weekday & 0x07));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_GET command.
      * <p>
@@ -261,6 +330,49 @@ public class CommandClassClimateControlScheduleV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param weekday {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleReport(ByteBuffer buffer, Integer weekday) {
+        logger.debug("Creating command message SCHEDULE_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_REPORT);
+
+        // Process 'Properties1'
+        buffer.put((byte) (weekday & 0x07));
+
+        // Process 'Switchpoint 0'
+
+        // Process 'Switchpoint 1'
+
+        // Process 'Switchpoint 2'
+
+        // Process 'Switchpoint 3'
+
+        // Process 'Switchpoint 4'
+
+        // Process 'Switchpoint 5'
+
+        // Process 'Switchpoint 6'
+
+        // Process 'Switchpoint 7'
+
+        // Process 'Switchpoint 8'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_REPORT command.
      * <p>
@@ -322,6 +434,27 @@ public class CommandClassClimateControlScheduleV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_CHANGED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Changed Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleChangedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message SCHEDULE_CHANGED_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_CHANGED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_CHANGED_GET command.
      * <p>
@@ -360,6 +493,31 @@ public class CommandClassClimateControlScheduleV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_CHANGED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Changed Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param changecounter {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleChangedReport(ByteBuffer buffer, Integer changecounter) {
+        logger.debug("Creating command message SCHEDULE_CHANGED_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_CHANGED_REPORT);
+
+        // Process 'ChangeCounter'
+        buffer.put(changecounter.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_CHANGED_REPORT command.
      * <p>
@@ -427,6 +585,51 @@ public class CommandClassClimateControlScheduleV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_OVERRIDE_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Override Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param overrideType {@link Integer}
+     * @param overrideState {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NO_OVERRIDE
+     *            <li>TEMPORARY_OVERRIDE
+     *            <li>PERMANENT_OVERRIDE
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleOverrideSet(ByteBuffer buffer, Integer overrideType, String overrideState) {
+        logger.debug("Creating command message SCHEDULE_OVERRIDE_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_OVERRIDE_SET);
+
+        // Process 'Properties1'
+        buffer.put((byte) (overrideType & 0x03));
+
+        // Process 'Override State'
+        boolean foundOverrideState = false;
+        for (Integer entry : constantScheduleOverrideSetOverrideState.keySet()) {
+            if (constantScheduleOverrideSetOverrideState.get(entry).equals(overrideState)) {
+                buffer.put(entry.byteValue());
+                foundOverrideState = true;
+                break;
+            }
+        }
+        if (!foundOverrideState) {
+            throw new IllegalArgumentException("Unknown constant value '" + overrideState + "' for overrideState");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_OVERRIDE_SET command.
      * <p>
@@ -474,6 +677,27 @@ public class CommandClassClimateControlScheduleV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_OVERRIDE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Override Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleOverrideGet(ByteBuffer buffer) {
+        logger.debug("Creating command message SCHEDULE_OVERRIDE_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_OVERRIDE_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_OVERRIDE_GET command.
      * <p>
@@ -532,6 +756,51 @@ public class CommandClassClimateControlScheduleV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_OVERRIDE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Override Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param overrideType {@link Integer}
+     * @param overrideState {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NO_OVERRIDE
+     *            <li>TEMPORARY_OVERRIDE
+     *            <li>PERMANENT_OVERRIDE
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleOverrideReport(ByteBuffer buffer, Integer overrideType, String overrideState) {
+        logger.debug("Creating command message SCHEDULE_OVERRIDE_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_OVERRIDE_REPORT);
+
+        // Process 'Properties1'
+        buffer.put((byte) (overrideType & 0x03));
+
+        // Process 'Override State'
+        boolean foundOverrideState = false;
+        for (Integer entry : constantScheduleOverrideReportOverrideState.keySet()) {
+            if (constantScheduleOverrideReportOverrideState.get(entry).equals(overrideState)) {
+                buffer.put(entry.byteValue());
+                foundOverrideState = true;
+                break;
+            }
+        }
+        if (!foundOverrideState) {
+            throw new IllegalArgumentException("Unknown constant value '" + overrideState + "' for overrideState");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_OVERRIDE_REPORT command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -79,6 +80,39 @@ public class CommandClassClockV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CLOCK_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Clock Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param hour {@link Integer}
+     * @param weekday {@link Integer}
+     * @param minute {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getClockSet(ByteBuffer buffer, Integer hour, Integer weekday, Integer minute) {
+        logger.debug("Creating command message CLOCK_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CLOCK_SET);
+
+        // Process 'Level'
+        int valLevel = 0;
+        valLevel |= hour & 0x1F;
+        valLevel |= ((weekday << 5) & 0xE0);
+        buffer.put((byte) valLevel);
+
+        // Process 'Minute'
+        buffer.put(minute.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CLOCK_SET command.
      * <p>
@@ -128,6 +162,27 @@ public class CommandClassClockV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CLOCK_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Clock Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getClockGet(ByteBuffer buffer) {
+        logger.debug("Creating command message CLOCK_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CLOCK_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CLOCK_GET command.
      * <p>
@@ -174,6 +229,39 @@ public class CommandClassClockV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CLOCK_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Clock Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param hour {@link Integer}
+     * @param weekday {@link Integer}
+     * @param minute {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getClockReport(ByteBuffer buffer, Integer hour, Integer weekday, Integer minute) {
+        logger.debug("Creating command message CLOCK_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CLOCK_REPORT);
+
+        // Process 'Level'
+        int valLevel = 0;
+        valLevel |= hour & 0x1F;
+        valLevel |= ((weekday << 5) & 0xE0);
+        buffer.put((byte) valLevel);
+
+        // Process 'Minute'
+        buffer.put(minute.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CLOCK_REPORT command.
      * <p>
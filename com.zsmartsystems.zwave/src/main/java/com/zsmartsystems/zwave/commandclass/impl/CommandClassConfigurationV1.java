@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -100,6 +101,47 @@ public class CommandClassConfigurationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterNumber {@link Integer}
+     * @param defaultValue {@link Boolean}
+     * @param configurationValue {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationSet(ByteBuffer buffer, Integer parameterNumber, Boolean defaultValue,
+            byte[] configurationValue) {
+        logger.debug("Creating command message CONFIGURATION_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_SET);
+
+        // Process 'Parameter Number'
+        buffer.put(parameterNumber.byteValue());
+
+        // Process 'Level'
+        // Size is used by 'Configuration Value'
+        int size = configurationValue.length;
+        int valLevel = 0;
+        valLevel |= size & 0x07;
+        valLevel |= defaultValue ? 0x80 : 0;
+        buffer.put((byte) valLevel);
+
+        // Process 'Configuration Value'
+        if (configurationValue != null) {
+            buffer.put(configurationValue);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_SET command.
      * <p>
@@ -167,6 +209,31 @@ public class CommandClassConfigurationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterNumber {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationGet(ByteBuffer buffer, Integer parameterNumber) {
+        logger.debug("Creating command message CONFIGURATION_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_GET);
+
+        // Process 'Parameter Number'
+        buffer.put(parameterNumber.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_GET command.
      * <p>
@@ -228,6 +295,42 @@ public class CommandClassConfigurationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterNumber {@link Integer}
+     * @param configurationValue {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationReport(ByteBuffer buffer, Integer parameterNumber, byte[] configurationValue) {
+        logger.debug("Creating command message CONFIGURATION_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_REPORT);
+
+        // Process 'Parameter Number'
+        buffer.put(parameterNumber.byteValue());
+
+        // Process 'Level'
+        // Size is used by 'Configuration Value'
+        int size = configurationValue.length;
+        buffer.put((byte) (size & 0x07));
+
+        // Process 'Configuration Value'
+        if (configurationValue != null) {
+            buffer.put(configurationValue);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_REPORT command.
      * <p>
@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -132,6 +133,47 @@ public class CommandClassConfigurationV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterNumber {@link Integer}
+     * @param defaultValue {@link Boolean}
+     * @param configurationValue {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationSet(ByteBuffer buffer, Integer parameterNumber, Boolean defaultValue,
+            byte[] configurationValue) {
+        logger.debug("Creating command message CONFIGURATION_SET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_SET);
+
+        // Process 'Parameter Number'
+        buffer.put(parameterNumber.byteValue());
+
+        // Process 'Level'
+        // Size is used by 'Configuration Value'
+        int size = configurationValue.length;
+        int valLevel = 0;
+        valLevel |= size & 0x07;
+        valLevel |= defaultValue ? 0x80 : 0;
+        buffer.put((byte) valLevel);
+
+        // Process 'Configuration Value'
+        if (configurationValue != null) {
+            buffer.put(configurationValue);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_SET command.
      * <p>
@@ -199,6 +241,31 @@ public class CommandClassConfigurationV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterNumber {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationGet(ByteBuffer buffer, Integer parameterNumber) {
+        logger.debug("Creating command message CONFIGURATION_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_GET);
+
+        // Process 'Parameter Number'
+        buffer.put(parameterNumber.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_GET command.
      * <p>
@@ -260,6 +327,42 @@ public class CommandClassConfigurationV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterNumber {@link Integer}
+     * @param configurationValue {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationReport(ByteBuffer buffer, Integer parameterNumber, byte[] configurationValue) {
+        logger.debug("Creating command message CONFIGURATION_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_REPORT);
+
+        // Process 'Parameter Number'
+        buffer.put(parameterNumber.byteValue());
+
+        // Process 'Level'
+        // Size is used by 'Configuration Value'
+        int size = configurationValue.length;
+        buffer.put((byte) (size & 0x07));
+
+        // Process 'Configuration Value'
+        if (configurationValue != null) {
+            buffer.put(configurationValue);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_REPORT command.
      * <p>
@@ -343,6 +446,49 @@ public class CommandClassConfigurationV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_BULK_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Bulk Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterOffset {@link Integer}
+     * @param numberOfParameters {@link Integer}
+     * @param size {@link Integer}
+     * @param handshake {@link Boolean}
+     * @param defaultValue {@link Boolean}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationBulkSet(ByteBuffer buffer, Integer parameterOffset, Integer numberOfParameters,
+            Integer size, Boolean handshake, Boolean defaultValue) {
+        logger.debug("Creating command message CONFIGURATION_BULK_SET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_BULK_SET);
+
+        // Process 'Parameter Offset'
+        buffer.put((byte) ((parameterOffset >> 8) & 0xff));
+        buffer.put((byte) (parameterOffset & 0xff));
+
+        // Process 'Number of Parameters'
+        buffer.put(numberOfParameters.byteValue());
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= size & 0x07;
+        valProperties1 |= handshake ? 0x40 : 0;
+        valProperties1 |= defaultValue ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'vg'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_BULK_SET command.
      * <p>
@@ -442,6 +588,36 @@ public class CommandClassConfigurationV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_BULK_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Bulk Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterOffset {@link Integer}
+     * @param numberOfParameters {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationBulkGet(ByteBuffer buffer, Integer parameterOffset, Integer numberOfParameters) {
+        logger.debug("Creating command message CONFIGURATION_BULK_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_BULK_GET);
+
+        // Process 'Parameter Offset'
+        buffer.put((byte) ((parameterOffset >> 8) & 0xff));
+        buffer.put((byte) (parameterOffset & 0xff));
+
+        // Process 'Number of Parameters'
+        buffer.put(numberOfParameters.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_BULK_GET command.
      * <p>
@@ -515,6 +691,53 @@ public class CommandClassConfigurationV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_BULK_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Bulk Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterOffset {@link Integer}
+     * @param numberOfParameters {@link Integer}
+     * @param reportsToFollow {@link Integer}
+     * @param size {@link Integer}
+     * @param handshake {@link Boolean}
+     * @param defaultValue {@link Boolean}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationBulkReport(ByteBuffer buffer, Integer parameterOffset, Integer numberOfParameters,
+            Integer reportsToFollow, Integer size, Boolean handshake, Boolean defaultValue) {
+        logger.debug("Creating command message CONFIGURATION_BULK_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_BULK_REPORT);
+
+        // Process 'Parameter Offset'
+        buffer.put((byte) ((parameterOffset >> 8) & 0xff));
+        buffer.put((byte) (parameterOffset & 0xff));
+
+        // Process 'Number of Parameters'
+        buffer.put(numberOfParameters.byteValue());
+
+        // Process 'Reports to follow'
+        buffer.put(reportsToFollow.byteValue());
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= size & 0x07;
+        valProperties1 |= handshake ? 0x40 : 0;
+        valProperties1 |= defaultValue ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'vg'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_BULK_REPORT command.
      * <p>
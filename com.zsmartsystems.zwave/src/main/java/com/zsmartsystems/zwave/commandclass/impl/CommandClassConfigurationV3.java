@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -156,6 +157,47 @@ public class CommandClassConfigurationV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterNumber {@link Integer}
+     * @param defaultValue {@link Boolean}
+     * @param configurationValue {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationSet(ByteBuffer buffer, Integer parameterNumber, Boolean defaultValue,
+            byte[] configurationValue) {
+        logger.debug("Creating command message CONFIGURATION_SET version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_SET);
+
+        // Process 'Parameter Number'
+        buffer.put(parameterNumber.byteValue());
+
+        // Process 'Level'
+        // Size is used by 'Configuration Value'
+        int size = configurationValue.length;
+        int valLevel = 0;
+        valLevel |= size & 0x07;
+        valLevel |= defaultValue ? 0x80 : 0;
+        buffer.put((byte) valLevel);
+
+        // Process 'Configuration Value'
+        if (configurationValue != null) {
+            buffer.put(configurationValue);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_SET command.
      * <p>
@@ -223,6 +265,31 @@ public class CommandClassConfigurationV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterNumber {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationGet(ByteBuffer buffer, Integer parameterNumber) {
+        logger.debug("Creating command message CONFIGURATION_GET version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_GET);
+
+        // Process 'Parameter Number'
+        buffer.put(parameterNumber.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_GET command.
      * <p>
@@ -284,6 +351,42 @@ public class CommandClassConfigurationV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterNumber {@link Integer}
+     * @param configurationValue {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationReport(ByteBuffer buffer, Integer parameterNumber, byte[] configurationValue) {
+        logger.debug("Creating command message CONFIGURATION_REPORT version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_REPORT);
+
+        // Process 'Parameter Number'
+        buffer.put(parameterNumber.byteValue());
+
+        // Process 'Level'
+        // Size is used by 'Configuration Value'
+        int size = configurationValue.length;
+        buffer.put((byte) (size & 0x07));
+
+        // Process 'Configuration Value'
+        if (configurationValue != null) {
+            buffer.put(configurationValue);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_REPORT command.
      * <p>
@@ -367,6 +470,49 @@ public class CommandClassConfigurationV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_BULK_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Bulk Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterOffset {@link Integer}
+     * @param numberOfParameters {@link Integer}
+     * @param size {@link Integer}
+     * @param handshake {@link Boolean}
+     * @param defaultValue {@link Boolean}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationBulkSet(ByteBuffer buffer, Integer parameterOffset, Integer numberOfParameters,
+            Integer size, Boolean handshake, Boolean defaultValue) {
+        logger.debug("Creating command message CONFIGURATION_BULK_SET version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_BULK_SET);
+
+        // Process 'Parameter Offset'
+        buffer.put((byte) ((parameterOffset >> 8) & 0xff));
+        buffer.put((byte) (parameterOffset & 0xff));
+
+        // Process 'Number of Parameters'
+        buffer.put(numberOfParameters.byteValue());
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= size & 0x07;
+        valProperties1 |= handshake ? 0x40 : 0;
+        valProperties1 |= defaultValue ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'vg'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_BULK_SET command.
      * <p>
@@ -466,6 +612,36 @@ public class CommandClassConfigurationV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_BULK_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Bulk Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterOffset {@link Integer}
+     * @param numberOfParameters {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationBulkGet(ByteBuffer buffer, Integer parameterOffset, Integer numberOfParameters) {
+        logger.debug("Creating command message CONFIGURATION_BULK_GET version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_BULK_GET);
+
+        // Process 'Parameter Offset'
+        buffer.put((byte) ((parameterOffset >> 8) & 0xff));
+        buffer.put((byte) (parameterOffset & 0xff));
+
+        // Process 'Number of Parameters'
+        buffer.put(numberOfParameters.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_BULK_GET command.
      * <p>
@@ -539,6 +715,53 @@ public class CommandClassConfigurationV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_BULK_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Bulk Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterOffset {@link Integer}
+     * @param numberOfParameters {@link Integer}
+     * @param reportsToFollow {@link Integer}
+     * @param size {@link Integer}
+     * @param handshake {@link Boolean}
+     * @param defaultValue {@link Boolean}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationBulkReport(ByteBuffer buffer, Integer parameterOffset, Integer numberOfParameters,
+            Integer reportsToFollow, Integer size, Boolean handshake, Boolean defaultValue) {
+        logger.debug("Creating command message CONFIGURATION_BULK_REPORT version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_BULK_REPORT);
+
+        // Process 'Parameter Offset'
+        buffer.put((byte) ((parameterOffset >> 8) & 0xff));
+        buffer.put((byte) (parameterOffset & 0xff));
+
+        // Process 'Number of Parameters'
+        buffer.put(numberOfParameters.byteValue());
+
+        // Process 'Reports to follow'
+        buffer.put(reportsToFollow.byteValue());
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= size & 0x07;
+        valProperties1 |= handshake ? 0x40 : 0;
+        valProperties1 |= defaultValue ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'vg'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_BULK_REPORT command.
      * <p>
@@ -639,6 +862,32 @@ public class CommandClassConfigurationV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_NAME_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Name Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterNumber {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationNameGet(ByteBuffer buffer, Integer parameterNumber) {
+        logger.debug("Creating command message CONFIGURATION_NAME_GET version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_NAME_GET);
+
+        // Process 'Parameter Number'
+        buffer.put((byte) ((parameterNumber >> 8) & 0xff));
+        buffer.put((byte) (parameterNumber & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_NAME_GET command.
      * <p>
@@ -700,6 +949,43 @@ public class CommandClassConfigurationV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_NAME_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Name Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterNumber {@link Integer}
+     * @param reportsToFollow {@link Integer}
+     * @param name {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationNameReport(ByteBuffer buffer, Integer parameterNumber, Integer reportsToFollow,
+            byte[] name) {
+        logger.debug("Creating command message CONFIGURATION_NAME_REPORT version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_NAME_REPORT);
+
+        // Process 'Parameter Number'
+        buffer.put((byte) ((parameterNumber >> 8) & 0xff));
+        buffer.put((byte) (parameterNumber & 0xff));
+
+        // Process 'Reports to follow'
+        buffer.put(reportsToFollow.byteValue());
+
+        // Process 'Name'
+        if (name != null) {
+            buffer.put(name);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_NAME_REPORT command.
      * <p>
@@ -766,6 +1052,32 @@ public class CommandClassConfigurationV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_INFO_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Info Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterNumber {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationInfoGet(ByteBuffer buffer, Integer parameterNumber) {
+        logger.debug("Creating command message CONFIGURATION_INFO_GET version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_INFO_GET);
+
+        // Process 'Parameter Number'
+        buffer.put((byte) ((parameterNumber >> 8) & 0xff));
+        buffer.put((byte) (parameterNumber & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_INFO_GET command.
      * <p>
@@ -827,6 +1139,43 @@ public class CommandClassConfigurationV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_INFO_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Info Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterNumber {@link Integer}
+     * @param reportsToFollow {@link Integer}
+     * @param info {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationInfoReport(ByteBuffer buffer, Integer parameterNumber, Integer reportsToFollow,
+            byte[] info) {
+        logger.debug("Creating command message CONFIGURATION_INFO_REPORT version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_INFO_REPORT);
+
+        // Process 'Parameter Number'
+        buffer.put((byte) ((parameterNumber >> 8) & 0xff));
+        buffer.put((byte) (parameterNumber & 0xff));
+
+        // Process 'Reports to follow'
+        buffer.put(reportsToFollow.byteValue());
+
+        // Process 'Info'
+        if (info != null) {
+            buffer.put(info);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_INFO_REPORT command.
      * <p>
@@ -893,6 +1242,32 @@ public class CommandClassConfigurationV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_PROPERTIES_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Properties Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterNumber {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationPropertiesGet(ByteBuffer buffer, Integer parameterNumber) {
+        logger.debug("Creating command message CONFIGURATION_PROPERTIES_GET version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_PROPERTIES_GET);
+
+        // Process 'Parameter Number'
+        buffer.put((byte) ((parameterNumber >> 8) & 0xff));
+        buffer.put((byte) (parameterNumber & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_PROPERTIES_GET command.
      * <p>
@@ -1000,6 +1375,82 @@ public class CommandClassConfigurationV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_PROPERTIES_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Properties Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterNumber {@link Integer}
+     * @param format {@link String}
+     * @param minValue {@link byte[]}
+     * @param maxValue {@link byte[]}
+     * @param defaultValue {@link byte[]}
+     * @param nextParameterNumber {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationPropertiesReport(ByteBuffer buffer, Integer parameterNumber, String format,
+            byte[] minValue, byte[] maxValue, byte[] defaultValue, Integer nextParameterNumber) {
+        logger.debug("Creating command message CONFIGURATION_PROPERTIES_REPORT version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_PROPERTIES_REPORT);
+
+        // Process 'Parameter Number'
+        buffer.put((byte) ((parameterNumber >> 8) & 0xff));
+        buffer.put((byte) (parameterNumber & 0xff));
+
+        // Process 'Properties1'
+        // Size is used by 'Min Value' and 'Max Value' and 'Default Value'
+        int size = minValue.length;
+        int valProperties1 = 0;
+        valProperties1 |= size & 0x07;
+        int valformat;
+        switch (format) {
+            case "SIGNED_INTEGER":
+                valformat = 0;
+                break;
+            case "UNSIGNED_INTEGER":
+                valformat = 1;
+                break;
+            case "ENUMERATED":
+                valformat = 2;
+                break;
+            case "BIT_FIELD":
+                valformat = 3;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for format: " + format);
+        }
+        valProperties1 |= valformat >> 3 & 0x38;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Min Value'
+        if (minValue != null) {
+            buffer.put(minValue);
+        }
+
+        // Process 'Max Value'
+        if (maxValue != null) {
+            buffer.put(maxValue);
+        }
+
+        // Process 'Default Value'
+        if (defaultValue != null) {
+            buffer.put(defaultValue);
+        }
+
+        // Process 'Next Parameter Number'
+        buffer.put((byte) ((nextParameterNumber >> 8) & 0xff));
+        buffer.put((byte) (nextParameterNumber & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_PROPERTIES_REPORT command.
      * <p>
@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -156,6 +157,27 @@ public class CommandClassConfigurationV4 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_DEFAULT_RESET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Default Reset
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationDefaultReset(ByteBuffer buffer) {
+        logger.debug("Creating command message CONFIGURATION_DEFAULT_RESET version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_DEFAULT_RESET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_DEFAULT_RESET command.
      * <p>
@@ -212,6 +234,47 @@ public class CommandClassConfigurationV4 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterNumber {@link Integer}
+     * @param defaultValue {@link Boolean}
+     * @param configurationValue {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationSet(ByteBuffer buffer, Integer parameterNumber, Boolean defaultValue,
+            byte[] configurationValue) {
+        logger.debug("Creating command message CONFIGURATION_SET version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_SET);
+
+        // Process 'Parameter Number'
+        buffer.put(parameterNumber.byteValue());
+
+        // Process 'Level'
+        // Size is used by 'Configuration Value'
+        int size = configurationValue.length;
+        int valLevel = 0;
+        valLevel |= size & 0x07;
+        valLevel |= defaultValue ? 0x80 : 0;
+        buffer.put((byte) valLevel);
+
+        // Process 'Configuration Value'
+        if (configurationValue != null) {
+            buffer.put(configurationValue);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_SET command.
      * <p>
@@ -279,6 +342,31 @@ public class CommandClassConfigurationV4 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterNumber {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationGet(ByteBuffer buffer, Integer parameterNumber) {
+        logger.debug("Creating command message CONFIGURATION_GET version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_GET);
+
+        // Process 'Parameter Number'
+        buffer.put(parameterNumber.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_GET command.
      * <p>
@@ -340,6 +428,42 @@ public class CommandClassConfigurationV4 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterNumber {@link Integer}
+     * @param configurationValue {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationReport(ByteBuffer buffer, Integer parameterNumber, byte[] configurationValue) {
+        logger.debug("Creating command message CONFIGURATION_REPORT version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_REPORT);
+
+        // Process 'Parameter Number'
+        buffer.put(parameterNumber.byteValue());
+
+        // Process 'Level'
+        // Size is used by 'Configuration Value'
+        int size = configurationValue.length;
+        buffer.put((byte) (size & 0x07));
+
+        // Process 'Configuration Value'
+        if (configurationValue != null) {
+            buffer.put(configurationValue);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_REPORT command.
      * <p>
@@ -423,6 +547,49 @@ public class CommandClassConfigurationV4 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_BULK_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Bulk Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterOffset {@link Integer}
+     * @param numberOfParameters {@link Integer}
+     * @param size {@link Integer}
+     * @param handshake {@link Boolean}
+     * @param defaultValue {@link Boolean}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationBulkSet(ByteBuffer buffer, Integer parameterOffset, Integer numberOfParameters,
+            Integer size, Boolean handshake, Boolean defaultValue) {
+        logger.debug("Creating command message CONFIGURATION_BULK_SET version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_BULK_SET);
+
+        // Process 'Parameter Offset'
+        buffer.put((byte) ((parameterOffset >> 8) & 0xff));
+        buffer.put((byte) (parameterOffset & 0xff));
+
+        // Process 'Number of Parameters'
+        buffer.put(numberOfParameters.byteValue());
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= size & 0x07;
+        valProperties1 |= handshake ? 0x40 : 0;
+        valProperties1 |= defaultValue ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'vg'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_BULK_SET command.
      * <p>
@@ -522,6 +689,36 @@ public class CommandClassConfigurationV4 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_BULK_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Bulk Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterOffset {@link Integer}
+     * @param numberOfParameters {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationBulkGet(ByteBuffer buffer, Integer parameterOffset, Integer numberOfParameters) {
+        logger.debug("Creating command message CONFIGURATION_BULK_GET version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_BULK_GET);
+
+        // Process 'Parameter Offset'
+        buffer.put((byte) ((parameterOffset >> 8) & 0xff));
+        buffer.put((byte) (parameterOffset & 0xff));
+
+        // Process 'Number of Parameters'
+        buffer.put(numberOfParameters.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_BULK_GET command.
      * <p>
@@ -595,6 +792,53 @@ public class CommandClassConfigurationV4 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_BULK_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Bulk Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterOffset {@link Integer}
+     * @param numberOfParameters {@link Integer}
+     * @param reportsToFollow {@link Integer}
+     * @param size {@link Integer}
+     * @param handshake {@link Boolean}
+     * @param defaultValue {@link Boolean}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationBulkReport(ByteBuffer buffer, Integer parameterOffset, Integer numberOfParameters,
+            Integer reportsToFollow, Integer size, Boolean handshake, Boolean defaultValue) {
+        logger.debug("Creating command message CONFIGURATION_BULK_REPORT version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_BULK_REPORT);
+
+        // Process 'Parameter Offset'
+        buffer.put((byte) ((parameterOffset >> 8) & 0xff));
+        buffer.put((byte) (parameterOffset & 0xff));
+
+        // Process 'Number of Parameters'
+        buffer.put(numberOfParameters.byteValue());
+
+        // Process 'Reports to follow'
+        buffer.put(reportsToFollow.byteValue());
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= size & 0x07;
+        valProperties1 |= handshake ? 0x40 : 0;
+        valProperties1 |= defaultValue ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'vg'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_BULK_REPORT command.
      * <p>
@@ -695,6 +939,32 @@ public class CommandClassConfigurationV4 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_NAME_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Name Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterNumber {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationNameGet(ByteBuffer buffer, Integer parameterNumber) {
+        logger.debug("Creating command message CONFIGURATION_NAME_GET version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_NAME_GET);
+
+        // Process 'Parameter Number'
+        buffer.put((byte) ((parameterNumber >> 8) & 0xff));
+        buffer.put((byte) (parameterNumber & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_NAME_GET command.
      * <p>
@@ -756,6 +1026,43 @@ public class CommandClassConfigurationV4 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_NAME_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Name Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterNumber {@link Integer}
+     * @param reportsToFollow {@link Integer}
+     * @param name {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationNameReport(ByteBuffer buffer, Integer parameterNumber, Integer reportsToFollow,
+            byte[] name) {
+        logger.debug("Creating command message CONFIGURATION_NAME_REPORT version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_NAME_REPORT);
+
+        // Process 'Parameter Number'
+        buffer.put((byte) ((parameterNumber >> 8) & 0xff));
+        buffer.put((byte) (parameterNumber & 0xff));
+
+        // Process 'Reports to follow'
+        buffer.put(reportsToFollow.byteValue());
+
+        // Process 'Name'
+        if (name != null) {
+            buffer.put(name);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_NAME_REPORT command.
      * <p>
@@ -822,6 +1129,32 @@ public class CommandClassConfigurationV4 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_INFO_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Info Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterNumber {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationInfoGet(ByteBuffer buffer, Integer parameterNumber) {
+        logger.debug("Creating command message CONFIGURATION_INFO_GET version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_INFO_GET);
+
+        // Process 'Parameter Number'
+        buffer.put((byte) ((parameterNumber >> 8) & 0xff));
+        buffer.put((byte) (parameterNumber & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_INFO_GET command.
      * <p>
@@ -883,6 +1216,43 @@ public class CommandClassConfigurationV4 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_INFO_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Info Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterNumber {@link Integer}
+     * @param reportsToFollow {@link Integer}
+     * @param info {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationInfoReport(ByteBuffer buffer, Integer parameterNumber, Integer reportsToFollow,
+            byte[] info) {
+        logger.debug("Creating command message CONFIGURATION_INFO_REPORT version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_INFO_REPORT);
+
+        // Process 'Parameter Number'
+        buffer.put((byte) ((parameterNumber >> 8) & 0xff));
+        buffer.put((byte) (parameterNumber & 0xff));
+
+        // Process 'Reports to follow'
+        buffer.put(reportsToFollow.byteValue());
+
+        // Process 'Info'
+        if (info != null) {
+            buffer.put(info);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_INFO_REPORT command.
      * <p>
@@ -949,6 +1319,32 @@ public class CommandClassConfigurationV4 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_PROPERTIES_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Properties Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterNumber {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationPropertiesGet(ByteBuffer buffer, Integer parameterNumber) {
+        logger.debug("Creating command message CONFIGURATION_PROPERTIES_GET version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_PROPERTIES_GET);
+
+        // Process 'Parameter Number'
+        buffer.put((byte) ((parameterNumber >> 8) & 0xff));
+        buffer.put((byte) (parameterNumber & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_PROPERTIES_GET command.
      * <p>
@@ -1069,6 +1465,95 @@ public class CommandClassConfigurationV4 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONFIGURATION_PROPERTIES_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Configuration Properties Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterNumber {@link Integer}
+     * @param format {@link String}
+     * @param readonly {@link Boolean}
+     * @param reInclusionRequired {@link Boolean}
+     * @param minValue {@link byte[]}
+     * @param maxValue {@link byte[]}
+     * @param defaultValue {@link byte[]}
+     * @param nextParameterNumber {@link Integer}
+     * @param advanced {@link Boolean}
+     * @param noBulkSupport {@link Boolean}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getConfigurationPropertiesReport(ByteBuffer buffer, Integer parameterNumber, String format,
+            Boolean readonly, Boolean reInclusionRequired, byte[] minValue, byte[] maxValue, byte[] defaultValue,
+            Integer nextParameterNumber, Boolean advanced, Boolean noBulkSupport) {
+        logger.debug("Creating command message CONFIGURATION_PROPERTIES_REPORT version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONFIGURATION_PROPERTIES_REPORT);
+
+        // Process 'Parameter Number'
+        buffer.put((byte) ((parameterNumber >> 8) & 0xff));
+        buffer.put((byte) (parameterNumber & 0xff));
+
+        // Process 'Properties1'
+        // Size is used by 'Min Value' and 'Max Value' and 'Default Value'
+        int size = minValue.length;
+        int valProperties1 = 0;
+        valProperties1 |= size & 0x07;
+        int valformat;
+        switch (format) {
+            case "SIGNED_INTEGER":
+                valformat = 0;
+                break;
+            case "UNSIGNED_INTEGER":
+                valformat = 1;
+                break;
+            case "ENUMERATED":
+                valformat = 2;
+                break;
+            case "BIT_FIELD":
+                valformat = 3;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for format: " + format);
+        }
+        valProperties1 |= valformat >> 3 & 0x38;
+        valProperties1 |= readonly ? 0x40 : 0;
+        valProperties1 |= reInclusionRequired ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Min Value'
+        if (minValue != null) {
+            buffer.put(minValue);
+        }
+
+        // Process 'Max Value'
+        if (maxValue != null) {
+            buffer.put(maxValue);
+        }
+
+        // Process 'Default Value'
+        if (defaultValue != null) {
+            buffer.put(defaultValue);
+        }
+
+        // Process 'Next Parameter Number'
+        buffer.put((byte) ((nextParameterNumber >> 8) & 0xff));
+        buffer.put((byte) (nextParameterNumber & 0xff));
+
+        // Process 'Properties2'
+        int valProperties2 = 0;
+        valProperties2 |= advanced ? 0x01 : 0;
+        valProperties2 |= noBulkSupport ? 0x02 : 0;
+        buffer.put((byte) valProperties2);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONFIGURATION_PROPERTIES_REPORT command.
      * <p>
@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -89,6 +90,46 @@ public class CommandClassControllerReplicationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CTRL_REPLICATION_TRANSFER_GROUP command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Ctrl Replication Transfer Group
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sequenceNumber {@link Integer}
+     * @param groupId {@link Integer}
+     * @param nodeId {@link Integer}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getCtrlReplicationTransferGroup(ByteBuffer buffer, Integer sequenceNumber, Integer groupId,
+            Integer nodeId) {
+        logger.debug("Creating command message CTRL_REPLICATION_TRANSFER_GROUP version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CTRL_REPLICATION_TRANSFER_GROUP);
+
+        // Process 'Sequence Number'
+        buffer.put(sequenceNumber.byteValue());
+
+        // Process 'Group ID'
+        buffer.put(groupId.byteValue());
+
+        // Process 'Node ID'
+        // Check the node number boundary
+        if (nodeId < 1 || nodeId > 232) {
+            logger.debug("Node number is out of bounds {}", nodeId);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(nodeId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CTRL_REPLICATION_TRANSFER_GROUP command.
      * <p>
@@ -157,6 +198,42 @@ public class CommandClassControllerReplicationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CTRL_REPLICATION_TRANSFER_GROUP_NAME command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Ctrl Replication Transfer Group Name
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sequenceNumber {@link Integer}
+     * @param groupId {@link Integer}
+     * @param groupName {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCtrlReplicationTransferGroupName(ByteBuffer buffer, Integer sequenceNumber, Integer groupId,
+            byte[] groupName) {
+        logger.debug("Creating command message CTRL_REPLICATION_TRANSFER_GROUP_NAME version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CTRL_REPLICATION_TRANSFER_GROUP_NAME);
+
+        // Process 'Sequence Number'
+        buffer.put(sequenceNumber.byteValue());
+
+        // Process 'Group ID'
+        buffer.put(groupId.byteValue());
+
+        // Process 'Group Name'
+        if (groupName != null) {
+            buffer.put(groupName);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CTRL_REPLICATION_TRANSFER_GROUP_NAME command.
      * <p>
@@ -240,6 +317,50 @@ public class CommandClassControllerReplicationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CTRL_REPLICATION_TRANSFER_SCENE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Ctrl Replication Transfer Scene
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sequenceNumber {@link Integer}
+     * @param sceneId {@link Integer}
+     * @param nodeId {@link Integer}
+     * @param level {@link Integer}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getCtrlReplicationTransferScene(ByteBuffer buffer, Integer sequenceNumber, Integer sceneId,
+            Integer nodeId, Integer level) {
+        logger.debug("Creating command message CTRL_REPLICATION_TRANSFER_SCENE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CTRL_REPLICATION_TRANSFER_SCENE);
+
+        // Process 'Sequence Number'
+        buffer.put(sequenceNumber.byteValue());
+
+        // Process 'Scene ID'
+        buffer.put(sceneId.byteValue());
+
+        // Process 'Node ID'
+        // Check the node number boundary
+        if (nodeId < 1 || nodeId > 232) {
+            logger.debug("Node number is out of bounds {}", nodeId);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(nodeId.byteValue());
+
+        // Process 'Level'
+        buffer.put(level.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CTRL_REPLICATION_TRANSFER_SCENE command.
      * <p>
@@ -312,6 +433,42 @@ public class CommandClassControllerReplicationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CTRL_REPLICATION_TRANSFER_SCENE_NAME command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Ctrl Replication Transfer Scene Name
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sequenceNumber {@link Integer}
+     * @param sceneId {@link Integer}
+     * @param sceneName {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCtrlReplicationTransferSceneName(ByteBuffer buffer, Integer sequenceNumber, Integer sceneId,
+            byte[] sceneName) {
+        logger.debug("Creating command message CTRL_REPLICATION_TRANSFER_SCENE_NAME version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CTRL_REPLICATION_TRANSFER_SCENE_NAME);
+
+        // Process 'Sequence Number'
+        buffer.put(sequenceNumber.byteValue());
+
+        // Process 'Scene ID'
+        buffer.put(sceneId.byteValue());
+
+        // Process 'Scene Name'
+        if (sceneName != null) {
+            buffer.put(sceneName);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CTRL_REPLICATION_TRANSFER_SCENE_NAME command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -78,6 +79,47 @@ public class CommandClassCrc16EncapV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CRC_16_ENCAP command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * CRC16 Encap
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param commandClass {@link Integer}
+     * @param command {@link Integer}
+     * @param data {@link int[]}
+     * @param checksum {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCrc16Encap(ByteBuffer buffer, Integer commandClass, Integer command, int[] data,
+            Integer checksum) {
+        logger.debug("Creating command message CRC_16_ENCAP version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CRC_16_ENCAP);
+
+        // Process 'Command Class'
+        buffer.put(commandClass.byteValue());
+
+        // Process 'Command'
+        buffer.put(command.byteValue());
+
+        // Process 'Data'
+        for (int cntData = 0; cntData < data.length; cntData++) {
+            buffer.put((byte) data[cntData]);
+        }
+
+        // Process 'Checksum'
+        buffer.put((byte) ((checksum >> 8) & 0xff));
+        buffer.put((byte) (checksum & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CRC_16_ENCAP command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -73,6 +74,27 @@ public class CommandClassDcpConfigV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DCP_LIST_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Dcp List Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDcpListSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message DCP_LIST_SUPPORTED_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DCP_LIST_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DCP_LIST_SUPPORTED_GET command.
      * <p>
@@ -115,6 +137,35 @@ public class CommandClassDcpConfigV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DCP_LIST_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Dcp List Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param dcpListSize {@link Integer}
+     * @param freeDcpListEntries {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDcpListSupportedReport(ByteBuffer buffer, Integer dcpListSize, Integer freeDcpListEntries) {
+        logger.debug("Creating command message DCP_LIST_SUPPORTED_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DCP_LIST_SUPPORTED_REPORT);
+
+        // Process 'DCP List Size'
+        buffer.put(dcpListSize.byteValue());
+
+        // Process 'Free DCP List entries'
+        buffer.put(freeDcpListEntries.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DCP_LIST_SUPPORTED_REPORT command.
      * <p>
@@ -259,6 +310,124 @@ public class CommandClassDcpConfigV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DCP_LIST_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Dcp List Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param year {@link Integer}
+     * @param month {@link Integer}
+     * @param day {@link Integer}
+     * @param hourLocalTime {@link Integer}
+     * @param minuteLocalTime {@link Integer}
+     * @param secondLocalTime {@link Integer}
+     * @param dcpRateId {@link Integer}
+     * @param numberOfDc {@link Integer}
+     * @param startYear {@link Integer}
+     * @param startMonth {@link Integer}
+     * @param startDay {@link Integer}
+     * @param startHourLocalTime {@link Integer}
+     * @param startMinuteLocalTime {@link Integer}
+     * @param startSecondLocalTime {@link Integer}
+     * @param durationHourTime {@link Integer}
+     * @param durationMinuteTime {@link Integer}
+     * @param durationSecondTime {@link Integer}
+     * @param eventPriority {@link Integer}
+     * @param loadShedding {@link Integer}
+     * @param startAssociationGroup {@link Integer}
+     * @param stopAssociationGroup {@link Integer}
+     * @param randomizationInterval {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDcpListSet(ByteBuffer buffer, Integer year, Integer month, Integer day, Integer hourLocalTime,
+            Integer minuteLocalTime, Integer secondLocalTime, Integer dcpRateId, Integer numberOfDc, Integer startYear,
+            Integer startMonth, Integer startDay, Integer startHourLocalTime, Integer startMinuteLocalTime,
+            Integer startSecondLocalTime, Integer durationHourTime, Integer durationMinuteTime,
+            Integer durationSecondTime, Integer eventPriority, Integer loadShedding, Integer startAssociationGroup,
+            Integer stopAssociationGroup, Integer randomizationInterval) {
+        logger.debug("Creating command message DCP_LIST_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DCP_LIST_SET);
+
+        // Process 'Year'
+        buffer.put((byte) ((year >> 8) & 0xff));
+        buffer.put((byte) (year & 0xff));
+
+        // Process 'Month'
+        buffer.put(month.byteValue());
+
+        // Process 'Day'
+        buffer.put(day.byteValue());
+
+        // Process 'Hour Local Time'
+        buffer.put(hourLocalTime.byteValue());
+
+        // Process 'Minute Local Time'
+        buffer.put(minuteLocalTime.byteValue());
+
+        // Process 'Second Local Time'
+        buffer.put(secondLocalTime.byteValue());
+
+        // Process 'DCP Rate ID'
+        buffer.put(dcpRateId.byteValue());
+
+        // Process 'Properties1'
+        buffer.put((byte) (numberOfDc & 0x03));
+
+        // Process 'vg1'
+
+        // Process 'Start Year'
+        buffer.put((byte) ((startYear >> 8) & 0xff));
+        buffer.put((byte) (startYear & 0xff));
+
+        // Process 'Start Month'
+        buffer.put(startMonth.byteValue());
+
+        // Process 'Start Day'
+        buffer.put(startDay.byteValue());
+
+        // Process 'Start Hour Local Time'
+        buffer.put(startHourLocalTime.byteValue());
+
+        // Process 'Start Minute Local Time'
+        buffer.put(startMinuteLocalTime.byteValue());
+
+        // Process 'Start Second Local Time'
+        buffer.put(startSecondLocalTime.byteValue());
+
+        // Process 'Duration Hour Time'
+        buffer.put(durationHourTime.byteValue());
+
+        // Process 'Duration Minute Time'
+        buffer.put(durationMinuteTime.byteValue());
+
+        // Process 'Duration Second Time'
+        buffer.put(durationSecondTime.byteValue());
+
+        // Process 'Event Priority'
+        buffer.put(eventPriority.byteValue());
+
+        // Process 'Load shedding'
+        buffer.put(loadShedding.byteValue());
+
+        // Process 'Start Association Group'
+        buffer.put(startAssociationGroup.byteValue());
+
+        // Process 'Stop Association Group'
+        buffer.put(stopAssociationGroup.byteValue());
+
+        // Process 'Randomization interval'
+        buffer.put(randomizationInterval.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DCP_LIST_SET command.
      * <p>
@@ -438,6 +607,53 @@ public class CommandClassDcpConfigV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DCP_LIST_REMOVE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Dcp List Remove
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param year {@link Integer}
+     * @param month {@link Integer}
+     * @param day {@link Integer}
+     * @param hourLocalTime {@link Integer}
+     * @param minuteLocalTime {@link Integer}
+     * @param secondLocalTime {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDcpListRemove(ByteBuffer buffer, Integer year, Integer month, Integer day,
+            Integer hourLocalTime, Integer minuteLocalTime, Integer secondLocalTime) {
+        logger.debug("Creating command message DCP_LIST_REMOVE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DCP_LIST_REMOVE);
+
+        // Process 'Year'
+        buffer.put((byte) ((year >> 8) & 0xff));
+        buffer.put((byte) (year & 0xff));
+
+        // Process 'Month'
+        buffer.put(month.byteValue());
+
+        // Process 'Day'
+        buffer.put(day.byteValue());
+
+        // Process 'Hour Local Time'
+        buffer.put(hourLocalTime.byteValue());
+
+        // Process 'Minute Local Time'
+        buffer.put(minuteLocalTime.byteValue());
+
+        // Process 'Second Local Time'
+        buffer.put(secondLocalTime.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DCP_LIST_REMOVE command.
      * <p>
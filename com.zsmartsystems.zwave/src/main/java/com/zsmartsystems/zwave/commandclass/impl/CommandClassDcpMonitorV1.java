@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -86,6 +87,27 @@ public class CommandClassDcpMonitorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DCP_LIST_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Dcp List Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDcpListGet(ByteBuffer buffer) {
+        logger.debug("Creating command message DCP_LIST_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DCP_LIST_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DCP_LIST_GET command.
      * <p>
@@ -221,6 +243,128 @@ public class CommandClassDcpMonitorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DCP_LIST_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Dcp List Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param reportsToFollow {@link Integer}
+     * @param year {@link Integer}
+     * @param month {@link Integer}
+     * @param day {@link Integer}
+     * @param hourLocalTime {@link Integer}
+     * @param minuteLocalTime {@link Integer}
+     * @param secondLocalTime {@link Integer}
+     * @param dcpId {@link Integer}
+     * @param numberOfDc {@link Integer}
+     * @param startYear {@link Integer}
+     * @param startMonth {@link Integer}
+     * @param startDay {@link Integer}
+     * @param startHourLocalTime {@link Integer}
+     * @param startMinuteLocalTime {@link Integer}
+     * @param startSecondLocalTime {@link Integer}
+     * @param durationHourTime {@link Integer}
+     * @param durationMinuteTime {@link Integer}
+     * @param durationSecondTime {@link Integer}
+     * @param eventPriority {@link Integer}
+     * @param loadShedding {@link Integer}
+     * @param startAssociationGroup {@link Integer}
+     * @param stopAssociationGroup {@link Integer}
+     * @param randomizationInterval {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDcpListReport(ByteBuffer buffer, Integer reportsToFollow, Integer year, Integer month,
+            Integer day, Integer hourLocalTime, Integer minuteLocalTime, Integer secondLocalTime, Integer dcpId,
+            Integer numberOfDc, Integer startYear, Integer startMonth, Integer startDay, Integer startHourLocalTime,
+            Integer startMinuteLocalTime, Integer startSecondLocalTime, Integer durationHourTime,
+            Integer durationMinuteTime, Integer durationSecondTime, Integer eventPriority, Integer loadShedding,
+            Integer startAssociationGroup, Integer stopAssociationGroup, Integer randomizationInterval) {
+        logger.debug("Creating command message DCP_LIST_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DCP_LIST_REPORT);
+
+        // Process 'Reports to Follow'
+        buffer.put(reportsToFollow.byteValue());
+
+        // Process 'Year'
+        buffer.put((byte) ((year >> 8) & 0xff));
+        buffer.put((byte) (year & 0xff));
+
+        // Process 'Month'
+        buffer.put(month.byteValue());
+
+        // Process 'Day'
+        buffer.put(day.byteValue());
+
+        // Process 'Hour Local Time'
+        buffer.put(hourLocalTime.byteValue());
+
+        // Process 'Minute Local Time'
+        buffer.put(minuteLocalTime.byteValue());
+
+        // Process 'Second Local Time'
+        buffer.put(secondLocalTime.byteValue());
+
+        // Process 'DCP ID'
+        buffer.put(dcpId.byteValue());
+
+        // Process 'Properties1'
+        buffer.put((byte) (numberOfDc & 0x03));
+
+        // Process 'vg1'
+
+        // Process 'Start Year'
+        buffer.put((byte) ((startYear >> 8) & 0xff));
+        buffer.put((byte) (startYear & 0xff));
+
+        // Process 'Start Month'
+        buffer.put(startMonth.byteValue());
+
+        // Process 'Start Day'
+        buffer.put(startDay.byteValue());
+
+        // Process 'Start Hour Local Time'
+        buffer.put(startHourLocalTime.byteValue());
+
+        // Process 'Start Minute Local Time'
+        buffer.put(startMinuteLocalTime.byteValue());
+
+        // Process 'Start Second Local Time'
+        buffer.put(startSecondLocalTime.byteValue());
+
+        // Process 'Duration Hour Time'
+        buffer.put(durationHourTime.byteValue());
+
+        // Process 'Duration Minute Time'
+        buffer.put(durationMinuteTime.byteValue());
+
+        // Process 'Duration Second Time'
+        buffer.put(durationSecondTime.byteValue());
+
+        // Process 'Event Priority'
+        buffer.put(eventPriority.byteValue());
+
+        // Process 'Load shedding'
+        buffer.put(loadShedding.byteValue());
+
+        // Process 'Start Association Group'
+        buffer.put(startAssociationGroup.byteValue());
+
+        // Process 'Stop Association Group'
+        buffer.put(stopAssociationGroup.byteValue());
+
+        // Process 'Randomization interval'
+        buffer.put(randomizationInterval.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DCP_LIST_REPORT command.
      * <p>
@@ -404,6 +548,53 @@ public class CommandClassDcpMonitorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DCP_EVENT_STATUS_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Dcp Event Status Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param year {@link Integer}
+     * @param month {@link Integer}
+     * @param day {@link Integer}
+     * @param hourLocalTime {@link Integer}
+     * @param minuteLocalTime {@link Integer}
+     * @param secondLocalTime {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDcpEventStatusGet(ByteBuffer buffer, Integer year, Integer month, Integer day,
+            Integer hourLocalTime, Integer minuteLocalTime, Integer secondLocalTime) {
+        logger.debug("Creating command message DCP_EVENT_STATUS_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DCP_EVENT_STATUS_GET);
+
+        // Process 'Year'
+        buffer.put((byte) ((year >> 8) & 0xff));
+        buffer.put((byte) (year & 0xff));
+
+        // Process 'Month'
+        buffer.put(month.byteValue());
+
+        // Process 'Day'
+        buffer.put(day.byteValue());
+
+        // Process 'Hour Local Time'
+        buffer.put(hourLocalTime.byteValue());
+
+        // Process 'Minute Local Time'
+        buffer.put(minuteLocalTime.byteValue());
+
+        // Process 'Second Local Time'
+        buffer.put(secondLocalTime.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DCP_EVENT_STATUS_GET command.
      * <p>
@@ -514,6 +705,74 @@ public class CommandClassDcpMonitorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DCP_EVENT_STATUS_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Dcp Event Status Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param year {@link Integer}
+     * @param month {@link Integer}
+     * @param day {@link Integer}
+     * @param hourLocalTime {@link Integer}
+     * @param minuteLocalTime {@link Integer}
+     * @param secondLocalTime {@link Integer}
+     * @param eventStatus {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>EVENT_STARTED
+     *            <li>EVENT_COMPLETED
+     *            <li>EVENT_REJECTED
+     *            <li>EVENT_NOT_APPLICABLE
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDcpEventStatusReport(ByteBuffer buffer, Integer year, Integer month, Integer day,
+            Integer hourLocalTime, Integer minuteLocalTime, Integer secondLocalTime, String eventStatus) {
+        logger.debug("Creating command message DCP_EVENT_STATUS_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DCP_EVENT_STATUS_REPORT);
+
+        // Process 'Year'
+        buffer.put((byte) ((year >> 8) & 0xff));
+        buffer.put((byte) (year & 0xff));
+
+        // Process 'Month'
+        buffer.put(month.byteValue());
+
+        // Process 'Day'
+        buffer.put(day.byteValue());
+
+        // Process 'Hour Local Time'
+        buffer.put(hourLocalTime.byteValue());
+
+        // Process 'Minute Local Time'
+        buffer.put(minuteLocalTime.byteValue());
+
+        // Process 'Second Local Time'
+        buffer.put(secondLocalTime.byteValue());
+
+        // Process 'Event status'
+        boolean foundEventStatus = false;
+        for (Integer entry : constantDcpEventStatusReportEventStatus.keySet()) {
+            if (constantDcpEventStatusReportEventStatus.get(entry).equals(eventStatus)) {
+                buffer.put(entry.byteValue());
+                foundEventStatus = true;
+                break;
+            }
+        }
+        if (!foundEventStatus) {
+            throw new IllegalArgumentException("Unknown constant value '" + eventStatus + "' for eventStatus");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DCP_EVENT_STATUS_REPORT command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -59,6 +60,27 @@ public class CommandClassDeviceResetLocallyV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DEVICE_RESET_LOCALLY_NOTIFICATION command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Device Reset Locally Notification
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDeviceResetLocallyNotification(ByteBuffer buffer) {
+        logger.debug("Creating command message DEVICE_RESET_LOCALLY_NOTIFICATION version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DEVICE_RESET_LOCALLY_NOTIFICATION);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DEVICE_RESET_LOCALLY_NOTIFICATION command.
      * <p>
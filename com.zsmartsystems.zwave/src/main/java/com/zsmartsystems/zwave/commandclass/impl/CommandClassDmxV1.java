@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -88,6 +89,35 @@ public class CommandClassDmxV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DMX_ADDRESS_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * DMX Address Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param pageId {@link Integer}
+     * @param channelId {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDmxAddressSet(ByteBuffer buffer, Integer pageId, Integer channelId) {
+        logger.debug("Creating command message DMX_ADDRESS_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DMX_ADDRESS_SET);
+
+        // Process 'Properties1'
+        buffer.put((byte) (pageId & 0x0F));
+
+        // Process 'Channel ID'
+        buffer.put(channelId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DMX_ADDRESS_SET command.
      * <p>
@@ -135,6 +165,27 @@ public class CommandClassDmxV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DMX_ADDRESS_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * DMX Address Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDmxAddressGet(ByteBuffer buffer) {
+        logger.debug("Creating command message DMX_ADDRESS_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DMX_ADDRESS_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DMX_ADDRESS_GET command.
      * <p>
@@ -177,6 +228,35 @@ public class CommandClassDmxV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DMX_ADDRESS_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * DMX Address Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param pageId {@link Integer}
+     * @param channelId {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDmxAddressReport(ByteBuffer buffer, Integer pageId, Integer channelId) {
+        logger.debug("Creating command message DMX_ADDRESS_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DMX_ADDRESS_REPORT);
+
+        // Process 'Properties1'
+        buffer.put((byte) (pageId & 0x0F));
+
+        // Process 'Channel ID'
+        buffer.put(channelId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DMX_ADDRESS_REPORT command.
      * <p>
@@ -228,6 +308,31 @@ public class CommandClassDmxV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DMX_CAPABILITY_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * DMX Capability Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param channelId {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDmxCapabilityGet(ByteBuffer buffer, Integer channelId) {
+        logger.debug("Creating command message DMX_CAPABILITY_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DMX_CAPABILITY_GET);
+
+        // Process 'Channel ID'
+        buffer.put(channelId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DMX_CAPABILITY_GET command.
      * <p>
@@ -289,6 +394,45 @@ public class CommandClassDmxV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DMX_CAPABILITY_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * DMX Capability Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param channelId {@link Integer}
+     * @param propertyId {@link Integer}
+     * @param deviceChannels {@link Integer}
+     * @param maxChannels {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDmxCapabilityReport(ByteBuffer buffer, Integer channelId, Integer propertyId,
+            Integer deviceChannels, Integer maxChannels) {
+        logger.debug("Creating command message DMX_CAPABILITY_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DMX_CAPABILITY_REPORT);
+
+        // Process 'Channel ID'
+        buffer.put(channelId.byteValue());
+
+        // Process 'Property ID'
+        buffer.put((byte) ((propertyId >> 8) & 0xff));
+        buffer.put((byte) (propertyId & 0xff));
+
+        // Process 'Device Channels'
+        buffer.put(deviceChannels.byteValue());
+
+        // Process 'Max Channels'
+        buffer.put(maxChannels.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DMX_CAPABILITY_REPORT command.
      * <p>
@@ -365,6 +509,46 @@ public class CommandClassDmxV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DMX_DATA command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * DMX Data
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param source {@link Integer}
+     * @param page {@link Integer}
+     * @param sequenceNo {@link Integer}
+     * @param dmxChannel {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDmxData(ByteBuffer buffer, Integer source, Integer page, Integer sequenceNo,
+            byte[] dmxChannel) {
+        logger.debug("Creating command message DMX_DATA version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DMX_DATA);
+
+        // Process 'Source'
+        buffer.put(source.byteValue());
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= page & 0x0F;
+        valProperties1 |= ((sequenceNo << 4) & 0x30);
+        buffer.put((byte) valProperties1);
+
+        // Process 'DMX channel'
+        if (dmxChannel != null) {
+            buffer.put(dmxChannel);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DMX_DATA command.
      * <p>
@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -72,6 +73,27 @@ public class CommandClassDoorLockLoggingV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DOOR_LOCK_LOGGING_RECORDS_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Door Lock Logging Records Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDoorLockLoggingRecordsSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message DOOR_LOCK_LOGGING_RECORDS_SUPPORTED_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DOOR_LOCK_LOGGING_RECORDS_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DOOR_LOCK_LOGGING_RECORDS_SUPPORTED_GET command.
      * <p>
@@ -110,6 +132,31 @@ public class CommandClassDoorLockLoggingV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DOOR_LOCK_LOGGING_RECORDS_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Door Lock Logging Records Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param maxRecordsStored {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDoorLockLoggingRecordsSupportedReport(ByteBuffer buffer, Integer maxRecordsStored) {
+        logger.debug("Creating command message DOOR_LOCK_LOGGING_RECORDS_SUPPORTED_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DOOR_LOCK_LOGGING_RECORDS_SUPPORTED_REPORT);
+
+        // Process 'Max records stored'
+        buffer.put(maxRecordsStored.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DOOR_LOCK_LOGGING_RECORDS_SUPPORTED_REPORT command.
      * <p>
@@ -157,6 +204,31 @@ public class CommandClassDoorLockLoggingV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the RECORD_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Record Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param recordNumber {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getRecordGet(ByteBuffer buffer, Integer recordNumber) {
+        logger.debug("Creating command message RECORD_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) RECORD_GET);
+
+        // Process 'Record number'
+        buffer.put(recordNumber.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the RECORD_GET command.
      * <p>
@@ -256,6 +328,80 @@ public class CommandClassDoorLockLoggingV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the RECORD_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Record Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param recordNumber {@link Integer}
+     * @param year {@link Integer}
+     * @param month {@link Integer}
+     * @param day {@link Integer}
+     * @param hourLocalTime {@link Integer}
+     * @param recordStatus {@link Integer}
+     * @param minuteLocalTime {@link Integer}
+     * @param secondLocalTime {@link Integer}
+     * @param eventType {@link Integer}
+     * @param userIdentifier {@link Integer}
+     * @param userCodeLength {@link Integer}
+     * @param userCode {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getRecordReport(ByteBuffer buffer, Integer recordNumber, Integer year, Integer month, Integer day,
+            Integer hourLocalTime, Integer recordStatus, Integer minuteLocalTime, Integer secondLocalTime,
+            Integer eventType, Integer userIdentifier, Integer userCodeLength, byte[] userCode) {
+        logger.debug("Creating command message RECORD_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) RECORD_REPORT);
+
+        // Process 'Record number'
+        buffer.put(recordNumber.byteValue());
+
+        // Process 'Year'
+        buffer.put((byte) ((year >> 8) & 0xff));
+        buffer.put((byte) (year & 0xff));
+
+        // Process 'Month'
+        buffer.put(month.byteValue());
+
+        // Process 'Day'
+        buffer.put(day.byteValue());
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= hourLocalTime & 0x1F;
+        valProperties1 |= ((recordStatus << 5) & 0xE0);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Minute Local Time'
+        buffer.put(minuteLocalTime.byteValue());
+
+        // Process 'Second Local Time'
+        buffer.put(secondLocalTime.byteValue());
+
+        // Process 'Event Type'
+        buffer.put(eventType.byteValue());
+
+        // Process 'User Identifier'
+        buffer.put(userIdentifier.byteValue());
+
+        // Process 'User Code Length'
+        buffer.put(userCodeLength.byteValue());
+
+        // Process 'USER_CODE'
+        if (userCode != null) {
+            buffer.put(userCode);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the RECORD_REPORT command.
      * <p>
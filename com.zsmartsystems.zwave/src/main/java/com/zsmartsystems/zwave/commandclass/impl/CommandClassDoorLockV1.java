@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -151,6 +152,51 @@ public class CommandClassDoorLockV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DOOR_LOCK_OPERATION_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Door Lock Operation Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param doorLockMode {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>DOOR_UNSECURED_FOR_INSIDE_DOOR_HANDLES_WITH_TIMEOUT
+     *            <li>DOOR_UNSECURED
+     *            <li>DOOR_SECURED
+     *            <li>DOOR_UNSECURED_FOR_INSIDE_DOOR_HANDLES
+     *            <li>DOOR_UNSECURED_WITH_TIMEOUT
+     *            <li>DOOR_UNSECURED_FOR_OUTSIDE_DOOR_HANDLES
+     *            <li>DOOR_UNSECURED_FOR_OUTSIDE_DOOR_HANDLES_WITH_TIMEOUT
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDoorLockOperationSet(ByteBuffer buffer, String doorLockMode) {
+        logger.debug("Creating command message DOOR_LOCK_OPERATION_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DOOR_LOCK_OPERATION_SET);
+
+        // Process 'Door Lock Mode'
+        boolean foundDoorLockMode = false;
+        for (Integer entry : constantDoorLockOperationSetDoorLockMode.keySet()) {
+            if (constantDoorLockOperationSetDoorLockMode.get(entry).equals(doorLockMode)) {
+                buffer.put(entry.byteValue());
+                foundDoorLockMode = true;
+                break;
+            }
+        }
+        if (!foundDoorLockMode) {
+            throw new IllegalArgumentException("Unknown constant value '" + doorLockMode + "' for doorLockMode");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DOOR_LOCK_OPERATION_SET command.
      * <p>
@@ -194,6 +240,27 @@ public class CommandClassDoorLockV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DOOR_LOCK_OPERATION_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Door Lock Operation Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDoorLockOperationGet(ByteBuffer buffer) {
+        logger.debug("Creating command message DOOR_LOCK_OPERATION_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DOOR_LOCK_OPERATION_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DOOR_LOCK_OPERATION_GET command.
      * <p>
@@ -274,6 +341,73 @@ public class CommandClassDoorLockV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DOOR_LOCK_OPERATION_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Door Lock Operation Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param doorLockMode {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>DOOR_UNSECURED_FOR_INSIDE_DOOR_HANDLES_WITH_TIMEOUT
+     *            <li>DOOR_UNSECURED
+     *            <li>DOOR_SECURED
+     *            <li>DOOR_UNSECURED_FOR_INSIDE_DOOR_HANDLES
+     *            <li>DOOR_UNSECURED_WITH_TIMEOUT
+     *            <li>DOOR_UNSECURED_FOR_OUTSIDE_DOOR_HANDLES
+     *            <li>DOOR_UNSECURED_FOR_OUTSIDE_DOOR_HANDLES_WITH_TIMEOUT
+     *            </ul>
+     * @param insideDoorHandlesMode {@link Integer}
+     * @param outsideDoorHandlesMode {@link Integer}
+     * @param doorCondition {@link Integer}
+     * @param lockTimeoutMinutes {@link Integer}
+     * @param lockTimeoutSeconds {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDoorLockOperationReport(ByteBuffer buffer, String doorLockMode, Integer insideDoorHandlesMode,
+            Integer outsideDoorHandlesMode, Integer doorCondition, Integer lockTimeoutMinutes,
+            Integer lockTimeoutSeconds) {
+        logger.debug("Creating command message DOOR_LOCK_OPERATION_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DOOR_LOCK_OPERATION_REPORT);
+
+        // Process 'Door Lock Mode'
+        boolean foundDoorLockMode = false;
+        for (Integer entry : constantDoorLockOperationReportDoorLockMode.keySet()) {
+            if (constantDoorLockOperationReportDoorLockMode.get(entry).equals(doorLockMode)) {
+                buffer.put(entry.byteValue());
+                foundDoorLockMode = true;
+                break;
+            }
+        }
+        if (!foundDoorLockMode) {
+            throw new IllegalArgumentException("Unknown constant value '" + doorLockMode + "' for doorLockMode");
+        }
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= insideDoorHandlesMode & 0x0F;
+        valProperties1 |= ((outsideDoorHandlesMode << 4) & 0xF0);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Door Condition'
+        buffer.put(doorCondition.byteValue());
+
+        // Process 'Lock Timeout Minutes'
+        buffer.put(lockTimeoutMinutes.byteValue());
+
+        // Process 'Lock Timeout Seconds'
+        buffer.put(lockTimeoutSeconds.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DOOR_LOCK_OPERATION_REPORT command.
      * <p>
@@ -371,6 +505,64 @@ public class CommandClassDoorLockV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DOOR_LOCK_CONFIGURATION_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Door Lock Configuration Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param operationType {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>CONSTANT_OPERATION
+     *            <li>TIMED_OPERATION
+     *            </ul>
+     * @param insideDoorHandlesState {@link Integer}
+     * @param outsideDoorHandlesState {@link Integer}
+     * @param lockTimeoutMinutes {@link Integer}
+     * @param lockTimeoutSeconds {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDoorLockConfigurationSet(ByteBuffer buffer, String operationType,
+            Integer insideDoorHandlesState, Integer outsideDoorHandlesState, Integer lockTimeoutMinutes,
+            Integer lockTimeoutSeconds) {
+        logger.debug("Creating command message DOOR_LOCK_CONFIGURATION_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DOOR_LOCK_CONFIGURATION_SET);
+
+        // Process 'Operation Type'
+        boolean foundOperationType = false;
+        for (Integer entry : constantDoorLockConfigurationSetOperationType.keySet()) {
+            if (constantDoorLockConfigurationSetOperationType.get(entry).equals(operationType)) {
+                buffer.put(entry.byteValue());
+                foundOperationType = true;
+                break;
+            }
+        }
+        if (!foundOperationType) {
+            throw new IllegalArgumentException("Unknown constant value '" + operationType + "' for operationType");
+        }
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= insideDoorHandlesState & 0x0F;
+        valProperties1 |= ((outsideDoorHandlesState << 4) & 0xF0);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Lock Timeout Minutes'
+        buffer.put(lockTimeoutMinutes.byteValue());
+
+        // Process 'Lock Timeout Seconds'
+        buffer.put(lockTimeoutSeconds.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DOOR_LOCK_CONFIGURATION_SET command.
      * <p>
@@ -428,6 +620,27 @@ public class CommandClassDoorLockV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DOOR_LOCK_CONFIGURATION_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Door Lock Configuration Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDoorLockConfigurationGet(ByteBuffer buffer) {
+        logger.debug("Creating command message DOOR_LOCK_CONFIGURATION_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DOOR_LOCK_CONFIGURATION_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DOOR_LOCK_CONFIGURATION_GET command.
      * <p>
@@ -498,6 +711,64 @@ public class CommandClassDoorLockV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DOOR_LOCK_CONFIGURATION_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Door Lock Configuration Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param operationType {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>CONSTANT_OPERATION
+     *            <li>TIMED_OPERATION
+     *            </ul>
+     * @param insideDoorHandlesState {@link Integer}
+     * @param outsideDoorHandlesState {@link Integer}
+     * @param lockTimeoutMinutes {@link Integer}
+     * @param lockTimeoutSeconds {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDoorLockConfigurationReport(ByteBuffer buffer, String operationType,
+            Integer insideDoorHandlesState, Integer outsideDoorHandlesState, Integer lockTimeoutMinutes,
+            Integer lockTimeoutSeconds) {
+        logger.debug("Creating command message DOOR_LOCK_CONFIGURATION_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DOOR_LOCK_CONFIGURATION_REPORT);
+
+        // Process 'Operation Type'
+        boolean foundOperationType = false;
+        for (Integer entry : constantDoorLockConfigurationReportOperationType.keySet()) {
+            if (constantDoorLockConfigurationReportOperationType.get(entry).equals(operationType)) {
+                buffer.put(entry.byteValue());
+                foundOperationType = true;
+                break;
+            }
+        }
+        if (!foundOperationType) {
+            throw new IllegalArgumentException("Unknown constant value '" + operationType + "' for operationType");
+        }
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= insideDoorHandlesState & 0x0F;
+        valProperties1 |= ((outsideDoorHandlesState << 4) & 0xF0);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Lock Timeout Minutes'
+        buffer.put(lockTimeoutMinutes.byteValue());
+
+        // Process 'Lock Timeout Seconds'
+        buffer.put(lockTimeoutSeconds.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DOOR_LOCK_CONFIGURATION_REPORT command.
      * <p>
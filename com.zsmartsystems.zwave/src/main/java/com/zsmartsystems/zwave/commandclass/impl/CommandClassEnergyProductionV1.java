@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -109,6 +110,48 @@ public class CommandClassEnergyProductionV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ENERGY_PRODUCTION_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Energy Production Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterNumber {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>INSTANT_ENERGY_PRODUCTION
+     *            <li>TOTAL_ENERGY_PRODUCTION
+     *            <li>ENERGY_PRODUCTION_TODAY
+     *            <li>TOTAL_PRODUCTION_TIME
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getEnergyProductionGet(ByteBuffer buffer, String parameterNumber) {
+        logger.debug("Creating command message ENERGY_PRODUCTION_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ENERGY_PRODUCTION_GET);
+
+        // Process 'Parameter Number'
+        boolean foundParameterNumber = false;
+        for (Integer entry : constantEnergyProductionGetParameterNumber.keySet()) {
+            if (constantEnergyProductionGetParameterNumber.get(entry).equals(parameterNumber)) {
+                buffer.put(entry.byteValue());
+                foundParameterNumber = true;
+                break;
+            }
+        }
+        if (!foundParameterNumber) {
+            throw new IllegalArgumentException("Unknown constant value '" + parameterNumber + "' for parameterNumber");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ENERGY_PRODUCTION_GET command.
      * <p>
@@ -194,6 +237,66 @@ public class CommandClassEnergyProductionV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ENERGY_PRODUCTION_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Energy Production Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterNumber {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>INSTANT_ENERGY_PRODUCTION
+     *            <li>TOTAL_ENERGY_PRODUCTION
+     *            <li>ENERGY_PRODUCTION_TODAY
+     *            <li>TOTAL_PRODUCTION_TIME
+     *            </ul>
+     * @param scale {@link Integer}
+     * @param precision {@link Integer}
+     * @param value {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getEnergyProductionReport(ByteBuffer buffer, String parameterNumber, Integer scale,
+            Integer precision, byte[] value) {
+        logger.debug("Creating command message ENERGY_PRODUCTION_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ENERGY_PRODUCTION_REPORT);
+
+        // Process 'Parameter Number'
+        boolean foundParameterNumber = false;
+        for (Integer entry : constantEnergyProductionReportParameterNumber.keySet()) {
+            if (constantEnergyProductionReportParameterNumber.get(entry).equals(parameterNumber)) {
+                buffer.put(entry.byteValue());
+                foundParameterNumber = true;
+                break;
+            }
+        }
+        if (!foundParameterNumber) {
+            throw new IllegalArgumentException("Unknown constant value '" + parameterNumber + "' for parameterNumber");
+        }
+
+        // Process 'Level'
+        // Size is used by 'Value'
+        int size = value.length;
+        int valLevel = 0;
+        valLevel |= size & 0x07;
+        valLevel |= ((scale << 3) & 0x18);
+        valLevel |= ((precision << 5) & 0xE0);
+        buffer.put((byte) valLevel);
+
+        // Process 'Value'
+        if (value != null) {
+            buffer.put(value);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ENERGY_PRODUCTION_REPORT command.
      * <p>
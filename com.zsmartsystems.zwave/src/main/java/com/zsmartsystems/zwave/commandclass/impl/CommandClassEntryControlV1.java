@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -252,6 +253,106 @@ public class CommandClassEntryControlV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ENTRY_CONTROL_NOTIFICATION command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Entry Control Notification
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sequenceNumber {@link Integer}
+     * @param dataType {@link String}
+     * @param eventType {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>CACHING
+     *            <li>CACHED_KEYS
+     *            <li>ENTER
+     *            <li>DISARM_ALL
+     *            <li>ARM_ALL
+     *            <li>ARM_AWAY
+     *            <li>ARM_HOME
+     *            <li>EXIT_DELAY
+     *            <li>ARM_1
+     *            <li>ARM_2
+     *            <li>ARM_3
+     *            <li>ARM_4
+     *            <li>ARM_5
+     *            <li>ARM_6
+     *            <li>RFID
+     *            <li>BELL
+     *            <li>POLICE
+     *            <li>FIRE
+     *            <li>ALERT_MEDICAL
+     *            <li>ALERT_PANIC
+     *            <li>GATE_CLOSE
+     *            <li>GATE_OPEN
+     *            <li>UNLOCK
+     *            <li>LOCK
+     *            <li>CANCEL
+     *            <li>TEST
+     *            </ul>
+     * @param eventDataLength {@link Integer}
+     * @param eventData {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getEntryControlNotification(ByteBuffer buffer, Integer sequenceNumber, String dataType,
+            String eventType, Integer eventDataLength, byte[] eventData) {
+        logger.debug("Creating command message ENTRY_CONTROL_NOTIFICATION version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ENTRY_CONTROL_NOTIFICATION);
+
+        // Process 'Sequence Number'
+        buffer.put(sequenceNumber.byteValue());
+
+        // Process 'Properties1'
+        int valdataType;
+        switch (dataType) {
+            case "NA":
+                valdataType = 0;
+                break;
+            case "RAW":
+                valdataType = 1;
+                break;
+            case "ASCII":
+                valdataType = 2;
+                break;
+            case "MD5":
+                valdataType = 3;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for dataType: " + dataType);
+        }
+        buffer.put((byte) (valdataType & 0x03));
+
+        // Process 'Event Type'
+        boolean foundEventType = false;
+        for (Integer entry : constantEntryControlNotificationEventType.keySet()) {
+            if (constantEntryControlNotificationEventType.get(entry).equals(eventType)) {
+                buffer.put(entry.byteValue());
+                foundEventType = true;
+                break;
+            }
+        }
+        if (!foundEventType) {
+            throw new IllegalArgumentException("Unknown constant value '" + eventType + "' for eventType");
+        }
+
+        // Process 'Event Data Length'
+        buffer.put(eventDataLength.byteValue());
+
+        // Process 'Event Data'
+        if (eventData != null) {
+            buffer.put(eventData);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ENTRY_CONTROL_NOTIFICATION command.
      * <p>
@@ -339,6 +440,27 @@ public class CommandClassEntryControlV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ENTRY_CONTROL_KEY_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Entry Control Key Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getEntryControlKeySupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message ENTRY_CONTROL_KEY_SUPPORTED_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ENTRY_CONTROL_KEY_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ENTRY_CONTROL_KEY_SUPPORTED_GET command.
      * <p>
@@ -392,6 +514,46 @@ public class CommandClassEntryControlV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ENTRY_CONTROL_KEY_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Entry Control Key Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param keySupportedBitMaskLength {@link Integer}
+     * @param keySupportedBitMask {@link List<Integer>}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getEntryControlKeySupportedReport(ByteBuffer buffer, Integer keySupportedBitMaskLength,
+            List<Integer> keySupportedBitMask) {
+        logger.debug("Creating command message ENTRY_CONTROL_KEY_SUPPORTED_REPORT version 1");
+
+        Collections.sort(keySupportedBitMask);
+        int lenKeySupportedBitMask = (keySupportedBitMask.get(keySupportedBitMask.size() - 1) / 8) + 1;
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ENTRY_CONTROL_KEY_SUPPORTED_REPORT);
+
+        // Process 'Key Supported Bit Mask Length'
+        buffer.put(keySupportedBitMaskLength.byteValue());
+
+        // Process 'Key Supported Bit Mask'
+        int valKeySupportedBitMask = 0;
+        for (int cntKeySupportedBitMask = 1 ; cntKeySupportedBitMask < lenKeySupportedBitMask * 8 ; cntKeySupportedBitMask++) {
+            valKeySupportedBitMask |= keySupportedBitMask.contains(valKeySupportedBitMask) ? (1 << cntKeySupportedBitMask % 8) : 0;
+            if (cntKeySupportedBitMask % 8 == 0) {
+                buffer.put((byte) valKeySupportedBitMask);
+                valKeySupportedBitMask = 0;
+            }
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ENTRY_CONTROL_KEY_SUPPORTED_REPORT command.
      * <p>
@@ -447,6 +609,27 @@ public class CommandClassEntryControlV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ENTRY_CONTROL_EVENT_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Entry Control Event Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getEntryControlEventSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message ENTRY_CONTROL_EVENT_SUPPORTED_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ENTRY_CONTROL_EVENT_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ENTRY_CONTROL_EVENT_SUPPORTED_GET command.
      * <p>
@@ -578,6 +761,124 @@ public class CommandClassEntryControlV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ENTRY_CONTROL_EVENT_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Entry Control Event Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param dataTypeSupportedBitMask {@link List<String>}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NA
+     *            <li>RAW
+     *            <li>ASCII
+     *            <li>MD5
+     *            </ul>
+     * @param eventTypeSupportedBitMask {@link List<String>}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>CACHING
+     *            <li>CACHED_KEYS
+     *            <li>ENTER
+     *            <li>DISARM_ALL
+     *            <li>ARM_ALL
+     *            <li>ARM_AWAY
+     *            <li>ARM_HOME
+     *            <li>EXIT_DELAY
+     *            <li>ARM_1
+     *            <li>ARM_2
+     *            <li>ARM_3
+     *            <li>ARM_4
+     *            <li>ARM_5
+     *            <li>ARM_6
+     *            <li>RFID
+     *            <li>BELL
+     *            <li>POLICE
+     *            <li>FIRE
+     *            <li>ALERT_MEDICAL
+     *            <li>ALERT_PANIC
+     *            <li>GATE_CLOSE
+     *            <li>GATE_OPEN
+     *            <li>UNLOCK
+     *            <li>LOCK
+     *            <li>CANCEL
+     *            <li>TEST
+     *            </ul>
+     * @param keyCachedSizeSupportedMinimum {@link Integer}
+     * @param keyCachedSizeSupportedMaximum {@link Integer}
+     * @param keyCachedTimeoutSupportedMinimum {@link Integer}
+     * @param keyCachedTimeoutSupportedMaximum {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getEntryControlEventSupportedReport(ByteBuffer buffer, List<String> dataTypeSupportedBitMask,
+            List<String> eventTypeSupportedBitMask, Integer keyCachedSizeSupportedMinimum,
+            Integer keyCachedSizeSupportedMaximum, Integer keyCachedTimeoutSupportedMinimum,
+            Integer keyCachedTimeoutSupportedMaximum) {
+        logger.debug("Creating command message ENTRY_CONTROL_EVENT_SUPPORTED_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ENTRY_CONTROL_EVENT_SUPPORTED_REPORT);
+
+        // Process 'Properties1'
+        buffer.put((byte) 0);
+
+        // Process 'Data Type Supported Bit Mask'
+        int valDataTypeSupportedBitMask = 0;
+        for (String value : dataTypeSupportedBitMask) {
+            boolean foundDataTypeSupportedBitMask = false;
+            for (Integer entry : constantEntryControlEventSupportedReportDataTypeSupportedBitMask.keySet()) {
+                if (constantEntryControlEventSupportedReportDataTypeSupportedBitMask.get(entry).equals(value)) {
+                    foundDataTypeSupportedBitMask = true;
+                    valDataTypeSupportedBitMask += entry;
+                    break;
+                }
+            }
+            if (!foundDataTypeSupportedBitMask) {
+                throw new IllegalArgumentException("Unknown constant value '" + dataTypeSupportedBitMask + "' for dataTypeSupportedBitMask");
+            }
+        }
+        buffer.put((byte) valDataTypeSupportedBitMask);
+
+        // Process 'Properties2'
+        buffer.put((byte) 0);
+
+        // Process 'Event Type Supported Bit Mask'
+        int valEventTypeSupportedBitMask = 0;
+        for (String value : eventTypeSupportedBitMask) {
+            boolean foundEventTypeSupportedBitMask = false;
+            for (Integer entry : constantEntryControlEventSupportedReportEventTypeSupportedBitMask.keySet()) {
+                if (constantEntryControlEventSupportedReportEventTypeSupportedBitMask.get(entry).equals(value)) {
+                    foundEventTypeSupportedBitMask = true;
+                    valEventTypeSupportedBitMask += entry;
+                    break;
+                }
+            }
+            if (!foundEventTypeSupportedBitMask) {
+                throw new IllegalArgumentException("Unknown constant value '" + eventTypeSupportedBitMask + "' for eventTypeSupportedBitMask");
+            }
+        }
+        buffer.put((byte) valEventTypeSupportedBitMask);
+
+        // Process 'Key Cached Size supported Minimum'
+        buffer.put(keyCachedSizeSupportedMinimum.byteValue());
+
+        // Process 'Key Cached Size supported Maximum'
+        buffer.put(keyCachedSizeSupportedMaximum.byteValue());
+
+        // Process 'Key Cached Timeout supported Minimum'
+        buffer.put(keyCachedTimeoutSupportedMinimum.byteValue());
+
+        // Process 'Key Cached Timeout supported Maximum'
+        buffer.put(keyCachedTimeoutSupportedMaximum.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ENTRY_CONTROL_EVENT_SUPPORTED_REPORT command.
      * <p>
@@ -671,6 +972,36 @@ public class CommandClassEntryControlV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ENTRY_CONTROL_CONFIGURATION_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Entry Control Configuration Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param keyCacheSize {@link Integer}
+     * @param keyCacheTimeout {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getEntryControlConfigurationSet(ByteBuffer buffer, Integer keyCacheSize,
+            Integer keyCacheTimeout) {
+        logger.debug("Creating command message ENTRY_CONTROL_CONFIGURATION_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ENTRY_CONTROL_CONFIGURATION_SET);
+
+        // Process 'Key Cache Size'
+        buffer.put(keyCacheSize.byteValue());
+
+        // Process 'Key Cache Timeout'
+        buffer.put(keyCacheTimeout.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ENTRY_CONTROL_CONFIGURATION_SET command.
      * <p>
@@ -718,6 +1049,27 @@ public class CommandClassEntryControlV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ENTRY_CONTROL_CONFIGURATION_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Entry Control Configuration Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getEntryControlConfigurationGet(ByteBuffer buffer) {
+        logger.debug("Creating command message ENTRY_CONTROL_CONFIGURATION_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ENTRY_CONTROL_CONFIGURATION_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ENTRY_CONTROL_CONFIGURATION_GET command.
      * <p>
@@ -760,6 +1112,36 @@ public class CommandClassEntryControlV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ENTRY_CONTROL_CONFIGURATION_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Entry Control Configuration Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param keyCacheSize {@link Integer}
+     * @param keyCacheTimeout {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getEntryControlConfigurationReport(ByteBuffer buffer, Integer keyCacheSize,
+            Integer keyCacheTimeout) {
+        logger.debug("Creating command message ENTRY_CONTROL_CONFIGURATION_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ENTRY_CONTROL_CONFIGURATION_REPORT);
+
+        // Process 'Key Cache Size'
+        buffer.put(keyCacheSize.byteValue());
+
+        // Process 'Key Cache Timeout'
+        buffer.put(keyCacheTimeout.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ENTRY_CONTROL_CONFIGURATION_REPORT command.
      * <p>
@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -122,6 +123,27 @@ public class CommandClassFirmwareUpdateMdV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the FIRMWARE_MD_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Firmware Md Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getFirmwareMdGet(ByteBuffer buffer) {
+        logger.debug("Creating command message FIRMWARE_MD_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) FIRMWARE_MD_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the FIRMWARE_MD_GET command.
      * <p>
@@ -171,6 +193,43 @@ public class CommandClassFirmwareUpdateMdV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the FIRMWARE_MD_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Firmware Md Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param manufacturerId {@link Integer}
+     * @param firmwareId {@link Integer}
+     * @param checksum {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getFirmwareMdReport(ByteBuffer buffer, Integer manufacturerId, Integer firmwareId,
+            Integer checksum) {
+        logger.debug("Creating command message FIRMWARE_MD_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) FIRMWARE_MD_REPORT);
+
+        // Process 'Manufacturer ID'
+        buffer.put((byte) ((manufacturerId >> 8) & 0xff));
+        buffer.put((byte) (manufacturerId & 0xff));
+
+        // Process 'Firmware ID'
+        buffer.put((byte) ((firmwareId >> 8) & 0xff));
+        buffer.put((byte) (firmwareId & 0xff));
+
+        // Process 'Checksum'
+        buffer.put((byte) ((checksum >> 8) & 0xff));
+        buffer.put((byte) (checksum & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the FIRMWARE_MD_REPORT command.
      * <p>
@@ -237,6 +296,43 @@ public class CommandClassFirmwareUpdateMdV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the FIRMWARE_UPDATE_MD_REQUEST_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Firmware Update Md Request Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param manufacturerId {@link Integer}
+     * @param firmwareId {@link Integer}
+     * @param checksum {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getFirmwareUpdateMdRequestGet(ByteBuffer buffer, Integer manufacturerId, Integer firmwareId,
+            Integer checksum) {
+        logger.debug("Creating command message FIRMWARE_UPDATE_MD_REQUEST_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) FIRMWARE_UPDATE_MD_REQUEST_GET);
+
+        // Process 'Manufacturer ID'
+        buffer.put((byte) ((manufacturerId >> 8) & 0xff));
+        buffer.put((byte) (manufacturerId & 0xff));
+
+        // Process 'Firmware ID'
+        buffer.put((byte) ((firmwareId >> 8) & 0xff));
+        buffer.put((byte) (firmwareId & 0xff));
+
+        // Process 'Checksum'
+        buffer.put((byte) ((checksum >> 8) & 0xff));
+        buffer.put((byte) (checksum & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the FIRMWARE_UPDATE_MD_REQUEST_GET command.
      * <p>
@@ -308,6 +404,47 @@ public class CommandClassFirmwareUpdateMdV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the FIRMWARE_UPDATE_MD_REQUEST_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Firmware Update Md Request Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param status {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>INVALID_COMBINATION
+     *            <li>VALID_COMBINATION
+     *            <li>REQUIRES_AUTHENTICATION
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getFirmwareUpdateMdRequestReport(ByteBuffer buffer, String status) {
+        logger.debug("Creating command message FIRMWARE_UPDATE_MD_REQUEST_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) FIRMWARE_UPDATE_MD_REQUEST_REPORT);
+
+        // Process 'Status'
+        boolean foundStatus = false;
+        for (Integer entry : constantFirmwareUpdateMdRequestReportStatus.keySet()) {
+            if (constantFirmwareUpdateMdRequestReportStatus.get(entry).equals(status)) {
+                buffer.put(entry.byteValue());
+                foundStatus = true;
+                break;
+            }
+        }
+        if (!foundStatus) {
+            throw new IllegalArgumentException("Unknown constant value '" + status + "' for status");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the FIRMWARE_UPDATE_MD_REQUEST_REPORT command.
      * <p>
@@ -368,6 +505,44 @@ public class CommandClassFirmwareUpdateMdV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the FIRMWARE_UPDATE_MD_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Firmware Update Md Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param numberOfReports {@link Integer}
+     * @param reportNumber1 {@link Integer}
+     * @param zero {@link Boolean}
+     * @param reportNumber2 {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getFirmwareUpdateMdGet(ByteBuffer buffer, Integer numberOfReports, Integer reportNumber1,
+            Boolean zero, Integer reportNumber2) {
+        logger.debug("Creating command message FIRMWARE_UPDATE_MD_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) FIRMWARE_UPDATE_MD_GET);
+
+        // Process 'Number of Reports'
+        buffer.put(numberOfReports.byteValue());
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= reportNumber1 & 0x7F;
+        valProperties1 |= zero ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Report number 2'
+        buffer.put(reportNumber2.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the FIRMWARE_UPDATE_MD_GET command.
      * <p>
@@ -448,6 +623,51 @@ public class CommandClassFirmwareUpdateMdV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the FIRMWARE_UPDATE_MD_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Firmware Update Md Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param reportNumber1 {@link Integer}
+     * @param last {@link Boolean}
+     * @param reportNumber2 {@link Integer}
+     * @param data {@link byte[]}
+     * @param checksum {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getFirmwareUpdateMdReport(ByteBuffer buffer, Integer reportNumber1, Boolean last,
+            Integer reportNumber2, byte[] data, Integer checksum) {
+        logger.debug("Creating command message FIRMWARE_UPDATE_MD_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) FIRMWARE_UPDATE_MD_REPORT);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= reportNumber1 & 0x7F;
+        valProperties1 |= last ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Report number 2'
+        buffer.put(reportNumber2.byteValue());
+
+        // Process 'Data'
+        if (data != null) {
+            buffer.put(data);
+        }
+
+        // Process 'Checksum'
+        buffer.put((byte) ((checksum >> 8) & 0xff));
+        buffer.put((byte) (checksum & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the FIRMWARE_UPDATE_MD_REPORT command.
      * <p>
@@ -536,6 +756,47 @@ public class CommandClassFirmwareUpdateMdV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the FIRMWARE_UPDATE_MD_STATUS_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Firmware Update Md Status Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param status {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>UNABLE_TO_RECEIVE_WITHOUT_CHECKSUM_ERROR
+     *            <li>SUCCESSFULLY
+     *            <li>UNABLE_TO_RECEIVE
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getFirmwareUpdateMdStatusReport(ByteBuffer buffer, String status) {
+        logger.debug("Creating command message FIRMWARE_UPDATE_MD_STATUS_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) FIRMWARE_UPDATE_MD_STATUS_REPORT);
+
+        // Process 'Status'
+        boolean foundStatus = false;
+        for (Integer entry : constantFirmwareUpdateMdStatusReportStatus.keySet()) {
+            if (constantFirmwareUpdateMdStatusReportStatus.get(entry).equals(status)) {
+                buffer.put(entry.byteValue());
+                foundStatus = true;
+                break;
+            }
+        }
+        if (!foundStatus) {
+            throw new IllegalArgumentException("Unknown constant value '" + status + "' for status");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the FIRMWARE_UPDATE_MD_STATUS_REPORT command.
      * <p>
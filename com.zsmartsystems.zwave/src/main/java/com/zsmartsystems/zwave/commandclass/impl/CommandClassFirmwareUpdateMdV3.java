@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -127,6 +128,27 @@ public class CommandClassFirmwareUpdateMdV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the FIRMWARE_MD_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Firmware Md Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getFirmwareMdGet(ByteBuffer buffer) {
+        logger.debug("Creating command message FIRMWARE_MD_GET version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) FIRMWARE_MD_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the FIRMWARE_MD_GET command.
      * <p>
@@ -192,6 +214,59 @@ public class CommandClassFirmwareUpdateMdV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the FIRMWARE_MD_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Firmware Md Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param manufacturerId {@link Integer}
+     * @param firmware0Id {@link Integer}
+     * @param firmware0Checksum {@link Integer}
+     * @param firmwareUpgradable {@link Integer}
+     * @param numberOfFirmwareTargets {@link Integer}
+     * @param maxFragmentSize {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getFirmwareMdReport(ByteBuffer buffer, Integer manufacturerId, Integer firmware0Id,
+            Integer firmware0Checksum, Integer firmwareUpgradable, Integer numberOfFirmwareTargets,
+            Integer maxFragmentSize) {
+        logger.debug("Creating command message FIRMWARE_MD_REPORT version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) FIRMWARE_MD_REPORT);
+
+        // Process 'Manufacturer ID'
+        buffer.put((byte) ((manufacturerId >> 8) & 0xff));
+        buffer.put((byte) (manufacturerId & 0xff));
+
+        // Process 'Firmware 0 ID'
+        buffer.put((byte) ((firmware0Id >> 8) & 0xff));
+        buffer.put((byte) (firmware0Id & 0xff));
+
+        // Process 'Firmware 0 Checksum'
+        buffer.put((byte) ((firmware0Checksum >> 8) & 0xff));
+        buffer.put((byte) (firmware0Checksum & 0xff));
+
+        // Process 'Firmware Upgradable'
+        buffer.put(firmwareUpgradable.byteValue());
+
+        // Process 'Number of Firmware Targets'
+        buffer.put(numberOfFirmwareTargets.byteValue());
+
+        // Process 'Max Fragment Size '
+        buffer.put((byte) ((maxFragmentSize >> 8) & 0xff));
+        buffer.put((byte) (maxFragmentSize & 0xff));
+
+        // Process 'vg1'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the FIRMWARE_MD_REPORT command.
      * <p>
@@ -303,6 +378,52 @@ public class CommandClassFirmwareUpdateMdV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the FIRMWARE_UPDATE_MD_REQUEST_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Firmware Update Md Request Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param manufacturerId {@link Integer}
+     * @param firmwareId {@link Integer}
+     * @param checksum {@link Integer}
+     * @param firmwareTarget {@link Integer}
+     * @param fragmentSize {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getFirmwareUpdateMdRequestGet(ByteBuffer buffer, Integer manufacturerId, Integer firmwareId,
+            Integer checksum, Integer firmwareTarget, Integer fragmentSize) {
+        logger.debug("Creating command message FIRMWARE_UPDATE_MD_REQUEST_GET version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) FIRMWARE_UPDATE_MD_REQUEST_GET);
+
+        // Process 'Manufacturer ID'
+        buffer.put((byte) ((manufacturerId >> 8) & 0xff));
+        buffer.put((byte) (manufacturerId & 0xff));
+
+        // Process 'Firmware ID'
+        buffer.put((byte) ((firmwareId >> 8) & 0xff));
+        buffer.put((byte) (firmwareId & 0xff));
+
+        // Process 'Checksum'
+        buffer.put((byte) ((checksum >> 8) & 0xff));
+        buffer.put((byte) (checksum & 0xff));
+
+        // Process 'Firmware Target'
+        buffer.put(firmwareTarget.byteValue());
+
+        // Process 'Fragment Size'
+        buffer.put((byte) ((fragmentSize >> 8) & 0xff));
+        buffer.put((byte) (fragmentSize & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the FIRMWARE_UPDATE_MD_REQUEST_GET command.
      * <p>
@@ -384,6 +505,49 @@ public class CommandClassFirmwareUpdateMdV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the FIRMWARE_UPDATE_MD_REQUEST_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Firmware Update Md Request Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param status {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>INVALID_COMBINATION
+     *            <li>VALID_COMBINATION
+     *            <li>REQUIRES_AUTHENTICATION
+     *            <li>INVALID_FRAGMENT_SIZE
+     *            <li>NOT_UPGRADABLE
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getFirmwareUpdateMdRequestReport(ByteBuffer buffer, String status) {
+        logger.debug("Creating command message FIRMWARE_UPDATE_MD_REQUEST_REPORT version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) FIRMWARE_UPDATE_MD_REQUEST_REPORT);
+
+        // Process 'Status'
+        boolean foundStatus = false;
+        for (Integer entry : constantFirmwareUpdateMdRequestReportStatus.keySet()) {
+            if (constantFirmwareUpdateMdRequestReportStatus.get(entry).equals(status)) {
+                buffer.put(entry.byteValue());
+                foundStatus = true;
+                break;
+            }
+        }
+        if (!foundStatus) {
+            throw new IllegalArgumentException("Unknown constant value '" + status + "' for status");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the FIRMWARE_UPDATE_MD_REQUEST_REPORT command.
      * <p>
@@ -444,6 +608,44 @@ public class CommandClassFirmwareUpdateMdV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the FIRMWARE_UPDATE_MD_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Firmware Update Md Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param numberOfReports {@link Integer}
+     * @param reportNumber1 {@link Integer}
+     * @param zero {@link Boolean}
+     * @param reportNumber2 {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getFirmwareUpdateMdGet(ByteBuffer buffer, Integer numberOfReports, Integer reportNumber1,
+            Boolean zero, Integer reportNumber2) {
+        logger.debug("Creating command message FIRMWARE_UPDATE_MD_GET version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) FIRMWARE_UPDATE_MD_GET);
+
+        // Process 'Number of Reports'
+        buffer.put(numberOfReports.byteValue());
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= reportNumber1 & 0x7F;
+        valProperties1 |= zero ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Report number 2'
+        buffer.put(reportNumber2.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the FIRMWARE_UPDATE_MD_GET command.
      * <p>
@@ -524,6 +726,51 @@ public class CommandClassFirmwareUpdateMdV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the FIRMWARE_UPDATE_MD_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Firmware Update Md Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param reportNumber1 {@link Integer}
+     * @param last {@link Boolean}
+     * @param reportNumber2 {@link Integer}
+     * @param data {@link byte[]}
+     * @param checksum {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getFirmwareUpdateMdReport(ByteBuffer buffer, Integer reportNumber1, Boolean last,
+            Integer reportNumber2, byte[] data, Integer checksum) {
+        logger.debug("Creating command message FIRMWARE_UPDATE_MD_REPORT version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) FIRMWARE_UPDATE_MD_REPORT);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= reportNumber1 & 0x7F;
+        valProperties1 |= last ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Report number 2'
+        buffer.put(reportNumber2.byteValue());
+
+        // Process 'Data'
+        if (data != null) {
+            buffer.put(data);
+        }
+
+        // Process 'Checksum'
+        buffer.put((byte) ((checksum >> 8) & 0xff));
+        buffer.put((byte) (checksum & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the FIRMWARE_UPDATE_MD_REPORT command.
      * <p>
@@ -618,6 +865,53 @@ public class CommandClassFirmwareUpdateMdV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the FIRMWARE_UPDATE_MD_STATUS_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Firmware Update Md Status Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param status {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>SUCCESSFULLY_STORED
+     *            <li>UNABLE_TO_RECEIVE_WITHOUT_CHECKSUM_ERROR
+     *            <li>SUCCESSFULLY
+     *            <li>UNABLE_TO_RECEIVE
+     *            </ul>
+     * @param waittime {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getFirmwareUpdateMdStatusReport(ByteBuffer buffer, String status, Integer waittime) {
+        logger.debug("Creating command message FIRMWARE_UPDATE_MD_STATUS_REPORT version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) FIRMWARE_UPDATE_MD_STATUS_REPORT);
+
+        // Process 'Status'
+        boolean foundStatus = false;
+        for (Integer entry : constantFirmwareUpdateMdStatusReportStatus.keySet()) {
+            if (constantFirmwareUpdateMdStatusReportStatus.get(entry).equals(status)) {
+                buffer.put(entry.byteValue());
+                foundStatus = true;
+                break;
+            }
+        }
+        if (!foundStatus) {
+            throw new IllegalArgumentException("Unknown constant value '" + status + "' for status");
+        }
+
+        // Process 'WaitTime'
+        buffer.put((byte) ((waittime >> 8) & 0xff));
+        buffer.put((byte) (waittime & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the FIRMWARE_UPDATE_MD_STATUS_REPORT command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -126,6 +127,52 @@ public class CommandClassGeographicLocationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the GEOGRAPHIC_LOCATION_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Geographic Location Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param longitudeDegrees {@link Integer}
+     * @param longitudeMinutes {@link Integer}
+     * @param longSign {@link Boolean}
+     * @param latitudeDegrees {@link Integer}
+     * @param latitudeMinutes {@link Integer}
+     * @param latSign {@link Boolean}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getGeographicLocationSet(ByteBuffer buffer, Integer longitudeDegrees, Integer longitudeMinutes,
+            Boolean longSign, Integer latitudeDegrees, Integer latitudeMinutes, Boolean latSign) {
+        logger.debug("Creating command message GEOGRAPHIC_LOCATION_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) GEOGRAPHIC_LOCATION_SET);
+
+        // Process 'Longitude Degrees'
+        buffer.put(longitudeDegrees.byteValue());
+
+        // Process 'Level'
+        int valLevel = 0;
+        valLevel |= longitudeMinutes & 0x7F;
+        valLevel |= longSign ? 0x80 : 0;
+        buffer.put((byte) valLevel);
+
+        // Process 'Latitude Degrees'
+        buffer.put(latitudeDegrees.byteValue());
+
+        // Process 'Level2'
+        int valLevel2 = 0;
+        valLevel2 |= latitudeMinutes & 0x7F;
+        valLevel2 |= latSign ? 0x80 : 0;
+        buffer.put((byte) valLevel2);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the GEOGRAPHIC_LOCATION_SET command.
      * <p>
@@ -185,6 +232,27 @@ public class CommandClassGeographicLocationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the GEOGRAPHIC_LOCATION_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Geographic Location Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getGeographicLocationGet(ByteBuffer buffer) {
+        logger.debug("Creating command message GEOGRAPHIC_LOCATION_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) GEOGRAPHIC_LOCATION_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the GEOGRAPHIC_LOCATION_GET command.
      * <p>
@@ -244,6 +312,52 @@ public class CommandClassGeographicLocationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the GEOGRAPHIC_LOCATION_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Geographic Location Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param longitudeDegrees {@link Integer}
+     * @param longitudeMinutes {@link Integer}
+     * @param longSign {@link Boolean}
+     * @param latitudeDegrees {@link Integer}
+     * @param latitudeMinutes {@link Integer}
+     * @param latSign {@link Boolean}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getGeographicLocationReport(ByteBuffer buffer, Integer longitudeDegrees, Integer longitudeMinutes,
+            Boolean longSign, Integer latitudeDegrees, Integer latitudeMinutes, Boolean latSign) {
+        logger.debug("Creating command message GEOGRAPHIC_LOCATION_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) GEOGRAPHIC_LOCATION_REPORT);
+
+        // Process 'Longitude Degrees'
+        buffer.put(longitudeDegrees.byteValue());
+
+        // Process 'Level'
+        int valLevel = 0;
+        valLevel |= longitudeMinutes & 0x7F;
+        valLevel |= longSign ? 0x80 : 0;
+        buffer.put((byte) valLevel);
+
+        // Process 'Latitude Degrees'
+        buffer.put(latitudeDegrees.byteValue());
+
+        // Process 'Level2'
+        int valLevel2 = 0;
+        valLevel2 |= latitudeMinutes & 0x7F;
+        valLevel2 |= latSign ? 0x80 : 0;
+        buffer.put((byte) valLevel2);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the GEOGRAPHIC_LOCATION_REPORT command.
      * <p>
@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.lang.IllegalArgumentException;
 import java.util.HashMap;
 import java.util.Map;
@@ -89,6 +90,45 @@ public class CommandClassGroupingNameV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the GROUPING_NAME_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Grouping Name Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupingIdentifier {@link Integer}
+     * @param charPresentation {@link Integer}
+     * @param groupingName {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getGroupingNameSet(ByteBuffer buffer, Integer groupingIdentifier, Integer charPresentation,
+            byte[] groupingName) {
+        logger.debug("Creating command message GROUPING_NAME_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) GROUPING_NAME_SET);
+
+        // Process 'Grouping identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        // Process 'Properties1'
+        buffer.put((byte) (charPresentation & 0x07));
+
+        // Process 'Grouping Name'
+        if (groupingName != null) {
+            if (groupingName.length > 16) {
+                throw new IllegalArgumentException("Length of array groupingName exceeds maximum length of 16 bytes");
+            }
+            buffer.put(groupingName);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the GROUPING_NAME_SET command.
      * <p>
@@ -149,6 +189,31 @@ public class CommandClassGroupingNameV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the GROUPING_NAME_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Grouping Name Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupingIdentifier {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getGroupingNameGet(ByteBuffer buffer, Integer groupingIdentifier) {
+        logger.debug("Creating command message GROUPING_NAME_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) GROUPING_NAME_GET);
+
+        // Process 'Grouping identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the GROUPING_NAME_GET command.
      * <p>
@@ -212,6 +277,45 @@ public class CommandClassGroupingNameV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the GROUPING_NAME_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Grouping Name Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupingIdentifier {@link Integer}
+     * @param charPresentation {@link Integer}
+     * @param groupingName {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getGroupingNameReport(ByteBuffer buffer, Integer groupingIdentifier, Integer charPresentation,
+            byte[] groupingName) {
+        logger.debug("Creating command message GROUPING_NAME_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) GROUPING_NAME_REPORT);
+
+        // Process 'Grouping identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        // Process 'Properties1'
+        buffer.put((byte) (charPresentation & 0x07));
+
+        // Process 'Grouping Name'
+        if (groupingName != null) {
+            if (groupingName.length > 16) {
+                throw new IllegalArgumentException("Length of array groupingName exceeds maximum length of 16 bytes");
+            }
+            buffer.put(groupingName);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the GROUPING_NAME_REPORT command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -59,6 +60,27 @@ public class CommandClassHailV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the HAIL command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Hail
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getHail(ByteBuffer buffer) {
+        logger.debug("Creating command message HAIL version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) HAIL);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the HAIL command.
      * <p>
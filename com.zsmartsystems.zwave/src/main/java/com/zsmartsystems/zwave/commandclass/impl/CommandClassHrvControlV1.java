@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -139,6 +140,51 @@ public class CommandClassHrvControlV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the HRV_CONTROL_MODE_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Hrv Control Mode Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param mode {@link String}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getHrvControlModeSet(ByteBuffer buffer, String mode) {
+        logger.debug("Creating command message HRV_CONTROL_MODE_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) HRV_CONTROL_MODE_SET);
+
+        // Process 'Properties1'
+        int valmode;
+        switch (mode) {
+            case "OFF":
+                valmode = 0;
+                break;
+            case "DEMAND_AUTOMATIC":
+                valmode = 1;
+                break;
+            case "SCHEDULE":
+                valmode = 2;
+                break;
+            case "ENERGY_SAVINGS_MODE":
+                valmode = 3;
+                break;
+            case "MANUAL":
+                valmode = 4;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for mode: " + mode);
+        }
+        buffer.put((byte) (valmode & 0x1F));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the HRV_CONTROL_MODE_SET command.
      * <p>
@@ -200,6 +246,27 @@ public class CommandClassHrvControlV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the HRV_CONTROL_MODE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Hrv Control Mode Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getHrvControlModeGet(ByteBuffer buffer) {
+        logger.debug("Creating command message HRV_CONTROL_MODE_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) HRV_CONTROL_MODE_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the HRV_CONTROL_MODE_GET command.
      * <p>
@@ -258,6 +325,51 @@ public class CommandClassHrvControlV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the HRV_CONTROL_MODE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Hrv Control Mode Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param mode {@link String}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getHrvControlModeReport(ByteBuffer buffer, String mode) {
+        logger.debug("Creating command message HRV_CONTROL_MODE_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) HRV_CONTROL_MODE_REPORT);
+
+        // Process 'Properties1'
+        int valmode;
+        switch (mode) {
+            case "OFF":
+                valmode = 0;
+                break;
+            case "DEMAND_AUTOMATIC":
+                valmode = 1;
+                break;
+            case "SCHEDULE":
+                valmode = 2;
+                break;
+            case "ENERGY_SAVINGS_MODE":
+                valmode = 3;
+                break;
+            case "MANUAL":
+                valmode = 4;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for mode: " + mode);
+        }
+        buffer.put((byte) (valmode & 0x1F));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the HRV_CONTROL_MODE_REPORT command.
      * <p>
@@ -323,6 +435,31 @@ public class CommandClassHrvControlV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the HRV_CONTROL_BYPASS_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Hrv Control Bypass Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param bypass {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getHrvControlBypassSet(ByteBuffer buffer, Integer bypass) {
+        logger.debug("Creating command message HRV_CONTROL_BYPASS_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) HRV_CONTROL_BYPASS_SET);
+
+        // Process 'Bypass'
+        buffer.put(bypass.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the HRV_CONTROL_BYPASS_SET command.
      * <p>
@@ -366,6 +503,27 @@ public class CommandClassHrvControlV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the HRV_CONTROL_BYPASS_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Hrv Control Bypass Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getHrvControlBypassGet(ByteBuffer buffer) {
+        logger.debug("Creating command message HRV_CONTROL_BYPASS_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) HRV_CONTROL_BYPASS_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the HRV_CONTROL_BYPASS_GET command.
      * <p>
@@ -404,6 +562,31 @@ public class CommandClassHrvControlV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the HRV_CONTROL_BYPASS_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Hrv Control Bypass Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param bypass {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getHrvControlBypassReport(ByteBuffer buffer, Integer bypass) {
+        logger.debug("Creating command message HRV_CONTROL_BYPASS_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) HRV_CONTROL_BYPASS_REPORT);
+
+        // Process 'Bypass'
+        buffer.put(bypass.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the HRV_CONTROL_BYPASS_REPORT command.
      * <p>
@@ -451,6 +634,31 @@ public class CommandClassHrvControlV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the HRV_CONTROL_VENTILATION_RATE_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Hrv Control Ventilation Rate Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param ventilationRate {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getHrvControlVentilationRateSet(ByteBuffer buffer, Integer ventilationRate) {
+        logger.debug("Creating command message HRV_CONTROL_VENTILATION_RATE_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) HRV_CONTROL_VENTILATION_RATE_SET);
+
+        // Process 'Ventilation Rate'
+        buffer.put(ventilationRate.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the HRV_CONTROL_VENTILATION_RATE_SET command.
      * <p>
@@ -494,6 +702,27 @@ public class CommandClassHrvControlV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the HRV_CONTROL_VENTILATION_RATE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Hrv Control Ventilation Rate Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getHrvControlVentilationRateGet(ByteBuffer buffer) {
+        logger.debug("Creating command message HRV_CONTROL_VENTILATION_RATE_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) HRV_CONTROL_VENTILATION_RATE_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the HRV_CONTROL_VENTILATION_RATE_GET command.
      * <p>
@@ -532,6 +761,31 @@ public class CommandClassHrvControlV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the HRV_CONTROL_VENTILATION_RATE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Hrv Control Ventilation Rate Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param ventilationRate {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getHrvControlVentilationRateReport(ByteBuffer buffer, Integer ventilationRate) {
+        logger.debug("Creating command message HRV_CONTROL_VENTILATION_RATE_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) HRV_CONTROL_VENTILATION_RATE_REPORT);
+
+        // Process 'Ventilation Rate'
+        buffer.put(ventilationRate.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the HRV_CONTROL_VENTILATION_RATE_REPORT command.
      * <p>
@@ -575,6 +829,27 @@ public class CommandClassHrvControlV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the HRV_CONTROL_MODE_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Hrv Control Mode Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getHrvControlModeSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message HRV_CONTROL_MODE_SUPPORTED_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) HRV_CONTROL_MODE_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the HRV_CONTROL_MODE_SUPPORTED_GET command.
      * <p>
@@ -656,6 +931,75 @@ public class CommandClassHrvControlV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the HRV_CONTROL_MODE_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Hrv Control Mode Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param manualControlSupported {@link String}
+     * @param bitMask {@link List<String>}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF
+     *            <li>DEMAND_AUTOMATIC
+     *            <li>SCHEDULE
+     *            <li>ENERGY_SAVINGS_MODE
+     *            <li>MANUAL
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getHrvControlModeSupportedReport(ByteBuffer buffer, String manualControlSupported,
+            List<String> bitMask) {
+        logger.debug("Creating command message HRV_CONTROL_MODE_SUPPORTED_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) HRV_CONTROL_MODE_SUPPORTED_REPORT);
+
+        // Process 'Properties1'
+        int valmanualControlSupported;
+        switch (manualControlSupported) {
+            case "BYPASS_OPEN_CLOSE":
+                valmanualControlSupported = 0;
+                break;
+            case "BYPASS_AUTO":
+                valmanualControlSupported = 1;
+                break;
+            case "MODULATED_BYPASS":
+                valmanualControlSupported = 2;
+                break;
+            case "VENTILATION_RATE":
+                valmanualControlSupported = 3;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for manualControlSupported: " + manualControlSupported);
+        }
+        buffer.put((byte) (valmanualControlSupported & 0x0F));
+
+        // Process 'Bit Mask'
+        int valBitMask = 0;
+        for (String value : bitMask) {
+            boolean foundBitMask = false;
+            for (Integer entry : constantHrvControlModeSupportedReportBitMask.keySet()) {
+                if (constantHrvControlModeSupportedReportBitMask.get(entry).equals(value)) {
+                    foundBitMask = true;
+                    valBitMask += entry;
+                    break;
+                }
+            }
+            if (!foundBitMask) {
+                throw new IllegalArgumentException("Unknown constant value '" + bitMask + "' for bitMask");
+            }
+        }
+        buffer.put((byte) valBitMask);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the HRV_CONTROL_MODE_SUPPORTED_REPORT command.
      * <p>
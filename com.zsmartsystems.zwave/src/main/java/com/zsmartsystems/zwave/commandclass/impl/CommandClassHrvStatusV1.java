@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -142,6 +143,51 @@ public class CommandClassHrvStatusV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the HRV_STATUS_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Hrv Status Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param statusParameter {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OUTDOOR_AIR_TEMPERATURE
+     *            <li>SUPPLY_AIR_TEMPERATURE
+     *            <li>EXHAUST_AIR_TEMPERATURE
+     *            <li>DISCHARGE_AIR_TEMPERATURE
+     *            <li>ROOM_TEMPERATURE
+     *            <li>RELATIVE_HUMIDITY_IN_ROOM
+     *            <li>REMAINING_FILTER_LIFE
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getHrvStatusGet(ByteBuffer buffer, String statusParameter) {
+        logger.debug("Creating command message HRV_STATUS_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) HRV_STATUS_GET);
+
+        // Process 'Status Parameter'
+        boolean foundStatusParameter = false;
+        for (Integer entry : constantHrvStatusGetStatusParameter.keySet()) {
+            if (constantHrvStatusGetStatusParameter.get(entry).equals(statusParameter)) {
+                buffer.put(entry.byteValue());
+                foundStatusParameter = true;
+                break;
+            }
+        }
+        if (!foundStatusParameter) {
+            throw new IllegalArgumentException("Unknown constant value '" + statusParameter + "' for statusParameter");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the HRV_STATUS_GET command.
      * <p>
@@ -229,6 +275,68 @@ public class CommandClassHrvStatusV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the HRV_STATUS_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Hrv Status Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param statusParameter {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OUTDOOR_AIR_TEMPERATURE
+     *            <li>SUPPLY_AIR_TEMPERATURE
+     *            <li>EXHAUST_AIR_TEMPERATURE
+     *            <li>DISCHARGE_AIR_TEMPERATURE
+     *            <li>ROOM_TEMPERATURE
+     *            <li>RELATIVE_HUMIDITY_IN_ROOM
+     *            <li>REMAINING_FILTER_LIFE
+     *            </ul>
+     * @param size {@link Integer}
+     * @param scale {@link Integer}
+     * @param precision {@link Integer}
+     * @param value {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getHrvStatusReport(ByteBuffer buffer, String statusParameter, Integer size, Integer scale,
+            Integer precision, byte[] value) {
+        logger.debug("Creating command message HRV_STATUS_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) HRV_STATUS_REPORT);
+
+        // Process 'Status Parameter'
+        boolean foundStatusParameter = false;
+        for (Integer entry : constantHrvStatusReportStatusParameter.keySet()) {
+            if (constantHrvStatusReportStatusParameter.get(entry).equals(statusParameter)) {
+                buffer.put(entry.byteValue());
+                foundStatusParameter = true;
+                break;
+            }
+        }
+        if (!foundStatusParameter) {
+            throw new IllegalArgumentException("Unknown constant value '" + statusParameter + "' for statusParameter");
+        }
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= size & 0x07;
+        valProperties1 |= ((scale << 3) & 0x18);
+        valProperties1 |= ((precision << 5) & 0xE0);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Value'
+        if (value != null) {
+            buffer.put(value);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the HRV_STATUS_REPORT command.
      * <p>
@@ -294,6 +402,27 @@ public class CommandClassHrvStatusV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the HRV_STATUS_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Hrv Status Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getHrvStatusSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message HRV_STATUS_SUPPORTED_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) HRV_STATUS_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the HRV_STATUS_SUPPORTED_GET command.
      * <p>
@@ -356,6 +485,55 @@ public class CommandClassHrvStatusV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the HRV_STATUS_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Hrv Status Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param bitMask {@link List<String>}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OUTDOOR_AIR_TEMPERATURE
+     *            <li>SUPPLY_AIR_TEMPERATURE
+     *            <li>EXHAUST_AIR_TEMPERATURE
+     *            <li>DISCHARGE_AIR_TEMPERATURE
+     *            <li>ROOM_TEMPERATURE
+     *            <li>RELATIVE_HUMIDITY_IN_ROOM
+     *            <li>REMAINING_FILTER_LIFE
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getHrvStatusSupportedReport(ByteBuffer buffer, List<String> bitMask) {
+        logger.debug("Creating command message HRV_STATUS_SUPPORTED_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) HRV_STATUS_SUPPORTED_REPORT);
+
+        // Process 'Bit Mask'
+        int valBitMask = 0;
+        for (String value : bitMask) {
+            boolean foundBitMask = false;
+            for (Integer entry : constantHrvStatusSupportedReportBitMask.keySet()) {
+                if (constantHrvStatusSupportedReportBitMask.get(entry).equals(value)) {
+                    foundBitMask = true;
+                    valBitMask += entry;
+                    break;
+                }
+            }
+            if (!foundBitMask) {
+                throw new IllegalArgumentException("Unknown constant value '" + bitMask + "' for bitMask");
+            }
+        }
+        buffer.put((byte) valBitMask);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the HRV_STATUS_SUPPORTED_REPORT command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -107,6 +108,45 @@ public class CommandClassHumidityControlModeV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the HUMIDITY_CONTROL_MODE_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Humidity Control Mode Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param mode {@link String}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getHumidityControlModeSet(ByteBuffer buffer, String mode) {
+        logger.debug("Creating command message HUMIDITY_CONTROL_MODE_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) HUMIDITY_CONTROL_MODE_SET);
+
+        // Process 'Properties1'
+        int valmode;
+        switch (mode) {
+            case "OFF":
+                valmode = 0;
+                break;
+            case "HUMIDIFY":
+                valmode = 1;
+                break;
+            case "DEHUMIDIFY":
+                valmode = 2;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for mode: " + mode);
+        }
+        buffer.put((byte) (valmode & 0x0F));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the HUMIDITY_CONTROL_MODE_SET command.
      * <p>
@@ -162,6 +202,27 @@ public class CommandClassHumidityControlModeV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the HUMIDITY_CONTROL_MODE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Humidity Control Mode Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getHumidityControlModeGet(ByteBuffer buffer) {
+        logger.debug("Creating command message HUMIDITY_CONTROL_MODE_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) HUMIDITY_CONTROL_MODE_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the HUMIDITY_CONTROL_MODE_GET command.
      * <p>
@@ -214,6 +275,45 @@ public class CommandClassHumidityControlModeV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the HUMIDITY_CONTROL_MODE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Humidity Control Mode Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param mode {@link String}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getHumidityControlModeReport(ByteBuffer buffer, String mode) {
+        logger.debug("Creating command message HUMIDITY_CONTROL_MODE_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) HUMIDITY_CONTROL_MODE_REPORT);
+
+        // Process 'Properties1'
+        int valmode;
+        switch (mode) {
+            case "OFF":
+                valmode = 0;
+                break;
+            case "HUMIDIFY":
+                valmode = 1;
+                break;
+            case "DEHUMIDIFY":
+                valmode = 2;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for mode: " + mode);
+        }
+        buffer.put((byte) (valmode & 0x0F));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the HUMIDITY_CONTROL_MODE_REPORT command.
      * <p>
@@ -269,6 +369,27 @@ public class CommandClassHumidityControlModeV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the HUMIDITY_CONTROL_MODE_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Humidity Control Mode Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getHumidityControlModeSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message HUMIDITY_CONTROL_MODE_SUPPORTED_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) HUMIDITY_CONTROL_MODE_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the HUMIDITY_CONTROL_MODE_SUPPORTED_GET command.
      * <p>
@@ -327,6 +448,51 @@ public class CommandClassHumidityControlModeV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the HUMIDITY_CONTROL_MODE_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Humidity Control Mode Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param bitMask {@link List<String>}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF
+     *            <li>HUMIDIFY
+     *            <li>DEHUMIDIFY
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getHumidityControlModeSupportedReport(ByteBuffer buffer, List<String> bitMask) {
+        logger.debug("Creating command message HUMIDITY_CONTROL_MODE_SUPPORTED_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) HUMIDITY_CONTROL_MODE_SUPPORTED_REPORT);
+
+        // Process 'Bit Mask'
+        int valBitMask = 0;
+        for (String value : bitMask) {
+            boolean foundBitMask = false;
+            for (Integer entry : constantHumidityControlModeSupportedReportBitMask.keySet()) {
+                if (constantHumidityControlModeSupportedReportBitMask.get(entry).equals(value)) {
+                    foundBitMask = true;
+                    valBitMask += entry;
+                    break;
+                }
+            }
+            if (!foundBitMask) {
+                throw new IllegalArgumentException("Unknown constant value '" + bitMask + "' for bitMask");
+            }
+        }
+        buffer.put((byte) valBitMask);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the HUMIDITY_CONTROL_MODE_SUPPORTED_REPORT command.
      * <p>
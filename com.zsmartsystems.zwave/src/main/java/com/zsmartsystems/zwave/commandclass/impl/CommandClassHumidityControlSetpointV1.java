@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -152,6 +153,71 @@ public class CommandClassHumidityControlSetpointV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the HUMIDITY_CONTROL_SETPOINT_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Humidity Control Setpoint Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param setpointType {@link String}
+     * @param scale {@link String}
+     * @param precision {@link Integer}
+     * @param value {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getHumidityControlSetpointSet(ByteBuffer buffer, String setpointType, String scale,
+            Integer precision, byte[] value) {
+        logger.debug("Creating command message HUMIDITY_CONTROL_SETPOINT_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) HUMIDITY_CONTROL_SETPOINT_SET);
+
+        // Process 'Properties1'
+        int valsetpointType;
+        switch (setpointType) {
+            case "HUMIDIFIER":
+                valsetpointType = 0;
+                break;
+            case "DEHUMIDIFIER":
+                valsetpointType = 1;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for setpointType: " + setpointType);
+        }
+        buffer.put((byte) (valsetpointType & 0x0F));
+
+        // Process 'Properties2'
+        // Size is used by 'Value'
+        int size = value.length;
+        int valProperties2 = 0;
+        valProperties2 |= size & 0x07;
+        int valscale;
+        switch (scale) {
+            case "PERCENTAGE":
+                valscale = 0;
+                break;
+            case "ABSOLUTE":
+                valscale = 1;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for scale: " + scale);
+        }
+        valProperties2 |= valscale >> 3 & 0x18;
+        valProperties2 |= ((precision << 5) & 0xE0);
+        buffer.put((byte) valProperties2);
+
+        // Process 'Value'
+        if (value != null) {
+            buffer.put(value);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the HUMIDITY_CONTROL_SETPOINT_SET command.
      * <p>
@@ -250,6 +316,42 @@ public class CommandClassHumidityControlSetpointV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the HUMIDITY_CONTROL_SETPOINT_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Humidity Control Setpoint Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param setpointType {@link String}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getHumidityControlSetpointGet(ByteBuffer buffer, String setpointType) {
+        logger.debug("Creating command message HUMIDITY_CONTROL_SETPOINT_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) HUMIDITY_CONTROL_SETPOINT_GET);
+
+        // Process 'Properties1'
+        int valsetpointType;
+        switch (setpointType) {
+            case "HUMIDIFIER":
+                valsetpointType = 0;
+                break;
+            case "DEHUMIDIFIER":
+                valsetpointType = 1;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for setpointType: " + setpointType);
+        }
+        buffer.put((byte) (valsetpointType & 0x0F));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the HUMIDITY_CONTROL_SETPOINT_GET command.
      * <p>
@@ -349,6 +451,71 @@ public class CommandClassHumidityControlSetpointV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the HUMIDITY_CONTROL_SETPOINT_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Humidity Control Setpoint Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param setpointType {@link String}
+     * @param scale {@link String}
+     * @param precision {@link Integer}
+     * @param value {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getHumidityControlSetpointReport(ByteBuffer buffer, String setpointType, String scale,
+            Integer precision, byte[] value) {
+        logger.debug("Creating command message HUMIDITY_CONTROL_SETPOINT_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) HUMIDITY_CONTROL_SETPOINT_REPORT);
+
+        // Process 'Properties1'
+        int valsetpointType;
+        switch (setpointType) {
+            case "HUMIDIFIER":
+                valsetpointType = 0;
+                break;
+            case "DEHUMIDIFIER":
+                valsetpointType = 1;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for setpointType: " + setpointType);
+        }
+        buffer.put((byte) (valsetpointType & 0x0F));
+
+        // Process 'Properties2'
+        // Size is used by 'Value'
+        int size = value.length;
+        int valProperties2 = 0;
+        valProperties2 |= size & 0x07;
+        int valscale;
+        switch (scale) {
+            case "PERCENTAGE":
+                valscale = 0;
+                break;
+            case "ABSOLUTE":
+                valscale = 1;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for scale: " + scale);
+        }
+        valProperties2 |= valscale >> 3 & 0x18;
+        valProperties2 |= ((precision << 5) & 0xE0);
+        buffer.put((byte) valProperties2);
+
+        // Process 'Value'
+        if (value != null) {
+            buffer.put(value);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the HUMIDITY_CONTROL_SETPOINT_REPORT command.
      * <p>
@@ -432,6 +599,27 @@ public class CommandClassHumidityControlSetpointV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the HUMIDITY_CONTROL_SETPOINT_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Humidity Control Setpoint Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getHumidityControlSetpointSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message HUMIDITY_CONTROL_SETPOINT_SUPPORTED_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) HUMIDITY_CONTROL_SETPOINT_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the HUMIDITY_CONTROL_SETPOINT_SUPPORTED_GET command.
      * <p>
@@ -489,6 +677,50 @@ public class CommandClassHumidityControlSetpointV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the HUMIDITY_CONTROL_SETPOINT_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Humidity Control Setpoint Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param bitMask {@link List<String>}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>HUMIDIFIER
+     *            <li>DEHUMIDIFIER
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getHumidityControlSetpointSupportedReport(ByteBuffer buffer, List<String> bitMask) {
+        logger.debug("Creating command message HUMIDITY_CONTROL_SETPOINT_SUPPORTED_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) HUMIDITY_CONTROL_SETPOINT_SUPPORTED_REPORT);
+
+        // Process 'Bit Mask'
+        int valBitMask = 0;
+        for (String value : bitMask) {
+            boolean foundBitMask = false;
+            for (Integer entry : constantHumidityControlSetpointSupportedReportBitMask.keySet()) {
+                if (constantHumidityControlSetpointSupportedReportBitMask.get(entry).equals(value)) {
+                    foundBitMask = true;
+                    valBitMask += entry;
+                    break;
+                }
+            }
+            if (!foundBitMask) {
+                throw new IllegalArgumentException("Unknown constant value '" + bitMask + "' for bitMask");
+            }
+        }
+        buffer.put((byte) valBitMask);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the HUMIDITY_CONTROL_SETPOINT_SUPPORTED_REPORT command.
      * <p>
@@ -555,6 +787,42 @@ public class CommandClassHumidityControlSetpointV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the HUMIDITY_CONTROL_SETPOINT_SCALE_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Humidity Control Setpoint Scale Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param setpointType {@link String}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getHumidityControlSetpointScaleSupportedGet(ByteBuffer buffer, String setpointType) {
+        logger.debug("Creating command message HUMIDITY_CONTROL_SETPOINT_SCALE_SUPPORTED_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) HUMIDITY_CONTROL_SETPOINT_SCALE_SUPPORTED_GET);
+
+        // Process 'Properties1'
+        int valsetpointType;
+        switch (setpointType) {
+            case "HUMIDIFIER":
+                valsetpointType = 0;
+                break;
+            case "DEHUMIDIFIER":
+                valsetpointType = 1;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for setpointType: " + setpointType);
+        }
+        buffer.put((byte) (valsetpointType & 0x0F));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the HUMIDITY_CONTROL_SETPOINT_SCALE_SUPPORTED_GET command.
      * <p>
@@ -622,6 +890,42 @@ public class CommandClassHumidityControlSetpointV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the HUMIDITY_CONTROL_SETPOINT_SCALE_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Humidity Control Setpoint Scale Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param scaleBitMask {@link String}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getHumidityControlSetpointScaleSupportedReport(ByteBuffer buffer, String scaleBitMask) {
+        logger.debug("Creating command message HUMIDITY_CONTROL_SETPOINT_SCALE_SUPPORTED_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) HUMIDITY_CONTROL_SETPOINT_SCALE_SUPPORTED_REPORT);
+
+        // Process 'Properties1'
+        int valscaleBitMask;
+        switch (scaleBitMask) {
+            case "PERCENTAGE":
+                valscaleBitMask = 0;
+                break;
+            case "ABSOLUTE":
+                valscaleBitMask = 1;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for scaleBitMask: " + scaleBitMask);
+        }
+        buffer.put((byte) (valscaleBitMask & 0x0F));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the HUMIDITY_CONTROL_SETPOINT_SCALE_SUPPORTED_REPORT command.
      * <p>
@@ -689,6 +993,42 @@ public class CommandClassHumidityControlSetpointV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the HUMIDITY_CONTROL_SETPOINT_CAPABILITIES_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Humidity Control Setpoint Capabilities Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param setpointType {@link String}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getHumidityControlSetpointCapabilitiesGet(ByteBuffer buffer, String setpointType) {
+        logger.debug("Creating command message HUMIDITY_CONTROL_SETPOINT_CAPABILITIES_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) HUMIDITY_CONTROL_SETPOINT_CAPABILITIES_GET);
+
+        // Process 'Properties1'
+        int valsetpointType;
+        switch (setpointType) {
+            case "HUMIDIFIER":
+                valsetpointType = 0;
+                break;
+            case "DEHUMIDIFIER":
+                valsetpointType = 1;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for setpointType: " + setpointType);
+        }
+        buffer.put((byte) (valsetpointType & 0x0F));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the HUMIDITY_CONTROL_SETPOINT_CAPABILITIES_GET command.
      * <p>
@@ -819,6 +1159,100 @@ public class CommandClassHumidityControlSetpointV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the HUMIDITY_CONTROL_SETPOINT_CAPABILITIES_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Humidity Control Setpoint Capabilities Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param setpointType {@link String}
+     * @param scale1 {@link String}
+     * @param precision1 {@link Integer}
+     * @param minimumValue {@link byte[]}
+     * @param scale2 {@link String}
+     * @param precision2 {@link Integer}
+     * @param maximumValue {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getHumidityControlSetpointCapabilitiesReport(ByteBuffer buffer, String setpointType,
+            String scale1, Integer precision1, byte[] minimumValue, String scale2, Integer precision2,
+            byte[] maximumValue) {
+        logger.debug("Creating command message HUMIDITY_CONTROL_SETPOINT_CAPABILITIES_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) HUMIDITY_CONTROL_SETPOINT_CAPABILITIES_REPORT);
+
+        // Process 'Properties1'
+        int valsetpointType;
+        switch (setpointType) {
+            case "HUMIDIFIER":
+                valsetpointType = 0;
+                break;
+            case "DEHUMIDIFIER":
+                valsetpointType = 1;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for setpointType: " + setpointType);
+        }
+        buffer.put((byte) (valsetpointType & 0x0F));
+
+        // Process 'Properties2'
+        // Size1 is used by 'Minimum Value'
+        int size1 = minimumValue.length;
+        int valProperties2 = 0;
+        valProperties2 |= size1 & 0x07;
+        int valscale1;
+        switch (scale1) {
+            case "PERCENTAGE":
+                valscale1 = 0;
+                break;
+            case "ABSOLUTE":
+                valscale1 = 1;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for scale1: " + scale1);
+        }
+        valProperties2 |= valscale1 >> 3 & 0x18;
+        valProperties2 |= ((precision1 << 5) & 0xE0);
+        buffer.put((byte) valProperties2);
+
+        // Process 'Minimum Value'
+        if (minimumValue != null) {
+            buffer.put(minimumValue);
+        }
+
+        // Process 'Properties3'
+        // Size2 is used by 'Maximum Value'
+        int size2 = maximumValue.length;
+        int valProperties3 = 0;
+        valProperties3 |= size2 & 0x07;
+        int valscale2;
+        switch (scale2) {
+            case "PERCENTAGE":
+                valscale2 = 0;
+                break;
+            case "ABSOLUTE":
+                valscale2 = 1;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for scale2: " + scale2);
+        }
+        valProperties3 |= valscale2 >> 3 & 0x18;
+        valProperties3 |= ((precision2 << 5) & 0xE0);
+        buffer.put((byte) valProperties3);
+
+        // Process 'Maximum Value'
+        if (maximumValue != null) {
+            buffer.put(maximumValue);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the HUMIDITY_CONTROL_SETPOINT_CAPABILITIES_REPORT command.
      * <p>
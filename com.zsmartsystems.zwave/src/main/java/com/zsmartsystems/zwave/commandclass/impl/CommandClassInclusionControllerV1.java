@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -122,6 +123,56 @@ public class CommandClassInclusionControllerV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the INITIATE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Initiate
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param nodeId {@link Integer}
+     * @param stepId {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>PROXY_INCLUSION
+     *            <li>S0_INCLUSION
+     *            </ul>
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getInitiate(ByteBuffer buffer, Integer nodeId, String stepId) {
+        logger.debug("Creating command message INITIATE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) INITIATE);
+
+        // Process 'Node ID'
+        // Check the node number boundary
+        if (nodeId < 1 || nodeId > 232) {
+            logger.debug("Node number is out of bounds {}", nodeId);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(nodeId.byteValue());
+
+        // Process 'Step ID'
+        boolean foundStepId = false;
+        for (Integer entry : constantInitiateStepId.keySet()) {
+            if (constantInitiateStepId.get(entry).equals(stepId)) {
+                buffer.put(entry.byteValue());
+                foundStepId = true;
+                break;
+            }
+        }
+        if (!foundStepId) {
+            throw new IllegalArgumentException("Unknown constant value '" + stepId + "' for stepId");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the INITIATE command.
      * <p>
@@ -209,6 +260,67 @@ public class CommandClassInclusionControllerV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the COMPLETE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Complete
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param stepId {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>PROXY_INCLUSION
+     *            <li>S0_INCLUSION
+     *            </ul>
+     * @param status {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>STEP_OK
+     *            <li>STEP_USER_REJECTED
+     *            <li>STEP_FAILED
+     *            <li>STEP_NOT_SUPPORTED
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getComplete(ByteBuffer buffer, String stepId, String status) {
+        logger.debug("Creating command message COMPLETE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) COMPLETE);
+
+        // Process 'Step ID'
+        boolean foundStepId = false;
+        for (Integer entry : constantCompleteStepId.keySet()) {
+            if (constantCompleteStepId.get(entry).equals(stepId)) {
+                buffer.put(entry.byteValue());
+                foundStepId = true;
+                break;
+            }
+        }
+        if (!foundStepId) {
+            throw new IllegalArgumentException("Unknown constant value '" + stepId + "' for stepId");
+        }
+
+        // Process 'Status'
+        boolean foundStatus = false;
+        for (Integer entry : constantCompleteStatus.keySet()) {
+            if (constantCompleteStatus.get(entry).equals(status)) {
+                buffer.put(entry.byteValue());
+                foundStatus = true;
+                break;
+            }
+        }
+        if (!foundStatus) {
+            throw new IllegalArgumentException("Unknown constant value '" + status + "' for status");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the COMPLETE command.
      * <p>
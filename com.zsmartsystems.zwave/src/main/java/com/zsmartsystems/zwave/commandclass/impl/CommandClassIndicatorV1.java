@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -106,6 +107,46 @@ public class CommandClassIndicatorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the INDICATOR_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Indicator Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param value {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF_DISABLE
+     *            <li>ON_ENABLE
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIndicatorSet(ByteBuffer buffer, String value) {
+        logger.debug("Creating command message INDICATOR_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) INDICATOR_SET);
+
+        // Process 'Value'
+        boolean foundValue = false;
+        for (Integer entry : constantIndicatorSetValue.keySet()) {
+            if (constantIndicatorSetValue.get(entry).equals(value)) {
+                buffer.put(entry.byteValue());
+                foundValue = true;
+                break;
+            }
+        }
+        if (!foundValue) {
+            throw new IllegalArgumentException("Unknown constant value '" + value + "' for value");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the INDICATOR_SET command.
      * <p>
@@ -149,6 +190,27 @@ public class CommandClassIndicatorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the INDICATOR_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Indicator Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIndicatorGet(ByteBuffer buffer) {
+        logger.debug("Creating command message INDICATOR_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) INDICATOR_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the INDICATOR_GET command.
      * <p>
@@ -202,6 +264,46 @@ public class CommandClassIndicatorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the INDICATOR_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Indicator Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param value {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF_DISABLE
+     *            <li>ON_ENABLE
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIndicatorReport(ByteBuffer buffer, String value) {
+        logger.debug("Creating command message INDICATOR_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) INDICATOR_REPORT);
+
+        // Process 'Value'
+        boolean foundValue = false;
+        for (Integer entry : constantIndicatorReportValue.keySet()) {
+            if (constantIndicatorReportValue.get(entry).equals(value)) {
+                buffer.put(entry.byteValue());
+                foundValue = true;
+                break;
+            }
+        }
+        if (!foundValue) {
+            throw new IllegalArgumentException("Unknown constant value '" + value + "' for value");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the INDICATOR_REPORT command.
      * <p>
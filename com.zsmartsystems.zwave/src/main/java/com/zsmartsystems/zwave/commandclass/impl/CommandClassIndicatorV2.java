@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -398,6 +399,52 @@ public class CommandClassIndicatorV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the INDICATOR_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Indicator Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param indicator0Value {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF_DISABLE
+     *            <li>ON_ENABLE
+     *            </ul>
+     * @param indicatorObjectCount {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIndicatorSet(ByteBuffer buffer, String indicator0Value, Integer indicatorObjectCount) {
+        logger.debug("Creating command message INDICATOR_SET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) INDICATOR_SET);
+
+        // Process 'Indicator 0 Value'
+        boolean foundIndicator0Value = false;
+        for (Integer entry : constantIndicatorSetIndicator0Value.keySet()) {
+            if (constantIndicatorSetIndicator0Value.get(entry).equals(indicator0Value)) {
+                buffer.put(entry.byteValue());
+                foundIndicator0Value = true;
+                break;
+            }
+        }
+        if (!foundIndicator0Value) {
+            throw new IllegalArgumentException("Unknown constant value '" + indicator0Value + "' for indicator0Value");
+        }
+
+        // Process 'Properties1'
+        buffer.put((byte) (indicatorObjectCount & 0x1F));
+
+        // Process 'vg1'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the INDICATOR_SET command.
      * <p>
@@ -524,6 +571,77 @@ public class CommandClassIndicatorV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the INDICATOR_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Indicator Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param indicatorId {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NA
+     *            <li>BUTTON2_INDICATION
+     *            <li>ARMED
+     *            <li>BUTTON3_INDICATION
+     *            <li>NOT_ARMED
+     *            <li>BUTTON4_INDICATION
+     *            <li>BUTTON5_INDICATION
+     *            <li>READY
+     *            <li>FAULT
+     *            <li>BUTTON_BACKLIGHT_LETTERS
+     *            <li>BUSY
+     *            <li>BUTTON_BACKLIGHT_DIGITS
+     *            <li>ENTER_ID
+     *            <li>BUTTON_BACKLIGHT_COMMAND
+     *            <li>ENTER_PIN
+     *            <li>BUTTON1_INDICATION
+     *            <li>BUTTON10_INDICATION
+     *            <li>OK
+     *            <li>BUTTON11_INDICATION
+     *            <li>NOT_OK
+     *            <li>BUTTON12_INDICATION
+     *            <li>BUTTON6_INDICATION
+     *            <li>BUTTON7_INDICATION
+     *            <li>BUTTON8_INDICATION
+     *            <li>BUTTON9_INDICATION
+     *            <li>ZONE3_ARMED
+     *            <li>ZONE4_ARMED
+     *            <li>ZONE1_ARMED
+     *            <li>ZONE2_ARMED
+     *            <li>ZONE5_ARMED
+     *            <li>ZONE6_ARMED
+     *            <li>LCD_BACKLIGHT
+     *            <li>BUZZER
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIndicatorGet(ByteBuffer buffer, String indicatorId) {
+        logger.debug("Creating command message INDICATOR_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) INDICATOR_GET);
+
+        // Process 'Indicator ID'
+        boolean foundIndicatorId = false;
+        for (Integer entry : constantIndicatorGetIndicatorId.keySet()) {
+            if (constantIndicatorGetIndicatorId.get(entry).equals(indicatorId)) {
+                buffer.put(entry.byteValue());
+                foundIndicatorId = true;
+                break;
+            }
+        }
+        if (!foundIndicatorId) {
+            throw new IllegalArgumentException("Unknown constant value '" + indicatorId + "' for indicatorId");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the INDICATOR_GET command.
      * <p>
@@ -592,6 +710,52 @@ public class CommandClassIndicatorV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the INDICATOR_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Indicator Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param indicator0Value {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF_DISABLE
+     *            <li>ON_ENABLE
+     *            </ul>
+     * @param indicatorObjectCount {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIndicatorReport(ByteBuffer buffer, String indicator0Value, Integer indicatorObjectCount) {
+        logger.debug("Creating command message INDICATOR_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) INDICATOR_REPORT);
+
+        // Process 'Indicator 0 Value'
+        boolean foundIndicator0Value = false;
+        for (Integer entry : constantIndicatorReportIndicator0Value.keySet()) {
+            if (constantIndicatorReportIndicator0Value.get(entry).equals(indicator0Value)) {
+                buffer.put(entry.byteValue());
+                foundIndicator0Value = true;
+                break;
+            }
+        }
+        if (!foundIndicator0Value) {
+            throw new IllegalArgumentException("Unknown constant value '" + indicator0Value + "' for indicator0Value");
+        }
+
+        // Process 'Properties1'
+        buffer.put((byte) (indicatorObjectCount & 0x1F));
+
+        // Process 'vg1'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the INDICATOR_REPORT command.
      * <p>
@@ -718,6 +882,77 @@ public class CommandClassIndicatorV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the INDICATOR_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Indicator Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param indicatorId {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NA
+     *            <li>BUTTON2_INDICATION
+     *            <li>ARMED
+     *            <li>BUTTON3_INDICATION
+     *            <li>NOT_ARMED
+     *            <li>BUTTON4_INDICATION
+     *            <li>BUTTON5_INDICATION
+     *            <li>READY
+     *            <li>FAULT
+     *            <li>BUTTON_BACKLIGHT_LETTERS
+     *            <li>BUSY
+     *            <li>BUTTON_BACKLIGHT_DIGITS
+     *            <li>ENTER_ID
+     *            <li>BUTTON_BACKLIGHT_COMMAND
+     *            <li>ENTER_PIN
+     *            <li>BUTTON1_INDICATION
+     *            <li>BUTTON10_INDICATION
+     *            <li>OK
+     *            <li>BUTTON11_INDICATION
+     *            <li>NOT_OK
+     *            <li>BUTTON12_INDICATION
+     *            <li>BUTTON6_INDICATION
+     *            <li>BUTTON7_INDICATION
+     *            <li>BUTTON8_INDICATION
+     *            <li>BUTTON9_INDICATION
+     *            <li>ZONE3_ARMED
+     *            <li>ZONE4_ARMED
+     *            <li>ZONE1_ARMED
+     *            <li>ZONE2_ARMED
+     *            <li>ZONE5_ARMED
+     *            <li>ZONE6_ARMED
+     *            <li>LCD_BACKLIGHT
+     *            <li>BUZZER
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIndicatorSupportedGet(ByteBuffer buffer, String indicatorId) {
+        logger.debug("Creating command message INDICATOR_SUPPORTED_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) INDICATOR_SUPPORTED_GET);
+
+        // Process 'Indicator ID'
+        boolean foundIndicatorId = false;
+        for (Integer entry : constantIndicatorSupportedGetIndicatorId.keySet()) {
+            if (constantIndicatorSupportedGetIndicatorId.get(entry).equals(indicatorId)) {
+                buffer.put(entry.byteValue());
+                foundIndicatorId = true;
+                break;
+            }
+        }
+        if (!foundIndicatorId) {
+            throw new IllegalArgumentException("Unknown constant value '" + indicatorId + "' for indicatorId");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the INDICATOR_SUPPORTED_GET command.
      * <p>
@@ -891,6 +1126,157 @@ public class CommandClassIndicatorV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the INDICATOR_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Indicator Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param indicatorId {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NA
+     *            <li>BUTTON2_INDICATION
+     *            <li>ARMED
+     *            <li>BUTTON3_INDICATION
+     *            <li>NOT_ARMED
+     *            <li>BUTTON4_INDICATION
+     *            <li>BUTTON5_INDICATION
+     *            <li>READY
+     *            <li>FAULT
+     *            <li>BUTTON_BACKLIGHT_LETTERS
+     *            <li>BUSY
+     *            <li>BUTTON_BACKLIGHT_DIGITS
+     *            <li>ENTER_ID
+     *            <li>BUTTON_BACKLIGHT_COMMAND
+     *            <li>ENTER_PIN
+     *            <li>BUTTON1_INDICATION
+     *            <li>BUTTON10_INDICATION
+     *            <li>OK
+     *            <li>BUTTON11_INDICATION
+     *            <li>NOT_OK
+     *            <li>BUTTON12_INDICATION
+     *            <li>BUTTON6_INDICATION
+     *            <li>BUTTON7_INDICATION
+     *            <li>BUTTON8_INDICATION
+     *            <li>BUTTON9_INDICATION
+     *            <li>ZONE3_ARMED
+     *            <li>ZONE4_ARMED
+     *            <li>ZONE1_ARMED
+     *            <li>ZONE2_ARMED
+     *            <li>ZONE5_ARMED
+     *            <li>ZONE6_ARMED
+     *            <li>LCD_BACKLIGHT
+     *            <li>BUZZER
+     *            </ul>
+     * @param nextIndicatorId {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NA
+     *            <li>BUTTON2_INDICATION
+     *            <li>ARMED
+     *            <li>BUTTON3_INDICATION
+     *            <li>NOT_ARMED
+     *            <li>BUTTON4_INDICATION
+     *            <li>BUTTON5_INDICATION
+     *            <li>READY
+     *            <li>FAULT
+     *            <li>BUTTON_BACKLIGHT_LETTERS
+     *            <li>BUSY
+     *            <li>BUTTON_BACKLIGHT_DIGITS
+     *            <li>ENTER_ID
+     *            <li>BUTTON_BACKLIGHT_COMMAND
+     *            <li>ENTER_PIN
+     *            <li>BUTTON1_INDICATION
+     *            <li>BUTTON10_INDICATION
+     *            <li>OK
+     *            <li>BUTTON11_INDICATION
+     *            <li>NOT_OK
+     *            <li>BUTTON12_INDICATION
+     *            <li>BUTTON6_INDICATION
+     *            <li>BUTTON7_INDICATION
+     *            <li>BUTTON8_INDICATION
+     *            <li>BUTTON9_INDICATION
+     *            <li>ZONE3_ARMED
+     *            <li>ZONE4_ARMED
+     *            <li>ZONE1_ARMED
+     *            <li>ZONE2_ARMED
+     *            <li>ZONE5_ARMED
+     *            <li>ZONE6_ARMED
+     *            <li>LCD_BACKLIGHT
+     *            <li>BUZZER
+     *            </ul>
+     * @param propertySupportedBitMask {@link List<String>}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>LOW_POWER
+     *            <li>MULTILEVEL
+     *            <li>BINARY
+     *            <li>ON_OFF_PERIOD
+     *            <li>ON_OFF_CYCLES
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIndicatorSupportedReport(ByteBuffer buffer, String indicatorId, String nextIndicatorId,
+            List<String> propertySupportedBitMask) {
+        logger.debug("Creating command message INDICATOR_SUPPORTED_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) INDICATOR_SUPPORTED_REPORT);
+
+        // Process 'Indicator ID'
+        boolean foundIndicatorId = false;
+        for (Integer entry : constantIndicatorSupportedReportIndicatorId.keySet()) {
+            if (constantIndicatorSupportedReportIndicatorId.get(entry).equals(indicatorId)) {
+                buffer.put(entry.byteValue());
+                foundIndicatorId = true;
+                break;
+            }
+        }
+        if (!foundIndicatorId) {
+            throw new IllegalArgumentException("Unknown constant value '" + indicatorId + "' for indicatorId");
+        }
+
+        // Process 'Next Indicator ID'
+        boolean foundNextIndicatorId = false;
+        for (Integer entry : constantIndicatorSupportedReportNextIndicatorId.keySet()) {
+            if (constantIndicatorSupportedReportNextIndicatorId.get(entry).equals(nextIndicatorId)) {
+                buffer.put(entry.byteValue());
+                foundNextIndicatorId = true;
+                break;
+            }
+        }
+        if (!foundNextIndicatorId) {
+            throw new IllegalArgumentException("Unknown constant value '" + nextIndicatorId + "' for nextIndicatorId");
+        }
+
+        // Process 'Properties1'
+        buffer.put((byte) 0);
+
+        // Process 'Property Supported Bit Mask'
+        int valPropertySupportedBitMask = 0;
+        for (String value : propertySupportedBitMask) {
+            boolean foundPropertySupportedBitMask = false;
+            for (Integer entry : constantIndicatorSupportedReportPropertySupportedBitMask.keySet()) {
+                if (constantIndicatorSupportedReportPropertySupportedBitMask.get(entry).equals(value)) {
+                    foundPropertySupportedBitMask = true;
+                    valPropertySupportedBitMask += entry;
+                    break;
+                }
+            }
+            if (!foundPropertySupportedBitMask) {
+                throw new IllegalArgumentException("Unknown constant value '" + propertySupportedBitMask + "' for propertySupportedBitMask");
+            }
+        }
+        buffer.put((byte) valPropertySupportedBitMask);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the INDICATOR_SUPPORTED_REPORT command.
      * <p>
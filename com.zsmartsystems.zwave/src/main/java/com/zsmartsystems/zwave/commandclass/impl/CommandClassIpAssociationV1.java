@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.lang.IllegalArgumentException;
 import java.util.HashMap;
 import java.util.Map;
@@ -93,6 +94,45 @@ public class CommandClassIpAssociationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the IP_ASSOCIATION_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * IP Association Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupingIdentifier {@link Integer}
+     * @param ipv6Address {@link byte[]}
+     * @param endPoint {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIpAssociationSet(ByteBuffer buffer, Integer groupingIdentifier, byte[] ipv6Address,
+            Integer endPoint) {
+        logger.debug("Creating command message IP_ASSOCIATION_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) IP_ASSOCIATION_SET);
+
+        // Process 'Grouping Identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        // Process 'IPv6 Address'
+        if (ipv6Address != null) {
+            if (ipv6Address.length > 16) {
+                throw new IllegalArgumentException("Length of array ipv6Address exceeds maximum length of 16 bytes");
+            }
+            buffer.put(ipv6Address);
+        }
+
+        // Process 'End Point'
+        buffer.put(endPoint.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the IP_ASSOCIATION_SET command.
      * <p>
@@ -157,6 +197,35 @@ public class CommandClassIpAssociationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the IP_ASSOCIATION_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * IP Association Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupingIdentifier {@link Integer}
+     * @param index {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIpAssociationGet(ByteBuffer buffer, Integer groupingIdentifier, Integer index) {
+        logger.debug("Creating command message IP_ASSOCIATION_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) IP_ASSOCIATION_GET);
+
+        // Process 'Grouping Identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        // Process 'Index'
+        buffer.put(index.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the IP_ASSOCIATION_GET command.
      * <p>
@@ -233,6 +302,53 @@ public class CommandClassIpAssociationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the IP_ASSOCIATION_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * IP Association Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupingIdentifier {@link Integer}
+     * @param index {@link Integer}
+     * @param actualNodes {@link Integer}
+     * @param ipv6Address {@link byte[]}
+     * @param endPoint {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIpAssociationReport(ByteBuffer buffer, Integer groupingIdentifier, Integer index,
+            Integer actualNodes, byte[] ipv6Address, Integer endPoint) {
+        logger.debug("Creating command message IP_ASSOCIATION_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) IP_ASSOCIATION_REPORT);
+
+        // Process 'Grouping Identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        // Process 'Index'
+        buffer.put(index.byteValue());
+
+        // Process 'Actual Nodes'
+        buffer.put(actualNodes.byteValue());
+
+        // Process 'IPv6 Address'
+        if (ipv6Address != null) {
+            if (ipv6Address.length > 16) {
+                throw new IllegalArgumentException("Length of array ipv6Address exceeds maximum length of 16 bytes");
+            }
+            buffer.put(ipv6Address);
+        }
+
+        // Process 'End Point'
+        buffer.put(endPoint.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the IP_ASSOCIATION_REPORT command.
      * <p>
@@ -317,6 +433,45 @@ public class CommandClassIpAssociationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the IP_ASSOCIATION_REMOVE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * IP Association Remove
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupingIdentifier {@link Integer}
+     * @param ipv6Address {@link byte[]}
+     * @param endPoint {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIpAssociationRemove(ByteBuffer buffer, Integer groupingIdentifier, byte[] ipv6Address,
+            Integer endPoint) {
+        logger.debug("Creating command message IP_ASSOCIATION_REMOVE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) IP_ASSOCIATION_REMOVE);
+
+        // Process 'Grouping Identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        // Process 'IPv6 Address'
+        if (ipv6Address != null) {
+            if (ipv6Address.length > 16) {
+                throw new IllegalArgumentException("Length of array ipv6Address exceeds maximum length of 16 bytes");
+            }
+            buffer.put(ipv6Address);
+        }
+
+        // Process 'End Point'
+        buffer.put(endPoint.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the IP_ASSOCIATION_REMOVE command.
      * <p>
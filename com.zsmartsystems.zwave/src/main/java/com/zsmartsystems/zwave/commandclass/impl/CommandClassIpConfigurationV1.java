@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -139,6 +140,71 @@ public class CommandClassIpConfigurationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the IP_CONFIGURATION_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Ip Configuration Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param autoDns {@link Boolean}
+     * @param autoIp {@link Boolean}
+     * @param ipAddress {@link Long}
+     * @param subnetMask {@link Long}
+     * @param gateway {@link Long}
+     * @param dns1 {@link Long}
+     * @param dns2 {@link Long}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIpConfigurationSet(ByteBuffer buffer, Boolean autoDns, Boolean autoIp, Long ipAddress,
+            Long subnetMask, Long gateway, Long dns1, Long dns2) {
+        logger.debug("Creating command message IP_CONFIGURATION_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) IP_CONFIGURATION_SET);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= autoDns ? 0x01 : 0;
+        valProperties1 |= autoIp ? 0x02 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'IP Address'
+        buffer.put((byte) ((ipAddress >> 24) & 0xff));
+        buffer.put((byte) ((ipAddress >> 16) & 0xff));
+        buffer.put((byte) ((ipAddress >> 8) & 0xff));
+        buffer.put((byte) (ipAddress & 0xff));
+
+        // Process 'Subnet Mask'
+        buffer.put((byte) ((subnetMask >> 24) & 0xff));
+        buffer.put((byte) ((subnetMask >> 16) & 0xff));
+        buffer.put((byte) ((subnetMask >> 8) & 0xff));
+        buffer.put((byte) (subnetMask & 0xff));
+
+        // Process 'Gateway'
+        buffer.put((byte) ((gateway >> 24) & 0xff));
+        buffer.put((byte) ((gateway >> 16) & 0xff));
+        buffer.put((byte) ((gateway >> 8) & 0xff));
+        buffer.put((byte) (gateway & 0xff));
+
+        // Process 'DNS1'
+        buffer.put((byte) ((dns1 >> 24) & 0xff));
+        buffer.put((byte) ((dns1 >> 16) & 0xff));
+        buffer.put((byte) ((dns1 >> 8) & 0xff));
+        buffer.put((byte) (dns1 & 0xff));
+
+        // Process 'DNS2'
+        buffer.put((byte) ((dns2 >> 24) & 0xff));
+        buffer.put((byte) ((dns2 >> 16) & 0xff));
+        buffer.put((byte) ((dns2 >> 8) & 0xff));
+        buffer.put((byte) (dns2 & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the IP_CONFIGURATION_SET command.
      * <p>
@@ -204,6 +270,27 @@ public class CommandClassIpConfigurationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the IP_CONFIGURATION_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Ip Configuration Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIpConfigurationGet(ByteBuffer buffer) {
+        logger.debug("Creating command message IP_CONFIGURATION_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) IP_CONFIGURATION_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the IP_CONFIGURATION_GET command.
      * <p>
@@ -289,6 +376,78 @@ public class CommandClassIpConfigurationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the IP_CONFIGURATION_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Ip Configuration Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param autoDns {@link Boolean}
+     * @param autoIp {@link Boolean}
+     * @param ipAddress {@link Long}
+     * @param subnetMask {@link Long}
+     * @param gateway {@link Long}
+     * @param dns1 {@link Long}
+     * @param dns2 {@link Long}
+     * @param leasetime {@link Long}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIpConfigurationReport(ByteBuffer buffer, Boolean autoDns, Boolean autoIp, Long ipAddress,
+            Long subnetMask, Long gateway, Long dns1, Long dns2, Long leasetime) {
+        logger.debug("Creating command message IP_CONFIGURATION_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) IP_CONFIGURATION_REPORT);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= autoDns ? 0x01 : 0;
+        valProperties1 |= autoIp ? 0x02 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'IP Address'
+        buffer.put((byte) ((ipAddress >> 24) & 0xff));
+        buffer.put((byte) ((ipAddress >> 16) & 0xff));
+        buffer.put((byte) ((ipAddress >> 8) & 0xff));
+        buffer.put((byte) (ipAddress & 0xff));
+
+        // Process 'Subnet Mask'
+        buffer.put((byte) ((subnetMask >> 24) & 0xff));
+        buffer.put((byte) ((subnetMask >> 16) & 0xff));
+        buffer.put((byte) ((subnetMask >> 8) & 0xff));
+        buffer.put((byte) (subnetMask & 0xff));
+
+        // Process 'Gateway'
+        buffer.put((byte) ((gateway >> 24) & 0xff));
+        buffer.put((byte) ((gateway >> 16) & 0xff));
+        buffer.put((byte) ((gateway >> 8) & 0xff));
+        buffer.put((byte) (gateway & 0xff));
+
+        // Process 'DNS1'
+        buffer.put((byte) ((dns1 >> 24) & 0xff));
+        buffer.put((byte) ((dns1 >> 16) & 0xff));
+        buffer.put((byte) ((dns1 >> 8) & 0xff));
+        buffer.put((byte) (dns1 & 0xff));
+
+        // Process 'DNS2'
+        buffer.put((byte) ((dns2 >> 24) & 0xff));
+        buffer.put((byte) ((dns2 >> 16) & 0xff));
+        buffer.put((byte) ((dns2 >> 8) & 0xff));
+        buffer.put((byte) (dns2 & 0xff));
+
+        // Process 'LeaseTime'
+        buffer.put((byte) ((leasetime >> 24) & 0xff));
+        buffer.put((byte) ((leasetime >> 16) & 0xff));
+        buffer.put((byte) ((leasetime >> 8) & 0xff));
+        buffer.put((byte) (leasetime & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the IP_CONFIGURATION_REPORT command.
      * <p>
@@ -358,6 +517,27 @@ public class CommandClassIpConfigurationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the IP_CONFIGURATION_RELEASE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Ip Configuration Release
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIpConfigurationRelease(ByteBuffer buffer) {
+        logger.debug("Creating command message IP_CONFIGURATION_RELEASE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) IP_CONFIGURATION_RELEASE);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the IP_CONFIGURATION_RELEASE command.
      * <p>
@@ -392,6 +572,27 @@ public class CommandClassIpConfigurationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the IP_CONFIGURATION_RENEW command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Ip Configuration Renew
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIpConfigurationRenew(ByteBuffer buffer) {
+        logger.debug("Creating command message IP_CONFIGURATION_RENEW version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) IP_CONFIGURATION_RENEW);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the IP_CONFIGURATION_RENEW command.
      * <p>
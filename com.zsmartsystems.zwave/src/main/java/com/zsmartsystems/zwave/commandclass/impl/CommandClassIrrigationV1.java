@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -271,6 +272,27 @@ public class CommandClassIrrigationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the IRRIGATION_SYSTEM_INFO_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Irrigation System Info Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIrrigationSystemInfoGet(ByteBuffer buffer) {
+        logger.debug("Creating command message IRRIGATION_SYSTEM_INFO_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) IRRIGATION_SYSTEM_INFO_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the IRRIGATION_SYSTEM_INFO_GET command.
      * <p>
@@ -322,6 +344,44 @@ public class CommandClassIrrigationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the IRRIGATION_SYSTEM_INFO_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Irrigation System Info Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param masterValve {@link Boolean}
+     * @param totalNumberOfValves {@link Integer}
+     * @param totalNumberOfValveTables {@link Integer}
+     * @param valveTableMaxSize {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIrrigationSystemInfoReport(ByteBuffer buffer, Boolean masterValve, Integer totalNumberOfValves,
+            Integer totalNumberOfValveTables, Integer valveTableMaxSize) {
+        logger.debug("Creating command message IRRIGATION_SYSTEM_INFO_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) IRRIGATION_SYSTEM_INFO_REPORT);
+
+        // Process 'Properties1'
+        buffer.put((byte) (masterValve ? 0x01 : 0));
+
+        // Process 'Total Number of Valves'
+        buffer.put(totalNumberOfValves.byteValue());
+
+        // Process 'Total Number of Valve Tables'
+        buffer.put(totalNumberOfValveTables.byteValue());
+
+        // Process 'Properties2'
+        buffer.put((byte) (valveTableMaxSize & 0x0F));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the IRRIGATION_SYSTEM_INFO_REPORT command.
      * <p>
@@ -377,6 +437,27 @@ public class CommandClassIrrigationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the IRRIGATION_SYSTEM_STATUS_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Irrigation System Status Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIrrigationSystemStatusGet(ByteBuffer buffer) {
+        logger.debug("Creating command message IRRIGATION_SYSTEM_STATUS_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) IRRIGATION_SYSTEM_STATUS_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the IRRIGATION_SYSTEM_STATUS_GET command.
      * <p>
@@ -512,6 +593,122 @@ public class CommandClassIrrigationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the IRRIGATION_SYSTEM_STATUS_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Irrigation System Status Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param systemVoltage {@link Integer}
+     * @param sensorStatus {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>FLOW_SENSOR_DETECTED
+     *            <li>PRESSURE_SENSOR_DETECTED
+     *            <li>RAIN_SENSOR_DETECTED
+     *            <li>MOISTURE_SENSOR_DETECTED
+     *            </ul>
+     * @param flowValue {@link byte[]}
+     * @param pressureValue {@link byte[]}
+     * @param shutoffDuration {@link Integer}
+     * @param systemErrorStatus {@link List<String>}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NOT_PROGRAMMED
+     *            <li>EMERGENCY_SHUTDOWN
+     *            <li>HIGH_THRESHOLD_TRIGGERED
+     *            <li>LOW_THRESHOLD_TRIGGERED
+     *            <li>VALVE_ERRORS
+     *            </ul>
+     * @param masterValve {@link Boolean}
+     * @param valveId {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIrrigationSystemStatusReport(ByteBuffer buffer, Integer systemVoltage, String sensorStatus,
+            byte[] flowValue, byte[] pressureValue, Integer shutoffDuration, List<String> systemErrorStatus,
+            Boolean masterValve, Integer valveId) {
+        logger.debug("Creating command message IRRIGATION_SYSTEM_STATUS_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) IRRIGATION_SYSTEM_STATUS_REPORT);
+
+        // Process 'System Voltage'
+        buffer.put(systemVoltage.byteValue());
+
+        // Process 'Sensor Status'
+        boolean foundSensorStatus = false;
+        for (Integer entry : constantIrrigationSystemStatusReportSensorStatus.keySet()) {
+            if (constantIrrigationSystemStatusReportSensorStatus.get(entry).equals(sensorStatus)) {
+                buffer.put(entry.byteValue());
+                foundSensorStatus = true;
+                break;
+            }
+        }
+        if (!foundSensorStatus) {
+            throw new IllegalArgumentException("Unknown constant value '" + sensorStatus + "' for sensorStatus");
+        }
+
+        // Process 'Properties1'
+        // Flow Size is used by 'Flow Value'
+        int flowSize = flowValue.length;
+        int valProperties1 = 0;
+        valProperties1 |= 0;
+        valProperties1 |= ((1 << 3) & 0x18);
+        valProperties1 |= ((1 << 5) & 0xE0);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Flow Value'
+        if (flowValue != null) {
+            buffer.put(flowValue);
+        }
+
+        // Process 'Properties2'
+        // Pressure Size is used by 'Pressure Value'
+        int pressureSize = pressureValue.length;
+        int valProperties2 = 0;
+        valProperties2 |= 0;
+        valProperties2 |= ((1 << 3) & 0x18);
+        valProperties2 |= ((1 << 5) & 0xE0);
+        buffer.put((byte) valProperties2);
+
+        // Process 'Pressure Value'
+        if (pressureValue != null) {
+            buffer.put(pressureValue);
+        }
+
+        // Process 'Shutoff Duration'
+        buffer.put(shutoffDuration.byteValue());
+
+        // Process 'System Error Status'
+        int valSystemErrorStatus = 0;
+        for (String value : systemErrorStatus) {
+            boolean foundSystemErrorStatus = false;
+            for (Integer entry : constantIrrigationSystemStatusReportSystemErrorStatus.keySet()) {
+                if (constantIrrigationSystemStatusReportSystemErrorStatus.get(entry).equals(value)) {
+                    foundSystemErrorStatus = true;
+                    valSystemErrorStatus += entry;
+                    break;
+                }
+            }
+            if (!foundSystemErrorStatus) {
+                throw new IllegalArgumentException("Unknown constant value '" + systemErrorStatus + "' for systemErrorStatus");
+            }
+        }
+        buffer.put((byte) valSystemErrorStatus);
+
+        // Process 'Properties3'
+        buffer.put((byte) (masterValve ? 0x01 : 0));
+
+        // Process 'Valve ID'
+        buffer.put(valveId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the IRRIGATION_SYSTEM_STATUS_REPORT command.
      * <p>
@@ -689,6 +886,86 @@ public class CommandClassIrrigationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the IRRIGATION_SYSTEM_CONFIG_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Irrigation System Config Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param masterValveDelay {@link Integer}
+     * @param highPressureThresholdValue {@link byte[]}
+     * @param lowPressureThresholdValue {@link byte[]}
+     * @param sensorPolarity {@link List<String>}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>RAIN_SENSOR_POLARITY
+     *            <li>MOISTURE_SENSOR_POLARITY
+     *            <li>VALID
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIrrigationSystemConfigSet(ByteBuffer buffer, Integer masterValveDelay,
+            byte[] highPressureThresholdValue, byte[] lowPressureThresholdValue, List<String> sensorPolarity) {
+        logger.debug("Creating command message IRRIGATION_SYSTEM_CONFIG_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) IRRIGATION_SYSTEM_CONFIG_SET);
+
+        // Process 'Master Valve Delay'
+        buffer.put(masterValveDelay.byteValue());
+
+        // Process 'Properties1'
+        // High Pressure Threshold Size is used by 'High Pressure Threshold Value'
+        int highPressureThresholdSize = highPressureThresholdValue.length;
+        int valProperties1 = 0;
+        valProperties1 |= 0;
+        valProperties1 |= ((1 << 3) & 0x18);
+        valProperties1 |= ((1 << 5) & 0xE0);
+        buffer.put((byte) valProperties1);
+
+        // Process 'High Pressure Threshold Value'
+        if (highPressureThresholdValue != null) {
+            buffer.put(highPressureThresholdValue);
+        }
+
+        // Process 'Properties2'
+        // Low Pressure Threshold Size is used by 'Low Pressure Threshold Value'
+        int lowPressureThresholdSize = lowPressureThresholdValue.length;
+        int valProperties2 = 0;
+        valProperties2 |= 0;
+        valProperties2 |= ((1 << 3) & 0x18);
+        valProperties2 |= ((1 << 5) & 0xE0);
+        buffer.put((byte) valProperties2);
+
+        // Process 'Low Pressure Threshold Value'
+        if (lowPressureThresholdValue != null) {
+            buffer.put(lowPressureThresholdValue);
+        }
+
+        // Process 'Sensor Polarity'
+        int valSensorPolarity = 0;
+        for (String value : sensorPolarity) {
+            boolean foundSensorPolarity = false;
+            for (Integer entry : constantIrrigationSystemConfigSetSensorPolarity.keySet()) {
+                if (constantIrrigationSystemConfigSetSensorPolarity.get(entry).equals(value)) {
+                    foundSensorPolarity = true;
+                    valSensorPolarity += entry;
+                    break;
+                }
+            }
+            if (!foundSensorPolarity) {
+                throw new IllegalArgumentException("Unknown constant value '" + sensorPolarity + "' for sensorPolarity");
+            }
+        }
+        buffer.put((byte) valSensorPolarity);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the IRRIGATION_SYSTEM_CONFIG_SET command.
      * <p>
@@ -781,6 +1058,27 @@ public class CommandClassIrrigationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the IRRIGATION_SYSTEM_CONFIG_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Irrigation System Config Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIrrigationSystemConfigGet(ByteBuffer buffer) {
+        logger.debug("Creating command message IRRIGATION_SYSTEM_CONFIG_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) IRRIGATION_SYSTEM_CONFIG_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the IRRIGATION_SYSTEM_CONFIG_GET command.
      * <p>
@@ -880,6 +1178,86 @@ public class CommandClassIrrigationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the IRRIGATION_SYSTEM_CONFIG_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Irrigation System Config Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param masterValveDelay {@link Integer}
+     * @param highPressureThresholdValue {@link byte[]}
+     * @param lowPressureThresholdValue {@link byte[]}
+     * @param sensorPolarity {@link List<String>}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>RAIN_SENSOR_POLARITY
+     *            <li>MOISTURE_SENSOR_POLARITY
+     *            <li>VALID
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIrrigationSystemConfigReport(ByteBuffer buffer, Integer masterValveDelay,
+            byte[] highPressureThresholdValue, byte[] lowPressureThresholdValue, List<String> sensorPolarity) {
+        logger.debug("Creating command message IRRIGATION_SYSTEM_CONFIG_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) IRRIGATION_SYSTEM_CONFIG_REPORT);
+
+        // Process 'Master Valve Delay'
+        buffer.put(masterValveDelay.byteValue());
+
+        // Process 'Properties1'
+        // High Pressure Threshold Size is used by 'High Pressure Threshold Value'
+        int highPressureThresholdSize = highPressureThresholdValue.length;
+        int valProperties1 = 0;
+        valProperties1 |= 0;
+        valProperties1 |= ((1 << 3) & 0x18);
+        valProperties1 |= ((1 << 5) & 0xE0);
+        buffer.put((byte) valProperties1);
+
+        // Process 'High Pressure Threshold Value'
+        if (highPressureThresholdValue != null) {
+            buffer.put(highPressureThresholdValue);
+        }
+
+        // Process 'Properties2'
+        // Low Pressure Threshold Size is used by 'Low Pressure Threshold Value'
+        int lowPressureThresholdSize = lowPressureThresholdValue.length;
+        int valProperties2 = 0;
+        valProperties2 |= 0;
+        valProperties2 |= ((1 << 3) & 0x18);
+        valProperties2 |= ((1 << 5) & 0xE0);
+        buffer.put((byte) valProperties2);
+
+        // Process 'Low Pressure Threshold Value'
+        if (lowPressureThresholdValue != null) {
+            buffer.put(lowPressureThresholdValue);
+        }
+
+        // Process 'Sensor Polarity'
+        int valSensorPolarity = 0;
+        for (String value : sensorPolarity) {
+            boolean foundSensorPolarity = false;
+            for (Integer entry : constantIrrigationSystemConfigReportSensorPolarity.keySet()) {
+                if (constantIrrigationSystemConfigReportSensorPolarity.get(entry).equals(value)) {
+                    foundSensorPolarity = true;
+                    valSensorPolarity += entry;
+                    break;
+                }
+            }
+            if (!foundSensorPolarity) {
+                throw new IllegalArgumentException("Unknown constant value '" + sensorPolarity + "' for sensorPolarity");
+            }
+        }
+        buffer.put((byte) valSensorPolarity);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the IRRIGATION_SYSTEM_CONFIG_REPORT command.
      * <p>
@@ -980,6 +1358,35 @@ public class CommandClassIrrigationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the IRRIGATION_VALVE_INFO_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Irrigation Valve Info Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param masterValve {@link Boolean}
+     * @param valveId {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIrrigationValveInfoGet(ByteBuffer buffer, Boolean masterValve, Integer valveId) {
+        logger.debug("Creating command message IRRIGATION_VALVE_INFO_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) IRRIGATION_VALVE_INFO_GET);
+
+        // Process 'Properties1'
+        buffer.put((byte) (masterValve ? 0x01 : 0));
+
+        // Process 'Valve ID'
+        buffer.put(valveId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the IRRIGATION_VALVE_INFO_GET command.
      * <p>
@@ -1071,6 +1478,71 @@ public class CommandClassIrrigationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the IRRIGATION_VALVE_INFO_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Irrigation Valve Info Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param master {@link Boolean}
+     * @param connected {@link Boolean}
+     * @param valveId {@link Integer}
+     * @param nominalCurrent {@link Integer}
+     * @param valveErrorStatus {@link List<String>}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>SHORT_CIRCUIT
+     *            <li>CURRENT_HIGH_THRESHOLD
+     *            <li>CURRENT_LOW_THRESHOLD
+     *            <li>MAXIMUM_FLOW
+     *            <li>FLOW_HIGH_THRESHOLD
+     *            <li>FLOW_LOW_THRESHOLD
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIrrigationValveInfoReport(ByteBuffer buffer, Boolean master, Boolean connected,
+            Integer valveId, Integer nominalCurrent, List<String> valveErrorStatus) {
+        logger.debug("Creating command message IRRIGATION_VALVE_INFO_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) IRRIGATION_VALVE_INFO_REPORT);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= master ? 0x01 : 0;
+        valProperties1 |= connected ? 0x02 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Valve ID'
+        buffer.put(valveId.byteValue());
+
+        // Process 'Nominal Current'
+        buffer.put(nominalCurrent.byteValue());
+
+        // Process 'Valve Error Status'
+        int valValveErrorStatus = 0;
+        for (String value : valveErrorStatus) {
+            boolean foundValveErrorStatus = false;
+            for (Integer entry : constantIrrigationValveInfoReportValveErrorStatus.keySet()) {
+                if (constantIrrigationValveInfoReportValveErrorStatus.get(entry).equals(value)) {
+                    foundValveErrorStatus = true;
+                    valValveErrorStatus += entry;
+                    break;
+                }
+            }
+            if (!foundValveErrorStatus) {
+                throw new IllegalArgumentException("Unknown constant value '" + valveErrorStatus + "' for valveErrorStatus");
+            }
+        }
+        buffer.put((byte) valValveErrorStatus);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the IRRIGATION_VALVE_INFO_REPORT command.
      * <p>
@@ -1103,27 +1575,143 @@ public class CommandClassIrrigationV1 {
         // Process 'Nominal Current'
         response.put("NOMINAL_CURRENT", Integer.valueOf(payload[4]));
 
-        // Process 'Valve Error Status'
-        List<String> responseValveErrorStatus = new ArrayList<String>();
-        int lenValveErrorStatus = 1;
-        for (int cntValveErrorStatus = 0; cntValveErrorStatus < lenValveErrorStatus; cntValveErrorStatus++) {
-            if ((payload[5 + (cntValveErrorStatus / 8)] & (1 << cntValveErrorStatus % 8)) == 0) {
-                continue;
+        // Process 'Valve Error Status'
+        List<String> responseValveErrorStatus = new ArrayList<String>();
+        int lenValveErrorStatus = 1;
+        for (int cntValveErrorStatus = 0; cntValveErrorStatus < lenValveErrorStatus; cntValveErrorStatus++) {
+            if ((payload[5 + (cntValveErrorStatus / 8)] & (1 << cntValveErrorStatus % 8)) == 0) {
+                continue;
+            }
+            responseValveErrorStatus.add(constantIrrigationValveInfoReportValveErrorStatus.get(cntValveErrorStatus));
+        }
+        response.put("VALVE_ERROR_STATUS", responseValveErrorStatus);
+
+        // Return the map of processed response data;
+        return response;
+    }
+
+
+    /**
+     * Creates a new message with the IRRIGATION_VALVE_CONFIG_SET command.
+     * <p>
+     * Irrigation Valve Config Set
+     *
+     * @param masterValve {@link Boolean}
+     * @param valveId {@link Integer}
+     * @param nominalCurrentHighThreshold {@link Integer}
+     * @param nominalCurrentLowThreshold {@link Integer}
+     * @param maximumFlowValue {@link byte[]}
+     * @param flowHighThresholdValue {@link byte[]}
+     * @param flowLowThresholdValue {@link byte[]}
+     * @param sensorUsage {@link List<String>}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>USE_RAIN_SENSOR
+     *            <li>USE_MOISTURE_SENSOR
+     *            </ul>
+     * @return the {@link byte[]} array with the command to send
+     */
+    static public byte[] getIrrigationValveConfigSet(Boolean masterValve, Integer valveId,
+            Integer nominalCurrentHighThreshold, Integer nominalCurrentLowThreshold, byte[] maximumFlowValue,
+            byte[] flowHighThresholdValue, byte[] flowLowThresholdValue, List<String> sensorUsage) {
+        logger.debug("Creating command message IRRIGATION_VALVE_CONFIG_SET version 1");
+
+        ByteArrayOutputStream outputData = new ByteArrayOutputStream();
+        outputData.write(COMMAND_CLASS_KEY);
+        outputData.write(IRRIGATION_VALVE_CONFIG_SET);
+
+        // Process 'Properties1'
+        outputData.write(masterValve ? 0x01 : 0);
+
+        // Process 'Valve ID'
+        outputData.write(valveId);
+
+        // Process 'Nominal Current High Threshold'
+        outputData.write(nominalCurrentHighThreshold);
+
+        // Process 'Nominal Current Low Threshold'
+        outputData.write(nominalCurrentLowThreshold);
+
+        // Process 'Properties2'
+        // Maximum Flow Size is used by 'Maximum Flow Value'
+        int maximumFlowSize = maximumFlowValue.length;
+        int valProperties2 = 0;
+        valProperties2 |= 0;
+        valProperties2 |= ((1 << 3) & 0x18);
+        valProperties2 |= ((1 << 5) & 0xE0);
+        outputData.write(valProperties2);
+
+        // Process 'Maximum Flow Value'
+        if (maximumFlowValue != null) {
+            try {
+                outputData.write(maximumFlowValue);
+            } catch (IOException e) {
+            }
+        }
+
+        // Process 'Properties3'
+        // Flow High Threshold Size is used by 'Flow High Threshold Value'
+        int flowHighThresholdSize = flowHighThresholdValue.length;
+        int valProperties3 = 0;
+        valProperties3 |= 0;
+        valProperties3 |= ((1 << 3) & 0x18);
+        valProperties3 |= ((1 << 5) & 0xE0);
+        outputData.write(valProperties3);
+
+        // Process 'Flow High Threshold Value'
+        if (flowHighThresholdValue != null) {
+            try {
+                outputData.write(flowHighThresholdValue);
+            } catch (IOException e) {
+            }
+        }
+
+        // Process 'Properties4'
+        // Flow Low Threshold Size is used by 'Flow Low Threshold Value'
+        int flowLowThresholdSize = flowLowThresholdValue.length;
+        int valProperties4 = 0;
+        valProperties4 |= 0;
+        valProperties4 |= ((1 << 3) & 0x18);
+        valProperties4 |= ((1 << 5) & 0xE0);
+        outputData.write(valProperties4);
+
+        // Process 'Flow Low Threshold Value'
+        if (flowLowThresholdValue != null) {
+            try {
+                outputData.write(flowLowThresholdValue);
+            } catch (IOException e) {
+            }
+        }
+
+        // Process 'Sensor Usage'
+        int valSensorUsage = 0;
+        for (String value : sensorUsage) {
+            boolean foundSensorUsage = false;
+            for (Integer entry : constantIrrigationValveConfigSetSensorUsage.keySet()) {
+                if (constantIrrigationValveConfigSetSensorUsage.get(entry).equals(value)) {
+                    foundSensorUsage = true;
+                    valSensorUsage += entry;
+                    break;
+                }
+            }
+            if (!foundSensorUsage) {
+                throw new IllegalArgumentException("Unknown constant value '" + sensorUsage + "' for sensorUsage");
             }
-            responseValveErrorStatus.add(constantIrrigationValveInfoReportValveErrorStatus.get(cntValveErrorStatus));
         }
-        response.put("VALVE_ERROR_STATUS", responseValveErrorStatus);
+        outputData.write(valSensorUsage);
 
-        // Return the map of processed response data;
-        return response;
+        return outputData.toByteArray();
     }
 
-
     /**
-     * Creates a new message with the IRRIGATION_VALVE_CONFIG_SET command.
+     * Writes a new message with the IRRIGATION_VALVE_CONFIG_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
      * <p>
      * Irrigation Valve Config Set
      *
+     * @param buffer the {@link ByteBuffer} to write the message to
      * @param masterValve {@link Boolean}
      * @param valveId {@link Integer}
      * @param nominalCurrentHighThreshold {@link Integer}
@@ -1137,28 +1725,28 @@ public class CommandClassIrrigationV1 {
      *            <li>USE_RAIN_SENSOR
      *            <li>USE_MOISTURE_SENSOR
      *            </ul>
-     * @return the {@link byte[]} array with the command to send
+     * @return the number of bytes written to the buffer
      */
-    static public byte[] getIrrigationValveConfigSet(Boolean masterValve, Integer valveId,
+    static public int getIrrigationValveConfigSet(ByteBuffer buffer, Boolean masterValve, Integer valveId,
             Integer nominalCurrentHighThreshold, Integer nominalCurrentLowThreshold, byte[] maximumFlowValue,
             byte[] flowHighThresholdValue, byte[] flowLowThresholdValue, List<String> sensorUsage) {
         logger.debug("Creating command message IRRIGATION_VALVE_CONFIG_SET version 1");
 
-        ByteArrayOutputStream outputData = new ByteArrayOutputStream();
-        outputData.write(COMMAND_CLASS_KEY);
-        outputData.write(IRRIGATION_VALVE_CONFIG_SET);
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) IRRIGATION_VALVE_CONFIG_SET);
 
         // Process 'Properties1'
-        outputData.write(masterValve ? 0x01 : 0);
+        buffer.put((byte) (masterValve ? 0x01 : 0));
 
         // Process 'Valve ID'
-        outputData.write(valveId);
+        buffer.put(valveId.byteValue());
 
         // Process 'Nominal Current High Threshold'
-        outputData.write(nominalCurrentHighThreshold);
+        buffer.put(nominalCurrentHighThreshold.byteValue());
 
         // Process 'Nominal Current Low Threshold'
-        outputData.write(nominalCurrentLowThreshold);
+        buffer.put(nominalCurrentLowThreshold.byteValue());
 
         // Process 'Properties2'
         // Maximum Flow Size is used by 'Maximum Flow Value'
@@ -1167,14 +1755,11 @@ public class CommandClassIrrigationV1 {
         valProperties2 |= 0;
         valProperties2 |= ((1 << 3) & 0x18);
         valProperties2 |= ((1 << 5) & 0xE0);
-        outputData.write(valProperties2);
+        buffer.put((byte) valProperties2);
 
         // Process 'Maximum Flow Value'
         if (maximumFlowValue != null) {
-            try {
-                outputData.write(maximumFlowValue);
-            } catch (IOException e) {
-            }
+            buffer.put(maximumFlowValue);
         }
 
         // Process 'Properties3'
@@ -1184,14 +1769,11 @@ public class CommandClassIrrigationV1 {
         valProperties3 |= 0;
         valProperties3 |= ((1 << 3) & 0x18);
         valProperties3 |= ((1 << 5) & 0xE0);
-        outputData.write(valProperties3);
+        buffer.put((byte) valProperties3);
 
         // Process 'Flow High Threshold Value'
         if (flowHighThresholdValue != null) {
-            try {
-                outputData.write(flowHighThresholdValue);
-            } catch (IOException e) {
-            }
+            buffer.put(flowHighThresholdValue);
         }
 
         // Process 'Properties4'
@@ -1201,14 +1783,11 @@ public class CommandClassIrrigationV1 {
         valProperties4 |= 0;
         valProperties4 |= ((1 << 3) & 0x18);
         valProperties4 |= ((1 << 5) & 0xE0);
-        outputData.write(valProperties4);
+        buffer.put((byte) valProperties4);
 
         // Process 'Flow Low Threshold Value'
         if (flowLowThresholdValue != null) {
-            try {
-                outputData.write(flowLowThresholdValue);
-            } catch (IOException e) {
-            }
+            buffer.put(flowLowThresholdValue);
         }
 
         // Process 'Sensor Usage'
@@ -1226,9 +1805,9 @@ public class CommandClassIrrigationV1 {
                 throw new IllegalArgumentException("Unknown constant value '" + sensorUsage + "' for sensorUsage");
             }
         }
-        outputData.write(valSensorUsage);
+        buffer.put((byte) valSensorUsage);
 
-        return outputData.toByteArray();
+        return buffer.position() - start;
     }
 
     /**
@@ -1362,6 +1941,35 @@ public class CommandClassIrrigationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the IRRIGATION_VALVE_CONFIG_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Irrigation Valve Config Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param masterValve {@link Boolean}
+     * @param valveId {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIrrigationValveConfigGet(ByteBuffer buffer, Boolean masterValve, Integer valveId) {
+        logger.debug("Creating command message IRRIGATION_VALVE_CONFIG_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) IRRIGATION_VALVE_CONFIG_GET);
+
+        // Process 'Properties1'
+        buffer.put((byte) (masterValve ? 0x01 : 0));
+
+        // Process 'Valve ID'
+        buffer.put(valveId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the IRRIGATION_VALVE_CONFIG_GET command.
      * <p>
@@ -1504,6 +2112,113 @@ public class CommandClassIrrigationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the IRRIGATION_VALVE_CONFIG_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Irrigation Valve Config Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param masterValve {@link Boolean}
+     * @param valveId {@link Integer}
+     * @param nominalCurrentHighThreshold {@link Integer}
+     * @param nominalCurrentLowThreshold {@link Integer}
+     * @param maximumFlowValue {@link byte[]}
+     * @param flowHighThresholdValue {@link byte[]}
+     * @param flowLowThresholdValue {@link byte[]}
+     * @param sensorUsage {@link List<String>}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>USE_RAIN_SENSOR
+     *            <li>USE_MOISTURE_SENSOR
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIrrigationValveConfigReport(ByteBuffer buffer, Boolean masterValve, Integer valveId,
+            Integer nominalCurrentHighThreshold, Integer nominalCurrentLowThreshold, byte[] maximumFlowValue,
+            byte[] flowHighThresholdValue, byte[] flowLowThresholdValue, List<String> sensorUsage) {
+        logger.debug("Creating command message IRRIGATION_VALVE_CONFIG_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) IRRIGATION_VALVE_CONFIG_REPORT);
+
+        // Process 'Properties1'
+        buffer.put((byte) (masterValve ? 0x01 : 0));
+
+        // Process 'Valve ID'
+        buffer.put(valveId.byteValue());
+
+        // Process 'Nominal Current High Threshold'
+        buffer.put(nominalCurrentHighThreshold.byteValue());
+
+        // Process 'Nominal Current Low Threshold'
+        buffer.put(nominalCurrentLowThreshold.byteValue());
+
+        // Process 'Properties2'
+        // Maximum Flow Size is used by 'Maximum Flow Value'
+        int maximumFlowSize = maximumFlowValue.length;
+        int valProperties2 = 0;
+        valProperties2 |= 0;
+        valProperties2 |= ((1 << 3) & 0x18);
+        valProperties2 |= ((1 << 5) & 0xE0);
+        buffer.put((byte) valProperties2);
+
+        // Process 'Maximum Flow Value'
+        if (maximumFlowValue != null) {
+            buffer.put(maximumFlowValue);
+        }
+
+        // Process 'Properties3'
+        // Flow High Threshold Size is used by 'Flow High Threshold Value'
+        int flowHighThresholdSize = flowHighThresholdValue.length;
+        int valProperties3 = 0;
+        valProperties3 |= 0;
+        valProperties3 |= ((1 << 3) & 0x18);
+        valProperties3 |= ((1 << 5) & 0xE0);
+        buffer.put((byte) valProperties3);
+
+        // Process 'Flow High Threshold Value'
+        if (flowHighThresholdValue != null) {
+            buffer.put(flowHighThresholdValue);
+        }
+
+        // Process 'Properties4'
+        // Flow Low Threshold Size is used by 'Flow Low Threshold Value'
+        int flowLowThresholdSize = flowLowThresholdValue.length;
+        int valProperties4 = 0;
+        valProperties4 |= 0;
+        valProperties4 |= ((1 << 3) & 0x18);
+        valProperties4 |= ((1 << 5) & 0xE0);
+        buffer.put((byte) valProperties4);
+
+        // Process 'Flow Low Threshold Value'
+        if (flowLowThresholdValue != null) {
+            buffer.put(flowLowThresholdValue);
+        }
+
+        // Process 'Sensor Usage'
+        int valSensorUsage = 0;
+        for (String value : sensorUsage) {
+            boolean foundSensorUsage = false;
+            for (Integer entry : constantIrrigationValveConfigReportSensorUsage.keySet()) {
+                if (constantIrrigationValveConfigReportSensorUsage.get(entry).equals(value)) {
+                    foundSensorUsage = true;
+                    valSensorUsage += entry;
+                    break;
+                }
+            }
+            if (!foundSensorUsage) {
+                throw new IllegalArgumentException("Unknown constant value '" + sensorUsage + "' for sensorUsage");
+            }
+        }
+        buffer.put((byte) valSensorUsage);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the IRRIGATION_VALVE_CONFIG_REPORT command.
      * <p>
@@ -1640,6 +2355,40 @@ public class CommandClassIrrigationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the IRRIGATION_VALVE_RUN command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Irrigation Valve Run
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param masterValve {@link Boolean}
+     * @param valveId {@link Integer}
+     * @param duration {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIrrigationValveRun(ByteBuffer buffer, Boolean masterValve, Integer valveId, Integer duration) {
+        logger.debug("Creating command message IRRIGATION_VALVE_RUN version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) IRRIGATION_VALVE_RUN);
+
+        // Process 'Properties1'
+        buffer.put((byte) (masterValve ? 0x01 : 0));
+
+        // Process 'Valve ID'
+        buffer.put(valveId.byteValue());
+
+        // Process 'Duration'
+        buffer.put((byte) ((duration >> 8) & 0xff));
+        buffer.put((byte) (duration & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the IRRIGATION_VALVE_RUN command.
      * <p>
@@ -1697,6 +2446,33 @@ public class CommandClassIrrigationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the IRRIGATION_VALVE_TABLE_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Irrigation Valve Table Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param valveTableId {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIrrigationValveTableSet(ByteBuffer buffer, Integer valveTableId) {
+        logger.debug("Creating command message IRRIGATION_VALVE_TABLE_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) IRRIGATION_VALVE_TABLE_SET);
+
+        // Process 'Valve Table ID'
+        buffer.put(valveTableId.byteValue());
+
+        // Process 'vg1'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the IRRIGATION_VALVE_TABLE_SET command.
      * <p>
@@ -1765,6 +2541,31 @@ public class CommandClassIrrigationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the IRRIGATION_VALVE_TABLE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Irrigation Valve Table Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param valveTableId {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIrrigationValveTableGet(ByteBuffer buffer, Integer valveTableId) {
+        logger.debug("Creating command message IRRIGATION_VALVE_TABLE_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) IRRIGATION_VALVE_TABLE_GET);
+
+        // Process 'Valve Table ID'
+        buffer.put(valveTableId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the IRRIGATION_VALVE_TABLE_GET command.
      * <p>
@@ -1814,6 +2615,33 @@ public class CommandClassIrrigationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the IRRIGATION_VALVE_TABLE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Irrigation Valve Table Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param valveTableId {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIrrigationValveTableReport(ByteBuffer buffer, Integer valveTableId) {
+        logger.debug("Creating command message IRRIGATION_VALVE_TABLE_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) IRRIGATION_VALVE_TABLE_REPORT);
+
+        // Process 'Valve Table ID'
+        buffer.put(valveTableId.byteValue());
+
+        // Process 'vg1'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the IRRIGATION_VALVE_TABLE_REPORT command.
      * <p>
@@ -1887,6 +2715,33 @@ public class CommandClassIrrigationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the IRRIGATION_VALVE_TABLE_RUN command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Irrigation Valve Table Run
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param valveTableId {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIrrigationValveTableRun(ByteBuffer buffer, byte[] valveTableId) {
+        logger.debug("Creating command message IRRIGATION_VALVE_TABLE_RUN version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) IRRIGATION_VALVE_TABLE_RUN);
+
+        // Process 'Valve Table ID'
+        if (valveTableId != null) {
+            buffer.put(valveTableId);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the IRRIGATION_VALVE_TABLE_RUN command.
      * <p>
@@ -1942,6 +2797,31 @@ public class CommandClassIrrigationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the IRRIGATION_SYSTEM_SHUTOFF command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Irrigation System Shutoff
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param duration {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getIrrigationSystemShutoff(ByteBuffer buffer, Integer duration) {
+        logger.debug("Creating command message IRRIGATION_SYSTEM_SHUTOFF version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) IRRIGATION_SYSTEM_SHUTOFF);
+
+        // Process 'Duration'
+        buffer.put(duration.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the IRRIGATION_SYSTEM_SHUTOFF command.
      * <p>
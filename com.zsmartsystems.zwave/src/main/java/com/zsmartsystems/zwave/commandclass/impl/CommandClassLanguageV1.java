@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -74,6 +75,34 @@ public class CommandClassLanguageV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the LANGUAGE_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Language Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param country {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getLanguageSet(ByteBuffer buffer, Integer country) {
+        logger.debug("Creating command message LANGUAGE_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) LANGUAGE_SET);
+
+        // Process 'Language'
+
+        // Process 'Country'
+        buffer.put((byte) ((country >> 8) & 0xff));
+        buffer.put((byte) (country & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the LANGUAGE_SET command.
      * <p>
@@ -119,6 +148,27 @@ public class CommandClassLanguageV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the LANGUAGE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Language Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getLanguageGet(ByteBuffer buffer) {
+        logger.debug("Creating command message LANGUAGE_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) LANGUAGE_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the LANGUAGE_GET command.
      * <p>
@@ -160,6 +210,34 @@ public class CommandClassLanguageV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the LANGUAGE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Language Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param country {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getLanguageReport(ByteBuffer buffer, Integer country) {
+        logger.debug("Creating command message LANGUAGE_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) LANGUAGE_REPORT);
+
+        // Process 'Language'
+
+        // Process 'Country'
+        buffer.put((byte) ((country >> 8) & 0xff));
+        buffer.put((byte) (country & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the LANGUAGE_REPORT command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -106,6 +107,46 @@ public class CommandClassLockV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the LOCK_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Lock Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param lockState {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>UNLOCKED
+     *            <li>LOCKED
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getLockSet(ByteBuffer buffer, String lockState) {
+        logger.debug("Creating command message LOCK_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) LOCK_SET);
+
+        // Process 'Lock State'
+        boolean foundLockState = false;
+        for (Integer entry : constantLockSetLockState.keySet()) {
+            if (constantLockSetLockState.get(entry).equals(lockState)) {
+                buffer.put(entry.byteValue());
+                foundLockState = true;
+                break;
+            }
+        }
+        if (!foundLockState) {
+            throw new IllegalArgumentException("Unknown constant value '" + lockState + "' for lockState");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the LOCK_SET command.
      * <p>
@@ -149,6 +190,27 @@ public class CommandClassLockV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the LOCK_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Lock Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getLockGet(ByteBuffer buffer) {
+        logger.debug("Creating command message LOCK_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) LOCK_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the LOCK_GET command.
      * <p>
@@ -202,6 +264,46 @@ public class CommandClassLockV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the LOCK_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Lock Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param lockState {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>UNLOCKED
+     *            <li>LOCKED
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getLockReport(ByteBuffer buffer, String lockState) {
+        logger.debug("Creating command message LOCK_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) LOCK_REPORT);
+
+        // Process 'Lock State'
+        boolean foundLockState = false;
+        for (Integer entry : constantLockReportLockState.keySet()) {
+            if (constantLockReportLockState.get(entry).equals(lockState)) {
+                buffer.put(entry.byteValue());
+                foundLockState = true;
+                break;
+            }
+        }
+        if (!foundLockState) {
+            throw new IllegalArgumentException("Unknown constant value '" + lockState + "' for lockState");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the LOCK_REPORT command.
      * <p>
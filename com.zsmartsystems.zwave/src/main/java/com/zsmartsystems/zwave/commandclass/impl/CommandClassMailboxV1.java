@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.lang.IllegalArgumentException;
 import java.util.HashMap;
 import java.util.Map;
@@ -91,6 +92,27 @@ public class CommandClassMailboxV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MAILBOX_CONFIGURATION_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Mailbox Configuration Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMailboxConfigurationGet(ByteBuffer buffer) {
+        logger.debug("Creating command message MAILBOX_CONFIGURATION_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MAILBOX_CONFIGURATION_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MAILBOX_CONFIGURATION_GET command.
      * <p>
@@ -161,6 +183,60 @@ public class CommandClassMailboxV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MAILBOX_CONFIGURATION_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Mailbox Configuration Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param mode {@link String}
+     * @param forwardingDestinationIpv6Address {@link byte[]}
+     * @param udpPortNumber {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMailboxConfigurationSet(ByteBuffer buffer, String mode,
+            byte[] forwardingDestinationIpv6Address, Integer udpPortNumber) {
+        logger.debug("Creating command message MAILBOX_CONFIGURATION_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MAILBOX_CONFIGURATION_SET);
+
+        // Process 'Properties1'
+        int valmode;
+        switch (mode) {
+            case "DISABLE":
+                valmode = 0;
+                break;
+            case "ENABLE_MAILBOX_SERVICE":
+                valmode = 1;
+                break;
+            case "ENABLE_MAILBOX_PROXY":
+                valmode = 2;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for mode: " + mode);
+        }
+        buffer.put((byte) (valmode & 0x07));
+
+        // Process 'Forwarding Destination IPv6 Address'
+        if (forwardingDestinationIpv6Address != null) {
+            if (forwardingDestinationIpv6Address.length > 16) {
+                throw new IllegalArgumentException("Length of array forwardingDestinationIpv6Address exceeds maximum length of 16 bytes");
+            }
+            buffer.put(forwardingDestinationIpv6Address);
+        }
+
+        // Process 'UDP Port Number'
+        buffer.put((byte) ((udpPortNumber >> 8) & 0xff));
+        buffer.put((byte) (udpPortNumber & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MAILBOX_CONFIGURATION_SET command.
      * <p>
@@ -285,6 +361,80 @@ public class CommandClassMailboxV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MAILBOX_CONFIGURATION_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Mailbox Configuration Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param mode {@link String}
+     * @param supportedModes {@link String}
+     * @param mailboxCapacity {@link Integer}
+     * @param forwardingDestinationIpv6Address {@link byte[]}
+     * @param udpPortNumber {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMailboxConfigurationReport(ByteBuffer buffer, String mode, String supportedModes,
+            Integer mailboxCapacity, byte[] forwardingDestinationIpv6Address, Integer udpPortNumber) {
+        logger.debug("Creating command message MAILBOX_CONFIGURATION_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MAILBOX_CONFIGURATION_REPORT);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        int valmode;
+        switch (mode) {
+            case "DISABLE":
+                valmode = 0;
+                break;
+            case "ENABLE_MAILBOX_SERVICE":
+                valmode = 1;
+                break;
+            case "ENABLE_MAILBOX_PROXY":
+                valmode = 2;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for mode: " + mode);
+        }
+        valProperties1 |= valmode & 0x07;
+        int valsupportedModes;
+        switch (supportedModes) {
+            case "MAILBOX_SERVICE_SUPPORTED":
+                valsupportedModes = 0;
+                break;
+            case "MAILBOX_PROXY_SUPPORTED":
+                valsupportedModes = 1;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for supportedModes: " + supportedModes);
+        }
+        valProperties1 |= valsupportedModes >> 3 & 0x18;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Mailbox Capacity'
+        buffer.put((byte) ((mailboxCapacity >> 8) & 0xff));
+        buffer.put((byte) (mailboxCapacity & 0xff));
+
+        // Process 'Forwarding Destination IPv6 Address'
+        if (forwardingDestinationIpv6Address != null) {
+            if (forwardingDestinationIpv6Address.length > 16) {
+                throw new IllegalArgumentException("Length of array forwardingDestinationIpv6Address exceeds maximum length of 16 bytes");
+            }
+            buffer.put(forwardingDestinationIpv6Address);
+        }
+
+        // Process 'UDP Port Number'
+        buffer.put((byte) ((udpPortNumber >> 8) & 0xff));
+        buffer.put((byte) (udpPortNumber & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MAILBOX_CONFIGURATION_REPORT command.
      * <p>
@@ -420,6 +570,76 @@ public class CommandClassMailboxV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MAILBOX_QUEUE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Mailbox Queue
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sequenceNumber {@link Integer}
+     * @param mode {@link String}
+     * @param last {@link Boolean}
+     * @param queueHandle {@link Integer}
+     * @param mailboxEntry {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMailboxQueue(ByteBuffer buffer, Integer sequenceNumber, String mode, Boolean last,
+            Integer queueHandle, byte[] mailboxEntry) {
+        logger.debug("Creating command message MAILBOX_QUEUE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MAILBOX_QUEUE);
+
+        // Process 'Sequence Number'
+        buffer.put(sequenceNumber.byteValue());
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        int valmode;
+        switch (mode) {
+            case "PUSH":
+                valmode = 0;
+                break;
+            case "POP":
+                valmode = 1;
+                break;
+            case "WAITING":
+                valmode = 2;
+                break;
+            case "PING":
+                valmode = 3;
+                break;
+            case "ACK":
+                valmode = 4;
+                break;
+            case "NACK":
+                valmode = 5;
+                break;
+            case "QUEUE_FULL":
+                valmode = 6;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for mode: " + mode);
+        }
+        valProperties1 |= valmode & 0x03;
+        valProperties1 |= last ? 0x04 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Queue Handle'
+        buffer.put(queueHandle.byteValue());
+
+        // Process 'Mailbox Entry'
+        if (mailboxEntry != null) {
+            buffer.put(mailboxEntry);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MAILBOX_QUEUE command.
      * <p>
@@ -516,6 +736,31 @@ public class CommandClassMailboxV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MAILBOX_WAKEUP_NOTIFICATION command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Mailbox Wakeup Notification
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param queueHandle {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMailboxWakeupNotification(ByteBuffer buffer, Integer queueHandle) {
+        logger.debug("Creating command message MAILBOX_WAKEUP_NOTIFICATION version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MAILBOX_WAKEUP_NOTIFICATION);
+
+        // Process 'Queue Handle'
+        buffer.put(queueHandle.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MAILBOX_WAKEUP_NOTIFICATION command.
      * <p>
@@ -563,6 +808,31 @@ public class CommandClassMailboxV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MAILBOX_NODE_FAILING command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Mailbox Failing Node
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param queueHandle {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMailboxNodeFailing(ByteBuffer buffer, Integer queueHandle) {
+        logger.debug("Creating command message MAILBOX_NODE_FAILING version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MAILBOX_NODE_FAILING);
+
+        // Process 'Queue Handle'
+        buffer.put(queueHandle.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MAILBOX_NODE_FAILING command.
      * <p>
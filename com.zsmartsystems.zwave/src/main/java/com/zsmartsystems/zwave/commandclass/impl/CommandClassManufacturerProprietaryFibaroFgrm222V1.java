@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -156,6 +157,64 @@ public class CommandClassManufacturerProprietaryFibaroFgrm222V1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the FGRM222_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Set shutter or lamella position
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param command {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>SHUTTER
+     *            <li>LAMELLA
+     *            </ul>
+     * @param shutterPosition {@link Integer}
+     * @param lamellaPosition {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getFgrm222Set(ByteBuffer buffer, String command, Integer shutterPosition,
+            Integer lamellaPosition) {
+        logger.debug("Creating command message FGRM222_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) FGRM222_SET);
+
+        // Process 'Constant1'
+        buffer.put((byte) 0x0F);
+
+        // Process 'Constant2'
+        buffer.put((byte) 0x26);
+
+        // Process 'Constant3'
+        buffer.put((byte) 0x01);
+
+        // Process 'Command'
+        boolean foundCommand = false;
+        for (Integer entry : constantFgrm222SetCommand.keySet()) {
+            if (constantFgrm222SetCommand.get(entry).equals(command)) {
+                buffer.put(entry.byteValue());
+                foundCommand = true;
+                break;
+            }
+        }
+        if (!foundCommand) {
+            throw new IllegalArgumentException("Unknown constant value '" + command + "' for command");
+        }
+
+        // Process 'Shutter Position'
+        buffer.put(shutterPosition.byteValue());
+
+        // Process 'Lamella Position'
+        buffer.put(lamellaPosition.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the FGRM222_SET command.
      * <p>
@@ -213,6 +272,27 @@ public class CommandClassManufacturerProprietaryFibaroFgrm222V1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the FGRM222_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Get blinds and Lamella position
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getFgrm222Get(ByteBuffer buffer) {
+        logger.debug("Creating command message FGRM222_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) FGRM222_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the FGRM222_GET command.
      * <p>
@@ -267,6 +347,47 @@ public class CommandClassManufacturerProprietaryFibaroFgrm222V1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the FGRM222_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Blinds and Lamella position report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param shutterPosition {@link Integer}
+     * @param lamellaPosition {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getFgrm222Report(ByteBuffer buffer, Integer shutterPosition, Integer lamellaPosition) {
+        logger.debug("Creating command message FGRM222_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) FGRM222_REPORT);
+
+        // Process 'Constant1'
+        buffer.put((byte) 0x0F);
+
+        // Process 'Constant2'
+        buffer.put((byte) 0x26);
+
+        // Process 'Constant3'
+        buffer.put((byte) 0x01);
+
+        // Process 'Reserved4'
+        buffer.put((byte) 0);
+
+        // Process 'Shutter Position'
+        buffer.put(shutterPosition.byteValue());
+
+        // Process 'Lamella Position'
+        buffer.put(lamellaPosition.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the FGRM222_REPORT command.
      * <p>
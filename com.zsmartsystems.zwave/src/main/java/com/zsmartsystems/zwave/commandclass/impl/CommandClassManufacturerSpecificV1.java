@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -63,6 +64,27 @@ public class CommandClassManufacturerSpecificV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MANUFACTURER_SPECIFIC_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Manufacturer Specific Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getManufacturerSpecificGet(ByteBuffer buffer) {
+        logger.debug("Creating command message MANUFACTURER_SPECIFIC_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MANUFACTURER_SPECIFIC_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MANUFACTURER_SPECIFIC_GET command.
      * <p>
@@ -112,6 +134,43 @@ public class CommandClassManufacturerSpecificV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MANUFACTURER_SPECIFIC_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Manufacturer Specific Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param manufacturerId {@link Integer}
+     * @param productTypeId {@link Integer}
+     * @param productId {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getManufacturerSpecificReport(ByteBuffer buffer, Integer manufacturerId, Integer productTypeId,
+            Integer productId) {
+        logger.debug("Creating command message MANUFACTURER_SPECIFIC_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MANUFACTURER_SPECIFIC_REPORT);
+
+        // Process 'Manufacturer ID'
+        buffer.put((byte) ((manufacturerId >> 8) & 0xff));
+        buffer.put((byte) (manufacturerId & 0xff));
+
+        // Process 'Product Type ID'
+        buffer.put((byte) ((productTypeId >> 8) & 0xff));
+        buffer.put((byte) (productTypeId & 0xff));
+
+        // Process 'Product ID'
+        buffer.put((byte) ((productId >> 8) & 0xff));
+        buffer.put((byte) (productId & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MANUFACTURER_SPECIFIC_REPORT command.
      * <p>
@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -72,6 +73,27 @@ public class CommandClassManufacturerSpecificV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MANUFACTURER_SPECIFIC_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Manufacturer Specific Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getManufacturerSpecificGet(ByteBuffer buffer) {
+        logger.debug("Creating command message MANUFACTURER_SPECIFIC_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MANUFACTURER_SPECIFIC_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MANUFACTURER_SPECIFIC_GET command.
      * <p>
@@ -121,6 +143,43 @@ public class CommandClassManufacturerSpecificV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MANUFACTURER_SPECIFIC_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Manufacturer Specific Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param manufacturerId {@link Integer}
+     * @param productTypeId {@link Integer}
+     * @param productId {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getManufacturerSpecificReport(ByteBuffer buffer, Integer manufacturerId, Integer productTypeId,
+            Integer productId) {
+        logger.debug("Creating command message MANUFACTURER_SPECIFIC_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MANUFACTURER_SPECIFIC_REPORT);
+
+        // Process 'Manufacturer ID'
+        buffer.put((byte) ((manufacturerId >> 8) & 0xff));
+        buffer.put((byte) (manufacturerId & 0xff));
+
+        // Process 'Product Type ID'
+        buffer.put((byte) ((productTypeId >> 8) & 0xff));
+        buffer.put((byte) (productTypeId & 0xff));
+
+        // Process 'Product ID'
+        buffer.put((byte) ((productId >> 8) & 0xff));
+        buffer.put((byte) (productId & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MANUFACTURER_SPECIFIC_REPORT command.
      * <p>
@@ -184,6 +243,39 @@ public class CommandClassManufacturerSpecificV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DEVICE_SPECIFIC_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Device Specific Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param deviceIdType {@link String}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDeviceSpecificGet(ByteBuffer buffer, String deviceIdType) {
+        logger.debug("Creating command message DEVICE_SPECIFIC_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DEVICE_SPECIFIC_GET);
+
+        // Process 'Properties1'
+        int valdeviceIdType;
+        switch (deviceIdType) {
+            case "SERIAL_NUMBER":
+                valdeviceIdType = 1;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for deviceIdType: " + deviceIdType);
+        }
+        buffer.put((byte) (valdeviceIdType & 0x07));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DEVICE_SPECIFIC_GET command.
      * <p>
@@ -271,6 +363,63 @@ public class CommandClassManufacturerSpecificV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DEVICE_SPECIFIC_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Device Specific Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param deviceIdType {@link String}
+     * @param deviceIdDataFormat {@link String}
+     * @param deviceIdData {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDeviceSpecificReport(ByteBuffer buffer, String deviceIdType, String deviceIdDataFormat,
+            byte[] deviceIdData) {
+        logger.debug("Creating command message DEVICE_SPECIFIC_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DEVICE_SPECIFIC_REPORT);
+
+        // Process 'Properties1'
+        int valdeviceIdType;
+        switch (deviceIdType) {
+            case "SERIAL_NUMBER":
+                valdeviceIdType = 1;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for deviceIdType: " + deviceIdType);
+        }
+        buffer.put((byte) (valdeviceIdType & 0x07));
+
+        // Process 'Properties2'
+        // Device ID Data Length Indicator is used by 'Device ID Data'
+        int deviceIdDataLengthIndicator = deviceIdData.length;
+        int valProperties2 = 0;
+        valProperties2 |= deviceIdDataLengthIndicator & 0x1F;
+        int valdeviceIdDataFormat;
+        switch (deviceIdDataFormat) {
+            case "BINARY":
+                valdeviceIdDataFormat = 1;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for deviceIdDataFormat: " + deviceIdDataFormat);
+        }
+        valProperties2 |= valdeviceIdDataFormat >> 5 & 0xE0;
+        buffer.put((byte) valProperties2);
+
+        // Process 'Device ID Data'
+        if (deviceIdData != null) {
+            buffer.put(deviceIdData);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DEVICE_SPECIFIC_REPORT command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -63,6 +64,27 @@ public class CommandClassMeterPulseV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_PULSE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Pulse Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterPulseGet(ByteBuffer buffer) {
+        logger.debug("Creating command message METER_PULSE_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_PULSE_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_PULSE_GET command.
      * <p>
@@ -104,6 +126,34 @@ public class CommandClassMeterPulseV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_PULSE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Pulse Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param pulseCount {@link Long}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterPulseReport(ByteBuffer buffer, Long pulseCount) {
+        logger.debug("Creating command message METER_PULSE_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_PULSE_REPORT);
+
+        // Process 'Pulse Count'
+        buffer.put((byte) ((pulseCount >> 24) & 0xff));
+        buffer.put((byte) ((pulseCount >> 16) & 0xff));
+        buffer.put((byte) ((pulseCount >> 8) & 0xff));
+        buffer.put((byte) (pulseCount & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_PULSE_REPORT command.
      * <p>
@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -74,6 +75,38 @@ public class CommandClassMeterTblConfigV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_TBL_TABLE_POINT_ADM_NO_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Tbl Table Point Adm No Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param meterPointAdmNumberCharacter {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterTblTablePointAdmNoSet(ByteBuffer buffer, byte[] meterPointAdmNumberCharacter) {
+        logger.debug("Creating command message METER_TBL_TABLE_POINT_ADM_NO_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_TBL_TABLE_POINT_ADM_NO_SET);
+
+        // Process 'Properties1'
+        // Number of Characters is used by 'Meter Point Adm Number Character'
+        int numberOfCharacters = meterPointAdmNumberCharacter.length;
+        buffer.put((byte) (numberOfCharacters & 0x1F));
+
+        // Process 'Meter Point Adm Number Character'
+        if (meterPointAdmNumberCharacter != null) {
+            buffer.put(meterPointAdmNumberCharacter);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_TBL_TABLE_POINT_ADM_NO_SET command.
      * <p>
@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -144,6 +145,27 @@ public class CommandClassMeterTblMonitorV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_TBL_TABLE_POINT_ADM_NO_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Tbl Table Point Adm No Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterTblTablePointAdmNoGet(ByteBuffer buffer) {
+        logger.debug("Creating command message METER_TBL_TABLE_POINT_ADM_NO_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_TBL_TABLE_POINT_ADM_NO_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_TBL_TABLE_POINT_ADM_NO_GET command.
      * <p>
@@ -192,6 +214,38 @@ public class CommandClassMeterTblMonitorV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_TBL_TABLE_POINT_ADM_NO_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Tbl Table Point Adm No Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param meterPointAdmNumberCharacter {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterTblTablePointAdmNoReport(ByteBuffer buffer, byte[] meterPointAdmNumberCharacter) {
+        logger.debug("Creating command message METER_TBL_TABLE_POINT_ADM_NO_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_TBL_TABLE_POINT_ADM_NO_REPORT);
+
+        // Process 'Properties1'
+        // Number of Characters is used by 'Meter Point Adm Number Character'
+        int numberOfCharacters = meterPointAdmNumberCharacter.length;
+        buffer.put((byte) (numberOfCharacters & 0x1F));
+
+        // Process 'Meter Point Adm Number Character'
+        if (meterPointAdmNumberCharacter != null) {
+            buffer.put(meterPointAdmNumberCharacter);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_TBL_TABLE_POINT_ADM_NO_REPORT command.
      * <p>
@@ -244,6 +298,27 @@ public class CommandClassMeterTblMonitorV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_TBL_TABLE_ID_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Tbl Table Id Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterTblTableIdGet(ByteBuffer buffer) {
+        logger.debug("Creating command message METER_TBL_TABLE_ID_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_TBL_TABLE_ID_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_TBL_TABLE_ID_GET command.
      * <p>
@@ -292,6 +367,38 @@ public class CommandClassMeterTblMonitorV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_TBL_TABLE_ID_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Tbl Table Id Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param meterIdCharacter {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterTblTableIdReport(ByteBuffer buffer, byte[] meterIdCharacter) {
+        logger.debug("Creating command message METER_TBL_TABLE_ID_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_TBL_TABLE_ID_REPORT);
+
+        // Process 'Properties1'
+        // Number of Characters is used by 'Meter ID Character'
+        int numberOfCharacters = meterIdCharacter.length;
+        buffer.put((byte) (numberOfCharacters & 0x1F));
+
+        // Process 'Meter ID Character'
+        if (meterIdCharacter != null) {
+            buffer.put(meterIdCharacter);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_TBL_TABLE_ID_REPORT command.
      * <p>
@@ -344,6 +451,27 @@ public class CommandClassMeterTblMonitorV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_TBL_TABLE_CAPABILITY_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Tbl Table Capability Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterTblTableCapabilityGet(ByteBuffer buffer) {
+        logger.debug("Creating command message METER_TBL_TABLE_CAPABILITY_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_TBL_TABLE_CAPABILITY_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_TBL_TABLE_CAPABILITY_GET command.
      * <p>
@@ -410,6 +538,59 @@ public class CommandClassMeterTblMonitorV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_TBL_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Tbl Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param meterType {@link Integer}
+     * @param rateType {@link Integer}
+     * @param payMeter {@link String}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterTblReport(ByteBuffer buffer, Integer meterType, Integer rateType, String payMeter) {
+        logger.debug("Creating command message METER_TBL_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_TBL_REPORT);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= meterType & 0x3F;
+        valProperties1 |= ((rateType << 6) & 0xC0);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Properties2'
+        int valpayMeter;
+        switch (payMeter) {
+            case "CREDITMETER":
+                valpayMeter = 1;
+                break;
+            case "PREPAYMENT_METER":
+                valpayMeter = 2;
+                break;
+            case "PREPAYMENT_METER_DEBT":
+                valpayMeter = 3;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for payMeter: " + payMeter);
+        }
+        buffer.put((byte) (valpayMeter & 0x0F));
+
+        // Process 'Dataset Supported'
+
+        // Process 'Dataset History Supported'
+
+        // Process 'Data History Supported'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_TBL_REPORT command.
      * <p>
@@ -477,6 +658,27 @@ public class CommandClassMeterTblMonitorV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_TBL_STATUS_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Tbl Status Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterTblStatusSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message METER_TBL_STATUS_SUPPORTED_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_TBL_STATUS_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_TBL_STATUS_SUPPORTED_GET command.
      * <p>
@@ -517,6 +719,33 @@ public class CommandClassMeterTblMonitorV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_TBL_STATUS_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Tbl Status Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param statusEventLogDepth {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterTblStatusSupportedReport(ByteBuffer buffer, Integer statusEventLogDepth) {
+        logger.debug("Creating command message METER_TBL_STATUS_SUPPORTED_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_TBL_STATUS_SUPPORTED_REPORT);
+
+        // Process 'Supported Operating Status'
+
+        // Process 'Status Event Log Depth'
+        buffer.put(statusEventLogDepth.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_TBL_STATUS_SUPPORTED_REPORT command.
      * <p>
@@ -566,6 +795,31 @@ public class CommandClassMeterTblMonitorV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_TBL_STATUS_DEPTH_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Tbl Status Depth Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param statusEventLogDepth {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterTblStatusDepthGet(ByteBuffer buffer, Integer statusEventLogDepth) {
+        logger.debug("Creating command message METER_TBL_STATUS_DEPTH_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_TBL_STATUS_DEPTH_GET);
+
+        // Process 'Status Event Log Depth'
+        buffer.put(statusEventLogDepth.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_TBL_STATUS_DEPTH_GET command.
      * <p>
@@ -666,6 +920,84 @@ public class CommandClassMeterTblMonitorV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_TBL_STATUS_DATE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Tbl Status Date Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param maximumReports {@link Integer}
+     * @param startYear {@link Integer}
+     * @param startMonth {@link Integer}
+     * @param startDay {@link Integer}
+     * @param startHourLocalTime {@link Integer}
+     * @param startMinuteLocalTime {@link Integer}
+     * @param startSecondLocalTime {@link Integer}
+     * @param stopYear {@link Integer}
+     * @param stopMonth {@link Integer}
+     * @param stopDay {@link Integer}
+     * @param stopHourLocalTime {@link Integer}
+     * @param stopMinuteLocalTime {@link Integer}
+     * @param stopSecondLocalTime {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterTblStatusDateGet(ByteBuffer buffer, Integer maximumReports, Integer startYear,
+            Integer startMonth, Integer startDay, Integer startHourLocalTime, Integer startMinuteLocalTime,
+            Integer startSecondLocalTime, Integer stopYear, Integer stopMonth, Integer stopDay,
+            Integer stopHourLocalTime, Integer stopMinuteLocalTime, Integer stopSecondLocalTime) {
+        logger.debug("Creating command message METER_TBL_STATUS_DATE_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_TBL_STATUS_DATE_GET);
+
+        // Process 'Maximum Reports'
+        buffer.put(maximumReports.byteValue());
+
+        // Process 'Start Year'
+        buffer.put((byte) ((startYear >> 8) & 0xff));
+        buffer.put((byte) (startYear & 0xff));
+
+        // Process 'Start Month'
+        buffer.put(startMonth.byteValue());
+
+        // Process 'Start Day'
+        buffer.put(startDay.byteValue());
+
+        // Process 'Start Hour Local Time'
+        buffer.put(startHourLocalTime.byteValue());
+
+        // Process 'Start Minute Local Time'
+        buffer.put(startMinuteLocalTime.byteValue());
+
+        // Process 'Start Second Local Time'
+        buffer.put(startSecondLocalTime.byteValue());
+
+        // Process 'Stop Year'
+        buffer.put((byte) ((stopYear >> 8) & 0xff));
+        buffer.put((byte) (stopYear & 0xff));
+
+        // Process 'Stop Month'
+        buffer.put(stopMonth.byteValue());
+
+        // Process 'Stop Day'
+        buffer.put(stopDay.byteValue());
+
+        // Process 'Stop Hour Local Time'
+        buffer.put(stopHourLocalTime.byteValue());
+
+        // Process 'Stop Minute Local Time'
+        buffer.put(stopMinuteLocalTime.byteValue());
+
+        // Process 'Stop Second Local Time'
+        buffer.put(stopSecondLocalTime.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_TBL_STATUS_DATE_GET command.
      * <p>
@@ -765,6 +1097,35 @@ public class CommandClassMeterTblMonitorV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_TBL_STATUS_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Tbl Status Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param reportsToFollow {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterTblStatusReport(ByteBuffer buffer, Integer reportsToFollow) {
+        logger.debug("Creating command message METER_TBL_STATUS_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_TBL_STATUS_REPORT);
+
+        // Process 'Reports to follow'
+        buffer.put(reportsToFollow.byteValue());
+
+        // Process 'Current Operating Status'
+
+        // Process 'vg'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_TBL_STATUS_REPORT command.
      * <p>
@@ -854,6 +1215,29 @@ public class CommandClassMeterTblMonitorV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_TBL_CURRENT_DATA_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Tbl Current Data Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterTblCurrentDataGet(ByteBuffer buffer) {
+        logger.debug("Creating command message METER_TBL_CURRENT_DATA_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_TBL_CURRENT_DATA_GET);
+
+        // Process 'Dataset Requested'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_TBL_CURRENT_DATA_GET command.
      * <p>
@@ -933,6 +1317,70 @@ public class CommandClassMeterTblMonitorV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_TBL_CURRENT_DATA_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Tbl Current Data Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param reportsToFollow {@link Integer}
+     * @param rateType {@link Integer}
+     * @param operatingStatusIndication {@link Boolean}
+     * @param year {@link Integer}
+     * @param month {@link Integer}
+     * @param day {@link Integer}
+     * @param hourLocalTime {@link Integer}
+     * @param minuteLocalTime {@link Integer}
+     * @param secondLocalTime {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterTblCurrentDataReport(ByteBuffer buffer, Integer reportsToFollow, Integer rateType,
+            Boolean operatingStatusIndication, Integer year, Integer month, Integer day, Integer hourLocalTime,
+            Integer minuteLocalTime, Integer secondLocalTime) {
+        logger.debug("Creating command message METER_TBL_CURRENT_DATA_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_TBL_CURRENT_DATA_REPORT);
+
+        // Process 'Reports to Follow'
+        buffer.put(reportsToFollow.byteValue());
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= rateType & 0x03;
+        valProperties1 |= operatingStatusIndication ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Dataset'
+
+        // Process 'Year'
+        buffer.put((byte) ((year >> 8) & 0xff));
+        buffer.put((byte) (year & 0xff));
+
+        // Process 'Month'
+        buffer.put(month.byteValue());
+
+        // Process 'Day'
+        buffer.put(day.byteValue());
+
+        // Process 'Hour Local Time'
+        buffer.put(hourLocalTime.byteValue());
+
+        // Process 'Minute Local Time'
+        buffer.put(minuteLocalTime.byteValue());
+
+        // Process 'Second Local Time'
+        buffer.put(secondLocalTime.byteValue());
+
+        // Process 'vg'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_TBL_CURRENT_DATA_REPORT command.
      * <p>
@@ -1094,6 +1542,86 @@ public class CommandClassMeterTblMonitorV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_TBL_HISTORICAL_DATA_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Tbl Historical Data Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param maximumReports {@link Integer}
+     * @param startYear {@link Integer}
+     * @param startMonth {@link Integer}
+     * @param startDay {@link Integer}
+     * @param startHourLocalTime {@link Integer}
+     * @param startMinuteLocalTime {@link Integer}
+     * @param startSecondLocalTime {@link Integer}
+     * @param stopYear {@link Integer}
+     * @param stopMonth {@link Integer}
+     * @param stopDay {@link Integer}
+     * @param stopHourLocalTime {@link Integer}
+     * @param stopMinuteLocalTime {@link Integer}
+     * @param stopSecondLocalTime {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterTblHistoricalDataGet(ByteBuffer buffer, Integer maximumReports, Integer startYear,
+            Integer startMonth, Integer startDay, Integer startHourLocalTime, Integer startMinuteLocalTime,
+            Integer startSecondLocalTime, Integer stopYear, Integer stopMonth, Integer stopDay,
+            Integer stopHourLocalTime, Integer stopMinuteLocalTime, Integer stopSecondLocalTime) {
+        logger.debug("Creating command message METER_TBL_HISTORICAL_DATA_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_TBL_HISTORICAL_DATA_GET);
+
+        // Process 'Maximum Reports'
+        buffer.put(maximumReports.byteValue());
+
+        // Process 'Historical Dataset Requested'
+
+        // Process 'Start Year'
+        buffer.put((byte) ((startYear >> 8) & 0xff));
+        buffer.put((byte) (startYear & 0xff));
+
+        // Process 'Start Month'
+        buffer.put(startMonth.byteValue());
+
+        // Process 'Start Day'
+        buffer.put(startDay.byteValue());
+
+        // Process 'Start Hour Local Time'
+        buffer.put(startHourLocalTime.byteValue());
+
+        // Process 'Start Minute Local Time'
+        buffer.put(startMinuteLocalTime.byteValue());
+
+        // Process 'Start Second Local Time'
+        buffer.put(startSecondLocalTime.byteValue());
+
+        // Process 'Stop Year'
+        buffer.put((byte) ((stopYear >> 8) & 0xff));
+        buffer.put((byte) (stopYear & 0xff));
+
+        // Process 'Stop Month'
+        buffer.put(stopMonth.byteValue());
+
+        // Process 'Stop Day'
+        buffer.put(stopDay.byteValue());
+
+        // Process 'Stop Hour Local Time'
+        buffer.put(stopHourLocalTime.byteValue());
+
+        // Process 'Stop Minute Local Time'
+        buffer.put(stopMinuteLocalTime.byteValue());
+
+        // Process 'Stop Second Local Time'
+        buffer.put(stopSecondLocalTime.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_TBL_HISTORICAL_DATA_GET command.
      * <p>
@@ -1230,6 +1758,70 @@ public class CommandClassMeterTblMonitorV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_TBL_HISTORICAL_DATA_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Tbl Historical Data Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param reportsToFollow {@link Integer}
+     * @param rateType {@link Integer}
+     * @param operatingStatusIndication {@link Boolean}
+     * @param year {@link Integer}
+     * @param month {@link Integer}
+     * @param day {@link Integer}
+     * @param hourLocalTime {@link Integer}
+     * @param minuteLocalTime {@link Integer}
+     * @param secondLocalTime {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterTblHistoricalDataReport(ByteBuffer buffer, Integer reportsToFollow, Integer rateType,
+            Boolean operatingStatusIndication, Integer year, Integer month, Integer day, Integer hourLocalTime,
+            Integer minuteLocalTime, Integer secondLocalTime) {
+        logger.debug("Creating command message METER_TBL_HISTORICAL_DATA_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_TBL_HISTORICAL_DATA_REPORT);
+
+        // Process 'Reports to Follow'
+        buffer.put(reportsToFollow.byteValue());
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= rateType & 0x03;
+        valProperties1 |= operatingStatusIndication ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Dataset'
+
+        // Process 'Year'
+        buffer.put((byte) ((year >> 8) & 0xff));
+        buffer.put((byte) (year & 0xff));
+
+        // Process 'Month'
+        buffer.put(month.byteValue());
+
+        // Process 'Day'
+        buffer.put(day.byteValue());
+
+        // Process 'Hour Local Time'
+        buffer.put(hourLocalTime.byteValue());
+
+        // Process 'Minute Local Time'
+        buffer.put(minuteLocalTime.byteValue());
+
+        // Process 'Second Local Time'
+        buffer.put(secondLocalTime.byteValue());
+
+        // Process 'vg'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_TBL_HISTORICAL_DATA_REPORT command.
      * <p>
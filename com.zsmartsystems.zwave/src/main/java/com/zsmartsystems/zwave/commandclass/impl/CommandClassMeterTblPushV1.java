@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -122,6 +123,65 @@ public class CommandClassMeterTblPushV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_TBL_PUSH_CONFIGURATION_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Tbl Push Configuration Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param operatingStatusPushMode {@link Integer}
+     * @param ps {@link Boolean}
+     * @param intervalMonths {@link Integer}
+     * @param intervalDays {@link Integer}
+     * @param intervalHours {@link Integer}
+     * @param intervalMinutes {@link Integer}
+     * @param pushNodeId {@link Integer}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getMeterTblPushConfigurationSet(ByteBuffer buffer, Integer operatingStatusPushMode, Boolean ps,
+            Integer intervalMonths, Integer intervalDays, Integer intervalHours, Integer intervalMinutes,
+            Integer pushNodeId) {
+        logger.debug("Creating command message METER_TBL_PUSH_CONFIGURATION_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_TBL_PUSH_CONFIGURATION_SET);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= operatingStatusPushMode & 0x0F;
+        valProperties1 |= ps ? 0x10 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Push Dataset'
+
+        // Process 'Interval Months'
+        buffer.put(intervalMonths.byteValue());
+
+        // Process 'Interval Days'
+        buffer.put(intervalDays.byteValue());
+
+        // Process 'Interval Hours'
+        buffer.put(intervalHours.byteValue());
+
+        // Process 'Interval Minutes'
+        buffer.put(intervalMinutes.byteValue());
+
+        // Process 'Push Node ID'
+        // Check the node number boundary
+        if (pushNodeId < 1 || pushNodeId > 232) {
+            logger.debug("Node number is out of bounds {}", pushNodeId);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(pushNodeId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_TBL_PUSH_CONFIGURATION_SET command.
      * <p>
@@ -189,6 +249,27 @@ public class CommandClassMeterTblPushV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_TBL_PUSH_CONFIGURATION_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Tbl Push Configuration Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterTblPushConfigurationGet(ByteBuffer buffer) {
+        logger.debug("Creating command message METER_TBL_PUSH_CONFIGURATION_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_TBL_PUSH_CONFIGURATION_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_TBL_PUSH_CONFIGURATION_GET command.
      * <p>
@@ -260,6 +341,65 @@ public class CommandClassMeterTblPushV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_TBL_PUSH_CONFIGURATION_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Tbl Push Configuration Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param operatingStatusPushMode {@link Integer}
+     * @param ps {@link Boolean}
+     * @param intervalMonths {@link Integer}
+     * @param intervalDays {@link Integer}
+     * @param intervalHours {@link Integer}
+     * @param intervalMinutes {@link Integer}
+     * @param pushNodeId {@link Integer}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getMeterTblPushConfigurationReport(ByteBuffer buffer, Integer operatingStatusPushMode, Boolean ps,
+            Integer intervalMonths, Integer intervalDays, Integer intervalHours, Integer intervalMinutes,
+            Integer pushNodeId) {
+        logger.debug("Creating command message METER_TBL_PUSH_CONFIGURATION_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_TBL_PUSH_CONFIGURATION_REPORT);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= operatingStatusPushMode & 0x0F;
+        valProperties1 |= ps ? 0x10 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Push Dataset'
+
+        // Process 'Interval Months'
+        buffer.put(intervalMonths.byteValue());
+
+        // Process 'Interval Days'
+        buffer.put(intervalDays.byteValue());
+
+        // Process 'Interval Hours'
+        buffer.put(intervalHours.byteValue());
+
+        // Process 'Interval Minutes'
+        buffer.put(intervalMinutes.byteValue());
+
+        // Process 'Push Node ID'
+        // Check the node number boundary
+        if (pushNodeId < 1 || pushNodeId > 232) {
+            logger.debug("Node number is out of bounds {}", pushNodeId);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(pushNodeId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_TBL_PUSH_CONFIGURATION_REPORT command.
      * <p>
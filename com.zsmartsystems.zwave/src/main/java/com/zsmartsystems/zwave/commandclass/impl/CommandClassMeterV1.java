@@ -10,11 +10,14 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.zsmartsystems.zwave.commandclass.ZWaveCommandClassView;
+
 /**
  * Class to implement the Z-Wave command class <b>COMMAND_CLASS_METER</b> version <b>1</b>.
  * <p>
@@ -59,6 +62,51 @@ public class CommandClassMeterV1 {
         constantMeterReportMeterType.put(0x03, "WATER_METER");
     }
 
+    /**
+     * Constants for the 'Meter Type' field
+     */
+    public enum MeterType {
+        ELECTRIC_METER(0x01),
+        GAS_METER(0x02),
+        WATER_METER(0x03);
+
+        private static final MeterType[] keyLookup = new MeterType[0x04];
+
+        static {
+            for (MeterType value : values()) {
+                keyLookup[value.key] = value;
+            }
+        }
+
+        private final int key;
+
+        private MeterType(int key) {
+            this.key = key;
+        }
+
+        /**
+         * Gets the value of the constant within the frame
+         *
+         * @return the key
+         */
+        public int getKey() {
+            return key;
+        }
+
+        /**
+         * Gets the constant for a value received in a frame
+         *
+         * @param key the value of the field
+         * @return the {@link MeterType} or null if the value is not known
+         */
+        public static MeterType getMeterType(int key) {
+            if (key < 0 || key >= keyLookup.length) {
+                return null;
+            }
+            return keyLookup[key];
+        }
+    }
+
     /**
      * Creates a new message with the METER_GET command.
      * <p>
@@ -76,6 +124,27 @@ public class CommandClassMeterV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterGet(ByteBuffer buffer) {
+        logger.debug("Creating command message METER_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_GET command.
      * <p>
@@ -150,6 +219,149 @@ public class CommandClassMeterV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param meterType {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>ELECTRIC_METER
+     *            <li>GAS_METER
+     *            <li>WATER_METER
+     *            </ul>
+     * @param scale {@link Integer}
+     * @param precision {@link Integer}
+     * @param meterValue {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterReport(ByteBuffer buffer, String meterType, Integer scale, Integer precision,
+            byte[] meterValue) {
+        logger.debug("Creating command message METER_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_REPORT);
+
+        // Process 'Meter Type'
+        boolean foundMeterType = false;
+        for (Integer entry : constantMeterReportMeterType.keySet()) {
+            if (constantMeterReportMeterType.get(entry).equals(meterType)) {
+                buffer.put(entry.byteValue());
+                foundMeterType = true;
+                break;
+            }
+        }
+        if (!foundMeterType) {
+            throw new IllegalArgumentException("Unknown constant value '" + meterType + "' for meterType");
+        }
+
+        // Process 'Properties1'
+        // Size is used by 'Meter Value'
+        int size = meterValue.length;
+        int valProperties1 = 0;
+        valProperties1 |= size & 0x07;
+        valProperties1 |= ((scale << 3) & 0x18);
+        valProperties1 |= ((precision << 5) & 0xE0);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Meter Value'
+        if (meterValue != null) {
+            buffer.put(meterValue);
+        }
+
+        return buffer.position() - start;
+    }
+
+    /**
+     * Creates a new message with the METER_REPORT command.
+     * <p>
+     * Meter Report
+     *
+     * @param meterType {@link MeterType}
+     * @param scale {@link Integer}
+     * @param precision {@link Integer}
+     * @param meterValue {@link byte[]}
+     * @return the {@link byte[]} array with the command to send
+     */
+    static public byte[] getMeterReport(MeterType meterType, Integer scale, Integer precision, byte[] meterValue) {
+        logger.debug("Creating command message METER_REPORT version 1");
+
+        ByteArrayOutputStream outputData = new ByteArrayOutputStream();
+        outputData.write(COMMAND_CLASS_KEY);
+        outputData.write(METER_REPORT);
+
+        // Process 'Meter Type'
+        outputData.write(meterType.getKey());
+
+        // Process 'Properties1'
+        // Size is used by 'Meter Value'
+        int size = meterValue.length;
+        int valProperties1 = 0;
+        valProperties1 |= size & 0x07;
+        valProperties1 |= ((scale << 3) & 0x18);
+        valProperties1 |= ((precision << 5) & 0xE0);
+        outputData.write(valProperties1);
+
+        // Process 'Meter Value'
+        if (meterValue != null) {
+            try {
+                outputData.write(meterValue);
+            } catch (IOException e) {
+            }
+        }
+
+        return outputData.toByteArray();
+    }
+
+    /**
+     * Writes a new message with the METER_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param meterType {@link MeterType}
+     * @param scale {@link Integer}
+     * @param precision {@link Integer}
+     * @param meterValue {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterReport(ByteBuffer buffer, MeterType meterType, Integer scale, Integer precision,
+            byte[] meterValue) {
+        logger.debug("Creating command message METER_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_REPORT);
+
+        // Process 'Meter Type'
+        buffer.put((byte) meterType.getKey());
+
+        // Process 'Properties1'
+        // Size is used by 'Meter Value'
+        int size = meterValue.length;
+        int valProperties1 = 0;
+        valProperties1 |= size & 0x07;
+        valProperties1 |= ((scale << 3) & 0x18);
+        valProperties1 |= ((precision << 5) & 0xE0);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Meter Value'
+        if (meterValue != null) {
+            buffer.put(meterValue);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_REPORT command.
      * <p>
@@ -197,4 +409,96 @@ public class CommandClassMeterV1 {
         return response;
     }
 
+    /**
+     * Flyweight view of a received frame with the METER_REPORT command.
+     * <p>
+     * Meter Report
+     * <p>
+     * Fields are read directly from the wrapped payload each time a getter is called. This is the allocation free
+     * equivalent of {@link #handleMeterReport(byte[])} and provides the following fields -:
+     *
+     * <ul>
+     * <li>METER_TYPE {@code int}
+     * <li>SCALE {@code int}
+     * <li>PRECISION {@code int}
+     * <li>METER_VALUE {@code int}
+     * </ul>
+     */
+    public static class MeterReportView extends ZWaveCommandClassView {
+        @Override
+        public MeterReportView wrap(byte[] payload) {
+            super.wrap(payload);
+            return this;
+        }
+
+        @Override
+        public MeterReportView wrap(byte[] payload, int offset, int length) {
+            super.wrap(payload, offset, length);
+            return this;
+        }
+
+        /**
+         * Gets the 'Meter Type' field
+         *
+         * @return the meter type
+         */
+        public int getMeterType() {
+            return payload[offset + 2] & 0xff;
+        }
+
+        /**
+         * Gets the 'Meter Type' field as a constant
+         *
+         * @return the {@link MeterType} or null if the value is not known
+         */
+        public MeterType getMeterTypeEnum() {
+            return MeterType.getMeterType(getMeterType());
+        }
+
+        /**
+         * Gets the size of the 'Meter Value' field
+         *
+         * @return the number of bytes in the meter value
+         */
+        public int getSize() {
+            return payload[offset + 3] & 0x07;
+        }
+
+        /**
+         * Gets the 'Scale' field
+         *
+         * @return the scale
+         */
+        public int getScale() {
+            return (payload[offset + 3] & 0x18) >> 3;
+        }
+
+        /**
+         * Gets the 'Precision' field
+         *
+         * @return the number of decimal places in the meter value
+         */
+        public int getPrecision() {
+            return (payload[offset + 3] & 0xE0) >> 5;
+        }
+
+        /**
+         * Gets the 'Meter Value' field as a signed integer without the precision applied
+         *
+         * @return the meter value
+         */
+        public int getMeterValue() {
+            return getSignedValue(payload, offset + 4, getSize());
+        }
+
+        /**
+         * Gets the 'Meter Value' field with the precision applied
+         *
+         * @return the meter value
+         */
+        public double getMeterValueAsDouble() {
+            return getScaledValue(getMeterValue(), getPrecision());
+        }
+    }
+
 }
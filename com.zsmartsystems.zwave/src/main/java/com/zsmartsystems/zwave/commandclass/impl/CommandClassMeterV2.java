@@ -10,11 +10,14 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.zsmartsystems.zwave.commandclass.ZWaveCommandClassView;
+
 /**
  * Class to implement the Z-Wave command class <b>COMMAND_CLASS_METER</b> version <b>2</b>.
  * <p>
@@ -97,6 +100,31 @@ public class CommandClassMeterV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param scale {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterGet(ByteBuffer buffer, Integer scale) {
+        logger.debug("Creating command message METER_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_GET);
+
+        // Process 'Properties1'
+        buffer.put((byte) ((scale << 3) & 0x18));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_GET command.
      * <p>
@@ -183,6 +211,64 @@ public class CommandClassMeterV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param meterType {@link Integer}
+     * @param rateType {@link Integer}
+     * @param scale {@link Integer}
+     * @param precision {@link Integer}
+     * @param meterValue {@link byte[]}
+     * @param deltaTime {@link Integer}
+     * @param previousMeterValue {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterReport(ByteBuffer buffer, Integer meterType, Integer rateType, Integer scale,
+            Integer precision, byte[] meterValue, Integer deltaTime, byte[] previousMeterValue) {
+        logger.debug("Creating command message METER_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_REPORT);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= meterType & 0x1F;
+        valProperties1 |= ((rateType << 5) & 0x60);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Properties2'
+        // Size is used by 'Meter Value' and 'Previous Meter Value'
+        int size = meterValue.length;
+        int valProperties2 = 0;
+        valProperties2 |= size & 0x07;
+        valProperties2 |= ((scale << 3) & 0x18);
+        valProperties2 |= ((precision << 5) & 0xE0);
+        buffer.put((byte) valProperties2);
+
+        // Process 'Meter Value'
+        if (meterValue != null) {
+            buffer.put(meterValue);
+        }
+
+        // Process 'Delta Time'
+        buffer.put((byte) ((deltaTime >> 8) & 0xff));
+        buffer.put((byte) (deltaTime & 0xff));
+
+        // Process 'Previous Meter Value'
+        if (previousMeterValue != null) {
+            buffer.put(previousMeterValue);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_REPORT command.
      * <p>
@@ -248,6 +334,129 @@ public class CommandClassMeterV2 {
         return response;
     }
 
+    /**
+     * Flyweight view of a received frame with the METER_REPORT command.
+     * <p>
+     * Meter Report
+     * <p>
+     * Fields are read directly from the wrapped payload each time a getter is called. This is the allocation free
+     * equivalent of {@link #handleMeterReport(byte[])} and provides the following fields -:
+     *
+     * <ul>
+     * <li>METER_TYPE {@code int}
+     * <li>RATE_TYPE {@code int}
+     * <li>SCALE {@code int}
+     * <li>PRECISION {@code int}
+     * <li>METER_VALUE {@code int}
+     * <li>DELTA_TIME {@code int}
+     * <li>PREVIOUS_METER_VALUE {@code int}
+     * </ul>
+     */
+    public static class MeterReportView extends ZWaveCommandClassView {
+        @Override
+        public MeterReportView wrap(byte[] payload) {
+            super.wrap(payload);
+            return this;
+        }
+
+        @Override
+        public MeterReportView wrap(byte[] payload, int offset, int length) {
+            super.wrap(payload, offset, length);
+            return this;
+        }
+
+        /**
+         * Gets the 'Meter Type' field
+         *
+         * @return the meter type
+         */
+        public int getMeterType() {
+            return payload[offset + 2] & 0x1F;
+        }
+
+        /**
+         * Gets the 'Rate Type' field
+         *
+         * @return the rate type
+         */
+        public int getRateType() {
+            return (payload[offset + 2] & 0x60) >> 5;
+        }
+
+        /**
+         * Gets the size of the 'Meter Value' field
+         *
+         * @return the number of bytes in the meter value
+         */
+        public int getSize() {
+            return payload[offset + 3] & 0x07;
+        }
+
+        /**
+         * Gets the 'Scale' field
+         *
+         * @return the scale
+         */
+        public int getScale() {
+            return (payload[offset + 3] & 0x18) >> 3;
+        }
+
+        /**
+         * Gets the 'Precision' field
+         *
+         * @return the number of decimal places in the meter value
+         */
+        public int getPrecision() {
+            return (payload[offset + 3] & 0xE0) >> 5;
+        }
+
+        /**
+         * Gets the 'Meter Value' field as a signed integer without the precision applied
+         *
+         * @return the meter value
+         */
+        public int getMeterValue() {
+            return getSignedValue(payload, offset + 4, getSize());
+        }
+
+        /**
+         * Gets the 'Meter Value' field with the precision applied
+         *
+         * @return the meter value
+         */
+        public double getMeterValueAsDouble() {
+            return getScaledValue(getMeterValue(), getPrecision());
+        }
+
+        /**
+         * Gets the 'Delta Time' field
+         *
+         * @return the time in seconds since the previous meter value
+         */
+        public int getDeltaTime() {
+            int msgOffset = offset + 4 + getSize();
+            return ((payload[msgOffset] & 0xff) << 8) | (payload[msgOffset + 1] & 0xff);
+        }
+
+        /**
+         * Checks if the optional 'Previous Meter Value' field is present
+         *
+         * @return true if the frame contains the previous meter value
+         */
+        public boolean hasPreviousMeterValue() {
+            return length >= 6 + getSize() * 2;
+        }
+
+        /**
+         * Gets the 'Previous Meter Value' field as a signed integer without the precision applied
+         *
+         * @return the previous meter value
+         */
+        public int getPreviousMeterValue() {
+            return getSignedValue(payload, offset + 6 + getSize(), getSize());
+        }
+    }
+
 
     /**
      * Creates a new message with the METER_SUPPORTED_GET command.
@@ -266,6 +475,27 @@ public class CommandClassMeterV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message METER_SUPPORTED_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_SUPPORTED_GET command.
      * <p>
@@ -312,6 +542,40 @@ public class CommandClassMeterV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param meterType {@link Integer}
+     * @param meterReset {@link Boolean}
+     * @param scaleSupported {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterSupportedReport(ByteBuffer buffer, Integer meterType, Boolean meterReset,
+            Integer scaleSupported) {
+        logger.debug("Creating command message METER_SUPPORTED_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_SUPPORTED_REPORT);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= meterType & 0x1F;
+        valProperties1 |= meterReset ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Properties2'
+        buffer.put((byte) (scaleSupported & 0x0F));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_SUPPORTED_REPORT command.
      * <p>
@@ -361,6 +625,27 @@ public class CommandClassMeterV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_RESET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Reset
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterReset(ByteBuffer buffer) {
+        logger.debug("Creating command message METER_RESET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_RESET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_RESET command.
      * <p>
@@ -10,11 +10,14 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.zsmartsystems.zwave.commandclass.ZWaveCommandClassView;
+
 /**
  * Class to implement the Z-Wave command class <b>COMMAND_CLASS_METER</b> version <b>4</b>.
  * <p>
@@ -85,6 +88,141 @@ public class CommandClassMeterV4 {
         constantMeterReportProperties1.put(0x80, "SCALE_BIT_2");
     }
 
+    /**
+     * Constants for the 'Meter Type' field
+     */
+    public enum MeterType {
+        ELECTRIC_METER(0x01),
+        GAS_METER(0x02),
+        WATER_METER(0x03);
+
+        private static final MeterType[] keyLookup = new MeterType[0x04];
+
+        static {
+            for (MeterType value : values()) {
+                keyLookup[value.key] = value;
+            }
+        }
+
+        private final int key;
+
+        private MeterType(int key) {
+            this.key = key;
+        }
+
+        /**
+         * Gets the value of the constant within the frame
+         *
+         * @return the key
+         */
+        public int getKey() {
+            return key;
+        }
+
+        /**
+         * Gets the constant for a value received in a frame
+         *
+         * @param key the value of the field
+         * @return the {@link MeterType} or null if the value is not known
+         */
+        public static MeterType getMeterType(int key) {
+            if (key < 0 || key >= keyLookup.length) {
+                return null;
+            }
+            return keyLookup[key];
+        }
+    }
+
+    /**
+     * Constants for the 'Rate Type' field
+     */
+    public enum RateType {
+        IMPORT(0x01),
+        EXPORT(0x02),
+        NOT_TO_BE_USED(0x03);
+
+        private static final RateType[] keyLookup = new RateType[0x04];
+
+        static {
+            for (RateType value : values()) {
+                keyLookup[value.key] = value;
+            }
+        }
+
+        private final int key;
+
+        private RateType(int key) {
+            this.key = key;
+        }
+
+        /**
+         * Gets the value of the constant within the frame
+         *
+         * @return the key
+         */
+        public int getKey() {
+            return key;
+        }
+
+        /**
+         * Gets the constant for a value received in a frame
+         *
+         * @param key the value of the field
+         * @return the {@link RateType} or null if the value is not known
+         */
+        public static RateType getRateType(int key) {
+            if (key < 0 || key >= keyLookup.length) {
+                return null;
+            }
+            return keyLookup[key];
+        }
+    }
+
+    /**
+     * Constants for the 'Rate Type' field
+     */
+    public enum MeterSupportedReportRateType {
+        IMPORT_ONLY(0x01),
+        EXPORT_ONLY(0x02),
+        IMPORT_AND_EXPORT(0x03);
+
+        private static final MeterSupportedReportRateType[] keyLookup = new MeterSupportedReportRateType[0x04];
+
+        static {
+            for (MeterSupportedReportRateType value : values()) {
+                keyLookup[value.key] = value;
+            }
+        }
+
+        private final int key;
+
+        private MeterSupportedReportRateType(int key) {
+            this.key = key;
+        }
+
+        /**
+         * Gets the value of the constant within the frame
+         *
+         * @return the key
+         */
+        public int getKey() {
+            return key;
+        }
+
+        /**
+         * Gets the constant for a value received in a frame
+         *
+         * @param key the value of the field
+         * @return the {@link MeterSupportedReportRateType} or null if the value is not known
+         */
+        public static MeterSupportedReportRateType getMeterSupportedReportRateType(int key) {
+            if (key < 0 || key >= keyLookup.length) {
+                return null;
+            }
+            return keyLookup[key];
+        }
+    }
+
     /**
      * Creates a new message with the METER_GET command.
      * <p>
@@ -119,7 +257,7 @@ public class CommandClassMeterV4 {
             default:
                 throw new IllegalArgumentException("Unknown enum value for rateType: " + rateType);
         }
-        valProperties1 |= valrateType >> 6 & 0xC0;
+        valProperties1 |= (valrateType << 6) & 0xC0;
         outputData.write(valProperties1);
 
         // Process 'Scale 2'
@@ -128,6 +266,117 @@ public class CommandClassMeterV4 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param scale {@link Integer}
+     * @param rateType {@link String}
+     * @param scale2 {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterGet(ByteBuffer buffer, Integer scale, String rateType, Integer scale2) {
+        logger.debug("Creating command message METER_GET version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_GET);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= ((scale << 3) & 0x38);
+        int valrateType;
+        switch (rateType) {
+            case "IMPORT":
+                valrateType = 1;
+                break;
+            case "EXPORT":
+                valrateType = 2;
+                break;
+            case "NOT_TO_BE_USED":
+                valrateType = 3;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for rateType: " + rateType);
+        }
+        valProperties1 |= (valrateType << 6) & 0xC0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Scale 2'
+        buffer.put(scale2.byteValue());
+
+        return buffer.position() - start;
+    }
+
+    /**
+     * Creates a new message with the METER_GET command.
+     * <p>
+     * Meter Get
+     *
+     * @param scale {@link Integer}
+     * @param rateType {@link RateType}
+     * @param scale2 {@link Integer}
+     * @return the {@link byte[]} array with the command to send
+     */
+    static public byte[] getMeterGet(Integer scale, RateType rateType, Integer scale2) {
+        logger.debug("Creating command message METER_GET version 4");
+
+        ByteArrayOutputStream outputData = new ByteArrayOutputStream();
+        outputData.write(COMMAND_CLASS_KEY);
+        outputData.write(METER_GET);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= ((scale << 3) & 0x38);
+        int valrateType = rateType.getKey();
+        valProperties1 |= (valrateType << 6) & 0xC0;
+        outputData.write(valProperties1);
+
+        // Process 'Scale 2'
+        outputData.write(scale2);
+
+        return outputData.toByteArray();
+    }
+
+    /**
+     * Writes a new message with the METER_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param scale {@link Integer}
+     * @param rateType {@link RateType}
+     * @param scale2 {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterGet(ByteBuffer buffer, Integer scale, RateType rateType, Integer scale2) {
+        logger.debug("Creating command message METER_GET version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_GET);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= ((scale << 3) & 0x38);
+        int valrateType = rateType.getKey();
+        valProperties1 |= (valrateType << 6) & 0xC0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Scale 2'
+        buffer.put(scale2.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_GET command.
      * <p>
@@ -227,7 +476,168 @@ public class CommandClassMeterV4 {
             default:
                 throw new IllegalArgumentException("Unknown enum value for rateType: " + rateType);
         }
-        valProperties1 |= valrateType >> 5 & 0x60;
+        valProperties1 |= (valrateType << 5) & 0x60;
+        valProperties1 |= scaleBit2 ? 0x80 : 0;
+        outputData.write(valProperties1);
+
+        // Process 'Properties2'
+        // Size is used by 'Meter Value' and 'Previous Meter Value'
+        int size = meterValue.length;
+        int valProperties2 = 0;
+        valProperties2 |= size & 0x07;
+        valProperties2 |= ((scaleBits10 << 3) & 0x18);
+        valProperties2 |= ((precision << 5) & 0xE0);
+        outputData.write(valProperties2);
+
+        // Process 'Meter Value'
+        if (meterValue != null) {
+            try {
+                outputData.write(meterValue);
+            } catch (IOException e) {
+            }
+        }
+
+        // Process 'Delta Time'
+        outputData.write((deltaTime >> 8) & 0xff);
+        outputData.write(deltaTime & 0xff);
+
+        // Process 'Previous Meter Value'
+        if (previousMeterValue != null) {
+            try {
+                outputData.write(previousMeterValue);
+            } catch (IOException e) {
+            }
+        }
+
+        // Process 'Scale 2'
+        outputData.write(scale2);
+
+        return outputData.toByteArray();
+    }
+
+    /**
+     * Writes a new message with the METER_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param meterType {@link String}
+     * @param rateType {@link String}
+     * @param scaleBit2 {@link Boolean}
+     * @param scaleBits10 {@link Integer}
+     * @param precision {@link Integer}
+     * @param meterValue {@link byte[]}
+     * @param deltaTime {@link Integer}
+     * @param previousMeterValue {@link byte[]}
+     * @param scale2 {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterReport(ByteBuffer buffer, String meterType, String rateType, Boolean scaleBit2,
+            Integer scaleBits10, Integer precision, byte[] meterValue, Integer deltaTime, byte[] previousMeterValue,
+            Integer scale2) {
+        logger.debug("Creating command message METER_REPORT version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_REPORT);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        int valmeterType;
+        switch (meterType) {
+            case "ELECTRIC_METER":
+                valmeterType = 1;
+                break;
+            case "GAS_METER":
+                valmeterType = 2;
+                break;
+            case "WATER_METER":
+                valmeterType = 3;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for meterType: " + meterType);
+        }
+        valProperties1 |= valmeterType & 0x1F;
+        int valrateType;
+        switch (rateType) {
+            case "IMPORT":
+                valrateType = 1;
+                break;
+            case "EXPORT":
+                valrateType = 2;
+                break;
+            case "NOT_TO_BE_USED":
+                valrateType = 3;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for rateType: " + rateType);
+        }
+        valProperties1 |= (valrateType << 5) & 0x60;
+        valProperties1 |= scaleBit2 ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Properties2'
+        // Size is used by 'Meter Value' and 'Previous Meter Value'
+        int size = meterValue.length;
+        int valProperties2 = 0;
+        valProperties2 |= size & 0x07;
+        valProperties2 |= ((scaleBits10 << 3) & 0x18);
+        valProperties2 |= ((precision << 5) & 0xE0);
+        buffer.put((byte) valProperties2);
+
+        // Process 'Meter Value'
+        if (meterValue != null) {
+            buffer.put(meterValue);
+        }
+
+        // Process 'Delta Time'
+        buffer.put((byte) ((deltaTime >> 8) & 0xff));
+        buffer.put((byte) (deltaTime & 0xff));
+
+        // Process 'Previous Meter Value'
+        if (previousMeterValue != null) {
+            buffer.put(previousMeterValue);
+        }
+
+        // Process 'Scale 2'
+        buffer.put(scale2.byteValue());
+
+        return buffer.position() - start;
+    }
+
+    /**
+     * Creates a new message with the METER_REPORT command.
+     * <p>
+     * Meter Report
+     *
+     * @param meterType {@link MeterType}
+     * @param rateType {@link RateType}
+     * @param scaleBit2 {@link Boolean}
+     * @param scaleBits10 {@link Integer}
+     * @param precision {@link Integer}
+     * @param meterValue {@link byte[]}
+     * @param deltaTime {@link Integer}
+     * @param previousMeterValue {@link byte[]}
+     * @param scale2 {@link Integer}
+     * @return the {@link byte[]} array with the command to send
+     */
+    static public byte[] getMeterReport(MeterType meterType, RateType rateType, Boolean scaleBit2, Integer scaleBits10,
+            Integer precision, byte[] meterValue, Integer deltaTime, byte[] previousMeterValue, Integer scale2) {
+        logger.debug("Creating command message METER_REPORT version 4");
+
+        ByteArrayOutputStream outputData = new ByteArrayOutputStream();
+        outputData.write(COMMAND_CLASS_KEY);
+        outputData.write(METER_REPORT);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        int valmeterType = meterType.getKey();
+        valProperties1 |= valmeterType & 0x1F;
+        int valrateType = rateType.getKey();
+        valProperties1 |= (valrateType << 5) & 0x60;
         valProperties1 |= scaleBit2 ? 0x80 : 0;
         outputData.write(valProperties1);
 
@@ -266,6 +676,73 @@ public class CommandClassMeterV4 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param meterType {@link MeterType}
+     * @param rateType {@link RateType}
+     * @param scaleBit2 {@link Boolean}
+     * @param scaleBits10 {@link Integer}
+     * @param precision {@link Integer}
+     * @param meterValue {@link byte[]}
+     * @param deltaTime {@link Integer}
+     * @param previousMeterValue {@link byte[]}
+     * @param scale2 {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterReport(ByteBuffer buffer, MeterType meterType, RateType rateType, Boolean scaleBit2,
+            Integer scaleBits10, Integer precision, byte[] meterValue, Integer deltaTime, byte[] previousMeterValue,
+            Integer scale2) {
+        logger.debug("Creating command message METER_REPORT version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_REPORT);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        int valmeterType = meterType.getKey();
+        valProperties1 |= valmeterType & 0x1F;
+        int valrateType = rateType.getKey();
+        valProperties1 |= (valrateType << 5) & 0x60;
+        valProperties1 |= scaleBit2 ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Properties2'
+        // Size is used by 'Meter Value' and 'Previous Meter Value'
+        int size = meterValue.length;
+        int valProperties2 = 0;
+        valProperties2 |= size & 0x07;
+        valProperties2 |= ((scaleBits10 << 3) & 0x18);
+        valProperties2 |= ((precision << 5) & 0xE0);
+        buffer.put((byte) valProperties2);
+
+        // Process 'Meter Value'
+        if (meterValue != null) {
+            buffer.put(meterValue);
+        }
+
+        // Process 'Delta Time'
+        buffer.put((byte) ((deltaTime >> 8) & 0xff));
+        buffer.put((byte) (deltaTime & 0xff));
+
+        // Process 'Previous Meter Value'
+        if (previousMeterValue != null) {
+            buffer.put(previousMeterValue);
+        }
+
+        // Process 'Scale 2'
+        buffer.put(scale2.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_REPORT command.
      * <p>
@@ -362,6 +839,168 @@ public class CommandClassMeterV4 {
         return response;
     }
 
+    /**
+     * Flyweight view of a received frame with the METER_REPORT command.
+     * <p>
+     * Meter Report
+     * <p>
+     * Fields are read directly from the wrapped payload each time a getter is called. This is the allocation free
+     * equivalent of {@link #handleMeterReport(byte[])} and provides the following fields -:
+     *
+     * <ul>
+     * <li>METER_TYPE {@code int}
+     * <li>RATE_TYPE {@code int}
+     * <li>SCALE_BIT_2 {@code boolean}
+     * <li>SCALE_BITS_10 {@code int}
+     * <li>PRECISION {@code int}
+     * <li>METER_VALUE {@code int}
+     * <li>DELTA_TIME {@code int}
+     * <li>PREVIOUS_METER_VALUE {@code int}
+     * <li>SCALE_2 {@code int}
+     * </ul>
+     */
+    public static class MeterReportView extends ZWaveCommandClassView {
+        @Override
+        public MeterReportView wrap(byte[] payload) {
+            super.wrap(payload);
+            return this;
+        }
+
+        @Override
+        public MeterReportView wrap(byte[] payload, int offset, int length) {
+            super.wrap(payload, offset, length);
+            return this;
+        }
+
+        /**
+         * Gets the 'Meter Type' field
+         *
+         * @return the meter type
+         */
+        public int getMeterType() {
+            return payload[offset + 2] & 0x1F;
+        }
+
+        /**
+         * Gets the 'Meter Type' field as a constant
+         *
+         * @return the {@link MeterType} or null if the value is not known
+         */
+        public MeterType getMeterTypeEnum() {
+            return MeterType.getMeterType(getMeterType());
+        }
+
+        /**
+         * Gets the 'Rate Type' field
+         *
+         * @return the rate type
+         */
+        public int getRateType() {
+            return (payload[offset + 2] & 0x60) >> 5;
+        }
+
+        /**
+         * Gets the 'Rate Type' field as a constant
+         *
+         * @return the {@link RateType} or null if the value is not known
+         */
+        public RateType getRateTypeEnum() {
+            return RateType.getRateType(getRateType());
+        }
+
+        /**
+         * Gets the 'Scale Bit 2' field
+         *
+         * @return true if bit 2 of the scale is set
+         */
+        public boolean getScaleBit2() {
+            return (payload[offset + 2] & 0x80) != 0;
+        }
+
+        /**
+         * Gets the size of the 'Meter Value' field
+         *
+         * @return the number of bytes in the meter value
+         */
+        public int getSize() {
+            return payload[offset + 3] & 0x07;
+        }
+
+        /**
+         * Gets the 'Scale Bits 10' field
+         *
+         * @return the scale
+         */
+        public int getScaleBits10() {
+            return (payload[offset + 3] & 0x18) >> 3;
+        }
+
+        /**
+         * Gets the 'Precision' field
+         *
+         * @return the number of decimal places in the meter value
+         */
+        public int getPrecision() {
+            return (payload[offset + 3] & 0xE0) >> 5;
+        }
+
+        /**
+         * Gets the 'Meter Value' field as a signed integer without the precision applied
+         *
+         * @return the meter value
+         */
+        public int getMeterValue() {
+            return getSignedValue(payload, offset + 4, getSize());
+        }
+
+        /**
+         * Gets the 'Meter Value' field with the precision applied
+         *
+         * @return the meter value
+         */
+        public double getMeterValueAsDouble() {
+            return getScaledValue(getMeterValue(), getPrecision());
+        }
+
+        /**
+         * Gets the 'Delta Time' field
+         *
+         * @return the time in seconds since the previous meter value
+         */
+        public int getDeltaTime() {
+            int msgOffset = offset + 4 + getSize();
+            return ((payload[msgOffset] & 0xff) << 8) | (payload[msgOffset + 1] & 0xff);
+        }
+
+        /**
+         * Checks if the optional 'Previous Meter Value' field is present
+         *
+         * @return true if the frame contains the previous meter value
+         */
+        public boolean hasPreviousMeterValue() {
+            return length >= 6 + getSize() * 2;
+        }
+
+        /**
+         * Gets the 'Previous Meter Value' field as a signed integer without the precision applied
+         *
+         * @return the previous meter value
+         */
+        public int getPreviousMeterValue() {
+            return getSignedValue(payload, offset + 6 + getSize(), getSize());
+        }
+
+        /**
+         * Gets the 'Scale 2' field
+         *
+         * @return the scale 2 value, or 0 if it is not present
+         */
+        public int getScale2() {
+            int msgOffset = offset + 6 + getSize() * 2;
+            return msgOffset < offset + length ? payload[msgOffset] & 0xff : 0;
+        }
+    }
+
 
     /**
      * Creates a new message with the METER_SUPPORTED_GET command.
@@ -380,6 +1019,27 @@ public class CommandClassMeterV4 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message METER_SUPPORTED_GET version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_SUPPORTED_GET command.
      * <p>
@@ -450,7 +1110,137 @@ public class CommandClassMeterV4 {
             default:
                 throw new IllegalArgumentException("Unknown enum value for rateType: " + rateType);
         }
-        valProperties1 |= valrateType >> 5 & 0x60;
+        valProperties1 |= (valrateType << 5) & 0x60;
+        valProperties1 |= meterReset ? 0x80 : 0;
+        outputData.write(valProperties1);
+
+        // Process 'Properties2'
+        int valProperties2 = 0;
+        valProperties2 |= scaleSupported0 & 0x7F;
+        valProperties2 |= mST ? 0x80 : 0;
+        outputData.write(valProperties2);
+
+        // Process 'Number of Scale Supported Bytes to Follow'
+        outputData.write(numberOfScaleSupportedBytesToFollow);
+
+        // Process 'Scale Supported'
+        if (scaleSupported != null) {
+            try {
+                outputData.write(scaleSupported);
+            } catch (IOException e) {
+            }
+        }
+
+        return outputData.toByteArray();
+    }
+
+    /**
+     * Writes a new message with the METER_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param meterType {@link String}
+     * @param rateType {@link String}
+     * @param meterReset {@link Boolean}
+     * @param scaleSupported0 {@link Integer}
+     * @param mST {@link Boolean}
+     * @param numberOfScaleSupportedBytesToFollow {@link Integer}
+     * @param scaleSupported {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterSupportedReport(ByteBuffer buffer, String meterType, String rateType, Boolean meterReset,
+            Integer scaleSupported0, Boolean mST, Integer numberOfScaleSupportedBytesToFollow, byte[] scaleSupported) {
+        logger.debug("Creating command message METER_SUPPORTED_REPORT version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_SUPPORTED_REPORT);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        int valmeterType;
+        switch (meterType) {
+            case "ELECTRIC_METER":
+                valmeterType = 1;
+                break;
+            case "GAS_METER":
+                valmeterType = 2;
+                break;
+            case "WATER_METER":
+                valmeterType = 3;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for meterType: " + meterType);
+        }
+        valProperties1 |= valmeterType & 0x1F;
+        int valrateType;
+        switch (rateType) {
+            case "IMPORT_ONLY":
+                valrateType = 1;
+                break;
+            case "EXPORT_ONLY":
+                valrateType = 2;
+                break;
+            case "IMPORT_AND_EXPORT":
+                valrateType = 3;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for rateType: " + rateType);
+        }
+        valProperties1 |= (valrateType << 5) & 0x60;
+        valProperties1 |= meterReset ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Properties2'
+        int valProperties2 = 0;
+        valProperties2 |= scaleSupported0 & 0x7F;
+        valProperties2 |= mST ? 0x80 : 0;
+        buffer.put((byte) valProperties2);
+
+        // Process 'Number of Scale Supported Bytes to Follow'
+        buffer.put(numberOfScaleSupportedBytesToFollow.byteValue());
+
+        // Process 'Scale Supported'
+        if (scaleSupported != null) {
+            buffer.put(scaleSupported);
+        }
+
+        return buffer.position() - start;
+    }
+
+    /**
+     * Creates a new message with the METER_SUPPORTED_REPORT command.
+     * <p>
+     * Meter Supported Report
+     *
+     * @param meterType {@link MeterType}
+     * @param rateType {@link MeterSupportedReportRateType}
+     * @param meterReset {@link Boolean}
+     * @param scaleSupported0 {@link Integer}
+     * @param mST {@link Boolean}
+     * @param numberOfScaleSupportedBytesToFollow {@link Integer}
+     * @param scaleSupported {@link byte[]}
+     * @return the {@link byte[]} array with the command to send
+     */
+    static public byte[] getMeterSupportedReport(MeterType meterType, MeterSupportedReportRateType rateType,
+            Boolean meterReset, Integer scaleSupported0, Boolean mST, Integer numberOfScaleSupportedBytesToFollow,
+            byte[] scaleSupported) {
+        logger.debug("Creating command message METER_SUPPORTED_REPORT version 4");
+
+        ByteArrayOutputStream outputData = new ByteArrayOutputStream();
+        outputData.write(COMMAND_CLASS_KEY);
+        outputData.write(METER_SUPPORTED_REPORT);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        int valmeterType = meterType.getKey();
+        valProperties1 |= valmeterType & 0x1F;
+        int valrateType = rateType.getKey();
+        valProperties1 |= (valrateType << 5) & 0x60;
         valProperties1 |= meterReset ? 0x80 : 0;
         outputData.write(valProperties1);
 
@@ -474,6 +1264,59 @@ public class CommandClassMeterV4 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param meterType {@link MeterType}
+     * @param rateType {@link MeterSupportedReportRateType}
+     * @param meterReset {@link Boolean}
+     * @param scaleSupported0 {@link Integer}
+     * @param mST {@link Boolean}
+     * @param numberOfScaleSupportedBytesToFollow {@link Integer}
+     * @param scaleSupported {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterSupportedReport(ByteBuffer buffer, MeterType meterType,
+            MeterSupportedReportRateType rateType, Boolean meterReset, Integer scaleSupported0, Boolean mST,
+            Integer numberOfScaleSupportedBytesToFollow, byte[] scaleSupported) {
+        logger.debug("Creating command message METER_SUPPORTED_REPORT version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_SUPPORTED_REPORT);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        int valmeterType = meterType.getKey();
+        valProperties1 |= valmeterType & 0x1F;
+        int valrateType = rateType.getKey();
+        valProperties1 |= (valrateType << 5) & 0x60;
+        valProperties1 |= meterReset ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Properties2'
+        int valProperties2 = 0;
+        valProperties2 |= scaleSupported0 & 0x7F;
+        valProperties2 |= mST ? 0x80 : 0;
+        buffer.put((byte) valProperties2);
+
+        // Process 'Number of Scale Supported Bytes to Follow'
+        buffer.put(numberOfScaleSupportedBytesToFollow.byteValue());
+
+        // Process 'Scale Supported'
+        if (scaleSupported != null) {
+            buffer.put(scaleSupported);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_SUPPORTED_REPORT command.
      * <p>
@@ -571,6 +1414,27 @@ public class CommandClassMeterV4 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the METER_RESET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Meter Reset
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMeterReset(ByteBuffer buffer) {
+        logger.debug("Creating command message METER_RESET version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) METER_RESET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the METER_RESET command.
      * <p>
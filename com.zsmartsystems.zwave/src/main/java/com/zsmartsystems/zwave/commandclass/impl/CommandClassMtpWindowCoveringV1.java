@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -106,6 +107,46 @@ public class CommandClassMtpWindowCoveringV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MOVE_TO_POSITION_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Move To Position Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param value {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>CLOSE
+     *            <li>OPEN
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMoveToPositionSet(ByteBuffer buffer, String value) {
+        logger.debug("Creating command message MOVE_TO_POSITION_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MOVE_TO_POSITION_SET);
+
+        // Process 'Value'
+        boolean foundValue = false;
+        for (Integer entry : constantMoveToPositionSetValue.keySet()) {
+            if (constantMoveToPositionSetValue.get(entry).equals(value)) {
+                buffer.put(entry.byteValue());
+                foundValue = true;
+                break;
+            }
+        }
+        if (!foundValue) {
+            throw new IllegalArgumentException("Unknown constant value '" + value + "' for value");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MOVE_TO_POSITION_SET command.
      * <p>
@@ -149,6 +190,27 @@ public class CommandClassMtpWindowCoveringV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MOVE_TO_POSITION_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Move To Position Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMoveToPositionGet(ByteBuffer buffer) {
+        logger.debug("Creating command message MOVE_TO_POSITION_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MOVE_TO_POSITION_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MOVE_TO_POSITION_GET command.
      * <p>
@@ -202,6 +264,46 @@ public class CommandClassMtpWindowCoveringV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MOVE_TO_POSITION_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Move To Position Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param value {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>CLOSE
+     *            <li>OPEN
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMoveToPositionReport(ByteBuffer buffer, String value) {
+        logger.debug("Creating command message MOVE_TO_POSITION_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MOVE_TO_POSITION_REPORT);
+
+        // Process 'Value'
+        boolean foundValue = false;
+        for (Integer entry : constantMoveToPositionReportValue.keySet()) {
+            if (constantMoveToPositionReportValue.get(entry).equals(value)) {
+                buffer.put(entry.byteValue());
+                foundValue = true;
+                break;
+            }
+        }
+        if (!foundValue) {
+            throw new IllegalArgumentException("Unknown constant value '" + value + "' for value");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MOVE_TO_POSITION_REPORT command.
      * <p>
@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -150,6 +151,42 @@ public class CommandClassMultiChannelAssociationV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MULTI_CHANNEL_ASSOCIATION_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multi Channel Association Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupingIdentifier {@link Integer}
+     * @param nodeId {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMultiChannelAssociationSet(ByteBuffer buffer, Integer groupingIdentifier, byte[] nodeId) {
+        logger.debug("Creating command message MULTI_CHANNEL_ASSOCIATION_SET version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MULTI_CHANNEL_ASSOCIATION_SET);
+
+        // Process 'Grouping Identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        // Process 'Node ID'
+        if (nodeId != null) {
+            buffer.put(nodeId);
+        }
+
+        // Process 'Marker'
+        buffer.put((byte) 0x00);
+
+        // Process 'vg'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MULTI_CHANNEL_ASSOCIATION_SET command.
      * <p>
@@ -243,6 +280,31 @@ public class CommandClassMultiChannelAssociationV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MULTI_CHANNEL_ASSOCIATION_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multi Channel Association Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupingIdentifier {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMultiChannelAssociationGet(ByteBuffer buffer, Integer groupingIdentifier) {
+        logger.debug("Creating command message MULTI_CHANNEL_ASSOCIATION_GET version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MULTI_CHANNEL_ASSOCIATION_GET);
+
+        // Process 'Grouping Identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MULTI_CHANNEL_ASSOCIATION_GET command.
      * <p>
@@ -313,6 +375,51 @@ public class CommandClassMultiChannelAssociationV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MULTI_CHANNEL_ASSOCIATION_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multi Channel Association Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupingIdentifier {@link Integer}
+     * @param maxNodesSupported {@link Integer}
+     * @param reportsToFollow {@link Integer}
+     * @param nodeId {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMultiChannelAssociationReport(ByteBuffer buffer, Integer groupingIdentifier,
+            Integer maxNodesSupported, Integer reportsToFollow, byte[] nodeId) {
+        logger.debug("Creating command message MULTI_CHANNEL_ASSOCIATION_REPORT version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MULTI_CHANNEL_ASSOCIATION_REPORT);
+
+        // Process 'Grouping Identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        // Process 'Max Nodes Supported'
+        buffer.put(maxNodesSupported.byteValue());
+
+        // Process 'Reports to Follow'
+        buffer.put(reportsToFollow.byteValue());
+
+        // Process 'Node ID'
+        if (nodeId != null) {
+            buffer.put(nodeId);
+        }
+
+        // Process 'Marker'
+        buffer.put((byte) 0x00);
+
+        // Process 'vg'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MULTI_CHANNEL_ASSOCIATION_REPORT command.
      * <p>
@@ -430,6 +537,42 @@ public class CommandClassMultiChannelAssociationV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MULTI_CHANNEL_ASSOCIATION_REMOVE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multi Channel Association Remove
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupingIdentifier {@link Integer}
+     * @param nodeId {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMultiChannelAssociationRemove(ByteBuffer buffer, Integer groupingIdentifier, byte[] nodeId) {
+        logger.debug("Creating command message MULTI_CHANNEL_ASSOCIATION_REMOVE version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MULTI_CHANNEL_ASSOCIATION_REMOVE);
+
+        // Process 'Grouping Identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        // Process 'Node ID'
+        if (nodeId != null) {
+            buffer.put(nodeId);
+        }
+
+        // Process 'Marker'
+        buffer.put((byte) 0x00);
+
+        // Process 'vg'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MULTI_CHANNEL_ASSOCIATION_REMOVE command.
      * <p>
@@ -519,6 +662,27 @@ public class CommandClassMultiChannelAssociationV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MULTI_CHANNEL_ASSOCIATION_GROUPINGS_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multi Channel Association Groupings Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMultiChannelAssociationGroupingsGet(ByteBuffer buffer) {
+        logger.debug("Creating command message MULTI_CHANNEL_ASSOCIATION_GROUPINGS_GET version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MULTI_CHANNEL_ASSOCIATION_GROUPINGS_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MULTI_CHANNEL_ASSOCIATION_GROUPINGS_GET command.
      * <p>
@@ -557,6 +721,31 @@ public class CommandClassMultiChannelAssociationV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MULTI_CHANNEL_ASSOCIATION_GROUPINGS_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multi Channel Association Groupings Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param supportedGroupings {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMultiChannelAssociationGroupingsReport(ByteBuffer buffer, Integer supportedGroupings) {
+        logger.debug("Creating command message MULTI_CHANNEL_ASSOCIATION_GROUPINGS_REPORT version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MULTI_CHANNEL_ASSOCIATION_GROUPINGS_REPORT);
+
+        // Process 'Supported Groupings'
+        buffer.put(supportedGroupings.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MULTI_CHANNEL_ASSOCIATION_GROUPINGS_REPORT command.
      * <p>
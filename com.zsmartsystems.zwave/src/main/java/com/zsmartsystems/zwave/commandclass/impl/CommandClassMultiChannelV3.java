@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -176,6 +177,31 @@ public class CommandClassMultiChannelV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MULTI_INSTANCE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multi Instance Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param commandClass {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMultiInstanceGet(ByteBuffer buffer, Integer commandClass) {
+        logger.debug("Creating command message MULTI_INSTANCE_GET version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MULTI_INSTANCE_GET);
+
+        // Process 'Command Class'
+        buffer.put(commandClass.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MULTI_INSTANCE_GET command.
      * <p>
@@ -231,6 +257,39 @@ public class CommandClassMultiChannelV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MULTI_INSTANCE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multi Instance Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param commandClass {@link Integer}
+     * @param instances {@link Integer}
+     * @param res {@link Boolean}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMultiInstanceReport(ByteBuffer buffer, Integer commandClass, Integer instances, Boolean res) {
+        logger.debug("Creating command message MULTI_INSTANCE_REPORT version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MULTI_INSTANCE_REPORT);
+
+        // Process 'Command Class'
+        buffer.put(commandClass.byteValue());
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= instances & 0x7F;
+        valProperties1 |= res ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MULTI_INSTANCE_REPORT command.
      * <p>
@@ -303,6 +362,50 @@ public class CommandClassMultiChannelV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MULTI_INSTANCE_CMD_ENCAP command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multi Instance Cmd Encap
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param instance {@link Integer}
+     * @param res {@link Boolean}
+     * @param commandClass {@link Integer}
+     * @param command {@link Integer}
+     * @param parameter {@link int[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMultiInstanceCmdEncap(ByteBuffer buffer, Integer instance, Boolean res, Integer commandClass,
+            Integer command, int[] parameter) {
+        logger.debug("Creating command message MULTI_INSTANCE_CMD_ENCAP version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MULTI_INSTANCE_CMD_ENCAP);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= instance & 0x7F;
+        valProperties1 |= res ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Command Class'
+        buffer.put(commandClass.byteValue());
+
+        // Process 'Command'
+        buffer.put(command.byteValue());
+
+        // Process 'Parameter'
+        for (int cntParameter = 0; cntParameter < parameter.length; cntParameter++) {
+            buffer.put((byte) parameter[cntParameter]);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MULTI_INSTANCE_CMD_ENCAP command.
      * <p>
@@ -371,6 +474,27 @@ public class CommandClassMultiChannelV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MULTI_CHANNEL_END_POINT_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multi Channel End Point Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMultiChannelEndPointGet(ByteBuffer buffer) {
+        logger.debug("Creating command message MULTI_CHANNEL_END_POINT_GET version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MULTI_CHANNEL_END_POINT_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MULTI_CHANNEL_END_POINT_GET command.
      * <p>
@@ -424,6 +548,46 @@ public class CommandClassMultiChannelV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MULTI_CHANNEL_END_POINT_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multi Channel End Point Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param res1 {@link Integer}
+     * @param identical {@link Boolean}
+     * @param dynamic {@link Boolean}
+     * @param endPoints {@link Integer}
+     * @param res2 {@link Boolean}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMultiChannelEndPointReport(ByteBuffer buffer, Integer res1, Boolean identical, Boolean dynamic,
+            Integer endPoints, Boolean res2) {
+        logger.debug("Creating command message MULTI_CHANNEL_END_POINT_REPORT version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MULTI_CHANNEL_END_POINT_REPORT);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= res1 & 0x3F;
+        valProperties1 |= identical ? 0x40 : 0;
+        valProperties1 |= dynamic ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Properties2'
+        int valProperties2 = 0;
+        valProperties2 |= endPoints & 0x7F;
+        valProperties2 |= res2 ? 0x80 : 0;
+        buffer.put((byte) valProperties2);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MULTI_CHANNEL_END_POINT_REPORT command.
      * <p>
@@ -485,6 +649,35 @@ public class CommandClassMultiChannelV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MULTI_CHANNEL_CAPABILITY_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multi Channel Capability Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param endPoint {@link Integer}
+     * @param res {@link Boolean}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMultiChannelCapabilityGet(ByteBuffer buffer, Integer endPoint, Boolean res) {
+        logger.debug("Creating command message MULTI_CHANNEL_CAPABILITY_GET version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MULTI_CHANNEL_CAPABILITY_GET);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= endPoint & 0x7F;
+        valProperties1 |= res ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MULTI_CHANNEL_CAPABILITY_GET command.
      * <p>
@@ -553,6 +746,50 @@ public class CommandClassMultiChannelV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MULTI_CHANNEL_CAPABILITY_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multi Channel Capability Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param endPoint {@link Integer}
+     * @param dynamic {@link Boolean}
+     * @param genericDeviceClass {@link Integer}
+     * @param specificDeviceClass {@link Integer}
+     * @param commandClass {@link List<Integer>}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMultiChannelCapabilityReport(ByteBuffer buffer, Integer endPoint, Boolean dynamic,
+            Integer genericDeviceClass, Integer specificDeviceClass, List<Integer> commandClass) {
+        logger.debug("Creating command message MULTI_CHANNEL_CAPABILITY_REPORT version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MULTI_CHANNEL_CAPABILITY_REPORT);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= endPoint & 0x7F;
+        valProperties1 |= dynamic ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Generic Device Class'
+        buffer.put(genericDeviceClass.byteValue());
+
+        // Process 'Specific Device Class'
+        buffer.put(specificDeviceClass.byteValue());
+
+        // Process 'Command Class'
+        for (Integer valCommandClass : commandClass) {
+            buffer.put(valCommandClass.byteValue());
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MULTI_CHANNEL_CAPABILITY_REPORT command.
      * <p>
@@ -629,6 +866,36 @@ public class CommandClassMultiChannelV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MULTI_CHANNEL_END_POINT_FIND command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multi Channel End Point Find
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param genericDeviceClass {@link Integer}
+     * @param specificDeviceClass {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMultiChannelEndPointFind(ByteBuffer buffer, Integer genericDeviceClass,
+            Integer specificDeviceClass) {
+        logger.debug("Creating command message MULTI_CHANNEL_END_POINT_FIND version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MULTI_CHANNEL_END_POINT_FIND);
+
+        // Process 'Generic Device Class'
+        buffer.put(genericDeviceClass.byteValue());
+
+        // Process 'Specific Device Class'
+        buffer.put(specificDeviceClass.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MULTI_CHANNEL_END_POINT_FIND command.
      * <p>
@@ -691,6 +958,42 @@ public class CommandClassMultiChannelV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MULTI_CHANNEL_END_POINT_FIND_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multi Channel End Point Find Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param reportsToFollow {@link Integer}
+     * @param genericDeviceClass {@link Integer}
+     * @param specificDeviceClass {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMultiChannelEndPointFindReport(ByteBuffer buffer, Integer reportsToFollow,
+            Integer genericDeviceClass, Integer specificDeviceClass) {
+        logger.debug("Creating command message MULTI_CHANNEL_END_POINT_FIND_REPORT version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MULTI_CHANNEL_END_POINT_FIND_REPORT);
+
+        // Process 'Reports to Follow'
+        buffer.put(reportsToFollow.byteValue());
+
+        // Process 'Generic Device Class'
+        buffer.put(genericDeviceClass.byteValue());
+
+        // Process 'Specific Device Class'
+        buffer.put(specificDeviceClass.byteValue());
+
+        // Process 'vg'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MULTI_CHANNEL_END_POINT_FIND_REPORT command.
      * <p>
@@ -797,6 +1100,58 @@ public class CommandClassMultiChannelV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MULTI_CHANNEL_CMD_ENCAP command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multi Channel Command Encapsulation
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sourceEndPoint {@link Integer}
+     * @param res {@link Boolean}
+     * @param destinationEndPoint {@link Integer}
+     * @param bitAddress {@link Boolean}
+     * @param commandClass {@link Integer}
+     * @param command {@link Integer}
+     * @param parameter {@link int[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMultiChannelCmdEncap(ByteBuffer buffer, Integer sourceEndPoint, Boolean res,
+            Integer destinationEndPoint, Boolean bitAddress, Integer commandClass, Integer command, int[] parameter) {
+        logger.debug("Creating command message MULTI_CHANNEL_CMD_ENCAP version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MULTI_CHANNEL_CMD_ENCAP);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= sourceEndPoint & 0x7F;
+        valProperties1 |= res ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Properties2'
+        int valProperties2 = 0;
+        valProperties2 |= destinationEndPoint & 0x7F;
+        valProperties2 |= bitAddress ? 0x80 : 0;
+        buffer.put((byte) valProperties2);
+
+        // Process 'Command Class'
+        buffer.put(commandClass.byteValue());
+
+        // Process 'Command'
+        buffer.put(command.byteValue());
+
+        // Process 'Parameter'
+        for (int cntParameter = 0; cntParameter < parameter.length; cntParameter++) {
+            buffer.put((byte) parameter[cntParameter]);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MULTI_CHANNEL_CMD_ENCAP command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -67,6 +68,33 @@ public class CommandClassMultiCmdV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MULTI_CMD_ENCAP command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multi Cmd Encap
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param numberOfCommands {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMultiCmdEncap(ByteBuffer buffer, Integer numberOfCommands) {
+        logger.debug("Creating command message MULTI_CMD_ENCAP version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MULTI_CMD_ENCAP);
+
+        // Process 'Number of Commands'
+        buffer.put(numberOfCommands.byteValue());
+
+        // Process 'Encapsulated_Command'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MULTI_CMD_ENCAP command.
      * <p>
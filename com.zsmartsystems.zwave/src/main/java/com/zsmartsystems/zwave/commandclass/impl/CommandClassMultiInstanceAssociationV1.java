@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -126,6 +127,42 @@ public class CommandClassMultiInstanceAssociationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MULTI_INSTANCE_ASSOCIATION_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multi Instance Association Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupingIdentifier {@link Integer}
+     * @param nodeId {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMultiInstanceAssociationSet(ByteBuffer buffer, Integer groupingIdentifier, byte[] nodeId) {
+        logger.debug("Creating command message MULTI_INSTANCE_ASSOCIATION_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MULTI_INSTANCE_ASSOCIATION_SET);
+
+        // Process 'Grouping identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        // Process 'Node ID'
+        if (nodeId != null) {
+            buffer.put(nodeId);
+        }
+
+        // Process 'Marker'
+        buffer.put((byte) 0x00);
+
+        // Process 'vg'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MULTI_INSTANCE_ASSOCIATION_SET command.
      * <p>
@@ -223,6 +260,31 @@ public class CommandClassMultiInstanceAssociationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MULTI_INSTANCE_ASSOCIATION_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multi Instance Association Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupingIdentifier {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMultiInstanceAssociationGet(ByteBuffer buffer, Integer groupingIdentifier) {
+        logger.debug("Creating command message MULTI_INSTANCE_ASSOCIATION_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MULTI_INSTANCE_ASSOCIATION_GET);
+
+        // Process 'Grouping Identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MULTI_INSTANCE_ASSOCIATION_GET command.
      * <p>
@@ -293,6 +355,51 @@ public class CommandClassMultiInstanceAssociationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MULTI_INSTANCE_ASSOCIATION_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multi Instance Association Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupingIdentifier {@link Integer}
+     * @param maxNodesSupported {@link Integer}
+     * @param reportsToFollow {@link Integer}
+     * @param nodeId {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMultiInstanceAssociationReport(ByteBuffer buffer, Integer groupingIdentifier,
+            Integer maxNodesSupported, Integer reportsToFollow, byte[] nodeId) {
+        logger.debug("Creating command message MULTI_INSTANCE_ASSOCIATION_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MULTI_INSTANCE_ASSOCIATION_REPORT);
+
+        // Process 'Grouping Identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        // Process 'Max Nodes Supported'
+        buffer.put(maxNodesSupported.byteValue());
+
+        // Process 'Reports to Follow'
+        buffer.put(reportsToFollow.byteValue());
+
+        // Process 'Node ID'
+        if (nodeId != null) {
+            buffer.put(nodeId);
+        }
+
+        // Process 'Marker'
+        buffer.put((byte) 0x00);
+
+        // Process 'vg'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MULTI_INSTANCE_ASSOCIATION_REPORT command.
      * <p>
@@ -414,6 +521,42 @@ public class CommandClassMultiInstanceAssociationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MULTI_INSTANCE_ASSOCIATION_REMOVE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multi Instance Association Remove
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupingIdentifier {@link Integer}
+     * @param nodeId {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMultiInstanceAssociationRemove(ByteBuffer buffer, Integer groupingIdentifier, byte[] nodeId) {
+        logger.debug("Creating command message MULTI_INSTANCE_ASSOCIATION_REMOVE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MULTI_INSTANCE_ASSOCIATION_REMOVE);
+
+        // Process 'Grouping identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        // Process 'Node ID'
+        if (nodeId != null) {
+            buffer.put(nodeId);
+        }
+
+        // Process 'Marker'
+        buffer.put((byte) 0x00);
+
+        // Process 'vg'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MULTI_INSTANCE_ASSOCIATION_REMOVE command.
      * <p>
@@ -507,6 +650,27 @@ public class CommandClassMultiInstanceAssociationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MULTI_INSTANCE_ASSOCIATION_GROUPINGS_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multi Instance Association Groupings Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMultiInstanceAssociationGroupingsGet(ByteBuffer buffer) {
+        logger.debug("Creating command message MULTI_INSTANCE_ASSOCIATION_GROUPINGS_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MULTI_INSTANCE_ASSOCIATION_GROUPINGS_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MULTI_INSTANCE_ASSOCIATION_GROUPINGS_GET command.
      * <p>
@@ -545,6 +709,31 @@ public class CommandClassMultiInstanceAssociationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MULTI_INSTANCE_ASSOCIATION_GROUPINGS_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multi Instance Association Groupings Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param supportedGroupings {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMultiInstanceAssociationGroupingsReport(ByteBuffer buffer, Integer supportedGroupings) {
+        logger.debug("Creating command message MULTI_INSTANCE_ASSOCIATION_GROUPINGS_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MULTI_INSTANCE_ASSOCIATION_GROUPINGS_REPORT);
+
+        // Process 'Supported Groupings'
+        buffer.put(supportedGroupings.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MULTI_INSTANCE_ASSOCIATION_GROUPINGS_REPORT command.
      * <p>
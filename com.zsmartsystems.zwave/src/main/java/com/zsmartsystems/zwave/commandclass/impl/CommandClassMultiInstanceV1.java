@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -71,6 +72,31 @@ public class CommandClassMultiInstanceV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MULTI_INSTANCE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multi Instance Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param commandClass {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMultiInstanceGet(ByteBuffer buffer, Integer commandClass) {
+        logger.debug("Creating command message MULTI_INSTANCE_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MULTI_INSTANCE_GET);
+
+        // Process 'Command Class'
+        buffer.put(commandClass.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MULTI_INSTANCE_GET command.
      * <p>
@@ -122,6 +148,35 @@ public class CommandClassMultiInstanceV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MULTI_INSTANCE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multi Instance Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param commandClass {@link Integer}
+     * @param instances {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMultiInstanceReport(ByteBuffer buffer, Integer commandClass, Integer instances) {
+        logger.debug("Creating command message MULTI_INSTANCE_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MULTI_INSTANCE_REPORT);
+
+        // Process 'Command Class'
+        buffer.put(commandClass.byteValue());
+
+        // Process 'Instances'
+        buffer.put(instances.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MULTI_INSTANCE_REPORT command.
      * <p>
@@ -188,6 +243,46 @@ public class CommandClassMultiInstanceV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the MULTI_INSTANCE_CMD_ENCAP command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multi Instance Cmd Encap
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param instance {@link Integer}
+     * @param commandClass {@link Integer}
+     * @param command {@link Integer}
+     * @param parameter {@link int[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getMultiInstanceCmdEncap(ByteBuffer buffer, Integer instance, Integer commandClass,
+            Integer command, int[] parameter) {
+        logger.debug("Creating command message MULTI_INSTANCE_CMD_ENCAP version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) MULTI_INSTANCE_CMD_ENCAP);
+
+        // Process 'Instance'
+        buffer.put(instance.byteValue());
+
+        // Process 'Command Class'
+        buffer.put(commandClass.byteValue());
+
+        // Process 'Command'
+        buffer.put(command.byteValue());
+
+        // Process 'Parameter'
+        for (int cntParameter = 0; cntParameter < parameter.length; cntParameter++) {
+            buffer.put((byte) parameter[cntParameter]);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the MULTI_INSTANCE_CMD_ENCAP command.
      * <p>
@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.lang.IllegalArgumentException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -180,6 +181,54 @@ public class CommandClassNetworkManagementBasicV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the LEARN_MODE_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Learn Mode Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param seqNo {@link Integer}
+     * @param mode {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>LEARN_MODE_SET_DISABLE
+     *            <li>LEARN_MODE_SET_CLASSIC
+     *            <li>LEARN_MODE_SET_NWI
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getLearnModeSet(ByteBuffer buffer, Integer seqNo, String mode) {
+        logger.debug("Creating command message LEARN_MODE_SET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) LEARN_MODE_SET);
+
+        // Process 'Seq. No'
+        buffer.put(seqNo.byteValue());
+
+        // Process 'Reserved'
+        buffer.put((byte) 0);
+
+        // Process 'Mode'
+        boolean foundMode = false;
+        for (Integer entry : constantLearnModeSetMode.keySet()) {
+            if (constantLearnModeSetMode.get(entry).equals(mode)) {
+                buffer.put(entry.byteValue());
+                foundMode = true;
+                break;
+            }
+        }
+        if (!foundMode) {
+            throw new IllegalArgumentException("Unknown constant value '" + mode + "' for mode");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the LEARN_MODE_SET command.
      * <p>
@@ -281,6 +330,79 @@ public class CommandClassNetworkManagementBasicV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the LEARN_MODE_SET_STATUS command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Learn Mode Set Status
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param seqNo {@link Integer}
+     * @param status {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>LEARN_MODE_FAILED_TIMEOUT
+     *            <li>LEARN_MODE_DONE
+     *            <li>LEARN_MODE_FAILED
+     *            <li>LEARN_MODE_SECURITY_FAILED
+     *            </ul>
+     * @param newNodeId {@link Integer}
+     * @param grantedKeys {@link Integer}
+     * @param dsk {@link byte[]}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getLearnModeSetStatus(ByteBuffer buffer, Integer seqNo, String status, Integer newNodeId,
+            Integer grantedKeys, byte[] dsk) {
+        logger.debug("Creating command message LEARN_MODE_SET_STATUS version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) LEARN_MODE_SET_STATUS);
+
+        // Process 'Seq. No'
+        buffer.put(seqNo.byteValue());
+
+        // Process 'Status'
+        boolean foundStatus = false;
+        for (Integer entry : constantLearnModeSetStatusStatus.keySet()) {
+            if (constantLearnModeSetStatusStatus.get(entry).equals(status)) {
+                buffer.put(entry.byteValue());
+                foundStatus = true;
+                break;
+            }
+        }
+        if (!foundStatus) {
+            throw new IllegalArgumentException("Unknown constant value '" + status + "' for status");
+        }
+
+        // Process 'Reserved'
+        buffer.put((byte) 0);
+
+        // Process 'New Node ID'
+        // Check the node number boundary
+        if (newNodeId < 1 || newNodeId > 232) {
+            logger.debug("Node number is out of bounds {}", newNodeId);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(newNodeId.byteValue());
+
+        // Process 'Granted Keys'
+        buffer.put(grantedKeys.byteValue());
+
+        // Process 'DSK'
+        if (dsk != null) {
+            if (dsk.length > 16) {
+                throw new IllegalArgumentException("Length of array dsk exceeds maximum length of 16 bytes");
+            }
+            buffer.put(dsk);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the LEARN_MODE_SET_STATUS command.
      * <p>
@@ -349,6 +471,31 @@ public class CommandClassNetworkManagementBasicV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the NETWORK_UPDATE_REQUEST command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Network Update Request
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param seqNo {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getNetworkUpdateRequest(ByteBuffer buffer, Integer seqNo) {
+        logger.debug("Creating command message NETWORK_UPDATE_REQUEST version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) NETWORK_UPDATE_REQUEST);
+
+        // Process 'Seq. No'
+        buffer.put(seqNo.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the NETWORK_UPDATE_REQUEST command.
      * <p>
@@ -418,6 +565,53 @@ public class CommandClassNetworkManagementBasicV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the NETWORK_UPDATE_REQUEST_STATUS command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Network Update Request Status
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param seqNo {@link Integer}
+     * @param status {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>SUC_UPDATE_DONE
+     *            <li>SUC_UPDATE_ABORT
+     *            <li>SUC_UPDATE_WAIT
+     *            <li>SUC_UPDATE_DISABLED
+     *            <li>SUC_UPDATE_OVERFLOW
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getNetworkUpdateRequestStatus(ByteBuffer buffer, Integer seqNo, String status) {
+        logger.debug("Creating command message NETWORK_UPDATE_REQUEST_STATUS version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) NETWORK_UPDATE_REQUEST_STATUS);
+
+        // Process 'Seq. No'
+        buffer.put(seqNo.byteValue());
+
+        // Process 'Status'
+        boolean foundStatus = false;
+        for (Integer entry : constantNetworkUpdateRequestStatusStatus.keySet()) {
+            if (constantNetworkUpdateRequestStatusStatus.get(entry).equals(status)) {
+                buffer.put(entry.byteValue());
+                foundStatus = true;
+                break;
+            }
+        }
+        if (!foundStatus) {
+            throw new IllegalArgumentException("Unknown constant value '" + status + "' for status");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the NETWORK_UPDATE_REQUEST_STATUS command.
      * <p>
@@ -509,6 +703,73 @@ public class CommandClassNetworkManagementBasicV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the NODE_INFORMATION_SEND command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Node Information Send
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param seqNo {@link Integer}
+     * @param destinationNodeId {@link Integer}
+     * @param txOptions {@link List<String>}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NO_ROUTE
+     *            <li>ACK
+     *            <li>EXPLORE
+     *            <li>LOW_POWER
+     *            <li>NO_RETRANSMISSION
+     *            <li>AUTO_ROUTE
+     *            <li>HIGH_POWER
+     *            </ul>
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getNodeInformationSend(ByteBuffer buffer, Integer seqNo, Integer destinationNodeId,
+            List<String> txOptions) {
+        logger.debug("Creating command message NODE_INFORMATION_SEND version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) NODE_INFORMATION_SEND);
+
+        // Process 'Seq. No'
+        buffer.put(seqNo.byteValue());
+
+        // Process 'Reserved'
+        buffer.put((byte) 0);
+
+        // Process 'Destination Node ID'
+        // Check the node number boundary
+        if (destinationNodeId < 1 || destinationNodeId > 232) {
+            logger.debug("Node number is out of bounds {}", destinationNodeId);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(destinationNodeId.byteValue());
+
+        // Process 'tx Options'
+        int valTxOptions = 0;
+        for (String value : txOptions) {
+            boolean foundTxOptions = false;
+            for (Integer entry : constantNodeInformationSendTxOptions.keySet()) {
+                if (constantNodeInformationSendTxOptions.get(entry).equals(value)) {
+                    foundTxOptions = true;
+                    valTxOptions += entry;
+                    break;
+                }
+            }
+            if (!foundTxOptions) {
+                throw new IllegalArgumentException("Unknown constant value '" + txOptions + "' for txOptions");
+            }
+        }
+        buffer.put((byte) valTxOptions);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the NODE_INFORMATION_SEND command.
      * <p>
@@ -572,6 +833,31 @@ public class CommandClassNetworkManagementBasicV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DEFAULT_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Default Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param seqNo {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDefaultSet(ByteBuffer buffer, Integer seqNo) {
+        logger.debug("Creating command message DEFAULT_SET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DEFAULT_SET);
+
+        // Process 'Seq. No'
+        buffer.put(seqNo.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DEFAULT_SET command.
      * <p>
@@ -638,6 +924,50 @@ public class CommandClassNetworkManagementBasicV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DEFAULT_SET_COMPLETE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Default Set Complete
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param seqNo {@link Integer}
+     * @param status {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>DEFAULT_SET_DONE
+     *            <li>DEFAULT_SET_BUSY
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDefaultSetComplete(ByteBuffer buffer, Integer seqNo, String status) {
+        logger.debug("Creating command message DEFAULT_SET_COMPLETE version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DEFAULT_SET_COMPLETE);
+
+        // Process 'Seq. No'
+        buffer.put(seqNo.byteValue());
+
+        // Process 'Status'
+        boolean foundStatus = false;
+        for (Integer entry : constantDefaultSetCompleteStatus.keySet()) {
+            if (constantDefaultSetCompleteStatus.get(entry).equals(status)) {
+                buffer.put(entry.byteValue());
+                foundStatus = true;
+                break;
+            }
+        }
+        if (!foundStatus) {
+            throw new IllegalArgumentException("Unknown constant value '" + status + "' for status");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DEFAULT_SET_COMPLETE command.
      * <p>
@@ -689,6 +1019,31 @@ public class CommandClassNetworkManagementBasicV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DSK_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * DSK Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param seqNo {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDskGet(ByteBuffer buffer, Integer seqNo) {
+        logger.debug("Creating command message DSK_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DSK_GET);
+
+        // Process 'Seq No'
+        buffer.put(seqNo.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DSK_GET command.
      * <p>
@@ -748,6 +1103,40 @@ public class CommandClassNetworkManagementBasicV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DSK_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * DSK Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param seqNo {@link Integer}
+     * @param dsk {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDskReport(ByteBuffer buffer, Integer seqNo, byte[] dsk) {
+        logger.debug("Creating command message DSK_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DSK_REPORT);
+
+        // Process 'Seq No'
+        buffer.put(seqNo.byteValue());
+
+        // Process 'DSK'
+        if (dsk != null) {
+            if (dsk.length > 16) {
+                throw new IllegalArgumentException("Length of array dsk exceeds maximum length of 16 bytes");
+            }
+            buffer.put(dsk);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DSK_REPORT command.
      * <p>
@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -310,6 +311,85 @@ public class CommandClassNetworkManagementInclusionV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the NODE_ADD command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Node Add
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param seqNo {@link Integer}
+     * @param mode {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NODE_ADD_ANY
+     *            <li>NODE_ADD_CONTROLLER
+     *            <li>NODE_ADD_SLAVE
+     *            <li>NODE_ADD_EXISTING
+     *            <li>NODE_ADD_STOP
+     *            <li>NODE_ADD_STOP_FAILED
+     *            </ul>
+     * @param txOptions {@link List<String>}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NO_ROUTE
+     *            <li>ACK
+     *            <li>EXPLORE
+     *            <li>LOW_POWER
+     *            <li>NO_RETRANSMISSION
+     *            <li>AUTO_ROUTE
+     *            <li>HIGH_POWER
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getNodeAdd(ByteBuffer buffer, Integer seqNo, String mode, List<String> txOptions) {
+        logger.debug("Creating command message NODE_ADD version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) NODE_ADD);
+
+        // Process 'Seq. No'
+        buffer.put(seqNo.byteValue());
+
+        // Process 'Reserved'
+        buffer.put((byte) 0);
+
+        // Process 'Mode'
+        boolean foundMode = false;
+        for (Integer entry : constantNodeAddMode.keySet()) {
+            if (constantNodeAddMode.get(entry).equals(mode)) {
+                buffer.put(entry.byteValue());
+                foundMode = true;
+                break;
+            }
+        }
+        if (!foundMode) {
+            throw new IllegalArgumentException("Unknown constant value '" + mode + "' for mode");
+        }
+
+        // Process 'tx Options'
+        int valTxOptions = 0;
+        for (String value : txOptions) {
+            boolean foundTxOptions = false;
+            for (Integer entry : constantNodeAddTxOptions.keySet()) {
+                if (constantNodeAddTxOptions.get(entry).equals(value)) {
+                    foundTxOptions = true;
+                    valTxOptions += entry;
+                    break;
+                }
+            }
+            if (!foundTxOptions) {
+                throw new IllegalArgumentException("Unknown constant value '" + txOptions + "' for txOptions");
+            }
+        }
+        buffer.put((byte) valTxOptions);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the NODE_ADD command.
      * <p>
@@ -448,6 +528,104 @@ public class CommandClassNetworkManagementInclusionV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the NODE_ADD_STATUS command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Node Add Status
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param seqNo {@link Integer}
+     * @param status {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NODE_ADD_STATUS_DONE
+     *            <li>NODE_ADD_STATUS_FAILED
+     *            <li>NODE_ADD_STATUS_SECURITY_FAILED
+     *            </ul>
+     * @param newNodeId {@link Integer}
+     * @param nodeInfoLength {@link Integer}
+     * @param capability {@link Integer}
+     * @param listening {@link Boolean}
+     * @param security {@link Integer}
+     * @param opt {@link Boolean}
+     * @param basicDeviceClass {@link Integer}
+     * @param genericDeviceClass {@link Integer}
+     * @param specificDeviceClass {@link Integer}
+     * @param commandClass {@link byte[]}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getNodeAddStatus(ByteBuffer buffer, Integer seqNo, String status, Integer newNodeId,
+            Integer nodeInfoLength, Integer capability, Boolean listening, Integer security, Boolean opt,
+            Integer basicDeviceClass, Integer genericDeviceClass, Integer specificDeviceClass, byte[] commandClass) {
+        logger.debug("Creating command message NODE_ADD_STATUS version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) NODE_ADD_STATUS);
+
+        // Process 'Seq. No'
+        buffer.put(seqNo.byteValue());
+
+        // Process 'Status'
+        boolean foundStatus = false;
+        for (Integer entry : constantNodeAddStatusStatus.keySet()) {
+            if (constantNodeAddStatusStatus.get(entry).equals(status)) {
+                buffer.put(entry.byteValue());
+                foundStatus = true;
+                break;
+            }
+        }
+        if (!foundStatus) {
+            throw new IllegalArgumentException("Unknown constant value '" + status + "' for status");
+        }
+
+        // Process 'Reserved'
+        buffer.put((byte) 0);
+
+        // Process 'New Node ID'
+        // Check the node number boundary
+        if (newNodeId < 1 || newNodeId > 232) {
+            logger.debug("Node number is out of bounds {}", newNodeId);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(newNodeId.byteValue());
+
+        // Process 'Node Info Length'
+        buffer.put(nodeInfoLength.byteValue());
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= capability & 0x7F;
+        valProperties1 |= listening ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Properties2'
+        int valProperties2 = 0;
+        valProperties2 |= security & 0x7F;
+        valProperties2 |= opt ? 0x80 : 0;
+        buffer.put((byte) valProperties2);
+
+        // Process 'Basic Device Class'
+        buffer.put(basicDeviceClass.byteValue());
+
+        // Process 'Generic Device Class'
+        buffer.put(genericDeviceClass.byteValue());
+
+        // Process 'Specific Device Class'
+        buffer.put(specificDeviceClass.byteValue());
+
+        // Process 'Command Class'
+        if (commandClass != null) {
+            buffer.put(commandClass);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the NODE_ADD_STATUS command.
      * <p>
@@ -578,6 +756,55 @@ public class CommandClassNetworkManagementInclusionV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the NODE_REMOVE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Node Remove
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param seqNo {@link Integer}
+     * @param mode {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NODE_REMOVE_ANY
+     *            <li>NODE_REMOVE_CONTROLLER
+     *            <li>NODE_REMOVE_SLAVE
+     *            <li>NODE_REMOVE_STOP
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getNodeRemove(ByteBuffer buffer, Integer seqNo, String mode) {
+        logger.debug("Creating command message NODE_REMOVE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) NODE_REMOVE);
+
+        // Process 'Seq. No'
+        buffer.put(seqNo.byteValue());
+
+        // Process 'Reserved'
+        buffer.put((byte) 0);
+
+        // Process 'Mode'
+        boolean foundMode = false;
+        for (Integer entry : constantNodeRemoveMode.keySet()) {
+            if (constantNodeRemoveMode.get(entry).equals(mode)) {
+                buffer.put(entry.byteValue());
+                foundMode = true;
+                break;
+            }
+        }
+        if (!foundMode) {
+            throw new IllegalArgumentException("Unknown constant value '" + mode + "' for mode");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the NODE_REMOVE command.
      * <p>
@@ -657,6 +884,60 @@ public class CommandClassNetworkManagementInclusionV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the NODE_REMOVE_STATUS command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Node Remove Status
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param seqNo {@link Integer}
+     * @param status {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NODE_REMOVE_STATUS_DONE
+     *            <li>NODE_REMOVE_STATUS_FAILED
+     *            </ul>
+     * @param nodeid {@link Integer}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getNodeRemoveStatus(ByteBuffer buffer, Integer seqNo, String status, Integer nodeid) {
+        logger.debug("Creating command message NODE_REMOVE_STATUS version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) NODE_REMOVE_STATUS);
+
+        // Process 'Seq. No'
+        buffer.put(seqNo.byteValue());
+
+        // Process 'Status'
+        boolean foundStatus = false;
+        for (Integer entry : constantNodeRemoveStatusStatus.keySet()) {
+            if (constantNodeRemoveStatusStatus.get(entry).equals(status)) {
+                buffer.put(entry.byteValue());
+                foundStatus = true;
+                break;
+            }
+        }
+        if (!foundStatus) {
+            throw new IllegalArgumentException("Unknown constant value '" + status + "' for status");
+        }
+
+        // Process 'NodeID'
+        // Check the node number boundary
+        if (nodeid < 1 || nodeid > 232) {
+            logger.debug("Node number is out of bounds {}", nodeid);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(nodeid.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the NODE_REMOVE_STATUS command.
      * <p>
@@ -721,6 +1002,41 @@ public class CommandClassNetworkManagementInclusionV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the FAILED_NODE_REMOVE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Failed Node Remove
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param seqNo {@link Integer}
+     * @param nodeId {@link Integer}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getFailedNodeRemove(ByteBuffer buffer, Integer seqNo, Integer nodeId) {
+        logger.debug("Creating command message FAILED_NODE_REMOVE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) FAILED_NODE_REMOVE);
+
+        // Process 'Seq. No'
+        buffer.put(seqNo.byteValue());
+
+        // Process 'Node ID'
+        // Check the node number boundary
+        if (nodeId < 1 || nodeId > 232) {
+            logger.debug("Node number is out of bounds {}", nodeId);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(nodeId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the FAILED_NODE_REMOVE command.
      * <p>
@@ -801,6 +1117,61 @@ public class CommandClassNetworkManagementInclusionV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the FAILED_NODE_REMOVE_STATUS command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Failed Node Remove Status
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param seqNo {@link Integer}
+     * @param status {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>FAILED_NODE_NOT_FOUND
+     *            <li>DONE
+     *            <li>FAILED_NODE_REMOVE_FAIL
+     *            </ul>
+     * @param nodeId {@link Integer}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getFailedNodeRemoveStatus(ByteBuffer buffer, Integer seqNo, String status, Integer nodeId) {
+        logger.debug("Creating command message FAILED_NODE_REMOVE_STATUS version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) FAILED_NODE_REMOVE_STATUS);
+
+        // Process 'Seq. No'
+        buffer.put(seqNo.byteValue());
+
+        // Process 'Status'
+        boolean foundStatus = false;
+        for (Integer entry : constantFailedNodeRemoveStatusStatus.keySet()) {
+            if (constantFailedNodeRemoveStatusStatus.get(entry).equals(status)) {
+                buffer.put(entry.byteValue());
+                foundStatus = true;
+                break;
+            }
+        }
+        if (!foundStatus) {
+            throw new IllegalArgumentException("Unknown constant value '" + status + "' for status");
+        }
+
+        // Process 'Node ID'
+        // Check the node number boundary
+        if (nodeId < 1 || nodeId > 232) {
+            logger.debug("Node number is out of bounds {}", nodeId);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(nodeId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the FAILED_NODE_REMOVE_STATUS command.
      * <p>
@@ -824,22 +1195,88 @@ public class CommandClassNetworkManagementInclusionV1 {
         // Process 'Seq. No'
         response.put("SEQ_NO", Integer.valueOf(payload[2]));
 
-        // Process 'Status'
-        response.put("STATUS", constantFailedNodeRemoveStatusStatus.get(payload[3] & 0xff));
+        // Process 'Status'
+        response.put("STATUS", constantFailedNodeRemoveStatusStatus.get(payload[3] & 0xff));
+
+        // Process 'Node ID'
+        response.put("NODE_ID", Integer.valueOf(payload[4]));
+
+        // Return the map of processed response data;
+        return response;
+    }
+
+
+    /**
+     * Creates a new message with the FAILED_NODE_REPLACE command.
+     * <p>
+     * Failed Node Replace
+     *
+     * @param seqNo {@link Integer}
+     * @param nodeId {@link Integer}
+     * @param txOptions {@link List<String>}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NO_ROUTE
+     *            <li>ACK
+     *            <li>EXPLORE
+     *            <li>LOW_POWER
+     *            <li>NO_RETRANSMISSION
+     *            <li>AUTO_ROUTE
+     *            <li>HIGH_POWER
+     *            </ul>
+     * @param mode {@link Integer}
+     * @return the {@link byte[]} array with the command to send
+     */
+    static public byte[] getFailedNodeReplace(Integer seqNo, Integer nodeId, List<String> txOptions, Integer mode) {
+        logger.debug("Creating command message FAILED_NODE_REPLACE version 1");
+
+        ByteArrayOutputStream outputData = new ByteArrayOutputStream();
+        outputData.write(COMMAND_CLASS_KEY);
+        outputData.write(FAILED_NODE_REPLACE);
+
+        // Process 'Seq. No'
+        outputData.write(seqNo);
 
         // Process 'Node ID'
-        response.put("NODE_ID", Integer.valueOf(payload[4]));
+        // Check the node number boundary
+        if (nodeId < 1 || nodeId > 232) {
+            logger.debug("Node number is out of bounds {}", nodeId);
+            return null;
+        }
+        outputData.write(nodeId);
 
-        // Return the map of processed response data;
-        return response;
-    }
+        // Process 'tx Options'
+        int valTxOptions = 0;
+        for (String value : txOptions) {
+            boolean foundTxOptions = false;
+            for (Integer entry : constantFailedNodeReplaceTxOptions.keySet()) {
+                if (constantFailedNodeReplaceTxOptions.get(entry).equals(value)) {
+                    foundTxOptions = true;
+                    valTxOptions += entry;
+                    break;
+                }
+            }
+            if (!foundTxOptions) {
+                throw new IllegalArgumentException("Unknown constant value '" + txOptions + "' for txOptions");
+            }
+        }
+        outputData.write(valTxOptions);
+
+        // Process 'Mode'
+        outputData.write(mode);
 
+        return outputData.toByteArray();
+    }
 
     /**
-     * Creates a new message with the FAILED_NODE_REPLACE command.
+     * Writes a new message with the FAILED_NODE_REPLACE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
      * <p>
      * Failed Node Replace
      *
+     * @param buffer the {@link ByteBuffer} to write the message to
      * @param seqNo {@link Integer}
      * @param nodeId {@link Integer}
      * @param txOptions {@link List<String>}
@@ -854,25 +1291,27 @@ public class CommandClassNetworkManagementInclusionV1 {
      *            <li>HIGH_POWER
      *            </ul>
      * @param mode {@link Integer}
-     * @return the {@link byte[]} array with the command to send
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
      */
-    static public byte[] getFailedNodeReplace(Integer seqNo, Integer nodeId, List<String> txOptions, Integer mode) {
+    static public int getFailedNodeReplace(ByteBuffer buffer, Integer seqNo, Integer nodeId, List<String> txOptions,
+            Integer mode) {
         logger.debug("Creating command message FAILED_NODE_REPLACE version 1");
 
-        ByteArrayOutputStream outputData = new ByteArrayOutputStream();
-        outputData.write(COMMAND_CLASS_KEY);
-        outputData.write(FAILED_NODE_REPLACE);
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) FAILED_NODE_REPLACE);
 
         // Process 'Seq. No'
-        outputData.write(seqNo);
+        buffer.put(seqNo.byteValue());
 
         // Process 'Node ID'
         // Check the node number boundary
         if (nodeId < 1 || nodeId > 232) {
             logger.debug("Node number is out of bounds {}", nodeId);
-            return null;
+            buffer.position(start);
+            return -1;
         }
-        outputData.write(nodeId);
+        buffer.put(nodeId.byteValue());
 
         // Process 'tx Options'
         int valTxOptions = 0;
@@ -889,12 +1328,12 @@ public class CommandClassNetworkManagementInclusionV1 {
                 throw new IllegalArgumentException("Unknown constant value '" + txOptions + "' for txOptions");
             }
         }
-        outputData.write(valTxOptions);
+        buffer.put((byte) valTxOptions);
 
         // Process 'Mode'
-        outputData.write(mode);
+        buffer.put(mode.byteValue());
 
-        return outputData.toByteArray();
+        return buffer.position() - start;
     }
 
     /**
@@ -993,6 +1432,61 @@ public class CommandClassNetworkManagementInclusionV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the FAILED_NODE_REPLACE_STATUS command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Failed Node Replace Status
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param seqNo {@link Integer}
+     * @param status {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>DONE
+     *            <li>FAILED_NODE_REPLACE_FAIL
+     *            <li>FAILED_NODE_REPLACE_SECURITY_FAILED
+     *            </ul>
+     * @param nodeId {@link Integer}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getFailedNodeReplaceStatus(ByteBuffer buffer, Integer seqNo, String status, Integer nodeId) {
+        logger.debug("Creating command message FAILED_NODE_REPLACE_STATUS version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) FAILED_NODE_REPLACE_STATUS);
+
+        // Process 'Seq. No'
+        buffer.put(seqNo.byteValue());
+
+        // Process 'Status'
+        boolean foundStatus = false;
+        for (Integer entry : constantFailedNodeReplaceStatusStatus.keySet()) {
+            if (constantFailedNodeReplaceStatusStatus.get(entry).equals(status)) {
+                buffer.put(entry.byteValue());
+                foundStatus = true;
+                break;
+            }
+        }
+        if (!foundStatus) {
+            throw new IllegalArgumentException("Unknown constant value '" + status + "' for status");
+        }
+
+        // Process 'Node ID'
+        // Check the node number boundary
+        if (nodeId < 1 || nodeId > 232) {
+            logger.debug("Node number is out of bounds {}", nodeId);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(nodeId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the FAILED_NODE_REPLACE_STATUS command.
      * <p>
@@ -1057,6 +1551,41 @@ public class CommandClassNetworkManagementInclusionV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the NODE_NEIGHBOR_UPDATE_REQUEST command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Node Neighbor Update Request
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param seqNo {@link Integer}
+     * @param nodeId {@link Integer}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getNodeNeighborUpdateRequest(ByteBuffer buffer, Integer seqNo, Integer nodeId) {
+        logger.debug("Creating command message NODE_NEIGHBOR_UPDATE_REQUEST version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) NODE_NEIGHBOR_UPDATE_REQUEST);
+
+        // Process 'Seq. No'
+        buffer.put(seqNo.byteValue());
+
+        // Process 'Node ID'
+        // Check the node number boundary
+        if (nodeId < 1 || nodeId > 232) {
+            logger.debug("Node number is out of bounds {}", nodeId);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(nodeId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the NODE_NEIGHBOR_UPDATE_REQUEST command.
      * <p>
@@ -1127,6 +1656,50 @@ public class CommandClassNetworkManagementInclusionV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the NODE_NEIGHBOR_UPDATE_STATUS command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Node Neighbor Update Status
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param seqNo {@link Integer}
+     * @param status {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NEIGHBOR_UPDATE_STATUS_DONE
+     *            <li>NEIGHBOR_UPDATE_STATUS_FAIL
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getNodeNeighborUpdateStatus(ByteBuffer buffer, Integer seqNo, String status) {
+        logger.debug("Creating command message NODE_NEIGHBOR_UPDATE_STATUS version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) NODE_NEIGHBOR_UPDATE_STATUS);
+
+        // Process 'Seq. No'
+        buffer.put(seqNo.byteValue());
+
+        // Process 'Status'
+        boolean foundStatus = false;
+        for (Integer entry : constantNodeNeighborUpdateStatusStatus.keySet()) {
+            if (constantNodeNeighborUpdateStatusStatus.get(entry).equals(status)) {
+                buffer.put(entry.byteValue());
+                foundStatus = true;
+                break;
+            }
+        }
+        if (!foundStatus) {
+            throw new IllegalArgumentException("Unknown constant value '" + status + "' for status");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the NODE_NEIGHBOR_UPDATE_STATUS command.
      * <p>
@@ -1196,6 +1769,52 @@ public class CommandClassNetworkManagementInclusionV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the RETURN_ROUTE_ASSIGN command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Return Route Assign
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param seqNo {@link Integer}
+     * @param sourceNodeId {@link Integer}
+     * @param destinationNodeId {@link Integer}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getReturnRouteAssign(ByteBuffer buffer, Integer seqNo, Integer sourceNodeId,
+            Integer destinationNodeId) {
+        logger.debug("Creating command message RETURN_ROUTE_ASSIGN version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) RETURN_ROUTE_ASSIGN);
+
+        // Process 'Seq. No'
+        buffer.put(seqNo.byteValue());
+
+        // Process 'Source Node ID'
+        // Check the node number boundary
+        if (sourceNodeId < 1 || sourceNodeId > 232) {
+            logger.debug("Node number is out of bounds {}", sourceNodeId);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(sourceNodeId.byteValue());
+
+        // Process 'Destination Node ID'
+        // Check the node number boundary
+        if (destinationNodeId < 1 || destinationNodeId > 232) {
+            logger.debug("Node number is out of bounds {}", destinationNodeId);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(destinationNodeId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the RETURN_ROUTE_ASSIGN command.
      * <p>
@@ -1271,6 +1890,51 @@ public class CommandClassNetworkManagementInclusionV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the RETURN_ROUTE_ASSIGN_COMPLETE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Return Route Assign Complete
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param seqNo {@link Integer}
+     * @param status {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>TRANSMIT_COMPLETE_OK
+     *            <li>TRANSMIT_COMPLETE_NO_ACK
+     *            <li>TRANSMIT_COMPLETE_FAIL
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getReturnRouteAssignComplete(ByteBuffer buffer, Integer seqNo, String status) {
+        logger.debug("Creating command message RETURN_ROUTE_ASSIGN_COMPLETE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) RETURN_ROUTE_ASSIGN_COMPLETE);
+
+        // Process 'Seq. No'
+        buffer.put(seqNo.byteValue());
+
+        // Process 'Status'
+        boolean foundStatus = false;
+        for (Integer entry : constantReturnRouteAssignCompleteStatus.keySet()) {
+            if (constantReturnRouteAssignCompleteStatus.get(entry).equals(status)) {
+                buffer.put(entry.byteValue());
+                foundStatus = true;
+                break;
+            }
+        }
+        if (!foundStatus) {
+            throw new IllegalArgumentException("Unknown constant value '" + status + "' for status");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the RETURN_ROUTE_ASSIGN_COMPLETE command.
      * <p>
@@ -1331,6 +1995,41 @@ public class CommandClassNetworkManagementInclusionV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the RETURN_ROUTE_DELETE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Return Route Delete
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param seqNo {@link Integer}
+     * @param nodeId {@link Integer}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getReturnRouteDelete(ByteBuffer buffer, Integer seqNo, Integer nodeId) {
+        logger.debug("Creating command message RETURN_ROUTE_DELETE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) RETURN_ROUTE_DELETE);
+
+        // Process 'Seq. No'
+        buffer.put(seqNo.byteValue());
+
+        // Process 'Node ID'
+        // Check the node number boundary
+        if (nodeId < 1 || nodeId > 232) {
+            logger.debug("Node number is out of bounds {}", nodeId);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(nodeId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the RETURN_ROUTE_DELETE command.
      * <p>
@@ -1402,6 +2101,51 @@ public class CommandClassNetworkManagementInclusionV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the RETURN_ROUTE_DELETE_COMPLETE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Return Route Delete Complete
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param seqNo {@link Integer}
+     * @param status {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>TRANSMIT_COMPLETE_OK
+     *            <li>TRANSMIT_COMPLETE_NO_ACK
+     *            <li>TRANSMIT_COMPLETE_FAIL
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getReturnRouteDeleteComplete(ByteBuffer buffer, Integer seqNo, String status) {
+        logger.debug("Creating command message RETURN_ROUTE_DELETE_COMPLETE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) RETURN_ROUTE_DELETE_COMPLETE);
+
+        // Process 'Seq. No'
+        buffer.put(seqNo.byteValue());
+
+        // Process 'Status'
+        boolean foundStatus = false;
+        for (Integer entry : constantReturnRouteDeleteCompleteStatus.keySet()) {
+            if (constantReturnRouteDeleteCompleteStatus.get(entry).equals(status)) {
+                buffer.put(entry.byteValue());
+                foundStatus = true;
+                break;
+            }
+        }
+        if (!foundStatus) {
+            throw new IllegalArgumentException("Unknown constant value '" + status + "' for status");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the RETURN_ROUTE_DELETE_COMPLETE command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -182,6 +183,98 @@ public class CommandClassNetworkManagementInstallationMaintenanceV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the LAST_WORKING_ROUTE_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Last Working Route Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param nodeid {@link Integer}
+     * @param repeater1 {@link Integer}
+     * @param repeater2 {@link Integer}
+     * @param repeater3 {@link Integer}
+     * @param repeater4 {@link Integer}
+     * @param speed {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>9_6_KBIT_SEC
+     *            <li>40_KBIT_SEC
+     *            <li>100_KBIT_SEC
+     *            </ul>
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getLastWorkingRouteSet(ByteBuffer buffer, Integer nodeid, Integer repeater1, Integer repeater2,
+            Integer repeater3, Integer repeater4, String speed) {
+        logger.debug("Creating command message LAST_WORKING_ROUTE_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) LAST_WORKING_ROUTE_SET);
+
+        // Process 'NodeID'
+        // Check the node number boundary
+        if (nodeid < 1 || nodeid > 232) {
+            logger.debug("Node number is out of bounds {}", nodeid);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(nodeid.byteValue());
+
+        // Process 'Repeater 1'
+        // Check the node number boundary
+        if (repeater1 < 1 || repeater1 > 232) {
+            logger.debug("Node number is out of bounds {}", repeater1);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(repeater1.byteValue());
+
+        // Process 'Repeater 2'
+        // Check the node number boundary
+        if (repeater2 < 1 || repeater2 > 232) {
+            logger.debug("Node number is out of bounds {}", repeater2);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(repeater2.byteValue());
+
+        // Process 'Repeater 3'
+        // Check the node number boundary
+        if (repeater3 < 1 || repeater3 > 232) {
+            logger.debug("Node number is out of bounds {}", repeater3);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(repeater3.byteValue());
+
+        // Process 'Repeater 4'
+        // Check the node number boundary
+        if (repeater4 < 1 || repeater4 > 232) {
+            logger.debug("Node number is out of bounds {}", repeater4);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(repeater4.byteValue());
+
+        // Process 'Speed'
+        boolean foundSpeed = false;
+        for (Integer entry : constantLastWorkingRouteSetSpeed.keySet()) {
+            if (constantLastWorkingRouteSetSpeed.get(entry).equals(speed)) {
+                buffer.put(entry.byteValue());
+                foundSpeed = true;
+                break;
+            }
+        }
+        if (!foundSpeed) {
+            throw new IllegalArgumentException("Unknown constant value '" + speed + "' for speed");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the LAST_WORKING_ROUTE_SET command.
      * <p>
@@ -254,6 +347,37 @@ public class CommandClassNetworkManagementInstallationMaintenanceV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the LAST_WORKING_ROUTE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Last Working Route Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param nodeid {@link Integer}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getLastWorkingRouteGet(ByteBuffer buffer, Integer nodeid) {
+        logger.debug("Creating command message LAST_WORKING_ROUTE_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) LAST_WORKING_ROUTE_GET);
+
+        // Process 'NodeID'
+        // Check the node number boundary
+        if (nodeid < 1 || nodeid > 232) {
+            logger.debug("Node number is out of bounds {}", nodeid);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(nodeid.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the LAST_WORKING_ROUTE_GET command.
      * <p>
@@ -363,6 +487,98 @@ public class CommandClassNetworkManagementInstallationMaintenanceV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the LAST_WORKING_ROUTE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Last Working Route Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param nodeid {@link Integer}
+     * @param repeater1 {@link Integer}
+     * @param repeater2 {@link Integer}
+     * @param repeater3 {@link Integer}
+     * @param repeater4 {@link Integer}
+     * @param speed {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>9_6_KBIT_SEC
+     *            <li>40_KBIT_SEC
+     *            <li>100_KBIT_SEC
+     *            </ul>
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getLastWorkingRouteReport(ByteBuffer buffer, Integer nodeid, Integer repeater1, Integer repeater2,
+            Integer repeater3, Integer repeater4, String speed) {
+        logger.debug("Creating command message LAST_WORKING_ROUTE_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) LAST_WORKING_ROUTE_REPORT);
+
+        // Process 'NodeID'
+        // Check the node number boundary
+        if (nodeid < 1 || nodeid > 232) {
+            logger.debug("Node number is out of bounds {}", nodeid);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(nodeid.byteValue());
+
+        // Process 'Repeater 1'
+        // Check the node number boundary
+        if (repeater1 < 1 || repeater1 > 232) {
+            logger.debug("Node number is out of bounds {}", repeater1);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(repeater1.byteValue());
+
+        // Process 'Repeater 2'
+        // Check the node number boundary
+        if (repeater2 < 1 || repeater2 > 232) {
+            logger.debug("Node number is out of bounds {}", repeater2);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(repeater2.byteValue());
+
+        // Process 'Repeater 3'
+        // Check the node number boundary
+        if (repeater3 < 1 || repeater3 > 232) {
+            logger.debug("Node number is out of bounds {}", repeater3);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(repeater3.byteValue());
+
+        // Process 'Repeater 4'
+        // Check the node number boundary
+        if (repeater4 < 1 || repeater4 > 232) {
+            logger.debug("Node number is out of bounds {}", repeater4);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(repeater4.byteValue());
+
+        // Process 'Speed'
+        boolean foundSpeed = false;
+        for (Integer entry : constantLastWorkingRouteReportSpeed.keySet()) {
+            if (constantLastWorkingRouteReportSpeed.get(entry).equals(speed)) {
+                buffer.put(entry.byteValue());
+                foundSpeed = true;
+                break;
+            }
+        }
+        if (!foundSpeed) {
+            throw new IllegalArgumentException("Unknown constant value '" + speed + "' for speed");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the LAST_WORKING_ROUTE_REPORT command.
      * <p>
@@ -435,6 +651,37 @@ public class CommandClassNetworkManagementInstallationMaintenanceV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the STATISTICS_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Statistics Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param nodeid {@link Integer}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getStatisticsGet(ByteBuffer buffer, Integer nodeid) {
+        logger.debug("Creating command message STATISTICS_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) STATISTICS_GET);
+
+        // Process 'NodeID'
+        // Check the node number boundary
+        if (nodeid < 1 || nodeid > 232) {
+            logger.debug("Node number is out of bounds {}", nodeid);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(nodeid.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the STATISTICS_GET command.
      * <p>
@@ -489,6 +736,39 @@ public class CommandClassNetworkManagementInstallationMaintenanceV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the STATISTICS_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Statistics Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param nodeid {@link Integer}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getStatisticsReport(ByteBuffer buffer, Integer nodeid) {
+        logger.debug("Creating command message STATISTICS_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) STATISTICS_REPORT);
+
+        // Process 'NodeID'
+        // Check the node number boundary
+        if (nodeid < 1 || nodeid > 232) {
+            logger.debug("Node number is out of bounds {}", nodeid);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(nodeid.byteValue());
+
+        // Process 'Statistics'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the STATISTICS_REPORT command.
      * <p>
@@ -568,6 +848,27 @@ public class CommandClassNetworkManagementInstallationMaintenanceV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the STATISTICS_CLEAR command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Statistics Clear
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getStatisticsClear(ByteBuffer buffer) {
+        logger.debug("Creating command message STATISTICS_CLEAR version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) STATISTICS_CLEAR);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the STATISTICS_CLEAR command.
      * <p>
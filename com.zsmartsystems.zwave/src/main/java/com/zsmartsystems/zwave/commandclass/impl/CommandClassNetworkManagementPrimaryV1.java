@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -171,6 +172,81 @@ public class CommandClassNetworkManagementPrimaryV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONTROLLER_CHANGE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Controller Change
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param seqNo {@link Integer}
+     * @param mode {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>CONTROLLER_CHANGE_START
+     *            <li>CONTROLLER_CHANGE_STOP
+     *            </ul>
+     * @param txOptions {@link List<String>}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NO_ROUTE
+     *            <li>ACK
+     *            <li>EXPLORE
+     *            <li>LOW_POWER
+     *            <li>NO_RETRANSMISSION
+     *            <li>AUTO_ROUTE
+     *            <li>HIGH_POWER
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getControllerChange(ByteBuffer buffer, Integer seqNo, String mode, List<String> txOptions) {
+        logger.debug("Creating command message CONTROLLER_CHANGE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONTROLLER_CHANGE);
+
+        // Process 'Seq. No'
+        buffer.put(seqNo.byteValue());
+
+        // Process 'Reserved'
+        buffer.put((byte) 0);
+
+        // Process 'Mode'
+        boolean foundMode = false;
+        for (Integer entry : constantControllerChangeMode.keySet()) {
+            if (constantControllerChangeMode.get(entry).equals(mode)) {
+                buffer.put(entry.byteValue());
+                foundMode = true;
+                break;
+            }
+        }
+        if (!foundMode) {
+            throw new IllegalArgumentException("Unknown constant value '" + mode + "' for mode");
+        }
+
+        // Process 'tx Options'
+        int valTxOptions = 0;
+        for (String value : txOptions) {
+            boolean foundTxOptions = false;
+            for (Integer entry : constantControllerChangeTxOptions.keySet()) {
+                if (constantControllerChangeTxOptions.get(entry).equals(value)) {
+                    foundTxOptions = true;
+                    valTxOptions += entry;
+                    break;
+                }
+            }
+            if (!foundTxOptions) {
+                throw new IllegalArgumentException("Unknown constant value '" + txOptions + "' for txOptions");
+            }
+        }
+        buffer.put((byte) valTxOptions);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONTROLLER_CHANGE command.
      * <p>
@@ -309,6 +385,104 @@ public class CommandClassNetworkManagementPrimaryV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CONTROLLER_CHANGE_STATUS command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Controller Change Status
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param seqNo {@link Integer}
+     * @param status {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NODE_ADD_STATUS_DONE
+     *            <li>NODE_ADD_STATUS_FAILED
+     *            <li>NODE_ADD_STATUS_SECURITY_FAILED
+     *            </ul>
+     * @param newNodeId {@link Integer}
+     * @param nodeInfoLength {@link Integer}
+     * @param capability {@link Integer}
+     * @param listening {@link Boolean}
+     * @param security {@link Integer}
+     * @param opt {@link Boolean}
+     * @param basicDeviceClass {@link Integer}
+     * @param genericDeviceClass {@link Integer}
+     * @param specificDeviceClass {@link Integer}
+     * @param commandClass {@link byte[]}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getControllerChangeStatus(ByteBuffer buffer, Integer seqNo, String status, Integer newNodeId,
+            Integer nodeInfoLength, Integer capability, Boolean listening, Integer security, Boolean opt,
+            Integer basicDeviceClass, Integer genericDeviceClass, Integer specificDeviceClass, byte[] commandClass) {
+        logger.debug("Creating command message CONTROLLER_CHANGE_STATUS version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CONTROLLER_CHANGE_STATUS);
+
+        // Process 'Seq. No'
+        buffer.put(seqNo.byteValue());
+
+        // Process 'Status'
+        boolean foundStatus = false;
+        for (Integer entry : constantControllerChangeStatusStatus.keySet()) {
+            if (constantControllerChangeStatusStatus.get(entry).equals(status)) {
+                buffer.put(entry.byteValue());
+                foundStatus = true;
+                break;
+            }
+        }
+        if (!foundStatus) {
+            throw new IllegalArgumentException("Unknown constant value '" + status + "' for status");
+        }
+
+        // Process 'Reserved'
+        buffer.put((byte) 0);
+
+        // Process 'New Node ID'
+        // Check the node number boundary
+        if (newNodeId < 1 || newNodeId > 232) {
+            logger.debug("Node number is out of bounds {}", newNodeId);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(newNodeId.byteValue());
+
+        // Process 'Node Info Length'
+        buffer.put(nodeInfoLength.byteValue());
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= capability & 0x7F;
+        valProperties1 |= listening ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Properties2'
+        int valProperties2 = 0;
+        valProperties2 |= security & 0x7F;
+        valProperties2 |= opt ? 0x80 : 0;
+        buffer.put((byte) valProperties2);
+
+        // Process 'Basic Device Class'
+        buffer.put(basicDeviceClass.byteValue());
+
+        // Process 'Generic Device Class'
+        buffer.put(genericDeviceClass.byteValue());
+
+        // Process 'Specific Device Class'
+        buffer.put(specificDeviceClass.byteValue());
+
+        // Process 'Command Class'
+        if (commandClass != null) {
+            buffer.put(commandClass);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CONTROLLER_CHANGE_STATUS command.
      * <p>
@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -115,6 +116,31 @@ public class CommandClassNetworkManagementProxyV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the NODE_LIST_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Node List Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param seqNo {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getNodeListGet(ByteBuffer buffer, Integer seqNo) {
+        logger.debug("Creating command message NODE_LIST_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) NODE_LIST_GET);
+
+        // Process 'Seq. No'
+        buffer.put(seqNo.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the NODE_LIST_GET command.
      * <p>
@@ -200,6 +226,69 @@ public class CommandClassNetworkManagementProxyV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the NODE_LIST_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Node List Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param seqNo {@link Integer}
+     * @param status {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>LATEST
+     *            <li>MAY_NOT_BE_THE_LATEST
+     *            </ul>
+     * @param nodeListControllerId {@link Integer}
+     * @param nodeListData {@link List<Integer>}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getNodeListReport(ByteBuffer buffer, Integer seqNo, String status, Integer nodeListControllerId,
+            List<Integer> nodeListData) {
+        logger.debug("Creating command message NODE_LIST_REPORT version 1");
+
+        Collections.sort(nodeListData);
+        int lenNodeListData = (nodeListData.get(nodeListData.size() - 1) / 8) + 1;
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) NODE_LIST_REPORT);
+
+        // Process 'Seq. No'
+        buffer.put(seqNo.byteValue());
+
+        // Process 'Status'
+        boolean foundStatus = false;
+        for (Integer entry : constantNodeListReportStatus.keySet()) {
+            if (constantNodeListReportStatus.get(entry).equals(status)) {
+                buffer.put(entry.byteValue());
+                foundStatus = true;
+                break;
+            }
+        }
+        if (!foundStatus) {
+            throw new IllegalArgumentException("Unknown constant value '" + status + "' for status");
+        }
+
+        // Process 'Node List Controller ID'
+        buffer.put(nodeListControllerId.byteValue());
+
+        // Process 'Node List Data'
+        int valNodeListData = 0;
+        for (int cntNodeListData = 1 ; cntNodeListData < lenNodeListData * 8 ; cntNodeListData++) {
+            valNodeListData |= nodeListData.contains(valNodeListData) ? (1 << cntNodeListData % 8) : 0;
+            if (cntNodeListData % 8 == 0) {
+                buffer.put((byte) valNodeListData);
+                valNodeListData = 0;
+            }
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the NODE_LIST_REPORT command.
      * <p>
@@ -279,6 +368,45 @@ public class CommandClassNetworkManagementProxyV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the NODE_INFO_CACHED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Node Info Cached Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param seqNo {@link Integer}
+     * @param maxAge {@link Integer}
+     * @param nodeId {@link Integer}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getNodeInfoCachedGet(ByteBuffer buffer, Integer seqNo, Integer maxAge, Integer nodeId) {
+        logger.debug("Creating command message NODE_INFO_CACHED_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) NODE_INFO_CACHED_GET);
+
+        // Process 'Seq. No'
+        buffer.put(seqNo.byteValue());
+
+        // Process 'Properties1'
+        buffer.put((byte) (maxAge & 0x0F));
+
+        // Process 'Node ID'
+        // Check the node number boundary
+        if (nodeId < 1 || nodeId > 232) {
+            logger.debug("Node number is out of bounds {}", nodeId);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(nodeId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the NODE_INFO_CACHED_GET command.
      * <p>
@@ -413,6 +541,104 @@ public class CommandClassNetworkManagementProxyV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the NODE_INFO_CACHED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Node Info Cached Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param seqNo {@link Integer}
+     * @param age {@link Integer}
+     * @param status {@link String}
+     * @param capability {@link Integer}
+     * @param listening {@link Boolean}
+     * @param security {@link Integer}
+     * @param sensor {@link Integer}
+     * @param opt {@link Boolean}
+     * @param basicDeviceClass {@link Integer}
+     * @param genericDeviceClass {@link Integer}
+     * @param specificDeviceClass {@link Integer}
+     * @param nonSecureCommandClass {@link byte[]}
+     * @param securityScheme0CommandClass {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getNodeInfoCachedReport(ByteBuffer buffer, Integer seqNo, Integer age, String status,
+            Integer capability, Boolean listening, Integer security, Integer sensor, Boolean opt,
+            Integer basicDeviceClass, Integer genericDeviceClass, Integer specificDeviceClass,
+            byte[] nonSecureCommandClass, byte[] securityScheme0CommandClass) {
+        logger.debug("Creating command message NODE_INFO_CACHED_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) NODE_INFO_CACHED_REPORT);
+
+        // Process 'Seq. No'
+        buffer.put(seqNo.byteValue());
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= age & 0x0F;
+        int valstatus;
+        switch (status) {
+            case "STATUS_OK":
+                valstatus = 0;
+                break;
+            case "STATUS_NOT_RESPONDING":
+                valstatus = 1;
+                break;
+            case "STATUS_UNKNOWN":
+                valstatus = 2;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for status: " + status);
+        }
+        valProperties1 |= valstatus >> 4 & 0xF0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Properties2'
+        int valProperties2 = 0;
+        valProperties2 |= capability & 0x7F;
+        valProperties2 |= listening ? 0x80 : 0;
+        buffer.put((byte) valProperties2);
+
+        // Process 'Properties3'
+        int valProperties3 = 0;
+        valProperties3 |= security & 0x0F;
+        valProperties3 |= ((sensor << 4) & 0x70);
+        valProperties3 |= opt ? 0x80 : 0;
+        buffer.put((byte) valProperties3);
+
+        // Process 'Reserved'
+        buffer.put((byte) 0);
+
+        // Process 'Basic Device Class'
+        buffer.put(basicDeviceClass.byteValue());
+
+        // Process 'Generic Device Class'
+        buffer.put(genericDeviceClass.byteValue());
+
+        // Process 'Specific Device Class'
+        buffer.put(specificDeviceClass.byteValue());
+
+        // Process 'Non-Secure Command Class'
+        if (nonSecureCommandClass != null) {
+            buffer.put(nonSecureCommandClass);
+        }
+
+        // Process 'Security Scheme 0 MARK'
+        buffer.put((byte) 0xF1);
+
+        // Process 'Security Scheme 0 Command Class'
+        if (securityScheme0CommandClass != null) {
+            buffer.put(securityScheme0CommandClass);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the NODE_INFO_CACHED_REPORT command.
      * <p>
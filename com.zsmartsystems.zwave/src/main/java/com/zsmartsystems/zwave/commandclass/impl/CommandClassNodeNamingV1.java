@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.lang.IllegalArgumentException;
 import java.util.HashMap;
 import java.util.Map;
@@ -97,6 +98,40 @@ public class CommandClassNodeNamingV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the NODE_NAMING_NODE_NAME_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Node Naming Node Name Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param charPresentation {@link Integer}
+     * @param nodeNameChar {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getNodeNamingNodeNameSet(ByteBuffer buffer, Integer charPresentation, byte[] nodeNameChar) {
+        logger.debug("Creating command message NODE_NAMING_NODE_NAME_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) NODE_NAMING_NODE_NAME_SET);
+
+        // Process 'Level'
+        buffer.put((byte) (charPresentation & 0x07));
+
+        // Process 'Node name char'
+        if (nodeNameChar != null) {
+            if (nodeNameChar.length > 16) {
+                throw new IllegalArgumentException("Length of array nodeNameChar exceeds maximum length of 16 bytes");
+            }
+            buffer.put(nodeNameChar);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the NODE_NAMING_NODE_NAME_SET command.
      * <p>
@@ -149,6 +184,27 @@ public class CommandClassNodeNamingV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the NODE_NAMING_NODE_NAME_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Node Naming Node Name Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getNodeNamingNodeNameGet(ByteBuffer buffer) {
+        logger.debug("Creating command message NODE_NAMING_NODE_NAME_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) NODE_NAMING_NODE_NAME_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the NODE_NAMING_NODE_NAME_GET command.
      * <p>
@@ -199,6 +255,40 @@ public class CommandClassNodeNamingV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the NODE_NAMING_NODE_NAME_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Node Naming Node Name Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param charPresentation {@link Integer}
+     * @param nodeNameChar {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getNodeNamingNodeNameReport(ByteBuffer buffer, Integer charPresentation, byte[] nodeNameChar) {
+        logger.debug("Creating command message NODE_NAMING_NODE_NAME_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) NODE_NAMING_NODE_NAME_REPORT);
+
+        // Process 'Level'
+        buffer.put((byte) (charPresentation & 0x07));
+
+        // Process 'Node name char'
+        if (nodeNameChar != null) {
+            if (nodeNameChar.length > 16) {
+                throw new IllegalArgumentException("Length of array nodeNameChar exceeds maximum length of 16 bytes");
+            }
+            buffer.put(nodeNameChar);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the NODE_NAMING_NODE_NAME_REPORT command.
      * <p>
@@ -267,6 +357,41 @@ public class CommandClassNodeNamingV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the NODE_NAMING_NODE_LOCATION_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Node Naming Node Location Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param charPresentation {@link Integer}
+     * @param nodeLocationChar {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getNodeNamingNodeLocationSet(ByteBuffer buffer, Integer charPresentation,
+            byte[] nodeLocationChar) {
+        logger.debug("Creating command message NODE_NAMING_NODE_LOCATION_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) NODE_NAMING_NODE_LOCATION_SET);
+
+        // Process 'Level'
+        buffer.put((byte) (charPresentation & 0x07));
+
+        // Process 'Node location char'
+        if (nodeLocationChar != null) {
+            if (nodeLocationChar.length > 16) {
+                throw new IllegalArgumentException("Length of array nodeLocationChar exceeds maximum length of 16 bytes");
+            }
+            buffer.put(nodeLocationChar);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the NODE_NAMING_NODE_LOCATION_SET command.
      * <p>
@@ -319,6 +444,27 @@ public class CommandClassNodeNamingV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the NODE_NAMING_NODE_LOCATION_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Node Naming Node Location Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getNodeNamingNodeLocationGet(ByteBuffer buffer) {
+        logger.debug("Creating command message NODE_NAMING_NODE_LOCATION_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) NODE_NAMING_NODE_LOCATION_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the NODE_NAMING_NODE_LOCATION_GET command.
      * <p>
@@ -369,6 +515,41 @@ public class CommandClassNodeNamingV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the NODE_NAMING_NODE_LOCATION_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Node Naming Node Location Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param charPresentation {@link Integer}
+     * @param nodeLocationChar {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getNodeNamingNodeLocationReport(ByteBuffer buffer, Integer charPresentation,
+            byte[] nodeLocationChar) {
+        logger.debug("Creating command message NODE_NAMING_NODE_LOCATION_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) NODE_NAMING_NODE_LOCATION_REPORT);
+
+        // Process 'Level'
+        buffer.put((byte) (charPresentation & 0x07));
+
+        // Process 'Node location char'
+        if (nodeLocationChar != null) {
+            if (nodeLocationChar.length > 16) {
+                throw new IllegalArgumentException("Length of array nodeLocationChar exceeds maximum length of 16 bytes");
+            }
+            buffer.put(nodeLocationChar);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the NODE_NAMING_NODE_LOCATION_REPORT command.
      * <p>
@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -275,6 +276,57 @@ public class CommandClassNotificationV5 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the EVENT_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Event Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param notificationType {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>SMOKE
+     *            <li>CO
+     *            <li>CO2
+     *            <li>HEAT
+     *            <li>WATER
+     *            <li>ACCESS_CONTROL
+     *            <li>HOME_SECURITY
+     *            <li>POWER_MANAGEMENT
+     *            <li>SYSTEM
+     *            <li>EMERGENCY
+     *            <li>CLOCK
+     *            <li>APPLIANCE
+     *            <li>HOME_HEALTH
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getEventSupportedGet(ByteBuffer buffer, String notificationType) {
+        logger.debug("Creating command message EVENT_SUPPORTED_GET version 5");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) EVENT_SUPPORTED_GET);
+
+        // Process 'Notification Type'
+        boolean foundNotificationType = false;
+        for (Integer entry : constantEventSupportedGetNotificationType.keySet()) {
+            if (constantEventSupportedGetNotificationType.get(entry).equals(notificationType)) {
+                buffer.put(entry.byteValue());
+                foundNotificationType = true;
+                break;
+            }
+        }
+        if (!foundNotificationType) {
+            throw new IllegalArgumentException("Unknown constant value '" + notificationType + "' for notificationType");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the EVENT_SUPPORTED_GET command.
      * <p>
@@ -365,6 +417,74 @@ public class CommandClassNotificationV5 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the EVENT_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Event Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param notificationType {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>SMOKE
+     *            <li>CO
+     *            <li>CO2
+     *            <li>HEAT
+     *            <li>WATER
+     *            <li>ACCESS_CONTROL
+     *            <li>HOME_SECURITY
+     *            <li>POWER_MANAGEMENT
+     *            <li>SYSTEM
+     *            <li>EMERGENCY
+     *            <li>CLOCK
+     *            <li>APPLIANCE
+     *            <li>HOME_HEALTH
+     *            </ul>
+     * @param bitMask {@link List<Integer>}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getEventSupportedReport(ByteBuffer buffer, String notificationType, List<Integer> bitMask) {
+        logger.debug("Creating command message EVENT_SUPPORTED_REPORT version 5");
+
+        Collections.sort(bitMask);
+        int lenBitMask = (bitMask.get(bitMask.size() - 1) / 8) + 1;
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) EVENT_SUPPORTED_REPORT);
+
+        // Process 'Notification Type'
+        boolean foundNotificationType = false;
+        for (Integer entry : constantEventSupportedReportNotificationType.keySet()) {
+            if (constantEventSupportedReportNotificationType.get(entry).equals(notificationType)) {
+                buffer.put(entry.byteValue());
+                foundNotificationType = true;
+                break;
+            }
+        }
+        if (!foundNotificationType) {
+            throw new IllegalArgumentException("Unknown constant value '" + notificationType + "' for notificationType");
+        }
+
+        // Process 'Properties1'
+        buffer.put((byte) lenBitMask);
+
+        // Process 'Bit Mask'
+        int valBitMask = 0;
+        for (int cntBitMask = 1 ; cntBitMask < lenBitMask * 8 ; cntBitMask++) {
+            valBitMask |= bitMask.contains(valBitMask) ? (1 << cntBitMask % 8) : 0;
+            if (cntBitMask % 8 == 0) {
+                buffer.put((byte) valBitMask);
+                valBitMask = 0;
+            }
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the EVENT_SUPPORTED_REPORT command.
      * <p>
@@ -461,6 +581,66 @@ public class CommandClassNotificationV5 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the NOTIFICATION_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Notification Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param v1AlarmType {@link Integer}
+     * @param notificationType {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>SMOKE
+     *            <li>CO
+     *            <li>CO2
+     *            <li>HEAT
+     *            <li>WATER
+     *            <li>ACCESS_CONTROL
+     *            <li>HOME_SECURITY
+     *            <li>POWER_MANAGEMENT
+     *            <li>SYSTEM
+     *            <li>EMERGENCY
+     *            <li>CLOCK
+     *            <li>APPLIANCE
+     *            <li>HOME_HEALTH
+     *            </ul>
+     * @param event {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getNotificationGet(ByteBuffer buffer, Integer v1AlarmType, String notificationType,
+            Integer event) {
+        logger.debug("Creating command message NOTIFICATION_GET version 5");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) NOTIFICATION_GET);
+
+        // Process 'V1 Alarm Type'
+        buffer.put(v1AlarmType.byteValue());
+
+        // Process 'Notification Type'
+        boolean foundNotificationType = false;
+        for (Integer entry : constantNotificationGetNotificationType.keySet()) {
+            if (constantNotificationGetNotificationType.get(entry).equals(notificationType)) {
+                buffer.put(entry.byteValue());
+                foundNotificationType = true;
+                break;
+            }
+        }
+        if (!foundNotificationType) {
+            throw new IllegalArgumentException("Unknown constant value '" + notificationType + "' for notificationType");
+        }
+
+        // Process 'Event'
+        buffer.put(event.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the NOTIFICATION_GET command.
      * <p>
@@ -600,6 +780,113 @@ public class CommandClassNotificationV5 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the NOTIFICATION_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Notification Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param v1AlarmType {@link Integer}
+     * @param v1AlarmLevel {@link Integer}
+     * @param notificationStatus {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NO_PENDING_NOTIFICATIONS
+     *            <li>OFF
+     *            <li>ON
+     *            </ul>
+     * @param notificationType {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>SMOKE
+     *            <li>CO
+     *            <li>CO2
+     *            <li>HEAT
+     *            <li>WATER
+     *            <li>ACCESS_CONTROL
+     *            <li>HOME_SECURITY
+     *            <li>POWER_MANAGEMENT
+     *            <li>SYSTEM
+     *            <li>EMERGENCY
+     *            <li>CLOCK
+     *            <li>APPLIANCE
+     *            <li>HOME_HEALTH
+     *            </ul>
+     * @param event {@link Integer}
+     * @param sequence {@link Boolean}
+     * @param eventParameter {@link byte[]}
+     * @param sequenceNumber {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getNotificationReport(ByteBuffer buffer, Integer v1AlarmType, Integer v1AlarmLevel,
+            String notificationStatus, String notificationType, Integer event, Boolean sequence, byte[] eventParameter,
+            Integer sequenceNumber) {
+        logger.debug("Creating command message NOTIFICATION_REPORT version 5");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) NOTIFICATION_REPORT);
+
+        // Process 'V1 Alarm Type'
+        buffer.put(v1AlarmType.byteValue());
+
+        // Process 'V1 Alarm Level'
+        buffer.put(v1AlarmLevel.byteValue());
+
+        // Process 'Reserved'
+        buffer.put((byte) 0);
+
+        // Process 'Notification Status'
+        boolean foundNotificationStatus = false;
+        for (Integer entry : constantNotificationReportNotificationStatus.keySet()) {
+            if (constantNotificationReportNotificationStatus.get(entry).equals(notificationStatus)) {
+                buffer.put(entry.byteValue());
+                foundNotificationStatus = true;
+                break;
+            }
+        }
+        if (!foundNotificationStatus) {
+            throw new IllegalArgumentException("Unknown constant value '" + notificationStatus + "' for notificationStatus");
+        }
+
+        // Process 'Notification Type'
+        boolean foundNotificationType = false;
+        for (Integer entry : constantNotificationReportNotificationType.keySet()) {
+            if (constantNotificationReportNotificationType.get(entry).equals(notificationType)) {
+                buffer.put(entry.byteValue());
+                foundNotificationType = true;
+                break;
+            }
+        }
+        if (!foundNotificationType) {
+            throw new IllegalArgumentException("Unknown constant value '" + notificationType + "' for notificationType");
+        }
+
+        // Process 'Event'
+        buffer.put(event.byteValue());
+
+        // Process 'Properties1'
+        // Event Parameters Length is used by 'Event Parameter'
+        int eventParametersLength = eventParameter.length;
+        int valProperties1 = 0;
+        valProperties1 |= eventParametersLength & 0x1F;
+        valProperties1 |= sequence ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Event Parameter'
+        if (eventParameter != null) {
+            buffer.put(eventParameter);
+        }
+
+        // Process 'Sequence Number'
+        buffer.put(sequenceNumber.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the NOTIFICATION_REPORT command.
      * <p>
@@ -740,6 +1027,77 @@ public class CommandClassNotificationV5 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the NOTIFICATION_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Notification Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param notificationType {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>SMOKE
+     *            <li>CO
+     *            <li>CO2
+     *            <li>HEAT
+     *            <li>WATER
+     *            <li>ACCESS_CONTROL
+     *            <li>HOME_SECURITY
+     *            <li>POWER_MANAGEMENT
+     *            <li>SYSTEM
+     *            <li>EMERGENCY
+     *            <li>CLOCK
+     *            <li>APPLIANCE
+     *            <li>HOME_HEALTH
+     *            </ul>
+     * @param notificationStatus {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NO_PENDING_NOTIFICATIONS
+     *            <li>OFF
+     *            <li>ON
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getNotificationSet(ByteBuffer buffer, String notificationType, String notificationStatus) {
+        logger.debug("Creating command message NOTIFICATION_SET version 5");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) NOTIFICATION_SET);
+
+        // Process 'Notification Type'
+        boolean foundNotificationType = false;
+        for (Integer entry : constantNotificationSetNotificationType.keySet()) {
+            if (constantNotificationSetNotificationType.get(entry).equals(notificationType)) {
+                buffer.put(entry.byteValue());
+                foundNotificationType = true;
+                break;
+            }
+        }
+        if (!foundNotificationType) {
+            throw new IllegalArgumentException("Unknown constant value '" + notificationType + "' for notificationType");
+        }
+
+        // Process 'Notification Status'
+        boolean foundNotificationStatus = false;
+        for (Integer entry : constantNotificationSetNotificationStatus.keySet()) {
+            if (constantNotificationSetNotificationStatus.get(entry).equals(notificationStatus)) {
+                buffer.put(entry.byteValue());
+                foundNotificationStatus = true;
+                break;
+            }
+        }
+        if (!foundNotificationStatus) {
+            throw new IllegalArgumentException("Unknown constant value '" + notificationStatus + "' for notificationStatus");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the NOTIFICATION_SET command.
      * <p>
@@ -787,6 +1145,27 @@ public class CommandClassNotificationV5 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the NOTIFICATION_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Notification Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getNotificationSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message NOTIFICATION_SUPPORTED_GET version 5");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) NOTIFICATION_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the NOTIFICATION_SUPPORTED_GET command.
      * <p>
@@ -862,6 +1241,68 @@ public class CommandClassNotificationV5 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the NOTIFICATION_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Notification Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param v1Alarm {@link Boolean}
+     * @param bitMask {@link List<String>}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>SMOKE
+     *            <li>CO
+     *            <li>CO2
+     *            <li>HEAT
+     *            <li>WATER
+     *            <li>ACCESS_CONTROL
+     *            <li>HOME_SECURITY
+     *            <li>POWER_MANAGEMENT
+     *            <li>SYSTEM
+     *            <li>EMERGENCY
+     *            <li>CLOCK
+     *            <li>APPLIANCE
+     *            <li>HOME_HEALTH
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getNotificationSupportedReport(ByteBuffer buffer, Boolean v1Alarm, List<String> bitMask) {
+        logger.debug("Creating command message NOTIFICATION_SUPPORTED_REPORT version 5");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) NOTIFICATION_SUPPORTED_REPORT);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= 4;
+        valProperties1 |= v1Alarm ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Bit Mask'
+        int valBitMask = 0;
+        for (String value : bitMask) {
+            boolean foundBitMask = false;
+            for (Integer entry : constantNotificationSupportedReportBitMask.keySet()) {
+                if (constantNotificationSupportedReportBitMask.get(entry).equals(value)) {
+                    foundBitMask = true;
+                    valBitMask += entry;
+                    break;
+                }
+            }
+            if (!foundBitMask) {
+                throw new IllegalArgumentException("Unknown constant value '" + bitMask + "' for bitMask");
+            }
+        }
+        buffer.put((byte) valBitMask);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the NOTIFICATION_SUPPORTED_REPORT command.
      * <p>
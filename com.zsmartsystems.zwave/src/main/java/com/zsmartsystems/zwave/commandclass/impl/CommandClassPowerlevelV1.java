@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -181,6 +182,58 @@ public class CommandClassPowerlevelV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the POWERLEVEL_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Powerlevel Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param powerLevel {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NORMALPOWER
+     *            <li>MINUS1DBM
+     *            <li>MINUS2DBM
+     *            <li>MINUS3DBM
+     *            <li>MINUS4DBM
+     *            <li>MINUS5DBM
+     *            <li>MINUS6DBM
+     *            <li>MINUS7DBM
+     *            <li>MINUS8DBM
+     *            <li>MINUS9DBM
+     *            </ul>
+     * @param timeout {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getPowerlevelSet(ByteBuffer buffer, String powerLevel, Integer timeout) {
+        logger.debug("Creating command message POWERLEVEL_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) POWERLEVEL_SET);
+
+        // Process 'Power level'
+        boolean foundPowerLevel = false;
+        for (Integer entry : constantPowerlevelSetPowerLevel.keySet()) {
+            if (constantPowerlevelSetPowerLevel.get(entry).equals(powerLevel)) {
+                buffer.put(entry.byteValue());
+                foundPowerLevel = true;
+                break;
+            }
+        }
+        if (!foundPowerLevel) {
+            throw new IllegalArgumentException("Unknown constant value '" + powerLevel + "' for powerLevel");
+        }
+
+        // Process 'Timeout'
+        buffer.put(timeout.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the POWERLEVEL_SET command.
      * <p>
@@ -228,6 +281,27 @@ public class CommandClassPowerlevelV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the POWERLEVEL_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Powerlevel Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getPowerlevelGet(ByteBuffer buffer) {
+        logger.debug("Creating command message POWERLEVEL_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) POWERLEVEL_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the POWERLEVEL_GET command.
      * <p>
@@ -293,6 +367,58 @@ public class CommandClassPowerlevelV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the POWERLEVEL_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Powerlevel Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param powerLevel {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NORMALPOWER
+     *            <li>MINUS1DBM
+     *            <li>MINUS2DBM
+     *            <li>MINUS3DBM
+     *            <li>MINUS4DBM
+     *            <li>MINUS5DBM
+     *            <li>MINUS6DBM
+     *            <li>MINUS7DBM
+     *            <li>MINUS8DBM
+     *            <li>MINUS9DBM
+     *            </ul>
+     * @param timeout {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getPowerlevelReport(ByteBuffer buffer, String powerLevel, Integer timeout) {
+        logger.debug("Creating command message POWERLEVEL_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) POWERLEVEL_REPORT);
+
+        // Process 'Power level'
+        boolean foundPowerLevel = false;
+        for (Integer entry : constantPowerlevelReportPowerLevel.keySet()) {
+            if (constantPowerlevelReportPowerLevel.get(entry).equals(powerLevel)) {
+                buffer.put(entry.byteValue());
+                foundPowerLevel = true;
+                break;
+            }
+        }
+        if (!foundPowerLevel) {
+            throw new IllegalArgumentException("Unknown constant value '" + powerLevel + "' for powerLevel");
+        }
+
+        // Process 'Timeout'
+        buffer.put(timeout.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the POWERLEVEL_REPORT command.
      * <p>
@@ -381,6 +507,70 @@ public class CommandClassPowerlevelV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the POWERLEVEL_TEST_NODE_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Powerlevel Test Node Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param testNodeid {@link Integer}
+     * @param powerLevel {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NORMALPOWER
+     *            <li>MINUS1DBM
+     *            <li>MINUS2DBM
+     *            <li>MINUS3DBM
+     *            <li>MINUS4DBM
+     *            <li>MINUS5DBM
+     *            <li>MINUS6DBM
+     *            <li>MINUS7DBM
+     *            <li>MINUS8DBM
+     *            <li>MINUS9DBM
+     *            </ul>
+     * @param testFrameCount {@link Integer}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getPowerlevelTestNodeSet(ByteBuffer buffer, Integer testNodeid, String powerLevel,
+            Integer testFrameCount) {
+        logger.debug("Creating command message POWERLEVEL_TEST_NODE_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) POWERLEVEL_TEST_NODE_SET);
+
+        // Process 'Test NodeID'
+        // Check the node number boundary
+        if (testNodeid < 1 || testNodeid > 232) {
+            logger.debug("Node number is out of bounds {}", testNodeid);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(testNodeid.byteValue());
+
+        // Process 'Power level'
+        boolean foundPowerLevel = false;
+        for (Integer entry : constantPowerlevelTestNodeSetPowerLevel.keySet()) {
+            if (constantPowerlevelTestNodeSetPowerLevel.get(entry).equals(powerLevel)) {
+                buffer.put(entry.byteValue());
+                foundPowerLevel = true;
+                break;
+            }
+        }
+        if (!foundPowerLevel) {
+            throw new IllegalArgumentException("Unknown constant value '" + powerLevel + "' for powerLevel");
+        }
+
+        // Process 'Test frame count'
+        buffer.put((byte) ((testFrameCount >> 8) & 0xff));
+        buffer.put((byte) (testFrameCount & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the POWERLEVEL_TEST_NODE_SET command.
      * <p>
@@ -432,6 +622,27 @@ public class CommandClassPowerlevelV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the POWERLEVEL_TEST_NODE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Powerlevel Test Node Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getPowerlevelTestNodeGet(ByteBuffer buffer) {
+        logger.debug("Creating command message POWERLEVEL_TEST_NODE_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) POWERLEVEL_TEST_NODE_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the POWERLEVEL_TEST_NODE_GET command.
      * <p>
@@ -509,6 +720,71 @@ public class CommandClassPowerlevelV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the POWERLEVEL_TEST_NODE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Powerlevel Test Node Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param testNodeid {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>ZW_TEST_NOT_A_NODEID
+     *            </ul>
+     * @param statusOfOperation {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>ZW_TEST_FAILED
+     *            <li>ZW_TEST_SUCCES
+     *            <li>ZW_TEST_INPROGRESS
+     *            </ul>
+     * @param testFrameCount {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getPowerlevelTestNodeReport(ByteBuffer buffer, String testNodeid, String statusOfOperation,
+            Integer testFrameCount) {
+        logger.debug("Creating command message POWERLEVEL_TEST_NODE_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) POWERLEVEL_TEST_NODE_REPORT);
+
+        // Process 'Test NodeID'
+        boolean foundTestNodeid = false;
+        for (Integer entry : constantPowerlevelTestNodeReportTestNodeid.keySet()) {
+            if (constantPowerlevelTestNodeReportTestNodeid.get(entry).equals(testNodeid)) {
+                buffer.put(entry.byteValue());
+                foundTestNodeid = true;
+                break;
+            }
+        }
+        if (!foundTestNodeid) {
+            throw new IllegalArgumentException("Unknown constant value '" + testNodeid + "' for testNodeid");
+        }
+
+        // Process 'Status of operation'
+        boolean foundStatusOfOperation = false;
+        for (Integer entry : constantPowerlevelTestNodeReportStatusOfOperation.keySet()) {
+            if (constantPowerlevelTestNodeReportStatusOfOperation.get(entry).equals(statusOfOperation)) {
+                buffer.put(entry.byteValue());
+                foundStatusOfOperation = true;
+                break;
+            }
+        }
+        if (!foundStatusOfOperation) {
+            throw new IllegalArgumentException("Unknown constant value '" + statusOfOperation + "' for statusOfOperation");
+        }
+
+        // Process 'Test Frame Count'
+        buffer.put((byte) ((testFrameCount >> 8) & 0xff));
+        buffer.put((byte) (testFrameCount & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the POWERLEVEL_TEST_NODE_REPORT command.
      * <p>
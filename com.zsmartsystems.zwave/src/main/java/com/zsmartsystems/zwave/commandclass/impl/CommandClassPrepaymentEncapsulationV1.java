@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -69,6 +70,33 @@ public class CommandClassPrepaymentEncapsulationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CMD_ENCAPSULATION command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Cmd Encapsulation
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param data {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCmdEncapsulation(ByteBuffer buffer, byte[] data) {
+        logger.debug("Creating command message CMD_ENCAPSULATION version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CMD_ENCAPSULATION);
+
+        // Process 'Data'
+        if (data != null) {
+            buffer.put(data);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CMD_ENCAPSULATION command.
      * <p>
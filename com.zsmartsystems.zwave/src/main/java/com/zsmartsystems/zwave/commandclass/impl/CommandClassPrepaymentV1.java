@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -86,6 +87,42 @@ public class CommandClassPrepaymentV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the PREPAYMENT_BALANCE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Prepayment Balance Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param balanceType {@link String}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getPrepaymentBalanceGet(ByteBuffer buffer, String balanceType) {
+        logger.debug("Creating command message PREPAYMENT_BALANCE_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) PREPAYMENT_BALANCE_GET);
+
+        // Process 'Properties1'
+        int valbalanceType;
+        switch (balanceType) {
+            case "UTILITY":
+                valbalanceType = 0;
+                break;
+            case "MONETARY":
+                valbalanceType = 1;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for balanceType: " + balanceType);
+        }
+        buffer.put((byte) (valbalanceType >> 6 & 0xC0));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the PREPAYMENT_BALANCE_GET command.
      * <p>
@@ -191,6 +228,80 @@ public class CommandClassPrepaymentV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the PREPAYMENT_BALANCE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Prepayment Balance Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param meterType {@link Integer}
+     * @param balanceType {@link Integer}
+     * @param scale {@link Integer}
+     * @param balancePrecision {@link Integer}
+     * @param balanceValue {@link Long}
+     * @param debtPrecision {@link Integer}
+     * @param debt {@link Long}
+     * @param emerCreditPrecision {@link Integer}
+     * @param emerCredit {@link Long}
+     * @param debtRecoveryPercentage {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getPrepaymentBalanceReport(ByteBuffer buffer, Integer meterType, Integer balanceType,
+            Integer scale, Integer balancePrecision, Long balanceValue, Integer debtPrecision, Long debt,
+            Integer emerCreditPrecision, Long emerCredit, Integer debtRecoveryPercentage) {
+        logger.debug("Creating command message PREPAYMENT_BALANCE_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) PREPAYMENT_BALANCE_REPORT);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= meterType & 0x3F;
+        valProperties1 |= ((balanceType << 6) & 0xC0);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Properties2'
+        int valProperties2 = 0;
+        valProperties2 |= scale & 0x1F;
+        valProperties2 |= ((balancePrecision << 5) & 0xE0);
+        buffer.put((byte) valProperties2);
+
+        // Process 'Balance Value'
+        buffer.put((byte) ((balanceValue >> 24) & 0xff));
+        buffer.put((byte) ((balanceValue >> 16) & 0xff));
+        buffer.put((byte) ((balanceValue >> 8) & 0xff));
+        buffer.put((byte) (balanceValue & 0xff));
+
+        // Process 'Properties3'
+        buffer.put((byte) ((debtPrecision << 5) & 0xE0));
+
+        // Process 'Debt'
+        buffer.put((byte) ((debt >> 24) & 0xff));
+        buffer.put((byte) ((debt >> 16) & 0xff));
+        buffer.put((byte) ((debt >> 8) & 0xff));
+        buffer.put((byte) (debt & 0xff));
+
+        // Process 'Properties4'
+        buffer.put((byte) ((emerCreditPrecision << 5) & 0xE0));
+
+        // Process 'Emer Credit'
+        buffer.put((byte) ((emerCredit >> 24) & 0xff));
+        buffer.put((byte) ((emerCredit >> 16) & 0xff));
+        buffer.put((byte) ((emerCredit >> 8) & 0xff));
+        buffer.put((byte) (emerCredit & 0xff));
+
+        // Process 'Currency'
+
+        // Process 'Debt Recovery Percentage'
+        buffer.put(debtRecoveryPercentage.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the PREPAYMENT_BALANCE_REPORT command.
      * <p>
@@ -268,6 +379,27 @@ public class CommandClassPrepaymentV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the PREPAYMENT_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Prepayment Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getPrepaymentSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message PREPAYMENT_SUPPORTED_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) PREPAYMENT_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the PREPAYMENT_SUPPORTED_GET command.
      * <p>
@@ -306,6 +438,31 @@ public class CommandClassPrepaymentV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the PREPAYMENT_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Prepayment Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param typesSupported {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getPrepaymentSupportedReport(ByteBuffer buffer, Integer typesSupported) {
+        logger.debug("Creating command message PREPAYMENT_SUPPORTED_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) PREPAYMENT_SUPPORTED_REPORT);
+
+        // Process 'Properties1'
+        buffer.put((byte) (typesSupported & 0x0F));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the PREPAYMENT_SUPPORTED_REPORT command.
      * <p>
@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -77,6 +78,33 @@ public class CommandClassProprietaryV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the PROPRIETARY_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Proprietary Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param data {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getProprietarySet(ByteBuffer buffer, byte[] data) {
+        logger.debug("Creating command message PROPRIETARY_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) PROPRIETARY_SET);
+
+        // Process 'Data'
+        if (data != null) {
+            buffer.put(data);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the PROPRIETARY_SET command.
      * <p>
@@ -137,6 +165,33 @@ public class CommandClassProprietaryV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the PROPRIETARY_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Proprietary Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param data {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getProprietaryGet(ByteBuffer buffer, byte[] data) {
+        logger.debug("Creating command message PROPRIETARY_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) PROPRIETARY_GET);
+
+        // Process 'Data'
+        if (data != null) {
+            buffer.put(data);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the PROPRIETARY_GET command.
      * <p>
@@ -197,6 +252,33 @@ public class CommandClassProprietaryV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the PROPRIETARY_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Proprietary Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param data {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getProprietaryReport(ByteBuffer buffer, byte[] data) {
+        logger.debug("Creating command message PROPRIETARY_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) PROPRIETARY_REPORT);
+
+        // Process 'Data'
+        if (data != null) {
+            buffer.put(data);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the PROPRIETARY_REPORT command.
      * <p>
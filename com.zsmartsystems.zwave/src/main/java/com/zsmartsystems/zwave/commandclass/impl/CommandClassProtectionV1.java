@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -109,6 +110,47 @@ public class CommandClassProtectionV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the PROTECTION_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Protection Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param protectionState {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>UNPROTECTED
+     *            <li>PROTECTION_BY_SEQUENCE
+     *            <li>NO_OPERATION_POSSIBLE
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getProtectionSet(ByteBuffer buffer, String protectionState) {
+        logger.debug("Creating command message PROTECTION_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) PROTECTION_SET);
+
+        // Process 'Protection State'
+        boolean foundProtectionState = false;
+        for (Integer entry : constantProtectionSetProtectionState.keySet()) {
+            if (constantProtectionSetProtectionState.get(entry).equals(protectionState)) {
+                buffer.put(entry.byteValue());
+                foundProtectionState = true;
+                break;
+            }
+        }
+        if (!foundProtectionState) {
+            throw new IllegalArgumentException("Unknown constant value '" + protectionState + "' for protectionState");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the PROTECTION_SET command.
      * <p>
@@ -152,6 +194,27 @@ public class CommandClassProtectionV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the PROTECTION_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Protection Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getProtectionGet(ByteBuffer buffer) {
+        logger.debug("Creating command message PROTECTION_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) PROTECTION_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the PROTECTION_GET command.
      * <p>
@@ -206,6 +269,47 @@ public class CommandClassProtectionV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the PROTECTION_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Protection Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param protectionState {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>UNPROTECTED
+     *            <li>PROTECTION_BY_SEQUENCE
+     *            <li>NO_OPERATION_POSSIBLE
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getProtectionReport(ByteBuffer buffer, String protectionState) {
+        logger.debug("Creating command message PROTECTION_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) PROTECTION_REPORT);
+
+        // Process 'Protection State'
+        boolean foundProtectionState = false;
+        for (Integer entry : constantProtectionReportProtectionState.keySet()) {
+            if (constantProtectionReportProtectionState.get(entry).equals(protectionState)) {
+                buffer.put(entry.byteValue());
+                foundProtectionState = true;
+                break;
+            }
+        }
+        if (!foundProtectionState) {
+            throw new IllegalArgumentException("Unknown constant value '" + protectionState + "' for protectionState");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the PROTECTION_REPORT command.
      * <p>
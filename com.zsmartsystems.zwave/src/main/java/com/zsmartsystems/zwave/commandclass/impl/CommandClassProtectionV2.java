@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -136,6 +137,35 @@ public class CommandClassProtectionV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the PROTECTION_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Protection Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param localProtectionState {@link Integer}
+     * @param rfProtectionState {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getProtectionSet(ByteBuffer buffer, Integer localProtectionState, Integer rfProtectionState) {
+        logger.debug("Creating command message PROTECTION_SET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) PROTECTION_SET);
+
+        // Process 'Level'
+        buffer.put((byte) (localProtectionState & 0x0F));
+
+        // Process 'Level2'
+        buffer.put((byte) (rfProtectionState & 0x0F));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the PROTECTION_SET command.
      * <p>
@@ -183,6 +213,27 @@ public class CommandClassProtectionV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the PROTECTION_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Protection Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getProtectionGet(ByteBuffer buffer) {
+        logger.debug("Creating command message PROTECTION_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) PROTECTION_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the PROTECTION_GET command.
      * <p>
@@ -225,6 +276,35 @@ public class CommandClassProtectionV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the PROTECTION_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Protection Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param localProtectionState {@link Integer}
+     * @param rfProtectionState {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getProtectionReport(ByteBuffer buffer, Integer localProtectionState, Integer rfProtectionState) {
+        logger.debug("Creating command message PROTECTION_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) PROTECTION_REPORT);
+
+        // Process 'Level'
+        buffer.put((byte) (localProtectionState & 0x0F));
+
+        // Process 'Level2'
+        buffer.put((byte) (rfProtectionState & 0x0F));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the PROTECTION_REPORT command.
      * <p>
@@ -272,6 +352,27 @@ public class CommandClassProtectionV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the PROTECTION_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Protection Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getProtectionSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message PROTECTION_SUPPORTED_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) PROTECTION_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the PROTECTION_SUPPORTED_GET command.
      * <p>
@@ -325,6 +426,46 @@ public class CommandClassProtectionV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the PROTECTION_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Protection Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param timeout {@link Boolean}
+     * @param exclusiveControl {@link Boolean}
+     * @param localProtectionState {@link Integer}
+     * @param rfProtectionState {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getProtectionSupportedReport(ByteBuffer buffer, Boolean timeout, Boolean exclusiveControl,
+            Integer localProtectionState, Integer rfProtectionState) {
+        logger.debug("Creating command message PROTECTION_SUPPORTED_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) PROTECTION_SUPPORTED_REPORT);
+
+        // Process 'Level'
+        int valLevel = 0;
+        valLevel |= timeout ? 0x01 : 0;
+        valLevel |= exclusiveControl ? 0x02 : 0;
+        buffer.put((byte) valLevel);
+
+        // Process 'Local Protection State'
+        buffer.put((byte) ((localProtectionState >> 8) & 0xff));
+        buffer.put((byte) (localProtectionState & 0xff));
+
+        // Process 'RF Protection State'
+        buffer.put((byte) ((rfProtectionState >> 8) & 0xff));
+        buffer.put((byte) (rfProtectionState & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the PROTECTION_SUPPORTED_REPORT command.
      * <p>
@@ -387,6 +528,37 @@ public class CommandClassProtectionV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the PROTECTION_EC_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Protection Ec Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param nodeId {@link Integer}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getProtectionEcSet(ByteBuffer buffer, Integer nodeId) {
+        logger.debug("Creating command message PROTECTION_EC_SET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) PROTECTION_EC_SET);
+
+        // Process 'Node ID'
+        // Check the node number boundary
+        if (nodeId < 1 || nodeId > 232) {
+            logger.debug("Node number is out of bounds {}", nodeId);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(nodeId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the PROTECTION_EC_SET command.
      * <p>
@@ -430,6 +602,27 @@ public class CommandClassProtectionV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the PROTECTION_EC_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Protection Ec Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getProtectionEcGet(ByteBuffer buffer) {
+        logger.debug("Creating command message PROTECTION_EC_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) PROTECTION_EC_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the PROTECTION_EC_GET command.
      * <p>
@@ -473,6 +666,37 @@ public class CommandClassProtectionV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the PROTECTION_EC_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Protection Ec Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param nodeId {@link Integer}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getProtectionEcReport(ByteBuffer buffer, Integer nodeId) {
+        logger.debug("Creating command message PROTECTION_EC_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) PROTECTION_EC_REPORT);
+
+        // Process 'Node ID'
+        // Check the node number boundary
+        if (nodeId < 1 || nodeId > 232) {
+            logger.debug("Node number is out of bounds {}", nodeId);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(nodeId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the PROTECTION_EC_REPORT command.
      * <p>
@@ -535,6 +759,46 @@ public class CommandClassProtectionV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the PROTECTION_TIMEOUT_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Protection Timeout Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param timeout {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NO_TIMER_IS_SET
+     *            <li>NO_TIMEOUT
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getProtectionTimeoutSet(ByteBuffer buffer, String timeout) {
+        logger.debug("Creating command message PROTECTION_TIMEOUT_SET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) PROTECTION_TIMEOUT_SET);
+
+        // Process 'Timeout'
+        boolean foundTimeout = false;
+        for (Integer entry : constantProtectionTimeoutSetTimeout.keySet()) {
+            if (constantProtectionTimeoutSetTimeout.get(entry).equals(timeout)) {
+                buffer.put(entry.byteValue());
+                foundTimeout = true;
+                break;
+            }
+        }
+        if (!foundTimeout) {
+            throw new IllegalArgumentException("Unknown constant value '" + timeout + "' for timeout");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the PROTECTION_TIMEOUT_SET command.
      * <p>
@@ -578,6 +842,27 @@ public class CommandClassProtectionV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the PROTECTION_TIMEOUT_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Protection Timeout Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getProtectionTimeoutGet(ByteBuffer buffer) {
+        logger.debug("Creating command message PROTECTION_TIMEOUT_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) PROTECTION_TIMEOUT_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the PROTECTION_TIMEOUT_GET command.
      * <p>
@@ -631,6 +916,46 @@ public class CommandClassProtectionV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the PROTECTION_TIMEOUT_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Protection Timeout Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param timeout {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NO_TIMER_IS_SET
+     *            <li>NO_TIMEOUT_IS_SET
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getProtectionTimeoutReport(ByteBuffer buffer, String timeout) {
+        logger.debug("Creating command message PROTECTION_TIMEOUT_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) PROTECTION_TIMEOUT_REPORT);
+
+        // Process 'Timeout'
+        boolean foundTimeout = false;
+        for (Integer entry : constantProtectionTimeoutReportTimeout.keySet()) {
+            if (constantProtectionTimeoutReportTimeout.get(entry).equals(timeout)) {
+                buffer.put(entry.byteValue());
+                foundTimeout = true;
+                break;
+            }
+        }
+        if (!foundTimeout) {
+            throw new IllegalArgumentException("Unknown constant value '" + timeout + "' for timeout");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the PROTECTION_TIMEOUT_REPORT command.
      * <p>
@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -152,6 +153,103 @@ public class CommandClassRateTblConfigV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the RATE_TBL_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Rate Tbl Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param rateParameterSetId {@link Integer}
+     * @param rateType {@link Integer}
+     * @param rateCharacter {@link byte[]}
+     * @param startHourLocalTime {@link Integer}
+     * @param startMinuteLocalTime {@link Integer}
+     * @param durationMinute {@link Integer}
+     * @param consumptionScale {@link Integer}
+     * @param consumptionPrecision {@link Integer}
+     * @param minConsumptionValue {@link Long}
+     * @param maxConsumptionValue {@link Long}
+     * @param maxDemandScale {@link Integer}
+     * @param maxDemandPrecision {@link Integer}
+     * @param maxDemandValue {@link Long}
+     * @param dcpRateId {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getRateTblSet(ByteBuffer buffer, Integer rateParameterSetId, Integer rateType,
+            byte[] rateCharacter, Integer startHourLocalTime, Integer startMinuteLocalTime, Integer durationMinute,
+            Integer consumptionScale, Integer consumptionPrecision, Long minConsumptionValue, Long maxConsumptionValue,
+            Integer maxDemandScale, Integer maxDemandPrecision, Long maxDemandValue, Integer dcpRateId) {
+        logger.debug("Creating command message RATE_TBL_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) RATE_TBL_SET);
+
+        // Process 'Rate Parameter Set ID'
+        buffer.put(rateParameterSetId.byteValue());
+
+        // Process 'Properties1'
+        // Number of Rate Char is used by 'Rate Character'
+        int numberOfRateChar = rateCharacter.length;
+        int valProperties1 = 0;
+        valProperties1 |= numberOfRateChar & 0x1F;
+        valProperties1 |= ((rateType << 5) & 0x60);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Rate Character'
+        if (rateCharacter != null) {
+            buffer.put(rateCharacter);
+        }
+
+        // Process 'Start Hour Local Time'
+        buffer.put(startHourLocalTime.byteValue());
+
+        // Process 'Start Minute Local Time'
+        buffer.put(startMinuteLocalTime.byteValue());
+
+        // Process 'Duration Minute'
+        buffer.put((byte) ((durationMinute >> 8) & 0xff));
+        buffer.put((byte) (durationMinute & 0xff));
+
+        // Process 'Properties2'
+        int valProperties2 = 0;
+        valProperties2 |= consumptionScale & 0x1F;
+        valProperties2 |= ((consumptionPrecision << 5) & 0xE0);
+        buffer.put((byte) valProperties2);
+
+        // Process 'Min Consumption Value'
+        buffer.put((byte) ((minConsumptionValue >> 24) & 0xff));
+        buffer.put((byte) ((minConsumptionValue >> 16) & 0xff));
+        buffer.put((byte) ((minConsumptionValue >> 8) & 0xff));
+        buffer.put((byte) (minConsumptionValue & 0xff));
+
+        // Process 'Max Consumption Value'
+        buffer.put((byte) ((maxConsumptionValue >> 24) & 0xff));
+        buffer.put((byte) ((maxConsumptionValue >> 16) & 0xff));
+        buffer.put((byte) ((maxConsumptionValue >> 8) & 0xff));
+        buffer.put((byte) (maxConsumptionValue & 0xff));
+
+        // Process 'Properties3'
+        int valProperties3 = 0;
+        valProperties3 |= maxDemandScale & 0x1F;
+        valProperties3 |= ((maxDemandPrecision << 5) & 0xE0);
+        buffer.put((byte) valProperties3);
+
+        // Process 'Max Demand Value'
+        buffer.put((byte) ((maxDemandValue >> 24) & 0xff));
+        buffer.put((byte) ((maxDemandValue >> 16) & 0xff));
+        buffer.put((byte) ((maxDemandValue >> 8) & 0xff));
+        buffer.put((byte) (maxDemandValue & 0xff));
+
+        // Process 'DCP Rate ID'
+        buffer.put(dcpRateId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the RATE_TBL_SET command.
      * <p>
@@ -278,6 +376,38 @@ public class CommandClassRateTblConfigV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the RATE_TBL_REMOVE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Rate Tbl Remove
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param rateParameterSetId {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getRateTblRemove(ByteBuffer buffer, byte[] rateParameterSetId) {
+        logger.debug("Creating command message RATE_TBL_REMOVE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) RATE_TBL_REMOVE);
+
+        // Process 'Properties1'
+        // Rate Parameter Set IDs is used by 'Rate Parameter Set ID'
+        int rateParameterSetIds = rateParameterSetId.length;
+        buffer.put((byte) (rateParameterSetIds & 0x3F));
+
+        // Process 'Rate Parameter Set ID'
+        if (rateParameterSetId != null) {
+            buffer.put(rateParameterSetId);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the RATE_TBL_REMOVE command.
      * <p>
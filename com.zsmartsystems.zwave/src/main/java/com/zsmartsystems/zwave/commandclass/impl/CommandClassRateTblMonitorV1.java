@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -107,6 +108,27 @@ public class CommandClassRateTblMonitorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the RATE_TBL_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Rate Tbl Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getRateTblSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message RATE_TBL_SUPPORTED_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) RATE_TBL_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the RATE_TBL_SUPPORTED_GET command.
      * <p>
@@ -150,6 +172,37 @@ public class CommandClassRateTblMonitorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the RATE_TBL_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Rate Tbl Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param ratesSupported {@link Integer}
+     * @param parameterSetSupportedBitMask {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getRateTblSupportedReport(ByteBuffer buffer, Integer ratesSupported,
+            Integer parameterSetSupportedBitMask) {
+        logger.debug("Creating command message RATE_TBL_SUPPORTED_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) RATE_TBL_SUPPORTED_REPORT);
+
+        // Process 'Rates Supported'
+        buffer.put(ratesSupported.byteValue());
+
+        // Process 'Parameter Set Supported Bit Mask'
+        buffer.put((byte) ((parameterSetSupportedBitMask >> 8) & 0xff));
+        buffer.put((byte) (parameterSetSupportedBitMask & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the RATE_TBL_SUPPORTED_REPORT command.
      * <p>
@@ -201,6 +254,31 @@ public class CommandClassRateTblMonitorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the RATE_TBL_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Rate Tbl Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param rateParameterSetId {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getRateTblGet(ByteBuffer buffer, Integer rateParameterSetId) {
+        logger.debug("Creating command message RATE_TBL_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) RATE_TBL_GET);
+
+        // Process 'Rate Parameter Set ID'
+        buffer.put(rateParameterSetId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the RATE_TBL_GET command.
      * <p>
@@ -323,6 +401,103 @@ public class CommandClassRateTblMonitorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the RATE_TBL_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Rate Tbl Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param rateParameterSetId {@link Integer}
+     * @param rateType {@link Integer}
+     * @param rateCharacter {@link byte[]}
+     * @param startHourLocalTime {@link Integer}
+     * @param startMinuteLocalTime {@link Integer}
+     * @param durationMinute {@link Integer}
+     * @param consumptionScale {@link Integer}
+     * @param consumptionPrecision {@link Integer}
+     * @param minConsumptionValue {@link Long}
+     * @param maxConsumptionValue {@link Long}
+     * @param maxDemandScale {@link Integer}
+     * @param maxDemandPrecision {@link Integer}
+     * @param maxDemandValue {@link Long}
+     * @param dcpRateId {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getRateTblReport(ByteBuffer buffer, Integer rateParameterSetId, Integer rateType,
+            byte[] rateCharacter, Integer startHourLocalTime, Integer startMinuteLocalTime, Integer durationMinute,
+            Integer consumptionScale, Integer consumptionPrecision, Long minConsumptionValue, Long maxConsumptionValue,
+            Integer maxDemandScale, Integer maxDemandPrecision, Long maxDemandValue, Integer dcpRateId) {
+        logger.debug("Creating command message RATE_TBL_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) RATE_TBL_REPORT);
+
+        // Process 'Rate Parameter Set ID'
+        buffer.put(rateParameterSetId.byteValue());
+
+        // Process 'Properties1'
+        // Number of Rate Char is used by 'Rate Character'
+        int numberOfRateChar = rateCharacter.length;
+        int valProperties1 = 0;
+        valProperties1 |= numberOfRateChar & 0x1F;
+        valProperties1 |= ((rateType << 5) & 0x60);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Rate Character'
+        if (rateCharacter != null) {
+            buffer.put(rateCharacter);
+        }
+
+        // Process 'Start Hour Local Time'
+        buffer.put(startHourLocalTime.byteValue());
+
+        // Process 'Start Minute Local Time'
+        buffer.put(startMinuteLocalTime.byteValue());
+
+        // Process 'Duration Minute'
+        buffer.put((byte) ((durationMinute >> 8) & 0xff));
+        buffer.put((byte) (durationMinute & 0xff));
+
+        // Process 'Properties2'
+        int valProperties2 = 0;
+        valProperties2 |= consumptionScale & 0x1F;
+        valProperties2 |= ((consumptionPrecision << 5) & 0xE0);
+        buffer.put((byte) valProperties2);
+
+        // Process 'Min Consumption Value'
+        buffer.put((byte) ((minConsumptionValue >> 24) & 0xff));
+        buffer.put((byte) ((minConsumptionValue >> 16) & 0xff));
+        buffer.put((byte) ((minConsumptionValue >> 8) & 0xff));
+        buffer.put((byte) (minConsumptionValue & 0xff));
+
+        // Process 'Max Consumption Value'
+        buffer.put((byte) ((maxConsumptionValue >> 24) & 0xff));
+        buffer.put((byte) ((maxConsumptionValue >> 16) & 0xff));
+        buffer.put((byte) ((maxConsumptionValue >> 8) & 0xff));
+        buffer.put((byte) (maxConsumptionValue & 0xff));
+
+        // Process 'Properties3'
+        int valProperties3 = 0;
+        valProperties3 |= maxDemandScale & 0x1F;
+        valProperties3 |= ((maxDemandPrecision << 5) & 0xE0);
+        buffer.put((byte) valProperties3);
+
+        // Process 'Max Demand Value'
+        buffer.put((byte) ((maxDemandValue >> 24) & 0xff));
+        buffer.put((byte) ((maxDemandValue >> 16) & 0xff));
+        buffer.put((byte) ((maxDemandValue >> 8) & 0xff));
+        buffer.put((byte) (maxDemandValue & 0xff));
+
+        // Process 'DCP Rate ID'
+        buffer.put(dcpRateId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the RATE_TBL_REPORT command.
      * <p>
@@ -435,6 +610,27 @@ public class CommandClassRateTblMonitorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the RATE_TBL_ACTIVE_RATE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Rate Tbl Active Rate Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getRateTblActiveRateGet(ByteBuffer buffer) {
+        logger.debug("Creating command message RATE_TBL_ACTIVE_RATE_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) RATE_TBL_ACTIVE_RATE_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the RATE_TBL_ACTIVE_RATE_GET command.
      * <p>
@@ -473,6 +669,31 @@ public class CommandClassRateTblMonitorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the RATE_TBL_ACTIVE_RATE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Rate Tbl Active Rate Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param rateParameterSetId {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getRateTblActiveRateReport(ByteBuffer buffer, Integer rateParameterSetId) {
+        logger.debug("Creating command message RATE_TBL_ACTIVE_RATE_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) RATE_TBL_ACTIVE_RATE_REPORT);
+
+        // Process 'Rate Parameter Set ID'
+        buffer.put(rateParameterSetId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the RATE_TBL_ACTIVE_RATE_REPORT command.
      * <p>
@@ -522,6 +743,33 @@ public class CommandClassRateTblMonitorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the RATE_TBL_CURRENT_DATA_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Rate Tbl Current Data Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param rateParameterSetId {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getRateTblCurrentDataGet(ByteBuffer buffer, Integer rateParameterSetId) {
+        logger.debug("Creating command message RATE_TBL_CURRENT_DATA_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) RATE_TBL_CURRENT_DATA_GET);
+
+        // Process 'Rate Parameter Set ID'
+        buffer.put(rateParameterSetId.byteValue());
+
+        // Process 'Dataset Requested'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the RATE_TBL_CURRENT_DATA_GET command.
      * <p>
@@ -605,6 +853,66 @@ public class CommandClassRateTblMonitorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the RATE_TBL_CURRENT_DATA_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Rate Tbl Current Data Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param reportsToFollow {@link Integer}
+     * @param rateParameterSetId {@link Integer}
+     * @param year {@link Integer}
+     * @param month {@link Integer}
+     * @param day {@link Integer}
+     * @param hourLocalTime {@link Integer}
+     * @param minuteLocalTime {@link Integer}
+     * @param secondLocalTime {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getRateTblCurrentDataReport(ByteBuffer buffer, Integer reportsToFollow,
+            Integer rateParameterSetId, Integer year, Integer month, Integer day, Integer hourLocalTime,
+            Integer minuteLocalTime, Integer secondLocalTime) {
+        logger.debug("Creating command message RATE_TBL_CURRENT_DATA_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) RATE_TBL_CURRENT_DATA_REPORT);
+
+        // Process 'Reports to Follow'
+        buffer.put(reportsToFollow.byteValue());
+
+        // Process 'Rate Parameter Set ID'
+        buffer.put(rateParameterSetId.byteValue());
+
+        // Process 'Dataset'
+
+        // Process 'Year'
+        buffer.put((byte) ((year >> 8) & 0xff));
+        buffer.put((byte) (year & 0xff));
+
+        // Process 'Month'
+        buffer.put(month.byteValue());
+
+        // Process 'Day'
+        buffer.put(day.byteValue());
+
+        // Process 'Hour Local Time'
+        buffer.put(hourLocalTime.byteValue());
+
+        // Process 'Minute Local Time'
+        buffer.put(minuteLocalTime.byteValue());
+
+        // Process 'Second Local Time'
+        buffer.put(secondLocalTime.byteValue());
+
+        // Process 'vg'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the RATE_TBL_CURRENT_DATA_REPORT command.
      * <p>
@@ -768,6 +1076,90 @@ public class CommandClassRateTblMonitorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the RATE_TBL_HISTORICAL_DATA_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Rate Tbl Historical Data Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param maximumReports {@link Integer}
+     * @param rateParameterSetId {@link Integer}
+     * @param startYear {@link Integer}
+     * @param startMonth {@link Integer}
+     * @param startDay {@link Integer}
+     * @param startHourLocalTime {@link Integer}
+     * @param startMinuteLocalTime {@link Integer}
+     * @param startSecondLocalTime {@link Integer}
+     * @param stopYear {@link Integer}
+     * @param stopMonth {@link Integer}
+     * @param stopDay {@link Integer}
+     * @param stopHourLocalTime {@link Integer}
+     * @param stopMinuteLocalTime {@link Integer}
+     * @param stopSecondLocalTime {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getRateTblHistoricalDataGet(ByteBuffer buffer, Integer maximumReports, Integer rateParameterSetId,
+            Integer startYear, Integer startMonth, Integer startDay, Integer startHourLocalTime,
+            Integer startMinuteLocalTime, Integer startSecondLocalTime, Integer stopYear, Integer stopMonth,
+            Integer stopDay, Integer stopHourLocalTime, Integer stopMinuteLocalTime, Integer stopSecondLocalTime) {
+        logger.debug("Creating command message RATE_TBL_HISTORICAL_DATA_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) RATE_TBL_HISTORICAL_DATA_GET);
+
+        // Process 'Maximum Reports'
+        buffer.put(maximumReports.byteValue());
+
+        // Process 'Rate Parameter Set ID'
+        buffer.put(rateParameterSetId.byteValue());
+
+        // Process 'Dataset Requested'
+
+        // Process 'Start Year'
+        buffer.put((byte) ((startYear >> 8) & 0xff));
+        buffer.put((byte) (startYear & 0xff));
+
+        // Process 'Start Month'
+        buffer.put(startMonth.byteValue());
+
+        // Process 'Start Day'
+        buffer.put(startDay.byteValue());
+
+        // Process 'Start Hour Local Time'
+        buffer.put(startHourLocalTime.byteValue());
+
+        // Process 'Start Minute Local Time'
+        buffer.put(startMinuteLocalTime.byteValue());
+
+        // Process 'Start Second Local Time'
+        buffer.put(startSecondLocalTime.byteValue());
+
+        // Process 'Stop Year'
+        buffer.put((byte) ((stopYear >> 8) & 0xff));
+        buffer.put((byte) (stopYear & 0xff));
+
+        // Process 'Stop Month'
+        buffer.put(stopMonth.byteValue());
+
+        // Process 'Stop Day'
+        buffer.put(stopDay.byteValue());
+
+        // Process 'Stop Hour Local Time'
+        buffer.put(stopHourLocalTime.byteValue());
+
+        // Process 'Stop Minute Local Time'
+        buffer.put(stopMinuteLocalTime.byteValue());
+
+        // Process 'Stop Second Local Time'
+        buffer.put(stopSecondLocalTime.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the RATE_TBL_HISTORICAL_DATA_GET command.
      * <p>
@@ -904,6 +1296,66 @@ public class CommandClassRateTblMonitorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the RATE_TBL_HISTORICAL_DATA_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Rate Tbl Historical Data Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param reportsToFollow {@link Integer}
+     * @param rateParameterSetId {@link Integer}
+     * @param year {@link Integer}
+     * @param month {@link Integer}
+     * @param day {@link Integer}
+     * @param hourLocalTime {@link Integer}
+     * @param minuteLocalTime {@link Integer}
+     * @param secondLocalTime {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getRateTblHistoricalDataReport(ByteBuffer buffer, Integer reportsToFollow,
+            Integer rateParameterSetId, Integer year, Integer month, Integer day, Integer hourLocalTime,
+            Integer minuteLocalTime, Integer secondLocalTime) {
+        logger.debug("Creating command message RATE_TBL_HISTORICAL_DATA_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) RATE_TBL_HISTORICAL_DATA_REPORT);
+
+        // Process 'Reports to Follow'
+        buffer.put(reportsToFollow.byteValue());
+
+        // Process 'Rate Parameter Set ID'
+        buffer.put(rateParameterSetId.byteValue());
+
+        // Process 'Dataset'
+
+        // Process 'Year'
+        buffer.put((byte) ((year >> 8) & 0xff));
+        buffer.put((byte) (year & 0xff));
+
+        // Process 'Month'
+        buffer.put(month.byteValue());
+
+        // Process 'Day'
+        buffer.put(day.byteValue());
+
+        // Process 'Hour Local Time'
+        buffer.put(hourLocalTime.byteValue());
+
+        // Process 'Minute Local Time'
+        buffer.put(minuteLocalTime.byteValue());
+
+        // Process 'Second Local Time'
+        buffer.put(secondLocalTime.byteValue());
+
+        // Process 'vg'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the RATE_TBL_HISTORICAL_DATA_REPORT command.
      * <p>
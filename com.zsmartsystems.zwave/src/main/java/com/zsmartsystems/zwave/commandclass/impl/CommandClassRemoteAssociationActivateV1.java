@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -63,6 +64,31 @@ public class CommandClassRemoteAssociationActivateV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the REMOTE_ASSOCIATION_ACTIVATE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Remote Association Activate
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupingIdentifier {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getRemoteAssociationActivate(ByteBuffer buffer, Integer groupingIdentifier) {
+        logger.debug("Creating command message REMOTE_ASSOCIATION_ACTIVATE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) REMOTE_ASSOCIATION_ACTIVATE);
+
+        // Process 'Grouping identifier'
+        buffer.put(groupingIdentifier.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the REMOTE_ASSOCIATION_ACTIVATE command.
      * <p>
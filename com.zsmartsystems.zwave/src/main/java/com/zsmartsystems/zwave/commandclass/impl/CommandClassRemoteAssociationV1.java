@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -142,6 +143,68 @@ public class CommandClassRemoteAssociationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the REMOTE_ASSOCIATION_CONFIGURATION_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Remote Association Configuration Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param localGroupingIdentifier {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>ERASE_ALL_LIN
+     *            </ul>
+     * @param remoteNodeid {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>REMOVE_A_LINK
+     *            </ul>
+     * @param remoteGroupingIdentifier {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getRemoteAssociationConfigurationSet(ByteBuffer buffer, String localGroupingIdentifier,
+            String remoteNodeid, Integer remoteGroupingIdentifier) {
+        logger.debug("Creating command message REMOTE_ASSOCIATION_CONFIGURATION_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) REMOTE_ASSOCIATION_CONFIGURATION_SET);
+
+        // Process 'Local Grouping identifier'
+        boolean foundLocalGroupingIdentifier = false;
+        for (Integer entry : constantRemoteAssociationConfigurationSetLocalGroupingIdentifier.keySet()) {
+            if (constantRemoteAssociationConfigurationSetLocalGroupingIdentifier.get(entry).equals(localGroupingIdentifier)) {
+                buffer.put(entry.byteValue());
+                foundLocalGroupingIdentifier = true;
+                break;
+            }
+        }
+        if (!foundLocalGroupingIdentifier) {
+            throw new IllegalArgumentException("Unknown constant value '" + localGroupingIdentifier + "' for localGroupingIdentifier");
+        }
+
+        // Process 'Remote NodeID'
+        boolean foundRemoteNodeid = false;
+        for (Integer entry : constantRemoteAssociationConfigurationSetRemoteNodeid.keySet()) {
+            if (constantRemoteAssociationConfigurationSetRemoteNodeid.get(entry).equals(remoteNodeid)) {
+                buffer.put(entry.byteValue());
+                foundRemoteNodeid = true;
+                break;
+            }
+        }
+        if (!foundRemoteNodeid) {
+            throw new IllegalArgumentException("Unknown constant value '" + remoteNodeid + "' for remoteNodeid");
+        }
+
+        // Process 'Remote Grouping identifier'
+        buffer.put(remoteGroupingIdentifier.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the REMOTE_ASSOCIATION_CONFIGURATION_SET command.
      * <p>
@@ -197,6 +260,31 @@ public class CommandClassRemoteAssociationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the REMOTE_ASSOCIATION_CONFIGURATION_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Remote Association Configuration Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param localGroupingIdentifier {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getRemoteAssociationConfigurationGet(ByteBuffer buffer, Integer localGroupingIdentifier) {
+        logger.debug("Creating command message REMOTE_ASSOCIATION_CONFIGURATION_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) REMOTE_ASSOCIATION_CONFIGURATION_GET);
+
+        // Process 'Local Grouping identifier'
+        buffer.put(localGroupingIdentifier.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the REMOTE_ASSOCIATION_CONFIGURATION_GET command.
      * <p>
@@ -281,6 +369,68 @@ public class CommandClassRemoteAssociationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the REMOTE_ASSOCIATION_CONFIGURATION_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Remote Association Configuration Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param localGroupingIdentifier {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>ERASE_ALL_LIN
+     *            </ul>
+     * @param remoteNodeid {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>REMOVE_A_LINK
+     *            </ul>
+     * @param remoteGroupingIdentifier {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getRemoteAssociationConfigurationReport(ByteBuffer buffer, String localGroupingIdentifier,
+            String remoteNodeid, Integer remoteGroupingIdentifier) {
+        logger.debug("Creating command message REMOTE_ASSOCIATION_CONFIGURATION_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) REMOTE_ASSOCIATION_CONFIGURATION_REPORT);
+
+        // Process 'Local Grouping identifier'
+        boolean foundLocalGroupingIdentifier = false;
+        for (Integer entry : constantRemoteAssociationConfigurationReportLocalGroupingIdentifier.keySet()) {
+            if (constantRemoteAssociationConfigurationReportLocalGroupingIdentifier.get(entry).equals(localGroupingIdentifier)) {
+                buffer.put(entry.byteValue());
+                foundLocalGroupingIdentifier = true;
+                break;
+            }
+        }
+        if (!foundLocalGroupingIdentifier) {
+            throw new IllegalArgumentException("Unknown constant value '" + localGroupingIdentifier + "' for localGroupingIdentifier");
+        }
+
+        // Process 'Remote NodeID'
+        boolean foundRemoteNodeid = false;
+        for (Integer entry : constantRemoteAssociationConfigurationReportRemoteNodeid.keySet()) {
+            if (constantRemoteAssociationConfigurationReportRemoteNodeid.get(entry).equals(remoteNodeid)) {
+                buffer.put(entry.byteValue());
+                foundRemoteNodeid = true;
+                break;
+            }
+        }
+        if (!foundRemoteNodeid) {
+            throw new IllegalArgumentException("Unknown constant value '" + remoteNodeid + "' for remoteNodeid");
+        }
+
+        // Process 'Remote Grouping identifier'
+        buffer.put(remoteGroupingIdentifier.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the REMOTE_ASSOCIATION_CONFIGURATION_REPORT command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -93,6 +94,50 @@ public class CommandClassSceneActivationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCENE_ACTIVATION_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Scene Activation Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sceneId {@link Integer}
+     * @param dimmingDuration {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>INSTANTLY
+     *            <li>CONFIGURED_DIMMING_DURATION
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSceneActivationSet(ByteBuffer buffer, Integer sceneId, String dimmingDuration) {
+        logger.debug("Creating command message SCENE_ACTIVATION_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCENE_ACTIVATION_SET);
+
+        // Process 'Scene ID'
+        buffer.put(sceneId.byteValue());
+
+        // Process 'Dimming Duration'
+        boolean foundDimmingDuration = false;
+        for (Integer entry : constantSceneActivationSetDimmingDuration.keySet()) {
+            if (constantSceneActivationSetDimmingDuration.get(entry).equals(dimmingDuration)) {
+                buffer.put(entry.byteValue());
+                foundDimmingDuration = true;
+                break;
+            }
+        }
+        if (!foundDimmingDuration) {
+            throw new IllegalArgumentException("Unknown constant value '" + dimmingDuration + "' for dimmingDuration");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCENE_ACTIVATION_SET command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -126,6 +127,59 @@ public class CommandClassSceneActuatorConfV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCENE_ACTUATOR_CONF_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Scene Actuator Conf Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sceneId {@link Integer}
+     * @param dimmingDuration {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>SPECIFY_INSTANTLY
+     *            <li>FACTORY_DEFAULT
+     *            </ul>
+     * @param override {@link Boolean}
+     * @param level {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSceneActuatorConfSet(ByteBuffer buffer, Integer sceneId, String dimmingDuration,
+            Boolean override, Integer level) {
+        logger.debug("Creating command message SCENE_ACTUATOR_CONF_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCENE_ACTUATOR_CONF_SET);
+
+        // Process 'Scene ID'
+        buffer.put(sceneId.byteValue());
+
+        // Process 'Dimming Duration'
+        boolean foundDimmingDuration = false;
+        for (Integer entry : constantSceneActuatorConfSetDimmingDuration.keySet()) {
+            if (constantSceneActuatorConfSetDimmingDuration.get(entry).equals(dimmingDuration)) {
+                buffer.put(entry.byteValue());
+                foundDimmingDuration = true;
+                break;
+            }
+        }
+        if (!foundDimmingDuration) {
+            throw new IllegalArgumentException("Unknown constant value '" + dimmingDuration + "' for dimmingDuration");
+        }
+
+        // Process 'Level2'
+        buffer.put((byte) (override ? 0x80 : 0));
+
+        // Process 'Level'
+        buffer.put(level.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCENE_ACTUATOR_CONF_SET command.
      * <p>
@@ -185,6 +239,31 @@ public class CommandClassSceneActuatorConfV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCENE_ACTUATOR_CONF_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Scene Actuator Conf Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sceneId {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSceneActuatorConfGet(ByteBuffer buffer, Integer sceneId) {
+        logger.debug("Creating command message SCENE_ACTUATOR_CONF_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCENE_ACTUATOR_CONF_GET);
+
+        // Process 'Scene ID'
+        buffer.put(sceneId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCENE_ACTUATOR_CONF_GET command.
      * <p>
@@ -254,6 +333,54 @@ public class CommandClassSceneActuatorConfV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCENE_ACTUATOR_CONF_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Scene Actuator Conf Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sceneId {@link Integer}
+     * @param level {@link Integer}
+     * @param dimmingDuration {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>INSTANTLY
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSceneActuatorConfReport(ByteBuffer buffer, Integer sceneId, Integer level,
+            String dimmingDuration) {
+        logger.debug("Creating command message SCENE_ACTUATOR_CONF_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCENE_ACTUATOR_CONF_REPORT);
+
+        // Process 'Scene ID'
+        buffer.put(sceneId.byteValue());
+
+        // Process 'Level'
+        buffer.put(level.byteValue());
+
+        // Process 'Dimming Duration'
+        boolean foundDimmingDuration = false;
+        for (Integer entry : constantSceneActuatorConfReportDimmingDuration.keySet()) {
+            if (constantSceneActuatorConfReportDimmingDuration.get(entry).equals(dimmingDuration)) {
+                buffer.put(entry.byteValue());
+                foundDimmingDuration = true;
+                break;
+            }
+        }
+        if (!foundDimmingDuration) {
+            throw new IllegalArgumentException("Unknown constant value '" + dimmingDuration + "' for dimmingDuration");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCENE_ACTUATOR_CONF_REPORT command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -113,6 +114,55 @@ public class CommandClassSceneControllerConfV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCENE_CONTROLLER_CONF_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Scene Controller Conf Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupId {@link Integer}
+     * @param sceneId {@link Integer}
+     * @param dimmingDuration {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>INSTANTLY
+     *            <li>FACTORY_DEFAULT
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSceneControllerConfSet(ByteBuffer buffer, Integer groupId, Integer sceneId,
+            String dimmingDuration) {
+        logger.debug("Creating command message SCENE_CONTROLLER_CONF_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCENE_CONTROLLER_CONF_SET);
+
+        // Process 'Group ID'
+        buffer.put(groupId.byteValue());
+
+        // Process 'Scene ID'
+        buffer.put(sceneId.byteValue());
+
+        // Process 'Dimming Duration'
+        boolean foundDimmingDuration = false;
+        for (Integer entry : constantSceneControllerConfSetDimmingDuration.keySet()) {
+            if (constantSceneControllerConfSetDimmingDuration.get(entry).equals(dimmingDuration)) {
+                buffer.put(entry.byteValue());
+                foundDimmingDuration = true;
+                break;
+            }
+        }
+        if (!foundDimmingDuration) {
+            throw new IllegalArgumentException("Unknown constant value '" + dimmingDuration + "' for dimmingDuration");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCENE_CONTROLLER_CONF_SET command.
      * <p>
@@ -168,6 +218,31 @@ public class CommandClassSceneControllerConfV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCENE_CONTROLLER_CONF_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Scene Controller Conf Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupId {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSceneControllerConfGet(ByteBuffer buffer, Integer groupId) {
+        logger.debug("Creating command message SCENE_CONTROLLER_CONF_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCENE_CONTROLLER_CONF_GET);
+
+        // Process 'Group ID'
+        buffer.put(groupId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCENE_CONTROLLER_CONF_GET command.
      * <p>
@@ -237,6 +312,54 @@ public class CommandClassSceneControllerConfV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCENE_CONTROLLER_CONF_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Scene Controller Conf Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param groupId {@link Integer}
+     * @param sceneId {@link Integer}
+     * @param dimmingDuration {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>INSTANTLY
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSceneControllerConfReport(ByteBuffer buffer, Integer groupId, Integer sceneId,
+            String dimmingDuration) {
+        logger.debug("Creating command message SCENE_CONTROLLER_CONF_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCENE_CONTROLLER_CONF_REPORT);
+
+        // Process 'Group ID'
+        buffer.put(groupId.byteValue());
+
+        // Process 'Scene ID'
+        buffer.put(sceneId.byteValue());
+
+        // Process 'Dimming Duration'
+        boolean foundDimmingDuration = false;
+        for (Integer entry : constantSceneControllerConfReportDimmingDuration.keySet()) {
+            if (constantSceneControllerConfReportDimmingDuration.get(entry).equals(dimmingDuration)) {
+                buffer.put(entry.byteValue());
+                foundDimmingDuration = true;
+                break;
+            }
+        }
+        if (!foundDimmingDuration) {
+            throw new IllegalArgumentException("Unknown constant value '" + dimmingDuration + "' for dimmingDuration");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCENE_CONTROLLER_CONF_REPORT command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -200,6 +201,50 @@ public class CommandClassScheduleEntryLockV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_ENTRY_LOCK_ENABLE_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Entry Lock Enable Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param userIdentifier {@link Integer}
+     * @param enabled {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>DISABLED
+     *            <li>ENABLED
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleEntryLockEnableSet(ByteBuffer buffer, Integer userIdentifier, String enabled) {
+        logger.debug("Creating command message SCHEDULE_ENTRY_LOCK_ENABLE_SET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_ENTRY_LOCK_ENABLE_SET);
+
+        // Process 'User Identifier'
+        buffer.put(userIdentifier.byteValue());
+
+        // Process 'Enabled'
+        boolean foundEnabled = false;
+        for (Integer entry : constantScheduleEntryLockEnableSetEnabled.keySet()) {
+            if (constantScheduleEntryLockEnableSetEnabled.get(entry).equals(enabled)) {
+                buffer.put(entry.byteValue());
+                foundEnabled = true;
+                break;
+            }
+        }
+        if (!foundEnabled) {
+            throw new IllegalArgumentException("Unknown constant value '" + enabled + "' for enabled");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_ENTRY_LOCK_ENABLE_SET command.
      * <p>
@@ -266,6 +311,46 @@ public class CommandClassScheduleEntryLockV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_ENTRY_LOCK_ENABLE_ALL_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Entry Lock Enable All Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param enabled {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>DISABLED
+     *            <li>ENABLED
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleEntryLockEnableAllSet(ByteBuffer buffer, String enabled) {
+        logger.debug("Creating command message SCHEDULE_ENTRY_LOCK_ENABLE_ALL_SET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_ENTRY_LOCK_ENABLE_ALL_SET);
+
+        // Process 'Enabled'
+        boolean foundEnabled = false;
+        for (Integer entry : constantScheduleEntryLockEnableAllSetEnabled.keySet()) {
+            if (constantScheduleEntryLockEnableAllSetEnabled.get(entry).equals(enabled)) {
+                buffer.put(entry.byteValue());
+                foundEnabled = true;
+                break;
+            }
+        }
+        if (!foundEnabled) {
+            throw new IllegalArgumentException("Unknown constant value '" + enabled + "' for enabled");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_ENTRY_LOCK_ENABLE_ALL_SET command.
      * <p>
@@ -357,6 +442,76 @@ public class CommandClassScheduleEntryLockV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_ENTRY_LOCK_WEEK_DAY_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Entry Lock Week Day Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param setAction {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>ERASE
+     *            <li>MODIFY
+     *            </ul>
+     * @param userIdentifier {@link Integer}
+     * @param scheduleSlotId {@link Integer}
+     * @param dayOfWeek {@link Integer}
+     * @param startHour {@link Integer}
+     * @param startMinute {@link Integer}
+     * @param stopHour {@link Integer}
+     * @param stopMinute {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleEntryLockWeekDaySet(ByteBuffer buffer, String setAction, Integer userIdentifier,
+            Integer scheduleSlotId, Integer dayOfWeek, Integer startHour, Integer startMinute, Integer stopHour,
+            Integer stopMinute) {
+        logger.debug("Creating command message SCHEDULE_ENTRY_LOCK_WEEK_DAY_SET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_ENTRY_LOCK_WEEK_DAY_SET);
+
+        // Process 'Set Action'
+        boolean foundSetAction = false;
+        for (Integer entry : constantScheduleEntryLockWeekDaySetSetAction.keySet()) {
+            if (constantScheduleEntryLockWeekDaySetSetAction.get(entry).equals(setAction)) {
+                buffer.put(entry.byteValue());
+                foundSetAction = true;
+                break;
+            }
+        }
+        if (!foundSetAction) {
+            throw new IllegalArgumentException("Unknown constant value '" + setAction + "' for setAction");
+        }
+
+        // Process 'User Identifier'
+        buffer.put(userIdentifier.byteValue());
+
+        // Process 'Schedule Slot ID'
+        buffer.put(scheduleSlotId.byteValue());
+
+        // Process 'Day of Week'
+        buffer.put(dayOfWeek.byteValue());
+
+        // Process 'Start Hour'
+        buffer.put(startHour.byteValue());
+
+        // Process 'Start Minute'
+        buffer.put(startMinute.byteValue());
+
+        // Process 'Stop Hour'
+        buffer.put(stopHour.byteValue());
+
+        // Process 'Stop Minute'
+        buffer.put(stopMinute.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_ENTRY_LOCK_WEEK_DAY_SET command.
      * <p>
@@ -436,6 +591,36 @@ public class CommandClassScheduleEntryLockV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_ENTRY_LOCK_WEEK_DAY_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Entry Lock Week Day Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param userIdentifier {@link Integer}
+     * @param scheduleSlotId {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleEntryLockWeekDayGet(ByteBuffer buffer, Integer userIdentifier,
+            Integer scheduleSlotId) {
+        logger.debug("Creating command message SCHEDULE_ENTRY_LOCK_WEEK_DAY_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_ENTRY_LOCK_WEEK_DAY_GET);
+
+        // Process 'User Identifier'
+        buffer.put(userIdentifier.byteValue());
+
+        // Process 'Schedule Slot ID'
+        buffer.put(scheduleSlotId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_ENTRY_LOCK_WEEK_DAY_GET command.
      * <p>
@@ -512,6 +697,57 @@ public class CommandClassScheduleEntryLockV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_ENTRY_LOCK_WEEK_DAY_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Entry Lock Week Day Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param userIdentifier {@link Integer}
+     * @param scheduleSlotId {@link Integer}
+     * @param dayOfWeek {@link Integer}
+     * @param startHour {@link Integer}
+     * @param startMinute {@link Integer}
+     * @param stopHour {@link Integer}
+     * @param stopMinute {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleEntryLockWeekDayReport(ByteBuffer buffer, Integer userIdentifier,
+            Integer scheduleSlotId, Integer dayOfWeek, Integer startHour, Integer startMinute, Integer stopHour,
+            Integer stopMinute) {
+        logger.debug("Creating command message SCHEDULE_ENTRY_LOCK_WEEK_DAY_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_ENTRY_LOCK_WEEK_DAY_REPORT);
+
+        // Process 'User Identifier'
+        buffer.put(userIdentifier.byteValue());
+
+        // Process 'Schedule Slot ID'
+        buffer.put(scheduleSlotId.byteValue());
+
+        // Process 'Day of Week'
+        buffer.put(dayOfWeek.byteValue());
+
+        // Process 'Start Hour'
+        buffer.put(startHour.byteValue());
+
+        // Process 'Start Minute'
+        buffer.put(startMinute.byteValue());
+
+        // Process 'Stop Hour'
+        buffer.put(stopHour.byteValue());
+
+        // Process 'Stop Minute'
+        buffer.put(stopMinute.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_ENTRY_LOCK_WEEK_DAY_REPORT command.
      * <p>
@@ -648,6 +884,97 @@ public class CommandClassScheduleEntryLockV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_ENTRY_LOCK_YEAR_DAY_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Entry Lock Year Day Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param setAction {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>ERASE
+     *            <li>MODIFY
+     *            </ul>
+     * @param userIdentifier {@link Integer}
+     * @param scheduleSlotId {@link Integer}
+     * @param startYear {@link Integer}
+     * @param startMonth {@link Integer}
+     * @param startDay {@link Integer}
+     * @param startHour {@link Integer}
+     * @param startMinute {@link Integer}
+     * @param stopYear {@link Integer}
+     * @param stopMonth {@link Integer}
+     * @param stopDay {@link Integer}
+     * @param stopHour {@link Integer}
+     * @param stopMinute {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleEntryLockYearDaySet(ByteBuffer buffer, String setAction, Integer userIdentifier,
+            Integer scheduleSlotId, Integer startYear, Integer startMonth, Integer startDay, Integer startHour,
+            Integer startMinute, Integer stopYear, Integer stopMonth, Integer stopDay, Integer stopHour,
+            Integer stopMinute) {
+        logger.debug("Creating command message SCHEDULE_ENTRY_LOCK_YEAR_DAY_SET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_ENTRY_LOCK_YEAR_DAY_SET);
+
+        // Process 'Set Action'
+        boolean foundSetAction = false;
+        for (Integer entry : constantScheduleEntryLockYearDaySetSetAction.keySet()) {
+            if (constantScheduleEntryLockYearDaySetSetAction.get(entry).equals(setAction)) {
+                buffer.put(entry.byteValue());
+                foundSetAction = true;
+                break;
+            }
+        }
+        if (!foundSetAction) {
+            throw new IllegalArgumentException("Unknown constant value '" + setAction + "' for setAction");
+        }
+
+        // Process 'User Identifier'
+        buffer.put(userIdentifier.byteValue());
+
+        // Process 'Schedule Slot ID'
+        buffer.put(scheduleSlotId.byteValue());
+
+        // Process 'Start Year'
+        buffer.put(startYear.byteValue());
+
+        // Process 'Start Month'
+        buffer.put(startMonth.byteValue());
+
+        // Process 'Start Day'
+        buffer.put(startDay.byteValue());
+
+        // Process 'Start Hour'
+        buffer.put(startHour.byteValue());
+
+        // Process 'Start Minute'
+        buffer.put(startMinute.byteValue());
+
+        // Process 'Stop Year'
+        buffer.put(stopYear.byteValue());
+
+        // Process 'Stop Month'
+        buffer.put(stopMonth.byteValue());
+
+        // Process 'Stop Day'
+        buffer.put(stopDay.byteValue());
+
+        // Process 'Stop Hour'
+        buffer.put(stopHour.byteValue());
+
+        // Process 'Stop Minute'
+        buffer.put(stopMinute.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_ENTRY_LOCK_YEAR_DAY_SET command.
      * <p>
@@ -747,6 +1074,36 @@ public class CommandClassScheduleEntryLockV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_ENTRY_LOCK_YEAR_DAY_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Entry Lock Year Day Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param userIdentifier {@link Integer}
+     * @param scheduleSlotId {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleEntryLockYearDayGet(ByteBuffer buffer, Integer userIdentifier,
+            Integer scheduleSlotId) {
+        logger.debug("Creating command message SCHEDULE_ENTRY_LOCK_YEAR_DAY_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_ENTRY_LOCK_YEAR_DAY_GET);
+
+        // Process 'User Identifier'
+        buffer.put(userIdentifier.byteValue());
+
+        // Process 'Schedule Slot ID'
+        buffer.put(scheduleSlotId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_ENTRY_LOCK_YEAR_DAY_GET command.
      * <p>
@@ -844,6 +1201,78 @@ public class CommandClassScheduleEntryLockV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_ENTRY_LOCK_YEAR_DAY_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Entry Lock Year Day Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param userIdentifier {@link Integer}
+     * @param scheduleSlotId {@link Integer}
+     * @param startYear {@link Integer}
+     * @param startMonth {@link Integer}
+     * @param startDay {@link Integer}
+     * @param startHour {@link Integer}
+     * @param startMinute {@link Integer}
+     * @param stopYear {@link Integer}
+     * @param stopMonth {@link Integer}
+     * @param stopDay {@link Integer}
+     * @param stopHour {@link Integer}
+     * @param stopMinute {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleEntryLockYearDayReport(ByteBuffer buffer, Integer userIdentifier,
+            Integer scheduleSlotId, Integer startYear, Integer startMonth, Integer startDay, Integer startHour,
+            Integer startMinute, Integer stopYear, Integer stopMonth, Integer stopDay, Integer stopHour,
+            Integer stopMinute) {
+        logger.debug("Creating command message SCHEDULE_ENTRY_LOCK_YEAR_DAY_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_ENTRY_LOCK_YEAR_DAY_REPORT);
+
+        // Process 'User Identifier'
+        buffer.put(userIdentifier.byteValue());
+
+        // Process 'Schedule Slot ID'
+        buffer.put(scheduleSlotId.byteValue());
+
+        // Process 'Start Year'
+        buffer.put(startYear.byteValue());
+
+        // Process 'Start Month'
+        buffer.put(startMonth.byteValue());
+
+        // Process 'Start Day'
+        buffer.put(startDay.byteValue());
+
+        // Process 'Start Hour'
+        buffer.put(startHour.byteValue());
+
+        // Process 'Start Minute'
+        buffer.put(startMinute.byteValue());
+
+        // Process 'Stop Year'
+        buffer.put(stopYear.byteValue());
+
+        // Process 'Stop Month'
+        buffer.put(stopMonth.byteValue());
+
+        // Process 'Stop Day'
+        buffer.put(stopDay.byteValue());
+
+        // Process 'Stop Hour'
+        buffer.put(stopHour.byteValue());
+
+        // Process 'Stop Minute'
+        buffer.put(stopMinute.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_ENTRY_LOCK_YEAR_DAY_REPORT command.
      * <p>
@@ -931,6 +1360,27 @@ public class CommandClassScheduleEntryLockV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_ENTRY_TYPE_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Entry Type Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleEntryTypeSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message SCHEDULE_ENTRY_TYPE_SUPPORTED_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_ENTRY_TYPE_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_ENTRY_TYPE_SUPPORTED_GET command.
      * <p>
@@ -973,6 +1423,36 @@ public class CommandClassScheduleEntryLockV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_ENTRY_TYPE_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Entry Type Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param numberOfSlotsWeekDay {@link Integer}
+     * @param numberOfSlotsYearDay {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleEntryTypeSupportedReport(ByteBuffer buffer, Integer numberOfSlotsWeekDay,
+            Integer numberOfSlotsYearDay) {
+        logger.debug("Creating command message SCHEDULE_ENTRY_TYPE_SUPPORTED_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_ENTRY_TYPE_SUPPORTED_REPORT);
+
+        // Process 'Number of Slots Week Day'
+        buffer.put(numberOfSlotsWeekDay.byteValue());
+
+        // Process 'Number of Slots Year Day'
+        buffer.put(numberOfSlotsYearDay.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_ENTRY_TYPE_SUPPORTED_REPORT command.
      * <p>
@@ -1020,6 +1500,27 @@ public class CommandClassScheduleEntryLockV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_ENTRY_LOCK_TIME_OFFSET_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Entry Lock Time Offset Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleEntryLockTimeOffsetGet(ByteBuffer buffer) {
+        logger.debug("Creating command message SCHEDULE_ENTRY_LOCK_TIME_OFFSET_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_ENTRY_LOCK_TIME_OFFSET_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_ENTRY_LOCK_TIME_OFFSET_GET command.
      * <p>
@@ -1075,6 +1576,48 @@ public class CommandClassScheduleEntryLockV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_ENTRY_LOCK_TIME_OFFSET_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Entry Lock Time Offset Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param hourTzo {@link Integer}
+     * @param signTzo {@link Boolean}
+     * @param minuteTzo {@link Integer}
+     * @param minuteOffsetDst {@link Integer}
+     * @param signOffsetDst {@link Boolean}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleEntryLockTimeOffsetReport(ByteBuffer buffer, Integer hourTzo, Boolean signTzo,
+            Integer minuteTzo, Integer minuteOffsetDst, Boolean signOffsetDst) {
+        logger.debug("Creating command message SCHEDULE_ENTRY_LOCK_TIME_OFFSET_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_ENTRY_LOCK_TIME_OFFSET_REPORT);
+
+        // Process 'Level'
+        int valLevel = 0;
+        valLevel |= hourTzo & 0x7F;
+        valLevel |= signTzo ? 0x80 : 0;
+        buffer.put((byte) valLevel);
+
+        // Process 'Minute TZO'
+        buffer.put(minuteTzo.byteValue());
+
+        // Process 'Level2'
+        int valLevel2 = 0;
+        valLevel2 |= minuteOffsetDst & 0x7F;
+        valLevel2 |= signOffsetDst ? 0x80 : 0;
+        buffer.put((byte) valLevel2);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_ENTRY_LOCK_TIME_OFFSET_REPORT command.
      * <p>
@@ -1151,6 +1694,48 @@ public class CommandClassScheduleEntryLockV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_ENTRY_LOCK_TIME_OFFSET_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Entry Lock Time Offset Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param hourTzo {@link Integer}
+     * @param signTzo {@link Boolean}
+     * @param minuteTzo {@link Integer}
+     * @param minuteOffsetDst {@link Integer}
+     * @param signOffsetDst {@link Boolean}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleEntryLockTimeOffsetSet(ByteBuffer buffer, Integer hourTzo, Boolean signTzo,
+            Integer minuteTzo, Integer minuteOffsetDst, Boolean signOffsetDst) {
+        logger.debug("Creating command message SCHEDULE_ENTRY_LOCK_TIME_OFFSET_SET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_ENTRY_LOCK_TIME_OFFSET_SET);
+
+        // Process 'Level'
+        int valLevel = 0;
+        valLevel |= hourTzo & 0x7F;
+        valLevel |= signTzo ? 0x80 : 0;
+        buffer.put((byte) valLevel);
+
+        // Process 'Minute TZO'
+        buffer.put(minuteTzo.byteValue());
+
+        // Process 'Level2'
+        int valLevel2 = 0;
+        valLevel2 |= minuteOffsetDst & 0x7F;
+        valLevel2 |= signOffsetDst ? 0x80 : 0;
+        buffer.put((byte) valLevel2);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_ENTRY_LOCK_TIME_OFFSET_SET command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -138,6 +139,31 @@ public class CommandClassScheduleV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Support Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param scheduleIdBlock {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleSupportedGet(ByteBuffer buffer, Integer scheduleIdBlock) {
+        logger.debug("Creating command message SCHEDULE_SUPPORTED_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_SUPPORTED_GET);
+
+        // Process 'Schedule ID Block'
+        buffer.put(scheduleIdBlock.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_SUPPORTED_GET command.
      * <p>
@@ -220,6 +246,66 @@ public class CommandClassScheduleV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Support Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param numberOfSupportedScheduleId {@link Integer}
+     * @param startTimeSupport {@link Integer}
+     * @param fallbackSupport {@link Boolean}
+     * @param supportEnableDisable {@link Boolean}
+     * @param numberOfSupportedCc {@link Integer}
+     * @param supportedOverrideTypes {@link Integer}
+     * @param overrideSupport {@link Boolean}
+     * @param scheduleIdBlock {@link Integer}
+     * @param numberOfSupportedScheduleBlocks {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleSupportedReport(ByteBuffer buffer, Integer numberOfSupportedScheduleId,
+            Integer startTimeSupport, Boolean fallbackSupport, Boolean supportEnableDisable,
+            Integer numberOfSupportedCc, Integer supportedOverrideTypes, Boolean overrideSupport,
+            Integer scheduleIdBlock, Integer numberOfSupportedScheduleBlocks) {
+        logger.debug("Creating command message SCHEDULE_SUPPORTED_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_SUPPORTED_REPORT);
+
+        // Process 'Number of Supported Schedule ID'
+        buffer.put(numberOfSupportedScheduleId.byteValue());
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= startTimeSupport & 0x3F;
+        valProperties1 |= fallbackSupport ? 0x40 : 0;
+        valProperties1 |= supportEnableDisable ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Number of supported CC'
+        buffer.put(numberOfSupportedCc.byteValue());
+
+        // Process 'vg1'
+
+        // Process 'Properties3'
+        int valProperties3 = 0;
+        valProperties3 |= supportedOverrideTypes & 0x7F;
+        valProperties3 |= overrideSupport ? 0x80 : 0;
+        buffer.put((byte) valProperties3);
+
+        // Process 'Schedule ID Block'
+        buffer.put(scheduleIdBlock.byteValue());
+
+        // Process 'Number of Supported Schedule Blocks'
+        buffer.put(numberOfSupportedScheduleBlocks.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_SUPPORTED_REPORT command.
      * <p>
@@ -368,6 +454,81 @@ public class CommandClassScheduleV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the COMMAND_SCHEDULE_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param scheduleId {@link Integer}
+     * @param scheduleIdBlock {@link Integer}
+     * @param startYear {@link Integer}
+     * @param startMonth {@link Integer}
+     * @param startDayOfMonth {@link Integer}
+     * @param startWeekday {@link Integer}
+     * @param startHour {@link Integer}
+     * @param durationType {@link Integer}
+     * @param startMinute {@link Integer}
+     * @param durationByte {@link Integer}
+     * @param reportsToFollow {@link Integer}
+     * @param numberOfCmdToFollow {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCommandScheduleSet(ByteBuffer buffer, Integer scheduleId, Integer scheduleIdBlock,
+            Integer startYear, Integer startMonth, Integer startDayOfMonth, Integer startWeekday, Integer startHour,
+            Integer durationType, Integer startMinute, Integer durationByte, Integer reportsToFollow,
+            Integer numberOfCmdToFollow) {
+        logger.debug("Creating command message COMMAND_SCHEDULE_SET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) COMMAND_SCHEDULE_SET);
+
+        // Process 'Schedule ID'
+        buffer.put(scheduleId.byteValue());
+
+        // Process 'Schedule ID Block'
+        buffer.put(scheduleIdBlock.byteValue());
+
+        // Process 'Start Year'
+        buffer.put(startYear.byteValue());
+
+        // Process 'Properties1'
+        buffer.put((byte) (startMonth & 0x0F));
+
+        // Process 'Properties2'
+        buffer.put((byte) (startDayOfMonth & 0x1F));
+
+        // Process 'Properties3'
+        buffer.put((byte) (startWeekday & 0x7F));
+
+        // Process 'Properties4'
+        int valProperties4 = 0;
+        valProperties4 |= startHour & 0x1F;
+        valProperties4 |= ((durationType << 5) & 0xE0);
+        buffer.put((byte) valProperties4);
+
+        // Process 'Properties5'
+        buffer.put((byte) (startMinute & 0x3F));
+
+        // Process 'Duration Byte'
+        buffer.put((byte) ((durationByte >> 8) & 0xff));
+        buffer.put((byte) (durationByte & 0xff));
+
+        // Process 'Reports to Follow'
+        buffer.put(reportsToFollow.byteValue());
+
+        // Process 'Number of Cmd to Follow'
+        buffer.put(numberOfCmdToFollow.byteValue());
+
+        // Process 'vg1'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the COMMAND_SCHEDULE_SET command.
      * <p>
@@ -503,6 +664,35 @@ public class CommandClassScheduleV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the COMMAND_SCHEDULE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param scheduleId {@link Integer}
+     * @param scheduleIdBlock {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCommandScheduleGet(ByteBuffer buffer, Integer scheduleId, Integer scheduleIdBlock) {
+        logger.debug("Creating command message COMMAND_SCHEDULE_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) COMMAND_SCHEDULE_GET);
+
+        // Process 'Schedule ID'
+        buffer.put(scheduleId.byteValue());
+
+        // Process 'Schedule ID Block'
+        buffer.put(scheduleIdBlock.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the COMMAND_SCHEDULE_GET command.
      * <p>
@@ -608,6 +798,85 @@ public class CommandClassScheduleV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the COMMAND_SCHEDULE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param scheduleId {@link Integer}
+     * @param scheduleIdBlock {@link Integer}
+     * @param startYear {@link Integer}
+     * @param startMonth {@link Integer}
+     * @param activeId {@link Integer}
+     * @param startDayOfMonth {@link Integer}
+     * @param startWeekday {@link Integer}
+     * @param startHour {@link Integer}
+     * @param durationType {@link Integer}
+     * @param startMinute {@link Integer}
+     * @param durationByte {@link Integer}
+     * @param reportsToFollow {@link Integer}
+     * @param numberOfCmdToFollow {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCommandScheduleReport(ByteBuffer buffer, Integer scheduleId, Integer scheduleIdBlock,
+            Integer startYear, Integer startMonth, Integer activeId, Integer startDayOfMonth, Integer startWeekday,
+            Integer startHour, Integer durationType, Integer startMinute, Integer durationByte, Integer reportsToFollow,
+            Integer numberOfCmdToFollow) {
+        logger.debug("Creating command message COMMAND_SCHEDULE_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) COMMAND_SCHEDULE_REPORT);
+
+        // Process 'Schedule ID'
+        buffer.put(scheduleId.byteValue());
+
+        // Process 'Schedule ID Block'
+        buffer.put(scheduleIdBlock.byteValue());
+
+        // Process 'Start Year'
+        buffer.put(startYear.byteValue());
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= startMonth & 0x0F;
+        valProperties1 |= ((activeId << 4) & 0xF0);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Properties2'
+        buffer.put((byte) (startDayOfMonth & 0x1F));
+
+        // Process 'Properties3'
+        buffer.put((byte) (startWeekday & 0x7F));
+
+        // Process 'Properties4'
+        int valProperties4 = 0;
+        valProperties4 |= startHour & 0x1F;
+        valProperties4 |= ((durationType << 5) & 0xE0);
+        buffer.put((byte) valProperties4);
+
+        // Process 'Properties5'
+        buffer.put((byte) (startMinute & 0x3F));
+
+        // Process 'Duration Byte'
+        buffer.put((byte) ((durationByte >> 8) & 0xff));
+        buffer.put((byte) (durationByte & 0xff));
+
+        // Process 'Reports to Follow'
+        buffer.put(reportsToFollow.byteValue());
+
+        // Process 'Number of Cmd to Follow'
+        buffer.put(numberOfCmdToFollow.byteValue());
+
+        // Process 'vg1'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the COMMAND_SCHEDULE_REPORT command.
      * <p>
@@ -758,6 +1027,35 @@ public class CommandClassScheduleV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_REMOVE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Remove
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param scheduleId {@link Integer}
+     * @param scheduleIdBlock {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleRemove(ByteBuffer buffer, Integer scheduleId, Integer scheduleIdBlock) {
+        logger.debug("Creating command message SCHEDULE_REMOVE version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_REMOVE);
+
+        // Process 'Schedule ID'
+        buffer.put(scheduleId.byteValue());
+
+        // Process 'Schedule ID Block'
+        buffer.put(scheduleIdBlock.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_REMOVE command.
      * <p>
@@ -817,6 +1115,40 @@ public class CommandClassScheduleV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_STATE_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule State Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param scheduleId {@link Integer}
+     * @param scheduleState {@link Integer}
+     * @param scheduleIdBlock {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleStateSet(ByteBuffer buffer, Integer scheduleId, Integer scheduleState,
+            Integer scheduleIdBlock) {
+        logger.debug("Creating command message SCHEDULE_STATE_SET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_STATE_SET);
+
+        // Process 'Schedule ID'
+        buffer.put(scheduleId.byteValue());
+
+        // Process 'Schedule State'
+        buffer.put(scheduleState.byteValue());
+
+        // Process 'Schedule ID Block'
+        buffer.put(scheduleIdBlock.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_STATE_SET command.
      * <p>
@@ -872,6 +1204,31 @@ public class CommandClassScheduleV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_STATE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule State Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param scheduleIdBlock {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleStateGet(ByteBuffer buffer, Integer scheduleIdBlock) {
+        logger.debug("Creating command message SCHEDULE_STATE_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_STATE_GET);
+
+        // Process 'Schedule ID Block'
+        buffer.put(scheduleIdBlock.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_STATE_GET command.
      * <p>
@@ -949,6 +1306,61 @@ public class CommandClassScheduleV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_STATE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule State Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param numberOfSupportedScheduleId {@link Integer}
+     * @param override {@link Boolean}
+     * @param reportsToFollow {@link Integer}
+     * @param activeId1 {@link Integer}
+     * @param activeId2 {@link Integer}
+     * @param activeId3 {@link Integer}
+     * @param activeIdN {@link Integer}
+     * @param scheduleIdBlock {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleStateReport(ByteBuffer buffer, Integer numberOfSupportedScheduleId, Boolean override,
+            Integer reportsToFollow, Integer activeId1, Integer activeId2, Integer activeId3, Integer activeIdN,
+            Integer scheduleIdBlock) {
+        logger.debug("Creating command message SCHEDULE_STATE_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_STATE_REPORT);
+
+        // Process 'Number of Supported Schedule ID'
+        buffer.put(numberOfSupportedScheduleId.byteValue());
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= override ? 0x01 : 0;
+        valProperties1 |= ((reportsToFollow << 1) & 0xFE);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Properties2'
+        int valProperties2 = 0;
+        valProperties2 |= activeId1 & 0x0F;
+        valProperties2 |= ((activeId2 << 4) & 0xF0);
+        buffer.put((byte) valProperties2);
+
+        // Process 'Properties3'
+        int valProperties3 = 0;
+        valProperties3 |= activeId3 & 0x0F;
+        valProperties3 |= ((activeIdN << 4) & 0xF0);
+        buffer.put((byte) valProperties3);
+
+        // Process 'Schedule ID Block'
+        buffer.put(scheduleIdBlock.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_STATE_REPORT command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -177,6 +178,31 @@ public class CommandClassScheduleV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Support Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param scheduleIdBlock {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleSupportedGet(ByteBuffer buffer, Integer scheduleIdBlock) {
+        logger.debug("Creating command message SCHEDULE_SUPPORTED_GET version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_SUPPORTED_GET);
+
+        // Process 'Schedule ID Block'
+        buffer.put(scheduleIdBlock.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_SUPPORTED_GET command.
      * <p>
@@ -259,6 +285,66 @@ public class CommandClassScheduleV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Support Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param numberOfSupportedScheduleId {@link Integer}
+     * @param startTimeSupport {@link Integer}
+     * @param fallbackSupport {@link Boolean}
+     * @param supportEnableDisable {@link Boolean}
+     * @param numberOfSupportedCc {@link Integer}
+     * @param supportedOverrideTypes {@link Integer}
+     * @param overrideSupport {@link Boolean}
+     * @param scheduleIdBlock {@link Integer}
+     * @param numberOfSupportedScheduleBlocks {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleSupportedReport(ByteBuffer buffer, Integer numberOfSupportedScheduleId,
+            Integer startTimeSupport, Boolean fallbackSupport, Boolean supportEnableDisable,
+            Integer numberOfSupportedCc, Integer supportedOverrideTypes, Boolean overrideSupport,
+            Integer scheduleIdBlock, Integer numberOfSupportedScheduleBlocks) {
+        logger.debug("Creating command message SCHEDULE_SUPPORTED_REPORT version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_SUPPORTED_REPORT);
+
+        // Process 'Number of Supported Schedule ID'
+        buffer.put(numberOfSupportedScheduleId.byteValue());
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= startTimeSupport & 0x3F;
+        valProperties1 |= fallbackSupport ? 0x40 : 0;
+        valProperties1 |= supportEnableDisable ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Number of supported CC'
+        buffer.put(numberOfSupportedCc.byteValue());
+
+        // Process 'vg1'
+
+        // Process 'Properties3'
+        int valProperties3 = 0;
+        valProperties3 |= supportedOverrideTypes & 0x7F;
+        valProperties3 |= overrideSupport ? 0x80 : 0;
+        buffer.put((byte) valProperties3);
+
+        // Process 'Schedule ID Block'
+        buffer.put(scheduleIdBlock.byteValue());
+
+        // Process 'Number of Supported Schedule Blocks'
+        buffer.put(numberOfSupportedScheduleBlocks.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_SUPPORTED_REPORT command.
      * <p>
@@ -434,6 +520,107 @@ public class CommandClassScheduleV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the COMMAND_SCHEDULE_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param scheduleId {@link Integer}
+     * @param scheduleIdBlock {@link Integer}
+     * @param startYear {@link Integer}
+     * @param startMonth {@link Integer}
+     * @param recurrenceOffset {@link Integer}
+     * @param startDayOfMonth {@link Integer}
+     * @param recurrenceMode {@link String}
+     * @param startWeekday {@link Integer}
+     * @param startHour {@link Integer}
+     * @param durationType {@link Integer}
+     * @param startMinute {@link Integer}
+     * @param relative {@link Boolean}
+     * @param durationByte {@link Integer}
+     * @param reportsToFollow {@link Integer}
+     * @param numberOfCmdToFollow {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCommandScheduleSet(ByteBuffer buffer, Integer scheduleId, Integer scheduleIdBlock,
+            Integer startYear, Integer startMonth, Integer recurrenceOffset, Integer startDayOfMonth,
+            String recurrenceMode, Integer startWeekday, Integer startHour, Integer durationType, Integer startMinute,
+            Boolean relative, Integer durationByte, Integer reportsToFollow, Integer numberOfCmdToFollow) {
+        logger.debug("Creating command message COMMAND_SCHEDULE_SET version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) COMMAND_SCHEDULE_SET);
+
+        // Process 'Schedule ID'
+        buffer.put(scheduleId.byteValue());
+
+        // Process 'Schedule ID Block'
+        buffer.put(scheduleIdBlock.byteValue());
+
+        // Process 'Start Year'
+        buffer.put(startYear.byteValue());
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= startMonth & 0x0F;
+        valProperties1 |= ((recurrenceOffset << 4) & 0xF0);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Properties2'
+        int valProperties2 = 0;
+        valProperties2 |= startDayOfMonth & 0x1F;
+        int valrecurrenceMode;
+        switch (recurrenceMode) {
+            case "REPEAT_EVERY_N_HOURS":
+                valrecurrenceMode = 0;
+                break;
+            case "REPEAT_EVERY_N_DAYS":
+                valrecurrenceMode = 1;
+                break;
+            case "REPEAT_EVERY_N_WEEKS":
+                valrecurrenceMode = 2;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for recurrenceMode: " + recurrenceMode);
+        }
+        valProperties2 |= valrecurrenceMode >> 5 & 0x60;
+        buffer.put((byte) valProperties2);
+
+        // Process 'Properties3'
+        buffer.put((byte) (startWeekday & 0x7F));
+
+        // Process 'Properties4'
+        int valProperties4 = 0;
+        valProperties4 |= startHour & 0x1F;
+        valProperties4 |= ((durationType << 5) & 0xE0);
+        buffer.put((byte) valProperties4);
+
+        // Process 'Properties5'
+        int valProperties5 = 0;
+        valProperties5 |= startMinute & 0x3F;
+        valProperties5 |= relative ? 0x40 : 0;
+        buffer.put((byte) valProperties5);
+
+        // Process 'Duration Byte'
+        buffer.put((byte) ((durationByte >> 8) & 0xff));
+        buffer.put((byte) (durationByte & 0xff));
+
+        // Process 'Reports to Follow'
+        buffer.put(reportsToFollow.byteValue());
+
+        // Process 'Number of Cmd to Follow'
+        buffer.put(numberOfCmdToFollow.byteValue());
+
+        // Process 'vg1'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the COMMAND_SCHEDULE_SET command.
      * <p>
@@ -591,6 +778,40 @@ public class CommandClassScheduleV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the COMMAND_SCHEDULE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param scheduleId {@link Integer}
+     * @param scheduleIdBlock {@link Integer}
+     * @param aidRoCtl {@link Boolean}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCommandScheduleGet(ByteBuffer buffer, Integer scheduleId, Integer scheduleIdBlock,
+            Boolean aidRoCtl) {
+        logger.debug("Creating command message COMMAND_SCHEDULE_GET version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) COMMAND_SCHEDULE_GET);
+
+        // Process 'Schedule ID'
+        buffer.put(scheduleId.byteValue());
+
+        // Process 'Schedule ID Block'
+        buffer.put(scheduleIdBlock.byteValue());
+
+        // Process 'Properties1'
+        buffer.put((byte) (aidRoCtl ? 0x80 : 0));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the COMMAND_SCHEDULE_GET command.
      * <p>
@@ -724,6 +945,109 @@ public class CommandClassScheduleV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the COMMAND_SCHEDULE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param scheduleId {@link Integer}
+     * @param scheduleIdBlock {@link Integer}
+     * @param startYear {@link Integer}
+     * @param startMonth {@link Integer}
+     * @param aidRo {@link Integer}
+     * @param startDayOfMonth {@link Integer}
+     * @param recurrenceMode {@link String}
+     * @param aidRoCtl {@link Boolean}
+     * @param startWeekday {@link Integer}
+     * @param startHour {@link Integer}
+     * @param durationType {@link Integer}
+     * @param startMinute {@link Integer}
+     * @param relative {@link Boolean}
+     * @param durationByte {@link Integer}
+     * @param reportsToFollow {@link Integer}
+     * @param numberOfCmdToFollow {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCommandScheduleReport(ByteBuffer buffer, Integer scheduleId, Integer scheduleIdBlock,
+            Integer startYear, Integer startMonth, Integer aidRo, Integer startDayOfMonth, String recurrenceMode,
+            Boolean aidRoCtl, Integer startWeekday, Integer startHour, Integer durationType, Integer startMinute,
+            Boolean relative, Integer durationByte, Integer reportsToFollow, Integer numberOfCmdToFollow) {
+        logger.debug("Creating command message COMMAND_SCHEDULE_REPORT version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) COMMAND_SCHEDULE_REPORT);
+
+        // Process 'Schedule ID'
+        buffer.put(scheduleId.byteValue());
+
+        // Process 'Schedule ID Block'
+        buffer.put(scheduleIdBlock.byteValue());
+
+        // Process 'Start Year'
+        buffer.put(startYear.byteValue());
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= startMonth & 0x0F;
+        valProperties1 |= ((aidRo << 4) & 0xF0);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Properties2'
+        int valProperties2 = 0;
+        valProperties2 |= startDayOfMonth & 0x1F;
+        int valrecurrenceMode;
+        switch (recurrenceMode) {
+            case "REPEAT_EVERY_N_HOURS":
+                valrecurrenceMode = 0;
+                break;
+            case "REPEAT_EVERY_N_DAYS":
+                valrecurrenceMode = 1;
+                break;
+            case "REPEAT_EVERY_N_WEEKS":
+                valrecurrenceMode = 2;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for recurrenceMode: " + recurrenceMode);
+        }
+        valProperties2 |= valrecurrenceMode >> 5 & 0x60;
+        valProperties2 |= aidRoCtl ? 0x80 : 0;
+        buffer.put((byte) valProperties2);
+
+        // Process 'Properties3'
+        buffer.put((byte) (startWeekday & 0x7F));
+
+        // Process 'Properties4'
+        int valProperties4 = 0;
+        valProperties4 |= startHour & 0x1F;
+        valProperties4 |= ((durationType << 5) & 0xE0);
+        buffer.put((byte) valProperties4);
+
+        // Process 'Properties5'
+        int valProperties5 = 0;
+        valProperties5 |= startMinute & 0x3F;
+        valProperties5 |= relative ? 0x40 : 0;
+        buffer.put((byte) valProperties5);
+
+        // Process 'Duration Byte'
+        buffer.put((byte) ((durationByte >> 8) & 0xff));
+        buffer.put((byte) (durationByte & 0xff));
+
+        // Process 'Reports to Follow'
+        buffer.put(reportsToFollow.byteValue());
+
+        // Process 'Number of Cmd to Follow'
+        buffer.put(numberOfCmdToFollow.byteValue());
+
+        // Process 'vg1'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the COMMAND_SCHEDULE_REPORT command.
      * <p>
@@ -879,6 +1203,35 @@ public class CommandClassScheduleV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_REMOVE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule Remove
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param scheduleId {@link Integer}
+     * @param scheduleIdBlock {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleRemove(ByteBuffer buffer, Integer scheduleId, Integer scheduleIdBlock) {
+        logger.debug("Creating command message SCHEDULE_REMOVE version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_REMOVE);
+
+        // Process 'Schedule ID'
+        buffer.put(scheduleId.byteValue());
+
+        // Process 'Schedule ID Block'
+        buffer.put(scheduleIdBlock.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_REMOVE command.
      * <p>
@@ -938,6 +1291,40 @@ public class CommandClassScheduleV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_STATE_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule State Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param scheduleId {@link Integer}
+     * @param scheduleState {@link Integer}
+     * @param scheduleIdBlock {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleStateSet(ByteBuffer buffer, Integer scheduleId, Integer scheduleState,
+            Integer scheduleIdBlock) {
+        logger.debug("Creating command message SCHEDULE_STATE_SET version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_STATE_SET);
+
+        // Process 'Schedule ID'
+        buffer.put(scheduleId.byteValue());
+
+        // Process 'Schedule State'
+        buffer.put(scheduleState.byteValue());
+
+        // Process 'Schedule ID Block'
+        buffer.put(scheduleIdBlock.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_STATE_SET command.
      * <p>
@@ -993,6 +1380,31 @@ public class CommandClassScheduleV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_STATE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule State Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param scheduleIdBlock {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleStateGet(ByteBuffer buffer, Integer scheduleIdBlock) {
+        logger.debug("Creating command message SCHEDULE_STATE_GET version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_STATE_GET);
+
+        // Process 'Schedule ID Block'
+        buffer.put(scheduleIdBlock.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_STATE_GET command.
      * <p>
@@ -1070,6 +1482,61 @@ public class CommandClassScheduleV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCHEDULE_STATE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Schedule State Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param numberOfSupportedScheduleId {@link Integer}
+     * @param override {@link Boolean}
+     * @param reportsToFollow {@link Integer}
+     * @param activeId1 {@link Integer}
+     * @param activeId2 {@link Integer}
+     * @param activeId3 {@link Integer}
+     * @param activeIdN {@link Integer}
+     * @param scheduleIdBlock {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScheduleStateReport(ByteBuffer buffer, Integer numberOfSupportedScheduleId, Boolean override,
+            Integer reportsToFollow, Integer activeId1, Integer activeId2, Integer activeId3, Integer activeIdN,
+            Integer scheduleIdBlock) {
+        logger.debug("Creating command message SCHEDULE_STATE_REPORT version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCHEDULE_STATE_REPORT);
+
+        // Process 'Number of Supported Schedule ID'
+        buffer.put(numberOfSupportedScheduleId.byteValue());
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= override ? 0x01 : 0;
+        valProperties1 |= ((reportsToFollow << 1) & 0xFE);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Properties2'
+        int valProperties2 = 0;
+        valProperties2 |= activeId1 & 0x0F;
+        valProperties2 |= ((activeId2 << 4) & 0xF0);
+        buffer.put((byte) valProperties2);
+
+        // Process 'Properties3'
+        int valProperties3 = 0;
+        valProperties3 |= activeId3 & 0x0F;
+        valProperties3 |= ((activeIdN << 4) & 0xF0);
+        buffer.put((byte) valProperties3);
+
+        // Process 'Schedule ID Block'
+        buffer.put(scheduleIdBlock.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCHEDULE_STATE_REPORT command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -63,6 +64,27 @@ public class CommandClassScreenAttributesV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCREEN_ATTRIBUTES_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Screen Attributes Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScreenAttributesGet(ByteBuffer buffer) {
+        logger.debug("Creating command message SCREEN_ATTRIBUTES_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCREEN_ATTRIBUTES_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCREEN_ATTRIBUTES_GET command.
      * <p>
@@ -114,6 +136,44 @@ public class CommandClassScreenAttributesV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCREEN_ATTRIBUTES_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Screen Attributes Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param numberOfLines {@link Integer}
+     * @param numberOfCharactersPerLine {@link Integer}
+     * @param sizeOfLineBuffer {@link Integer}
+     * @param numericalPresentationOfACharacter {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScreenAttributesReport(ByteBuffer buffer, Integer numberOfLines,
+            Integer numberOfCharactersPerLine, Integer sizeOfLineBuffer, Integer numericalPresentationOfACharacter) {
+        logger.debug("Creating command message SCREEN_ATTRIBUTES_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCREEN_ATTRIBUTES_REPORT);
+
+        // Process 'Properties1'
+        buffer.put((byte) (numberOfLines & 0x1F));
+
+        // Process 'Number of Characters per Line'
+        buffer.put(numberOfCharactersPerLine.byteValue());
+
+        // Process 'Size of Line Buffer'
+        buffer.put(sizeOfLineBuffer.byteValue());
+
+        // Process 'Numerical Presentation of a Character'
+        buffer.put(numericalPresentationOfACharacter.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCREEN_ATTRIBUTES_REPORT command.
      * <p>
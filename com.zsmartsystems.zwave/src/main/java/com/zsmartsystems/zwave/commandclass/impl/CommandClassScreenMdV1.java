@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -88,6 +89,41 @@ public class CommandClassScreenMdV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCREEN_MD_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Screen Md Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param numberOfReports {@link Integer}
+     * @param nodeId {@link Integer}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getScreenMdGet(ByteBuffer buffer, Integer numberOfReports, Integer nodeId) {
+        logger.debug("Creating command message SCREEN_MD_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCREEN_MD_GET);
+
+        // Process 'Number of Reports'
+        buffer.put(numberOfReports.byteValue());
+
+        // Process 'Node ID'
+        // Check the node number boundary
+        if (nodeId < 1 || nodeId > 232) {
+            logger.debug("Node number is out of bounds {}", nodeId);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(nodeId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCREEN_MD_GET command.
      * <p>
@@ -147,6 +183,40 @@ public class CommandClassScreenMdV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SCREEN_MD_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Screen Md Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param charPresentation {@link Integer}
+     * @param screenSettings {@link Integer}
+     * @param moreData {@link Boolean}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getScreenMdReport(ByteBuffer buffer, Integer charPresentation, Integer screenSettings,
+            Boolean moreData) {
+        logger.debug("Creating command message SCREEN_MD_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SCREEN_MD_REPORT);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= charPresentation & 0x07;
+        valProperties1 |= ((screenSettings << 3) & 0x38);
+        valProperties1 |= moreData ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'vg'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SCREEN_MD_REPORT command.
      * <p>
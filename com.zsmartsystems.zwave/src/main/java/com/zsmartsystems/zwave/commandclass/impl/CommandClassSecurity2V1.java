@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.lang.IllegalArgumentException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -242,6 +243,31 @@ public class CommandClassSecurity2V1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_2_NONCE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * S2 Nonce Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sequenceNumber {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurity2NonceGet(ByteBuffer buffer, Integer sequenceNumber) {
+        logger.debug("Creating command message SECURITY_2_NONCE_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_2_NONCE_GET);
+
+        // Process 'Sequence Number'
+        buffer.put(sequenceNumber.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_2_NONCE_GET command.
      * <p>
@@ -310,6 +336,49 @@ public class CommandClassSecurity2V1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_2_NONCE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * S2 Nonce Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sequenceNumber {@link Integer}
+     * @param sos {@link Boolean}
+     * @param mos {@link Boolean}
+     * @param receiversEntropyInput {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurity2NonceReport(ByteBuffer buffer, Integer sequenceNumber, Boolean sos, Boolean mos,
+            byte[] receiversEntropyInput) {
+        logger.debug("Creating command message SECURITY_2_NONCE_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_2_NONCE_REPORT);
+
+        // Process 'Sequence Number'
+        buffer.put(sequenceNumber.byteValue());
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= sos ? 0x01 : 0;
+        valProperties1 |= mos ? 0x02 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Receivers Entropy Input'
+        if (receiversEntropyInput != null) {
+            if (receiversEntropyInput.length > 16) {
+                throw new IllegalArgumentException("Length of array receiversEntropyInput exceeds maximum length of 16 bytes");
+            }
+            buffer.put(receiversEntropyInput);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_2_NONCE_REPORT command.
      * <p>
@@ -392,6 +461,48 @@ public class CommandClassSecurity2V1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_2_MESSAGE_ENCAPSULATION command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * S2 Message Encapsulation
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sequenceNumber {@link Integer}
+     * @param extension {@link Boolean}
+     * @param encryptedExtension {@link Boolean}
+     * @param ccmCiphertextObject {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurity2MessageEncapsulation(ByteBuffer buffer, Integer sequenceNumber, Boolean extension,
+            Boolean encryptedExtension, byte[] ccmCiphertextObject) {
+        logger.debug("Creating command message SECURITY_2_MESSAGE_ENCAPSULATION version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_2_MESSAGE_ENCAPSULATION);
+
+        // Process 'Sequence Number'
+        buffer.put(sequenceNumber.byteValue());
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= extension ? 0x01 : 0;
+        valProperties1 |= encryptedExtension ? 0x02 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'vg1'
+
+        // Process 'CCM Ciphertext Object'
+        if (ccmCiphertextObject != null) {
+            buffer.put(ccmCiphertextObject);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_2_MESSAGE_ENCAPSULATION command.
      * <p>
@@ -484,6 +595,27 @@ public class CommandClassSecurity2V1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the KEX_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * KEX Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getKexGet(ByteBuffer buffer) {
+        logger.debug("Creating command message KEX_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) KEX_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the KEX_GET command.
      * <p>
@@ -560,6 +692,69 @@ public class CommandClassSecurity2V1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the KEX_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * KEX Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param echo {@link Boolean}
+     * @param requestCsa {@link Boolean}
+     * @param supportedKexSchemes {@link Integer}
+     * @param supportedEcdhProfiles {@link Integer}
+     * @param requestedKeys {@link List<String>}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>UNAUTHENTICATED
+     *            <li>AUTHENTICATED
+     *            <li>ACCESS
+     *            <li>S0
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getKexReport(ByteBuffer buffer, Boolean echo, Boolean requestCsa, Integer supportedKexSchemes,
+            Integer supportedEcdhProfiles, List<String> requestedKeys) {
+        logger.debug("Creating command message KEX_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) KEX_REPORT);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= echo ? 0x01 : 0;
+        valProperties1 |= requestCsa ? 0x02 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Supported KEX Schemes'
+        buffer.put(supportedKexSchemes.byteValue());
+
+        // Process 'Supported ECDH Profiles'
+        buffer.put(supportedEcdhProfiles.byteValue());
+
+        // Process 'Requested Keys'
+        int valRequestedKeys = 0;
+        for (String value : requestedKeys) {
+            boolean foundRequestedKeys = false;
+            for (Integer entry : constantKexReportRequestedKeys.keySet()) {
+                if (constantKexReportRequestedKeys.get(entry).equals(value)) {
+                    foundRequestedKeys = true;
+                    valRequestedKeys += entry;
+                    break;
+                }
+            }
+            if (!foundRequestedKeys) {
+                throw new IllegalArgumentException("Unknown constant value '" + requestedKeys + "' for requestedKeys");
+            }
+        }
+        buffer.put((byte) valRequestedKeys);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the KEX_REPORT command.
      * <p>
@@ -667,6 +862,69 @@ public class CommandClassSecurity2V1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the KEX_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * KEX Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param echo {@link Boolean}
+     * @param requestCsa {@link Boolean}
+     * @param selectedKexScheme {@link Integer}
+     * @param selectedEcdhProfile {@link Integer}
+     * @param grantedKeys {@link List<String>}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>UNAUTHENTICATED
+     *            <li>AUTHENTICATED
+     *            <li>ACCESS
+     *            <li>S0
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getKexSet(ByteBuffer buffer, Boolean echo, Boolean requestCsa, Integer selectedKexScheme,
+            Integer selectedEcdhProfile, List<String> grantedKeys) {
+        logger.debug("Creating command message KEX_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) KEX_SET);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= echo ? 0x01 : 0;
+        valProperties1 |= requestCsa ? 0x02 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Selected KEX Scheme'
+        buffer.put(selectedKexScheme.byteValue());
+
+        // Process 'Selected ECDH Profile'
+        buffer.put(selectedEcdhProfile.byteValue());
+
+        // Process 'Granted Keys'
+        int valGrantedKeys = 0;
+        for (String value : grantedKeys) {
+            boolean foundGrantedKeys = false;
+            for (Integer entry : constantKexSetGrantedKeys.keySet()) {
+                if (constantKexSetGrantedKeys.get(entry).equals(value)) {
+                    foundGrantedKeys = true;
+                    valGrantedKeys += entry;
+                    break;
+                }
+            }
+            if (!foundGrantedKeys) {
+                throw new IllegalArgumentException("Unknown constant value '" + grantedKeys + "' for grantedKeys");
+            }
+        }
+        buffer.put((byte) valGrantedKeys);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the KEX_SET command.
      * <p>
@@ -758,6 +1016,53 @@ public class CommandClassSecurity2V1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the KEX_FAIL command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * KEX Fail
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param kexFailType {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>KEX_KEY
+     *            <li>KEX_SCHEME
+     *            <li>KEX_CURVES
+     *            <li>DECRYPT
+     *            <li>CANCEL
+     *            <li>AUTH
+     *            <li>KEY_GET
+     *            <li>KEY_VERIFY
+     *            <li>KEY_REPORT
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getKexFail(ByteBuffer buffer, String kexFailType) {
+        logger.debug("Creating command message KEX_FAIL version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) KEX_FAIL);
+
+        // Process 'KEX Fail Type'
+        boolean foundKexFailType = false;
+        for (Integer entry : constantKexFailKexFailType.keySet()) {
+            if (constantKexFailKexFailType.get(entry).equals(kexFailType)) {
+                buffer.put(entry.byteValue());
+                foundKexFailType = true;
+                break;
+            }
+        }
+        if (!foundKexFailType) {
+            throw new IllegalArgumentException("Unknown constant value '" + kexFailType + "' for kexFailType");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the KEX_FAIL command.
      * <p>
@@ -814,6 +1119,37 @@ public class CommandClassSecurity2V1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the PUBLIC_KEY_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Public Key Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param includingNode {@link Boolean}
+     * @param ecdhPublicKey {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getPublicKeyReport(ByteBuffer buffer, Boolean includingNode, byte[] ecdhPublicKey) {
+        logger.debug("Creating command message PUBLIC_KEY_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) PUBLIC_KEY_REPORT);
+
+        // Process 'Properties1'
+        buffer.put((byte) (includingNode ? 0x01 : 0));
+
+        // Process 'ECDH Public Key'
+        if (ecdhPublicKey != null) {
+            buffer.put(ecdhPublicKey);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the PUBLIC_KEY_REPORT command.
      * <p>
@@ -891,6 +1227,48 @@ public class CommandClassSecurity2V1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_2_NETWORK_KEY_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * S2 Network Key Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param requestedKey {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>UNAUTHENTICATED
+     *            <li>AUTHENTICATED
+     *            <li>ACCESS
+     *            <li>S0
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurity2NetworkKeyGet(ByteBuffer buffer, String requestedKey) {
+        logger.debug("Creating command message SECURITY_2_NETWORK_KEY_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_2_NETWORK_KEY_GET);
+
+        // Process 'Requested Key'
+        boolean foundRequestedKey = false;
+        for (Integer entry : constantSecurity2NetworkKeyGetRequestedKey.keySet()) {
+            if (constantSecurity2NetworkKeyGetRequestedKey.get(entry).equals(requestedKey)) {
+                buffer.put(entry.byteValue());
+                foundRequestedKey = true;
+                break;
+            }
+        }
+        if (!foundRequestedKey) {
+            throw new IllegalArgumentException("Unknown constant value '" + requestedKey + "' for requestedKey");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_2_NETWORK_KEY_GET command.
      * <p>
@@ -967,6 +1345,57 @@ public class CommandClassSecurity2V1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_2_NETWORK_KEY_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * S2 Network Key Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param grantedKey {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>UNAUTHENTICATED
+     *            <li>AUTHENTICATED
+     *            <li>ACCESS
+     *            <li>S0
+     *            </ul>
+     * @param networkKey {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurity2NetworkKeyReport(ByteBuffer buffer, String grantedKey, byte[] networkKey) {
+        logger.debug("Creating command message SECURITY_2_NETWORK_KEY_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_2_NETWORK_KEY_REPORT);
+
+        // Process 'Granted Key'
+        boolean foundGrantedKey = false;
+        for (Integer entry : constantSecurity2NetworkKeyReportGrantedKey.keySet()) {
+            if (constantSecurity2NetworkKeyReportGrantedKey.get(entry).equals(grantedKey)) {
+                buffer.put(entry.byteValue());
+                foundGrantedKey = true;
+                break;
+            }
+        }
+        if (!foundGrantedKey) {
+            throw new IllegalArgumentException("Unknown constant value '" + grantedKey + "' for grantedKey");
+        }
+
+        // Process 'Network Key'
+        if (networkKey != null) {
+            if (networkKey.length > 16) {
+                throw new IllegalArgumentException("Length of array networkKey exceeds maximum length of 16 bytes");
+            }
+            buffer.put(networkKey);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_2_NETWORK_KEY_REPORT command.
      * <p>
@@ -1019,6 +1448,27 @@ public class CommandClassSecurity2V1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_2_NETWORK_KEY_VERIFY command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * S2 Network Key Verify
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurity2NetworkKeyVerify(ByteBuffer buffer) {
+        logger.debug("Creating command message SECURITY_2_NETWORK_KEY_VERIFY version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_2_NETWORK_KEY_VERIFY);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_2_NETWORK_KEY_VERIFY command.
      * <p>
@@ -1061,6 +1511,35 @@ public class CommandClassSecurity2V1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_2_TRANSFER_END command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * S2 Transfer End
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param keyRequestComplete {@link Boolean}
+     * @param keyVerified {@link Boolean}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurity2TransferEnd(ByteBuffer buffer, Boolean keyRequestComplete, Boolean keyVerified) {
+        logger.debug("Creating command message SECURITY_2_TRANSFER_END version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_2_TRANSFER_END);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= keyRequestComplete ? 0x01 : 0;
+        valProperties1 |= keyVerified ? 0x02 : 0;
+        buffer.put((byte) valProperties1);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_2_TRANSFER_END command.
      * <p>
@@ -1106,6 +1585,27 @@ public class CommandClassSecurity2V1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_2_COMMANDS_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * S2 Commands Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurity2CommandsSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message SECURITY_2_COMMANDS_SUPPORTED_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_2_COMMANDS_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_2_COMMANDS_SUPPORTED_GET command.
      * <p>
@@ -1146,6 +1646,33 @@ public class CommandClassSecurity2V1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_2_COMMANDS_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * S2 Commands Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param commandClass {@link List<Integer>}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurity2CommandsSupportedReport(ByteBuffer buffer, List<Integer> commandClass) {
+        logger.debug("Creating command message SECURITY_2_COMMANDS_SUPPORTED_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_2_COMMANDS_SUPPORTED_REPORT);
+
+        // Process 'Command Class'
+        for (Integer valCommandClass : commandClass) {
+            buffer.put(valCommandClass.byteValue());
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_2_COMMANDS_SUPPORTED_REPORT command.
      * <p>
@@ -1197,6 +1724,27 @@ public class CommandClassSecurity2V1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_2_CAPABILITIES_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * S2 Capabilities Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurity2CapabilitiesGet(ByteBuffer buffer) {
+        logger.debug("Creating command message SECURITY_2_CAPABILITIES_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_2_CAPABILITIES_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_2_CAPABILITIES_GET command.
      * <p>
@@ -1239,6 +1787,36 @@ public class CommandClassSecurity2V1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_2_CAPABILITIES_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * S2 Capabilities Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param supportedSpans {@link Integer}
+     * @param supportedMpans {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurity2CapabilitiesReport(ByteBuffer buffer, Integer supportedSpans,
+            Integer supportedMpans) {
+        logger.debug("Creating command message SECURITY_2_CAPABILITIES_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_2_CAPABILITIES_REPORT);
+
+        // Process 'Supported SPANs'
+        buffer.put(supportedSpans.byteValue());
+
+        // Process 'Supported MPANs'
+        buffer.put(supportedMpans.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_2_CAPABILITIES_REPORT command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -101,6 +102,27 @@ public class CommandClassSecurityPanelModeV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_PANEL_MODE_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Security Panel Mode Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurityPanelModeSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message SECURITY_PANEL_MODE_SUPPORTED_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_PANEL_MODE_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_PANEL_MODE_SUPPORTED_GET command.
      * <p>
@@ -140,6 +162,32 @@ public class CommandClassSecurityPanelModeV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_PANEL_MODE_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Security Panel Mode Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param supportedModeBitMask {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurityPanelModeSupportedReport(ByteBuffer buffer, Integer supportedModeBitMask) {
+        logger.debug("Creating command message SECURITY_PANEL_MODE_SUPPORTED_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_PANEL_MODE_SUPPORTED_REPORT);
+
+        // Process 'Supported Mode Bit Mask'
+        buffer.put((byte) ((supportedModeBitMask >> 8) & 0xff));
+        buffer.put((byte) (supportedModeBitMask & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_PANEL_MODE_SUPPORTED_REPORT command.
      * <p>
@@ -183,6 +231,27 @@ public class CommandClassSecurityPanelModeV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_PANEL_MODE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Security Panel Mode Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurityPanelModeGet(ByteBuffer buffer) {
+        logger.debug("Creating command message SECURITY_PANEL_MODE_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_PANEL_MODE_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_PANEL_MODE_GET command.
      * <p>
@@ -239,6 +308,49 @@ public class CommandClassSecurityPanelModeV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_PANEL_MODE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Security Panel Mode Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param mode {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>ARM_HOME
+     *            <li>ARM_AWAY_NO_DELAY
+     *            <li>ARM_AWAY_DELAYED
+     *            <li>DISARM
+     *            <li>ALARM_TRIGGER
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurityPanelModeReport(ByteBuffer buffer, String mode) {
+        logger.debug("Creating command message SECURITY_PANEL_MODE_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_PANEL_MODE_REPORT);
+
+        // Process 'MODE'
+        boolean foundMode = false;
+        for (Integer entry : constantSecurityPanelModeReportMode.keySet()) {
+            if (constantSecurityPanelModeReportMode.get(entry).equals(mode)) {
+                buffer.put(entry.byteValue());
+                foundMode = true;
+                break;
+            }
+        }
+        if (!foundMode) {
+            throw new IllegalArgumentException("Unknown constant value '" + mode + "' for mode");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_PANEL_MODE_REPORT command.
      * <p>
@@ -304,6 +416,49 @@ public class CommandClassSecurityPanelModeV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_PANEL_MODE_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Security Panel Mode Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param mode {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>ARM_HOME
+     *            <li>ARM_AWAY_NO_DELAY
+     *            <li>ARM_AWAY_DELAYED
+     *            <li>DISARM
+     *            <li>ALARM_TRIGGER
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurityPanelModeSet(ByteBuffer buffer, String mode) {
+        logger.debug("Creating command message SECURITY_PANEL_MODE_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_PANEL_MODE_SET);
+
+        // Process 'MODE'
+        boolean foundMode = false;
+        for (Integer entry : constantSecurityPanelModeSetMode.keySet()) {
+            if (constantSecurityPanelModeSetMode.get(entry).equals(mode)) {
+                buffer.put(entry.byteValue());
+                foundMode = true;
+                break;
+            }
+        }
+        if (!foundMode) {
+            throw new IllegalArgumentException("Unknown constant value '" + mode + "' for mode");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_PANEL_MODE_SET command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -83,6 +84,31 @@ public class CommandClassSecurityPanelZoneSensorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_PANEL_ZONE_SENSOR_INSTALLED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Security Panel Zone Sensor Installed Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param zoneNumber {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurityPanelZoneSensorInstalledGet(ByteBuffer buffer, Integer zoneNumber) {
+        logger.debug("Creating command message SECURITY_PANEL_ZONE_SENSOR_INSTALLED_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_PANEL_ZONE_SENSOR_INSTALLED_GET);
+
+        // Process 'Zone number'
+        buffer.put(zoneNumber.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_PANEL_ZONE_SENSOR_INSTALLED_GET command.
      * <p>
@@ -135,6 +161,36 @@ public class CommandClassSecurityPanelZoneSensorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the COMMAND_CLASS_SECURITY_PANEL_ZONE_SENSOR_INSTALLED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Command Class Security Panel Zone Sensor Installed Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param zoneNumber {@link Integer}
+     * @param numberOfSensors {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCommandClassSecurityPanelZoneSensorInstalledReport(ByteBuffer buffer, Integer zoneNumber,
+            Integer numberOfSensors) {
+        logger.debug("Creating command message COMMAND_CLASS_SECURITY_PANEL_ZONE_SENSOR_INSTALLED_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) COMMAND_CLASS_SECURITY_PANEL_ZONE_SENSOR_INSTALLED_REPORT);
+
+        // Process 'Zone number'
+        buffer.put(zoneNumber.byteValue());
+
+        // Process 'Number of Sensors'
+        buffer.put(numberOfSensors.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the COMMAND_CLASS_SECURITY_PANEL_ZONE_SENSOR_INSTALLED_REPORT command.
      * <p>
@@ -190,6 +246,35 @@ public class CommandClassSecurityPanelZoneSensorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_PANEL_ZONE_SENSOR_TYPE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Security Panel Zone Sensor Type Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param zoneNumber {@link Integer}
+     * @param sensorNumber {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurityPanelZoneSensorTypeGet(ByteBuffer buffer, Integer zoneNumber, Integer sensorNumber) {
+        logger.debug("Creating command message SECURITY_PANEL_ZONE_SENSOR_TYPE_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_PANEL_ZONE_SENSOR_TYPE_GET);
+
+        // Process 'Zone Number'
+        buffer.put(zoneNumber.byteValue());
+
+        // Process 'Sensor Number'
+        buffer.put(sensorNumber.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_PANEL_ZONE_SENSOR_TYPE_GET command.
      * <p>
@@ -250,6 +335,40 @@ public class CommandClassSecurityPanelZoneSensorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_PANEL_ZONE_SENSOR_TYPE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Security Panel Zone Sensor Type Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param zoneNumber {@link Integer}
+     * @param sensorNumber {@link Integer}
+     * @param zwaveAlarmType {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurityPanelZoneSensorTypeReport(ByteBuffer buffer, Integer zoneNumber, Integer sensorNumber,
+            Integer zwaveAlarmType) {
+        logger.debug("Creating command message SECURITY_PANEL_ZONE_SENSOR_TYPE_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_PANEL_ZONE_SENSOR_TYPE_REPORT);
+
+        // Process 'Zone Number'
+        buffer.put(zoneNumber.byteValue());
+
+        // Process 'Sensor Number'
+        buffer.put(sensorNumber.byteValue());
+
+        // Process 'ZWave Alarm Type'
+        buffer.put(zwaveAlarmType.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_PANEL_ZONE_SENSOR_TYPE_REPORT command.
      * <p>
@@ -309,6 +428,35 @@ public class CommandClassSecurityPanelZoneSensorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_PANEL_ZONE_SENSOR_STATE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Security Panel Zone Sensor State Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param zoneNumber {@link Integer}
+     * @param sensorNumber {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurityPanelZoneSensorStateGet(ByteBuffer buffer, Integer zoneNumber, Integer sensorNumber) {
+        logger.debug("Creating command message SECURITY_PANEL_ZONE_SENSOR_STATE_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_PANEL_ZONE_SENSOR_STATE_GET);
+
+        // Process 'Zone Number'
+        buffer.put(zoneNumber.byteValue());
+
+        // Process 'Sensor Number'
+        buffer.put(sensorNumber.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_PANEL_ZONE_SENSOR_STATE_GET command.
      * <p>
@@ -377,6 +525,48 @@ public class CommandClassSecurityPanelZoneSensorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_PANEL_ZONE_SENSOR_STATE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Security Panel Zone Sensor State Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param zoneNumber {@link Integer}
+     * @param sensorNumber {@link Integer}
+     * @param zwaveAlarmType {@link Integer}
+     * @param zwaveAlarmEvent {@link Integer}
+     * @param eventParameters {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurityPanelZoneSensorStateReport(ByteBuffer buffer, Integer zoneNumber, Integer sensorNumber,
+            Integer zwaveAlarmType, Integer zwaveAlarmEvent, Integer eventParameters) {
+        logger.debug("Creating command message SECURITY_PANEL_ZONE_SENSOR_STATE_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_PANEL_ZONE_SENSOR_STATE_REPORT);
+
+        // Process 'Zone Number'
+        buffer.put(zoneNumber.byteValue());
+
+        // Process 'Sensor Number'
+        buffer.put(sensorNumber.byteValue());
+
+        // Process 'ZWave Alarm Type'
+        buffer.put(zwaveAlarmType.byteValue());
+
+        // Process 'ZWave Alarm Event'
+        buffer.put(zwaveAlarmEvent.byteValue());
+
+        // Process 'Event Parameters'
+        buffer.put(eventParameters.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_PANEL_ZONE_SENSOR_STATE_REPORT command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -109,6 +110,27 @@ public class CommandClassSecurityPanelZoneV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_PANEL_ZONE_NUMBER_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Security Panel Zone Number Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurityPanelZoneNumberSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message SECURITY_PANEL_ZONE_NUMBER_SUPPORTED_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_PANEL_ZONE_NUMBER_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_PANEL_ZONE_NUMBER_SUPPORTED_GET command.
      * <p>
@@ -151,6 +173,35 @@ public class CommandClassSecurityPanelZoneV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_PANEL_ZONE_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Security Panel Zone Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param zonesSupported {@link Integer}
+     * @param zm {@link Boolean}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurityPanelZoneSupportedReport(ByteBuffer buffer, Integer zonesSupported, Boolean zm) {
+        logger.debug("Creating command message SECURITY_PANEL_ZONE_SUPPORTED_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_PANEL_ZONE_SUPPORTED_REPORT);
+
+        // Process 'Parameters1'
+        int valParameters1 = 0;
+        valParameters1 |= zonesSupported & 0x7F;
+        valParameters1 |= zm ? 0x80 : 0;
+        buffer.put((byte) valParameters1);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_PANEL_ZONE_SUPPORTED_REPORT command.
      * <p>
@@ -200,6 +251,31 @@ public class CommandClassSecurityPanelZoneV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_PANEL_ZONE_TYPE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Security Panel Zone Type Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param zoneNumber {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurityPanelZoneTypeGet(ByteBuffer buffer, Integer zoneNumber) {
+        logger.debug("Creating command message SECURITY_PANEL_ZONE_TYPE_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_PANEL_ZONE_TYPE_GET);
+
+        // Process 'Zone Number'
+        buffer.put(zoneNumber.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_PANEL_ZONE_TYPE_GET command.
      * <p>
@@ -266,6 +342,50 @@ public class CommandClassSecurityPanelZoneV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_PANEL_ZONE_TYPE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Security Panel Zone Type Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param zoneNumber {@link Integer}
+     * @param zoneType {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>ALARM_ZONE
+     *            <li>NOTIFICATION_ZONE
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurityPanelZoneTypeReport(ByteBuffer buffer, Integer zoneNumber, String zoneType) {
+        logger.debug("Creating command message SECURITY_PANEL_ZONE_TYPE_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_PANEL_ZONE_TYPE_REPORT);
+
+        // Process 'Zone Number'
+        buffer.put(zoneNumber.byteValue());
+
+        // Process 'Zone Type'
+        boolean foundZoneType = false;
+        for (Integer entry : constantSecurityPanelZoneTypeReportZoneType.keySet()) {
+            if (constantSecurityPanelZoneTypeReportZoneType.get(entry).equals(zoneType)) {
+                buffer.put(entry.byteValue());
+                foundZoneType = true;
+                break;
+            }
+        }
+        if (!foundZoneType) {
+            throw new IllegalArgumentException("Unknown constant value '" + zoneType + "' for zoneType");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_PANEL_ZONE_TYPE_REPORT command.
      * <p>
@@ -317,6 +437,31 @@ public class CommandClassSecurityPanelZoneV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_PANEL_ZONE_STATE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Security Panel Zone State Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param zoneNumber {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurityPanelZoneStateGet(ByteBuffer buffer, Integer zoneNumber) {
+        logger.debug("Creating command message SECURITY_PANEL_ZONE_STATE_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_PANEL_ZONE_STATE_GET);
+
+        // Process 'Zone Number'
+        buffer.put(zoneNumber.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_PANEL_ZONE_STATE_GET command.
      * <p>
@@ -385,6 +530,52 @@ public class CommandClassSecurityPanelZoneV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_PANEL_ZONE_STATE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Security Panel Zone State Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param zoneNumber {@link Integer}
+     * @param zoneState {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>FAULTED
+     *            <li>NOT_FAULTED
+     *            <li>BYPASS_FAULTED
+     *            <li>BYPASS_NOT_FAULTED
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurityPanelZoneStateReport(ByteBuffer buffer, Integer zoneNumber, String zoneState) {
+        logger.debug("Creating command message SECURITY_PANEL_ZONE_STATE_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_PANEL_ZONE_STATE_REPORT);
+
+        // Process 'Zone number'
+        buffer.put(zoneNumber.byteValue());
+
+        // Process 'Zone State'
+        boolean foundZoneState = false;
+        for (Integer entry : constantSecurityPanelZoneStateReportZoneState.keySet()) {
+            if (constantSecurityPanelZoneStateReportZoneState.get(entry).equals(zoneState)) {
+                buffer.put(entry.byteValue());
+                foundZoneState = true;
+                break;
+            }
+        }
+        if (!foundZoneState) {
+            throw new IllegalArgumentException("Unknown constant value '" + zoneState + "' for zoneState");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_PANEL_ZONE_STATE_REPORT command.
      * <p>
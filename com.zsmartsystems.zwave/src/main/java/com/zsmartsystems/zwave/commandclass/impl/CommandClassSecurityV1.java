@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.lang.IllegalArgumentException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -131,6 +132,27 @@ public class CommandClassSecurityV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_COMMANDS_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Security Commands Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurityCommandsSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message SECURITY_COMMANDS_SUPPORTED_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_COMMANDS_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_COMMANDS_SUPPORTED_GET command.
      * <p>
@@ -185,6 +207,47 @@ public class CommandClassSecurityV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_COMMANDS_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Security Commands Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param reportsToFollow {@link Integer}
+     * @param commandClassSupport {@link List<Integer>}
+     * @param commandClassControl {@link List<Integer>}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurityCommandsSupportedReport(ByteBuffer buffer, Integer reportsToFollow,
+            List<Integer> commandClassSupport, List<Integer> commandClassControl) {
+        logger.debug("Creating command message SECURITY_COMMANDS_SUPPORTED_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_COMMANDS_SUPPORTED_REPORT);
+
+        // Process 'Reports to follow'
+        buffer.put(reportsToFollow.byteValue());
+
+        // Process 'Command Class support'
+        for (Integer valCommandClassSupport : commandClassSupport) {
+            buffer.put(valCommandClassSupport.byteValue());
+        }
+
+        // Process 'COMMAND_CLASS_MARK'
+        buffer.put((byte) 0xEF);
+
+        // Process 'Command Class control'
+        for (Integer valCommandClassControl : commandClassControl) {
+            buffer.put(valCommandClassControl.byteValue());
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_COMMANDS_SUPPORTED_REPORT command.
      * <p>
@@ -262,6 +325,31 @@ public class CommandClassSecurityV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_SCHEME_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Security Scheme Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param supportedSecuritySchemes {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecuritySchemeGet(ByteBuffer buffer, Integer supportedSecuritySchemes) {
+        logger.debug("Creating command message SECURITY_SCHEME_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_SCHEME_GET);
+
+        // Process 'Supported Security Schemes'
+        buffer.put(supportedSecuritySchemes.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_SCHEME_GET command.
      * <p>
@@ -309,6 +397,31 @@ public class CommandClassSecurityV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_SCHEME_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Security Scheme Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param supportedSecuritySchemes {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecuritySchemeReport(ByteBuffer buffer, Integer supportedSecuritySchemes) {
+        logger.debug("Creating command message SECURITY_SCHEME_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_SCHEME_REPORT);
+
+        // Process 'Supported Security Schemes'
+        buffer.put(supportedSecuritySchemes.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_SCHEME_REPORT command.
      * <p>
@@ -361,6 +474,33 @@ public class CommandClassSecurityV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the NETWORK_KEY_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Network Key Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param networkKeyByte {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getNetworkKeySet(ByteBuffer buffer, byte[] networkKeyByte) {
+        logger.debug("Creating command message NETWORK_KEY_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) NETWORK_KEY_SET);
+
+        // Process 'Network Key byte'
+        if (networkKeyByte != null) {
+            buffer.put(networkKeyByte);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the NETWORK_KEY_SET command.
      * <p>
@@ -412,6 +552,27 @@ public class CommandClassSecurityV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the NETWORK_KEY_VERIFY command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Network Key Verify
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getNetworkKeyVerify(ByteBuffer buffer) {
+        logger.debug("Creating command message NETWORK_KEY_VERIFY version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) NETWORK_KEY_VERIFY);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the NETWORK_KEY_VERIFY command.
      * <p>
@@ -450,6 +611,31 @@ public class CommandClassSecurityV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_SCHEME_INHERIT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Security Scheme Inherit
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param supportedSecuritySchemes {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecuritySchemeInherit(ByteBuffer buffer, Integer supportedSecuritySchemes) {
+        logger.debug("Creating command message SECURITY_SCHEME_INHERIT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_SCHEME_INHERIT);
+
+        // Process 'Supported Security Schemes'
+        buffer.put(supportedSecuritySchemes.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_SCHEME_INHERIT command.
      * <p>
@@ -493,6 +679,27 @@ public class CommandClassSecurityV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_NONCE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Security Nonce Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurityNonceGet(ByteBuffer buffer) {
+        logger.debug("Creating command message SECURITY_NONCE_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_NONCE_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_NONCE_GET command.
      * <p>
@@ -539,6 +746,36 @@ public class CommandClassSecurityV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_NONCE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Security Nonce Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param nonceByte {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurityNonceReport(ByteBuffer buffer, byte[] nonceByte) {
+        logger.debug("Creating command message SECURITY_NONCE_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_NONCE_REPORT);
+
+        // Process 'Nonce byte'
+        if (nonceByte != null) {
+            if (nonceByte.length > 8) {
+                throw new IllegalArgumentException("Length of array nonceByte exceeds maximum length of 8 bytes");
+            }
+            buffer.put(nonceByte);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_NONCE_REPORT command.
      * <p>
@@ -636,6 +873,67 @@ public class CommandClassSecurityV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_MESSAGE_ENCAPSULATION command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Security Message Encapsulation
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param initializationVectorByte {@link byte[]}
+     * @param sequenceCounter {@link Integer}
+     * @param sequenced {@link Boolean}
+     * @param secondFrame {@link Boolean}
+     * @param commandByte {@link byte[]}
+     * @param receiversNonceIdentifier {@link Integer}
+     * @param messageAuthenticationCodeByte {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurityMessageEncapsulation(ByteBuffer buffer, byte[] initializationVectorByte,
+            Integer sequenceCounter, Boolean sequenced, Boolean secondFrame, byte[] commandByte,
+            Integer receiversNonceIdentifier, byte[] messageAuthenticationCodeByte) {
+        logger.debug("Creating command message SECURITY_MESSAGE_ENCAPSULATION version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_MESSAGE_ENCAPSULATION);
+
+        // Process 'Initialization Vector byte'
+        if (initializationVectorByte != null) {
+            if (initializationVectorByte.length > 8) {
+                throw new IllegalArgumentException("Length of array initializationVectorByte exceeds maximum length of 8 bytes");
+            }
+            buffer.put(initializationVectorByte);
+        }
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= sequenceCounter & 0x0F;
+        valProperties1 |= sequenced ? 0x10 : 0;
+        valProperties1 |= secondFrame ? 0x20 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Command byte'
+        if (commandByte != null) {
+            buffer.put(commandByte);
+        }
+
+        // Process 'Receivers nonce Identifier'
+        buffer.put(receiversNonceIdentifier.byteValue());
+
+        // Process 'Message Authentication Code byte'
+        if (messageAuthenticationCodeByte != null) {
+            if (messageAuthenticationCodeByte.length > 8) {
+                throw new IllegalArgumentException("Length of array messageAuthenticationCodeByte exceeds maximum length of 8 bytes");
+            }
+            buffer.put(messageAuthenticationCodeByte);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_MESSAGE_ENCAPSULATION command.
      * <p>
@@ -770,6 +1068,67 @@ public class CommandClassSecurityV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SECURITY_MESSAGE_ENCAPSULATION_NONCE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Security Message Encapsulation Nonce Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param initializationVectorByte {@link byte[]}
+     * @param sequenceCounter {@link Integer}
+     * @param sequenced {@link Boolean}
+     * @param secondFrame {@link Boolean}
+     * @param commandByte {@link byte[]}
+     * @param receiversNonceIdentifier {@link Integer}
+     * @param messageAuthenticationCodeByte {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSecurityMessageEncapsulationNonceGet(ByteBuffer buffer, byte[] initializationVectorByte,
+            Integer sequenceCounter, Boolean sequenced, Boolean secondFrame, byte[] commandByte,
+            Integer receiversNonceIdentifier, byte[] messageAuthenticationCodeByte) {
+        logger.debug("Creating command message SECURITY_MESSAGE_ENCAPSULATION_NONCE_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SECURITY_MESSAGE_ENCAPSULATION_NONCE_GET);
+
+        // Process 'Initialization Vector byte'
+        if (initializationVectorByte != null) {
+            if (initializationVectorByte.length > 8) {
+                throw new IllegalArgumentException("Length of array initializationVectorByte exceeds maximum length of 8 bytes");
+            }
+            buffer.put(initializationVectorByte);
+        }
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= sequenceCounter & 0x0F;
+        valProperties1 |= sequenced ? 0x10 : 0;
+        valProperties1 |= secondFrame ? 0x20 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Command byte'
+        if (commandByte != null) {
+            buffer.put(commandByte);
+        }
+
+        // Process 'Receivers nonce Identifier'
+        buffer.put(receiversNonceIdentifier.byteValue());
+
+        // Process 'Message Authentication Code byte'
+        if (messageAuthenticationCodeByte != null) {
+            if (messageAuthenticationCodeByte.length > 8) {
+                throw new IllegalArgumentException("Length of array messageAuthenticationCodeByte exceeds maximum length of 8 bytes");
+            }
+            buffer.put(messageAuthenticationCodeByte);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SECURITY_MESSAGE_ENCAPSULATION_NONCE_GET command.
      * <p>
@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -135,6 +136,51 @@ public class CommandClassSensorAlarmV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SENSOR_ALARM_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Sensor Alarm Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sensorType {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>GENERAL_PURPOSE_ALARM
+     *            <li>RETURN_FIRST_ALARM_ON_SUPPORTED_LIST
+     *            <li>SMOKE_ALARM
+     *            <li>CO_ALARM
+     *            <li>CO2_ALARM
+     *            <li>HEAT_ALARM
+     *            <li>WATER_LEAK_ALARM
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSensorAlarmGet(ByteBuffer buffer, String sensorType) {
+        logger.debug("Creating command message SENSOR_ALARM_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SENSOR_ALARM_GET);
+
+        // Process 'Sensor Type'
+        boolean foundSensorType = false;
+        for (Integer entry : constantSensorAlarmGetSensorType.keySet()) {
+            if (constantSensorAlarmGetSensorType.get(entry).equals(sensorType)) {
+                buffer.put(entry.byteValue());
+                foundSensorType = true;
+                break;
+            }
+        }
+        if (!foundSensorType) {
+            throw new IllegalArgumentException("Unknown constant value '" + sensorType + "' for sensorType");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SENSOR_ALARM_GET command.
      * <p>
@@ -236,6 +282,86 @@ public class CommandClassSensorAlarmV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SENSOR_ALARM_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Sensor Alarm Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sourceNodeId {@link Integer}
+     * @param sensorType {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>GENERAL_PURPOSE_ALARM
+     *            <li>RETURN_FIRST_ALARM_ON_SUPPORTED_LIST
+     *            <li>SMOKE_ALARM
+     *            <li>CO_ALARM
+     *            <li>CO2_ALARM
+     *            <li>HEAT_ALARM
+     *            <li>WATER_LEAK_ALARM
+     *            </ul>
+     * @param sensorState {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NO_ALARM
+     *            <li>ALARM
+     *            </ul>
+     * @param seconds {@link Integer}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getSensorAlarmReport(ByteBuffer buffer, Integer sourceNodeId, String sensorType,
+            String sensorState, Integer seconds) {
+        logger.debug("Creating command message SENSOR_ALARM_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SENSOR_ALARM_REPORT);
+
+        // Process 'Source Node ID'
+        // Check the node number boundary
+        if (sourceNodeId < 1 || sourceNodeId > 232) {
+            logger.debug("Node number is out of bounds {}", sourceNodeId);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(sourceNodeId.byteValue());
+
+        // Process 'Sensor Type'
+        boolean foundSensorType = false;
+        for (Integer entry : constantSensorAlarmReportSensorType.keySet()) {
+            if (constantSensorAlarmReportSensorType.get(entry).equals(sensorType)) {
+                buffer.put(entry.byteValue());
+                foundSensorType = true;
+                break;
+            }
+        }
+        if (!foundSensorType) {
+            throw new IllegalArgumentException("Unknown constant value '" + sensorType + "' for sensorType");
+        }
+
+        // Process 'Sensor State'
+        boolean foundSensorState = false;
+        for (Integer entry : constantSensorAlarmReportSensorState.keySet()) {
+            if (constantSensorAlarmReportSensorState.get(entry).equals(sensorState)) {
+                buffer.put(entry.byteValue());
+                foundSensorState = true;
+                break;
+            }
+        }
+        if (!foundSensorState) {
+            throw new IllegalArgumentException("Unknown constant value '" + sensorState + "' for sensorState");
+        }
+
+        // Process 'Seconds'
+        buffer.put((byte) ((seconds >> 8) & 0xff));
+        buffer.put((byte) (seconds & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SENSOR_ALARM_REPORT command.
      * <p>
@@ -291,6 +417,27 @@ public class CommandClassSensorAlarmV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SENSOR_ALARM_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Sensor Alarm Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSensorAlarmSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message SENSOR_ALARM_SUPPORTED_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SENSOR_ALARM_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SENSOR_ALARM_SUPPORTED_GET command.
      * <p>
@@ -338,6 +485,37 @@ public class CommandClassSensorAlarmV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SENSOR_ALARM_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Sensor Alarm Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param numberOfBitMasks {@link Integer}
+     * @param bitMask {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSensorAlarmSupportedReport(ByteBuffer buffer, Integer numberOfBitMasks, byte[] bitMask) {
+        logger.debug("Creating command message SENSOR_ALARM_SUPPORTED_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SENSOR_ALARM_SUPPORTED_REPORT);
+
+        // Process 'Number of Bit Masks'
+        buffer.put(numberOfBitMasks.byteValue());
+
+        // Process 'Bit Mask'
+        if (bitMask != null) {
+            buffer.put(bitMask);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SENSOR_ALARM_SUPPORTED_REPORT command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -74,6 +75,27 @@ public class CommandClassSensorBinaryV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SENSOR_BINARY_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Sensor Binary Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSensorBinaryGet(ByteBuffer buffer) {
+        logger.debug("Creating command message SENSOR_BINARY_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SENSOR_BINARY_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SENSOR_BINARY_GET command.
      * <p>
@@ -127,6 +149,46 @@ public class CommandClassSensorBinaryV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SENSOR_BINARY_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Sensor Binary Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sensorValue {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>IDLE
+     *            <li>DETECTED_AN_EVENT
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSensorBinaryReport(ByteBuffer buffer, String sensorValue) {
+        logger.debug("Creating command message SENSOR_BINARY_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SENSOR_BINARY_REPORT);
+
+        // Process 'Sensor Value'
+        boolean foundSensorValue = false;
+        for (Integer entry : constantSensorBinaryReportSensorValue.keySet()) {
+            if (constantSensorBinaryReportSensorValue.get(entry).equals(sensorValue)) {
+                buffer.put(entry.byteValue());
+                foundSensorValue = true;
+                break;
+            }
+        }
+        if (!foundSensorValue) {
+            throw new IllegalArgumentException("Unknown constant value '" + sensorValue + "' for sensorValue");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SENSOR_BINARY_REPORT command.
      * <p>
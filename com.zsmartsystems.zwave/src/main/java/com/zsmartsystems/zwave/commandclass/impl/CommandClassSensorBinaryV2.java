@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -144,6 +145,27 @@ public class CommandClassSensorBinaryV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SENSOR_BINARY_SUPPORTED_GET_SENSOR command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Sensor Binary Supported Get Sensor
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSensorBinarySupportedGetSensor(ByteBuffer buffer) {
+        logger.debug("Creating command message SENSOR_BINARY_SUPPORTED_GET_SENSOR version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SENSOR_BINARY_SUPPORTED_GET_SENSOR);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SENSOR_BINARY_SUPPORTED_GET_SENSOR command.
      * <p>
@@ -208,6 +230,57 @@ public class CommandClassSensorBinaryV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SENSOR_BINARY_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Sensor Binary Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sensorType {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>GENERAL
+     *            <li>SMOKE
+     *            <li>CO
+     *            <li>CO2
+     *            <li>HEAT
+     *            <li>WATER
+     *            <li>FREEZE
+     *            <li>TAMPER
+     *            <li>AUX
+     *            <li>DOOR_WINDOW
+     *            <li>TILT
+     *            <li>MOTION
+     *            <li>GLASS_BREAK
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSensorBinaryGet(ByteBuffer buffer, String sensorType) {
+        logger.debug("Creating command message SENSOR_BINARY_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SENSOR_BINARY_GET);
+
+        // Process 'Sensor Type'
+        boolean foundSensorType = false;
+        for (Integer entry : constantSensorBinaryGetSensorType.keySet()) {
+            if (constantSensorBinaryGetSensorType.get(entry).equals(sensorType)) {
+                buffer.put(entry.byteValue());
+                foundSensorType = true;
+                break;
+            }
+        }
+        if (!foundSensorType) {
+            throw new IllegalArgumentException("Unknown constant value '" + sensorType + "' for sensorType");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SENSOR_BINARY_GET command.
      * <p>
@@ -300,6 +373,76 @@ public class CommandClassSensorBinaryV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SENSOR_BINARY_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Sensor Binary Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sensorValue {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>IDLE
+     *            <li>DETECTED_AN_EVENT
+     *            </ul>
+     * @param sensorType {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>GENERAL
+     *            <li>SMOKE
+     *            <li>CO
+     *            <li>CO2
+     *            <li>HEAT
+     *            <li>WATER
+     *            <li>FREEZE
+     *            <li>TAMPER
+     *            <li>AUX
+     *            <li>DOOR_WINDOW
+     *            <li>TILT
+     *            <li>MOTION
+     *            <li>GLASS_BREAK
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSensorBinaryReport(ByteBuffer buffer, String sensorValue, String sensorType) {
+        logger.debug("Creating command message SENSOR_BINARY_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SENSOR_BINARY_REPORT);
+
+        // Process 'Sensor Value'
+        boolean foundSensorValue = false;
+        for (Integer entry : constantSensorBinaryReportSensorValue.keySet()) {
+            if (constantSensorBinaryReportSensorValue.get(entry).equals(sensorValue)) {
+                buffer.put(entry.byteValue());
+                foundSensorValue = true;
+                break;
+            }
+        }
+        if (!foundSensorValue) {
+            throw new IllegalArgumentException("Unknown constant value '" + sensorValue + "' for sensorValue");
+        }
+
+        // Process 'Sensor Type'
+        boolean foundSensorType = false;
+        for (Integer entry : constantSensorBinaryReportSensorType.keySet()) {
+            if (constantSensorBinaryReportSensorType.get(entry).equals(sensorType)) {
+                buffer.put(entry.byteValue());
+                foundSensorType = true;
+                break;
+            }
+        }
+        if (!foundSensorType) {
+            throw new IllegalArgumentException("Unknown constant value '" + sensorType + "' for sensorType");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SENSOR_BINARY_REPORT command.
      * <p>
@@ -381,6 +524,61 @@ public class CommandClassSensorBinaryV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SENSOR_BINARY_SUPPORTED_SENSOR_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Sensor Binary Supported Sensor Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param bitMask {@link List<String>}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>GENERAL
+     *            <li>SMOKE
+     *            <li>CO
+     *            <li>CO2
+     *            <li>HEAT
+     *            <li>WATER
+     *            <li>FREEZE
+     *            <li>TAMPER
+     *            <li>AUX
+     *            <li>DOOR_WINDOW
+     *            <li>TILT
+     *            <li>MOTION
+     *            <li>GLASS_BREAK
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSensorBinarySupportedSensorReport(ByteBuffer buffer, List<String> bitMask) {
+        logger.debug("Creating command message SENSOR_BINARY_SUPPORTED_SENSOR_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SENSOR_BINARY_SUPPORTED_SENSOR_REPORT);
+
+        // Process 'Bit Mask'
+        int valBitMask = 0;
+        for (String value : bitMask) {
+            boolean foundBitMask = false;
+            for (Integer entry : constantSensorBinarySupportedSensorReportBitMask.keySet()) {
+                if (constantSensorBinarySupportedSensorReportBitMask.get(entry).equals(value)) {
+                    foundBitMask = true;
+                    valBitMask += entry;
+                    break;
+                }
+            }
+            if (!foundBitMask) {
+                throw new IllegalArgumentException("Unknown constant value '" + bitMask + "' for bitMask");
+            }
+        }
+        buffer.put((byte) valBitMask);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SENSOR_BINARY_SUPPORTED_SENSOR_REPORT command.
      * <p>
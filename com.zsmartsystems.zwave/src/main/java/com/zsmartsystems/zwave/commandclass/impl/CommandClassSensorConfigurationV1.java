@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -178,6 +179,83 @@ public class CommandClassSensorConfigurationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SENSOR_TRIGGER_LEVEL_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Sensor Trigger Level Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param current {@link Boolean}
+     * @param defaultValue {@link Boolean}
+     * @param sensorType {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>TEMPERATURE
+     *            <li>GENERAL_PURPOSE_VALUE
+     *            <li>LUMINANCE
+     *            <li>POWER
+     *            <li>RELATIVE_HUMIDITY
+     *            <li>VELOCITY
+     *            <li>DIRECTION
+     *            <li>ATMOSPHERIC_PRESSURE
+     *            <li>BAROMETRIC_PRESSURE
+     *            <li>SOLAR_RADIATION
+     *            <li>DEW_POINT
+     *            <li>RAIN_RATE
+     *            <li>TIDE_LEVEL
+     *            </ul>
+     * @param scale {@link Integer}
+     * @param precision {@link Integer}
+     * @param triggerValue {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSensorTriggerLevelSet(ByteBuffer buffer, Boolean current, Boolean defaultValue,
+            String sensorType, Integer scale, Integer precision, byte[] triggerValue) {
+        logger.debug("Creating command message SENSOR_TRIGGER_LEVEL_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SENSOR_TRIGGER_LEVEL_SET);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= current ? 0x40 : 0;
+        valProperties1 |= defaultValue ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Sensor Type'
+        boolean foundSensorType = false;
+        for (Integer entry : constantSensorTriggerLevelSetSensorType.keySet()) {
+            if (constantSensorTriggerLevelSetSensorType.get(entry).equals(sensorType)) {
+                buffer.put(entry.byteValue());
+                foundSensorType = true;
+                break;
+            }
+        }
+        if (!foundSensorType) {
+            throw new IllegalArgumentException("Unknown constant value '" + sensorType + "' for sensorType");
+        }
+
+        // Process 'Properties2'
+        // Size is used by 'Trigger Value'
+        int size = triggerValue.length;
+        int valProperties2 = 0;
+        valProperties2 |= size & 0x07;
+        valProperties2 |= ((scale << 3) & 0x18);
+        valProperties2 |= ((precision << 5) & 0xE0);
+        buffer.put((byte) valProperties2);
+
+        // Process 'Trigger Value'
+        if (triggerValue != null) {
+            buffer.put(triggerValue);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SENSOR_TRIGGER_LEVEL_SET command.
      * <p>
@@ -250,6 +328,27 @@ public class CommandClassSensorConfigurationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SENSOR_TRIGGER_LEVEL_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Sensor Trigger Level Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSensorTriggerLevelGet(ByteBuffer buffer) {
+        logger.debug("Creating command message SENSOR_TRIGGER_LEVEL_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SENSOR_TRIGGER_LEVEL_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SENSOR_TRIGGER_LEVEL_GET command.
      * <p>
@@ -335,6 +434,75 @@ public class CommandClassSensorConfigurationV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SENSOR_TRIGGER_LEVEL_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Sensor Trigger Level Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sensorType {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>TEMPERATURE
+     *            <li>GENERAL_PURPOSE_VALUE
+     *            <li>LUMINANCE
+     *            <li>POWER
+     *            <li>RELATIVE_HUMIDITY
+     *            <li>VELOCITY
+     *            <li>DIRECTION
+     *            <li>ATMOSPHERIC_PRESSURE
+     *            <li>BAROMETRIC_PRESSURE
+     *            <li>SOLAR_RADIATION
+     *            <li>DEW_POINT
+     *            <li>RAIN_RATE
+     *            <li>TIDE_LEVEL
+     *            </ul>
+     * @param scale {@link Integer}
+     * @param precision {@link Integer}
+     * @param triggerValue {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSensorTriggerLevelReport(ByteBuffer buffer, String sensorType, Integer scale,
+            Integer precision, byte[] triggerValue) {
+        logger.debug("Creating command message SENSOR_TRIGGER_LEVEL_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SENSOR_TRIGGER_LEVEL_REPORT);
+
+        // Process 'Sensor Type'
+        boolean foundSensorType = false;
+        for (Integer entry : constantSensorTriggerLevelReportSensorType.keySet()) {
+            if (constantSensorTriggerLevelReportSensorType.get(entry).equals(sensorType)) {
+                buffer.put(entry.byteValue());
+                foundSensorType = true;
+                break;
+            }
+        }
+        if (!foundSensorType) {
+            throw new IllegalArgumentException("Unknown constant value '" + sensorType + "' for sensorType");
+        }
+
+        // Process 'Properties1'
+        // Size is used by 'Trigger Value'
+        int size = triggerValue.length;
+        int valProperties1 = 0;
+        valProperties1 |= size & 0x07;
+        valProperties1 |= ((scale << 3) & 0x18);
+        valProperties1 |= ((precision << 5) & 0xE0);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Trigger Value'
+        if (triggerValue != null) {
+            buffer.put(triggerValue);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SENSOR_TRIGGER_LEVEL_REPORT command.
      * <p>
@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -17,6 +18,8 @@ import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.zsmartsystems.zwave.commandclass.ZWaveCommandClassView;
+
 /**
  * Class to implement the Z-Wave command class <b>COMMAND_CLASS_SENSOR_MULTILEVEL</b> version <b>10</b>.
  * <p>
@@ -402,6 +405,108 @@ public class CommandClassSensorMultilevelV10 {
         constantSensorMultilevelSupportedGetScaleSensorType.put(0x3C, "RESPIRATORY_RATE");
     }
 
+    /**
+     * Constants for the 'Sensor Type' field
+     */
+    public enum SensorType {
+        TEMPERATURE(0x01),
+        GENERAL_PURPOSE_VALUE(0x02),
+        LUMINANCE(0x03),
+        POWER(0x04),
+        RELATIVE_HUMIDITY(0x05),
+        VELOCITY(0x06),
+        DIRECTION(0x07),
+        ATMOSPHERIC_PRESSURE(0x08),
+        BAROMETRIC_PRESSURE(0x09),
+        SOLAR_RADIATION(0x0A),
+        DEW_POINT(0x0B),
+        RAIN_RATE(0x0C),
+        TIDE_LEVEL(0x0D),
+        WEIGHT(0x0E),
+        VOLTAGE(0x0F),
+        CO2_LEVEL(0x11),
+        CURRENT(0x10),
+        TANK_CAPACITY(0x13),
+        AIR_FLOW(0x12),
+        ANGLE_POSITION(0x15),
+        DISTANCE(0x14),
+        WATER_TEMPERATURE(0x17),
+        ROTATION(0x16),
+        SEISMIC_INTENSITY(0x19),
+        SOIL_TEMPERATURE(0x18),
+        ULTRAVIOLET(0x1B),
+        SEISMIC_MAGNITUDE(0x1A),
+        ELECTRICAL_CONDUCTIVITY(0x1D),
+        ELECTRICAL_RESISTIVITY(0x1C),
+        MOISTURE(0x1F),
+        LOUDNESS(0x1E),
+        TARGET_TEMPERATURE(0x22),
+        PARTICULATE_MATTER_2_5(0x23),
+        FREQUENCY(0x20),
+        TIME(0x21),
+        METHANE_DENSITY_CH4(0x26),
+        VOLATILE_ORGANIC_COMPOUND(0x27),
+        FORMALDEHYDE_CH2O_LEVEL(0x24),
+        RADON_CONCENTRATION(0x25),
+        SOIL_REACTIVITY(0x2A),
+        SOIL_SALINITY(0x2B),
+        CARBON_MONOXIDE_CO_LEVEL(0x28),
+        SOIL_HUMIDITY(0x29),
+        MUSCLE_MASS(0x2E),
+        FAT_MASS(0x2F),
+        HEART_RATE(0x2C),
+        BLOOD_PRESSURE(0x2D),
+        BODY_MASS_INDEX_BMI(0x33),
+        BASIC_METABOLIC_RATE_BMR(0x32),
+        TOTAL_BODY_WATER_TBW(0x31),
+        BONE_MASS(0x30),
+        SMOKE_DENSITY(0x37),
+        ACCELERATION_Z_AXIS(0x36),
+        ACCELERATION_Y_AXIS(0x35),
+        ACCELERATION_X_AXIS(0x34),
+        PARTICULATE_MATTER(0x3B),
+        RF_SIGNAL_STRENGTH(0x3A),
+        WATER_PRESSURE(0x39),
+        WATER_FLOW(0x38),
+        RESPIRATORY_RATE(0x3C);
+
+        private static final SensorType[] keyLookup = new SensorType[0x3D];
+
+        static {
+            for (SensorType value : values()) {
+                keyLookup[value.key] = value;
+            }
+        }
+
+        private final int key;
+
+        private SensorType(int key) {
+            this.key = key;
+        }
+
+        /**
+         * Gets the value of the constant within the frame
+         *
+         * @return the key
+         */
+        public int getKey() {
+            return key;
+        }
+
+        /**
+         * Gets the constant for a value received in a frame
+         *
+         * @param key the value of the field
+         * @return the {@link SensorType} or null if the value is not known
+         */
+        public static SensorType getSensorType(int key) {
+            if (key < 0 || key >= keyLookup.length) {
+                return null;
+            }
+            return keyLookup[key];
+        }
+    }
+
     /**
      * Creates a new message with the SENSOR_MULTILEVEL_SUPPORTED_GET_SENSOR command.
      * <p>
@@ -419,6 +524,27 @@ public class CommandClassSensorMultilevelV10 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SENSOR_MULTILEVEL_SUPPORTED_GET_SENSOR command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multilevel Sensor Get Supported Sensor
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSensorMultilevelSupportedGetSensor(ByteBuffer buffer) {
+        logger.debug("Creating command message SENSOR_MULTILEVEL_SUPPORTED_GET_SENSOR version 10");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SENSOR_MULTILEVEL_SUPPORTED_GET_SENSOR);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SENSOR_MULTILEVEL_SUPPORTED_GET_SENSOR command.
      * <p>
@@ -534,6 +660,108 @@ public class CommandClassSensorMultilevelV10 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SENSOR_MULTILEVEL_SUPPORTED_SENSOR_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multilevel Sensor Supported Sensor Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param bitMask {@link List<String>}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>AIR_TEMPERATURE
+     *            <li>GENERAL_PURPOSE_VALUE
+     *            <li>LUMINANCE
+     *            <li>POWER
+     *            <li>HUMIDITY
+     *            <li>VELOCITY
+     *            <li>DIRECTION
+     *            <li>ATMOSPHERIC_PRESSURE
+     *            <li>BAROMETRIC_PRESSURE
+     *            <li>SOLAR_RADIATION
+     *            <li>DEW_POINT
+     *            <li>RAIN_RATE
+     *            <li>TIDE_LEVEL
+     *            <li>WEIGHT
+     *            <li>VOLTAGE
+     *            <li>CO2_LEVEL
+     *            <li>CURRENT
+     *            <li>TANK_CAPACITY
+     *            <li>AIR_FLOW
+     *            <li>ANGLE_POSITION
+     *            <li>DISTANCE
+     *            <li>WATER_TEMPERATURE
+     *            <li>ROTATION
+     *            <li>SEISMIC_INTENSITY
+     *            <li>SOIL_TEMPERATURE
+     *            <li>ULTRAVIOLET
+     *            <li>SEISMIC_MAGNITUDE
+     *            <li>ELECTRICAL_CONDUCTIVITY
+     *            <li>ELECTRICAL_RESISTIVITY
+     *            <li>MOISTURE
+     *            <li>LOUDNESS
+     *            <li>TARGET_TEMPERATURE
+     *            <li>PARTICULATE_MATTER_2_5
+     *            <li>FREQUENCY
+     *            <li>TIME
+     *            <li>METHANE_DENSITY_CH4
+     *            <li>VOLATILE_ORGANIC_COMPOUND
+     *            <li>FORMALDEHYDE_CH2O_LEVEL
+     *            <li>RADON_CONCENTRATION
+     *            <li>SOIL_REACTIVITY
+     *            <li>SOIL_SALINITY
+     *            <li>CARBON_MONOXIDE_CO_LEVEL
+     *            <li>SOIL_HUMIDITY
+     *            <li>MUSCLE_MASS
+     *            <li>FAT_MASS
+     *            <li>HEART_RATE
+     *            <li>BLOOD_PRESSURE
+     *            <li>BODY_MASS_INDEX_BMI
+     *            <li>BASIC_METABOLIC_RATE_BMR
+     *            <li>TOTAL_BODY_WATER_TBW
+     *            <li>BONE_MASS
+     *            <li>SMOKE_DENSITY
+     *            <li>ACCELERATION_Z_AXIS
+     *            <li>ACCELERATION_Y_AXIS
+     *            <li>ACCELERATION_X_AXIS
+     *            <li>PARTICULATE_MATTER
+     *            <li>RF_SIGNAL_STRENGTH
+     *            <li>WATER_PRESSURE
+     *            <li>WATER_FLOW
+     *            <li>RESPIRATORY_RATE
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSensorMultilevelSupportedSensorReport(ByteBuffer buffer, List<String> bitMask) {
+        logger.debug("Creating command message SENSOR_MULTILEVEL_SUPPORTED_SENSOR_REPORT version 10");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SENSOR_MULTILEVEL_SUPPORTED_SENSOR_REPORT);
+
+        // Process 'Bit Mask'
+        int valBitMask = 0;
+        for (String value : bitMask) {
+            boolean foundBitMask = false;
+            for (Integer entry : constantSensorMultilevelSupportedSensorReportBitMask.keySet()) {
+                if (constantSensorMultilevelSupportedSensorReportBitMask.get(entry).equals(value)) {
+                    foundBitMask = true;
+                    valBitMask += entry;
+                    break;
+                }
+            }
+            if (!foundBitMask) {
+                throw new IllegalArgumentException("Unknown constant value '" + bitMask + "' for bitMask");
+            }
+        }
+        buffer.put((byte) valBitMask);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SENSOR_MULTILEVEL_SUPPORTED_SENSOR_REPORT command.
      * <p>
@@ -662,36 +890,14 @@ public class CommandClassSensorMultilevelV10 {
     }
 
     /**
-     * Processes a received frame with the SENSOR_MULTILEVEL_SUPPORTED_GET_SCALE command.
-     * <p>
-     * Multilevel Sensor Get Supported Scale
+     * Writes a new message with the SENSOR_MULTILEVEL_SUPPORTED_GET_SCALE command.
      * <p>
-     * The output data {@link Map} has the following properties -:
-     *
-     * <ul>
-     * <li>SENSOR_TYPE {@link String}
-     * </ul>
-     *
-     * @param payload the {@link byte[]} payload data to process
-     * @return a {@link Map} of processed response data
-     */
-    public static Map<String, Object> handleSensorMultilevelSupportedGetScale(byte[] payload) {
-        // Create our response map
-        Map<String, Object> response = new HashMap<String, Object>();
-
-        // Process 'Sensor Type'
-        response.put("SENSOR_TYPE", constantSensorMultilevelSupportedGetScaleSensorType.get(payload[2] & 0xff));
-
-        // Return the map of processed response data;
-        return response;
-    }
-
-
-    /**
-     * Creates a new message with the SENSOR_MULTILEVEL_GET command.
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
      * <p>
-     * Multilevel Sensor Get
+     * Multilevel Sensor Get Supported Scale
      *
+     * @param buffer the {@link ByteBuffer} to write the message to
      * @param sensorType {@link String}
      *            Can be one of the following -:
      *            <ul>
@@ -756,21 +962,20 @@ public class CommandClassSensorMultilevelV10 {
      *            <li>WATER_FLOW
      *            <li>RESPIRATORY_RATE
      *            </ul>
-     * @param scale {@link Integer}
-     * @return the {@link byte[]} array with the command to send
+     * @return the number of bytes written to the buffer
      */
-    static public byte[] getSensorMultilevelGet(String sensorType, Integer scale) {
-        logger.debug("Creating command message SENSOR_MULTILEVEL_GET version 10");
+    static public int getSensorMultilevelSupportedGetScale(ByteBuffer buffer, String sensorType) {
+        logger.debug("Creating command message SENSOR_MULTILEVEL_SUPPORTED_GET_SCALE version 10");
 
-        ByteArrayOutputStream outputData = new ByteArrayOutputStream();
-        outputData.write(COMMAND_CLASS_KEY);
-        outputData.write(SENSOR_MULTILEVEL_GET);
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SENSOR_MULTILEVEL_SUPPORTED_GET_SCALE);
 
         // Process 'Sensor Type'
         boolean foundSensorType = false;
-        for (Integer entry : constantSensorMultilevelGetSensorType.keySet()) {
-            if (constantSensorMultilevelGetSensorType.get(entry).equals(sensorType)) {
-                outputData.write(entry);
+        for (Integer entry : constantSensorMultilevelSupportedGetScaleSensorType.keySet()) {
+            if (constantSensorMultilevelSupportedGetScaleSensorType.get(entry).equals(sensorType)) {
+                buffer.put(entry.byteValue());
                 foundSensorType = true;
                 break;
             }
@@ -779,36 +984,75 @@ public class CommandClassSensorMultilevelV10 {
             throw new IllegalArgumentException("Unknown constant value '" + sensorType + "' for sensorType");
         }
 
-        // Process 'Properties1'
-        outputData.write(((scale << 3) & 0x18));
+        return buffer.position() - start;
+    }
+
+    /**
+     * Creates a new message with the SENSOR_MULTILEVEL_SUPPORTED_GET_SCALE command.
+     * <p>
+     * Multilevel Sensor Get Supported Scale
+     *
+     * @param sensorType {@link SensorType}
+     * @return the {@link byte[]} array with the command to send
+     */
+    static public byte[] getSensorMultilevelSupportedGetScale(SensorType sensorType) {
+        logger.debug("Creating command message SENSOR_MULTILEVEL_SUPPORTED_GET_SCALE version 10");
+
+        ByteArrayOutputStream outputData = new ByteArrayOutputStream();
+        outputData.write(COMMAND_CLASS_KEY);
+        outputData.write(SENSOR_MULTILEVEL_SUPPORTED_GET_SCALE);
+
+        // Process 'Sensor Type'
+        outputData.write(sensorType.getKey());
 
         return outputData.toByteArray();
     }
 
     /**
-     * Processes a received frame with the SENSOR_MULTILEVEL_GET command.
+     * Writes a new message with the SENSOR_MULTILEVEL_SUPPORTED_GET_SCALE command.
      * <p>
-     * Multilevel Sensor Get
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multilevel Sensor Get Supported Scale
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sensorType {@link SensorType}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSensorMultilevelSupportedGetScale(ByteBuffer buffer, SensorType sensorType) {
+        logger.debug("Creating command message SENSOR_MULTILEVEL_SUPPORTED_GET_SCALE version 10");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SENSOR_MULTILEVEL_SUPPORTED_GET_SCALE);
+
+        // Process 'Sensor Type'
+        buffer.put((byte) sensorType.getKey());
+
+        return buffer.position() - start;
+    }
+
+    /**
+     * Processes a received frame with the SENSOR_MULTILEVEL_SUPPORTED_GET_SCALE command.
+     * <p>
+     * Multilevel Sensor Get Supported Scale
      * <p>
      * The output data {@link Map} has the following properties -:
      *
      * <ul>
      * <li>SENSOR_TYPE {@link String}
-     * <li>SCALE {@link Integer}
      * </ul>
      *
      * @param payload the {@link byte[]} payload data to process
      * @return a {@link Map} of processed response data
      */
-    public static Map<String, Object> handleSensorMultilevelGet(byte[] payload) {
+    public static Map<String, Object> handleSensorMultilevelSupportedGetScale(byte[] payload) {
         // Create our response map
         Map<String, Object> response = new HashMap<String, Object>();
 
         // Process 'Sensor Type'
-        response.put("SENSOR_TYPE", constantSensorMultilevelGetSensorType.get(payload[2] & 0xff));
-
-        // Process 'Properties1'
-        response.put("SCALE", Integer.valueOf(payload[3] & 0x18 >> 3));
+        response.put("SENSOR_TYPE", constantSensorMultilevelSupportedGetScaleSensorType.get(payload[2] & 0xff));
 
         // Return the map of processed response data;
         return response;
@@ -816,9 +1060,9 @@ public class CommandClassSensorMultilevelV10 {
 
 
     /**
-     * Creates a new message with the SENSOR_MULTILEVEL_REPORT command.
+     * Creates a new message with the SENSOR_MULTILEVEL_GET command.
      * <p>
-     * Multilevel Sensor Report
+     * Multilevel Sensor Get
      *
      * @param sensorType {@link String}
      *            Can be one of the following -:
@@ -885,22 +1129,19 @@ public class CommandClassSensorMultilevelV10 {
      *            <li>RESPIRATORY_RATE
      *            </ul>
      * @param scale {@link Integer}
-     * @param precision {@link Integer}
-     * @param sensorValue {@link byte[]}
      * @return the {@link byte[]} array with the command to send
      */
-    static public byte[] getSensorMultilevelReport(String sensorType, Integer scale, Integer precision,
-            byte[] sensorValue) {
-        logger.debug("Creating command message SENSOR_MULTILEVEL_REPORT version 10");
+    static public byte[] getSensorMultilevelGet(String sensorType, Integer scale) {
+        logger.debug("Creating command message SENSOR_MULTILEVEL_GET version 10");
 
         ByteArrayOutputStream outputData = new ByteArrayOutputStream();
         outputData.write(COMMAND_CLASS_KEY);
-        outputData.write(SENSOR_MULTILEVEL_REPORT);
+        outputData.write(SENSOR_MULTILEVEL_GET);
 
         // Process 'Sensor Type'
         boolean foundSensorType = false;
-        for (Integer entry : constantSensorMultilevelReportSensorType.keySet()) {
-            if (constantSensorMultilevelReportSensorType.get(entry).equals(sensorType)) {
+        for (Integer entry : constantSensorMultilevelGetSensorType.keySet()) {
+            if (constantSensorMultilevelGetSensorType.get(entry).equals(sensorType)) {
                 outputData.write(entry);
                 foundSensorType = true;
                 break;
@@ -910,49 +1151,537 @@ public class CommandClassSensorMultilevelV10 {
             throw new IllegalArgumentException("Unknown constant value '" + sensorType + "' for sensorType");
         }
 
-        // Process 'Level'
-        // Size is used by 'Sensor Value'
-        int size = sensorValue.length;
-        int valLevel = 0;
-        valLevel |= size & 0x07;
-        valLevel |= ((scale << 3) & 0x18);
-        valLevel |= ((precision << 5) & 0xE0);
-        outputData.write(valLevel);
-
-        // Process 'Sensor Value'
-        if (sensorValue != null) {
-            try {
-                outputData.write(sensorValue);
-            } catch (IOException e) {
-            }
-        }
+        // Process 'Properties1'
+        outputData.write(((scale << 3) & 0x18));
 
         return outputData.toByteArray();
     }
 
     /**
-     * Processes a received frame with the SENSOR_MULTILEVEL_REPORT command.
+     * Writes a new message with the SENSOR_MULTILEVEL_GET command.
      * <p>
-     * Multilevel Sensor Report
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
      * <p>
-     * The output data {@link Map} has the following properties -:
-     *
-     * <ul>
-     * <li>SENSOR_TYPE {@link String}
-     * <li>SCALE {@link Integer}
-     * <li>PRECISION {@link Integer}
-     * <li>SENSOR_VALUE {@link byte[]}
-     * </ul>
+     * Multilevel Sensor Get
      *
-     * @param payload the {@link byte[]} payload data to process
-     * @return a {@link Map} of processed response data
-     */
-    public static Map<String, Object> handleSensorMultilevelReport(byte[] payload) {
-        // Create our response map
-        Map<String, Object> response = new HashMap<String, Object>();
-
-        // We're using variable length fields, so track the offset
-        int msgOffset = 2;
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sensorType {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>TEMPERATURE
+     *            <li>GENERAL_PURPOSE_VALUE
+     *            <li>LUMINANCE
+     *            <li>POWER
+     *            <li>RELATIVE_HUMIDITY
+     *            <li>VELOCITY
+     *            <li>DIRECTION
+     *            <li>ATMOSPHERIC_PRESSURE
+     *            <li>BAROMETRIC_PRESSURE
+     *            <li>SOLAR_RADIATION
+     *            <li>DEW_POINT
+     *            <li>RAIN_RATE
+     *            <li>TIDE_LEVEL
+     *            <li>WEIGHT
+     *            <li>VOLTAGE
+     *            <li>CO2_LEVEL
+     *            <li>CURRENT
+     *            <li>TANK_CAPACITY
+     *            <li>AIR_FLOW
+     *            <li>ANGLE_POSITION
+     *            <li>DISTANCE
+     *            <li>WATER_TEMPERATURE
+     *            <li>ROTATION
+     *            <li>SEISMIC_INTENSITY
+     *            <li>SOIL_TEMPERATURE
+     *            <li>ULTRAVIOLET
+     *            <li>SEISMIC_MAGNITUDE
+     *            <li>ELECTRICAL_CONDUCTIVITY
+     *            <li>ELECTRICAL_RESISTIVITY
+     *            <li>MOISTURE
+     *            <li>LOUDNESS
+     *            <li>TARGET_TEMPERATURE
+     *            <li>PARTICULATE_MATTER_2_5
+     *            <li>FREQUENCY
+     *            <li>TIME
+     *            <li>METHANE_DENSITY_CH4
+     *            <li>VOLATILE_ORGANIC_COMPOUND
+     *            <li>FORMALDEHYDE_CH2O_LEVEL
+     *            <li>RADON_CONCENTRATION
+     *            <li>SOIL_REACTIVITY
+     *            <li>SOIL_SALINITY
+     *            <li>CARBON_MONOXIDE_CO_LEVEL
+     *            <li>SOIL_HUMIDITY
+     *            <li>MUSCLE_MASS
+     *            <li>FAT_MASS
+     *            <li>HEART_RATE
+     *            <li>BLOOD_PRESSURE
+     *            <li>BODY_MASS_INDEX_BMI
+     *            <li>BASIC_METABOLIC_RATE_BMR
+     *            <li>TOTAL_BODY_WATER_TBW
+     *            <li>BONE_MASS
+     *            <li>SMOKE_DENSITY
+     *            <li>ACCELERATION_Z_AXIS
+     *            <li>ACCELERATION_Y_AXIS
+     *            <li>ACCELERATION_X_AXIS
+     *            <li>PARTICULATE_MATTER
+     *            <li>RF_SIGNAL_STRENGTH
+     *            <li>WATER_PRESSURE
+     *            <li>WATER_FLOW
+     *            <li>RESPIRATORY_RATE
+     *            </ul>
+     * @param scale {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSensorMultilevelGet(ByteBuffer buffer, String sensorType, Integer scale) {
+        logger.debug("Creating command message SENSOR_MULTILEVEL_GET version 10");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SENSOR_MULTILEVEL_GET);
+
+        // Process 'Sensor Type'
+        boolean foundSensorType = false;
+        for (Integer entry : constantSensorMultilevelGetSensorType.keySet()) {
+            if (constantSensorMultilevelGetSensorType.get(entry).equals(sensorType)) {
+                buffer.put(entry.byteValue());
+                foundSensorType = true;
+                break;
+            }
+        }
+        if (!foundSensorType) {
+            throw new IllegalArgumentException("Unknown constant value '" + sensorType + "' for sensorType");
+        }
+
+        // Process 'Properties1'
+        buffer.put((byte) ((scale << 3) & 0x18));
+
+        return buffer.position() - start;
+    }
+
+    /**
+     * Creates a new message with the SENSOR_MULTILEVEL_GET command.
+     * <p>
+     * Multilevel Sensor Get
+     *
+     * @param sensorType {@link SensorType}
+     * @param scale {@link Integer}
+     * @return the {@link byte[]} array with the command to send
+     */
+    static public byte[] getSensorMultilevelGet(SensorType sensorType, Integer scale) {
+        logger.debug("Creating command message SENSOR_MULTILEVEL_GET version 10");
+
+        ByteArrayOutputStream outputData = new ByteArrayOutputStream();
+        outputData.write(COMMAND_CLASS_KEY);
+        outputData.write(SENSOR_MULTILEVEL_GET);
+
+        // Process 'Sensor Type'
+        outputData.write(sensorType.getKey());
+
+        // Process 'Properties1'
+        outputData.write(((scale << 3) & 0x18));
+
+        return outputData.toByteArray();
+    }
+
+    /**
+     * Writes a new message with the SENSOR_MULTILEVEL_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multilevel Sensor Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sensorType {@link SensorType}
+     * @param scale {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSensorMultilevelGet(ByteBuffer buffer, SensorType sensorType, Integer scale) {
+        logger.debug("Creating command message SENSOR_MULTILEVEL_GET version 10");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SENSOR_MULTILEVEL_GET);
+
+        // Process 'Sensor Type'
+        buffer.put((byte) sensorType.getKey());
+
+        // Process 'Properties1'
+        buffer.put((byte) ((scale << 3) & 0x18));
+
+        return buffer.position() - start;
+    }
+
+    /**
+     * Processes a received frame with the SENSOR_MULTILEVEL_GET command.
+     * <p>
+     * Multilevel Sensor Get
+     * <p>
+     * The output data {@link Map} has the following properties -:
+     *
+     * <ul>
+     * <li>SENSOR_TYPE {@link String}
+     * <li>SCALE {@link Integer}
+     * </ul>
+     *
+     * @param payload the {@link byte[]} payload data to process
+     * @return a {@link Map} of processed response data
+     */
+    public static Map<String, Object> handleSensorMultilevelGet(byte[] payload) {
+        // Create our response map
+        Map<String, Object> response = new HashMap<String, Object>();
+
+        // Process 'Sensor Type'
+        response.put("SENSOR_TYPE", constantSensorMultilevelGetSensorType.get(payload[2] & 0xff));
+
+        // Process 'Properties1'
+        response.put("SCALE", Integer.valueOf(payload[3] & 0x18 >> 3));
+
+        // Return the map of processed response data;
+        return response;
+    }
+
+
+    /**
+     * Creates a new message with the SENSOR_MULTILEVEL_REPORT command.
+     * <p>
+     * Multilevel Sensor Report
+     *
+     * @param sensorType {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>TEMPERATURE
+     *            <li>GENERAL_PURPOSE_VALUE
+     *            <li>LUMINANCE
+     *            <li>POWER
+     *            <li>RELATIVE_HUMIDITY
+     *            <li>VELOCITY
+     *            <li>DIRECTION
+     *            <li>ATMOSPHERIC_PRESSURE
+     *            <li>BAROMETRIC_PRESSURE
+     *            <li>SOLAR_RADIATION
+     *            <li>DEW_POINT
+     *            <li>RAIN_RATE
+     *            <li>TIDE_LEVEL
+     *            <li>WEIGHT
+     *            <li>VOLTAGE
+     *            <li>CO2_LEVEL
+     *            <li>CURRENT
+     *            <li>TANK_CAPACITY
+     *            <li>AIR_FLOW
+     *            <li>ANGLE_POSITION
+     *            <li>DISTANCE
+     *            <li>WATER_TEMPERATURE
+     *            <li>ROTATION
+     *            <li>SEISMIC_INTENSITY
+     *            <li>SOIL_TEMPERATURE
+     *            <li>ULTRAVIOLET
+     *            <li>SEISMIC_MAGNITUDE
+     *            <li>ELECTRICAL_CONDUCTIVITY
+     *            <li>ELECTRICAL_RESISTIVITY
+     *            <li>MOISTURE
+     *            <li>LOUDNESS
+     *            <li>TARGET_TEMPERATURE
+     *            <li>PARTICULATE_MATTER_2_5
+     *            <li>FREQUENCY
+     *            <li>TIME
+     *            <li>METHANE_DENSITY_CH4
+     *            <li>VOLATILE_ORGANIC_COMPOUND
+     *            <li>FORMALDEHYDE_CH2O_LEVEL
+     *            <li>RADON_CONCENTRATION
+     *            <li>SOIL_REACTIVITY
+     *            <li>SOIL_SALINITY
+     *            <li>CARBON_MONOXIDE_CO_LEVEL
+     *            <li>SOIL_HUMIDITY
+     *            <li>MUSCLE_MASS
+     *            <li>FAT_MASS
+     *            <li>HEART_RATE
+     *            <li>BLOOD_PRESSURE
+     *            <li>BODY_MASS_INDEX_BMI
+     *            <li>BASIC_METABOLIC_RATE_BMR
+     *            <li>TOTAL_BODY_WATER_TBW
+     *            <li>BONE_MASS
+     *            <li>SMOKE_DENSITY
+     *            <li>ACCELERATION_Z_AXIS
+     *            <li>ACCELERATION_Y_AXIS
+     *            <li>ACCELERATION_X_AXIS
+     *            <li>PARTICULATE_MATTER
+     *            <li>RF_SIGNAL_STRENGTH
+     *            <li>WATER_PRESSURE
+     *            <li>WATER_FLOW
+     *            <li>RESPIRATORY_RATE
+     *            </ul>
+     * @param scale {@link Integer}
+     * @param precision {@link Integer}
+     * @param sensorValue {@link byte[]}
+     * @return the {@link byte[]} array with the command to send
+     */
+    static public byte[] getSensorMultilevelReport(String sensorType, Integer scale, Integer precision,
+            byte[] sensorValue) {
+        logger.debug("Creating command message SENSOR_MULTILEVEL_REPORT version 10");
+
+        ByteArrayOutputStream outputData = new ByteArrayOutputStream();
+        outputData.write(COMMAND_CLASS_KEY);
+        outputData.write(SENSOR_MULTILEVEL_REPORT);
+
+        // Process 'Sensor Type'
+        boolean foundSensorType = false;
+        for (Integer entry : constantSensorMultilevelReportSensorType.keySet()) {
+            if (constantSensorMultilevelReportSensorType.get(entry).equals(sensorType)) {
+                outputData.write(entry);
+                foundSensorType = true;
+                break;
+            }
+        }
+        if (!foundSensorType) {
+            throw new IllegalArgumentException("Unknown constant value '" + sensorType + "' for sensorType");
+        }
+
+        // Process 'Level'
+        // Size is used by 'Sensor Value'
+        int size = sensorValue.length;
+        int valLevel = 0;
+        valLevel |= size & 0x07;
+        valLevel |= ((scale << 3) & 0x18);
+        valLevel |= ((precision << 5) & 0xE0);
+        outputData.write(valLevel);
+
+        // Process 'Sensor Value'
+        if (sensorValue != null) {
+            try {
+                outputData.write(sensorValue);
+            } catch (IOException e) {
+            }
+        }
+
+        return outputData.toByteArray();
+    }
+
+    /**
+     * Writes a new message with the SENSOR_MULTILEVEL_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multilevel Sensor Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sensorType {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>TEMPERATURE
+     *            <li>GENERAL_PURPOSE_VALUE
+     *            <li>LUMINANCE
+     *            <li>POWER
+     *            <li>RELATIVE_HUMIDITY
+     *            <li>VELOCITY
+     *            <li>DIRECTION
+     *            <li>ATMOSPHERIC_PRESSURE
+     *            <li>BAROMETRIC_PRESSURE
+     *            <li>SOLAR_RADIATION
+     *            <li>DEW_POINT
+     *            <li>RAIN_RATE
+     *            <li>TIDE_LEVEL
+     *            <li>WEIGHT
+     *            <li>VOLTAGE
+     *            <li>CO2_LEVEL
+     *            <li>CURRENT
+     *            <li>TANK_CAPACITY
+     *            <li>AIR_FLOW
+     *            <li>ANGLE_POSITION
+     *            <li>DISTANCE
+     *            <li>WATER_TEMPERATURE
+     *            <li>ROTATION
+     *            <li>SEISMIC_INTENSITY
+     *            <li>SOIL_TEMPERATURE
+     *            <li>ULTRAVIOLET
+     *            <li>SEISMIC_MAGNITUDE
+     *            <li>ELECTRICAL_CONDUCTIVITY
+     *            <li>ELECTRICAL_RESISTIVITY
+     *            <li>MOISTURE
+     *            <li>LOUDNESS
+     *            <li>TARGET_TEMPERATURE
+     *            <li>PARTICULATE_MATTER_2_5
+     *            <li>FREQUENCY
+     *            <li>TIME
+     *            <li>METHANE_DENSITY_CH4
+     *            <li>VOLATILE_ORGANIC_COMPOUND
+     *            <li>FORMALDEHYDE_CH2O_LEVEL
+     *            <li>RADON_CONCENTRATION
+     *            <li>SOIL_REACTIVITY
+     *            <li>SOIL_SALINITY
+     *            <li>CARBON_MONOXIDE_CO_LEVEL
+     *            <li>SOIL_HUMIDITY
+     *            <li>MUSCLE_MASS
+     *            <li>FAT_MASS
+     *            <li>HEART_RATE
+     *            <li>BLOOD_PRESSURE
+     *            <li>BODY_MASS_INDEX_BMI
+     *            <li>BASIC_METABOLIC_RATE_BMR
+     *            <li>TOTAL_BODY_WATER_TBW
+     *            <li>BONE_MASS
+     *            <li>SMOKE_DENSITY
+     *            <li>ACCELERATION_Z_AXIS
+     *            <li>ACCELERATION_Y_AXIS
+     *            <li>ACCELERATION_X_AXIS
+     *            <li>PARTICULATE_MATTER
+     *            <li>RF_SIGNAL_STRENGTH
+     *            <li>WATER_PRESSURE
+     *            <li>WATER_FLOW
+     *            <li>RESPIRATORY_RATE
+     *            </ul>
+     * @param scale {@link Integer}
+     * @param precision {@link Integer}
+     * @param sensorValue {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSensorMultilevelReport(ByteBuffer buffer, String sensorType, Integer scale, Integer precision,
+            byte[] sensorValue) {
+        logger.debug("Creating command message SENSOR_MULTILEVEL_REPORT version 10");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SENSOR_MULTILEVEL_REPORT);
+
+        // Process 'Sensor Type'
+        boolean foundSensorType = false;
+        for (Integer entry : constantSensorMultilevelReportSensorType.keySet()) {
+            if (constantSensorMultilevelReportSensorType.get(entry).equals(sensorType)) {
+                buffer.put(entry.byteValue());
+                foundSensorType = true;
+                break;
+            }
+        }
+        if (!foundSensorType) {
+            throw new IllegalArgumentException("Unknown constant value '" + sensorType + "' for sensorType");
+        }
+
+        // Process 'Level'
+        // Size is used by 'Sensor Value'
+        int size = sensorValue.length;
+        int valLevel = 0;
+        valLevel |= size & 0x07;
+        valLevel |= ((scale << 3) & 0x18);
+        valLevel |= ((precision << 5) & 0xE0);
+        buffer.put((byte) valLevel);
+
+        // Process 'Sensor Value'
+        if (sensorValue != null) {
+            buffer.put(sensorValue);
+        }
+
+        return buffer.position() - start;
+    }
+
+    /**
+     * Creates a new message with the SENSOR_MULTILEVEL_REPORT command.
+     * <p>
+     * Multilevel Sensor Report
+     *
+     * @param sensorType {@link SensorType}
+     * @param scale {@link Integer}
+     * @param precision {@link Integer}
+     * @param sensorValue {@link byte[]}
+     * @return the {@link byte[]} array with the command to send
+     */
+    static public byte[] getSensorMultilevelReport(SensorType sensorType, Integer scale, Integer precision,
+            byte[] sensorValue) {
+        logger.debug("Creating command message SENSOR_MULTILEVEL_REPORT version 10");
+
+        ByteArrayOutputStream outputData = new ByteArrayOutputStream();
+        outputData.write(COMMAND_CLASS_KEY);
+        outputData.write(SENSOR_MULTILEVEL_REPORT);
+
+        // Process 'Sensor Type'
+        outputData.write(sensorType.getKey());
+
+        // Process 'Level'
+        // Size is used by 'Sensor Value'
+        int size = sensorValue.length;
+        int valLevel = 0;
+        valLevel |= size & 0x07;
+        valLevel |= ((scale << 3) & 0x18);
+        valLevel |= ((precision << 5) & 0xE0);
+        outputData.write(valLevel);
+
+        // Process 'Sensor Value'
+        if (sensorValue != null) {
+            try {
+                outputData.write(sensorValue);
+            } catch (IOException e) {
+            }
+        }
+
+        return outputData.toByteArray();
+    }
+
+    /**
+     * Writes a new message with the SENSOR_MULTILEVEL_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multilevel Sensor Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sensorType {@link SensorType}
+     * @param scale {@link Integer}
+     * @param precision {@link Integer}
+     * @param sensorValue {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSensorMultilevelReport(ByteBuffer buffer, SensorType sensorType, Integer scale,
+            Integer precision, byte[] sensorValue) {
+        logger.debug("Creating command message SENSOR_MULTILEVEL_REPORT version 10");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SENSOR_MULTILEVEL_REPORT);
+
+        // Process 'Sensor Type'
+        buffer.put((byte) sensorType.getKey());
+
+        // Process 'Level'
+        // Size is used by 'Sensor Value'
+        int size = sensorValue.length;
+        int valLevel = 0;
+        valLevel |= size & 0x07;
+        valLevel |= ((scale << 3) & 0x18);
+        valLevel |= ((precision << 5) & 0xE0);
+        buffer.put((byte) valLevel);
+
+        // Process 'Sensor Value'
+        if (sensorValue != null) {
+            buffer.put(sensorValue);
+        }
+
+        return buffer.position() - start;
+    }
+
+    /**
+     * Processes a received frame with the SENSOR_MULTILEVEL_REPORT command.
+     * <p>
+     * Multilevel Sensor Report
+     * <p>
+     * The output data {@link Map} has the following properties -:
+     *
+     * <ul>
+     * <li>SENSOR_TYPE {@link String}
+     * <li>SCALE {@link Integer}
+     * <li>PRECISION {@link Integer}
+     * <li>SENSOR_VALUE {@link byte[]}
+     * </ul>
+     *
+     * @param payload the {@link byte[]} payload data to process
+     * @return a {@link Map} of processed response data
+     */
+    public static Map<String, Object> handleSensorMultilevelReport(byte[] payload) {
+        // Create our response map
+        Map<String, Object> response = new HashMap<String, Object>();
+
+        // We're using variable length fields, so track the offset
+        int msgOffset = 2;
 
         // Process 'Sensor Type'
         response.put("SENSOR_TYPE", constantSensorMultilevelReportSensorType.get(payload[msgOffset] & 0xff));
@@ -977,6 +1706,98 @@ public class CommandClassSensorMultilevelV10 {
         return response;
     }
 
+    /**
+     * Flyweight view of a received frame with the SENSOR_MULTILEVEL_REPORT command.
+     * <p>
+     * Multilevel Sensor Report
+     * <p>
+     * Fields are read directly from the wrapped payload each time a getter is called. This is the allocation free
+     * equivalent of {@link #handleSensorMultilevelReport(byte[])} and provides the following fields -:
+     *
+     * <ul>
+     * <li>SENSOR_TYPE {@code int}
+     * <li>SCALE {@code int}
+     * <li>PRECISION {@code int}
+     * <li>SENSOR_VALUE {@code int}
+     * </ul>
+     */
+    public static class SensorMultilevelReportView extends ZWaveCommandClassView {
+        @Override
+        public SensorMultilevelReportView wrap(byte[] payload) {
+            super.wrap(payload);
+            return this;
+        }
+
+        @Override
+        public SensorMultilevelReportView wrap(byte[] payload, int offset, int length) {
+            super.wrap(payload, offset, length);
+            return this;
+        }
+
+        /**
+         * Gets the 'Sensor Type' field
+         *
+         * @return the sensor type
+         */
+        public int getSensorType() {
+            return payload[offset + 2] & 0xff;
+        }
+
+        /**
+         * Gets the 'Sensor Type' field as a constant
+         *
+         * @return the {@link SensorType} or null if the value is not known
+         */
+        public SensorType getSensorTypeEnum() {
+            return SensorType.getSensorType(getSensorType());
+        }
+
+        /**
+         * Gets the size of the 'Sensor Value' field
+         *
+         * @return the number of bytes in the sensor value
+         */
+        public int getSize() {
+            return payload[offset + 3] & 0x07;
+        }
+
+        /**
+         * Gets the 'Scale' field
+         *
+         * @return the scale
+         */
+        public int getScale() {
+            return (payload[offset + 3] & 0x18) >> 3;
+        }
+
+        /**
+         * Gets the 'Precision' field
+         *
+         * @return the number of decimal places in the sensor value
+         */
+        public int getPrecision() {
+            return (payload[offset + 3] & 0xE0) >> 5;
+        }
+
+        /**
+         * Gets the 'Sensor Value' field as a signed integer without the precision applied
+         *
+         * @return the sensor value
+         */
+        public int getSensorValue() {
+            return getSignedValue(payload, offset + 4, getSize());
+        }
+
+        /**
+         * Gets the 'Sensor Value' field with the precision applied
+         *
+         * @return the sensor value
+         */
+        public double getSensorValueAsDouble() {
+            return getScaledValue(getSensorValue(), getPrecision());
+        }
+    }
+
 
     /**
      * Creates a new message with the SENSOR_MULTILEVEL_SUPPORTED_SCALE_REPORT command.
@@ -1076,6 +1897,164 @@ public class CommandClassSensorMultilevelV10 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SENSOR_MULTILEVEL_SUPPORTED_SCALE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multilevel Sensor Supported Scale Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sensorType {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>TEMPERATURE
+     *            <li>GENERAL_PURPOSE_VALUE
+     *            <li>LUMINANCE
+     *            <li>POWER
+     *            <li>RELATIVE_HUMIDITY
+     *            <li>VELOCITY
+     *            <li>DIRECTION
+     *            <li>ATMOSPHERIC_PRESSURE
+     *            <li>BAROMETRIC_PRESSURE
+     *            <li>SOLAR_RADIATION
+     *            <li>DEW_POINT
+     *            <li>RAIN_RATE
+     *            <li>TIDE_LEVEL
+     *            <li>WEIGHT
+     *            <li>VOLTAGE
+     *            <li>CO2_LEVEL
+     *            <li>CURRENT
+     *            <li>TANK_CAPACITY
+     *            <li>AIR_FLOW
+     *            <li>ANGLE_POSITION
+     *            <li>DISTANCE
+     *            <li>WATER_TEMPERATURE
+     *            <li>ROTATION
+     *            <li>SEISMIC_INTENSITY
+     *            <li>SOIL_TEMPERATURE
+     *            <li>ULTRAVIOLET
+     *            <li>SEISMIC_MAGNITUDE
+     *            <li>ELECTRICAL_CONDUCTIVITY
+     *            <li>ELECTRICAL_RESISTIVITY
+     *            <li>MOISTURE
+     *            <li>LOUDNESS
+     *            <li>TARGET_TEMPERATURE
+     *            <li>PARTICULATE_MATTER_2_5
+     *            <li>FREQUENCY
+     *            <li>TIME
+     *            <li>METHANE_DENSITY_CH4
+     *            <li>VOLATILE_ORGANIC_COMPOUND
+     *            <li>FORMALDEHYDE_CH2O_LEVEL
+     *            <li>RADON_CONCENTRATION
+     *            <li>SOIL_REACTIVITY
+     *            <li>SOIL_SALINITY
+     *            <li>CARBON_MONOXIDE_CO_LEVEL
+     *            <li>SOIL_HUMIDITY
+     *            <li>MUSCLE_MASS
+     *            <li>FAT_MASS
+     *            <li>HEART_RATE
+     *            <li>BLOOD_PRESSURE
+     *            <li>BODY_MASS_INDEX_BMI
+     *            <li>BASIC_METABOLIC_RATE_BMR
+     *            <li>TOTAL_BODY_WATER_TBW
+     *            <li>BONE_MASS
+     *            <li>SMOKE_DENSITY
+     *            <li>ACCELERATION_Z_AXIS
+     *            <li>ACCELERATION_Y_AXIS
+     *            <li>ACCELERATION_X_AXIS
+     *            <li>PARTICULATE_MATTER
+     *            <li>RF_SIGNAL_STRENGTH
+     *            <li>WATER_PRESSURE
+     *            <li>WATER_FLOW
+     *            <li>RESPIRATORY_RATE
+     *            </ul>
+     * @param scaleBitMask {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSensorMultilevelSupportedScaleReport(ByteBuffer buffer, String sensorType,
+            Integer scaleBitMask) {
+        logger.debug("Creating command message SENSOR_MULTILEVEL_SUPPORTED_SCALE_REPORT version 10");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SENSOR_MULTILEVEL_SUPPORTED_SCALE_REPORT);
+
+        // Process 'Sensor Type'
+        boolean foundSensorType = false;
+        for (Integer entry : constantSensorMultilevelSupportedScaleReportSensorType.keySet()) {
+            if (constantSensorMultilevelSupportedScaleReportSensorType.get(entry).equals(sensorType)) {
+                buffer.put(entry.byteValue());
+                foundSensorType = true;
+                break;
+            }
+        }
+        if (!foundSensorType) {
+            throw new IllegalArgumentException("Unknown constant value '" + sensorType + "' for sensorType");
+        }
+
+        // Process 'Properties1'
+        buffer.put((byte) (scaleBitMask & 0x0F));
+
+        return buffer.position() - start;
+    }
+
+    /**
+     * Creates a new message with the SENSOR_MULTILEVEL_SUPPORTED_SCALE_REPORT command.
+     * <p>
+     * Multilevel Sensor Supported Scale Report
+     *
+     * @param sensorType {@link SensorType}
+     * @param scaleBitMask {@link Integer}
+     * @return the {@link byte[]} array with the command to send
+     */
+    static public byte[] getSensorMultilevelSupportedScaleReport(SensorType sensorType, Integer scaleBitMask) {
+        logger.debug("Creating command message SENSOR_MULTILEVEL_SUPPORTED_SCALE_REPORT version 10");
+
+        ByteArrayOutputStream outputData = new ByteArrayOutputStream();
+        outputData.write(COMMAND_CLASS_KEY);
+        outputData.write(SENSOR_MULTILEVEL_SUPPORTED_SCALE_REPORT);
+
+        // Process 'Sensor Type'
+        outputData.write(sensorType.getKey());
+
+        // Process 'Properties1'
+        outputData.write(scaleBitMask & 0x0F);
+
+        return outputData.toByteArray();
+    }
+
+    /**
+     * Writes a new message with the SENSOR_MULTILEVEL_SUPPORTED_SCALE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Multilevel Sensor Supported Scale Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sensorType {@link SensorType}
+     * @param scaleBitMask {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSensorMultilevelSupportedScaleReport(ByteBuffer buffer, SensorType sensorType,
+            Integer scaleBitMask) {
+        logger.debug("Creating command message SENSOR_MULTILEVEL_SUPPORTED_SCALE_REPORT version 10");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SENSOR_MULTILEVEL_SUPPORTED_SCALE_REPORT);
+
+        // Process 'Sensor Type'
+        buffer.put((byte) sensorType.getKey());
+
+        // Process 'Properties1'
+        buffer.put((byte) (scaleBitMask & 0x0F));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SENSOR_MULTILEVEL_SUPPORTED_SCALE_REPORT command.
      * <p>
@@ -10,11 +10,14 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.zsmartsystems.zwave.commandclass.ZWaveCommandClassView;
+
 /**
  * Class to implement the Z-Wave command class <b>COMMAND_CLASS_SENSOR_MULTILEVEL</b> version <b>2</b>.
  * <p>
@@ -69,6 +72,61 @@ public class CommandClassSensorMultilevelV2 {
         constantSensorMultilevelReportSensorType.put(0x0D, "TIDE_LEVEL");
     }
 
+    /**
+     * Constants for the 'Sensor Type' field
+     */
+    public enum SensorType {
+        TEMPERATURE(0x01),
+        GENERAL_PURPOSE_VALUE(0x02),
+        LUMINANCE(0x03),
+        POWER(0x04),
+        RELATIVE_HUMIDITY(0x05),
+        VELOCITY(0x06),
+        DIRECTION(0x07),
+        ATMOSPHERIC_PRESSURE(0x08),
+        BAROMETRIC_PRESSURE(0x09),
+        SOLAR_RADIATION(0x0A),
+        DEW_POINT(0x0B),
+        RAIN_RATE(0x0C),
+        TIDE_LEVEL(0x0D);
+
+        private static final SensorType[] keyLookup = new SensorType[0x0E];
+
+        static {
+            for (SensorType value : values()) {
+                keyLookup[value.key] = value;
+            }
+        }
+
+        private final int key;
+
+        private SensorType(int key) {
+            this.key = key;
+        }
+
+        /**
+         * Gets the value of the constant within the frame
+         *
+         * @return the key
+         */
+        public int getKey() {
+            return key;
+        }
+
+        /**
+         * Gets the constant for a value received in a frame
+         *
+         * @param key the value of the field
+         * @return the {@link SensorType} or null if the value is not known
+         */
+        public static SensorType getSensorType(int key) {
+            if (key < 0 || key >= keyLookup.length) {
+                return null;
+            }
+            return keyLookup[key];
+        }
+    }
+
     /**
      * Creates a new message with the SENSOR_MULTILEVEL_GET command.
      * <p>
@@ -86,6 +144,27 @@ public class CommandClassSensorMultilevelV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SENSOR_MULTILEVEL_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Sensor Multilevel Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSensorMultilevelGet(ByteBuffer buffer) {
+        logger.debug("Creating command message SENSOR_MULTILEVEL_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SENSOR_MULTILEVEL_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SENSOR_MULTILEVEL_GET command.
      * <p>
@@ -171,6 +250,160 @@ public class CommandClassSensorMultilevelV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SENSOR_MULTILEVEL_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Sensor Multilevel Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sensorType {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>TEMPERATURE
+     *            <li>GENERAL_PURPOSE_VALUE
+     *            <li>LUMINANCE
+     *            <li>POWER
+     *            <li>RELATIVE_HUMIDITY
+     *            <li>VELOCITY
+     *            <li>DIRECTION
+     *            <li>ATMOSPHERIC_PRESSURE
+     *            <li>BAROMETRIC_PRESSURE
+     *            <li>SOLAR_RADIATION
+     *            <li>DEW_POINT
+     *            <li>RAIN_RATE
+     *            <li>TIDE_LEVEL
+     *            </ul>
+     * @param scale {@link Integer}
+     * @param precision {@link Integer}
+     * @param sensorValue {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSensorMultilevelReport(ByteBuffer buffer, String sensorType, Integer scale, Integer precision,
+            byte[] sensorValue) {
+        logger.debug("Creating command message SENSOR_MULTILEVEL_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SENSOR_MULTILEVEL_REPORT);
+
+        // Process 'Sensor Type'
+        boolean foundSensorType = false;
+        for (Integer entry : constantSensorMultilevelReportSensorType.keySet()) {
+            if (constantSensorMultilevelReportSensorType.get(entry).equals(sensorType)) {
+                buffer.put(entry.byteValue());
+                foundSensorType = true;
+                break;
+            }
+        }
+        if (!foundSensorType) {
+            throw new IllegalArgumentException("Unknown constant value '" + sensorType + "' for sensorType");
+        }
+
+        // Process 'Level'
+        // Size is used by 'Sensor Value'
+        int size = sensorValue.length;
+        int valLevel = 0;
+        valLevel |= size & 0x07;
+        valLevel |= ((scale << 3) & 0x18);
+        valLevel |= ((precision << 5) & 0xE0);
+        buffer.put((byte) valLevel);
+
+        // Process 'Sensor Value'
+        if (sensorValue != null) {
+            buffer.put(sensorValue);
+        }
+
+        return buffer.position() - start;
+    }
+
+    /**
+     * Creates a new message with the SENSOR_MULTILEVEL_REPORT command.
+     * <p>
+     * Sensor Multilevel Report
+     *
+     * @param sensorType {@link SensorType}
+     * @param scale {@link Integer}
+     * @param precision {@link Integer}
+     * @param sensorValue {@link byte[]}
+     * @return the {@link byte[]} array with the command to send
+     */
+    static public byte[] getSensorMultilevelReport(SensorType sensorType, Integer scale, Integer precision,
+            byte[] sensorValue) {
+        logger.debug("Creating command message SENSOR_MULTILEVEL_REPORT version 2");
+
+        ByteArrayOutputStream outputData = new ByteArrayOutputStream();
+        outputData.write(COMMAND_CLASS_KEY);
+        outputData.write(SENSOR_MULTILEVEL_REPORT);
+
+        // Process 'Sensor Type'
+        outputData.write(sensorType.getKey());
+
+        // Process 'Level'
+        // Size is used by 'Sensor Value'
+        int size = sensorValue.length;
+        int valLevel = 0;
+        valLevel |= size & 0x07;
+        valLevel |= ((scale << 3) & 0x18);
+        valLevel |= ((precision << 5) & 0xE0);
+        outputData.write(valLevel);
+
+        // Process 'Sensor Value'
+        if (sensorValue != null) {
+            try {
+                outputData.write(sensorValue);
+            } catch (IOException e) {
+            }
+        }
+
+        return outputData.toByteArray();
+    }
+
+    /**
+     * Writes a new message with the SENSOR_MULTILEVEL_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Sensor Multilevel Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sensorType {@link SensorType}
+     * @param scale {@link Integer}
+     * @param precision {@link Integer}
+     * @param sensorValue {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSensorMultilevelReport(ByteBuffer buffer, SensorType sensorType, Integer scale,
+            Integer precision, byte[] sensorValue) {
+        logger.debug("Creating command message SENSOR_MULTILEVEL_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SENSOR_MULTILEVEL_REPORT);
+
+        // Process 'Sensor Type'
+        buffer.put((byte) sensorType.getKey());
+
+        // Process 'Level'
+        // Size is used by 'Sensor Value'
+        int size = sensorValue.length;
+        int valLevel = 0;
+        valLevel |= size & 0x07;
+        valLevel |= ((scale << 3) & 0x18);
+        valLevel |= ((precision << 5) & 0xE0);
+        buffer.put((byte) valLevel);
+
+        // Process 'Sensor Value'
+        if (sensorValue != null) {
+            buffer.put(sensorValue);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SENSOR_MULTILEVEL_REPORT command.
      * <p>
@@ -218,4 +451,96 @@ public class CommandClassSensorMultilevelV2 {
         return response;
     }
 
+    /**
+     * Flyweight view of a received frame with the SENSOR_MULTILEVEL_REPORT command.
+     * <p>
+     * Multilevel Sensor Report
+     * <p>
+     * Fields are read directly from the wrapped payload each time a getter is called. This is the allocation free
+     * equivalent of {@link #handleSensorMultilevelReport(byte[])} and provides the following fields -:
+     *
+     * <ul>
+     * <li>SENSOR_TYPE {@code int}
+     * <li>SCALE {@code int}
+     * <li>PRECISION {@code int}
+     * <li>SENSOR_VALUE {@code int}
+     * </ul>
+     */
+    public static class SensorMultilevelReportView extends ZWaveCommandClassView {
+        @Override
+        public SensorMultilevelReportView wrap(byte[] payload) {
+            super.wrap(payload);
+            return this;
+        }
+
+        @Override
+        public SensorMultilevelReportView wrap(byte[] payload, int offset, int length) {
+            super.wrap(payload, offset, length);
+            return this;
+        }
+
+        /**
+         * Gets the 'Sensor Type' field
+         *
+         * @return the sensor type
+         */
+        public int getSensorType() {
+            return payload[offset + 2] & 0xff;
+        }
+
+        /**
+         * Gets the 'Sensor Type' field as a constant
+         *
+         * @return the {@link SensorType} or null if the value is not known
+         */
+        public SensorType getSensorTypeEnum() {
+            return SensorType.getSensorType(getSensorType());
+        }
+
+        /**
+         * Gets the size of the 'Sensor Value' field
+         *
+         * @return the number of bytes in the sensor value
+         */
+        public int getSize() {
+            return payload[offset + 3] & 0x07;
+        }
+
+        /**
+         * Gets the 'Scale' field
+         *
+         * @return the scale
+         */
+        public int getScale() {
+            return (payload[offset + 3] & 0x18) >> 3;
+        }
+
+        /**
+         * Gets the 'Precision' field
+         *
+         * @return the number of decimal places in the sensor value
+         */
+        public int getPrecision() {
+            return (payload[offset + 3] & 0xE0) >> 5;
+        }
+
+        /**
+         * Gets the 'Sensor Value' field as a signed integer without the precision applied
+         *
+         * @return the sensor value
+         */
+        public int getSensorValue() {
+            return getSignedValue(payload, offset + 4, getSize());
+        }
+
+        /**
+         * Gets the 'Sensor Value' field with the precision applied
+         *
+         * @return the sensor value
+         */
+        public double getSensorValueAsDouble() {
+            return getScaledValue(getSensorValue(), getPrecision());
+        }
+    }
+
 }
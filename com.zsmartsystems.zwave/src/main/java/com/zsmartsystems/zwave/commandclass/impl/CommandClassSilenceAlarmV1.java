@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -112,6 +113,64 @@ public class CommandClassSilenceAlarmV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SENSOR_ALARM_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Sensor Alarm Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param mode {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>DISABLE_SOUNDING_OF_ALL_SENSOR_ALARMS
+     *            <li>DISABLE_SOUNDING_OF_ALL_SENSOR_ALARMS_INDEPENDENT_OF_BIT_MASK_WHICH_HAVE_RECEIVED_THE_ALARM
+     *            <li>DISABLE_SOUNDING_OF_ALL_SENSOR_ALARMS_ACCORDING_TO_BIT_MASK
+     *            <li>DISABLE_SOUNDING_OF_ALL_SENSOR_ALARMS_ACCORDING_TO_BIT_MASK_WHICH_HAVE_RECEIVED_THE_ALARM
+     *            </ul>
+     * @param seconds {@link Integer}
+     * @param numberOfBitMasks {@link Integer}
+     * @param bitMask {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSensorAlarmSet(ByteBuffer buffer, String mode, Integer seconds, Integer numberOfBitMasks,
+            byte[] bitMask) {
+        logger.debug("Creating command message SENSOR_ALARM_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SENSOR_ALARM_SET);
+
+        // Process 'Mode'
+        boolean foundMode = false;
+        for (Integer entry : constantSensorAlarmSetMode.keySet()) {
+            if (constantSensorAlarmSetMode.get(entry).equals(mode)) {
+                buffer.put(entry.byteValue());
+                foundMode = true;
+                break;
+            }
+        }
+        if (!foundMode) {
+            throw new IllegalArgumentException("Unknown constant value '" + mode + "' for mode");
+        }
+
+        // Process 'Seconds'
+        buffer.put((byte) ((seconds >> 8) & 0xff));
+        buffer.put((byte) (seconds & 0xff));
+
+        // Process 'Number of Bit Masks'
+        buffer.put(numberOfBitMasks.byteValue());
+
+        // Process 'Bit Mask'
+        if (bitMask != null) {
+            buffer.put(bitMask);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SENSOR_ALARM_SET command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -93,6 +94,43 @@ public class CommandClassSimpleAvControlV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SIMPLE_AV_CONTROL_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Simple Av Control Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sequenceNumber {@link Integer}
+     * @param keyAttributes {@link Integer}
+     * @param itemId {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSimpleAvControlSet(ByteBuffer buffer, Integer sequenceNumber, Integer keyAttributes,
+            Integer itemId) {
+        logger.debug("Creating command message SIMPLE_AV_CONTROL_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SIMPLE_AV_CONTROL_SET);
+
+        // Process 'Sequence Number'
+        buffer.put(sequenceNumber.byteValue());
+
+        // Process 'Properties1'
+        buffer.put((byte) (keyAttributes & 0x07));
+
+        // Process 'Item ID'
+        buffer.put((byte) ((itemId >> 8) & 0xff));
+        buffer.put((byte) (itemId & 0xff));
+
+        // Process 'vg'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SIMPLE_AV_CONTROL_SET command.
      * <p>
@@ -162,6 +200,27 @@ public class CommandClassSimpleAvControlV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SIMPLE_AV_CONTROL_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Simple Av Control Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSimpleAvControlGet(ByteBuffer buffer) {
+        logger.debug("Creating command message SIMPLE_AV_CONTROL_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SIMPLE_AV_CONTROL_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SIMPLE_AV_CONTROL_GET command.
      * <p>
@@ -200,6 +259,31 @@ public class CommandClassSimpleAvControlV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SIMPLE_AV_CONTROL_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Simple Av Control Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param numberOfReports {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSimpleAvControlReport(ByteBuffer buffer, Integer numberOfReports) {
+        logger.debug("Creating command message SIMPLE_AV_CONTROL_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SIMPLE_AV_CONTROL_REPORT);
+
+        // Process 'Number of reports'
+        buffer.put(numberOfReports.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SIMPLE_AV_CONTROL_REPORT command.
      * <p>
@@ -247,6 +331,31 @@ public class CommandClassSimpleAvControlV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SIMPLE_AV_CONTROL_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Simple Av Control Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param reportNo {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSimpleAvControlSupportedGet(ByteBuffer buffer, Integer reportNo) {
+        logger.debug("Creating command message SIMPLE_AV_CONTROL_SUPPORTED_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SIMPLE_AV_CONTROL_SUPPORTED_GET);
+
+        // Process 'Report No'
+        buffer.put(reportNo.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SIMPLE_AV_CONTROL_SUPPORTED_GET command.
      * <p>
@@ -308,6 +417,45 @@ public class CommandClassSimpleAvControlV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SIMPLE_AV_CONTROL_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Simple Av Control Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param reportNo {@link Integer}
+     * @param bitMask {@link List<Integer>}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSimpleAvControlSupportedReport(ByteBuffer buffer, Integer reportNo, List<Integer> bitMask) {
+        logger.debug("Creating command message SIMPLE_AV_CONTROL_SUPPORTED_REPORT version 1");
+
+        Collections.sort(bitMask);
+        int lenBitMask = (bitMask.get(bitMask.size() - 1) / 8) + 1;
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SIMPLE_AV_CONTROL_SUPPORTED_REPORT);
+
+        // Process 'Report No'
+        buffer.put(reportNo.byteValue());
+
+        // Process 'Bit Mask'
+        int valBitMask = 0;
+        for (int cntBitMask = 1 ; cntBitMask < lenBitMask * 8 ; cntBitMask++) {
+            valBitMask |= bitMask.contains(valBitMask) ? (1 << cntBitMask % 8) : 0;
+            if (cntBitMask % 8 == 0) {
+                buffer.put((byte) valBitMask);
+                valBitMask = 0;
+            }
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SIMPLE_AV_CONTROL_SUPPORTED_REPORT command.
      * <p>
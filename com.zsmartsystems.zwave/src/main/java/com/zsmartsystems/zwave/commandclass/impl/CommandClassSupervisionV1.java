@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -116,6 +117,46 @@ public class CommandClassSupervisionV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SUPERVISION_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Supervision Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sessionId {@link Integer}
+     * @param statusUpdates {@link Boolean}
+     * @param encapsulatedCommandLength {@link Integer}
+     * @param encapsulatedCommand {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSupervisionGet(ByteBuffer buffer, Integer sessionId, Boolean statusUpdates,
+            Integer encapsulatedCommandLength, byte[] encapsulatedCommand) {
+        logger.debug("Creating command message SUPERVISION_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SUPERVISION_GET);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= sessionId & 0x3F;
+        valProperties1 |= statusUpdates ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Encapsulated Command Length'
+        buffer.put(encapsulatedCommandLength.byteValue());
+
+        // Process 'Encapsulated Command'
+        if (encapsulatedCommand != null) {
+            buffer.put(encapsulatedCommand);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SUPERVISION_GET command.
      * <p>
@@ -215,6 +256,62 @@ public class CommandClassSupervisionV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SUPERVISION_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Supervision Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sessionId {@link Integer}
+     * @param moreStatusUpdates {@link Boolean}
+     * @param status {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NO_SUPPORT
+     *            <li>SUCCESS
+     *            <li>WORKING
+     *            <li>FAIL
+     *            <li>BUSY
+     *            </ul>
+     * @param duration {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSupervisionReport(ByteBuffer buffer, Integer sessionId, Boolean moreStatusUpdates,
+            String status, Integer duration) {
+        logger.debug("Creating command message SUPERVISION_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SUPERVISION_REPORT);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= sessionId & 0x3F;
+        valProperties1 |= moreStatusUpdates ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Status'
+        boolean foundStatus = false;
+        for (Integer entry : constantSupervisionReportStatus.keySet()) {
+            if (constantSupervisionReportStatus.get(entry).equals(status)) {
+                buffer.put(entry.byteValue());
+                foundStatus = true;
+                break;
+            }
+        }
+        if (!foundStatus) {
+            throw new IllegalArgumentException("Unknown constant value '" + status + "' for status");
+        }
+
+        // Process 'Duration'
+        buffer.put(duration.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SUPERVISION_REPORT command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -120,6 +121,48 @@ public class CommandClassSwitchAllV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_ALL_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch All Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param mode {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>EXCLUDED_FROM_THE_ALL_ON_ALL_OFF_FUNCTIONALITY
+     *            <li>INCLUDED_IN_THE_ALL_ON_ALL_OFF_FUNCTIONALITY
+     *            <li>EXCLUDED_FROM_THE_ALL_ON_FUNCTIONALITY_BUT_NOT_ALL_OFF
+     *            <li>EXCLUDED_FROM_THE_ALL_OFF_FUNCTIONALITY_BUT_NOT_ALL_ON
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchAllSet(ByteBuffer buffer, String mode) {
+        logger.debug("Creating command message SWITCH_ALL_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_ALL_SET);
+
+        // Process 'Mode'
+        boolean foundMode = false;
+        for (Integer entry : constantSwitchAllSetMode.keySet()) {
+            if (constantSwitchAllSetMode.get(entry).equals(mode)) {
+                buffer.put(entry.byteValue());
+                foundMode = true;
+                break;
+            }
+        }
+        if (!foundMode) {
+            throw new IllegalArgumentException("Unknown constant value '" + mode + "' for mode");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_ALL_SET command.
      * <p>
@@ -163,6 +206,27 @@ public class CommandClassSwitchAllV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_ALL_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch All Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchAllGet(ByteBuffer buffer) {
+        logger.debug("Creating command message SWITCH_ALL_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_ALL_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_ALL_GET command.
      * <p>
@@ -218,6 +282,48 @@ public class CommandClassSwitchAllV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_ALL_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch All Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param mode {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>EXCLUDED_FROM_THE_ALL_ON_ALL_OFF_FUNCTIONALITY
+     *            <li>INCLUDED_IN_THE_ALL_ON_ALL_OFF_FUNCTIONALITY
+     *            <li>EXCLUDED_FROM_THE_ALL_ON_FUNCTIONALITY_BUT_NOT_ALL_OFF
+     *            <li>EXCLUDED_FROM_THE_ALL_OFF_FUNCTIONALITY_BUT_NOT_ALL_ON
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchAllReport(ByteBuffer buffer, String mode) {
+        logger.debug("Creating command message SWITCH_ALL_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_ALL_REPORT);
+
+        // Process 'Mode'
+        boolean foundMode = false;
+        for (Integer entry : constantSwitchAllReportMode.keySet()) {
+            if (constantSwitchAllReportMode.get(entry).equals(mode)) {
+                buffer.put(entry.byteValue());
+                foundMode = true;
+                break;
+            }
+        }
+        if (!foundMode) {
+            throw new IllegalArgumentException("Unknown constant value '" + mode + "' for mode");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_ALL_REPORT command.
      * <p>
@@ -261,6 +367,27 @@ public class CommandClassSwitchAllV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_ALL_ON command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch All On
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchAllOn(ByteBuffer buffer) {
+        logger.debug("Creating command message SWITCH_ALL_ON version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_ALL_ON);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_ALL_ON command.
      * <p>
@@ -295,6 +422,27 @@ public class CommandClassSwitchAllV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_ALL_OFF command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch All Off
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchAllOff(ByteBuffer buffer) {
+        logger.debug("Creating command message SWITCH_ALL_OFF version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_ALL_OFF);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_ALL_OFF command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -106,6 +107,46 @@ public class CommandClassSwitchBinaryV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_BINARY_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch Binary Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param switchValue {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF_DISABLE
+     *            <li>ON_ENABLE
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchBinarySet(ByteBuffer buffer, String switchValue) {
+        logger.debug("Creating command message SWITCH_BINARY_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_BINARY_SET);
+
+        // Process 'Switch Value'
+        boolean foundSwitchValue = false;
+        for (Integer entry : constantSwitchBinarySetSwitchValue.keySet()) {
+            if (constantSwitchBinarySetSwitchValue.get(entry).equals(switchValue)) {
+                buffer.put(entry.byteValue());
+                foundSwitchValue = true;
+                break;
+            }
+        }
+        if (!foundSwitchValue) {
+            throw new IllegalArgumentException("Unknown constant value '" + switchValue + "' for switchValue");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_BINARY_SET command.
      * <p>
@@ -149,6 +190,27 @@ public class CommandClassSwitchBinaryV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_BINARY_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch Binary Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchBinaryGet(ByteBuffer buffer) {
+        logger.debug("Creating command message SWITCH_BINARY_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_BINARY_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_BINARY_GET command.
      * <p>
@@ -202,6 +264,46 @@ public class CommandClassSwitchBinaryV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_BINARY_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch Binary Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param value {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF_DISABLE
+     *            <li>ON_ENABLE
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchBinaryReport(ByteBuffer buffer, String value) {
+        logger.debug("Creating command message SWITCH_BINARY_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_BINARY_REPORT);
+
+        // Process 'Value'
+        boolean foundValue = false;
+        for (Integer entry : constantSwitchBinaryReportValue.keySet()) {
+            if (constantSwitchBinaryReportValue.get(entry).equals(value)) {
+                buffer.put(entry.byteValue());
+                foundValue = true;
+                break;
+            }
+        }
+        if (!foundValue) {
+            throw new IllegalArgumentException("Unknown constant value '" + value + "' for value");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_BINARY_REPORT command.
      * <p>
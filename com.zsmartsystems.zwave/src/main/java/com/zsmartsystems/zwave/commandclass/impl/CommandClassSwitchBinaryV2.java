@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -152,6 +153,65 @@ public class CommandClassSwitchBinaryV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_BINARY_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch Binary Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param targetValue {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF_DISABLE
+     *            <li>ON_ENABLE
+     *            </ul>
+     * @param duration {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>INSTANTLY
+     *            <li>DEFAULT
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchBinarySet(ByteBuffer buffer, String targetValue, String duration) {
+        logger.debug("Creating command message SWITCH_BINARY_SET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_BINARY_SET);
+
+        // Process 'Target Value'
+        boolean foundTargetValue = false;
+        for (Integer entry : constantSwitchBinarySetTargetValue.keySet()) {
+            if (constantSwitchBinarySetTargetValue.get(entry).equals(targetValue)) {
+                buffer.put(entry.byteValue());
+                foundTargetValue = true;
+                break;
+            }
+        }
+        if (!foundTargetValue) {
+            throw new IllegalArgumentException("Unknown constant value '" + targetValue + "' for targetValue");
+        }
+
+        // Process 'Duration'
+        boolean foundDuration = false;
+        for (Integer entry : constantSwitchBinarySetDuration.keySet()) {
+            if (constantSwitchBinarySetDuration.get(entry).equals(duration)) {
+                buffer.put(entry.byteValue());
+                foundDuration = true;
+                break;
+            }
+        }
+        if (!foundDuration) {
+            throw new IllegalArgumentException("Unknown constant value '" + duration + "' for duration");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_BINARY_SET command.
      * <p>
@@ -199,6 +259,27 @@ public class CommandClassSwitchBinaryV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_BINARY_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch Binary Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchBinaryGet(ByteBuffer buffer) {
+        logger.debug("Creating command message SWITCH_BINARY_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_BINARY_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_BINARY_GET command.
      * <p>
@@ -290,6 +371,85 @@ public class CommandClassSwitchBinaryV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_BINARY_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch Binary Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param currentValue {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF_DISABLE
+     *            <li>ON_ENABLE
+     *            </ul>
+     * @param targetValue {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF_DISABLE
+     *            <li>ON_ENABLE
+     *            </ul>
+     * @param duration {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>UNKNOWN_DURATION
+     *            <li>ALREADY_AT_THE_TARGET_VALUE
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchBinaryReport(ByteBuffer buffer, String currentValue, String targetValue,
+            String duration) {
+        logger.debug("Creating command message SWITCH_BINARY_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_BINARY_REPORT);
+
+        // Process 'Current Value'
+        boolean foundCurrentValue = false;
+        for (Integer entry : constantSwitchBinaryReportCurrentValue.keySet()) {
+            if (constantSwitchBinaryReportCurrentValue.get(entry).equals(currentValue)) {
+                buffer.put(entry.byteValue());
+                foundCurrentValue = true;
+                break;
+            }
+        }
+        if (!foundCurrentValue) {
+            throw new IllegalArgumentException("Unknown constant value '" + currentValue + "' for currentValue");
+        }
+
+        // Process 'Target Value'
+        boolean foundTargetValue = false;
+        for (Integer entry : constantSwitchBinaryReportTargetValue.keySet()) {
+            if (constantSwitchBinaryReportTargetValue.get(entry).equals(targetValue)) {
+                buffer.put(entry.byteValue());
+                foundTargetValue = true;
+                break;
+            }
+        }
+        if (!foundTargetValue) {
+            throw new IllegalArgumentException("Unknown constant value '" + targetValue + "' for targetValue");
+        }
+
+        // Process 'Duration'
+        boolean foundDuration = false;
+        for (Integer entry : constantSwitchBinaryReportDuration.keySet()) {
+            if (constantSwitchBinaryReportDuration.get(entry).equals(duration)) {
+                buffer.put(entry.byteValue());
+                foundDuration = true;
+                break;
+            }
+        }
+        if (!foundDuration) {
+            throw new IllegalArgumentException("Unknown constant value '" + duration + "' for duration");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_BINARY_REPORT command.
      * <p>
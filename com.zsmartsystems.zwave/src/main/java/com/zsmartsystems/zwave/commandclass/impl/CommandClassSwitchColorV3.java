@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -124,6 +125,27 @@ public class CommandClassSwitchColorV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_COLOR_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Color Switch Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchColorSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message SWITCH_COLOR_SUPPORTED_GET version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_COLOR_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_COLOR_SUPPORTED_GET command.
      * <p>
@@ -163,6 +185,32 @@ public class CommandClassSwitchColorV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_COLOR_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Color Switch Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param colorComponentMask {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchColorSupportedReport(ByteBuffer buffer, Integer colorComponentMask) {
+        logger.debug("Creating command message SWITCH_COLOR_SUPPORTED_REPORT version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_COLOR_SUPPORTED_REPORT);
+
+        // Process 'Color Component mask'
+        buffer.put((byte) ((colorComponentMask >> 8) & 0xff));
+        buffer.put((byte) (colorComponentMask & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_COLOR_SUPPORTED_REPORT command.
      * <p>
@@ -210,6 +258,31 @@ public class CommandClassSwitchColorV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_COLOR_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Color Switch Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param colorComponentId {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchColorGet(ByteBuffer buffer, Integer colorComponentId) {
+        logger.debug("Creating command message SWITCH_COLOR_GET version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_COLOR_GET);
+
+        // Process 'Color Component ID'
+        buffer.put(colorComponentId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_COLOR_GET command.
      * <p>
@@ -285,6 +358,59 @@ public class CommandClassSwitchColorV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_COLOR_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Color Switch Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param colorComponentId {@link Integer}
+     * @param currentValue {@link Integer}
+     * @param targetValue {@link Integer}
+     * @param duration {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>UNKNOWN_DURATION
+     *            <li>ALREADY_AT_THE_TARGET_VALUE
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchColorReport(ByteBuffer buffer, Integer colorComponentId, Integer currentValue,
+            Integer targetValue, String duration) {
+        logger.debug("Creating command message SWITCH_COLOR_REPORT version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_COLOR_REPORT);
+
+        // Process 'Color Component ID'
+        buffer.put(colorComponentId.byteValue());
+
+        // Process 'Current Value'
+        buffer.put(currentValue.byteValue());
+
+        // Process 'Target Value'
+        buffer.put(targetValue.byteValue());
+
+        // Process 'Duration'
+        boolean foundDuration = false;
+        for (Integer entry : constantSwitchColorReportDuration.keySet()) {
+            if (constantSwitchColorReportDuration.get(entry).equals(duration)) {
+                buffer.put(entry.byteValue());
+                foundDuration = true;
+                break;
+            }
+        }
+        if (!foundDuration) {
+            throw new IllegalArgumentException("Unknown constant value '" + duration + "' for duration");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_COLOR_REPORT command.
      * <p>
@@ -365,6 +491,52 @@ public class CommandClassSwitchColorV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_COLOR_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Color Switch Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param colorComponentCount {@link Integer}
+     * @param duration {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>INSTANTLY
+     *            <li>DEFAULT
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchColorSet(ByteBuffer buffer, Integer colorComponentCount, String duration) {
+        logger.debug("Creating command message SWITCH_COLOR_SET version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_COLOR_SET);
+
+        // Process 'Properties1'
+        buffer.put((byte) (colorComponentCount & 0x1F));
+
+        // Process 'vg1'
+
+        // Process 'Duration'
+        boolean foundDuration = false;
+        for (Integer entry : constantSwitchColorSetDuration.keySet()) {
+            if (constantSwitchColorSetDuration.get(entry).equals(duration)) {
+                buffer.put(entry.byteValue());
+                foundDuration = true;
+                break;
+            }
+        }
+        if (!foundDuration) {
+            throw new IllegalArgumentException("Unknown constant value '" + duration + "' for duration");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_COLOR_SET command.
      * <p>
@@ -478,6 +650,67 @@ public class CommandClassSwitchColorV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_COLOR_START_LEVEL_CHANGE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Color Switch Start Level Change
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param res1 {@link Integer}
+     * @param ignoreStartState {@link Boolean}
+     * @param upDown {@link Boolean}
+     * @param res2 {@link Boolean}
+     * @param colorComponentId {@link Integer}
+     * @param startLevel {@link Integer}
+     * @param duration {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>INSTANTLY
+     *            <li>DEFAULT
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchColorStartLevelChange(ByteBuffer buffer, Integer res1, Boolean ignoreStartState,
+            Boolean upDown, Boolean res2, Integer colorComponentId, Integer startLevel, String duration) {
+        logger.debug("Creating command message SWITCH_COLOR_START_LEVEL_CHANGE version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_COLOR_START_LEVEL_CHANGE);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= res1 & 0x1F;
+        valProperties1 |= ignoreStartState ? 0x20 : 0;
+        valProperties1 |= upDown ? 0x40 : 0;
+        valProperties1 |= res2 ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Color Component ID'
+        buffer.put(colorComponentId.byteValue());
+
+        // Process 'Start Level'
+        buffer.put(startLevel.byteValue());
+
+        // Process 'Duration'
+        boolean foundDuration = false;
+        for (Integer entry : constantSwitchColorStartLevelChangeDuration.keySet()) {
+            if (constantSwitchColorStartLevelChangeDuration.get(entry).equals(duration)) {
+                buffer.put(entry.byteValue());
+                foundDuration = true;
+                break;
+            }
+        }
+        if (!foundDuration) {
+            throw new IllegalArgumentException("Unknown constant value '" + duration + "' for duration");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_COLOR_START_LEVEL_CHANGE command.
      * <p>
@@ -543,6 +776,31 @@ public class CommandClassSwitchColorV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_COLOR_STOP_LEVEL_CHANGE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Color Switch Stop Level Change
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param colorComponentId {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchColorStopLevelChange(ByteBuffer buffer, Integer colorComponentId) {
+        logger.debug("Creating command message SWITCH_COLOR_STOP_LEVEL_CHANGE version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_COLOR_STOP_LEVEL_CHANGE);
+
+        // Process 'Color Component ID'
+        buffer.put(colorComponentId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_COLOR_STOP_LEVEL_CHANGE command.
      * <p>
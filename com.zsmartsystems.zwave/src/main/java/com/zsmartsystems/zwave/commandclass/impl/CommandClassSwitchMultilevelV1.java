@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -123,6 +124,46 @@ public class CommandClassSwitchMultilevelV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_MULTILEVEL_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch Multilevel Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param value {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF_DISABLE
+     *            <li>ON_ENABLE
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchMultilevelSet(ByteBuffer buffer, String value) {
+        logger.debug("Creating command message SWITCH_MULTILEVEL_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_MULTILEVEL_SET);
+
+        // Process 'Value'
+        boolean foundValue = false;
+        for (Integer entry : constantSwitchMultilevelSetValue.keySet()) {
+            if (constantSwitchMultilevelSetValue.get(entry).equals(value)) {
+                buffer.put(entry.byteValue());
+                foundValue = true;
+                break;
+            }
+        }
+        if (!foundValue) {
+            throw new IllegalArgumentException("Unknown constant value '" + value + "' for value");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_MULTILEVEL_SET command.
      * <p>
@@ -166,6 +207,27 @@ public class CommandClassSwitchMultilevelV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_MULTILEVEL_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch Multilevel Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchMultilevelGet(ByteBuffer buffer) {
+        logger.debug("Creating command message SWITCH_MULTILEVEL_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_MULTILEVEL_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_MULTILEVEL_GET command.
      * <p>
@@ -219,6 +281,46 @@ public class CommandClassSwitchMultilevelV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_MULTILEVEL_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch Multilevel Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param value {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF_DISABLE
+     *            <li>ON_ENABLE
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchMultilevelReport(ByteBuffer buffer, String value) {
+        logger.debug("Creating command message SWITCH_MULTILEVEL_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_MULTILEVEL_REPORT);
+
+        // Process 'Value'
+        boolean foundValue = false;
+        for (Integer entry : constantSwitchMultilevelReportValue.keySet()) {
+            if (constantSwitchMultilevelReportValue.get(entry).equals(value)) {
+                buffer.put(entry.byteValue());
+                foundValue = true;
+                break;
+            }
+        }
+        if (!foundValue) {
+            throw new IllegalArgumentException("Unknown constant value '" + value + "' for value");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_MULTILEVEL_REPORT command.
      * <p>
@@ -275,6 +377,40 @@ public class CommandClassSwitchMultilevelV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_MULTILEVEL_START_LEVEL_CHANGE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch Multilevel Start Level Change
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param ignoreStartLevel {@link Boolean}
+     * @param upDown {@link Boolean}
+     * @param startLevel {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchMultilevelStartLevelChange(ByteBuffer buffer, Boolean ignoreStartLevel, Boolean upDown,
+            Integer startLevel) {
+        logger.debug("Creating command message SWITCH_MULTILEVEL_START_LEVEL_CHANGE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_MULTILEVEL_START_LEVEL_CHANGE);
+
+        // Process 'Level'
+        int valLevel = 0;
+        valLevel |= ignoreStartLevel ? 0x20 : 0;
+        valLevel |= upDown ? 0x40 : 0;
+        buffer.put((byte) valLevel);
+
+        // Process 'Start Level'
+        buffer.put(startLevel.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_MULTILEVEL_START_LEVEL_CHANGE command.
      * <p>
@@ -324,6 +460,27 @@ public class CommandClassSwitchMultilevelV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_MULTILEVEL_STOP_LEVEL_CHANGE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch Multilevel Stop Level Change
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchMultilevelStopLevelChange(ByteBuffer buffer) {
+        logger.debug("Creating command message SWITCH_MULTILEVEL_STOP_LEVEL_CHANGE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_MULTILEVEL_STOP_LEVEL_CHANGE);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_MULTILEVEL_STOP_LEVEL_CHANGE command.
      * <p>
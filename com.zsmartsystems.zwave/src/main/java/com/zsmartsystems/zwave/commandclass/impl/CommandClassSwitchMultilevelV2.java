@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -151,6 +152,65 @@ public class CommandClassSwitchMultilevelV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_MULTILEVEL_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch Multilevel Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param value {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF_DISABLE
+     *            <li>ON_ENABLE
+     *            </ul>
+     * @param dimmingDuration {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>INSTANTLY
+     *            <li>FACTORY_DEFAULT
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchMultilevelSet(ByteBuffer buffer, String value, String dimmingDuration) {
+        logger.debug("Creating command message SWITCH_MULTILEVEL_SET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_MULTILEVEL_SET);
+
+        // Process 'Value'
+        boolean foundValue = false;
+        for (Integer entry : constantSwitchMultilevelSetValue.keySet()) {
+            if (constantSwitchMultilevelSetValue.get(entry).equals(value)) {
+                buffer.put(entry.byteValue());
+                foundValue = true;
+                break;
+            }
+        }
+        if (!foundValue) {
+            throw new IllegalArgumentException("Unknown constant value '" + value + "' for value");
+        }
+
+        // Process 'Dimming Duration'
+        boolean foundDimmingDuration = false;
+        for (Integer entry : constantSwitchMultilevelSetDimmingDuration.keySet()) {
+            if (constantSwitchMultilevelSetDimmingDuration.get(entry).equals(dimmingDuration)) {
+                buffer.put(entry.byteValue());
+                foundDimmingDuration = true;
+                break;
+            }
+        }
+        if (!foundDimmingDuration) {
+            throw new IllegalArgumentException("Unknown constant value '" + dimmingDuration + "' for dimmingDuration");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_MULTILEVEL_SET command.
      * <p>
@@ -198,6 +258,27 @@ public class CommandClassSwitchMultilevelV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_MULTILEVEL_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch Multilevel Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchMultilevelGet(ByteBuffer buffer) {
+        logger.debug("Creating command message SWITCH_MULTILEVEL_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_MULTILEVEL_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_MULTILEVEL_GET command.
      * <p>
@@ -251,6 +332,46 @@ public class CommandClassSwitchMultilevelV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_MULTILEVEL_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch Multilevel Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param value {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF_DISABLE
+     *            <li>ON_ENABLE
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchMultilevelReport(ByteBuffer buffer, String value) {
+        logger.debug("Creating command message SWITCH_MULTILEVEL_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_MULTILEVEL_REPORT);
+
+        // Process 'Value'
+        boolean foundValue = false;
+        for (Integer entry : constantSwitchMultilevelReportValue.keySet()) {
+            if (constantSwitchMultilevelReportValue.get(entry).equals(value)) {
+                buffer.put(entry.byteValue());
+                foundValue = true;
+                break;
+            }
+        }
+        if (!foundValue) {
+            throw new IllegalArgumentException("Unknown constant value '" + value + "' for value");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_MULTILEVEL_REPORT command.
      * <p>
@@ -311,6 +432,44 @@ public class CommandClassSwitchMultilevelV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_MULTILEVEL_START_LEVEL_CHANGE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch Multilevel Start Level Change
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param ignoreStartLevel {@link Boolean}
+     * @param upDown {@link Boolean}
+     * @param startLevel {@link Integer}
+     * @param dimmingDuration {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchMultilevelStartLevelChange(ByteBuffer buffer, Boolean ignoreStartLevel, Boolean upDown,
+            Integer startLevel, Integer dimmingDuration) {
+        logger.debug("Creating command message SWITCH_MULTILEVEL_START_LEVEL_CHANGE version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_MULTILEVEL_START_LEVEL_CHANGE);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= ignoreStartLevel ? 0x20 : 0;
+        valProperties1 |= upDown ? 0x40 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Start Level'
+        buffer.put(startLevel.byteValue());
+
+        // Process 'Dimming Duration'
+        buffer.put(dimmingDuration.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_MULTILEVEL_START_LEVEL_CHANGE command.
      * <p>
@@ -364,6 +523,27 @@ public class CommandClassSwitchMultilevelV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_MULTILEVEL_STOP_LEVEL_CHANGE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch Multilevel Stop Level Change
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchMultilevelStopLevelChange(ByteBuffer buffer) {
+        logger.debug("Creating command message SWITCH_MULTILEVEL_STOP_LEVEL_CHANGE version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_MULTILEVEL_STOP_LEVEL_CHANGE);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_MULTILEVEL_STOP_LEVEL_CHANGE command.
      * <p>
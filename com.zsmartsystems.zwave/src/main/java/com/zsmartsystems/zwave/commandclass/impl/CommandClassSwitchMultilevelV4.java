@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -167,6 +168,65 @@ public class CommandClassSwitchMultilevelV4 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_MULTILEVEL_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch Multilevel Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param value {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF_DISABLE
+     *            <li>ON_ENABLE
+     *            </ul>
+     * @param dimmingDuration {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>INSTANTLY
+     *            <li>DEFAULT
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchMultilevelSet(ByteBuffer buffer, String value, String dimmingDuration) {
+        logger.debug("Creating command message SWITCH_MULTILEVEL_SET version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_MULTILEVEL_SET);
+
+        // Process 'Value'
+        boolean foundValue = false;
+        for (Integer entry : constantSwitchMultilevelSetValue.keySet()) {
+            if (constantSwitchMultilevelSetValue.get(entry).equals(value)) {
+                buffer.put(entry.byteValue());
+                foundValue = true;
+                break;
+            }
+        }
+        if (!foundValue) {
+            throw new IllegalArgumentException("Unknown constant value '" + value + "' for value");
+        }
+
+        // Process 'Dimming Duration'
+        boolean foundDimmingDuration = false;
+        for (Integer entry : constantSwitchMultilevelSetDimmingDuration.keySet()) {
+            if (constantSwitchMultilevelSetDimmingDuration.get(entry).equals(dimmingDuration)) {
+                buffer.put(entry.byteValue());
+                foundDimmingDuration = true;
+                break;
+            }
+        }
+        if (!foundDimmingDuration) {
+            throw new IllegalArgumentException("Unknown constant value '" + dimmingDuration + "' for dimmingDuration");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_MULTILEVEL_SET command.
      * <p>
@@ -214,6 +274,27 @@ public class CommandClassSwitchMultilevelV4 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_MULTILEVEL_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch Multilevel Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchMultilevelGet(ByteBuffer buffer) {
+        logger.debug("Creating command message SWITCH_MULTILEVEL_GET version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_MULTILEVEL_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_MULTILEVEL_GET command.
      * <p>
@@ -290,6 +371,70 @@ public class CommandClassSwitchMultilevelV4 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_MULTILEVEL_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch Multilevel Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param currentValue {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF_DISABLE
+     *            <li>ON_ENABLE
+     *            </ul>
+     * @param targetValue {@link Integer}
+     * @param duration {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>UNKNOWN_DURATION
+     *            <li>ALREADY_AT_THE_TARGET_VALUE
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchMultilevelReport(ByteBuffer buffer, String currentValue, Integer targetValue,
+            String duration) {
+        logger.debug("Creating command message SWITCH_MULTILEVEL_REPORT version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_MULTILEVEL_REPORT);
+
+        // Process 'Current Value'
+        boolean foundCurrentValue = false;
+        for (Integer entry : constantSwitchMultilevelReportCurrentValue.keySet()) {
+            if (constantSwitchMultilevelReportCurrentValue.get(entry).equals(currentValue)) {
+                buffer.put(entry.byteValue());
+                foundCurrentValue = true;
+                break;
+            }
+        }
+        if (!foundCurrentValue) {
+            throw new IllegalArgumentException("Unknown constant value '" + currentValue + "' for currentValue");
+        }
+
+        // Process 'Target Value'
+        buffer.put(targetValue.byteValue());
+
+        // Process 'Duration'
+        boolean foundDuration = false;
+        for (Integer entry : constantSwitchMultilevelReportDuration.keySet()) {
+            if (constantSwitchMultilevelReportDuration.get(entry).equals(duration)) {
+                buffer.put(entry.byteValue());
+                foundDuration = true;
+                break;
+            }
+        }
+        if (!foundDuration) {
+            throw new IllegalArgumentException("Unknown constant value '" + duration + "' for duration");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_MULTILEVEL_REPORT command.
      * <p>
@@ -392,6 +537,78 @@ public class CommandClassSwitchMultilevelV4 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_MULTILEVEL_START_LEVEL_CHANGE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch Multilevel Start Level Change
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param incDec {@link String}
+     * @param ignoreStartLevel {@link Boolean}
+     * @param upDown {@link String}
+     * @param startLevel {@link Integer}
+     * @param dimmingDuration {@link Integer}
+     * @param stepSize {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchMultilevelStartLevelChange(ByteBuffer buffer, String incDec, Boolean ignoreStartLevel,
+            String upDown, Integer startLevel, Integer dimmingDuration, Integer stepSize) {
+        logger.debug("Creating command message SWITCH_MULTILEVEL_START_LEVEL_CHANGE version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_MULTILEVEL_START_LEVEL_CHANGE);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        int valincDec;
+        switch (incDec) {
+            case "INCREMENT":
+                valincDec = 0;
+                break;
+            case "DECREMENT":
+                valincDec = 1;
+                break;
+            case "NONE":
+                valincDec = 3;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for incDec: " + incDec);
+        }
+        valProperties1 |= valincDec >> 3 & 0x18;
+        valProperties1 |= ignoreStartLevel ? 0x20 : 0;
+        int valupDown;
+        switch (upDown) {
+            case "UP":
+                valupDown = 0;
+                break;
+            case "DOWN":
+                valupDown = 1;
+                break;
+            case "NONE":
+                valupDown = 3;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for upDown: " + upDown);
+        }
+        valProperties1 |= valupDown >> 6 & 0xC0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Start Level'
+        buffer.put(startLevel.byteValue());
+
+        // Process 'Dimming Duration'
+        buffer.put(dimmingDuration.byteValue());
+
+        // Process 'Step Size'
+        buffer.put(stepSize.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_MULTILEVEL_START_LEVEL_CHANGE command.
      * <p>
@@ -475,6 +692,27 @@ public class CommandClassSwitchMultilevelV4 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_MULTILEVEL_STOP_LEVEL_CHANGE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch Multilevel Stop Level Change
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchMultilevelStopLevelChange(ByteBuffer buffer) {
+        logger.debug("Creating command message SWITCH_MULTILEVEL_STOP_LEVEL_CHANGE version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_MULTILEVEL_STOP_LEVEL_CHANGE);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_MULTILEVEL_STOP_LEVEL_CHANGE command.
      * <p>
@@ -509,6 +747,27 @@ public class CommandClassSwitchMultilevelV4 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_MULTILEVEL_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch Multilevel Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchMultilevelSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message SWITCH_MULTILEVEL_SUPPORTED_GET version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_MULTILEVEL_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_MULTILEVEL_SUPPORTED_GET command.
      * <p>
@@ -551,6 +810,36 @@ public class CommandClassSwitchMultilevelV4 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_MULTILEVEL_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch Multilevel Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param primarySwitchType {@link Integer}
+     * @param secondarySwitchType {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchMultilevelSupportedReport(ByteBuffer buffer, Integer primarySwitchType,
+            Integer secondarySwitchType) {
+        logger.debug("Creating command message SWITCH_MULTILEVEL_SUPPORTED_REPORT version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_MULTILEVEL_SUPPORTED_REPORT);
+
+        // Process 'Properties1'
+        buffer.put((byte) (primarySwitchType & 0x1F));
+
+        // Process 'Properties2'
+        buffer.put((byte) (secondarySwitchType & 0x1F));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_MULTILEVEL_SUPPORTED_REPORT command.
      * <p>
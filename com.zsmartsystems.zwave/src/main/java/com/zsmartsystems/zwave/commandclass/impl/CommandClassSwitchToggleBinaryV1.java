@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -81,6 +82,29 @@ public class CommandClassSwitchToggleBinaryV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_TOGGLE_BINARY_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch Toggle Binary Set
+     * <p>
+     * SWITCH_TOGGLE_BINARY_SET
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchToggleBinarySet(ByteBuffer buffer) {
+        logger.debug("Creating command message SWITCH_TOGGLE_BINARY_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_TOGGLE_BINARY_SET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_TOGGLE_BINARY_SET command.
      * <p>
@@ -117,6 +141,27 @@ public class CommandClassSwitchToggleBinaryV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_TOGGLE_BINARY_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch Toggle Binary Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchToggleBinaryGet(ByteBuffer buffer) {
+        logger.debug("Creating command message SWITCH_TOGGLE_BINARY_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_TOGGLE_BINARY_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_TOGGLE_BINARY_GET command.
      * <p>
@@ -170,6 +215,46 @@ public class CommandClassSwitchToggleBinaryV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_TOGGLE_BINARY_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch Toggle Binary Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param value {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF
+     *            <li>ON
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchToggleBinaryReport(ByteBuffer buffer, String value) {
+        logger.debug("Creating command message SWITCH_TOGGLE_BINARY_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_TOGGLE_BINARY_REPORT);
+
+        // Process 'Value'
+        boolean foundValue = false;
+        for (Integer entry : constantSwitchToggleBinaryReportValue.keySet()) {
+            if (constantSwitchToggleBinaryReportValue.get(entry).equals(value)) {
+                buffer.put(entry.byteValue());
+                foundValue = true;
+                break;
+            }
+        }
+        if (!foundValue) {
+            throw new IllegalArgumentException("Unknown constant value '" + value + "' for value");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_TOGGLE_BINARY_REPORT command.
      * <p>
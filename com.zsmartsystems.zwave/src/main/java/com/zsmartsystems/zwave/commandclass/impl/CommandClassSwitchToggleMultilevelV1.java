@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -98,6 +99,29 @@ public class CommandClassSwitchToggleMultilevelV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_TOGGLE_MULTILEVEL_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch Toggle Multilevel Set
+     * <p>
+     * SWITCH_TOGGLE_MULTILEVEL_SET
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchToggleMultilevelSet(ByteBuffer buffer) {
+        logger.debug("Creating command message SWITCH_TOGGLE_MULTILEVEL_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_TOGGLE_MULTILEVEL_SET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_TOGGLE_MULTILEVEL_SET command.
      * <p>
@@ -134,6 +158,27 @@ public class CommandClassSwitchToggleMultilevelV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_TOGGLE_MULTILEVEL_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch Toggle Multilevel Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchToggleMultilevelGet(ByteBuffer buffer) {
+        logger.debug("Creating command message SWITCH_TOGGLE_MULTILEVEL_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_TOGGLE_MULTILEVEL_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_TOGGLE_MULTILEVEL_GET command.
      * <p>
@@ -187,6 +232,46 @@ public class CommandClassSwitchToggleMultilevelV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_TOGGLE_MULTILEVEL_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch Toggle Multilevel Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param value {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF_DISABLE
+     *            <li>ON_ENABLE
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchToggleMultilevelReport(ByteBuffer buffer, String value) {
+        logger.debug("Creating command message SWITCH_TOGGLE_MULTILEVEL_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_TOGGLE_MULTILEVEL_REPORT);
+
+        // Process 'Value'
+        boolean foundValue = false;
+        for (Integer entry : constantSwitchToggleMultilevelReportValue.keySet()) {
+            if (constantSwitchToggleMultilevelReportValue.get(entry).equals(value)) {
+                buffer.put(entry.byteValue());
+                foundValue = true;
+                break;
+            }
+        }
+        if (!foundValue) {
+            throw new IllegalArgumentException("Unknown constant value '" + value + "' for value");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_TOGGLE_MULTILEVEL_REPORT command.
      * <p>
@@ -243,6 +328,40 @@ public class CommandClassSwitchToggleMultilevelV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_TOGGLE_MULTILEVEL_START_LEVEL_CHANGE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch Toggle Multilevel Start Level Change
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param ignoreStartLevel {@link Boolean}
+     * @param rollOver {@link Boolean}
+     * @param startLevel {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchToggleMultilevelStartLevelChange(ByteBuffer buffer, Boolean ignoreStartLevel,
+            Boolean rollOver, Integer startLevel) {
+        logger.debug("Creating command message SWITCH_TOGGLE_MULTILEVEL_START_LEVEL_CHANGE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_TOGGLE_MULTILEVEL_START_LEVEL_CHANGE);
+
+        // Process 'Level'
+        int valLevel = 0;
+        valLevel |= ignoreStartLevel ? 0x20 : 0;
+        valLevel |= rollOver ? 0x80 : 0;
+        buffer.put((byte) valLevel);
+
+        // Process 'Start Level'
+        buffer.put(startLevel.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_TOGGLE_MULTILEVEL_START_LEVEL_CHANGE command.
      * <p>
@@ -292,6 +411,27 @@ public class CommandClassSwitchToggleMultilevelV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the SWITCH_TOGGLE_MULTILEVEL_STOP_LEVEL_CHANGE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Switch Toggle Multilevel Stop Level Change
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getSwitchToggleMultilevelStopLevelChange(ByteBuffer buffer) {
+        logger.debug("Creating command message SWITCH_TOGGLE_MULTILEVEL_STOP_LEVEL_CHANGE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) SWITCH_TOGGLE_MULTILEVEL_STOP_LEVEL_CHANGE);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the SWITCH_TOGGLE_MULTILEVEL_STOP_LEVEL_CHANGE command.
      * <p>
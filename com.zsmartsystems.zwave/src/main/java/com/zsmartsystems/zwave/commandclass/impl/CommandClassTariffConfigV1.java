@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -126,6 +127,82 @@ public class CommandClassTariffConfigV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the TARIFF_TBL_SUPPLIER_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Tariff Tbl Supplier Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param year {@link Integer}
+     * @param month {@link Integer}
+     * @param day {@link Integer}
+     * @param hourLocalTime {@link Integer}
+     * @param minuteLocalTime {@link Integer}
+     * @param secondLocalTime {@link Integer}
+     * @param standingChargePeriod {@link Integer}
+     * @param standingChargePrecision {@link Integer}
+     * @param standingChargeValue {@link Long}
+     * @param supplierCharacter {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getTariffTblSupplierSet(ByteBuffer buffer, Integer year, Integer month, Integer day,
+            Integer hourLocalTime, Integer minuteLocalTime, Integer secondLocalTime, Integer standingChargePeriod,
+            Integer standingChargePrecision, Long standingChargeValue, byte[] supplierCharacter) {
+        logger.debug("Creating command message TARIFF_TBL_SUPPLIER_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) TARIFF_TBL_SUPPLIER_SET);
+
+        // Process 'Year'
+        buffer.put((byte) ((year >> 8) & 0xff));
+        buffer.put((byte) (year & 0xff));
+
+        // Process 'Month'
+        buffer.put(month.byteValue());
+
+        // Process 'Day'
+        buffer.put(day.byteValue());
+
+        // Process 'Hour Local Time'
+        buffer.put(hourLocalTime.byteValue());
+
+        // Process 'Minute Local Time'
+        buffer.put(minuteLocalTime.byteValue());
+
+        // Process 'Second Local Time'
+        buffer.put(secondLocalTime.byteValue());
+
+        // Process 'Currency'
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= standingChargePeriod & 0x1F;
+        valProperties1 |= ((standingChargePrecision << 5) & 0xE0);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Standing Charge Value'
+        buffer.put((byte) ((standingChargeValue >> 24) & 0xff));
+        buffer.put((byte) ((standingChargeValue >> 16) & 0xff));
+        buffer.put((byte) ((standingChargeValue >> 8) & 0xff));
+        buffer.put((byte) (standingChargeValue & 0xff));
+
+        // Process 'Properties2'
+        // Number of Supplier Characters is used by 'Supplier Character'
+        int numberOfSupplierCharacters = supplierCharacter.length;
+        buffer.put((byte) (numberOfSupplierCharacters & 0x1F));
+
+        // Process 'Supplier Character'
+        if (supplierCharacter != null) {
+            buffer.put(supplierCharacter);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the TARIFF_TBL_SUPPLIER_SET command.
      * <p>
@@ -242,6 +319,43 @@ public class CommandClassTariffConfigV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the TARIFF_TBL_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Tariff Tbl Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param rateParameterSetId {@link Integer}
+     * @param tariffPrecision {@link Integer}
+     * @param tariffValue {@link Long}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getTariffTblSet(ByteBuffer buffer, Integer rateParameterSetId, Integer tariffPrecision,
+            Long tariffValue) {
+        logger.debug("Creating command message TARIFF_TBL_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) TARIFF_TBL_SET);
+
+        // Process 'Rate Parameter Set ID'
+        buffer.put(rateParameterSetId.byteValue());
+
+        // Process 'Properties1'
+        buffer.put((byte) ((tariffPrecision << 5) & 0xE0));
+
+        // Process 'Tariff Value'
+        buffer.put((byte) ((tariffValue >> 24) & 0xff));
+        buffer.put((byte) ((tariffValue >> 16) & 0xff));
+        buffer.put((byte) ((tariffValue >> 8) & 0xff));
+        buffer.put((byte) (tariffValue & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the TARIFF_TBL_SET command.
      * <p>
@@ -307,6 +421,38 @@ public class CommandClassTariffConfigV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the TARIFF_TBL_REMOVE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Tariff Tbl Remove
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param rateParameterSetId {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getTariffTblRemove(ByteBuffer buffer, byte[] rateParameterSetId) {
+        logger.debug("Creating command message TARIFF_TBL_REMOVE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) TARIFF_TBL_REMOVE);
+
+        // Process 'Properties1'
+        // Rate Parameter Set IDs is used by 'Rate Parameter Set ID'
+        int rateParameterSetIds = rateParameterSetId.length;
+        buffer.put((byte) (rateParameterSetIds & 0x3F));
+
+        // Process 'Rate Parameter Set ID'
+        if (rateParameterSetId != null) {
+            buffer.put(rateParameterSetId);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the TARIFF_TBL_REMOVE command.
      * <p>
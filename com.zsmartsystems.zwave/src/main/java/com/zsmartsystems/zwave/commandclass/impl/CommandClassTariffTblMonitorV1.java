@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -80,6 +81,27 @@ public class CommandClassTariffTblMonitorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the TARIFF_TBL_SUPPLIER_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Tariff Tbl Supplier Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getTariffTblSupplierGet(ByteBuffer buffer) {
+        logger.debug("Creating command message TARIFF_TBL_SUPPLIER_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) TARIFF_TBL_SUPPLIER_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the TARIFF_TBL_SUPPLIER_GET command.
      * <p>
@@ -172,6 +194,82 @@ public class CommandClassTariffTblMonitorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the TARIFF_TBL_SUPPLIER_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Tariff Tbl Supplier Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param year {@link Integer}
+     * @param month {@link Integer}
+     * @param day {@link Integer}
+     * @param hourLocalTime {@link Integer}
+     * @param minuteLocalTime {@link Integer}
+     * @param secondLocalTime {@link Integer}
+     * @param standingChargePeriod {@link Integer}
+     * @param standingChargePrecision {@link Integer}
+     * @param standingChargeValue {@link Long}
+     * @param supplierCharacter {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getTariffTblSupplierReport(ByteBuffer buffer, Integer year, Integer month, Integer day,
+            Integer hourLocalTime, Integer minuteLocalTime, Integer secondLocalTime, Integer standingChargePeriod,
+            Integer standingChargePrecision, Long standingChargeValue, byte[] supplierCharacter) {
+        logger.debug("Creating command message TARIFF_TBL_SUPPLIER_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) TARIFF_TBL_SUPPLIER_REPORT);
+
+        // Process 'Year'
+        buffer.put((byte) ((year >> 8) & 0xff));
+        buffer.put((byte) (year & 0xff));
+
+        // Process 'Month'
+        buffer.put(month.byteValue());
+
+        // Process 'Day'
+        buffer.put(day.byteValue());
+
+        // Process 'Hour Local Time'
+        buffer.put(hourLocalTime.byteValue());
+
+        // Process 'Minute Local Time'
+        buffer.put(minuteLocalTime.byteValue());
+
+        // Process 'Second Local Time'
+        buffer.put(secondLocalTime.byteValue());
+
+        // Process 'Currency'
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= standingChargePeriod & 0x1F;
+        valProperties1 |= ((standingChargePrecision << 5) & 0xE0);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Standing Charge Value'
+        buffer.put((byte) ((standingChargeValue >> 24) & 0xff));
+        buffer.put((byte) ((standingChargeValue >> 16) & 0xff));
+        buffer.put((byte) ((standingChargeValue >> 8) & 0xff));
+        buffer.put((byte) (standingChargeValue & 0xff));
+
+        // Process 'Properties2'
+        // Number of Supplier Characters is used by 'Supplier Character'
+        int numberOfSupplierCharacters = supplierCharacter.length;
+        buffer.put((byte) (numberOfSupplierCharacters & 0x1F));
+
+        // Process 'Supplier Character'
+        if (supplierCharacter != null) {
+            buffer.put(supplierCharacter);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the TARIFF_TBL_SUPPLIER_REPORT command.
      * <p>
@@ -277,6 +375,31 @@ public class CommandClassTariffTblMonitorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the TARIFF_TBL_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Tariff Tbl Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param rateParameterSetId {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getTariffTblGet(ByteBuffer buffer, Integer rateParameterSetId) {
+        logger.debug("Creating command message TARIFF_TBL_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) TARIFF_TBL_GET);
+
+        // Process 'Rate Parameter Set ID'
+        buffer.put(rateParameterSetId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the TARIFF_TBL_GET command.
      * <p>
@@ -335,6 +458,43 @@ public class CommandClassTariffTblMonitorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the TARIFF_TBL_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Tariff Tbl Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param rateParameterSetId {@link Integer}
+     * @param tariffPrecision {@link Integer}
+     * @param tariffValue {@link Long}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getTariffTblReport(ByteBuffer buffer, Integer rateParameterSetId, Integer tariffPrecision,
+            Long tariffValue) {
+        logger.debug("Creating command message TARIFF_TBL_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) TARIFF_TBL_REPORT);
+
+        // Process 'Rate Parameter Set ID'
+        buffer.put(rateParameterSetId.byteValue());
+
+        // Process 'Properties1'
+        buffer.put((byte) ((tariffPrecision << 5) & 0xE0));
+
+        // Process 'Tariff Value'
+        buffer.put((byte) ((tariffValue >> 24) & 0xff));
+        buffer.put((byte) ((tariffValue >> 16) & 0xff));
+        buffer.put((byte) ((tariffValue >> 8) & 0xff));
+        buffer.put((byte) (tariffValue & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the TARIFF_TBL_REPORT command.
      * <p>
@@ -434,6 +594,76 @@ public class CommandClassTariffTblMonitorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the TARIFF_TBL_COST_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Tariff Tbl Cost Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param rateParameterSetId {@link Integer}
+     * @param startYear {@link Integer}
+     * @param startMonth {@link Integer}
+     * @param startDay {@link Integer}
+     * @param startHourLocalTime {@link Integer}
+     * @param startMinuteLocalTime {@link Integer}
+     * @param stopYear {@link Integer}
+     * @param stopMonth {@link Integer}
+     * @param stopDay {@link Integer}
+     * @param stopHourLocalTime {@link Integer}
+     * @param stopMinuteLocalTime {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getTariffTblCostGet(ByteBuffer buffer, Integer rateParameterSetId, Integer startYear,
+            Integer startMonth, Integer startDay, Integer startHourLocalTime, Integer startMinuteLocalTime,
+            Integer stopYear, Integer stopMonth, Integer stopDay, Integer stopHourLocalTime,
+            Integer stopMinuteLocalTime) {
+        logger.debug("Creating command message TARIFF_TBL_COST_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) TARIFF_TBL_COST_GET);
+
+        // Process 'Rate Parameter Set ID'
+        buffer.put(rateParameterSetId.byteValue());
+
+        // Process 'Start Year'
+        buffer.put((byte) ((startYear >> 8) & 0xff));
+        buffer.put((byte) (startYear & 0xff));
+
+        // Process 'Start Month'
+        buffer.put(startMonth.byteValue());
+
+        // Process 'Start Day'
+        buffer.put(startDay.byteValue());
+
+        // Process 'Start Hour Local Time'
+        buffer.put(startHourLocalTime.byteValue());
+
+        // Process 'Start Minute Local Time'
+        buffer.put(startMinuteLocalTime.byteValue());
+
+        // Process 'Stop Year'
+        buffer.put((byte) ((stopYear >> 8) & 0xff));
+        buffer.put((byte) (stopYear & 0xff));
+
+        // Process 'Stop Month'
+        buffer.put(stopMonth.byteValue());
+
+        // Process 'Stop Day'
+        buffer.put(stopDay.byteValue());
+
+        // Process 'Stop Hour Local Time'
+        buffer.put(stopHourLocalTime.byteValue());
+
+        // Process 'Stop Minute Local Time'
+        buffer.put(stopMinuteLocalTime.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the TARIFF_TBL_COST_GET command.
      * <p>
@@ -583,6 +813,93 @@ public class CommandClassTariffTblMonitorV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the TARIFF_TBL_COST_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Tariff Tbl Cost Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param rateParameterSetId {@link Integer}
+     * @param rateType {@link Integer}
+     * @param startYear {@link Integer}
+     * @param startMonth {@link Integer}
+     * @param startDay {@link Integer}
+     * @param startHourLocalTime {@link Integer}
+     * @param startMinuteLocalTime {@link Integer}
+     * @param stopYear {@link Integer}
+     * @param stopMonth {@link Integer}
+     * @param stopDay {@link Integer}
+     * @param stopHourLocalTime {@link Integer}
+     * @param stopMinuteLocalTime {@link Integer}
+     * @param costPrecision {@link Integer}
+     * @param costValue {@link Long}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getTariffTblCostReport(ByteBuffer buffer, Integer rateParameterSetId, Integer rateType,
+            Integer startYear, Integer startMonth, Integer startDay, Integer startHourLocalTime,
+            Integer startMinuteLocalTime, Integer stopYear, Integer stopMonth, Integer stopDay,
+            Integer stopHourLocalTime, Integer stopMinuteLocalTime, Integer costPrecision, Long costValue) {
+        logger.debug("Creating command message TARIFF_TBL_COST_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) TARIFF_TBL_COST_REPORT);
+
+        // Process 'Rate Parameter Set ID'
+        buffer.put(rateParameterSetId.byteValue());
+
+        // Process 'Properties1'
+        buffer.put((byte) (rateType & 0x03));
+
+        // Process 'Start Year'
+        buffer.put((byte) ((startYear >> 8) & 0xff));
+        buffer.put((byte) (startYear & 0xff));
+
+        // Process 'Start Month'
+        buffer.put(startMonth.byteValue());
+
+        // Process 'Start Day'
+        buffer.put(startDay.byteValue());
+
+        // Process 'Start Hour Local Time'
+        buffer.put(startHourLocalTime.byteValue());
+
+        // Process 'Start Minute Local Time'
+        buffer.put(startMinuteLocalTime.byteValue());
+
+        // Process 'Stop Year'
+        buffer.put((byte) ((stopYear >> 8) & 0xff));
+        buffer.put((byte) (stopYear & 0xff));
+
+        // Process 'Stop Month'
+        buffer.put(stopMonth.byteValue());
+
+        // Process 'Stop Day'
+        buffer.put(stopDay.byteValue());
+
+        // Process 'Stop Hour Local Time'
+        buffer.put(stopHourLocalTime.byteValue());
+
+        // Process 'Stop Minute Local Time'
+        buffer.put(stopMinuteLocalTime.byteValue());
+
+        // Process 'Currency'
+
+        // Process 'Properties2'
+        buffer.put((byte) ((costPrecision << 5) & 0xE0));
+
+        // Process 'Cost Value'
+        buffer.put((byte) ((costValue >> 24) & 0xff));
+        buffer.put((byte) ((costValue >> 16) & 0xff));
+        buffer.put((byte) ((costValue >> 8) & 0xff));
+        buffer.put((byte) (costValue & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the TARIFF_TBL_COST_REPORT command.
      * <p>
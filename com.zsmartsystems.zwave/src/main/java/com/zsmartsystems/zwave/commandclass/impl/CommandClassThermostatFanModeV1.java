@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -111,6 +112,48 @@ public class CommandClassThermostatFanModeV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_FAN_MODE_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Fan Mode Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param fanMode {@link String}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatFanModeSet(ByteBuffer buffer, String fanMode) {
+        logger.debug("Creating command message THERMOSTAT_FAN_MODE_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_FAN_MODE_SET);
+
+        // Process 'Level'
+        int valfanMode;
+        switch (fanMode) {
+            case "AUTO_LOW":
+                valfanMode = 0;
+                break;
+            case "LOW":
+                valfanMode = 1;
+                break;
+            case "AUTO_HIGH":
+                valfanMode = 2;
+                break;
+            case "HIGH":
+                valfanMode = 3;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for fanMode: " + fanMode);
+        }
+        buffer.put((byte) (valfanMode & 0x0F));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_FAN_MODE_SET command.
      * <p>
@@ -169,6 +212,27 @@ public class CommandClassThermostatFanModeV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_FAN_MODE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Fan Mode Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatFanModeGet(ByteBuffer buffer) {
+        logger.debug("Creating command message THERMOSTAT_FAN_MODE_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_FAN_MODE_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_FAN_MODE_GET command.
      * <p>
@@ -224,6 +288,48 @@ public class CommandClassThermostatFanModeV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_FAN_MODE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Fan Mode Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param fanMode {@link String}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatFanModeReport(ByteBuffer buffer, String fanMode) {
+        logger.debug("Creating command message THERMOSTAT_FAN_MODE_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_FAN_MODE_REPORT);
+
+        // Process 'Level'
+        int valfanMode;
+        switch (fanMode) {
+            case "AUTO_LOW":
+                valfanMode = 0;
+                break;
+            case "LOW":
+                valfanMode = 1;
+                break;
+            case "AUTO_HIGH":
+                valfanMode = 2;
+                break;
+            case "HIGH":
+                valfanMode = 3;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for fanMode: " + fanMode);
+        }
+        buffer.put((byte) (valfanMode & 0x0F));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_FAN_MODE_REPORT command.
      * <p>
@@ -282,6 +388,27 @@ public class CommandClassThermostatFanModeV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_FAN_MODE_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Fan Mode Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatFanModeSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message THERMOSTAT_FAN_MODE_SUPPORTED_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_FAN_MODE_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_FAN_MODE_SUPPORTED_GET command.
      * <p>
@@ -341,6 +468,52 @@ public class CommandClassThermostatFanModeV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_FAN_MODE_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Fan Mode Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param bitMask {@link List<String>}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>AUTO
+     *            <li>ON
+     *            <li>AUTO_HIGH
+     *            <li>ON_HIGH
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatFanModeSupportedReport(ByteBuffer buffer, List<String> bitMask) {
+        logger.debug("Creating command message THERMOSTAT_FAN_MODE_SUPPORTED_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_FAN_MODE_SUPPORTED_REPORT);
+
+        // Process 'Bit Mask'
+        int valBitMask = 0;
+        for (String value : bitMask) {
+            boolean foundBitMask = false;
+            for (Integer entry : constantThermostatFanModeSupportedReportBitMask.keySet()) {
+                if (constantThermostatFanModeSupportedReportBitMask.get(entry).equals(value)) {
+                    foundBitMask = true;
+                    valBitMask += entry;
+                    break;
+                }
+            }
+            if (!foundBitMask) {
+                throw new IllegalArgumentException("Unknown constant value '" + bitMask + "' for bitMask");
+            }
+        }
+        buffer.put((byte) valBitMask);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_FAN_MODE_SUPPORTED_REPORT command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -159,6 +160,73 @@ public class CommandClassThermostatFanModeV4 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_FAN_MODE_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Fan Mode Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param fanMode {@link String}
+     * @param off {@link Boolean}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatFanModeSet(ByteBuffer buffer, String fanMode, Boolean off) {
+        logger.debug("Creating command message THERMOSTAT_FAN_MODE_SET version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_FAN_MODE_SET);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        int valfanMode;
+        switch (fanMode) {
+            case "AUTO_LOW":
+                valfanMode = 0;
+                break;
+            case "LOW":
+                valfanMode = 1;
+                break;
+            case "AUTO_HIGH":
+                valfanMode = 2;
+                break;
+            case "HIGH":
+                valfanMode = 3;
+                break;
+            case "AUTO_MEDIUM":
+                valfanMode = 4;
+                break;
+            case "MEDIUM":
+                valfanMode = 5;
+                break;
+            case "CIRCULATION":
+                valfanMode = 6;
+                break;
+            case "HUMIDITY":
+                valfanMode = 7;
+                break;
+            case "LEFT_RIGHT":
+                valfanMode = 8;
+                break;
+            case "UP_DOWN":
+                valfanMode = 9;
+                break;
+            case "QUIET":
+                valfanMode = 10;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for fanMode: " + fanMode);
+        }
+        valProperties1 |= valfanMode & 0x0F;
+        valProperties1 |= off ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_FAN_MODE_SET command.
      * <p>
@@ -240,6 +308,27 @@ public class CommandClassThermostatFanModeV4 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_FAN_MODE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Fan Mode Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatFanModeGet(ByteBuffer buffer) {
+        logger.debug("Creating command message THERMOSTAT_FAN_MODE_GET version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_FAN_MODE_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_FAN_MODE_GET command.
      * <p>
@@ -320,6 +409,73 @@ public class CommandClassThermostatFanModeV4 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_FAN_MODE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Fan Mode Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param fanMode {@link String}
+     * @param off {@link Boolean}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatFanModeReport(ByteBuffer buffer, String fanMode, Boolean off) {
+        logger.debug("Creating command message THERMOSTAT_FAN_MODE_REPORT version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_FAN_MODE_REPORT);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        int valfanMode;
+        switch (fanMode) {
+            case "AUTO_LOW":
+                valfanMode = 0;
+                break;
+            case "LOW":
+                valfanMode = 1;
+                break;
+            case "AUTO_HIGH":
+                valfanMode = 2;
+                break;
+            case "HIGH":
+                valfanMode = 3;
+                break;
+            case "AUTO_MEDIUM":
+                valfanMode = 4;
+                break;
+            case "MEDIUM":
+                valfanMode = 5;
+                break;
+            case "CIRCULATION":
+                valfanMode = 6;
+                break;
+            case "HUMIDITY":
+                valfanMode = 7;
+                break;
+            case "LEFT_RIGHT":
+                valfanMode = 8;
+                break;
+            case "UP_DOWN":
+                valfanMode = 9;
+                break;
+            case "QUIET":
+                valfanMode = 10;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for fanMode: " + fanMode);
+        }
+        valProperties1 |= valfanMode & 0x0F;
+        valProperties1 |= off ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_FAN_MODE_REPORT command.
      * <p>
@@ -401,6 +557,27 @@ public class CommandClassThermostatFanModeV4 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_FAN_MODE_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Fan Mode Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatFanModeSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message THERMOSTAT_FAN_MODE_SUPPORTED_GET version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_FAN_MODE_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_FAN_MODE_SUPPORTED_GET command.
      * <p>
@@ -467,6 +644,59 @@ public class CommandClassThermostatFanModeV4 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_FAN_MODE_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Fan Mode Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param bitMask {@link List<String>}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>AUTO
+     *            <li>LOW
+     *            <li>AUTO_HIGH
+     *            <li>HIGH
+     *            <li>AUTO_MEDIUM
+     *            <li>MEDIUM
+     *            <li>CIRCULATION
+     *            <li>HUMIDITY_CIRCULATION
+     *            <li>LEFT_RIGHT
+     *            <li>UP_DOWN
+     *            <li>QUIET
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatFanModeSupportedReport(ByteBuffer buffer, List<String> bitMask) {
+        logger.debug("Creating command message THERMOSTAT_FAN_MODE_SUPPORTED_REPORT version 4");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_FAN_MODE_SUPPORTED_REPORT);
+
+        // Process 'Bit Mask'
+        int valBitMask = 0;
+        for (String value : bitMask) {
+            boolean foundBitMask = false;
+            for (Integer entry : constantThermostatFanModeSupportedReportBitMask.keySet()) {
+                if (constantThermostatFanModeSupportedReportBitMask.get(entry).equals(value)) {
+                    foundBitMask = true;
+                    valBitMask += entry;
+                    break;
+                }
+            }
+            if (!foundBitMask) {
+                throw new IllegalArgumentException("Unknown constant value '" + bitMask + "' for bitMask");
+            }
+        }
+        buffer.put((byte) valBitMask);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_FAN_MODE_SUPPORTED_REPORT command.
      * <p>
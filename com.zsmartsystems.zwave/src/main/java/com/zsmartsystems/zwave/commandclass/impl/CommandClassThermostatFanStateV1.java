@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -63,6 +64,27 @@ public class CommandClassThermostatFanStateV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_FAN_STATE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Fan State Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatFanStateGet(ByteBuffer buffer) {
+        logger.debug("Creating command message THERMOSTAT_FAN_STATE_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_FAN_STATE_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_FAN_STATE_GET command.
      * <p>
@@ -112,6 +134,42 @@ public class CommandClassThermostatFanStateV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_FAN_STATE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Fan State Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param fanOperatingState {@link String}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatFanStateReport(ByteBuffer buffer, String fanOperatingState) {
+        logger.debug("Creating command message THERMOSTAT_FAN_STATE_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_FAN_STATE_REPORT);
+
+        // Process 'Level'
+        int valfanOperatingState;
+        switch (fanOperatingState) {
+            case "IDLE":
+                valfanOperatingState = 0;
+                break;
+            case "RUNNING":
+                valfanOperatingState = 1;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for fanOperatingState: " + fanOperatingState);
+        }
+        buffer.put((byte) (valfanOperatingState & 0x0F));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_FAN_STATE_REPORT command.
      * <p>
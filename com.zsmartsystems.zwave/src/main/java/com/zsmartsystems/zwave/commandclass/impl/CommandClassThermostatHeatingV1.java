@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -188,6 +189,52 @@ public class CommandClassThermostatHeatingV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_HEATING_MODE_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Heating Mode Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param mode {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF
+     *            <li>OFF_TIMED
+     *            <li>OFF_3_HOURS
+     *            <li>ANTI_FREEZE
+     *            <li>MANUAL
+     *            <li>TEMPORARY_MANUAL
+     *            <li>AUTOMATIC
+     *            <li>MANUAL_TIMED
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatHeatingModeSet(ByteBuffer buffer, String mode) {
+        logger.debug("Creating command message THERMOSTAT_HEATING_MODE_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_HEATING_MODE_SET);
+
+        // Process 'Mode'
+        boolean foundMode = false;
+        for (Integer entry : constantThermostatHeatingModeSetMode.keySet()) {
+            if (constantThermostatHeatingModeSetMode.get(entry).equals(mode)) {
+                buffer.put(entry.byteValue());
+                foundMode = true;
+                break;
+            }
+        }
+        if (!foundMode) {
+            throw new IllegalArgumentException("Unknown constant value '" + mode + "' for mode");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_HEATING_MODE_SET command.
      * <p>
@@ -231,6 +278,27 @@ public class CommandClassThermostatHeatingV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_HEATING_MODE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Heating Mode Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatHeatingModeGet(ByteBuffer buffer) {
+        logger.debug("Creating command message THERMOSTAT_HEATING_MODE_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_HEATING_MODE_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_HEATING_MODE_GET command.
      * <p>
@@ -290,6 +358,52 @@ public class CommandClassThermostatHeatingV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_HEATING_MODE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Heating Mode Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param mode {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF
+     *            <li>OFF_TIMED
+     *            <li>OFF_3_HOURS
+     *            <li>ANTI_FREEZE
+     *            <li>MANUAL
+     *            <li>TEMPORARY_MANUAL
+     *            <li>AUTOMATIC
+     *            <li>MANUAL_TIMED
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatHeatingModeReport(ByteBuffer buffer, String mode) {
+        logger.debug("Creating command message THERMOSTAT_HEATING_MODE_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_HEATING_MODE_REPORT);
+
+        // Process 'Mode'
+        boolean foundMode = false;
+        for (Integer entry : constantThermostatHeatingModeReportMode.keySet()) {
+            if (constantThermostatHeatingModeReportMode.get(entry).equals(mode)) {
+                buffer.put(entry.byteValue());
+                foundMode = true;
+                break;
+            }
+        }
+        if (!foundMode) {
+            throw new IllegalArgumentException("Unknown constant value '" + mode + "' for mode");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_HEATING_MODE_REPORT command.
      * <p>
@@ -358,6 +472,49 @@ public class CommandClassThermostatHeatingV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_HEATING_SETPOINT_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Heating Setpoint Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param setpointNr {@link Integer}
+     * @param scale {@link Integer}
+     * @param precision {@link Integer}
+     * @param value {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatHeatingSetpointSet(ByteBuffer buffer, Integer setpointNr, Integer scale,
+            Integer precision, byte[] value) {
+        logger.debug("Creating command message THERMOSTAT_HEATING_SETPOINT_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_HEATING_SETPOINT_SET);
+
+        // Process 'Setpoint Nr'
+        buffer.put(setpointNr.byteValue());
+
+        // Process 'Properties1'
+        // Size is used by 'Value'
+        int size = value.length;
+        int valProperties1 = 0;
+        valProperties1 |= size & 0x07;
+        valProperties1 |= ((scale << 3) & 0x18);
+        valProperties1 |= ((precision << 5) & 0xE0);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Value'
+        if (value != null) {
+            buffer.put(value);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_HEATING_SETPOINT_SET command.
      * <p>
@@ -427,6 +584,31 @@ public class CommandClassThermostatHeatingV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_HEATING_SETPOINT_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Heating Setpoint Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param setpointNr {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatHeatingSetpointGet(ByteBuffer buffer, Integer setpointNr) {
+        logger.debug("Creating command message THERMOSTAT_HEATING_SETPOINT_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_HEATING_SETPOINT_GET);
+
+        // Process 'Setpoint Nr'
+        buffer.put(setpointNr.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_HEATING_SETPOINT_GET command.
      * <p>
@@ -495,6 +677,49 @@ public class CommandClassThermostatHeatingV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_HEATING_SETPOINT_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Heating Setpoint Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param setpointNr {@link Integer}
+     * @param scale {@link Integer}
+     * @param precision {@link Integer}
+     * @param value {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatHeatingSetpointReport(ByteBuffer buffer, Integer setpointNr, Integer scale,
+            Integer precision, byte[] value) {
+        logger.debug("Creating command message THERMOSTAT_HEATING_SETPOINT_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_HEATING_SETPOINT_REPORT);
+
+        // Process 'Setpoint Nr'
+        buffer.put(setpointNr.byteValue());
+
+        // Process 'Properties1'
+        // Size is used by 'Value'
+        int size = value.length;
+        int valProperties1 = 0;
+        valProperties1 |= size & 0x07;
+        valProperties1 |= ((scale << 3) & 0x18);
+        valProperties1 |= ((precision << 5) & 0xE0);
+        buffer.put((byte) valProperties1);
+
+        // Process 'Value'
+        if (value != null) {
+            buffer.put(value);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_HEATING_SETPOINT_REPORT command.
      * <p>
@@ -560,6 +785,27 @@ public class CommandClassThermostatHeatingV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_HEATING_RELAY_STATUS_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Heating Relay Status Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatHeatingRelayStatusGet(ByteBuffer buffer) {
+        logger.debug("Creating command message THERMOSTAT_HEATING_RELAY_STATUS_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_HEATING_RELAY_STATUS_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_HEATING_RELAY_STATUS_GET command.
      * <p>
@@ -613,6 +859,46 @@ public class CommandClassThermostatHeatingV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_HEATING_RELAY_STATUS_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Heating Relay Status Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param relayStatus {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF
+     *            <li>ON
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatHeatingRelayStatusReport(ByteBuffer buffer, String relayStatus) {
+        logger.debug("Creating command message THERMOSTAT_HEATING_RELAY_STATUS_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_HEATING_RELAY_STATUS_REPORT);
+
+        // Process 'Relay Status'
+        boolean foundRelayStatus = false;
+        for (Integer entry : constantThermostatHeatingRelayStatusReportRelayStatus.keySet()) {
+            if (constantThermostatHeatingRelayStatusReportRelayStatus.get(entry).equals(relayStatus)) {
+                buffer.put(entry.byteValue());
+                foundRelayStatus = true;
+                break;
+            }
+        }
+        if (!foundRelayStatus) {
+            throw new IllegalArgumentException("Unknown constant value '" + relayStatus + "' for relayStatus");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_HEATING_RELAY_STATUS_REPORT command.
      * <p>
@@ -675,6 +961,46 @@ public class CommandClassThermostatHeatingV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_HEATING_STATUS_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Heating Status Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param status {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>HEATING
+     *            <li>COOLING
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatHeatingStatusSet(ByteBuffer buffer, String status) {
+        logger.debug("Creating command message THERMOSTAT_HEATING_STATUS_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_HEATING_STATUS_SET);
+
+        // Process 'Status'
+        boolean foundStatus = false;
+        for (Integer entry : constantThermostatHeatingStatusSetStatus.keySet()) {
+            if (constantThermostatHeatingStatusSetStatus.get(entry).equals(status)) {
+                buffer.put(entry.byteValue());
+                foundStatus = true;
+                break;
+            }
+        }
+        if (!foundStatus) {
+            throw new IllegalArgumentException("Unknown constant value '" + status + "' for status");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_HEATING_STATUS_SET command.
      * <p>
@@ -718,6 +1044,27 @@ public class CommandClassThermostatHeatingV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_HEATING_STATUS_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Heating Status Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatHeatingStatusGet(ByteBuffer buffer) {
+        logger.debug("Creating command message THERMOSTAT_HEATING_STATUS_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_HEATING_STATUS_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_HEATING_STATUS_GET command.
      * <p>
@@ -771,6 +1118,46 @@ public class CommandClassThermostatHeatingV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_HEATING_STATUS_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Heating Heating Status Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param status {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>HEATING
+     *            <li>COOLING
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatHeatingStatusReport(ByteBuffer buffer, String status) {
+        logger.debug("Creating command message THERMOSTAT_HEATING_STATUS_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_HEATING_STATUS_REPORT);
+
+        // Process 'Status'
+        boolean foundStatus = false;
+        for (Integer entry : constantThermostatHeatingStatusReportStatus.keySet()) {
+            if (constantThermostatHeatingStatusReportStatus.get(entry).equals(status)) {
+                buffer.put(entry.byteValue());
+                foundStatus = true;
+                break;
+            }
+        }
+        if (!foundStatus) {
+            throw new IllegalArgumentException("Unknown constant value '" + status + "' for status");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_HEATING_STATUS_REPORT command.
      * <p>
@@ -822,6 +1209,35 @@ public class CommandClassThermostatHeatingV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_HEATING_TIMED_OFF_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Heating Timed Off Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param minutes {@link Integer}
+     * @param hours {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatHeatingTimedOffSet(ByteBuffer buffer, Integer minutes, Integer hours) {
+        logger.debug("Creating command message THERMOSTAT_HEATING_TIMED_OFF_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_HEATING_TIMED_OFF_SET);
+
+        // Process 'Minutes'
+        buffer.put(minutes.byteValue());
+
+        // Process 'Hours'
+        buffer.put(hours.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_HEATING_TIMED_OFF_SET command.
      * <p>
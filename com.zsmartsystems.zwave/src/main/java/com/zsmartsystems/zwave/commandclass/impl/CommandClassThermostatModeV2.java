@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -151,6 +152,78 @@ public class CommandClassThermostatModeV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_MODE_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Mode Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param mode {@link String}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatModeSet(ByteBuffer buffer, String mode) {
+        logger.debug("Creating command message THERMOSTAT_MODE_SET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_MODE_SET);
+
+        // Process 'Level'
+        int valmode;
+        switch (mode) {
+            case "OFF":
+                valmode = 0;
+                break;
+            case "HEAT":
+                valmode = 1;
+                break;
+            case "COOL":
+                valmode = 2;
+                break;
+            case "AUTO":
+                valmode = 3;
+                break;
+            case "AUXILIARY_HEAT":
+                valmode = 4;
+                break;
+            case "RESUME":
+                valmode = 5;
+                break;
+            case "FAN_ONLY":
+                valmode = 6;
+                break;
+            case "FURNACE":
+                valmode = 7;
+                break;
+            case "DRY_AIR":
+                valmode = 8;
+                break;
+            case "MOIST_AIR":
+                valmode = 9;
+                break;
+            case "AUTO_CHANGEOVER":
+                valmode = 10;
+                break;
+            case "ENERGY_SAVE_HEAT":
+                valmode = 11;
+                break;
+            case "ENERGY_SAVE_COOL":
+                valmode = 12;
+                break;
+            case "AWAY":
+                valmode = 13;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for mode: " + mode);
+        }
+        buffer.put((byte) (valmode & 0x1F));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_MODE_SET command.
      * <p>
@@ -239,6 +312,27 @@ public class CommandClassThermostatModeV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_MODE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Mode Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatModeGet(ByteBuffer buffer) {
+        logger.debug("Creating command message THERMOSTAT_MODE_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_MODE_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_MODE_GET command.
      * <p>
@@ -324,6 +418,78 @@ public class CommandClassThermostatModeV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_MODE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Mode Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param mode {@link String}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatModeReport(ByteBuffer buffer, String mode) {
+        logger.debug("Creating command message THERMOSTAT_MODE_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_MODE_REPORT);
+
+        // Process 'Level'
+        int valmode;
+        switch (mode) {
+            case "OFF":
+                valmode = 0;
+                break;
+            case "HEAT":
+                valmode = 1;
+                break;
+            case "COOL":
+                valmode = 2;
+                break;
+            case "AUTO":
+                valmode = 3;
+                break;
+            case "AUXILIARY_HEAT":
+                valmode = 4;
+                break;
+            case "RESUME":
+                valmode = 5;
+                break;
+            case "FAN_ONLY":
+                valmode = 6;
+                break;
+            case "FURNACE":
+                valmode = 7;
+                break;
+            case "DRY_AIR":
+                valmode = 8;
+                break;
+            case "MOIST_AIR":
+                valmode = 9;
+                break;
+            case "AUTO_CHANGEOVER":
+                valmode = 10;
+                break;
+            case "ENERGY_SAVE_HEAT":
+                valmode = 11;
+                break;
+            case "ENERGY_SAVE_COOL":
+                valmode = 12;
+                break;
+            case "AWAY":
+                valmode = 13;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for mode: " + mode);
+        }
+        buffer.put((byte) (valmode & 0x1F));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_MODE_REPORT command.
      * <p>
@@ -412,6 +578,27 @@ public class CommandClassThermostatModeV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_MODE_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Mode Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatModeSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message THERMOSTAT_MODE_SUPPORTED_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_MODE_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_MODE_SUPPORTED_GET command.
      * <p>
@@ -481,6 +668,62 @@ public class CommandClassThermostatModeV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_MODE_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Mode Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param bitMask {@link List<String>}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF
+     *            <li>HEAT
+     *            <li>COOL
+     *            <li>AUTO
+     *            <li>AUXILIARY_EMERGENCY_HEAT
+     *            <li>RESUME
+     *            <li>FAN_ONLY
+     *            <li>FURNACE
+     *            <li>DRY_AIR
+     *            <li>MOIST_AIR
+     *            <li>AUTO_CHANGEOVER
+     *            <li>ENERGY_SAVE_HEAT
+     *            <li>ENERGY_SAVE_COOL
+     *            <li>AWAY
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatModeSupportedReport(ByteBuffer buffer, List<String> bitMask) {
+        logger.debug("Creating command message THERMOSTAT_MODE_SUPPORTED_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_MODE_SUPPORTED_REPORT);
+
+        // Process 'Bit Mask'
+        int valBitMask = 0;
+        for (String value : bitMask) {
+            boolean foundBitMask = false;
+            for (Integer entry : constantThermostatModeSupportedReportBitMask.keySet()) {
+                if (constantThermostatModeSupportedReportBitMask.get(entry).equals(value)) {
+                    foundBitMask = true;
+                    valBitMask += entry;
+                    break;
+                }
+            }
+            if (!foundBitMask) {
+                throw new IllegalArgumentException("Unknown constant value '" + bitMask + "' for bitMask");
+            }
+        }
+        buffer.put((byte) valBitMask);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_MODE_SUPPORTED_REPORT command.
      * <p>
@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -173,6 +174,95 @@ public class CommandClassThermostatModeV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_MODE_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Mode Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param mode {@link String}
+     * @param noOfManufacturerDataFields {@link Integer}
+     * @param manufacturerData {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatModeSet(ByteBuffer buffer, String mode, Integer noOfManufacturerDataFields,
+            byte[] manufacturerData) {
+        logger.debug("Creating command message THERMOSTAT_MODE_SET version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_MODE_SET);
+
+        // Process 'Level'
+        int valLevel = 0;
+        int valmode;
+        switch (mode) {
+            case "OFF":
+                valmode = 0;
+                break;
+            case "HEAT":
+                valmode = 1;
+                break;
+            case "COOL":
+                valmode = 2;
+                break;
+            case "AUTO":
+                valmode = 3;
+                break;
+            case "AUXILIARY_HEAT":
+                valmode = 4;
+                break;
+            case "RESUME":
+                valmode = 5;
+                break;
+            case "FAN_ONLY":
+                valmode = 6;
+                break;
+            case "FURNACE":
+                valmode = 7;
+                break;
+            case "DRY_AIR":
+                valmode = 8;
+                break;
+            case "MOIST_AIR":
+                valmode = 9;
+                break;
+            case "AUTO_CHANGEOVER":
+                valmode = 10;
+                break;
+            case "ENERGY_SAVE_HEAT":
+                valmode = 11;
+                break;
+            case "ENERGY_SAVE_COOL":
+                valmode = 12;
+                break;
+            case "AWAY":
+                valmode = 13;
+                break;
+            case "FULL_POWER":
+                valmode = 15;
+                break;
+            case "MANUFACTURER_SPECIFC":
+                valmode = 31;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for mode: " + mode);
+        }
+        valLevel |= valmode & 0x1F;
+        valLevel |= ((noOfManufacturerDataFields << 5) & 0xE0);
+        buffer.put((byte) valLevel);
+
+        // Process 'Manufacturer Data'
+        if (manufacturerData != null) {
+            buffer.put(manufacturerData);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_MODE_SET command.
      * <p>
@@ -278,6 +368,27 @@ public class CommandClassThermostatModeV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_MODE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Mode Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatModeGet(ByteBuffer buffer) {
+        logger.debug("Creating command message THERMOSTAT_MODE_GET version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_MODE_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_MODE_GET command.
      * <p>
@@ -383,6 +494,95 @@ public class CommandClassThermostatModeV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_MODE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Mode Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param mode {@link String}
+     * @param noOfManufacturerDataFields {@link Integer}
+     * @param manufacturerData {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatModeReport(ByteBuffer buffer, String mode, Integer noOfManufacturerDataFields,
+            byte[] manufacturerData) {
+        logger.debug("Creating command message THERMOSTAT_MODE_REPORT version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_MODE_REPORT);
+
+        // Process 'Level'
+        int valLevel = 0;
+        int valmode;
+        switch (mode) {
+            case "OFF":
+                valmode = 0;
+                break;
+            case "HEAT":
+                valmode = 1;
+                break;
+            case "COOL":
+                valmode = 2;
+                break;
+            case "AUTO":
+                valmode = 3;
+                break;
+            case "AUXILIARY_HEAT":
+                valmode = 4;
+                break;
+            case "RESUME":
+                valmode = 5;
+                break;
+            case "FAN_ONLY":
+                valmode = 6;
+                break;
+            case "FURNACE":
+                valmode = 7;
+                break;
+            case "DRY_AIR":
+                valmode = 8;
+                break;
+            case "MOIST_AIR":
+                valmode = 9;
+                break;
+            case "AUTO_CHANGEOVER":
+                valmode = 10;
+                break;
+            case "ENERGY_SAVE_HEAT":
+                valmode = 11;
+                break;
+            case "ENERGY_SAVE_COOL":
+                valmode = 12;
+                break;
+            case "AWAY":
+                valmode = 13;
+                break;
+            case "FULL_POWER":
+                valmode = 15;
+                break;
+            case "MANUFACTURER_SPECIFC":
+                valmode = 31;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for mode: " + mode);
+        }
+        valLevel |= valmode & 0x1F;
+        valLevel |= ((noOfManufacturerDataFields << 5) & 0xE0);
+        buffer.put((byte) valLevel);
+
+        // Process 'Manufacturer Data'
+        if (manufacturerData != null) {
+            buffer.put(manufacturerData);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_MODE_REPORT command.
      * <p>
@@ -488,6 +688,27 @@ public class CommandClassThermostatModeV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_MODE_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Mode Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatModeSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message THERMOSTAT_MODE_SUPPORTED_GET version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_MODE_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_MODE_SUPPORTED_GET command.
      * <p>
@@ -559,6 +780,64 @@ public class CommandClassThermostatModeV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_MODE_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Mode Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param bitMask {@link List<String>}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OFF
+     *            <li>HEAT
+     *            <li>COOL
+     *            <li>AUTO
+     *            <li>AUXILIARY_EMERGENCY_HEAT
+     *            <li>RESUME
+     *            <li>FAN_ONLY
+     *            <li>FURNACE
+     *            <li>DRY_AIR
+     *            <li>MOIST_AIR
+     *            <li>AUTO_CHANGEOVER
+     *            <li>ENERGY_SAVE_HEAT
+     *            <li>ENERGY_SAVE_COOL
+     *            <li>AWAY
+     *            <li>MANUFACTURER_SPECIFC
+     *            <li>FULL_POWER
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatModeSupportedReport(ByteBuffer buffer, List<String> bitMask) {
+        logger.debug("Creating command message THERMOSTAT_MODE_SUPPORTED_REPORT version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_MODE_SUPPORTED_REPORT);
+
+        // Process 'Bit Mask'
+        int valBitMask = 0;
+        for (String value : bitMask) {
+            boolean foundBitMask = false;
+            for (Integer entry : constantThermostatModeSupportedReportBitMask.keySet()) {
+                if (constantThermostatModeSupportedReportBitMask.get(entry).equals(value)) {
+                    foundBitMask = true;
+                    valBitMask += entry;
+                    break;
+                }
+            }
+            if (!foundBitMask) {
+                throw new IllegalArgumentException("Unknown constant value '" + bitMask + "' for bitMask");
+            }
+        }
+        buffer.put((byte) valBitMask);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_MODE_SUPPORTED_REPORT command.
      * <p>
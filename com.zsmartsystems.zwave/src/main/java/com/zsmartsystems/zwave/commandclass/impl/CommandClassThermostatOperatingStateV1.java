@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -63,6 +64,27 @@ public class CommandClassThermostatOperatingStateV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_OPERATING_STATE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Operating State Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatOperatingStateGet(ByteBuffer buffer) {
+        logger.debug("Creating command message THERMOSTAT_OPERATING_STATE_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_OPERATING_STATE_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_OPERATING_STATE_GET command.
      * <p>
@@ -127,6 +149,57 @@ public class CommandClassThermostatOperatingStateV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_OPERATING_STATE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Operating State Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param operatingState {@link String}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatOperatingStateReport(ByteBuffer buffer, String operatingState) {
+        logger.debug("Creating command message THERMOSTAT_OPERATING_STATE_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_OPERATING_STATE_REPORT);
+
+        // Process 'Level'
+        int valoperatingState;
+        switch (operatingState) {
+            case "IDLE":
+                valoperatingState = 0;
+                break;
+            case "HEATING":
+                valoperatingState = 1;
+                break;
+            case "COOLING":
+                valoperatingState = 2;
+                break;
+            case "FAN_ONLY":
+                valoperatingState = 3;
+                break;
+            case "PENDING_HEAT":
+                valoperatingState = 4;
+                break;
+            case "PENDING_COOL":
+                valoperatingState = 5;
+                break;
+            case "VENT_ECONOMIZER":
+                valoperatingState = 6;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for operatingState: " + operatingState);
+        }
+        buffer.put((byte) (valoperatingState & 0x0F));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_OPERATING_STATE_REPORT command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -121,6 +122,27 @@ public class CommandClassThermostatOperatingStateV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_OPERATING_STATE_LOGGING_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Operating State Logging Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatOperatingStateLoggingSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message THERMOSTAT_OPERATING_STATE_LOGGING_SUPPORTED_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_OPERATING_STATE_LOGGING_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_OPERATING_STATE_LOGGING_SUPPORTED_GET command.
      * <p>
@@ -155,6 +177,27 @@ public class CommandClassThermostatOperatingStateV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_OPERATING_STATE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Operating State Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatOperatingStateGet(ByteBuffer buffer) {
+        logger.debug("Creating command message THERMOSTAT_OPERATING_STATE_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_OPERATING_STATE_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_OPERATING_STATE_GET command.
      * <p>
@@ -234,6 +277,72 @@ public class CommandClassThermostatOperatingStateV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_OPERATING_STATE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Operating State Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param operatingState {@link String}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatOperatingStateReport(ByteBuffer buffer, String operatingState) {
+        logger.debug("Creating command message THERMOSTAT_OPERATING_STATE_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_OPERATING_STATE_REPORT);
+
+        // Process 'Properties1'
+        int valoperatingState;
+        switch (operatingState) {
+            case "IDLE":
+                valoperatingState = 0;
+                break;
+            case "HEATING":
+                valoperatingState = 1;
+                break;
+            case "COOLING":
+                valoperatingState = 2;
+                break;
+            case "FAN_ONLY":
+                valoperatingState = 3;
+                break;
+            case "PENDING_HEAT":
+                valoperatingState = 4;
+                break;
+            case "PENDING_COOL":
+                valoperatingState = 5;
+                break;
+            case "VENT_ECONOMIZER":
+                valoperatingState = 6;
+                break;
+            case "AUX_HEATING":
+                valoperatingState = 7;
+                break;
+            case "2ND_STAGE_HEATING":
+                valoperatingState = 8;
+                break;
+            case "2ND_STAGE_COOLING":
+                valoperatingState = 9;
+                break;
+            case "2ND_STAGE_AUX_HEAT":
+                valoperatingState = 10;
+                break;
+            case "3RD_STAGE_AUX_HEAT":
+                valoperatingState = 11;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for operatingState: " + operatingState);
+        }
+        buffer.put((byte) (valoperatingState & 0x0F));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_OPERATING_STATE_REPORT command.
      * <p>
@@ -349,6 +458,60 @@ public class CommandClassThermostatOperatingStateV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_OPERATING_LOGGING_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Operating State Logging Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param bitMask {@link List<String>}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>IDLE
+     *            <li>HEATING
+     *            <li>COOLING
+     *            <li>FAN_ONLY
+     *            <li>PENDING_HEAT
+     *            <li>PENDING_COOL
+     *            <li>VENT_ECONOMIZER
+     *            <li>AUX_HEATING
+     *            <li>2ND_STAGE_HEATING
+     *            <li>2ND_STAGE_COOLING
+     *            <li>2ND_STAGE_AUX_HEAT
+     *            <li>3RD_STAGE_AUX_HEAT
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatOperatingLoggingSupportedReport(ByteBuffer buffer, List<String> bitMask) {
+        logger.debug("Creating command message THERMOSTAT_OPERATING_LOGGING_SUPPORTED_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_OPERATING_LOGGING_SUPPORTED_REPORT);
+
+        // Process 'Bit Mask'
+        int valBitMask = 0;
+        for (String value : bitMask) {
+            boolean foundBitMask = false;
+            for (Integer entry : constantThermostatOperatingLoggingSupportedReportBitMask.keySet()) {
+                if (constantThermostatOperatingLoggingSupportedReportBitMask.get(entry).equals(value)) {
+                    foundBitMask = true;
+                    valBitMask += entry;
+                    break;
+                }
+            }
+            if (!foundBitMask) {
+                throw new IllegalArgumentException("Unknown constant value '" + bitMask + "' for bitMask");
+            }
+        }
+        buffer.put((byte) valBitMask);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_OPERATING_LOGGING_SUPPORTED_REPORT command.
      * <p>
@@ -432,6 +595,60 @@ public class CommandClassThermostatOperatingStateV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_OPERATING_STATE_LOGGING_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Operating State Logging Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param bitMask {@link List<String>}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>IDLE
+     *            <li>HEATING
+     *            <li>COOLING
+     *            <li>FAN_ONLY
+     *            <li>PENDING_HEAT
+     *            <li>PENDING_COOL
+     *            <li>VENT_ECONOMIZER
+     *            <li>AUX_HEATING
+     *            <li>2ND_STAGE_HEATING
+     *            <li>2ND_STAGE_COOLING
+     *            <li>2ND_STAGE_AUX_HEAT
+     *            <li>3RD_STAGE_AUX_HEAT
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatOperatingStateLoggingGet(ByteBuffer buffer, List<String> bitMask) {
+        logger.debug("Creating command message THERMOSTAT_OPERATING_STATE_LOGGING_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_OPERATING_STATE_LOGGING_GET);
+
+        // Process 'Bit Mask'
+        int valBitMask = 0;
+        for (String value : bitMask) {
+            boolean foundBitMask = false;
+            for (Integer entry : constantThermostatOperatingStateLoggingGetBitMask.keySet()) {
+                if (constantThermostatOperatingStateLoggingGetBitMask.get(entry).equals(value)) {
+                    foundBitMask = true;
+                    valBitMask += entry;
+                    break;
+                }
+            }
+            if (!foundBitMask) {
+                throw new IllegalArgumentException("Unknown constant value '" + bitMask + "' for bitMask");
+            }
+        }
+        buffer.put((byte) valBitMask);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_OPERATING_STATE_LOGGING_GET command.
      * <p>
@@ -488,6 +705,33 @@ public class CommandClassThermostatOperatingStateV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_OPERATING_STATE_LOGGING_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Operating State Logging Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param reportsToFollow {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatOperatingStateLoggingReport(ByteBuffer buffer, Integer reportsToFollow) {
+        logger.debug("Creating command message THERMOSTAT_OPERATING_STATE_LOGGING_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_OPERATING_STATE_LOGGING_REPORT);
+
+        // Process 'Reports to Follow'
+        buffer.put(reportsToFollow.byteValue());
+
+        // Process 'vg1'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_OPERATING_STATE_LOGGING_REPORT command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -127,6 +128,65 @@ public class CommandClassThermostatSetbackV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_SETBACK_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Setback Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param setbackType {@link String}
+     * @param setbackState {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>UNUSED_STATE
+     *            <li>ENERGY_SAVING_MODE
+     *            <li>FROST_PROTECTION
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatSetbackSet(ByteBuffer buffer, String setbackType, String setbackState) {
+        logger.debug("Creating command message THERMOSTAT_SETBACK_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_SETBACK_SET);
+
+        // Process 'Properties1'
+        int valsetbackType;
+        switch (setbackType) {
+            case "NO_OVERRIDE":
+                valsetbackType = 0;
+                break;
+            case "TEMPORARY_OVERRIDE":
+                valsetbackType = 1;
+                break;
+            case "PERMANENT_OVERRIDE":
+                valsetbackType = 2;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for setbackType: " + setbackType);
+        }
+        buffer.put((byte) (valsetbackType & 0x03));
+
+        // Process 'Setback State'
+        boolean foundSetbackState = false;
+        for (Integer entry : constantThermostatSetbackSetSetbackState.keySet()) {
+            if (constantThermostatSetbackSetSetbackState.get(entry).equals(setbackState)) {
+                buffer.put(entry.byteValue());
+                foundSetbackState = true;
+                break;
+            }
+        }
+        if (!foundSetbackState) {
+            throw new IllegalArgumentException("Unknown constant value '" + setbackState + "' for setbackState");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_SETBACK_SET command.
      * <p>
@@ -186,6 +246,27 @@ public class CommandClassThermostatSetbackV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_SETBACK_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Setback Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatSetbackGet(ByteBuffer buffer) {
+        logger.debug("Creating command message THERMOSTAT_SETBACK_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_SETBACK_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_SETBACK_GET command.
      * <p>
@@ -258,6 +339,65 @@ public class CommandClassThermostatSetbackV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_SETBACK_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Setback Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param setbackType {@link String}
+     * @param setbackState {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>UNUSED_STATE
+     *            <li>ENERGY_SAVING_MODE
+     *            <li>FROST_PROTECTION
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatSetbackReport(ByteBuffer buffer, String setbackType, String setbackState) {
+        logger.debug("Creating command message THERMOSTAT_SETBACK_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_SETBACK_REPORT);
+
+        // Process 'Properties1'
+        int valsetbackType;
+        switch (setbackType) {
+            case "NO_OVERRIDE":
+                valsetbackType = 0;
+                break;
+            case "TEMPORARY_OVERRIDE":
+                valsetbackType = 1;
+                break;
+            case "PERMANENT_OVERRIDE":
+                valsetbackType = 2;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for setbackType: " + setbackType);
+        }
+        buffer.put((byte) (valsetbackType & 0x03));
+
+        // Process 'Setback State'
+        boolean foundSetbackState = false;
+        for (Integer entry : constantThermostatSetbackReportSetbackState.keySet()) {
+            if (constantThermostatSetbackReportSetbackState.get(entry).equals(setbackState)) {
+                buffer.put(entry.byteValue());
+                foundSetbackState = true;
+                break;
+            }
+        }
+        if (!foundSetbackState) {
+            throw new IllegalArgumentException("Unknown constant value '" + setbackState + "' for setbackState");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_SETBACK_REPORT command.
      * <p>
@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -184,6 +185,102 @@ public class CommandClassThermostatSetpointV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_SETPOINT_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Setpoint Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param setpointType {@link String}
+     * @param scale {@link Integer}
+     * @param precision {@link Integer}
+     * @param value {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatSetpointSet(ByteBuffer buffer, String setpointType, Integer scale, Integer precision,
+            byte[] value) {
+        logger.debug("Creating command message THERMOSTAT_SETPOINT_SET version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_SETPOINT_SET);
+
+        // Process 'Level'
+        int valsetpointType;
+        switch (setpointType) {
+            case "NOT_SUPPORTED":
+                valsetpointType = 0;
+                break;
+            case "HEATING_1":
+                valsetpointType = 1;
+                break;
+            case "COOLING_1":
+                valsetpointType = 2;
+                break;
+            case "NOT_SUPPORTED1":
+                valsetpointType = 3;
+                break;
+            case "NOT_SUPPORTED2":
+                valsetpointType = 4;
+                break;
+            case "NOT_SUPPORTED3":
+                valsetpointType = 5;
+                break;
+            case "NOT_SUPPORTED4":
+                valsetpointType = 6;
+                break;
+            case "FURNACE":
+                valsetpointType = 7;
+                break;
+            case "DRY_AIR":
+                valsetpointType = 8;
+                break;
+            case "MOIST_AIR":
+                valsetpointType = 9;
+                break;
+            case "AUTO_CHANGEOVER":
+                valsetpointType = 10;
+                break;
+            case "ENERGY_SAVE_HEATING":
+                valsetpointType = 11;
+                break;
+            case "ENERGY_SAVE_COOLING":
+                valsetpointType = 12;
+                break;
+            case "AWAY_HEATING":
+                valsetpointType = 13;
+                break;
+            case "AWAY_COOLING":
+                valsetpointType = 14;
+                break;
+            case "FULL_POWER":
+                valsetpointType = 15;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for setpointType: " + setpointType);
+        }
+        buffer.put((byte) (valsetpointType & 0x0F));
+
+        // Process 'Level2'
+        // Size is used by 'Value'
+        int size = value.length;
+        int valLevel2 = 0;
+        valLevel2 |= size & 0x07;
+        valLevel2 |= ((scale << 3) & 0x18);
+        valLevel2 |= ((precision << 5) & 0xE0);
+        buffer.put((byte) valLevel2);
+
+        // Process 'Value'
+        if (value != null) {
+            buffer.put(value);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_SETPOINT_SET command.
      * <p>
@@ -357,6 +454,84 @@ public class CommandClassThermostatSetpointV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_SETPOINT_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Setpoint Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param setpointType {@link String}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatSetpointGet(ByteBuffer buffer, String setpointType) {
+        logger.debug("Creating command message THERMOSTAT_SETPOINT_GET version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_SETPOINT_GET);
+
+        // Process 'Level'
+        int valsetpointType;
+        switch (setpointType) {
+            case "NOT_SUPPORTED":
+                valsetpointType = 0;
+                break;
+            case "HEATING_1":
+                valsetpointType = 1;
+                break;
+            case "COOLING_1":
+                valsetpointType = 2;
+                break;
+            case "NOT_SUPPORTED1":
+                valsetpointType = 3;
+                break;
+            case "NOT_SUPPORTED2":
+                valsetpointType = 4;
+                break;
+            case "NOT_SUPPORTED3":
+                valsetpointType = 5;
+                break;
+            case "NOT_SUPPORTED4":
+                valsetpointType = 6;
+                break;
+            case "FURNACE":
+                valsetpointType = 7;
+                break;
+            case "DRY_AIR":
+                valsetpointType = 8;
+                break;
+            case "MOIST_AIR":
+                valsetpointType = 9;
+                break;
+            case "AUTO_CHANGEOVER":
+                valsetpointType = 10;
+                break;
+            case "ENERGY_SAVE_HEATING":
+                valsetpointType = 11;
+                break;
+            case "ENERGY_SAVE_COOLING":
+                valsetpointType = 12;
+                break;
+            case "AWAY_HEATING":
+                valsetpointType = 13;
+                break;
+            case "AWAY_COOLING":
+                valsetpointType = 14;
+                break;
+            case "FULL_POWER":
+                valsetpointType = 15;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for setpointType: " + setpointType);
+        }
+        buffer.put((byte) (valsetpointType & 0x0F));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_SETPOINT_GET command.
      * <p>
@@ -528,6 +703,102 @@ public class CommandClassThermostatSetpointV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_SETPOINT_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Setpoint Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param setpointType {@link String}
+     * @param scale {@link Integer}
+     * @param precision {@link Integer}
+     * @param value {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatSetpointReport(ByteBuffer buffer, String setpointType, Integer scale,
+            Integer precision, byte[] value) {
+        logger.debug("Creating command message THERMOSTAT_SETPOINT_REPORT version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_SETPOINT_REPORT);
+
+        // Process 'Level'
+        int valsetpointType;
+        switch (setpointType) {
+            case "NOT_SUPPORTED":
+                valsetpointType = 0;
+                break;
+            case "HEATING_1":
+                valsetpointType = 1;
+                break;
+            case "COOLING_1":
+                valsetpointType = 2;
+                break;
+            case "NOT_SUPPORTED1":
+                valsetpointType = 3;
+                break;
+            case "NOT_SUPPORTED2":
+                valsetpointType = 4;
+                break;
+            case "NOT_SUPPORTED3":
+                valsetpointType = 5;
+                break;
+            case "NOT_SUPPORTED4":
+                valsetpointType = 6;
+                break;
+            case "FURNACE":
+                valsetpointType = 7;
+                break;
+            case "DRY_AIR":
+                valsetpointType = 8;
+                break;
+            case "MOIST_AIR":
+                valsetpointType = 9;
+                break;
+            case "AUTO_CHANGEOVER":
+                valsetpointType = 10;
+                break;
+            case "ENERGY_SAVE_HEATING":
+                valsetpointType = 11;
+                break;
+            case "ENERGY_SAVE_COOLING":
+                valsetpointType = 12;
+                break;
+            case "AWAY_HEATING":
+                valsetpointType = 13;
+                break;
+            case "AWAY_COOLING":
+                valsetpointType = 14;
+                break;
+            case "FULL_POWER":
+                valsetpointType = 15;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for setpointType: " + setpointType);
+        }
+        buffer.put((byte) (valsetpointType & 0x0F));
+
+        // Process 'Level2'
+        // Size is used by 'Value'
+        int size = value.length;
+        int valLevel2 = 0;
+        valLevel2 |= size & 0x07;
+        valLevel2 |= ((scale << 3) & 0x18);
+        valLevel2 |= ((precision << 5) & 0xE0);
+        buffer.put((byte) valLevel2);
+
+        // Process 'Value'
+        if (value != null) {
+            buffer.put(value);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_SETPOINT_REPORT command.
      * <p>
@@ -644,6 +915,27 @@ public class CommandClassThermostatSetpointV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_SETPOINT_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Setpoint Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatSetpointSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message THERMOSTAT_SETPOINT_SUPPORTED_GET version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_SETPOINT_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_SETPOINT_SUPPORTED_GET command.
      * <p>
@@ -711,6 +1003,60 @@ public class CommandClassThermostatSetpointV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_SETPOINT_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Setpoint Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param bitMask {@link List<String>}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NONE
+     *            <li>HEATING
+     *            <li>COOLING
+     *            <li>FURNACE
+     *            <li>DRY_AIR
+     *            <li>MOIST_AIR
+     *            <li>AUTO_CHANGEOVER
+     *            <li>ENERGY_SAVE_HEATING
+     *            <li>ENERGY_SAVE_COOLING
+     *            <li>AWAY_HEATING
+     *            <li>AWAY_COOLING
+     *            <li>FULL_POWER
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatSetpointSupportedReport(ByteBuffer buffer, List<String> bitMask) {
+        logger.debug("Creating command message THERMOSTAT_SETPOINT_SUPPORTED_REPORT version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_SETPOINT_SUPPORTED_REPORT);
+
+        // Process 'Bit Mask'
+        int valBitMask = 0;
+        for (String value : bitMask) {
+            boolean foundBitMask = false;
+            for (Integer entry : constantThermostatSetpointSupportedReportBitMask.keySet()) {
+                if (constantThermostatSetpointSupportedReportBitMask.get(entry).equals(value)) {
+                    foundBitMask = true;
+                    valBitMask += entry;
+                    break;
+                }
+            }
+            if (!foundBitMask) {
+                throw new IllegalArgumentException("Unknown constant value '" + bitMask + "' for bitMask");
+            }
+        }
+        buffer.put((byte) valBitMask);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_SETPOINT_SUPPORTED_REPORT command.
      * <p>
@@ -818,6 +1164,84 @@ public class CommandClassThermostatSetpointV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_SETPOINT_CAPABILITIES_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Setpoint Capabilities Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param setpointType {@link String}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatSetpointCapabilitiesGet(ByteBuffer buffer, String setpointType) {
+        logger.debug("Creating command message THERMOSTAT_SETPOINT_CAPABILITIES_GET version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_SETPOINT_CAPABILITIES_GET);
+
+        // Process 'Properties1'
+        int valsetpointType;
+        switch (setpointType) {
+            case "NOT_SUPPORTED":
+                valsetpointType = 0;
+                break;
+            case "HEATING_1":
+                valsetpointType = 1;
+                break;
+            case "COOLING_1":
+                valsetpointType = 2;
+                break;
+            case "NOT_SUPPORTED1":
+                valsetpointType = 3;
+                break;
+            case "NOT_SUPPORTED2":
+                valsetpointType = 4;
+                break;
+            case "NOT_SUPPORTED3":
+                valsetpointType = 5;
+                break;
+            case "NOT_SUPPORTED4":
+                valsetpointType = 6;
+                break;
+            case "FURNACE":
+                valsetpointType = 7;
+                break;
+            case "DRY_AIR":
+                valsetpointType = 8;
+                break;
+            case "MOIST_AIR":
+                valsetpointType = 9;
+                break;
+            case "AUTO_CHANGEOVER":
+                valsetpointType = 10;
+                break;
+            case "ENERGY_SAVE_HEATING":
+                valsetpointType = 11;
+                break;
+            case "ENERGY_SAVE_COOLING":
+                valsetpointType = 12;
+                break;
+            case "AWAY_HEATING":
+                valsetpointType = 13;
+                break;
+            case "AWAY_COOLING":
+                valsetpointType = 14;
+                break;
+            case "FULL_POWER":
+                valsetpointType = 15;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for setpointType: " + setpointType);
+        }
+        buffer.put((byte) (valsetpointType & 0x0F));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_SETPOINT_CAPABILITIES_GET command.
      * <p>
@@ -1010,6 +1434,119 @@ public class CommandClassThermostatSetpointV3 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the THERMOSTAT_SETPOINT_CAPABILITIES_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Thermostat Setpoint Capabilities Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param setpointType {@link String}
+     * @param scale1 {@link Integer}
+     * @param precision1 {@link Integer}
+     * @param minValue {@link byte[]}
+     * @param scale2 {@link Integer}
+     * @param precision2 {@link Integer}
+     * @param maxvalue {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getThermostatSetpointCapabilitiesReport(ByteBuffer buffer, String setpointType, Integer scale1,
+            Integer precision1, byte[] minValue, Integer scale2, Integer precision2, byte[] maxvalue) {
+        logger.debug("Creating command message THERMOSTAT_SETPOINT_CAPABILITIES_REPORT version 3");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) THERMOSTAT_SETPOINT_CAPABILITIES_REPORT);
+
+        // Process 'Properties1'
+        int valsetpointType;
+        switch (setpointType) {
+            case "NOT_SUPPORTED":
+                valsetpointType = 0;
+                break;
+            case "HEATING_1":
+                valsetpointType = 1;
+                break;
+            case "COOLING_1":
+                valsetpointType = 2;
+                break;
+            case "NOT_SUPPORTED1":
+                valsetpointType = 3;
+                break;
+            case "NOT_SUPPORTED2":
+                valsetpointType = 4;
+                break;
+            case "NOT_SUPPORTED3":
+                valsetpointType = 5;
+                break;
+            case "NOT_SUPPORTED4":
+                valsetpointType = 6;
+                break;
+            case "FURNACE":
+                valsetpointType = 7;
+                break;
+            case "DRY_AIR":
+                valsetpointType = 8;
+                break;
+            case "MOIST_AIR":
+                valsetpointType = 9;
+                break;
+            case "AUTO_CHANGEOVER":
+                valsetpointType = 10;
+                break;
+            case "ENERGY_SAVE_HEATING":
+                valsetpointType = 11;
+                break;
+            case "ENERGY_SAVE_COOLING":
+                valsetpointType = 12;
+                break;
+            case "AWAY_HEATING":
+                valsetpointType = 13;
+                break;
+            case "AWAY_COOLING":
+                valsetpointType = 14;
+                break;
+            case "FULL_POWER":
+                valsetpointType = 15;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for setpointType: " + setpointType);
+        }
+        buffer.put((byte) (valsetpointType & 0x0F));
+
+        // Process 'Properties2'
+        // Size1 is used by 'Min Value'
+        int size1 = minValue.length;
+        int valProperties2 = 0;
+        valProperties2 |= size1 & 0x07;
+        valProperties2 |= ((scale1 << 3) & 0x18);
+        valProperties2 |= ((precision1 << 5) & 0xE0);
+        buffer.put((byte) valProperties2);
+
+        // Process 'Min Value'
+        if (minValue != null) {
+            buffer.put(minValue);
+        }
+
+        // Process 'Properties3'
+        // Size2 is used by 'MaxValue'
+        int size2 = maxvalue.length;
+        int valProperties3 = 0;
+        valProperties3 |= size2 & 0x07;
+        valProperties3 |= ((scale2 << 3) & 0x18);
+        valProperties3 |= ((precision2 << 5) & 0xE0);
+        buffer.put((byte) valProperties3);
+
+        // Process 'MaxValue'
+        if (maxvalue != null) {
+            buffer.put(maxvalue);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the THERMOSTAT_SETPOINT_CAPABILITIES_REPORT command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -93,6 +94,53 @@ public class CommandClassTimeParametersV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the TIME_PARAMETERS_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Time Parameters Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param year {@link Integer}
+     * @param month {@link Integer}
+     * @param day {@link Integer}
+     * @param hourUtc {@link Integer}
+     * @param minuteUtc {@link Integer}
+     * @param secondUtc {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getTimeParametersSet(ByteBuffer buffer, Integer year, Integer month, Integer day, Integer hourUtc,
+            Integer minuteUtc, Integer secondUtc) {
+        logger.debug("Creating command message TIME_PARAMETERS_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) TIME_PARAMETERS_SET);
+
+        // Process 'Year'
+        buffer.put((byte) ((year >> 8) & 0xff));
+        buffer.put((byte) (year & 0xff));
+
+        // Process 'Month'
+        buffer.put(month.byteValue());
+
+        // Process 'Day'
+        buffer.put(day.byteValue());
+
+        // Process 'Hour UTC'
+        buffer.put(hourUtc.byteValue());
+
+        // Process 'Minute UTC'
+        buffer.put(minuteUtc.byteValue());
+
+        // Process 'Second UTC'
+        buffer.put(secondUtc.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the TIME_PARAMETERS_SET command.
      * <p>
@@ -156,6 +204,27 @@ public class CommandClassTimeParametersV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the TIME_PARAMETERS_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Time Parameters Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getTimeParametersGet(ByteBuffer buffer) {
+        logger.debug("Creating command message TIME_PARAMETERS_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) TIME_PARAMETERS_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the TIME_PARAMETERS_GET command.
      * <p>
@@ -216,6 +285,53 @@ public class CommandClassTimeParametersV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the TIME_PARAMETERS_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Time Parameters Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param year {@link Integer}
+     * @param month {@link Integer}
+     * @param day {@link Integer}
+     * @param hourUtc {@link Integer}
+     * @param minuteUtc {@link Integer}
+     * @param secondUtc {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getTimeParametersReport(ByteBuffer buffer, Integer year, Integer month, Integer day,
+            Integer hourUtc, Integer minuteUtc, Integer secondUtc) {
+        logger.debug("Creating command message TIME_PARAMETERS_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) TIME_PARAMETERS_REPORT);
+
+        // Process 'Year'
+        buffer.put((byte) ((year >> 8) & 0xff));
+        buffer.put((byte) (year & 0xff));
+
+        // Process 'Month'
+        buffer.put(month.byteValue());
+
+        // Process 'Day'
+        buffer.put(day.byteValue());
+
+        // Process 'Hour UTC'
+        buffer.put(hourUtc.byteValue());
+
+        // Process 'Minute UTC'
+        buffer.put(minuteUtc.byteValue());
+
+        // Process 'Second UTC'
+        buffer.put(secondUtc.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the TIME_PARAMETERS_REPORT command.
      * <p>
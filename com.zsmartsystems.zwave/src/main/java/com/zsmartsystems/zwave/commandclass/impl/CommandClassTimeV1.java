@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -81,6 +82,27 @@ public class CommandClassTimeV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the TIME_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Time Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getTimeGet(ByteBuffer buffer) {
+        logger.debug("Creating command message TIME_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) TIME_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the TIME_GET command.
      * <p>
@@ -136,6 +158,48 @@ public class CommandClassTimeV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the TIME_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Time Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param hourLocalTime {@link Integer}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>RTC_FAILURE
+     *            </ul>
+     * @param rtcFailure {@link Boolean}
+     * @param minuteLocalTime {@link Integer}
+     * @param secondLocalTime {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getTimeReport(ByteBuffer buffer, Integer hourLocalTime, Boolean rtcFailure,
+            Integer minuteLocalTime, Integer secondLocalTime) {
+        logger.debug("Creating command message TIME_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) TIME_REPORT);
+
+        // Process 'Hour Local Time'
+        int valHourLocalTime = 0;
+        valHourLocalTime |= hourLocalTime & 0x1F;
+        valHourLocalTime |= rtcFailure ? 0x80 : 0;
+        buffer.put((byte) valHourLocalTime);
+
+        // Process 'Minute Local Time'
+        buffer.put(minuteLocalTime.byteValue());
+
+        // Process 'Second Local Time'
+        buffer.put(secondLocalTime.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the TIME_REPORT command.
      * <p>
@@ -189,6 +253,27 @@ public class CommandClassTimeV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DATE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Date Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDateGet(ByteBuffer buffer) {
+        logger.debug("Creating command message DATE_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DATE_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DATE_GET command.
      * <p>
@@ -236,6 +321,40 @@ public class CommandClassTimeV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DATE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Date Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param year {@link Integer}
+     * @param month {@link Integer}
+     * @param day {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDateReport(ByteBuffer buffer, Integer year, Integer month, Integer day) {
+        logger.debug("Creating command message DATE_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DATE_REPORT);
+
+        // Process 'Year'
+        buffer.put((byte) ((year >> 8) & 0xff));
+        buffer.put((byte) (year & 0xff));
+
+        // Process 'Month'
+        buffer.put(month.byteValue());
+
+        // Process 'Day'
+        buffer.put(day.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DATE_REPORT command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -125,6 +126,27 @@ public class CommandClassTimeV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the TIME_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Time Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getTimeGet(ByteBuffer buffer) {
+        logger.debug("Creating command message TIME_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) TIME_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the TIME_GET command.
      * <p>
@@ -180,6 +202,48 @@ public class CommandClassTimeV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the TIME_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Time Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param hourLocalTime {@link Integer}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>RTC_FAILURE
+     *            </ul>
+     * @param rtcFailure {@link Boolean}
+     * @param minuteLocalTime {@link Integer}
+     * @param secondLocalTime {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getTimeReport(ByteBuffer buffer, Integer hourLocalTime, Boolean rtcFailure,
+            Integer minuteLocalTime, Integer secondLocalTime) {
+        logger.debug("Creating command message TIME_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) TIME_REPORT);
+
+        // Process 'Hour Local Time'
+        int valHourLocalTime = 0;
+        valHourLocalTime |= hourLocalTime & 0x1F;
+        valHourLocalTime |= rtcFailure ? 0x80 : 0;
+        buffer.put((byte) valHourLocalTime);
+
+        // Process 'Minute Local Time'
+        buffer.put(minuteLocalTime.byteValue());
+
+        // Process 'Second Local Time'
+        buffer.put(secondLocalTime.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the TIME_REPORT command.
      * <p>
@@ -233,6 +297,27 @@ public class CommandClassTimeV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DATE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Date Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDateGet(ByteBuffer buffer) {
+        logger.debug("Creating command message DATE_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DATE_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DATE_GET command.
      * <p>
@@ -280,6 +365,40 @@ public class CommandClassTimeV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the DATE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Date Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param year {@link Integer}
+     * @param month {@link Integer}
+     * @param day {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getDateReport(ByteBuffer buffer, Integer year, Integer month, Integer day) {
+        logger.debug("Creating command message DATE_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) DATE_REPORT);
+
+        // Process 'Year'
+        buffer.put((byte) ((year >> 8) & 0xff));
+        buffer.put((byte) (year & 0xff));
+
+        // Process 'Month'
+        buffer.put(month.byteValue());
+
+        // Process 'Day'
+        buffer.put(day.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the DATE_REPORT command.
      * <p>
@@ -377,6 +496,73 @@ public class CommandClassTimeV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the TIME_OFFSET_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Time Offset Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param hourTzo {@link Integer}
+     * @param signTzo {@link Boolean}
+     * @param minuteTzo {@link Integer}
+     * @param minuteOffsetDst {@link Integer}
+     * @param signOffsetDst {@link Boolean}
+     * @param monthStartDst {@link Integer}
+     * @param dayStartDst {@link Integer}
+     * @param hourStartDst {@link Integer}
+     * @param monthEndDst {@link Integer}
+     * @param dayEndDst {@link Integer}
+     * @param hourEndDst {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getTimeOffsetSet(ByteBuffer buffer, Integer hourTzo, Boolean signTzo, Integer minuteTzo,
+            Integer minuteOffsetDst, Boolean signOffsetDst, Integer monthStartDst, Integer dayStartDst,
+            Integer hourStartDst, Integer monthEndDst, Integer dayEndDst, Integer hourEndDst) {
+        logger.debug("Creating command message TIME_OFFSET_SET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) TIME_OFFSET_SET);
+
+        // Process 'Level'
+        int valLevel = 0;
+        valLevel |= hourTzo & 0x7F;
+        valLevel |= signTzo ? 0x80 : 0;
+        buffer.put((byte) valLevel);
+
+        // Process 'Minute TZO'
+        buffer.put(minuteTzo.byteValue());
+
+        // Process 'Level2'
+        int valLevel2 = 0;
+        valLevel2 |= minuteOffsetDst & 0x7F;
+        valLevel2 |= signOffsetDst ? 0x80 : 0;
+        buffer.put((byte) valLevel2);
+
+        // Process 'Month Start DST'
+        buffer.put(monthStartDst.byteValue());
+
+        // Process 'Day Start DST'
+        buffer.put(dayStartDst.byteValue());
+
+        // Process 'Hour Start DST'
+        buffer.put(hourStartDst.byteValue());
+
+        // Process 'Month End DST'
+        buffer.put(monthEndDst.byteValue());
+
+        // Process 'Day End DST'
+        buffer.put(dayEndDst.byteValue());
+
+        // Process 'Hour End DST'
+        buffer.put(hourEndDst.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the TIME_OFFSET_SET command.
      * <p>
@@ -456,6 +642,27 @@ public class CommandClassTimeV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the TIME_OFFSET_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Time Offset Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getTimeOffsetGet(ByteBuffer buffer) {
+        logger.debug("Creating command message TIME_OFFSET_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) TIME_OFFSET_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the TIME_OFFSET_GET command.
      * <p>
@@ -536,6 +743,73 @@ public class CommandClassTimeV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the TIME_OFFSET_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Time Offset Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param hourTzo {@link Integer}
+     * @param signTzo {@link Boolean}
+     * @param minuteTzo {@link Integer}
+     * @param minuteOffsetDst {@link Integer}
+     * @param signOffsetDst {@link Boolean}
+     * @param monthStartDst {@link Integer}
+     * @param dayStartDst {@link Integer}
+     * @param hourStartDst {@link Integer}
+     * @param monthEndDst {@link Integer}
+     * @param dayEndDst {@link Integer}
+     * @param hourEndDst {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getTimeOffsetReport(ByteBuffer buffer, Integer hourTzo, Boolean signTzo, Integer minuteTzo,
+            Integer minuteOffsetDst, Boolean signOffsetDst, Integer monthStartDst, Integer dayStartDst,
+            Integer hourStartDst, Integer monthEndDst, Integer dayEndDst, Integer hourEndDst) {
+        logger.debug("Creating command message TIME_OFFSET_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) TIME_OFFSET_REPORT);
+
+        // Process 'Level'
+        int valLevel = 0;
+        valLevel |= hourTzo & 0x7F;
+        valLevel |= signTzo ? 0x80 : 0;
+        buffer.put((byte) valLevel);
+
+        // Process 'Minute TZO'
+        buffer.put(minuteTzo.byteValue());
+
+        // Process 'Level2'
+        int valLevel2 = 0;
+        valLevel2 |= minuteOffsetDst & 0x7F;
+        valLevel2 |= signOffsetDst ? 0x80 : 0;
+        buffer.put((byte) valLevel2);
+
+        // Process 'Month Start DST'
+        buffer.put(monthStartDst.byteValue());
+
+        // Process 'Day Start DST'
+        buffer.put(dayStartDst.byteValue());
+
+        // Process 'Hour Start DST'
+        buffer.put(hourStartDst.byteValue());
+
+        // Process 'Month End DST'
+        buffer.put(monthEndDst.byteValue());
+
+        // Process 'Day End DST'
+        buffer.put(dayEndDst.byteValue());
+
+        // Process 'Hour End DST'
+        buffer.put(hourEndDst.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the TIME_OFFSET_REPORT command.
      * <p>
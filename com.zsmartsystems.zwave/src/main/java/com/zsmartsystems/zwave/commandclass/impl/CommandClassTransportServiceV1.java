@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -100,6 +101,51 @@ public class CommandClassTransportServiceV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the COMMAND_FIRST_FRAGMENT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * First Fragment
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param datagramSize1 {@link Integer}
+     * @param datagramSize2 {@link Integer}
+     * @param sequenceNo {@link Integer}
+     * @param payload {@link byte[]}
+     * @param checksum {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCommandFirstFragment(ByteBuffer buffer, Integer datagramSize1, Integer datagramSize2,
+            Integer sequenceNo, byte[] payload, Integer checksum) {
+        logger.debug("Creating command message COMMAND_FIRST_FRAGMENT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) COMMAND_FIRST_FRAGMENT);
+
+        // Process 'Properties1'
+        buffer.put((byte) (datagramSize1 & 0x07));
+
+        // Process 'datagram_size_2'
+        buffer.put(datagramSize2.byteValue());
+
+        // Process 'Properties2'
+        buffer.put((byte) (sequenceNo & 0x0F));
+
+        // Process 'Payload'
+        if (payload != null) {
+            buffer.put(payload);
+        }
+
+        // Process 'Checksum'
+        buffer.put((byte) ((checksum >> 8) & 0xff));
+        buffer.put((byte) (checksum & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the COMMAND_FIRST_FRAGMENT command.
      * <p>
@@ -206,6 +252,59 @@ public class CommandClassTransportServiceV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the COMMAND_SUBSEQUENT_FRAGMENT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Subsequent Fragment
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param datagramSize1 {@link Integer}
+     * @param datagramSize2 {@link Integer}
+     * @param datagramOffset1 {@link Integer}
+     * @param sequenceNo {@link Integer}
+     * @param datagramOffset2 {@link Integer}
+     * @param payload {@link byte[]}
+     * @param checksum {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCommandSubsequentFragment(ByteBuffer buffer, Integer datagramSize1, Integer datagramSize2,
+            Integer datagramOffset1, Integer sequenceNo, Integer datagramOffset2, byte[] payload, Integer checksum) {
+        logger.debug("Creating command message COMMAND_SUBSEQUENT_FRAGMENT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) COMMAND_SUBSEQUENT_FRAGMENT);
+
+        // Process 'Properties1'
+        buffer.put((byte) (datagramSize1 & 0x07));
+
+        // Process 'datagram_size_2'
+        buffer.put(datagramSize2.byteValue());
+
+        // Process 'Properties2'
+        int valProperties2 = 0;
+        valProperties2 |= datagramOffset1 & 0x07;
+        valProperties2 |= ((sequenceNo << 3) & 0x78);
+        buffer.put((byte) valProperties2);
+
+        // Process 'datagram_offset_2'
+        buffer.put(datagramOffset2.byteValue());
+
+        // Process 'Payload'
+        if (payload != null) {
+            buffer.put(payload);
+        }
+
+        // Process 'Checksum'
+        buffer.put((byte) ((checksum >> 8) & 0xff));
+        buffer.put((byte) (checksum & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the COMMAND_SUBSEQUENT_FRAGMENT command.
      * <p>
@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -146,6 +147,66 @@ public class CommandClassTransportServiceV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the COMMAND_FIRST_SEGMENT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * First Segment
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param datagramSize1 {@link Integer}
+     * @param datagramSize2 {@link Integer}
+     * @param ext {@link Boolean}
+     * @param sessionId {@link Integer}
+     * @param headerExtensionLength {@link Integer}
+     * @param headerExtension {@link byte[]}
+     * @param payload {@link byte[]}
+     * @param frameCheckSequence {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCommandFirstSegment(ByteBuffer buffer, Integer datagramSize1, Integer datagramSize2,
+            Boolean ext, Integer sessionId, Integer headerExtensionLength, byte[] headerExtension, byte[] payload,
+            Integer frameCheckSequence) {
+        logger.debug("Creating command message COMMAND_FIRST_SEGMENT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) COMMAND_FIRST_SEGMENT);
+
+        // Process 'Properties1'
+        buffer.put((byte) (datagramSize1 & 0x07));
+
+        // Process 'datagram_size_2'
+        buffer.put(datagramSize2.byteValue());
+
+        // Process 'Properties2'
+        int valProperties2 = 0;
+        valProperties2 |= ext ? 0x08 : 0;
+        valProperties2 |= ((sessionId << 4) & 0xF0);
+        buffer.put((byte) valProperties2);
+
+        // Process 'Header Extension Length'
+        buffer.put(headerExtensionLength.byteValue());
+
+        // Process 'Header Extension'
+        if (headerExtension != null) {
+            buffer.put(headerExtension);
+        }
+
+        // Process 'Payload'
+        if (payload != null) {
+            buffer.put(payload);
+        }
+
+        // Process 'Frame Check Sequence'
+        buffer.put((byte) ((frameCheckSequence >> 8) & 0xff));
+        buffer.put((byte) (frameCheckSequence & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the COMMAND_FIRST_SEGMENT command.
      * <p>
@@ -252,6 +313,42 @@ public class CommandClassTransportServiceV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the COMMAND_SEGMENT_REQUEST command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Segment Request
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param datagramOffset1 {@link Integer}
+     * @param sessionId {@link Integer}
+     * @param datagramOffset2 {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCommandSegmentRequest(ByteBuffer buffer, Integer datagramOffset1, Integer sessionId,
+            Integer datagramOffset2) {
+        logger.debug("Creating command message COMMAND_SEGMENT_REQUEST version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) COMMAND_SEGMENT_REQUEST);
+
+        // Process 'Properties1'
+
+        // Process 'Properties2'
+        int valProperties2 = 0;
+        valProperties2 |= datagramOffset1 & 0x07;
+        valProperties2 |= ((sessionId << 4) & 0xF0);
+        buffer.put((byte) valProperties2);
+
+        // Process 'datagram_offset_2'
+        buffer.put(datagramOffset2.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the COMMAND_SEGMENT_REQUEST command.
      * <p>
@@ -354,6 +451,72 @@ public class CommandClassTransportServiceV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the COMMAND_SUBSEQUENT_SEGMENT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Subsequent Segment
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param datagramSize1 {@link Integer}
+     * @param datagramSize2 {@link Integer}
+     * @param datagramOffset1 {@link Integer}
+     * @param ext {@link Boolean}
+     * @param sessionId {@link Integer}
+     * @param datagramOffset2 {@link Integer}
+     * @param headerExtensionLength {@link Integer}
+     * @param headerExtension {@link byte[]}
+     * @param payload {@link byte[]}
+     * @param frameCheckSequence {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCommandSubsequentSegment(ByteBuffer buffer, Integer datagramSize1, Integer datagramSize2,
+            Integer datagramOffset1, Boolean ext, Integer sessionId, Integer datagramOffset2,
+            Integer headerExtensionLength, byte[] headerExtension, byte[] payload, Integer frameCheckSequence) {
+        logger.debug("Creating command message COMMAND_SUBSEQUENT_SEGMENT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) COMMAND_SUBSEQUENT_SEGMENT);
+
+        // Process 'Properties1'
+        buffer.put((byte) (datagramSize1 & 0x07));
+
+        // Process 'datagram_size_2'
+        buffer.put(datagramSize2.byteValue());
+
+        // Process 'Properties2'
+        int valProperties2 = 0;
+        valProperties2 |= datagramOffset1 & 0x07;
+        valProperties2 |= ext ? 0x08 : 0;
+        valProperties2 |= ((sessionId << 4) & 0xF0);
+        buffer.put((byte) valProperties2);
+
+        // Process 'datagram_offset_2'
+        buffer.put(datagramOffset2.byteValue());
+
+        // Process 'Header Extension Length'
+        buffer.put(headerExtensionLength.byteValue());
+
+        // Process 'Header Extension'
+        if (headerExtension != null) {
+            buffer.put(headerExtension);
+        }
+
+        // Process 'Payload'
+        if (payload != null) {
+            buffer.put(payload);
+        }
+
+        // Process 'Frame Check Sequence'
+        buffer.put((byte) ((frameCheckSequence >> 8) & 0xff));
+        buffer.put((byte) (frameCheckSequence & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the COMMAND_SUBSEQUENT_SEGMENT command.
      * <p>
@@ -459,6 +622,33 @@ public class CommandClassTransportServiceV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the COMMAND_SEGMENT_COMPLETE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Segment Complete
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param sessionId {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCommandSegmentComplete(ByteBuffer buffer, Integer sessionId) {
+        logger.debug("Creating command message COMMAND_SEGMENT_COMPLETE version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) COMMAND_SEGMENT_COMPLETE);
+
+        // Process 'Properties1'
+
+        // Process 'Properties2'
+        buffer.put((byte) ((sessionId << 4) & 0xF0));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the COMMAND_SEGMENT_COMPLETE command.
      * <p>
@@ -510,6 +700,33 @@ public class CommandClassTransportServiceV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the COMMAND_SEGMENT_WAIT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Segment Wait
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param pendingFragments {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCommandSegmentWait(ByteBuffer buffer, Integer pendingFragments) {
+        logger.debug("Creating command message COMMAND_SEGMENT_WAIT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) COMMAND_SEGMENT_WAIT);
+
+        // Process 'Properties1'
+
+        // Process 'pending_fragments'
+        buffer.put(pendingFragments.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the COMMAND_SEGMENT_WAIT command.
      * <p>
@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.lang.IllegalArgumentException;
 import java.util.HashMap;
 import java.util.Map;
@@ -135,6 +136,60 @@ public class CommandClassUserCodeV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the USER_CODE_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * User Code Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param userIdentifier {@link Integer}
+     * @param userIdStatus {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>STATUS_NOT_AVAILABLE
+     *            <li>AVAILABLE
+     *            <li>OCCUPIED
+     *            </ul>
+     * @param userCode {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getUserCodeSet(ByteBuffer buffer, Integer userIdentifier, String userIdStatus, byte[] userCode) {
+        logger.debug("Creating command message USER_CODE_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) USER_CODE_SET);
+
+        // Process 'User Identifier'
+        buffer.put(userIdentifier.byteValue());
+
+        // Process 'User ID Status'
+        boolean foundUserIdStatus = false;
+        for (Integer entry : constantUserCodeSetUserIdStatus.keySet()) {
+            if (constantUserCodeSetUserIdStatus.get(entry).equals(userIdStatus)) {
+                buffer.put(entry.byteValue());
+                foundUserIdStatus = true;
+                break;
+            }
+        }
+        if (!foundUserIdStatus) {
+            throw new IllegalArgumentException("Unknown constant value '" + userIdStatus + "' for userIdStatus");
+        }
+
+        // Process 'USER_CODE'
+        if (userCode != null) {
+            if (userCode.length > 10) {
+                throw new IllegalArgumentException("Length of array userCode exceeds maximum length of 10 bytes");
+            }
+            buffer.put(userCode);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the USER_CODE_SET command.
      * <p>
@@ -195,6 +250,31 @@ public class CommandClassUserCodeV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the USER_CODE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * User Code Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param userIdentifier {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getUserCodeGet(ByteBuffer buffer, Integer userIdentifier) {
+        logger.debug("Creating command message USER_CODE_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) USER_CODE_GET);
+
+        // Process 'User Identifier'
+        buffer.put(userIdentifier.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the USER_CODE_GET command.
      * <p>
@@ -274,6 +354,61 @@ public class CommandClassUserCodeV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the USER_CODE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * User Code Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param userIdentifier {@link Integer}
+     * @param userIdStatus {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>STATUS_NOT_AVAILABLE
+     *            <li>AVAILABLE
+     *            <li>OCCUPIED
+     *            </ul>
+     * @param userCode {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getUserCodeReport(ByteBuffer buffer, Integer userIdentifier, String userIdStatus,
+            byte[] userCode) {
+        logger.debug("Creating command message USER_CODE_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) USER_CODE_REPORT);
+
+        // Process 'User Identifier'
+        buffer.put(userIdentifier.byteValue());
+
+        // Process 'User ID Status'
+        boolean foundUserIdStatus = false;
+        for (Integer entry : constantUserCodeReportUserIdStatus.keySet()) {
+            if (constantUserCodeReportUserIdStatus.get(entry).equals(userIdStatus)) {
+                buffer.put(entry.byteValue());
+                foundUserIdStatus = true;
+                break;
+            }
+        }
+        if (!foundUserIdStatus) {
+            throw new IllegalArgumentException("Unknown constant value '" + userIdStatus + "' for userIdStatus");
+        }
+
+        // Process 'USER_CODE'
+        if (userCode != null) {
+            if (userCode.length > 10) {
+                throw new IllegalArgumentException("Length of array userCode exceeds maximum length of 10 bytes");
+            }
+            buffer.put(userCode);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the USER_CODE_REPORT command.
      * <p>
@@ -330,6 +465,27 @@ public class CommandClassUserCodeV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the USERS_NUMBER_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Users Number Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getUsersNumberGet(ByteBuffer buffer) {
+        logger.debug("Creating command message USERS_NUMBER_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) USERS_NUMBER_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the USERS_NUMBER_GET command.
      * <p>
@@ -368,6 +524,31 @@ public class CommandClassUserCodeV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the USERS_NUMBER_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Users Number Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param supportedUsers {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getUsersNumberReport(ByteBuffer buffer, Integer supportedUsers) {
+        logger.debug("Creating command message USERS_NUMBER_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) USERS_NUMBER_REPORT);
+
+        // Process 'Supported Users'
+        buffer.put(supportedUsers.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the USERS_NUMBER_REPORT command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -71,6 +72,27 @@ public class CommandClassVersionV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the VERSION_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Version Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getVersionGet(ByteBuffer buffer) {
+        logger.debug("Creating command message VERSION_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) VERSION_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the VERSION_GET command.
      * <p>
@@ -126,6 +148,48 @@ public class CommandClassVersionV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the VERSION_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Version Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param zWaveLibraryType {@link Integer}
+     * @param zWaveProtocolVersion {@link Integer}
+     * @param zWaveProtocolSubVersion {@link Integer}
+     * @param applicationVersion {@link Integer}
+     * @param applicationSubVersion {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getVersionReport(ByteBuffer buffer, Integer zWaveLibraryType, Integer zWaveProtocolVersion,
+            Integer zWaveProtocolSubVersion, Integer applicationVersion, Integer applicationSubVersion) {
+        logger.debug("Creating command message VERSION_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) VERSION_REPORT);
+
+        // Process 'Z-Wave Library Type'
+        buffer.put(zWaveLibraryType.byteValue());
+
+        // Process 'Z-Wave Protocol Version'
+        buffer.put(zWaveProtocolVersion.byteValue());
+
+        // Process 'Z-Wave Protocol Sub Version'
+        buffer.put(zWaveProtocolSubVersion.byteValue());
+
+        // Process 'Application Version'
+        buffer.put(applicationVersion.byteValue());
+
+        // Process 'Application Sub Version'
+        buffer.put(applicationSubVersion.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the VERSION_REPORT command.
      * <p>
@@ -189,6 +253,31 @@ public class CommandClassVersionV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the VERSION_COMMAND_CLASS_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Version Command Class Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param requestedCommandClass {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getVersionCommandClassGet(ByteBuffer buffer, Integer requestedCommandClass) {
+        logger.debug("Creating command message VERSION_COMMAND_CLASS_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) VERSION_COMMAND_CLASS_GET);
+
+        // Process 'Requested Command Class'
+        buffer.put(requestedCommandClass.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the VERSION_COMMAND_CLASS_GET command.
      * <p>
@@ -240,6 +329,36 @@ public class CommandClassVersionV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the VERSION_COMMAND_CLASS_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Version Command Class Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param requestedCommandClass {@link Integer}
+     * @param commandClassVersion {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getVersionCommandClassReport(ByteBuffer buffer, Integer requestedCommandClass,
+            Integer commandClassVersion) {
+        logger.debug("Creating command message VERSION_COMMAND_CLASS_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) VERSION_COMMAND_CLASS_REPORT);
+
+        // Process 'Requested Command Class'
+        buffer.put(requestedCommandClass.byteValue());
+
+        // Process 'Command Class Version'
+        buffer.put(commandClassVersion.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the VERSION_COMMAND_CLASS_REPORT command.
      * <p>
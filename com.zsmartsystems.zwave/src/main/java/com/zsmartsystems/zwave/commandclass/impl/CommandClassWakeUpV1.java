@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -86,6 +87,39 @@ public class CommandClassWakeUpV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the WAKE_UP_INTERVAL_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Wake Up Interval Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param nodeid {@link Integer}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getWakeUpIntervalSet(ByteBuffer buffer, Integer nodeid) {
+        logger.debug("Creating command message WAKE_UP_INTERVAL_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) WAKE_UP_INTERVAL_SET);
+
+        // Process 'Seconds'
+
+        // Process 'NodeID'
+        // Check the node number boundary
+        if (nodeid < 1 || nodeid > 232) {
+            logger.debug("Node number is out of bounds {}", nodeid);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(nodeid.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the WAKE_UP_INTERVAL_SET command.
      * <p>
@@ -131,6 +165,27 @@ public class CommandClassWakeUpV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the WAKE_UP_INTERVAL_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Wake Up Interval Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getWakeUpIntervalGet(ByteBuffer buffer) {
+        logger.debug("Creating command message WAKE_UP_INTERVAL_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) WAKE_UP_INTERVAL_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the WAKE_UP_INTERVAL_GET command.
      * <p>
@@ -176,6 +231,39 @@ public class CommandClassWakeUpV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the WAKE_UP_INTERVAL_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Wake Up Interval Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param nodeid {@link Integer}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getWakeUpIntervalReport(ByteBuffer buffer, Integer nodeid) {
+        logger.debug("Creating command message WAKE_UP_INTERVAL_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) WAKE_UP_INTERVAL_REPORT);
+
+        // Process 'Seconds'
+
+        // Process 'NodeID'
+        // Check the node number boundary
+        if (nodeid < 1 || nodeid > 232) {
+            logger.debug("Node number is out of bounds {}", nodeid);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(nodeid.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the WAKE_UP_INTERVAL_REPORT command.
      * <p>
@@ -221,6 +309,27 @@ public class CommandClassWakeUpV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the WAKE_UP_NOTIFICATION command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Wake Up Notification
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getWakeUpNotification(ByteBuffer buffer) {
+        logger.debug("Creating command message WAKE_UP_NOTIFICATION version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) WAKE_UP_NOTIFICATION);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the WAKE_UP_NOTIFICATION command.
      * <p>
@@ -255,6 +364,27 @@ public class CommandClassWakeUpV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the WAKE_UP_NO_MORE_INFORMATION command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Wake Up No More Information
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getWakeUpNoMoreInformation(ByteBuffer buffer) {
+        logger.debug("Creating command message WAKE_UP_NO_MORE_INFORMATION version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) WAKE_UP_NO_MORE_INFORMATION);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the WAKE_UP_NO_MORE_INFORMATION command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -94,6 +95,39 @@ public class CommandClassWakeUpV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the WAKE_UP_INTERVAL_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Wake Up Interval Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param nodeid {@link Integer}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getWakeUpIntervalSet(ByteBuffer buffer, Integer nodeid) {
+        logger.debug("Creating command message WAKE_UP_INTERVAL_SET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) WAKE_UP_INTERVAL_SET);
+
+        // Process 'Seconds'
+
+        // Process 'NodeID'
+        // Check the node number boundary
+        if (nodeid < 1 || nodeid > 232) {
+            logger.debug("Node number is out of bounds {}", nodeid);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(nodeid.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the WAKE_UP_INTERVAL_SET command.
      * <p>
@@ -139,6 +173,27 @@ public class CommandClassWakeUpV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the WAKE_UP_INTERVAL_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Wake Up Interval Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getWakeUpIntervalGet(ByteBuffer buffer) {
+        logger.debug("Creating command message WAKE_UP_INTERVAL_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) WAKE_UP_INTERVAL_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the WAKE_UP_INTERVAL_GET command.
      * <p>
@@ -184,6 +239,39 @@ public class CommandClassWakeUpV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the WAKE_UP_INTERVAL_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Wake Up Interval Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param nodeid {@link Integer}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getWakeUpIntervalReport(ByteBuffer buffer, Integer nodeid) {
+        logger.debug("Creating command message WAKE_UP_INTERVAL_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) WAKE_UP_INTERVAL_REPORT);
+
+        // Process 'Seconds'
+
+        // Process 'NodeID'
+        // Check the node number boundary
+        if (nodeid < 1 || nodeid > 232) {
+            logger.debug("Node number is out of bounds {}", nodeid);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(nodeid.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the WAKE_UP_INTERVAL_REPORT command.
      * <p>
@@ -229,6 +317,27 @@ public class CommandClassWakeUpV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the WAKE_UP_NOTIFICATION command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Wake Up Notification
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getWakeUpNotification(ByteBuffer buffer) {
+        logger.debug("Creating command message WAKE_UP_NOTIFICATION version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) WAKE_UP_NOTIFICATION);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the WAKE_UP_NOTIFICATION command.
      * <p>
@@ -263,6 +372,27 @@ public class CommandClassWakeUpV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the WAKE_UP_NO_MORE_INFORMATION command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Wake Up No More Information
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getWakeUpNoMoreInformation(ByteBuffer buffer) {
+        logger.debug("Creating command message WAKE_UP_NO_MORE_INFORMATION version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) WAKE_UP_NO_MORE_INFORMATION);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the WAKE_UP_NO_MORE_INFORMATION command.
      * <p>
@@ -297,6 +427,27 @@ public class CommandClassWakeUpV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the WAKE_UP_INTERVAL_CAPABILITIES_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Wake Up Interval Capabilities Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getWakeUpIntervalCapabilitiesGet(ByteBuffer buffer) {
+        logger.debug("Creating command message WAKE_UP_INTERVAL_CAPABILITIES_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) WAKE_UP_INTERVAL_CAPABILITIES_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the WAKE_UP_INTERVAL_CAPABILITIES_GET command.
      * <p>
@@ -339,6 +490,35 @@ public class CommandClassWakeUpV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the WAKE_UP_INTERVAL_CAPABILITIES_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Wake Up Interval Capabilities Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getWakeUpIntervalCapabilitiesReport(ByteBuffer buffer) {
+        logger.debug("Creating command message WAKE_UP_INTERVAL_CAPABILITIES_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) WAKE_UP_INTERVAL_CAPABILITIES_REPORT);
+
+        // Process 'Minimum Wake Up Interval Seconds'
+
+        // Process 'Maximum Wake Up Interval Seconds'
+
+        // Process 'Default Wake Up Interval Seconds'
+
+        // Process 'Wake Up Interval Step Seconds'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the WAKE_UP_INTERVAL_CAPABILITIES_REPORT command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -247,6 +248,27 @@ public class CommandClassWindowCoveringV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the WINDOW_COVERING_SUPPORTED_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Window Covering Supported Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getWindowCoveringSupportedGet(ByteBuffer buffer) {
+        logger.debug("Creating command message WINDOW_COVERING_SUPPORTED_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) WINDOW_COVERING_SUPPORTED_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the WINDOW_COVERING_SUPPORTED_GET command.
      * <p>
@@ -298,6 +320,44 @@ public class CommandClassWindowCoveringV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the WINDOW_COVERING_SUPPORTED_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Window Covering Supported Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterMask {@link List<Integer>}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getWindowCoveringSupportedReport(ByteBuffer buffer, List<Integer> parameterMask) {
+        logger.debug("Creating command message WINDOW_COVERING_SUPPORTED_REPORT version 1");
+
+        Collections.sort(parameterMask);
+        int lenParameterMask = (parameterMask.get(parameterMask.size() - 1) / 8) + 1;
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) WINDOW_COVERING_SUPPORTED_REPORT);
+
+        // Process 'Properties1'
+        buffer.put((byte) lenParameterMask);
+
+        // Process 'Parameter Mask'
+        int valParameterMask = 0;
+        for (int cntParameterMask = 1 ; cntParameterMask < lenParameterMask * 8 ; cntParameterMask++) {
+            valParameterMask |= parameterMask.contains(valParameterMask) ? (1 << cntParameterMask % 8) : 0;
+            if (cntParameterMask % 8 == 0) {
+                buffer.put((byte) valParameterMask);
+                valParameterMask = 0;
+            }
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the WINDOW_COVERING_SUPPORTED_REPORT command.
      * <p>
@@ -392,6 +452,67 @@ public class CommandClassWindowCoveringV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the WINDOW_COVERING_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Window Covering Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterId {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OUT_LEFT_1
+     *            <li>OUT_LEFT_2
+     *            <li>OUT_RIGHT_1
+     *            <li>OUT_RIGHT_2
+     *            <li>IN_LEFT_1
+     *            <li>IN_LEFT_2
+     *            <li>IN_RIGHT_1
+     *            <li>IN_RIGHT_2
+     *            <li>IN_RIGHT_LEFT_1
+     *            <li>IN_RIGHT_LEFT_2
+     *            <li>VERTICAL_SLATS_ANGLE_1
+     *            <li>IN_TOP_1
+     *            <li>OUT_BOTTOM_1
+     *            <li>OUT_BOTTOM_2
+     *            <li>OUT_TOP_1
+     *            <li>OUT_TOP_2
+     *            <li>IN_BOTTOM_2
+     *            <li>IN_BOTTOM_1
+     *            <li>IN_TOP_BOTTOM_1
+     *            <li>IN_TOP_2
+     *            <li>HORIZONTAL_SLATS_ANGLE_1
+     *            <li>IN_TOP_BOTTOM_2
+     *            <li>HORIZONTAL_SLATS_ANGLE_2
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getWindowCoveringGet(ByteBuffer buffer, String parameterId) {
+        logger.debug("Creating command message WINDOW_COVERING_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) WINDOW_COVERING_GET);
+
+        // Process 'Parameter ID'
+        boolean foundParameterId = false;
+        for (Integer entry : constantWindowCoveringGetParameterId.keySet()) {
+            if (constantWindowCoveringGetParameterId.get(entry).equals(parameterId)) {
+                buffer.put(entry.byteValue());
+                foundParameterId = true;
+                break;
+            }
+        }
+        if (!foundParameterId) {
+            throw new IllegalArgumentException("Unknown constant value '" + parameterId + "' for parameterId");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the WINDOW_COVERING_GET command.
      * <p>
@@ -488,6 +609,80 @@ public class CommandClassWindowCoveringV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the WINDOW_COVERING_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Window Covering Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterId {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OUT_LEFT_1
+     *            <li>OUT_LEFT_2
+     *            <li>OUT_RIGHT_1
+     *            <li>OUT_RIGHT_2
+     *            <li>IN_LEFT_1
+     *            <li>IN_LEFT_2
+     *            <li>IN_RIGHT_1
+     *            <li>IN_RIGHT_2
+     *            <li>IN_RIGHT_LEFT_1
+     *            <li>IN_RIGHT_LEFT_2
+     *            <li>VERTICAL_SLATS_ANGLE_1
+     *            <li>IN_TOP_1
+     *            <li>OUT_BOTTOM_1
+     *            <li>OUT_BOTTOM_2
+     *            <li>OUT_TOP_1
+     *            <li>OUT_TOP_2
+     *            <li>IN_BOTTOM_2
+     *            <li>IN_BOTTOM_1
+     *            <li>IN_TOP_BOTTOM_1
+     *            <li>IN_TOP_2
+     *            <li>HORIZONTAL_SLATS_ANGLE_1
+     *            <li>IN_TOP_BOTTOM_2
+     *            <li>HORIZONTAL_SLATS_ANGLE_2
+     *            </ul>
+     * @param currentValue {@link Integer}
+     * @param targetValue {@link Integer}
+     * @param duration {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getWindowCoveringReport(ByteBuffer buffer, String parameterId, Integer currentValue,
+            Integer targetValue, Integer duration) {
+        logger.debug("Creating command message WINDOW_COVERING_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) WINDOW_COVERING_REPORT);
+
+        // Process 'Parameter ID'
+        boolean foundParameterId = false;
+        for (Integer entry : constantWindowCoveringReportParameterId.keySet()) {
+            if (constantWindowCoveringReportParameterId.get(entry).equals(parameterId)) {
+                buffer.put(entry.byteValue());
+                foundParameterId = true;
+                break;
+            }
+        }
+        if (!foundParameterId) {
+            throw new IllegalArgumentException("Unknown constant value '" + parameterId + "' for parameterId");
+        }
+
+        // Process 'Current Value'
+        buffer.put(currentValue.byteValue());
+
+        // Process 'Target Value'
+        buffer.put(targetValue.byteValue());
+
+        // Process 'Duration'
+        buffer.put(duration.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the WINDOW_COVERING_REPORT command.
      * <p>
@@ -553,6 +748,37 @@ public class CommandClassWindowCoveringV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the WINDOW_COVERING_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Window Covering Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterCount {@link Integer}
+     * @param duration {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getWindowCoveringSet(ByteBuffer buffer, Integer parameterCount, Integer duration) {
+        logger.debug("Creating command message WINDOW_COVERING_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) WINDOW_COVERING_SET);
+
+        // Process 'Properties1'
+        buffer.put((byte) (parameterCount & 0x1F));
+
+        // Process 'vg1'
+
+        // Process 'Duration'
+        buffer.put(duration.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the WINDOW_COVERING_SET command.
      * <p>
@@ -681,6 +907,82 @@ public class CommandClassWindowCoveringV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the WINDOW_COVERING_START_LEVEL_CHANGE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Window Covering Start Level Change
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param res1 {@link Integer}
+     * @param upDown {@link Boolean}
+     * @param res2 {@link Boolean}
+     * @param parameterId {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OUT_LEFT_1
+     *            <li>OUT_LEFT_2
+     *            <li>OUT_RIGHT_1
+     *            <li>OUT_RIGHT_2
+     *            <li>IN_LEFT_1
+     *            <li>IN_LEFT_2
+     *            <li>IN_RIGHT_1
+     *            <li>IN_RIGHT_2
+     *            <li>IN_RIGHT_LEFT_1
+     *            <li>IN_RIGHT_LEFT_2
+     *            <li>VERTICAL_SLATS_ANGLE_1
+     *            <li>IN_TOP_1
+     *            <li>OUT_BOTTOM_1
+     *            <li>OUT_BOTTOM_2
+     *            <li>OUT_TOP_1
+     *            <li>OUT_TOP_2
+     *            <li>IN_BOTTOM_2
+     *            <li>IN_BOTTOM_1
+     *            <li>IN_TOP_BOTTOM_1
+     *            <li>IN_TOP_2
+     *            <li>HORIZONTAL_SLATS_ANGLE_1
+     *            <li>IN_TOP_BOTTOM_2
+     *            <li>HORIZONTAL_SLATS_ANGLE_2
+     *            </ul>
+     * @param duration {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getWindowCoveringStartLevelChange(ByteBuffer buffer, Integer res1, Boolean upDown, Boolean res2,
+            String parameterId, Integer duration) {
+        logger.debug("Creating command message WINDOW_COVERING_START_LEVEL_CHANGE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) WINDOW_COVERING_START_LEVEL_CHANGE);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= res1 & 0x3F;
+        valProperties1 |= upDown ? 0x40 : 0;
+        valProperties1 |= res2 ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Parameter ID'
+        boolean foundParameterId = false;
+        for (Integer entry : constantWindowCoveringStartLevelChangeParameterId.keySet()) {
+            if (constantWindowCoveringStartLevelChangeParameterId.get(entry).equals(parameterId)) {
+                buffer.put(entry.byteValue());
+                foundParameterId = true;
+                break;
+            }
+        }
+        if (!foundParameterId) {
+            throw new IllegalArgumentException("Unknown constant value '" + parameterId + "' for parameterId");
+        }
+
+        // Process 'Duration'
+        buffer.put(duration.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the WINDOW_COVERING_START_LEVEL_CHANGE command.
      * <p>
@@ -776,6 +1078,67 @@ public class CommandClassWindowCoveringV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the WINDOW_COVERING_STOP_LEVEL_CHANGE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Window Covering Stop Level Change
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param parameterId {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>OUT_LEFT_1
+     *            <li>OUT_LEFT_2
+     *            <li>OUT_RIGHT_1
+     *            <li>OUT_RIGHT_2
+     *            <li>IN_LEFT_1
+     *            <li>IN_LEFT_2
+     *            <li>IN_RIGHT_1
+     *            <li>IN_RIGHT_2
+     *            <li>IN_RIGHT_LEFT_1
+     *            <li>IN_RIGHT_LEFT_2
+     *            <li>VERTICAL_SLATS_ANGLE_1
+     *            <li>IN_TOP_1
+     *            <li>OUT_BOTTOM_1
+     *            <li>OUT_BOTTOM_2
+     *            <li>OUT_TOP_1
+     *            <li>OUT_TOP_2
+     *            <li>IN_BOTTOM_2
+     *            <li>IN_BOTTOM_1
+     *            <li>IN_TOP_BOTTOM_1
+     *            <li>IN_TOP_2
+     *            <li>HORIZONTAL_SLATS_ANGLE_1
+     *            <li>IN_TOP_BOTTOM_2
+     *            <li>HORIZONTAL_SLATS_ANGLE_2
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getWindowCoveringStopLevelChange(ByteBuffer buffer, String parameterId) {
+        logger.debug("Creating command message WINDOW_COVERING_STOP_LEVEL_CHANGE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) WINDOW_COVERING_STOP_LEVEL_CHANGE);
+
+        // Process 'Parameter ID'
+        boolean foundParameterId = false;
+        for (Integer entry : constantWindowCoveringStopLevelChangeParameterId.keySet()) {
+            if (constantWindowCoveringStopLevelChangeParameterId.get(entry).equals(parameterId)) {
+                buffer.put(entry.byteValue());
+                foundParameterId = true;
+                break;
+            }
+        }
+        if (!foundParameterId) {
+            throw new IllegalArgumentException("Unknown constant value '" + parameterId + "' for parameterId");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the WINDOW_COVERING_STOP_LEVEL_CHANGE command.
      * <p>
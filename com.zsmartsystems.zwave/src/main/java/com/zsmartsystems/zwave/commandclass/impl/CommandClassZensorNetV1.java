@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -67,6 +68,27 @@ public class CommandClassZensorNetV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the BIND_REQUEST command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Bind Request
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getBindRequest(ByteBuffer buffer) {
+        logger.debug("Creating command message BIND_REQUEST version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) BIND_REQUEST);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the BIND_REQUEST command.
      * <p>
@@ -101,6 +123,27 @@ public class CommandClassZensorNetV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the BIND_ACCEPT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Bind Accept
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getBindAccept(ByteBuffer buffer) {
+        logger.debug("Creating command message BIND_ACCEPT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) BIND_ACCEPT);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the BIND_ACCEPT command.
      * <p>
@@ -135,6 +178,27 @@ public class CommandClassZensorNetV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the BIND_COMPLETE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Bind Complete
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getBindComplete(ByteBuffer buffer) {
+        logger.debug("Creating command message BIND_COMPLETE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) BIND_COMPLETE);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the BIND_COMPLETE command.
      * <p>
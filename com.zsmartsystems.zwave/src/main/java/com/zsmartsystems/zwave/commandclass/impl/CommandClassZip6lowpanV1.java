@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -86,6 +87,46 @@ public class CommandClassZip6lowpanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the LOWPAN_FIRST_FRAGMENT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Lowpan First Fragment
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param datagramSize1 {@link Integer}
+     * @param datagramSize2 {@link Integer}
+     * @param datagramTag {@link Integer}
+     * @param payload {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getLowpanFirstFragment(ByteBuffer buffer, Integer datagramSize1, Integer datagramSize2,
+            Integer datagramTag, byte[] payload) {
+        logger.debug("Creating command message LOWPAN_FIRST_FRAGMENT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) LOWPAN_FIRST_FRAGMENT);
+
+        // Process 'Properties1'
+        buffer.put((byte) (datagramSize1 & 0x07));
+
+        // Process 'Datagram Size 2'
+        buffer.put(datagramSize2.byteValue());
+
+        // Process 'Datagram Tag'
+        buffer.put(datagramTag.byteValue());
+
+        // Process 'Payload'
+        if (payload != null) {
+            buffer.put(payload);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the LOWPAN_FIRST_FRAGMENT command.
      * <p>
@@ -178,6 +219,50 @@ public class CommandClassZip6lowpanV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the LOWPAN_SUBSEQUENT_FRAGMENT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Lowpan Subsequent Fragment
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param datagramSize1 {@link Integer}
+     * @param datagramSize2 {@link Integer}
+     * @param datagramTag {@link Integer}
+     * @param datagramOffset {@link Integer}
+     * @param payload {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getLowpanSubsequentFragment(ByteBuffer buffer, Integer datagramSize1, Integer datagramSize2,
+            Integer datagramTag, Integer datagramOffset, byte[] payload) {
+        logger.debug("Creating command message LOWPAN_SUBSEQUENT_FRAGMENT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) LOWPAN_SUBSEQUENT_FRAGMENT);
+
+        // Process 'Properties1'
+        buffer.put((byte) (datagramSize1 & 0x07));
+
+        // Process 'Datagram Size 2'
+        buffer.put(datagramSize2.byteValue());
+
+        // Process 'Datagram Tag'
+        buffer.put(datagramTag.byteValue());
+
+        // Process 'Datagram Offset'
+        buffer.put(datagramOffset.byteValue());
+
+        // Process 'Payload'
+        if (payload != null) {
+            buffer.put(payload);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the LOWPAN_SUBSEQUENT_FRAGMENT command.
      * <p>
@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.lang.IllegalArgumentException;
 import java.util.HashMap;
 import java.util.Map;
@@ -175,6 +176,46 @@ public class CommandClassZipGatewayV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the GATEWAY_MODE_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Gateway Mode Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param mode {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>STAND_ALONE
+     *            <li>PORTAL
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getGatewayModeSet(ByteBuffer buffer, String mode) {
+        logger.debug("Creating command message GATEWAY_MODE_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) GATEWAY_MODE_SET);
+
+        // Process 'Mode'
+        boolean foundMode = false;
+        for (Integer entry : constantGatewayModeSetMode.keySet()) {
+            if (constantGatewayModeSetMode.get(entry).equals(mode)) {
+                buffer.put(entry.byteValue());
+                foundMode = true;
+                break;
+            }
+        }
+        if (!foundMode) {
+            throw new IllegalArgumentException("Unknown constant value '" + mode + "' for mode");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the GATEWAY_MODE_SET command.
      * <p>
@@ -218,6 +259,27 @@ public class CommandClassZipGatewayV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the GATEWAY_MODE_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Gateway Mode Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getGatewayModeGet(ByteBuffer buffer) {
+        logger.debug("Creating command message GATEWAY_MODE_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) GATEWAY_MODE_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the GATEWAY_MODE_GET command.
      * <p>
@@ -271,6 +333,46 @@ public class CommandClassZipGatewayV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the GATEWAY_MODE_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Gateway Mode Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param mode {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>STAND_ALONE
+     *            <li>PORTAL
+     *            </ul>
+     * @return the number of bytes written to the buffer
+     */
+    static public int getGatewayModeReport(ByteBuffer buffer, String mode) {
+        logger.debug("Creating command message GATEWAY_MODE_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) GATEWAY_MODE_REPORT);
+
+        // Process 'Mode'
+        boolean foundMode = false;
+        for (Integer entry : constantGatewayModeReportMode.keySet()) {
+            if (constantGatewayModeReportMode.get(entry).equals(mode)) {
+                buffer.put(entry.byteValue());
+                foundMode = true;
+                break;
+            }
+        }
+        if (!foundMode) {
+            throw new IllegalArgumentException("Unknown constant value '" + mode + "' for mode");
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the GATEWAY_MODE_REPORT command.
      * <p>
@@ -349,6 +451,57 @@ public class CommandClassZipGatewayV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the GATEWAY_PEER_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Gateway Peer Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param peerProfile {@link Integer}
+     * @param ipv6Address {@link byte[]}
+     * @param port {@link Integer}
+     * @param peerName {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getGatewayPeerSet(ByteBuffer buffer, Integer peerProfile, byte[] ipv6Address, Integer port,
+            byte[] peerName) {
+        logger.debug("Creating command message GATEWAY_PEER_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) GATEWAY_PEER_SET);
+
+        // Process 'Peer Profile'
+        buffer.put(peerProfile.byteValue());
+
+        // Process 'IPv6 Address'
+        if (ipv6Address != null) {
+            if (ipv6Address.length > 16) {
+                throw new IllegalArgumentException("Length of array ipv6Address exceeds maximum length of 16 bytes");
+            }
+            buffer.put(ipv6Address);
+        }
+
+        // Process 'Port'
+        buffer.put((byte) ((port >> 8) & 0xff));
+        buffer.put((byte) (port & 0xff));
+
+        // Process 'Properties1'
+        // Peer Name Length is used by 'Peer Name'
+        int peerNameLength = peerName.length;
+        buffer.put((byte) (peerNameLength & 0x3F));
+
+        // Process 'Peer Name'
+        if (peerName != null) {
+            buffer.put(peerName);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the GATEWAY_PEER_SET command.
      * <p>
@@ -429,6 +582,31 @@ public class CommandClassZipGatewayV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the GATEWAY_PEER_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Gateway Peer Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param peerProfile {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getGatewayPeerGet(ByteBuffer buffer, Integer peerProfile) {
+        logger.debug("Creating command message GATEWAY_PEER_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) GATEWAY_PEER_GET);
+
+        // Process 'Peer Profile'
+        buffer.put(peerProfile.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the GATEWAY_PEER_GET command.
      * <p>
@@ -512,6 +690,61 @@ public class CommandClassZipGatewayV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the GATEWAY_PEER_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Gateway Peer Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param peerProfile {@link Integer}
+     * @param peerCount {@link Integer}
+     * @param ipv6Address {@link byte[]}
+     * @param port {@link Integer}
+     * @param peerName {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getGatewayPeerReport(ByteBuffer buffer, Integer peerProfile, Integer peerCount,
+            byte[] ipv6Address, Integer port, byte[] peerName) {
+        logger.debug("Creating command message GATEWAY_PEER_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) GATEWAY_PEER_REPORT);
+
+        // Process 'Peer Profile'
+        buffer.put(peerProfile.byteValue());
+
+        // Process 'Peer Count'
+        buffer.put(peerCount.byteValue());
+
+        // Process 'IPv6 Address'
+        if (ipv6Address != null) {
+            if (ipv6Address.length > 16) {
+                throw new IllegalArgumentException("Length of array ipv6Address exceeds maximum length of 16 bytes");
+            }
+            buffer.put(ipv6Address);
+        }
+
+        // Process 'Port'
+        buffer.put((byte) ((port >> 8) & 0xff));
+        buffer.put((byte) (port & 0xff));
+
+        // Process 'Properties1'
+        // Peer Name Length is used by 'Peer Name'
+        int peerNameLength = peerName.length;
+        buffer.put((byte) (peerNameLength & 0x3F));
+
+        // Process 'Peer Name'
+        if (peerName != null) {
+            buffer.put(peerName);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the GATEWAY_PEER_REPORT command.
      * <p>
@@ -601,6 +834,35 @@ public class CommandClassZipGatewayV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the GATEWAY_LOCK_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Gateway Lock Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param lock {@link Boolean}
+     * @param show {@link Boolean}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getGatewayLockSet(ByteBuffer buffer, Boolean lock, Boolean show) {
+        logger.debug("Creating command message GATEWAY_LOCK_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) GATEWAY_LOCK_SET);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= lock ? 0x01 : 0;
+        valProperties1 |= show ? 0x02 : 0;
+        buffer.put((byte) valProperties1);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the GATEWAY_LOCK_SET command.
      * <p>
@@ -664,6 +926,42 @@ public class CommandClassZipGatewayV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the UNSOLICITED_DESTINATION_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Unsolicited Destination Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param unsolicitedIpv6Destination {@link byte[]}
+     * @param unsolicitedDestinationPort {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getUnsolicitedDestinationSet(ByteBuffer buffer, byte[] unsolicitedIpv6Destination,
+            Integer unsolicitedDestinationPort) {
+        logger.debug("Creating command message UNSOLICITED_DESTINATION_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) UNSOLICITED_DESTINATION_SET);
+
+        // Process 'Unsolicited IPv6 Destination'
+        if (unsolicitedIpv6Destination != null) {
+            if (unsolicitedIpv6Destination.length > 16) {
+                throw new IllegalArgumentException("Length of array unsolicitedIpv6Destination exceeds maximum length of 16 bytes");
+            }
+            buffer.put(unsolicitedIpv6Destination);
+        }
+
+        // Process 'Unsolicited Destination Port'
+        buffer.put((byte) ((unsolicitedDestinationPort >> 8) & 0xff));
+        buffer.put((byte) (unsolicitedDestinationPort & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the UNSOLICITED_DESTINATION_SET command.
      * <p>
@@ -716,6 +1014,27 @@ public class CommandClassZipGatewayV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the UNSOLICITED_DESTINATION_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Unsolicited Destination Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getUnsolicitedDestinationGet(ByteBuffer buffer) {
+        logger.debug("Creating command message UNSOLICITED_DESTINATION_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) UNSOLICITED_DESTINATION_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the UNSOLICITED_DESTINATION_GET command.
      * <p>
@@ -768,6 +1087,42 @@ public class CommandClassZipGatewayV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the UNSOLICITED_DESTINATION_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Unsolicited Destination Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param unsolicitedIpv6Destination {@link byte[]}
+     * @param unsolicitedDestinationPort {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getUnsolicitedDestinationReport(ByteBuffer buffer, byte[] unsolicitedIpv6Destination,
+            Integer unsolicitedDestinationPort) {
+        logger.debug("Creating command message UNSOLICITED_DESTINATION_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) UNSOLICITED_DESTINATION_REPORT);
+
+        // Process 'Unsolicited IPv6 Destination'
+        if (unsolicitedIpv6Destination != null) {
+            if (unsolicitedIpv6Destination.length > 16) {
+                throw new IllegalArgumentException("Length of array unsolicitedIpv6Destination exceeds maximum length of 16 bytes");
+            }
+            buffer.put(unsolicitedIpv6Destination);
+        }
+
+        // Process 'Unsolicited Destination Port'
+        buffer.put((byte) ((unsolicitedDestinationPort >> 8) & 0xff));
+        buffer.put((byte) (unsolicitedDestinationPort & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the UNSOLICITED_DESTINATION_REPORT command.
      * <p>
@@ -842,6 +1197,43 @@ public class CommandClassZipGatewayV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the COMMAND_APPLICATION_NODE_INFO_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Application Node Info Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param nonSecureCommandClass {@link byte[]}
+     * @param securityScheme0CommandClass {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCommandApplicationNodeInfoSet(ByteBuffer buffer, byte[] nonSecureCommandClass,
+            byte[] securityScheme0CommandClass) {
+        logger.debug("Creating command message COMMAND_APPLICATION_NODE_INFO_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) COMMAND_APPLICATION_NODE_INFO_SET);
+
+        // Process 'Non-Secure Command Class'
+        if (nonSecureCommandClass != null) {
+            buffer.put(nonSecureCommandClass);
+        }
+
+        // Process 'Security Scheme 0 MARK'
+        buffer.put((byte) 0xF1);
+
+        // Process 'Security Scheme 0 Command Class'
+        if (securityScheme0CommandClass != null) {
+            buffer.put(securityScheme0CommandClass);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the COMMAND_APPLICATION_NODE_INFO_SET command.
      * <p>
@@ -910,6 +1302,27 @@ public class CommandClassZipGatewayV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the COMMAND_APPLICATION_NODE_INFO_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Application Node Info Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCommandApplicationNodeInfoGet(ByteBuffer buffer) {
+        logger.debug("Creating command message COMMAND_APPLICATION_NODE_INFO_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) COMMAND_APPLICATION_NODE_INFO_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the COMMAND_APPLICATION_NODE_INFO_GET command.
      * <p>
@@ -966,6 +1379,43 @@ public class CommandClassZipGatewayV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the COMMAND_APPLICATION_NODE_INFO_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Application Node Info Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param nonSecureCommandClass {@link byte[]}
+     * @param securityScheme0CommandClass {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCommandApplicationNodeInfoReport(ByteBuffer buffer, byte[] nonSecureCommandClass,
+            byte[] securityScheme0CommandClass) {
+        logger.debug("Creating command message COMMAND_APPLICATION_NODE_INFO_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) COMMAND_APPLICATION_NODE_INFO_REPORT);
+
+        // Process 'Non-Secure Command Class'
+        if (nonSecureCommandClass != null) {
+            buffer.put(nonSecureCommandClass);
+        }
+
+        // Process 'Security Scheme 0 MARK'
+        buffer.put((byte) 0xF1);
+
+        // Process 'Security Scheme 0 Command Class'
+        if (securityScheme0CommandClass != null) {
+            buffer.put(securityScheme0CommandClass);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the COMMAND_APPLICATION_NODE_INFO_REPORT command.
      * <p>
@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -89,6 +90,33 @@ public class CommandClassZipNamingV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ZIP_NAMING_NAME_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Z/IP Name Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param name {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getZipNamingNameSet(ByteBuffer buffer, byte[] name) {
+        logger.debug("Creating command message ZIP_NAMING_NAME_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ZIP_NAMING_NAME_SET);
+
+        // Process 'Name'
+        if (name != null) {
+            buffer.put(name);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ZIP_NAMING_NAME_SET command.
      * <p>
@@ -140,6 +168,27 @@ public class CommandClassZipNamingV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ZIP_NAMING_NAME_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Z/IP Name Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getZipNamingNameGet(ByteBuffer buffer) {
+        logger.debug("Creating command message ZIP_NAMING_NAME_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ZIP_NAMING_NAME_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ZIP_NAMING_NAME_GET command.
      * <p>
@@ -183,6 +232,33 @@ public class CommandClassZipNamingV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ZIP_NAMING_NAME_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Z/IP Name Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param name {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getZipNamingNameReport(ByteBuffer buffer, byte[] name) {
+        logger.debug("Creating command message ZIP_NAMING_NAME_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ZIP_NAMING_NAME_REPORT);
+
+        // Process 'Name'
+        if (name != null) {
+            buffer.put(name);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ZIP_NAMING_NAME_REPORT command.
      * <p>
@@ -243,6 +319,33 @@ public class CommandClassZipNamingV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ZIP_NAMING_LOCATION_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Z/IP Location Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param location {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getZipNamingLocationSet(ByteBuffer buffer, byte[] location) {
+        logger.debug("Creating command message ZIP_NAMING_LOCATION_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ZIP_NAMING_LOCATION_SET);
+
+        // Process 'Location'
+        if (location != null) {
+            buffer.put(location);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ZIP_NAMING_LOCATION_SET command.
      * <p>
@@ -294,6 +397,27 @@ public class CommandClassZipNamingV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ZIP_NAMING_LOCATION_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Z/IP Location Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getZipNamingLocationGet(ByteBuffer buffer) {
+        logger.debug("Creating command message ZIP_NAMING_LOCATION_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ZIP_NAMING_LOCATION_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ZIP_NAMING_LOCATION_GET command.
      * <p>
@@ -337,6 +461,33 @@ public class CommandClassZipNamingV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ZIP_NAMING_LOCATION_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Z/IP Location Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param location {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getZipNamingLocationReport(ByteBuffer buffer, byte[] location) {
+        logger.debug("Creating command message ZIP_NAMING_LOCATION_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ZIP_NAMING_LOCATION_REPORT);
+
+        // Process 'Location'
+        if (location != null) {
+            buffer.put(location);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ZIP_NAMING_LOCATION_REPORT command.
      * <p>
@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.lang.IllegalArgumentException;
 import java.util.HashMap;
 import java.util.Map;
@@ -143,6 +144,78 @@ public class CommandClassZipNdV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ZIP_NODE_ADVERTISEMENT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Zip Node Advertisement
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param validity {@link String}
+     * @param local {@link Boolean}
+     * @param nodeId {@link Integer}
+     * @param ipv6Address {@link byte[]}
+     * @param homeId {@link byte[]}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getZipNodeAdvertisement(ByteBuffer buffer, String validity, Boolean local, Integer nodeId,
+            byte[] ipv6Address, byte[] homeId) {
+        logger.debug("Creating command message ZIP_NODE_ADVERTISEMENT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ZIP_NODE_ADVERTISEMENT);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        int valvalidity;
+        switch (validity) {
+            case "INFORMATION_OK":
+                valvalidity = 0;
+                break;
+            case "INFORMATION_OBSOLETE":
+                valvalidity = 1;
+                break;
+            case "INFORMATION_NOT_FOUND":
+                valvalidity = 2;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for validity: " + validity);
+        }
+        valProperties1 |= valvalidity & 0x03;
+        valProperties1 |= local ? 0x04 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Node ID'
+        // Check the node number boundary
+        if (nodeId < 1 || nodeId > 232) {
+            logger.debug("Node number is out of bounds {}", nodeId);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(nodeId.byteValue());
+
+        // Process 'IPv6 Address'
+        if (ipv6Address != null) {
+            if (ipv6Address.length > 16) {
+                throw new IllegalArgumentException("Length of array ipv6Address exceeds maximum length of 16 bytes");
+            }
+            buffer.put(ipv6Address);
+        }
+
+        // Process 'Home ID'
+        if (homeId != null) {
+            if (homeId.length > 4) {
+                throw new IllegalArgumentException("Length of array homeId exceeds maximum length of 4 bytes");
+            }
+            buffer.put(homeId);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ZIP_NODE_ADVERTISEMENT command.
      * <p>
@@ -246,6 +319,49 @@ public class CommandClassZipNdV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ZIP_NODE_SOLICITATION command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Zip Node Solicitation
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param nodeId {@link Integer}
+     * @param ipv6Address {@link byte[]}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getZipNodeSolicitation(ByteBuffer buffer, Integer nodeId, byte[] ipv6Address) {
+        logger.debug("Creating command message ZIP_NODE_SOLICITATION version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ZIP_NODE_SOLICITATION);
+
+        // Process 'Reserved'
+        buffer.put((byte) 0);
+
+        // Process 'Node ID'
+        // Check the node number boundary
+        if (nodeId < 1 || nodeId > 232) {
+            logger.debug("Node number is out of bounds {}", nodeId);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(nodeId.byteValue());
+
+        // Process 'IPv6 Address'
+        if (ipv6Address != null) {
+            if (ipv6Address.length > 16) {
+                throw new IllegalArgumentException("Length of array ipv6Address exceeds maximum length of 16 bytes");
+            }
+            buffer.put(ipv6Address);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ZIP_NODE_SOLICITATION command.
      * <p>
@@ -311,6 +427,41 @@ public class CommandClassZipNdV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ZIP_INV_NODE_SOLICITATION command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Zip Inverse Node Solicitation
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param local {@link Boolean}
+     * @param nodeId {@link Integer}
+     * @return the number of bytes written to the buffer, or -1 if the message could not be created
+     */
+    static public int getZipInvNodeSolicitation(ByteBuffer buffer, Boolean local, Integer nodeId) {
+        logger.debug("Creating command message ZIP_INV_NODE_SOLICITATION version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ZIP_INV_NODE_SOLICITATION);
+
+        // Process 'Properties1'
+        buffer.put((byte) (local ? 0x04 : 0));
+
+        // Process 'Node ID'
+        // Check the node number boundary
+        if (nodeId < 1 || nodeId > 232) {
+            logger.debug("Node number is out of bounds {}", nodeId);
+            buffer.position(start);
+            return -1;
+        }
+        buffer.put(nodeId.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ZIP_INV_NODE_SOLICITATION command.
      * <p>
@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.lang.IllegalArgumentException;
 import java.util.HashMap;
 import java.util.Map;
@@ -131,6 +132,73 @@ public class CommandClassZipPortalV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the GATEWAY_CONFIGURATION_SET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Gateway Configuration Set
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param lanIpv6Address {@link byte[]}
+     * @param lanIpv6PrefixLength {@link Integer}
+     * @param portalIpv6Prefix {@link byte[]}
+     * @param portalIpv6PrefixLength {@link Integer}
+     * @param defaultGatewayIpv6Address {@link byte[]}
+     * @param panIpv6Prefix {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getGatewayConfigurationSet(ByteBuffer buffer, byte[] lanIpv6Address, Integer lanIpv6PrefixLength,
+            byte[] portalIpv6Prefix, Integer portalIpv6PrefixLength, byte[] defaultGatewayIpv6Address,
+            byte[] panIpv6Prefix) {
+        logger.debug("Creating command message GATEWAY_CONFIGURATION_SET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) GATEWAY_CONFIGURATION_SET);
+
+        // Process 'LAN IPv6 Address'
+        if (lanIpv6Address != null) {
+            if (lanIpv6Address.length > 16) {
+                throw new IllegalArgumentException("Length of array lanIpv6Address exceeds maximum length of 16 bytes");
+            }
+            buffer.put(lanIpv6Address);
+        }
+
+        // Process 'LAN IPv6 Prefix Length'
+        buffer.put(lanIpv6PrefixLength.byteValue());
+
+        // Process 'Portal IPv6 Prefix'
+        if (portalIpv6Prefix != null) {
+            if (portalIpv6Prefix.length > 16) {
+                throw new IllegalArgumentException("Length of array portalIpv6Prefix exceeds maximum length of 16 bytes");
+            }
+            buffer.put(portalIpv6Prefix);
+        }
+
+        // Process 'Portal IPv6 Prefix Length'
+        buffer.put(portalIpv6PrefixLength.byteValue());
+
+        // Process 'Default Gateway IPv6 Address'
+        if (defaultGatewayIpv6Address != null) {
+            if (defaultGatewayIpv6Address.length > 16) {
+                throw new IllegalArgumentException("Length of array defaultGatewayIpv6Address exceeds maximum length of 16 bytes");
+            }
+            buffer.put(defaultGatewayIpv6Address);
+        }
+
+        // Process 'PAN IPv6 Prefix'
+        if (panIpv6Prefix != null) {
+            if (panIpv6Prefix.length > 16) {
+                throw new IllegalArgumentException("Length of array panIpv6Prefix exceeds maximum length of 16 bytes");
+            }
+            buffer.put(panIpv6Prefix);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the GATEWAY_CONFIGURATION_SET command.
      * <p>
@@ -218,6 +286,31 @@ public class CommandClassZipPortalV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the GATEWAY_CONFIGURATION_STATUS command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Gateway Configuration Status
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param status {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getGatewayConfigurationStatus(ByteBuffer buffer, Integer status) {
+        logger.debug("Creating command message GATEWAY_CONFIGURATION_STATUS version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) GATEWAY_CONFIGURATION_STATUS);
+
+        // Process 'Status'
+        buffer.put(status.byteValue());
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the GATEWAY_CONFIGURATION_STATUS command.
      * <p>
@@ -261,6 +354,27 @@ public class CommandClassZipPortalV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the GATEWAY_CONFIGURATION_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Gateway Configuration Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getGatewayConfigurationGet(ByteBuffer buffer) {
+        logger.debug("Creating command message GATEWAY_CONFIGURATION_GET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) GATEWAY_CONFIGURATION_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the GATEWAY_CONFIGURATION_GET command.
      * <p>
@@ -353,6 +467,73 @@ public class CommandClassZipPortalV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the GATEWAY_CONFIGURATION_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Gateway Configuration Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param lanIpv6Address {@link byte[]}
+     * @param lanIpv6PrefixLength {@link Integer}
+     * @param portalIpv6Prefix {@link byte[]}
+     * @param portalIpv6PrefixLength {@link Integer}
+     * @param defaultGatewayIpv6Address {@link byte[]}
+     * @param panIpv6Prefix {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getGatewayConfigurationReport(ByteBuffer buffer, byte[] lanIpv6Address,
+            Integer lanIpv6PrefixLength, byte[] portalIpv6Prefix, Integer portalIpv6PrefixLength,
+            byte[] defaultGatewayIpv6Address, byte[] panIpv6Prefix) {
+        logger.debug("Creating command message GATEWAY_CONFIGURATION_REPORT version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) GATEWAY_CONFIGURATION_REPORT);
+
+        // Process 'LAN IPv6 Address'
+        if (lanIpv6Address != null) {
+            if (lanIpv6Address.length > 16) {
+                throw new IllegalArgumentException("Length of array lanIpv6Address exceeds maximum length of 16 bytes");
+            }
+            buffer.put(lanIpv6Address);
+        }
+
+        // Process 'LAN IPv6 Prefix Length'
+        buffer.put(lanIpv6PrefixLength.byteValue());
+
+        // Process 'Portal IPv6 Prefix'
+        if (portalIpv6Prefix != null) {
+            if (portalIpv6Prefix.length > 16) {
+                throw new IllegalArgumentException("Length of array portalIpv6Prefix exceeds maximum length of 16 bytes");
+            }
+            buffer.put(portalIpv6Prefix);
+        }
+
+        // Process 'Portal IPv6 Prefix Length'
+        buffer.put(portalIpv6PrefixLength.byteValue());
+
+        // Process 'Default Gateway IPv6 Address'
+        if (defaultGatewayIpv6Address != null) {
+            if (defaultGatewayIpv6Address.length > 16) {
+                throw new IllegalArgumentException("Length of array defaultGatewayIpv6Address exceeds maximum length of 16 bytes");
+            }
+            buffer.put(defaultGatewayIpv6Address);
+        }
+
+        // Process 'PAN IPv6 Prefix'
+        if (panIpv6Prefix != null) {
+            if (panIpv6Prefix.length > 16) {
+                throw new IllegalArgumentException("Length of array panIpv6Prefix exceeds maximum length of 16 bytes");
+            }
+            buffer.put(panIpv6Prefix);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the GATEWAY_CONFIGURATION_REPORT command.
      * <p>
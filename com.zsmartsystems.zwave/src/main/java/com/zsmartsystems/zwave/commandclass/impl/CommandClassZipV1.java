@@ -10,6 +10,7 @@ package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -163,6 +164,84 @@ public class CommandClassZipV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the COMMAND_ZIP_PACKET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Zip Packet
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param nackOptionError {@link Boolean}
+     * @param nackQueueFull {@link Boolean}
+     * @param nackWaiting {@link Boolean}
+     * @param nackResponse {@link Boolean}
+     * @param ackResponse {@link Boolean}
+     * @param ackRequest {@link Boolean}
+     * @param moreInformation {@link Boolean}
+     * @param zWaveCmdIncluded {@link Boolean}
+     * @param headerExtIncluded {@link Boolean}
+     * @param seqNo {@link Integer}
+     * @param sourceEndPoint {@link Integer}
+     * @param destinationEndPoint {@link Integer}
+     * @param bitAddress {@link Boolean}
+     * @param headerExtension {@link byte[]}
+     * @param zWaveCommand {@link byte[]}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCommandZipPacket(ByteBuffer buffer, Boolean nackOptionError, Boolean nackQueueFull,
+            Boolean nackWaiting, Boolean nackResponse, Boolean ackResponse, Boolean ackRequest, Boolean moreInformation,
+            Boolean zWaveCmdIncluded, Boolean headerExtIncluded, Integer seqNo, Integer sourceEndPoint,
+            Integer destinationEndPoint, Boolean bitAddress, byte[] headerExtension, byte[] zWaveCommand) {
+        logger.debug("Creating command message COMMAND_ZIP_PACKET version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) COMMAND_ZIP_PACKET);
+
+        // Process 'Properties1'
+        int valProperties1 = 0;
+        valProperties1 |= nackOptionError ? 0x04 : 0;
+        valProperties1 |= nackQueueFull ? 0x08 : 0;
+        valProperties1 |= nackWaiting ? 0x10 : 0;
+        valProperties1 |= nackResponse ? 0x20 : 0;
+        valProperties1 |= ackResponse ? 0x40 : 0;
+        valProperties1 |= ackRequest ? 0x80 : 0;
+        buffer.put((byte) valProperties1);
+
+        // Process 'Properties2'
+        int valProperties2 = 0;
+        valProperties2 |= moreInformation ? 0x20 : 0;
+        valProperties2 |= zWaveCmdIncluded ? 0x40 : 0;
+        valProperties2 |= headerExtIncluded ? 0x80 : 0;
+        buffer.put((byte) valProperties2);
+
+        // Process 'Seq No'
+        buffer.put(seqNo.byteValue());
+
+        // Process 'Properties3'
+        buffer.put((byte) (sourceEndPoint & 0x7F));
+
+        // Process 'Properties4'
+        int valProperties4 = 0;
+        valProperties4 |= destinationEndPoint & 0x7F;
+        valProperties4 |= bitAddress ? 0x80 : 0;
+        buffer.put((byte) valProperties4);
+
+        // Process 'Header extension'
+        if (headerExtension != null) {
+            buffer.put(headerExtension);
+        }
+
+        // Process 'Z-Wave command'
+        if (zWaveCommand != null) {
+            buffer.put(zWaveCommand);
+        }
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the COMMAND_ZIP_PACKET command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -89,6 +90,27 @@ public class CommandClassZwaveplusInfoV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ZWAVEPLUS_INFO_GET command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Z-Wave+ Info Get
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getZwaveplusInfoGet(ByteBuffer buffer) {
+        logger.debug("Creating command message ZWAVEPLUS_INFO_GET version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ZWAVEPLUS_INFO_GET);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ZWAVEPLUS_INFO_GET command.
      * <p>
@@ -182,6 +204,86 @@ public class CommandClassZwaveplusInfoV2 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ZWAVEPLUS_INFO_REPORT command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Z-Wave+ Info Report
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param zWavePlusVersion {@link Integer}
+     * @param roleType {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>ROLE_TYPE_CONTROLLER_CENTRAL_STATIC
+     *            <li>ROLE_TYPE_CONTROLLER_SUB_STATIC
+     *            <li>ROLE_TYPE_CONTROLLER_PORTABLE
+     *            <li>ROLE_TYPE_CONTROLLER_PORTABLE_REPORTING
+     *            <li>ROLE_TYPE_SLAVE_PORTABLE
+     *            <li>ROLE_TYPE_SLAVE_ALWAYS_ON
+     *            <li>ROLE_TYPE_SLAVE_SLEEPING_REPORTING
+     *            <li>ROLE_TYPE_SLAVE_SLEEPING_LISTENING
+     *            </ul>
+     * @param nodeType {@link String}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>NODE_TYPE_ZWAVEPLUS_NODE
+     *            <li>NODE_TYPE_ZWAVEPLUS_FOR_IP_GATEWAY
+     *            </ul>
+     * @param installerIconType {@link Integer}
+     * @param userIconType {@link Integer}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getZwaveplusInfoReport(ByteBuffer buffer, Integer zWavePlusVersion, String roleType,
+            String nodeType, Integer installerIconType, Integer userIconType) {
+        logger.debug("Creating command message ZWAVEPLUS_INFO_REPORT version 2");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ZWAVEPLUS_INFO_REPORT);
+
+        // Process 'Z-Wave+ Version'
+        buffer.put(zWavePlusVersion.byteValue());
+
+        // Process 'Role Type'
+        boolean foundRoleType = false;
+        for (Integer entry : constantZwaveplusInfoReportRoleType.keySet()) {
+            if (constantZwaveplusInfoReportRoleType.get(entry).equals(roleType)) {
+                buffer.put(entry.byteValue());
+                foundRoleType = true;
+                break;
+            }
+        }
+        if (!foundRoleType) {
+            throw new IllegalArgumentException("Unknown constant value '" + roleType + "' for roleType");
+        }
+
+        // Process 'Node Type'
+        boolean foundNodeType = false;
+        for (Integer entry : constantZwaveplusInfoReportNodeType.keySet()) {
+            if (constantZwaveplusInfoReportNodeType.get(entry).equals(nodeType)) {
+                buffer.put(entry.byteValue());
+                foundNodeType = true;
+                break;
+            }
+        }
+        if (!foundNodeType) {
+            throw new IllegalArgumentException("Unknown constant value '" + nodeType + "' for nodeType");
+        }
+
+        // Process 'Installer Icon Type'
+        buffer.put((byte) ((installerIconType >> 8) & 0xff));
+        buffer.put((byte) (installerIconType & 0xff));
+
+        // Process 'User Icon Type'
+        buffer.put((byte) ((userIconType >> 8) & 0xff));
+        buffer.put((byte) (userIconType & 0xff));
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ZWAVEPLUS_INFO_REPORT command.
      * <p>
@@ -9,6 +9,7 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -231,6 +232,27 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ZWAVE_CMD_NOP command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * NOP
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getZwaveCmdNop(ByteBuffer buffer) {
+        logger.debug("Creating command message ZWAVE_CMD_NOP version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ZWAVE_CMD_NOP);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ZWAVE_CMD_NOP command.
      * <p>
@@ -360,6 +382,123 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the NODE_INFO command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Node Info
+     * <p>
+     * SDS10264-2
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @param protocolVersion {@link String}
+     * @param maxBaudRate {@link String}
+     * @param routing {@link Boolean}
+     * @param listening {@link Boolean}
+     * @param security {@link Boolean}
+     *            Can be one of the following -:
+     *            <ul>
+     *            <li>BEAM_CAPABILITY
+     *            <li>SECURITY
+     *            <li>SENSOR_250MS
+     *            <li>CONTROLLER
+     *            <li>SENSOR_1000MS
+     *            <li>SPECIFIC_DEVICE
+     *            <li>ROUTING_SLAVE
+     *            <li>OPTIONAL_FUNCTIONALITY
+     *            </ul>
+     * @param controller {@link Boolean}
+     * @param specificDevice {@link Boolean}
+     * @param routingSlave {@link Boolean}
+     * @param beamCapability {@link Boolean}
+     * @param sensor250ms {@link Boolean}
+     * @param sensor1000ms {@link Boolean}
+     * @param optionalFunctionality {@link Boolean}
+     * @param speedExtension {@link String}
+     * @return the number of bytes written to the buffer
+     */
+    static public int getNodeInfo(ByteBuffer buffer, String protocolVersion, String maxBaudRate, Boolean routing,
+            Boolean listening, Boolean security, Boolean controller, Boolean specificDevice, Boolean routingSlave,
+            Boolean beamCapability, Boolean sensor250ms, Boolean sensor1000ms, Boolean optionalFunctionality,
+            String speedExtension) {
+        logger.debug("Creating command message NODE_INFO version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) NODE_INFO);
+
+        // Process 'Capability'
+        int valCapability = 0;
+        int valprotocolVersion;
+        switch (protocolVersion) {
+            case "Z_WAVE_VERSION_2_0":
+                valprotocolVersion = 1;
+                break;
+            case "Z_WAVE_VERSION_ZDK_5_0X_ZDK_4_2X":
+                valprotocolVersion = 2;
+                break;
+            case "Z_WAVE_VERSION_ZDK_4_5X_AND_ZDK_6_0X":
+                valprotocolVersion = 3;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for protocolVersion: " + protocolVersion);
+        }
+        valCapability |= valprotocolVersion & 0x07;
+        int valmaxBaudRate;
+        switch (maxBaudRate) {
+            case "9_6_KBPS":
+                valmaxBaudRate = 1;
+                break;
+            case "40_KBPS":
+                valmaxBaudRate = 2;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for maxBaudRate: " + maxBaudRate);
+        }
+        valCapability |= valmaxBaudRate >> 3 & 0x38;
+        valCapability |= routing ? 0x40 : 0;
+        valCapability |= listening ? 0x80 : 0;
+        buffer.put((byte) valCapability);
+
+        // Process 'Security'
+        int valSecurity = 0;
+        valSecurity |= security ? 0x01 : 0;
+        valSecurity |= controller ? 0x02 : 0;
+        valSecurity |= specificDevice ? 0x04 : 0;
+        valSecurity |= routingSlave ? 0x08 : 0;
+        valSecurity |= beamCapability ? 0x10 : 0;
+        valSecurity |= sensor250ms ? 0x20 : 0;
+        valSecurity |= sensor1000ms ? 0x40 : 0;
+        valSecurity |= optionalFunctionality ? 0x80 : 0;
+        buffer.put((byte) valSecurity);
+
+        // Process 'Properties1'
+        int valspeedExtension;
+        switch (speedExtension) {
+            case "100_KBPS":
+                valspeedExtension = 1;
+                break;
+            case "200_KBPS":
+                valspeedExtension = 2;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enum value for speedExtension: " + speedExtension);
+        }
+        buffer.put((byte) (valspeedExtension & 0x07));
+
+        // Process 'Basic Device Class'
+
+        // Process 'Generic Device Class'
+
+        // Process 'Specific Device Class'
+
+        // Process 'Command Classes'
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the NODE_INFO command.
      * <p>
@@ -475,6 +614,29 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the REQUEST_NODE_INFO command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Request Node Info
+     * <p>
+     * SDS10264-2
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getRequestNodeInfo(ByteBuffer buffer) {
+        logger.debug("Creating command message REQUEST_NODE_INFO version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) REQUEST_NODE_INFO);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the REQUEST_NODE_INFO command.
      * <p>
@@ -513,6 +675,29 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ASSIGN_ID command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Assign Id
+     * <p>
+     * SDS10264-2
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAssignId(ByteBuffer buffer) {
+        logger.debug("Creating command message ASSIGN_ID version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ASSIGN_ID);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ASSIGN_ID command.
      * <p>
@@ -551,6 +736,29 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the FIND_NODES_IN_RANGE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Find Nodes In Range
+     * <p>
+     * SDS10264-2
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getFindNodesInRange(ByteBuffer buffer) {
+        logger.debug("Creating command message FIND_NODES_IN_RANGE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) FIND_NODES_IN_RANGE);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the FIND_NODES_IN_RANGE command.
      * <p>
@@ -589,6 +797,29 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the GET_NODES_IN_RANGE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Get Nodes In Range
+     * <p>
+     * SDS10264-2
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getGetNodesInRange(ByteBuffer buffer) {
+        logger.debug("Creating command message GET_NODES_IN_RANGE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) GET_NODES_IN_RANGE);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the GET_NODES_IN_RANGE command.
      * <p>
@@ -627,6 +858,29 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the NODE_RANGE_INFO command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Node Range Info
+     * <p>
+     * SDS10264-2
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getNodeRangeInfo(ByteBuffer buffer) {
+        logger.debug("Creating command message NODE_RANGE_INFO version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) NODE_RANGE_INFO);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the NODE_RANGE_INFO command.
      * <p>
@@ -665,6 +919,29 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the COMMAND_COMPLETE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Command Complete
+     * <p>
+     * SDS10264-2
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCommandComplete(ByteBuffer buffer) {
+        logger.debug("Creating command message COMMAND_COMPLETE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) COMMAND_COMPLETE);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the COMMAND_COMPLETE command.
      * <p>
@@ -703,6 +980,29 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the TRANSFER_PRESENTATION command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Transfer Presentation
+     * <p>
+     * SDS10264-2
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getTransferPresentation(ByteBuffer buffer) {
+        logger.debug("Creating command message TRANSFER_PRESENTATION version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) TRANSFER_PRESENTATION);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the TRANSFER_PRESENTATION command.
      * <p>
@@ -741,6 +1041,29 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the TRANSFER_NODE_INFO command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Transfer Node Info
+     * <p>
+     * SDS10264-2
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getTransferNodeInfo(ByteBuffer buffer) {
+        logger.debug("Creating command message TRANSFER_NODE_INFO version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) TRANSFER_NODE_INFO);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the TRANSFER_NODE_INFO command.
      * <p>
@@ -779,6 +1102,29 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the TRANSFER_RANGE_INFO command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Transfer Range Info
+     * <p>
+     * SDS10264-2
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getTransferRangeInfo(ByteBuffer buffer) {
+        logger.debug("Creating command message TRANSFER_RANGE_INFO version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) TRANSFER_RANGE_INFO);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the TRANSFER_RANGE_INFO command.
      * <p>
@@ -817,6 +1163,29 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the TRANSFER_END command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Transfer End
+     * <p>
+     * SDS10264-2
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getTransferEnd(ByteBuffer buffer) {
+        logger.debug("Creating command message TRANSFER_END version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) TRANSFER_END);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the TRANSFER_END command.
      * <p>
@@ -855,6 +1224,29 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ASSIGN_RETURN_ROUTE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Assign Return Route
+     * <p>
+     * SDS10264-2
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAssignReturnRoute(ByteBuffer buffer) {
+        logger.debug("Creating command message ASSIGN_RETURN_ROUTE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ASSIGN_RETURN_ROUTE);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ASSIGN_RETURN_ROUTE command.
      * <p>
@@ -893,6 +1285,29 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the NEW_NODE_REGISTERED command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * New Node Registered
+     * <p>
+     * SDS10264-2
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getNewNodeRegistered(ByteBuffer buffer) {
+        logger.debug("Creating command message NEW_NODE_REGISTERED version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) NEW_NODE_REGISTERED);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the NEW_NODE_REGISTERED command.
      * <p>
@@ -931,6 +1346,29 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the NEW_RANGE_REGISTERED command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * New Range Registered
+     * <p>
+     * SDS10264-2
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getNewRangeRegistered(ByteBuffer buffer) {
+        logger.debug("Creating command message NEW_RANGE_REGISTERED version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) NEW_RANGE_REGISTERED);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the NEW_RANGE_REGISTERED command.
      * <p>
@@ -969,6 +1407,29 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the TRANSFER_NEW_PRIMARY_COMPLETE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Transfer New Primary Complete
+     * <p>
+     * SDS10264-2
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getTransferNewPrimaryComplete(ByteBuffer buffer) {
+        logger.debug("Creating command message TRANSFER_NEW_PRIMARY_COMPLETE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) TRANSFER_NEW_PRIMARY_COMPLETE);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the TRANSFER_NEW_PRIMARY_COMPLETE command.
      * <p>
@@ -1005,6 +1466,27 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CMD_AUTOMATIC_CONTROLLER_UPDATE_START command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Automatic Controller Update Start
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCmdAutomaticControllerUpdateStart(ByteBuffer buffer) {
+        logger.debug("Creating command message CMD_AUTOMATIC_CONTROLLER_UPDATE_START version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CMD_AUTOMATIC_CONTROLLER_UPDATE_START);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CMD_AUTOMATIC_CONTROLLER_UPDATE_START command.
      * <p>
@@ -1039,6 +1521,27 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CMD_SUC_NODE_ID command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * SUC Node ID
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCmdSucNodeId(ByteBuffer buffer) {
+        logger.debug("Creating command message CMD_SUC_NODE_ID version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CMD_SUC_NODE_ID);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CMD_SUC_NODE_ID command.
      * <p>
@@ -1073,6 +1576,27 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CMD_SET_SUC command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Set SUC
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCmdSetSuc(ByteBuffer buffer) {
+        logger.debug("Creating command message CMD_SET_SUC version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CMD_SET_SUC);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CMD_SET_SUC command.
      * <p>
@@ -1107,6 +1631,27 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CMD_SET_SUC_ACK command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Set SUC ACK
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCmdSetSucAck(ByteBuffer buffer) {
+        logger.debug("Creating command message CMD_SET_SUC_ACK version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CMD_SET_SUC_ACK);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CMD_SET_SUC_ACK command.
      * <p>
@@ -1141,6 +1686,27 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CMD_ASSIGN_SUC_RETURN_ROUTE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Assign SUC Return Route
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCmdAssignSucReturnRoute(ByteBuffer buffer) {
+        logger.debug("Creating command message CMD_ASSIGN_SUC_RETURN_ROUTE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CMD_ASSIGN_SUC_RETURN_ROUTE);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CMD_ASSIGN_SUC_RETURN_ROUTE command.
      * <p>
@@ -1175,6 +1741,27 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CMD_STATIC_ROUTE_REQUEST command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Static Route Request
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCmdStaticRouteRequest(ByteBuffer buffer) {
+        logger.debug("Creating command message CMD_STATIC_ROUTE_REQUEST version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CMD_STATIC_ROUTE_REQUEST);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CMD_STATIC_ROUTE_REQUEST command.
      * <p>
@@ -1211,6 +1798,29 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the LOST command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Lost
+     * <p>
+     * SDS10264-2
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getLost(ByteBuffer buffer) {
+        logger.debug("Creating command message LOST version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) LOST);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the LOST command.
      * <p>
@@ -1249,6 +1859,29 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ACCEPT_LOST command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Accept Lost
+     * <p>
+     * SDS10264-2
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAcceptLost(ByteBuffer buffer) {
+        logger.debug("Creating command message ACCEPT_LOST version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ACCEPT_LOST);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ACCEPT_LOST command.
      * <p>
@@ -1285,6 +1918,27 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CMD_NOP_POWER command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * NOP Power
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCmdNopPower(ByteBuffer buffer) {
+        logger.debug("Creating command message CMD_NOP_POWER version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CMD_NOP_POWER);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CMD_NOP_POWER command.
      * <p>
@@ -1319,6 +1973,27 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ZWAVE_CMD_RESERVE_NODE_IDS command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Reserve Node ID
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getZwaveCmdReserveNodeIds(ByteBuffer buffer) {
+        logger.debug("Creating command message ZWAVE_CMD_RESERVE_NODE_IDS version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ZWAVE_CMD_RESERVE_NODE_IDS);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ZWAVE_CMD_RESERVE_NODE_IDS command.
      * <p>
@@ -1353,6 +2028,27 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CMD_RESERVED_IDS command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Reserved ID
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCmdReservedIds(ByteBuffer buffer) {
+        logger.debug("Creating command message CMD_RESERVED_IDS version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CMD_RESERVED_IDS);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CMD_RESERVED_IDS command.
      * <p>
@@ -1387,6 +2083,27 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CMD_NODES_EXIST command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Cmd Nodes Exist
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCmdNodesExist(ByteBuffer buffer) {
+        logger.debug("Creating command message CMD_NODES_EXIST version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CMD_NODES_EXIST);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CMD_NODES_EXIST command.
      * <p>
@@ -1421,6 +2138,27 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CMD_NODES_EXIST_REPLY command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Cmd Nodes Exist Reply
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCmdNodesExistReply(ByteBuffer buffer) {
+        logger.debug("Creating command message CMD_NODES_EXIST_REPLY version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CMD_NODES_EXIST_REPLY);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CMD_NODES_EXIST_REPLY command.
      * <p>
@@ -1455,6 +2193,27 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the CMD_SET_NWI_MODE command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Cmd Set Nwi Mode
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getCmdSetNwiMode(ByteBuffer buffer) {
+        logger.debug("Creating command message CMD_SET_NWI_MODE version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) CMD_SET_NWI_MODE);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the CMD_SET_NWI_MODE command.
      * <p>
@@ -1491,6 +2250,29 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the EXCLUDE_REQUEST command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Exclude Request
+     * <p>
+     * INS13044
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getExcludeRequest(ByteBuffer buffer) {
+        logger.debug("Creating command message EXCLUDE_REQUEST version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) EXCLUDE_REQUEST);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the EXCLUDE_REQUEST command.
      * <p>
@@ -1527,6 +2309,27 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ASSIGN_RETURN_ROUTE_PRIORITY command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Assign Return Route Priority
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAssignReturnRoutePriority(ByteBuffer buffer) {
+        logger.debug("Creating command message ASSIGN_RETURN_ROUTE_PRIORITY version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ASSIGN_RETURN_ROUTE_PRIORITY);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ASSIGN_RETURN_ROUTE_PRIORITY command.
      * <p>
@@ -1561,6 +2364,27 @@ public class ZwaveCmdClassV1 {
         return outputData.toByteArray();
     }
 
+    /**
+     * Writes a new message with the ASSIGN_SUC_RETURN_ROUTE_PRIORITY command.
+     * <p>
+     * The message is written to the buffer at its current position and the position is advanced past the
+     * message, so it can be encoded directly into a frame buffer without further copies.
+     * <p>
+     * Assign SUC Return Route Priority
+     *
+     * @param buffer the {@link ByteBuffer} to write the message to
+     * @return the number of bytes written to the buffer
+     */
+    static public int getAssignSucReturnRoutePriority(ByteBuffer buffer) {
+        logger.debug("Creating command message ASSIGN_SUC_RETURN_ROUTE_PRIORITY version 1");
+
+        int start = buffer.position();
+        buffer.put((byte) COMMAND_CLASS_KEY);
+        buffer.put((byte) ASSIGN_SUC_RETURN_ROUTE_PRIORITY);
+
+        return buffer.position() - start;
+    }
+
     /**
      * Processes a received frame with the ASSIGN_SUC_RETURN_ROUTE_PRIORITY command.
      * <p>
@@ -1,9 +1,5 @@
 package com.zsmartsystems.zwave.security;
 
-import java.security.GeneralSecurityException;
-import java.security.SecureRandom;
-import java.util.concurrent.TimeUnit;
-
 /**
  * Class to represent a one-use token.
  * This class holds the number, and timeout for the NONCE.
@@ -12,32 +8,15 @@ import java.util.concurrent.TimeUnit;
  *
  */
 public class ZWaveNonce {
-    private final long RESEED_INTERVAL = TimeUnit.HOURS.toMillis(6);
     private final long timeout = 12000000000L;
     private byte[] nonceBytes;
     private long timer;
 
-    private static SecureRandom secureRandom = null;
-    private static long reseedAt = 0;
-
+    /**
+     * Creates a new random nonce, taking the value from the shared {@link ZWaveNoncePool}
+     */
     public ZWaveNonce() {
-        if (System.currentTimeMillis() > reseedAt) {
-            try {
-                secureRandom = SecureRandom.getInstance("SHA1PRNG", "SUN");
-            } catch (GeneralSecurityException e) {
-                secureRandom = new SecureRandom();
-            }
-
-            secureRandom.nextBoolean();
-            secureRandom.setSeed(System.nanoTime());
-
-            reseedAt = System.currentTimeMillis() + RESEED_INTERVAL;
-        }
-        nonceBytes = new byte[8];
-        secureRandom.nextBytes(nonceBytes);
-
-        // Start the timer
-        this.timer = System.nanoTime();
+        this(ZWaveNoncePool.getDefault().getNonceBytes());
     }
 
     public ZWaveNonce(byte[] nonceBytes) {
@@ -60,6 +39,10 @@ public class ZWaveNonce {
         return nonceBytes[0];
     }
 
+    long getCreationTime() {
+        return timer;
+    }
+
     public void setNonceBytes(byte[] nonceBytes) {
         this.nonceBytes = nonceBytes;
     }
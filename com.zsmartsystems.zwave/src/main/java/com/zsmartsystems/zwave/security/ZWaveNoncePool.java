@@ -0,0 +1,175 @@
+package com.zsmartsystems.zwave.security;
+
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bounded pool of pre-generated random values used as security nonces.
+ * <p>
+ * Generating secure random data - and particularly reseeding the generator - is too slow to do on the receive path
+ * when a node requests a nonce, as the node only waits a short time for the reply. The pool is filled by a background
+ * thread which also periodically reseeds the {@link SecureRandom}, so taking a nonce is normally just a read from the
+ * pool. If the pool is ever empty the value is generated inline.
+ * <p>
+ * The background thread is a daemon thread that is started when the first value is taken.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZWaveNoncePool {
+    private static final Logger logger = LoggerFactory.getLogger(ZWaveNoncePool.class);
+
+    /**
+     * The default number of values held in the pool
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private static final long RESEED_INTERVAL = TimeUnit.HOURS.toMillis(6);
+
+    private static final ZWaveNoncePool defaultPool = new ZWaveNoncePool(DEFAULT_CAPACITY);
+
+    private final long[] pool;
+    private int head = 0;
+    private int count = 0;
+
+    private volatile SecureRandom secureRandom;
+    private long reseedAt = 0;
+
+    private Thread generatorThread;
+
+    /**
+     * Creates a nonce pool
+     *
+     * @param capacity the number of values to hold in the pool
+     */
+    public ZWaveNoncePool(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("Pool capacity must be at least 2");
+        }
+        pool = new long[capacity];
+        secureRandom = createSecureRandom();
+        reseedAt = System.currentTimeMillis() + RESEED_INTERVAL;
+    }
+
+    /**
+     * Gets the pool shared by all nodes
+     *
+     * @return the default {@link ZWaveNoncePool}
+     */
+    public static ZWaveNoncePool getDefault() {
+        return defaultPool;
+    }
+
+    /**
+     * Takes a random value from the pool
+     *
+     * @return a random 64 bit value
+     */
+    public long nextNonce() {
+        synchronized (pool) {
+            if (generatorThread == null) {
+                generatorThread = new Thread(new Generator(), "ZWaveNonceGenerator");
+                generatorThread.setDaemon(true);
+                generatorThread.start();
+            }
+
+            if (count > 0) {
+                long nonce = pool[head];
+                head = (head + 1) % pool.length;
+                count--;
+                if (count <= pool.length / 2) {
+                    pool.notify();
+                }
+                return nonce;
+            }
+
+            pool.notify();
+        }
+
+        // The pool is empty - fall back to generating the value here
+        logger.debug("Nonce pool is empty");
+        return secureRandom.nextLong();
+    }
+
+    /**
+     * Takes a random value from the pool
+     *
+     * @return 8 random bytes
+     */
+    public byte[] getNonceBytes() {
+        long nonce = nextNonce();
+        byte[] nonceBytes = new byte[8];
+        for (int cnt = 7; cnt >= 0; cnt--) {
+            nonceBytes[cnt] = (byte) nonce;
+            nonce >>= 8;
+        }
+        return nonceBytes;
+    }
+
+    /**
+     * Gets the number of values currently held in the pool
+     *
+     * @return the number of pre-generated values
+     */
+    public int size() {
+        synchronized (pool) {
+            return count;
+        }
+    }
+
+    private static SecureRandom createSecureRandom() {
+        SecureRandom random;
+        try {
+            random = SecureRandom.getInstance("SHA1PRNG", "SUN");
+        } catch (GeneralSecurityException e) {
+            random = new SecureRandom();
+        }
+
+        random.nextBoolean();
+        random.setSeed(System.nanoTime());
+        return random;
+    }
+
+    private class Generator implements Runnable {
+        @Override
+        public void run() {
+            while (true) {
+                int required;
+                synchronized (pool) {
+                    while (count > pool.length / 2 && System.currentTimeMillis() < reseedAt) {
+                        try {
+                            pool.wait(RESEED_INTERVAL);
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                    }
+                    required = pool.length - count;
+                }
+
+                if (System.currentTimeMillis() >= reseedAt) {
+                    logger.debug("Reseeding nonce generator");
+                    secureRandom = createSecureRandom();
+                    reseedAt = System.currentTimeMillis() + RESEED_INTERVAL;
+                }
+
+                // Generate outside the lock so that values can still be taken while we fill the pool
+                SecureRandom random = secureRandom;
+                long[] values = new long[required];
+                for (int cnt = 0; cnt < required; cnt++) {
+                    values[cnt] = random.nextLong();
+                }
+
+                synchronized (pool) {
+                    for (int cnt = 0; cnt < required && count < pool.length; cnt++) {
+                        pool[(head + count) % pool.length] = values[cnt];
+                        count++;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.zsmartsystems.zwave.security;
+
+/**
+ * Tracks the nonces we have sent to a node that are still waiting to be used.
+ * <p>
+ * The first byte of a nonce is its identifier, which the node returns in the clear with the encapsulated frame. The
+ * table is indexed by identifier, so the nonce for a received frame is found with a single lookup. A new nonce never
+ * reuses the identifier of a nonce that is still outstanding. Up to {@link #MAX_OUTSTANDING} nonces are kept - once
+ * the table is full expired nonces are discarded, and then the oldest.
+ * <p>
+ * New nonces are taken from a {@link ZWaveNoncePool} so that a NONCE_GET can be answered without generating random
+ * data on the receive path.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZWaveNonceTable {
+    /**
+     * The maximum number of outstanding nonces for a node
+     */
+    public static final int MAX_OUTSTANDING = 128;
+
+    private final ZWaveNoncePool pool;
+    private final ZWaveNonce[] nonces = new ZWaveNonce[256];
+    private int count = 0;
+
+    /**
+     * Creates a nonce table using the default {@link ZWaveNoncePool}
+     */
+    public ZWaveNonceTable() {
+        this(ZWaveNoncePool.getDefault());
+    }
+
+    /**
+     * Creates a nonce table
+     *
+     * @param pool the {@link ZWaveNoncePool} to take nonce values from
+     */
+    public ZWaveNonceTable(ZWaveNoncePool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Creates a new nonce and records it as outstanding
+     *
+     * @return the new {@link ZWaveNonce}
+     */
+    public synchronized ZWaveNonce createNonce() {
+        if (count >= MAX_OUTSTANDING) {
+            removeExpired();
+        }
+        if (count >= MAX_OUTSTANDING) {
+            removeOldest();
+        }
+
+        // At most half the identifiers are in use, so this normally needs no more than a couple of attempts
+        while (true) {
+            byte[] nonceBytes = pool.getNonceBytes();
+            int id = nonceBytes[0] & 0xff;
+            ZWaveNonce current = nonces[id];
+            if (current != null && current.isValid()) {
+                continue;
+            }
+
+            ZWaveNonce nonce = new ZWaveNonce(nonceBytes);
+            if (current == null) {
+                count++;
+            }
+            nonces[id] = nonce;
+            return nonce;
+        }
+    }
+
+    /**
+     * Gets the nonce with the given identifier and removes it from the table, as a nonce may only be used once
+     *
+     * @param id the nonce identifier
+     * @return the {@link ZWaveNonce} or null if there is no valid nonce with this identifier
+     */
+    public synchronized ZWaveNonce useNonce(int id) {
+        ZWaveNonce nonce = nonces[id & 0xff];
+        if (nonce == null) {
+            return null;
+        }
+
+        nonces[id & 0xff] = null;
+        count--;
+        return nonce.isValid() ? nonce : null;
+    }
+
+    /**
+     * Gets the nonce with the given identifier without removing it. This is used to authenticate a frame before the
+     * nonce is used, so that a corrupted or forged frame doesn't discard the nonce the node is about to use.
+     *
+     * @param id the nonce identifier
+     * @return the {@link ZWaveNonce} or null if there is no valid nonce with this identifier
+     */
+    public synchronized ZWaveNonce getNonce(int id) {
+        ZWaveNonce nonce = nonces[id & 0xff];
+        return nonce != null && nonce.isValid() ? nonce : null;
+    }
+
+    /**
+     * Removes a nonce once a frame using it has been authenticated, as a nonce may only be used once
+     *
+     * @param nonce the {@link ZWaveNonce} returned by {@link #getNonce(int)}
+     * @return true if the nonce was removed, or false if it has already been used or discarded
+     */
+    public synchronized boolean removeNonce(ZWaveNonce nonce) {
+        int id = nonce.getId() & 0xff;
+        if (nonces[id] != nonce) {
+            return false;
+        }
+
+        nonces[id] = null;
+        count--;
+        return true;
+    }
+
+    /**
+     * Gets the number of nonces held in the table. This may include nonces that have expired but not yet been removed.
+     *
+     * @return the number of outstanding nonces
+     */
+    public synchronized int size() {
+        return count;
+    }
+
+    private void removeExpired() {
+        for (int id = 0; id < nonces.length; id++) {
+            if (nonces[id] != null && !nonces[id].isValid()) {
+                nonces[id] = null;
+                count--;
+            }
+        }
+    }
+
+    private void removeOldest() {
+        int oldest = -1;
+        for (int id = 0; id < nonces.length; id++) {
+            if (nonces[id] != null && (oldest == -1
+                    || nonces[id].getCreationTime() - nonces[oldest].getCreationTime() < 0)) {
+                oldest = id;
+            }
+        }
+        if (oldest != -1) {
+            nonces[oldest] = null;
+            count--;
+        }
+    }
+}
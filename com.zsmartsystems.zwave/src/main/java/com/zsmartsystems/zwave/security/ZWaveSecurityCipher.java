@@ -0,0 +1,146 @@
+package com.zsmartsystems.zwave.security;
+
+import java.security.GeneralSecurityException;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+
+/**
+ * Holds the keyed AES contexts used to encrypt, decrypt and authenticate S0 security encapsulated frames for one
+ * direction of communication with a node.
+ * <p>
+ * The ciphers are created and keyed once when the network key is set up. OFB and the CBC-MAC are both built on the
+ * single block AES operation, so processing a frame needs no provider lookup, no cipher initialisation and no
+ * allocation - the working blocks are held by this class. Methods are synchronized so that a context may be shared
+ * between threads.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZWaveSecurityCipher {
+    private static final int BLOCK_SIZE = 16;
+
+    private final Cipher encryptionCipher;
+    private final Cipher authenticationCipher;
+
+    private final byte[] keystream = new byte[BLOCK_SIZE];
+    private final byte[] state = new byte[BLOCK_SIZE];
+    private final byte[] output = new byte[BLOCK_SIZE];
+
+    /**
+     * Creates the cipher contexts for a pair of derived keys
+     *
+     * @param encryptionKey the {@link SecretKey} used to encrypt the frame
+     * @param authenticationKey the {@link SecretKey} used to generate the message authentication code
+     * @throws GeneralSecurityException if AES is not available
+     */
+    public ZWaveSecurityCipher(SecretKey encryptionKey, SecretKey authenticationKey) throws GeneralSecurityException {
+        encryptionCipher = Cipher.getInstance("AES/ECB/NoPadding");
+        encryptionCipher.init(Cipher.ENCRYPT_MODE, encryptionKey);
+        authenticationCipher = Cipher.getInstance("AES/ECB/NoPadding");
+        authenticationCipher.init(Cipher.ENCRYPT_MODE, authenticationKey);
+    }
+
+    /**
+     * Encrypts or decrypts data in place using AES in OFB mode. OFB is symmetric, so the same operation is used in both
+     * directions.
+     *
+     * @param iv the 16 byte initialisation vector
+     * @param data the buffer holding the data
+     * @param offset the offset of the data within the buffer
+     * @param length the number of bytes to process
+     * @throws GeneralSecurityException
+     */
+    public synchronized void crypt(byte[] iv, byte[] data, int offset, int length) throws GeneralSecurityException {
+        System.arraycopy(iv, 0, keystream, 0, BLOCK_SIZE);
+        for (int cnt = 0; cnt < length; cnt++) {
+            int position = cnt % BLOCK_SIZE;
+            if (position == 0) {
+                encryptBlock(encryptionCipher, keystream);
+            }
+            data[offset + cnt] ^= keystream[position];
+        }
+    }
+
+    /**
+     * Generates the 8 byte MAC (Message Authentication Code) for an encrypted frame. The MAC is the AES CBC-MAC of a 4
+     * byte header - the command, the sending and receiving nodes and the data length - followed by the encrypted data,
+     * using the encrypted initialisation vector as the first block.
+     *
+     * @param iv the 16 byte initialisation vector
+     * @param command the security command
+     * @param sendingNode the node sending the frame
+     * @param receivingNode the node receiving the frame
+     * @param data the buffer holding the encrypted data
+     * @param offset the offset of the encrypted data within the buffer
+     * @param length the length of the encrypted data
+     * @param mac the buffer to write the MAC to
+     * @param macOffset the offset to write the MAC to
+     * @throws GeneralSecurityException
+     */
+    public synchronized void generateMac(byte[] iv, byte command, byte sendingNode, byte receivingNode, byte[] data,
+            int offset, int length, byte[] mac, int macOffset) throws GeneralSecurityException {
+        calculateMac(iv, command, sendingNode, receivingNode, data, offset, length);
+        System.arraycopy(state, 0, mac, macOffset, 8);
+    }
+
+    /**
+     * Checks the 8 byte MAC (Message Authentication Code) received with an encrypted frame
+     *
+     * @param iv the 16 byte initialisation vector
+     * @param command the security command
+     * @param sendingNode the node sending the frame
+     * @param receivingNode the node receiving the frame
+     * @param data the buffer holding the encrypted data
+     * @param offset the offset of the encrypted data within the buffer
+     * @param length the length of the encrypted data
+     * @param mac the buffer holding the received MAC
+     * @param macOffset the offset of the received MAC
+     * @return true if the MAC is correct
+     * @throws GeneralSecurityException
+     */
+    public synchronized boolean checkMac(byte[] iv, byte command, byte sendingNode, byte receivingNode, byte[] data,
+            int offset, int length, byte[] mac, int macOffset) throws GeneralSecurityException {
+        calculateMac(iv, command, sendingNode, receivingNode, data, offset, length);
+
+        // Compare all bytes so the time taken doesn't depend on where the first difference is
+        int difference = 0;
+        for (int cnt = 0; cnt < 8; cnt++) {
+            difference |= state[cnt] ^ mac[macOffset + cnt];
+        }
+        return difference == 0;
+    }
+
+    private void calculateMac(byte[] iv, byte command, byte sendingNode, byte receivingNode, byte[] data, int offset,
+            int length) throws GeneralSecurityException {
+        // Encrypt the IV
+        System.arraycopy(iv, 0, state, 0, BLOCK_SIZE);
+        encryptBlock(authenticationCipher, state);
+
+        // XOR the header into the first block
+        state[0] ^= command;
+        state[1] ^= sendingNode;
+        state[2] ^= receivingNode;
+        state[3] ^= (byte) length;
+
+        // Then the data, encrypting at each block boundary
+        int position = 4;
+        for (int cnt = 0; cnt < length; cnt++) {
+            state[position++] ^= data[offset + cnt];
+            if (position == BLOCK_SIZE) {
+                encryptBlock(authenticationCipher, state);
+                position = 0;
+            }
+        }
+
+        // Any partial block is padded with zeros - which leaves the state unchanged - and encrypted
+        if (position > 0) {
+            encryptBlock(authenticationCipher, state);
+        }
+    }
+
+    private void encryptBlock(Cipher cipher, byte[] block) throws GeneralSecurityException {
+        cipher.doFinal(block, 0, BLOCK_SIZE, output, 0);
+        System.arraycopy(output, 0, block, 0, BLOCK_SIZE);
+    }
+}
@@ -0,0 +1,101 @@
+package com.zsmartsystems.zwave.timer;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * Handle for a task scheduled with the {@link ZWaveTimer}. The handle can be used to cancel the task before it runs.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZWaveTimeout {
+    private static final int STATE_WAITING = 0;
+    private static final int STATE_CANCELLED = 1;
+    private static final int STATE_EXPIRED = 2;
+
+    private static final AtomicIntegerFieldUpdater<ZWaveTimeout> stateUpdater = AtomicIntegerFieldUpdater
+            .newUpdater(ZWaveTimeout.class, "state");
+
+    private final ZWaveTimer timer;
+    private final Runnable task;
+    private final long deadline;
+
+    private volatile int state = STATE_WAITING;
+
+    /**
+     * The number of full rotations of the wheel remaining before this timeout expires. Only accessed by the timer
+     * thread.
+     */
+    long remainingRounds;
+
+    /**
+     * Links within the wheel bucket. Only accessed by the timer thread.
+     */
+    ZWaveTimeout next;
+    ZWaveTimeout previous;
+    ZWaveTimer.Bucket bucket;
+
+    ZWaveTimeout(ZWaveTimer timer, Runnable task, long deadline) {
+        this.timer = timer;
+        this.task = task;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Cancels the timeout. The task will not be run if it has not already started.
+     *
+     * @return true if the timeout was cancelled, false if it had already expired or been cancelled
+     */
+    public boolean cancel() {
+        if (!stateUpdater.compareAndSet(this, STATE_WAITING, STATE_CANCELLED)) {
+            return false;
+        }
+        timer.cancelled(this);
+        return true;
+    }
+
+    /**
+     * Returns true if the timeout has been cancelled
+     *
+     * @return true if cancelled
+     */
+    public boolean isCancelled() {
+        return state == STATE_CANCELLED;
+    }
+
+    /**
+     * Returns true if the timeout has expired and the task has been run
+     *
+     * @return true if expired
+     */
+    public boolean isExpired() {
+        return state == STATE_EXPIRED;
+    }
+
+    /**
+     * Gets the deadline for this timeout, in {@link System#nanoTime()} units
+     *
+     * @return the deadline in nanoseconds
+     */
+    public long getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * Gets the task that will be run when this timeout expires
+     *
+     * @return the {@link Runnable} task
+     */
+    public Runnable getTask() {
+        return task;
+    }
+
+    /**
+     * Marks the timeout as expired.
+     *
+     * @return true if the task should be run, false if the timeout was cancelled
+     */
+    boolean expire() {
+        return stateUpdater.compareAndSet(this, STATE_WAITING, STATE_EXPIRED);
+    }
+}
@@ -0,0 +1,291 @@
+package com.zsmartsystems.zwave.timer;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A hashed wheel timer shared by all timeouts in the network - transaction timeouts, retries and the wakeup timers for
+ * battery devices.
+ * <p>
+ * Timeouts are placed in a bucket of the wheel based on their deadline, and a single thread advances through the
+ * wheel one tick at a time running the tasks that have expired. Scheduling and cancelling a timeout are both O(1)
+ * and may be called from any thread. Deadlines are based on {@link System#nanoTime()} so they are not affected by
+ * changes to the system clock.
+ * <p>
+ * Tasks are run on the timer thread and must not block. The timer thread is only started when the first timeout is
+ * scheduled, and parks while there are no timeouts outstanding.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZWaveTimer {
+    private static final Logger logger = LoggerFactory.getLogger(ZWaveTimer.class);
+
+    private static final long DEFAULT_TICK_DURATION = 10;
+    private static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private final long tickDuration;
+    private final Bucket[] wheel;
+    private final int mask;
+
+    private final ConcurrentLinkedQueue<ZWaveTimeout> pendingTimeouts = new ConcurrentLinkedQueue<ZWaveTimeout>();
+    private final ConcurrentLinkedQueue<ZWaveTimeout> cancelledTimeouts = new ConcurrentLinkedQueue<ZWaveTimeout>();
+
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final Thread workerThread;
+    private volatile boolean running = true;
+    private volatile boolean idle = false;
+
+    /**
+     * Worker thread state
+     */
+    private long startTime;
+    private long tick;
+    private int activeTimeouts;
+
+    /**
+     * A bucket in the wheel holding a doubly linked list of timeouts. Only accessed by the timer thread.
+     */
+    static class Bucket {
+        private ZWaveTimeout head;
+        private ZWaveTimeout tail;
+
+        private void add(ZWaveTimeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = timeout;
+                tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.previous = tail;
+                tail = timeout;
+            }
+        }
+
+        private ZWaveTimeout remove(ZWaveTimeout timeout) {
+            ZWaveTimeout next = timeout.next;
+            if (timeout.previous != null) {
+                timeout.previous.next = next;
+            }
+            if (timeout.next != null) {
+                timeout.next.previous = timeout.previous;
+            }
+
+            if (timeout == head) {
+                if (timeout == tail) {
+                    tail = null;
+                    head = null;
+                } else {
+                    head = next;
+                }
+            } else if (timeout == tail) {
+                tail = timeout.previous;
+            }
+
+            timeout.previous = null;
+            timeout.next = null;
+            timeout.bucket = null;
+            return next;
+        }
+    }
+
+    /**
+     * Creates a timer with a 10ms tick and a wheel of 512 buckets
+     */
+    public ZWaveTimer() {
+        this(DEFAULT_TICK_DURATION, TimeUnit.MILLISECONDS, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * Creates a timer
+     *
+     * @param tickDuration the duration of each tick - this defines the resolution of the timer
+     * @param unit the {@link TimeUnit} of the tick duration
+     * @param wheelSize the number of buckets in the wheel. This is rounded up to a power of two.
+     */
+    public ZWaveTimer(long tickDuration, TimeUnit unit, int wheelSize) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("Tick duration must be greater than 0");
+        }
+        if (wheelSize <= 0 || wheelSize > (1 << 30)) {
+            throw new IllegalArgumentException("Wheel size must be between 1 and 2^30");
+        }
+
+        this.tickDuration = unit.toNanos(tickDuration);
+
+        int size = 1;
+        while (size < wheelSize) {
+            size <<= 1;
+        }
+        wheel = new Bucket[size];
+        for (int cnt = 0; cnt < size; cnt++) {
+            wheel[cnt] = new Bucket();
+        }
+        mask = size - 1;
+
+        workerThread = new Thread(new Worker(), "ZWaveTimer");
+        workerThread.setDaemon(true);
+    }
+
+    /**
+     * Schedules a task to run once after the specified delay
+     *
+     * @param task the {@link Runnable} to run
+     * @param delay the delay before the task is run
+     * @param unit the {@link TimeUnit} of the delay
+     * @return the {@link ZWaveTimeout} that can be used to cancel the task
+     */
+    public ZWaveTimeout schedule(Runnable task, long delay, TimeUnit unit) {
+        return scheduleAt(task, System.nanoTime() + unit.toNanos(delay));
+    }
+
+    /**
+     * Schedules a task to run once at the specified deadline
+     *
+     * @param task the {@link Runnable} to run
+     * @param deadline the deadline in {@link System#nanoTime()} units
+     * @return the {@link ZWaveTimeout} that can be used to cancel the task
+     */
+    public ZWaveTimeout scheduleAt(Runnable task, long deadline) {
+        if (task == null) {
+            throw new NullPointerException("task");
+        }
+        if (!running) {
+            throw new IllegalStateException("Timer has been shut down");
+        }
+
+        if (!started.get() && started.compareAndSet(false, true)) {
+            workerThread.start();
+        }
+
+        ZWaveTimeout timeout = new ZWaveTimeout(this, task, deadline);
+        pendingTimeouts.offer(timeout);
+        if (idle) {
+            LockSupport.unpark(workerThread);
+        }
+        return timeout;
+    }
+
+    /**
+     * Stops the timer. Any outstanding timeouts will not be run.
+     */
+    public void shutdown() {
+        running = false;
+        if (started.get()) {
+            LockSupport.unpark(workerThread);
+        }
+    }
+
+    void cancelled(ZWaveTimeout timeout) {
+        cancelledTimeouts.offer(timeout);
+    }
+
+    private class Worker implements Runnable {
+        @Override
+        public void run() {
+            startTime = System.nanoTime();
+            tick = 0;
+
+            while (running) {
+                if (!waitForNextTick()) {
+                    break;
+                }
+
+                processCancelledTimeouts();
+                transferPendingTimeouts();
+                expireTimeouts(wheel[(int) (tick & mask)]);
+                tick++;
+            }
+
+            logger.debug("ZWaveTimer stopped");
+        }
+
+        /**
+         * Waits until the end of the current tick, or until there is something to do if the timer is idle
+         *
+         * @return true if the tick has elapsed, or false if the timer has been stopped
+         */
+        private boolean waitForNextTick() {
+            while (activeTimeouts == 0 && pendingTimeouts.isEmpty() && running) {
+                idle = true;
+                if (pendingTimeouts.isEmpty()) {
+                    LockSupport.park(this);
+                }
+                idle = false;
+
+                // Restart from the current tick as nothing has been waiting on the wheel
+                tick = (System.nanoTime() - startTime) / tickDuration;
+            }
+
+            long deadline = startTime + (tick + 1) * tickDuration;
+            while (running) {
+                long sleepTime = deadline - System.nanoTime();
+                if (sleepTime <= 0) {
+                    return true;
+                }
+                LockSupport.parkNanos(this, sleepTime);
+            }
+            return false;
+        }
+
+        private void processCancelledTimeouts() {
+            ZWaveTimeout timeout;
+            while ((timeout = cancelledTimeouts.poll()) != null) {
+                if (timeout.bucket != null) {
+                    timeout.bucket.remove(timeout);
+                    activeTimeouts--;
+                }
+            }
+        }
+
+        private void transferPendingTimeouts() {
+            ZWaveTimeout timeout;
+            while ((timeout = pendingTimeouts.poll()) != null) {
+                if (timeout.isCancelled()) {
+                    continue;
+                }
+
+                long calculated = Math.max(0, timeout.getDeadline() - startTime + tickDuration - 1) / tickDuration;
+                timeout.remainingRounds = (calculated - tick) / wheel.length;
+
+                // Make sure we don't schedule in the past
+                long ticks = Math.max(calculated, tick);
+                wheel[(int) (ticks & mask)].add(timeout);
+                activeTimeouts++;
+            }
+        }
+
+        private void expireTimeouts(Bucket bucket) {
+            ZWaveTimeout timeout = bucket.head;
+            while (timeout != null) {
+                if (timeout.remainingRounds <= 0) {
+                    ZWaveTimeout next = bucket.remove(timeout);
+                    activeTimeouts--;
+                    if (timeout.expire()) {
+                        runTask(timeout);
+                    }
+                    timeout = next;
+                } else if (timeout.isCancelled()) {
+                    timeout = bucket.remove(timeout);
+                    activeTimeouts--;
+                } else {
+                    timeout.remainingRounds--;
+                    timeout = timeout.next;
+                }
+            }
+        }
+
+        private void runTask(ZWaveTimeout timeout) {
+            try {
+                timeout.getTask().run();
+            } catch (Throwable e) {
+                logger.warn("Exception running timer task {}", timeout.getTask(), e);
+            }
+        }
+    }
+}
@@ -14,6 +14,7 @@ public class ZWaveCommandClassTransactionPayload extends ZWaveCommandClassPayloa
     private final Integer expectedResponseCommandClassCommand;
     private TransactionPriority priority;
     private int maxAttempts = 0;
+    private int endpointId = 0;
 
     private boolean requiresSecurity = false;
     private boolean requiresResponse = true;
@@ -28,7 +29,45 @@ public class ZWaveCommandClassTransactionPayload extends ZWaveCommandClassPayloa
      */
     public ZWaveCommandClassTransactionPayload(int nodeId, byte[] payload, TransactionPriority priority,
             ZWaveCommandClassEnum expectedResponseCommandClass, Integer expectedResponseCommandClassCommand) {
-        super(payload);
+        this(nodeId, payload, 0, payload.length, priority, expectedResponseCommandClass,
+                expectedResponseCommandClassCommand);
+    }
+
+    /**
+     * Creates a transaction payload held within a larger buffer. The buffer is not copied.
+     *
+     * @param nodeId
+     * @param buffer the buffer holding the payload
+     * @param offset the offset of the command class key within the buffer
+     * @param length the length of the payload
+     * @param priority
+     * @param expectedResponseCommandClass
+     * @param expectedResponseCommandClassCommand
+     */
+    public ZWaveCommandClassTransactionPayload(int nodeId, byte[] buffer, int offset, int length,
+            TransactionPriority priority, ZWaveCommandClassEnum expectedResponseCommandClass,
+            Integer expectedResponseCommandClassCommand) {
+        this(nodeId, buffer, offset, length, false, priority, expectedResponseCommandClass,
+                expectedResponseCommandClassCommand);
+    }
+
+    /**
+     * Creates a transaction payload held within a larger buffer, where the rest of the buffer is reserved for the
+     * encapsulation of the payload when it is sent
+     *
+     * @param nodeId
+     * @param buffer the buffer holding the payload
+     * @param offset the offset of the command class key within the buffer
+     * @param length the length of the payload
+     * @param reserved true if the space before and after the payload is only used to encapsulate this payload
+     * @param priority
+     * @param expectedResponseCommandClass
+     * @param expectedResponseCommandClassCommand
+     */
+    ZWaveCommandClassTransactionPayload(int nodeId, byte[] buffer, int offset, int length, boolean reserved,
+            TransactionPriority priority, ZWaveCommandClassEnum expectedResponseCommandClass,
+            Integer expectedResponseCommandClassCommand) {
+        super(buffer, offset, length, reserved);
         this.nodeId = nodeId;
         this.priority = priority;
         this.expectedResponseCommandClass = expectedResponseCommandClass;
@@ -67,6 +106,20 @@ public class ZWaveCommandClassTransactionPayload extends ZWaveCommandClassPayloa
         return priority;
     }
 
+    /**
+     * Sets the endpoint the command is sent to. Commands to an endpoint other than the root device are wrapped in a
+     * MULTI_CHANNEL_CMD_ENCAP when they are sent.
+     *
+     * @param endpointId the destination endpoint
+     */
+    public void setEndpointId(int endpointId) {
+        this.endpointId = endpointId;
+    }
+
+    public int getEndpointId() {
+        return endpointId;
+    }
+
     public int getDestinationNode() {
         return nodeId;
     }
@@ -1,5 +1,7 @@
 package com.zsmartsystems.zwave.transaction;
 
+import java.nio.ByteBuffer;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -16,6 +18,8 @@ public class ZWaveCommandClassTransactionPayloadBuilder {
     private ZWaveCommandClassEnum commandClass;
     private int command;
     private byte[] payload;
+    private int payloadOffset;
+    private int payloadLength;
     private TransactionPriority priority = TransactionPriority.Get;
     private ZWaveCommandClassEnum expectedResponseCommandClass;
     private int expectedResponseCommandClassCommand;
@@ -40,11 +44,47 @@ public class ZWaveCommandClassTransactionPayloadBuilder {
         }
         this.command = payload[1];
         this.payload = payload;
+        this.payloadOffset = 0;
+        this.payloadLength = payload.length;
+        this.payloadBuilt = true;
+    }
+
+    /**
+     * Creates a builder for a complete command class frame written into a buffer by one of the command class
+     * encoders. The frame is taken from the buffer position up to its limit, so the buffer would normally be flipped
+     * after encoding.
+     * <p>
+     * If the buffer is backed by an array, the payload references the array directly and the frame is not copied. The
+     * caller hands the buffer over to the payload, and must not write to it again while the transaction may still be
+     * sent or compared with another transaction.
+     *
+     * @param nodeId the destination node
+     * @param frame the {@link ByteBuffer} holding the frame
+     * @throws IllegalArgumentException if the frame does not hold a command class and command
+     */
+    public ZWaveCommandClassTransactionPayloadBuilder(final int nodeId, final ByteBuffer frame) {
+        if (frame.remaining() < 2) {
+            throw new IllegalArgumentException("Frame must hold at least the command class and command");
+        }
+        this.nodeId = nodeId;
+        if (frame.hasArray()) {
+            this.payload = frame.array();
+            this.payloadOffset = frame.arrayOffset() + frame.position();
+        } else {
+            this.payload = new byte[frame.remaining()];
+            this.payloadOffset = 0;
+            frame.duplicate().get(this.payload);
+        }
+        this.payloadLength = frame.remaining();
+        this.commandClass = ZWaveCommandClassEnum.getCommandClass(payload[payloadOffset] & 0xff);
+        this.command = payload[payloadOffset + 1] & 0xff;
         this.payloadBuilt = true;
     }
 
     public ZWaveCommandClassTransactionPayloadBuilder withPayloadBuffer(final byte[] payload) {
         this.payload = payload;
+        this.payloadOffset = 0;
+        this.payloadLength = payload.length;
         return this;
     }
 
@@ -54,11 +94,15 @@ public class ZWaveCommandClassTransactionPayloadBuilder {
         for (int val : payload) {
             this.payload[cnt++] = (byte) (val & 0xff);
         }
+        this.payloadOffset = 0;
+        this.payloadLength = payload.length;
         return this;
     }
 
     public ZWaveCommandClassTransactionPayloadBuilder withPayload(final byte[] payload) {
         this.payload = payload;
+        this.payloadOffset = 0;
+        this.payloadLength = payload.length;
         return this;
     }
 
@@ -75,23 +119,24 @@ public class ZWaveCommandClassTransactionPayloadBuilder {
     }
 
     public ZWaveCommandClassTransactionPayload build() {
-        byte[] output;
         if (payloadBuilt) {
-            output = payload;
+            logger.debug("At build {}", expectedResponseCommandClass);
+
+            return new ZWaveCommandClassTransactionPayload(nodeId, payload, payloadOffset, payloadLength, priority,
+                    expectedResponseCommandClass, expectedResponseCommandClassCommand);
+        }
+
+        byte[] output;
+        if (payload == null) {
+            output = new byte[2];
         } else {
-            if (payload == null) {
-                output = new byte[2];
-            } else {
-                output = new byte[2 + payload.length];
-            }
-
-            output[0] = (byte) commandClass.getKey();
-            output[1] = (byte) command;
-            for (int i = 2; i < output.length; ++i) {
-                output[i] = payload[i - 2];
-            }
+            output = new byte[2 + payload.length];
+            System.arraycopy(payload, 0, output, 2, payload.length);
         }
 
+        output[0] = (byte) commandClass.getKey();
+        output[1] = (byte) command;
+
         logger.debug("At build {}", expectedResponseCommandClass);
 
         return new ZWaveCommandClassTransactionPayload(nodeId, output, priority, expectedResponseCommandClass,
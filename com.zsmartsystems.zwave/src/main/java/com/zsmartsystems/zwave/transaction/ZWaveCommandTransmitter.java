@@ -0,0 +1,23 @@
+package com.zsmartsystems.zwave.transaction;
+
+/**
+ * Interface used by the {@link ZWaveTransactionManager} to send commands to nodes once they are released from the
+ * queues and encapsulated.
+ *
+ * @author Chris Jackson
+ *
+ */
+public interface ZWaveCommandTransmitter {
+    /**
+     * Sends a command to a node.
+     * <p>
+     * The command is copied before this method returns, so the caller may reuse the buffer.
+     *
+     * @param nodeId the node to send the command to
+     * @param buffer the buffer holding the command
+     * @param offset the offset of the command class key within the buffer
+     * @param length the length of the command
+     * @return true if the command was accepted for sending
+     */
+    boolean sendCommand(int nodeId, byte[] buffer, int offset, int length);
+}
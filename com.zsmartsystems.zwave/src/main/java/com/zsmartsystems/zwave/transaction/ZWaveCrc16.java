@@ -0,0 +1,64 @@
+package com.zsmartsystems.zwave.transaction;
+
+/**
+ * Calculates the CRC-16 used by Z-Wave to check transport service segments and CRC-16 encapsulated commands. This is
+ * the CCITT polynomial (0x1021) with an initial value of 0x1D0F, and no reflection or final XOR.
+ * <p>
+ * The CRC is calculated a byte at a time from a precalculated table, directly over a range of an array, so no copy of
+ * the data is needed.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZWaveCrc16 {
+    /**
+     * The initial value of the CRC
+     */
+    public static final int INITIAL_VALUE = 0x1D0F;
+
+    private static final int POLYNOMIAL = 0x1021;
+
+    private static final int[] table = new int[256];
+
+    static {
+        for (int value = 0; value < 256; value++) {
+            int crc = value << 8;
+            for (int bit = 0; bit < 8; bit++) {
+                crc = (crc & 0x8000) != 0 ? (crc << 1) ^ POLYNOMIAL : crc << 1;
+            }
+            table[value] = crc & 0xFFFF;
+        }
+    }
+
+    private ZWaveCrc16() {
+    }
+
+    /**
+     * Calculates the CRC of a range of an array
+     *
+     * @param buffer the array holding the data
+     * @param offset the offset of the first byte
+     * @param length the number of bytes
+     * @return the CRC between 0 and 0xFFFF
+     */
+    public static int calculate(byte[] buffer, int offset, int length) {
+        return update(INITIAL_VALUE, buffer, offset, length);
+    }
+
+    /**
+     * Updates a CRC with a range of an array. This allows the CRC of data held in more than one array to be calculated.
+     *
+     * @param crc the CRC of the data so far, or {@link #INITIAL_VALUE}
+     * @param buffer the array holding the data
+     * @param offset the offset of the first byte
+     * @param length the number of bytes
+     * @return the updated CRC between 0 and 0xFFFF
+     */
+    public static int update(int crc, byte[] buffer, int offset, int length) {
+        int end = offset + length;
+        for (int cnt = offset; cnt < end; cnt++) {
+            crc = ((crc << 8) ^ table[((crc >> 8) ^ buffer[cnt]) & 0xFF]) & 0xFFFF;
+        }
+        return crc;
+    }
+}
@@ -0,0 +1,102 @@
+package com.zsmartsystems.zwave.transaction;
+
+import com.zsmartsystems.zwave.ZWaveCommandClassPayload;
+import com.zsmartsystems.zwave.commandclass.impl.CommandClassCrc16EncapV1;
+
+/**
+ * Wraps a command in a CRC_16_ENCAP command, and checks and unwraps a received CRC_16_ENCAP. The encapsulation adds the
+ * command class and command before the encapsulated command, and the {@link ZWaveCrc16} of the whole command after it.
+ * <p>
+ * The generated {@link CommandClassCrc16EncapV1#getCrc16Encap(Integer, Integer, int[], Integer)} takes the data as an
+ * int array and expects the checksum to be calculated by the caller, so the command is built here directly from the
+ * buffer holding the encapsulated command.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZWaveCrc16Encapsulation {
+    public static final int COMMAND_CLASS_KEY = CommandClassCrc16EncapV1.COMMAND_CLASS_KEY;
+
+    /**
+     * The number of bytes added to a command by the encapsulation
+     */
+    public static final int OVERHEAD = 4;
+
+    /**
+     * The length of the command class and command before the encapsulated command
+     */
+    public static final int HEADER_LENGTH = 2;
+
+    /**
+     * The length of the checksum after the encapsulated command
+     */
+    public static final int TRAILER_LENGTH = 2;
+
+    private ZWaveCrc16Encapsulation() {
+    }
+
+    /**
+     * Wraps a command in a CRC_16_ENCAP command. If space is reserved around the command, the header and checksum are
+     * written around it in its buffer, otherwise the command is copied into a new buffer.
+     *
+     * @param command the {@link ZWaveCommandClassPayload} to encapsulate
+     * @return the CRC_16_ENCAP {@link ZWaveCommandClassPayload}
+     */
+    public static ZWaveCommandClassPayload encapsulate(ZWaveCommandClassPayload command) {
+        int length = command.getPayloadLength();
+        byte[] frame;
+        int offset;
+        if (command.getHeadroom() >= HEADER_LENGTH && command.getTailroom() >= TRAILER_LENGTH) {
+            frame = command.getBuffer();
+            offset = command.getOffset() - HEADER_LENGTH;
+        } else {
+            frame = new byte[length + OVERHEAD];
+            offset = 0;
+            System.arraycopy(command.getBuffer(), command.getOffset(), frame, HEADER_LENGTH, length);
+        }
+        frame[offset] = (byte) COMMAND_CLASS_KEY;
+        frame[offset + 1] = (byte) CommandClassCrc16EncapV1.CRC_16_ENCAP;
+
+        int crc = ZWaveCrc16.calculate(frame, offset, HEADER_LENGTH + length);
+        frame[offset + HEADER_LENGTH + length] = (byte) (crc >> 8);
+        frame[offset + HEADER_LENGTH + length + 1] = (byte) crc;
+
+        return new ZWaveCommandClassPayload(frame, offset, length + OVERHEAD);
+    }
+
+    /**
+     * Checks if a command is a CRC_16_ENCAP
+     *
+     * @param command the received {@link ZWaveCommandClassPayload}
+     * @return true if the command holds an encapsulated command
+     */
+    public static boolean isEncapsulated(ZWaveCommandClassPayload command) {
+        return command.getPayloadLength() >= 2 && command.getCommandClassId() == COMMAND_CLASS_KEY
+                && command.getCommandClassCommand() == CommandClassCrc16EncapV1.CRC_16_ENCAP;
+    }
+
+    /**
+     * Checks the CRC of a CRC_16_ENCAP command and unwraps the encapsulated command. The command is not copied - it is
+     * held within the buffer of the CRC_16_ENCAP.
+     *
+     * @param command the CRC_16_ENCAP {@link ZWaveCommandClassPayload}
+     * @return the encapsulated {@link ZWaveCommandClassPayload}, or null if the command is too short or the CRC is
+     *         wrong
+     */
+    public static ZWaveCommandClassPayload decapsulate(ZWaveCommandClassPayload command) {
+        int length = command.getPayloadLength() - OVERHEAD;
+        if (length <= 0) {
+            return null;
+        }
+
+        byte[] buffer = command.getBuffer();
+        int offset = command.getOffset();
+        int crc = ((buffer[offset + HEADER_LENGTH + length] & 0xFF) << 8)
+                | (buffer[offset + HEADER_LENGTH + length + 1] & 0xFF);
+        if (ZWaveCrc16.calculate(buffer, offset, HEADER_LENGTH + length) != crc) {
+            return null;
+        }
+
+        return new ZWaveCommandClassPayload(buffer, offset + HEADER_LENGTH, length);
+    }
+}
@@ -0,0 +1,94 @@
+package com.zsmartsystems.zwave.transaction;
+
+import com.zsmartsystems.zwave.ZWaveCommandClassPayload;
+import com.zsmartsystems.zwave.commandclass.impl.CommandClassMultiChannelV4;
+
+/**
+ * Wraps a command to an endpoint in a MULTI_CHANNEL_CMD_ENCAP command, and unwraps a received MULTI_CHANNEL_CMD_ENCAP.
+ * The encapsulation adds the command class, the command and the source and destination endpoints before the
+ * encapsulated command.
+ * <p>
+ * The generated {@link CommandClassMultiChannelV4#getMultiChannelCmdEncap} writes the command through a
+ * ByteArrayOutputStream, and the generated handler copies the encapsulated command out of the frame, so the command
+ * is built and parsed here directly from the buffer holding the command.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZWaveMultiChannel {
+    public static final int COMMAND_CLASS_KEY = CommandClassMultiChannelV4.COMMAND_CLASS_KEY;
+
+    /**
+     * The number of bytes added to a command by the encapsulation
+     */
+    public static final int OVERHEAD = 4;
+
+    private static final int ENDPOINT_MASK = 0x7F;
+
+    private ZWaveMultiChannel() {
+    }
+
+    /**
+     * Wraps a command in a MULTI_CHANNEL_CMD_ENCAP command. If space is reserved before the command, the header is
+     * written in front of it in its buffer. Otherwise the command is copied into a new buffer, with space reserved for
+     * a CRC_16_ENCAP so that it is only copied once.
+     *
+     * @param command the {@link ZWaveCommandClassPayload} to encapsulate
+     * @param sourceEndpoint the endpoint sending the command
+     * @param destinationEndpoint the endpoint the command is sent to
+     * @return the MULTI_CHANNEL_CMD_ENCAP {@link ZWaveCommandClassPayload}
+     */
+    public static ZWaveCommandClassPayload encapsulate(ZWaveCommandClassPayload command, int sourceEndpoint,
+            int destinationEndpoint) {
+        int length = command.getPayloadLength();
+        byte[] frame;
+        int offset;
+        if (command.getHeadroom() >= OVERHEAD) {
+            frame = command.getBuffer();
+            offset = command.getOffset() - OVERHEAD;
+        } else {
+            frame = new byte[ZWaveCrc16Encapsulation.HEADER_LENGTH + OVERHEAD + length
+                    + ZWaveCrc16Encapsulation.TRAILER_LENGTH];
+            offset = ZWaveCrc16Encapsulation.HEADER_LENGTH;
+            System.arraycopy(command.getBuffer(), command.getOffset(), frame, offset + OVERHEAD, length);
+        }
+        frame[offset] = (byte) COMMAND_CLASS_KEY;
+        frame[offset + 1] = (byte) CommandClassMultiChannelV4.MULTI_CHANNEL_CMD_ENCAP;
+        frame[offset + 2] = (byte) (sourceEndpoint & ENDPOINT_MASK);
+        frame[offset + 3] = (byte) (destinationEndpoint & ENDPOINT_MASK);
+
+        return new ZWaveCommandClassPayload(frame, offset, length + OVERHEAD, true);
+    }
+
+    /**
+     * Checks if a command is a MULTI_CHANNEL_CMD_ENCAP holding a command
+     *
+     * @param command the received {@link ZWaveCommandClassPayload}
+     * @return true if the command holds an encapsulated command
+     */
+    public static boolean isEncapsulated(ZWaveCommandClassPayload command) {
+        return command.getPayloadLength() > OVERHEAD && command.getCommandClassId() == COMMAND_CLASS_KEY
+                && command.getCommandClassCommand() == CommandClassMultiChannelV4.MULTI_CHANNEL_CMD_ENCAP;
+    }
+
+    /**
+     * Gets the endpoint that sent a MULTI_CHANNEL_CMD_ENCAP
+     *
+     * @param command the MULTI_CHANNEL_CMD_ENCAP {@link ZWaveCommandClassPayload}
+     * @return the source endpoint
+     */
+    public static int getSourceEndpoint(ZWaveCommandClassPayload command) {
+        return command.getPayloadByte(2) & ENDPOINT_MASK;
+    }
+
+    /**
+     * Unwraps the command held in a MULTI_CHANNEL_CMD_ENCAP. The command is not copied - it is held within the buffer of
+     * the MULTI_CHANNEL_CMD_ENCAP.
+     *
+     * @param command the MULTI_CHANNEL_CMD_ENCAP {@link ZWaveCommandClassPayload}
+     * @return the encapsulated {@link ZWaveCommandClassPayload}
+     */
+    public static ZWaveCommandClassPayload decapsulate(ZWaveCommandClassPayload command) {
+        return new ZWaveCommandClassPayload(command, OVERHEAD);
+    }
+}
@@ -0,0 +1,119 @@
+package com.zsmartsystems.zwave.transaction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.zsmartsystems.zwave.ZWaveCommandClassPayload;
+import com.zsmartsystems.zwave.commandclass.impl.CommandClassMultiCmdV1;
+
+/**
+ * Packs several commands into a single MULTI_CMD_ENCAP command, and unpacks the commands from a received
+ * MULTI_CMD_ENCAP.
+ * <p>
+ * The generated {@link CommandClassMultiCmdV1#getMultiCmdEncap(Integer)} only writes the number of commands, so the
+ * command is built here. Each encapsulated command is preceded by its length.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZWaveMultiCommand {
+    public static final int COMMAND_CLASS_KEY = CommandClassMultiCmdV1.COMMAND_CLASS_KEY;
+
+    /**
+     * The length of the command class, command and number of commands before the first encapsulated command
+     */
+    public static final int HEADER_LENGTH = 3;
+
+    /**
+     * The maximum number of commands in one MULTI_CMD_ENCAP
+     */
+    public static final int MAX_COMMANDS = 255;
+
+    private ZWaveMultiCommand() {
+    }
+
+    /**
+     * Gets the number of bytes a command adds to a MULTI_CMD_ENCAP
+     *
+     * @param command the {@link ZWaveCommandClassPayload} to encapsulate
+     * @return the number of bytes including the length byte
+     */
+    public static int getEncapsulatedLength(ZWaveCommandClassPayload command) {
+        return 1 + command.getPayloadLength();
+    }
+
+    /**
+     * Packs commands into a MULTI_CMD_ENCAP command
+     *
+     * @param commands the {@link ZWaveCommandClassPayload}s to encapsulate
+     * @return the MULTI_CMD_ENCAP {@link ZWaveCommandClassPayload}
+     */
+    public static ZWaveCommandClassPayload encapsulate(List<? extends ZWaveCommandClassPayload> commands) {
+        if (commands.isEmpty() || commands.size() > MAX_COMMANDS) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_COMMANDS + " commands can be encapsulated");
+        }
+
+        int length = HEADER_LENGTH;
+        for (ZWaveCommandClassPayload command : commands) {
+            length += getEncapsulatedLength(command);
+        }
+
+        // Space is reserved for a CRC_16_ENCAP so that the frame isn't copied again
+        int start = ZWaveCrc16Encapsulation.HEADER_LENGTH;
+        byte[] frame = new byte[start + length + ZWaveCrc16Encapsulation.TRAILER_LENGTH];
+        frame[start] = (byte) COMMAND_CLASS_KEY;
+        frame[start + 1] = (byte) CommandClassMultiCmdV1.MULTI_CMD_ENCAP;
+        frame[start + 2] = (byte) commands.size();
+
+        int offset = start + HEADER_LENGTH;
+        for (ZWaveCommandClassPayload command : commands) {
+            frame[offset++] = (byte) command.getPayloadLength();
+            System.arraycopy(command.getBuffer(), command.getOffset(), frame, offset, command.getPayloadLength());
+            offset += command.getPayloadLength();
+        }
+
+        return new ZWaveCommandClassPayload(frame, start, length, true);
+    }
+
+    /**
+     * Checks if a command is a MULTI_CMD_ENCAP
+     *
+     * @param command the received {@link ZWaveCommandClassPayload}
+     * @return true if the command holds encapsulated commands
+     */
+    public static boolean isEncapsulated(ZWaveCommandClassPayload command) {
+        return command.getPayloadLength() >= HEADER_LENGTH && command.getCommandClassId() == COMMAND_CLASS_KEY
+                && command.getCommandClassCommand() == CommandClassMultiCmdV1.MULTI_CMD_ENCAP;
+    }
+
+    /**
+     * Unpacks the commands from a MULTI_CMD_ENCAP command. The commands are not copied - each is held within the buffer
+     * of the MULTI_CMD_ENCAP. A truncated command ends the list.
+     *
+     * @param command the MULTI_CMD_ENCAP {@link ZWaveCommandClassPayload}
+     * @return the encapsulated {@link ZWaveCommandClassPayload}s
+     */
+    public static List<ZWaveCommandClassPayload> decapsulate(ZWaveCommandClassPayload command) {
+        if (!isEncapsulated(command)) {
+            return Collections.emptyList();
+        }
+
+        int count = command.getPayloadByte(2);
+        List<ZWaveCommandClassPayload> commands = new ArrayList<ZWaveCommandClassPayload>(count);
+
+        byte[] buffer = command.getBuffer();
+        int offset = command.getOffset() + HEADER_LENGTH;
+        int end = command.getOffset() + command.getPayloadLength();
+        while (commands.size() < count && offset < end) {
+            int length = buffer[offset++] & 0xFF;
+            if (length == 0 || offset + length > end) {
+                break;
+            }
+            commands.add(new ZWaveCommandClassPayload(buffer, offset, length));
+            offset += length;
+        }
+
+        return commands;
+    }
+}
@@ -0,0 +1,125 @@
+package com.zsmartsystems.zwave.transaction;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+/**
+ * Holds the queued transactions for a single node. Transactions are ordered by their {@link TransactionPriority} and
+ * are held in a {@link ZWaveTransactionPriorityQueue}, so transactions of the same priority are sent in order and low
+ * priority transactions age.
+ * <p>
+ * Each node has its own queue and its own lock, so threads queueing transactions for different nodes never contend
+ * with each other. The {@link ZWaveTransactionScheduler} decides which node queue is serviced next.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZWaveNodeTransactionQueue {
+    private final int nodeId;
+
+    private final ZWaveTransactionPriorityQueue queue = new ZWaveTransactionPriorityQueue();
+
+    /**
+     * Set while this queue is waiting in the scheduler signal list so that we only signal once
+     */
+    final AtomicBoolean signalled = new AtomicBoolean();
+
+    /**
+     * The currently valid entry in the scheduler ready set. Only accessed by the scheduler while holding its lock.
+     */
+    ZWaveTransactionScheduler.ReadyEntry readyEntry;
+
+    /**
+     * Number of transactions taken from this queue that have not yet completed. Only accessed by the scheduler while
+     * holding its lock.
+     */
+    int outstanding;
+
+    public ZWaveNodeTransactionQueue(int nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * Gets the node ID this queue is servicing
+     *
+     * @return the node ID
+     */
+    public int getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Adds a transaction to the queue. If an equal transaction is already queued, the original is removed so that
+     * only the latest request is sent. The original transaction is completed with the response to the new one.
+     *
+     * @param transaction the {@link ZWaveTransaction} to add
+     */
+    public void add(ZWaveTransaction transaction) {
+        queue.add(transaction);
+    }
+
+    /**
+     * Sets the time a transaction waits in the queue before it is treated as the next priority level up
+     *
+     * @param agingTime the aging time in milliseconds, or 0 to disable aging
+     */
+    public void setAgingTime(long agingTime) {
+        queue.setAgingTime(agingTime);
+    }
+
+    /**
+     * Removes a transaction from the queue
+     *
+     * @param transaction the {@link ZWaveTransaction} to remove
+     * @return true if the transaction was removed
+     */
+    public boolean remove(ZWaveTransaction transaction) {
+        return queue.remove(transaction);
+    }
+
+    /**
+     * Retrieves and removes the transaction with the highest aged priority, or returns null if the queue is empty
+     *
+     * @return the next {@link ZWaveTransaction} or null
+     */
+    public ZWaveTransaction poll() {
+        return queue.poll();
+    }
+
+    /**
+     * Retrieves and removes the transaction with the highest aged priority if it meets the condition
+     *
+     * @param condition the {@link Predicate} the transaction must meet
+     * @return the next {@link ZWaveTransaction}, or null if there is none or it doesn't meet the condition
+     */
+    public ZWaveTransaction pollIf(Predicate<ZWaveTransaction> condition) {
+        return queue.pollIf(condition);
+    }
+
+    /**
+     * Gets the aged priority of the transaction at the head of the queue
+     *
+     * @return the head {@link TransactionPriority} or null if the queue is empty
+     */
+    public TransactionPriority peekPriority() {
+        return queue.peekPriority();
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    /**
+     * Removes all the queued transactions
+     *
+     * @return the removed transactions
+     */
+    public List<ZWaveTransaction> clear() {
+        return queue.clear();
+    }
+}
@@ -0,0 +1,231 @@
+package com.zsmartsystems.zwave.transaction;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A single producer, single consumer ring buffer used to pass received messages from the transport reader to the
+ * receive thread.
+ * <p>
+ * The ring is an array of preallocated slots. The producer copies each message into the next free slot and publishes
+ * it by advancing the tail, and the consumer processes the message in place before advancing the head to release the
+ * slot. Neither side takes a lock or allocates anything per message. The consumer parks while the ring is empty and
+ * is unparked by the producer when a message is published.
+ * <p>
+ * When the ring is full the {@link OverflowPolicy} decides whether the producer waits for the consumer to free a slot,
+ * or drops the message. Dropped messages, including messages that are too long for a slot, are counted.
+ * <p>
+ * Only a single thread may publish messages, and only a single thread may take them.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZWaveReceiveRing {
+    /**
+     * The maximum length of a message
+     */
+    public static final int MAX_MESSAGE_LENGTH = 256;
+
+    private static final long PRODUCER_PARK_TIME = TimeUnit.MICROSECONDS.toNanos(100);
+
+    /**
+     * The action taken when a message is published to a full ring
+     */
+    public enum OverflowPolicy {
+        /**
+         * The producer waits until the consumer has freed a slot. This applies backpressure to the transport.
+         */
+        BLOCK,
+        /**
+         * The new message is dropped and counted
+         */
+        DROP
+    }
+
+    /**
+     * Handler called by the consumer to process a message in its slot
+     */
+    public interface ZWaveReceiveHandler {
+        /**
+         * Processes a received message. The buffer is the ring slot, so it is only valid until this method returns.
+         *
+         * @param nodeId the node the message was received from
+         * @param buffer the buffer holding the message
+         * @param length the length of the message, which starts at the beginning of the buffer
+         */
+        void messageReceived(int nodeId, byte[] buffer, int length);
+    }
+
+    private final int mask;
+    private final byte[][] slotData;
+    private final int[] slotLength;
+    private final int[] slotNodeId;
+
+    /**
+     * Sequence of the next slot to be taken by the consumer. Only written by the consumer.
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * Sequence of the next slot to be written by the producer. Only written by the producer.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    private volatile Thread consumerThread;
+    private volatile boolean consumerWaiting;
+
+    private volatile OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * Creates a ring
+     *
+     * @param capacity the number of slots in the ring. Must be a power of 2.
+     */
+    public ZWaveReceiveRing(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of 2");
+        }
+        mask = capacity - 1;
+        slotData = new byte[capacity][MAX_MESSAGE_LENGTH];
+        slotLength = new int[capacity];
+        slotNodeId = new int[capacity];
+    }
+
+    /**
+     * Sets the action taken when a message is published to a full ring
+     *
+     * @param overflowPolicy the {@link OverflowPolicy}
+     */
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Publishes a message by copying it into the next free slot. Called by the producer.
+     *
+     * @param nodeId the node the message was received from
+     * @param buffer the buffer holding the message
+     * @param offset the offset of the message in the buffer
+     * @param length the length of the message
+     * @return true if the message was published, false if it was dropped
+     */
+    public boolean publish(int nodeId, byte[] buffer, int offset, int length) {
+        int slot = claimSlot(length);
+        if (slot == -1) {
+            return false;
+        }
+        System.arraycopy(buffer, offset, slotData[slot], 0, length);
+        commitSlot(slot, nodeId, length);
+        return true;
+    }
+
+    /**
+     * Publishes a message by copying it into the next free slot. The message is read from the position to the limit of
+     * the buffer, and the buffer position is not changed. Called by the producer.
+     *
+     * @param nodeId the node the message was received from
+     * @param buffer the {@link ByteBuffer} holding the message
+     * @return true if the message was published, false if it was dropped
+     */
+    public boolean publish(int nodeId, ByteBuffer buffer) {
+        int length = buffer.remaining();
+        int slot = claimSlot(length);
+        if (slot == -1) {
+            return false;
+        }
+        int position = buffer.position();
+        buffer.get(slotData[slot], 0, length);
+        buffer.position(position);
+        commitSlot(slot, nodeId, length);
+        return true;
+    }
+
+    private int claimSlot(int length) {
+        if (length > MAX_MESSAGE_LENGTH) {
+            dropped.incrementAndGet();
+            return -1;
+        }
+
+        long sequence = tail.get();
+        while (sequence - head.get() > mask) {
+            if (overflowPolicy == OverflowPolicy.DROP || Thread.currentThread() == consumerThread) {
+                dropped.incrementAndGet();
+                return -1;
+            }
+            LockSupport.parkNanos(this, PRODUCER_PARK_TIME);
+        }
+        return (int) (sequence & mask);
+    }
+
+    private void commitSlot(int slot, int nodeId, int length) {
+        slotLength[slot] = length;
+        slotNodeId[slot] = nodeId;
+
+        // The volatile write publishes the slot contents, and must come before we check if the consumer is waiting
+        tail.set(tail.get() + 1);
+        if (consumerWaiting) {
+            LockSupport.unpark(consumerThread);
+        }
+    }
+
+    /**
+     * Waits for the next message and passes it to the handler. The slot is released once the handler returns. Called
+     * by the consumer.
+     *
+     * @param handler the {@link ZWaveReceiveHandler} to process the message
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public void take(ZWaveReceiveHandler handler) throws InterruptedException {
+        consumerThread = Thread.currentThread();
+
+        long sequence = head.get();
+        while (tail.get() == sequence) {
+            consumerWaiting = true;
+            if (tail.get() == sequence) {
+                LockSupport.park(this);
+            }
+            consumerWaiting = false;
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+
+        int slot = (int) (sequence & mask);
+        try {
+            handler.messageReceived(slotNodeId[slot], slotData[slot], slotLength[slot]);
+        } finally {
+            head.lazySet(sequence + 1);
+        }
+    }
+
+    /**
+     * Checks if there are no messages waiting to be taken
+     *
+     * @return true if the ring is empty
+     */
+    public boolean isEmpty() {
+        return tail.get() == head.get();
+    }
+
+    /**
+     * Gets the number of messages waiting to be taken
+     *
+     * @return the number of messages in the ring
+     */
+    public int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+    /**
+     * Gets the number of messages that have been dropped because the ring was full or the message was too long
+     *
+     * @return the number of dropped messages
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+}
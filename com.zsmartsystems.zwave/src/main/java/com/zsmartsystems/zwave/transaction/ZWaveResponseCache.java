@@ -0,0 +1,334 @@
+package com.zsmartsystems.zwave.transaction;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zsmartsystems.zwave.ZWaveCommandClassPayload;
+import com.zsmartsystems.zwave.commandclass.ZWaveCommandClassEnum;
+
+/**
+ * A bounded cache of the responses to GET transactions.
+ * <p>
+ * Responses are keyed by the destination node and endpoint, and the request payload, so requests to different
+ * endpoints are cached separately. Only command classes that have been given a
+ * time to live with {@link #setTimeToLive(ZWaveCommandClassEnum, long)} are cached, so the cache has no effect until
+ * it is configured.
+ * <p>
+ * A report received from a node that is not the response to a transaction may mean the cached value has changed, and
+ * a SET changes the value, so either discards the cached responses for the same node, endpoint and command class.
+ * Responses are indexed on the node, endpoint and command class so that this doesn't search the cache. Once the cache
+ * is full the least recently used response is evicted.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZWaveResponseCache {
+    private static final Logger logger = LoggerFactory.getLogger(ZWaveResponseCache.class);
+
+    /**
+     * The default maximum number of responses held in the cache
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 256;
+
+    private final int maxEntries;
+
+    private final Map<ZWaveCommandClassEnum, Long> timeToLive = new EnumMap<ZWaveCommandClassEnum, Long>(
+            ZWaveCommandClassEnum.class);
+
+    private final LinkedHashMap<CacheKey, CacheEntry> cache;
+
+    /**
+     * The first entry in the chain of entries for each node, endpoint and command class
+     */
+    private final Map<Integer, CacheEntry> groups = new HashMap<Integer, CacheEntry>();
+
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    private static class CacheKey {
+        private final int nodeId;
+        private final int endpointId;
+        private final byte[] payload;
+        private final int hash;
+
+        CacheKey(int nodeId, int endpointId, byte[] payload) {
+            this.nodeId = nodeId;
+            this.endpointId = endpointId;
+            this.payload = payload;
+            this.hash = 31 * (31 * nodeId + endpointId) + Arrays.hashCode(payload);
+        }
+
+        int getGroup() {
+            return ZWaveResponseCache.getGroup(nodeId, endpointId, payload[0] & 0xFF);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) obj;
+            return nodeId == other.nodeId && endpointId == other.endpointId && Arrays.equals(payload, other.payload);
+        }
+    }
+
+    private static class CacheEntry {
+        private final CacheKey key;
+        private final ZWaveTransactionResponse response;
+        private final long expiryTime;
+        private CacheEntry groupPrevious;
+        private CacheEntry groupNext;
+
+        CacheEntry(CacheKey key, ZWaveTransactionResponse response, long expiryTime) {
+            this.key = key;
+            this.response = response;
+            this.expiryTime = expiryTime;
+        }
+    }
+
+    /**
+     * Creates a response cache holding up to {@link #DEFAULT_MAX_ENTRIES} responses
+     */
+    public ZWaveResponseCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Creates a response cache
+     *
+     * @param maxEntries the maximum number of responses to hold
+     */
+    public ZWaveResponseCache(final int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Cache must hold at least 1 entry");
+        }
+        this.maxEntries = maxEntries;
+        cache = new LinkedHashMap<CacheKey, CacheEntry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+                if (size() > ZWaveResponseCache.this.maxEntries) {
+                    evictions++;
+                    unlink(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Sets the time for which responses to GETs of a command class are cached
+     *
+     * @param commandClass the {@link ZWaveCommandClassEnum} of the request
+     * @param timeToLive the time to live in milliseconds, or 0 to stop caching the command class
+     */
+    public synchronized void setTimeToLive(ZWaveCommandClassEnum commandClass, long timeToLive) {
+        if (timeToLive < 0) {
+            throw new IllegalArgumentException("Time to live must not be negative");
+        }
+        if (timeToLive == 0) {
+            this.timeToLive.remove(commandClass);
+        } else {
+            this.timeToLive.put(commandClass, TimeUnit.MILLISECONDS.toNanos(timeToLive));
+        }
+    }
+
+    /**
+     * Gets the cached response to a request
+     *
+     * @param payload the request {@link ZWaveCommandClassTransactionPayload}
+     * @return the cached {@link ZWaveTransactionResponse}, or null if there is no valid response in the cache
+     */
+    public synchronized ZWaveTransactionResponse get(ZWaveCommandClassTransactionPayload payload) {
+        if (!isCacheable(payload)) {
+            return null;
+        }
+
+        CacheKey key = new CacheKey(payload.getDestinationNode(), payload.getEndpointId(),
+                payload.getPayloadBuffer());
+        CacheEntry entry = cache.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        if (System.nanoTime() - entry.expiryTime >= 0) {
+            cache.remove(key);
+            unlink(entry);
+            misses++;
+            return null;
+        }
+
+        hits++;
+        logger.debug("NODE {}: Response served from cache", payload.getDestinationNode());
+        return entry.response;
+    }
+
+    /**
+     * Adds the response to a request to the cache. Only complete responses holding a report are cached.
+     *
+     * @param payload the request {@link ZWaveCommandClassTransactionPayload}
+     * @param response the {@link ZWaveTransactionResponse}
+     */
+    public synchronized void put(ZWaveCommandClassTransactionPayload payload, ZWaveTransactionResponse response) {
+        if (response == null || response.getState() != ZWaveTransactionResponse.State.COMPLETE
+                || response.getPayload() == null) {
+            return;
+        }
+        Long ttl = getTimeToLive(payload);
+        if (ttl == null) {
+            return;
+        }
+
+        CacheKey key = new CacheKey(payload.getDestinationNode(), payload.getEndpointId(), payload.getPayloadBuffer());
+        CacheEntry entry = new CacheEntry(key, response, System.nanoTime() + ttl);
+        CacheEntry original = cache.put(key, entry);
+        if (original != null) {
+            unlink(original);
+        }
+        link(entry);
+    }
+
+    /**
+     * Notifies the cache that a node has sent a report that was not the response to a transaction. Any cached response
+     * from the same endpoint and command class is discarded.
+     *
+     * @param nodeId the node that sent the report
+     * @param endpointId the endpoint that sent the report
+     * @param report the received {@link ZWaveCommandClassPayload}
+     */
+    public synchronized void reportReceived(int nodeId, int endpointId, ZWaveCommandClassPayload report) {
+        if (invalidate(nodeId, endpointId, report.getCommandClassId())) {
+            logger.debug("NODE {}: Cached response invalidated by report", nodeId);
+        }
+    }
+
+    /**
+     * Discards the cached responses for a node, endpoint and command class. This is used when a command is sent that
+     * may change the value, such as a SET.
+     *
+     * @param nodeId the node ID
+     * @param endpointId the endpoint ID
+     * @param commandClass the command class key
+     * @return true if any responses were discarded
+     */
+    public synchronized boolean invalidate(int nodeId, int endpointId, int commandClass) {
+        CacheEntry entry = groups.remove(getGroup(nodeId, endpointId, commandClass));
+        if (entry == null) {
+            return false;
+        }
+        while (entry != null) {
+            CacheEntry next = entry.groupNext;
+            cache.remove(entry.key);
+            entry.groupPrevious = null;
+            entry.groupNext = null;
+            entry = next;
+        }
+        return true;
+    }
+
+    /**
+     * Removes all responses from the cache
+     */
+    public synchronized void clear() {
+        cache.clear();
+        groups.clear();
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    /**
+     * Gets the number of requests that were answered from the cache
+     *
+     * @return the number of cache hits
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of cacheable requests that were not in the cache
+     *
+     * @return the number of cache misses
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Gets the number of responses that were removed to make space for another response
+     *
+     * @return the number of evictions
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    private static int getGroup(int nodeId, int endpointId, int commandClass) {
+        return ((nodeId & 0xFFF) << 16) | ((endpointId & 0x7F) << 8) | (commandClass & 0xFF);
+    }
+
+    /**
+     * Adds an entry to the chain for its node, endpoint and command class. Must be called with the cache locked.
+     */
+    private void link(CacheEntry entry) {
+        int group = entry.key.getGroup();
+        CacheEntry head = groups.put(group, entry);
+        entry.groupNext = head;
+        if (head != null) {
+            head.groupPrevious = entry;
+        }
+    }
+
+    /**
+     * Removes an entry from the chain for its node, endpoint and command class. Must be called with the cache locked.
+     */
+    private void unlink(CacheEntry entry) {
+        CacheEntry previous = entry.groupPrevious;
+        CacheEntry next = entry.groupNext;
+        if (previous != null) {
+            previous.groupNext = next;
+        } else if (next != null) {
+            groups.put(entry.key.getGroup(), next);
+        } else if (groups.get(entry.key.getGroup()) == entry) {
+            groups.remove(entry.key.getGroup());
+        }
+        if (next != null) {
+            next.groupPrevious = previous;
+        }
+        entry.groupPrevious = null;
+        entry.groupNext = null;
+    }
+
+    private boolean isCacheable(ZWaveCommandClassTransactionPayload payload) {
+        return getTimeToLive(payload) != null;
+    }
+
+    private Long getTimeToLive(ZWaveCommandClassTransactionPayload payload) {
+        if (!payload.getRequiresResponse() || payload.getExpectedResponseCommandClass() == null
+                || payload.getPayloadLength() == 0) {
+            return null;
+        }
+        ZWaveCommandClassEnum commandClass = ZWaveCommandClassEnum.getCommandClass(payload.getCommandClassId());
+        if (commandClass == null) {
+            return null;
+        }
+        return timeToLive.get(commandClass);
+    }
+}
@@ -0,0 +1,290 @@
+package com.zsmartsystems.zwave.transaction;
+
+import java.util.Arrays;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zsmartsystems.zwave.ZWaveCommandClassPayload;
+import com.zsmartsystems.zwave.commandclass.ZWaveCommandClassEnum;
+import com.zsmartsystems.zwave.commandclass.impl.CommandClassSupervisionV1;
+
+/**
+ * Manages supervision sessions so that a SET can be confirmed by the node without a following GET. The SET is wrapped
+ * in a SUPERVISION_GET with a session ID allocated for the node, and the transaction waits for the SUPERVISION_REPORT
+ * with the same session ID. Status updates are requested, so a node that takes time to execute the command reports
+ * WORKING with the time remaining, and then sends the final status.
+ * <p>
+ * Session IDs are 6 bits, and are allocated in turn for each node so that a retransmission of a SUPERVISION_GET is not
+ * confused with a new command. The generated {@link CommandClassSupervisionV1} only provides the constants as the
+ * command is built directly from the buffer holding the SET.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZWaveSupervision {
+    private final Logger logger = LoggerFactory.getLogger(ZWaveSupervision.class);
+
+    public static final int COMMAND_CLASS_KEY = CommandClassSupervisionV1.COMMAND_CLASS_KEY;
+
+    /**
+     * The number of bytes added to a command by the SUPERVISION_GET
+     */
+    public static final int OVERHEAD = 4;
+
+    public static final int STATUS_NO_SUPPORT = 0x00;
+    public static final int STATUS_WORKING = 0x01;
+    public static final int STATUS_FAIL = 0x02;
+    public static final int STATUS_BUSY = 0x03;
+    public static final int STATUS_SUCCESS = 0xFF;
+
+    private static final int MAX_SESSIONS = 64;
+    private static final int SESSION_ID_MASK = 0x3F;
+    private static final int STATUS_UPDATES = 0x80;
+    private static final int MAX_COMMAND_LENGTH = 0xFF;
+    private static final int DURATION_UNKNOWN = 0xFE;
+
+    private static final int COMMAND_CLASS_SECURITY_KEY = ZWaveCommandClassEnum.COMMAND_CLASS_SECURITY.getKey();
+    private static final int COMMAND_CLASS_SECURITY_2_KEY = ZWaveCommandClassEnum.COMMAND_CLASS_SECURITY_2.getKey();
+
+    /**
+     * The sessions for each node, indexed by node ID. The array grows to hold the highest node ID that has been
+     * supervised. Guarded by this.
+     */
+    private NodeSessions[] nodeSessions = new NodeSessions[0];
+
+    /**
+     * The supervised transactions for a node, indexed by session ID
+     */
+
+    private static class NodeSessions {
+        final ZWaveTransaction[] transactions = new ZWaveTransaction[MAX_SESSIONS];
+        int nextSessionId;
+    }
+
+    /**
+     * Checks if a transaction can be supervised. Only transactions that don't wait for a report are supervised, and
+     * encapsulation commands are sent as they are.
+     *
+     * @param transaction the {@link ZWaveTransaction}
+     * @return true if the transaction can be wrapped in a SUPERVISION_GET
+     */
+    public static boolean isSupervisable(ZWaveTransaction transaction) {
+        ZWaveCommandClassTransactionPayload payload = transaction.getPayload();
+        if (transaction.supervisionSessionId != -1 || !payload.getRequiresResponse()
+                || payload.getExpectedResponseCommandClass() != null || payload.getPayloadLength() < 2
+                || payload.getPayloadLength() > MAX_COMMAND_LENGTH) {
+            return false;
+        }
+
+        int commandClass = payload.getCommandClassId();
+        return commandClass != COMMAND_CLASS_KEY && commandClass != COMMAND_CLASS_SECURITY_KEY
+                && commandClass != COMMAND_CLASS_SECURITY_2_KEY;
+    }
+
+    /**
+     * Starts a supervision session for a transaction. The payload of the transaction is replaced with a
+     * SUPERVISION_GET holding the original command, so that the transaction waits for the SUPERVISION_REPORT. The
+     * session ends once the transaction completes.
+     * <p>
+     * If all the sessions for the node are in use, the transaction is left unchanged and the caller sends it without
+     * supervision - it then completes once the controller has sent it, as it would for a node without supervision.
+     *
+     * @param transaction the {@link ZWaveTransaction} to supervise
+     * @return true if the transaction is supervised, or false if all sessions for the node are in use and the
+     *         transaction must be sent unsupervised
+     */
+    public boolean startSession(final ZWaveTransaction transaction) {
+        ZWaveCommandClassTransactionPayload command = transaction.getPayload();
+        int nodeId = transaction.getNodeId();
+        int sessionId;
+        synchronized (this) {
+            if (nodeId >= nodeSessions.length) {
+                nodeSessions = Arrays.copyOf(nodeSessions, nodeId + 1);
+            }
+            NodeSessions sessions = nodeSessions[nodeId];
+            if (sessions == null) {
+                sessions = new NodeSessions();
+                nodeSessions[nodeId] = sessions;
+            }
+
+            sessionId = -1;
+            for (int cnt = 0; cnt < MAX_SESSIONS; cnt++) {
+                int candidate = (sessions.nextSessionId + cnt) & SESSION_ID_MASK;
+                if (sessions.transactions[candidate] == null) {
+                    sessionId = candidate;
+                    break;
+                }
+            }
+            if (sessionId == -1) {
+                logger.debug("NODE {}: No supervision session available", nodeId);
+                return false;
+            }
+
+            sessions.transactions[sessionId] = transaction;
+            sessions.nextSessionId = (sessionId + 1) & SESSION_ID_MASK;
+        }
+
+        // Space is reserved for the encapsulations applied when the SUPERVISION_GET is sent, so the command is only
+        // copied once on the way out
+        int length = command.getPayloadLength();
+        int start = ZWaveMultiChannel.OVERHEAD + ZWaveCrc16Encapsulation.HEADER_LENGTH;
+        byte[] frame = new byte[start + OVERHEAD + length + ZWaveCrc16Encapsulation.TRAILER_LENGTH];
+        frame[start] = (byte) COMMAND_CLASS_KEY;
+        frame[start + 1] = (byte) CommandClassSupervisionV1.SUPERVISION_GET;
+        frame[start + 2] = (byte) (STATUS_UPDATES | sessionId);
+        frame[start + 3] = (byte) length;
+        System.arraycopy(command.getBuffer(), command.getOffset(), frame, start + OVERHEAD, length);
+
+        ZWaveCommandClassTransactionPayload supervisionGet = new ZWaveCommandClassTransactionPayload(nodeId, frame,
+                start, OVERHEAD + length, true, command.getPriority(), ZWaveCommandClassEnum.COMMAND_CLASS_SUPERVISION,
+                CommandClassSupervisionV1.SUPERVISION_REPORT);
+        supervisionGet.setMaxAttempts(command.getMaxAttempts());
+        supervisionGet.setEndpointId(command.getEndpointId());
+        if (command.getRequiresSecurity()) {
+            supervisionGet.setRequiresSecurity();
+        }
+
+        transaction.supervisedPayload = command;
+        transaction.supervisionSessionId = sessionId;
+        transaction.setPayload(supervisionGet);
+        logger.debug("NODE {}: Supervision session {} started for transaction {}", transaction.getNodeId(), sessionId,
+                transaction.getTransactionId());
+
+        final int session = sessionId;
+        transaction.getFuture().whenComplete((response, exception) -> endSession(transaction, session));
+        return true;
+    }
+
+    private synchronized void endSession(ZWaveTransaction transaction, int sessionId) {
+        NodeSessions sessions = getSessions(transaction.getNodeId());
+        if (sessions != null && sessions.transactions[sessionId] == transaction) {
+            sessions.transactions[sessionId] = null;
+        }
+    }
+
+    /**
+     * Gets the sessions for a node. Must be called with this locked.
+     *
+     * @param nodeId the node ID
+     * @return the {@link NodeSessions} or null if the node has not been supervised
+     */
+    private NodeSessions getSessions(int nodeId) {
+        if (nodeId < 0 || nodeId >= nodeSessions.length) {
+            return null;
+        }
+        return nodeSessions[nodeId];
+    }
+
+    /**
+     * Gets the supervised transaction that a SUPERVISION_REPORT is for
+     *
+     * @param nodeId the node the report was received from
+     * @param report the SUPERVISION_REPORT {@link ZWaveCommandClassPayload}
+     * @return the supervised {@link ZWaveTransaction}, or null if there is no session with the report session ID
+     */
+    public synchronized ZWaveTransaction getTransaction(int nodeId, ZWaveCommandClassPayload report) {
+        NodeSessions sessions = getSessions(nodeId);
+        if (sessions == null) {
+            return null;
+        }
+        return sessions.transactions[getSessionId(report)];
+    }
+
+    /**
+     * Checks if a command is a SUPERVISION_REPORT
+     *
+     * @param command the received {@link ZWaveCommandClassPayload}
+     * @return true if the command is a complete SUPERVISION_REPORT
+     */
+    public static boolean isReport(ZWaveCommandClassPayload command) {
+        return command.getPayloadLength() >= 5 && command.getCommandClassId() == COMMAND_CLASS_KEY
+                && command.getCommandClassCommand() == CommandClassSupervisionV1.SUPERVISION_REPORT;
+    }
+
+    /**
+     * Checks if a command is a SUPERVISION_GET
+     *
+     * @param command the received {@link ZWaveCommandClassPayload}
+     * @return true if the command is a SUPERVISION_GET holding a command
+     */
+    public static boolean isGet(ZWaveCommandClassPayload command) {
+        return command.getPayloadLength() >= OVERHEAD && command.getCommandClassId() == COMMAND_CLASS_KEY
+                && command.getCommandClassCommand() == CommandClassSupervisionV1.SUPERVISION_GET;
+    }
+
+    /**
+     * Gets the session ID of a SUPERVISION_GET or SUPERVISION_REPORT
+     *
+     * @param command the {@link ZWaveCommandClassPayload}
+     * @return the session ID
+     */
+    public static int getSessionId(ZWaveCommandClassPayload command) {
+        return command.getPayloadByte(2) & SESSION_ID_MASK;
+    }
+
+    /**
+     * Gets the status of a SUPERVISION_REPORT
+     *
+     * @param report the SUPERVISION_REPORT {@link ZWaveCommandClassPayload}
+     * @return the status - one of the STATUS constants
+     */
+    public static int getStatus(ZWaveCommandClassPayload report) {
+        return report.getPayloadByte(3);
+    }
+
+    /**
+     * Checks if the node will send further SUPERVISION_REPORTs for the session
+     *
+     * @param report the SUPERVISION_REPORT {@link ZWaveCommandClassPayload}
+     * @return true if more status updates will follow
+     */
+    public static boolean hasMoreStatusUpdates(ZWaveCommandClassPayload report) {
+        return (report.getPayloadByte(2) & STATUS_UPDATES) != 0;
+    }
+
+    /**
+     * Gets the time the node reports it needs to finish executing the command
+     *
+     * @param report the SUPERVISION_REPORT {@link ZWaveCommandClassPayload}
+     * @return the duration in milliseconds, or -1 if the duration is unknown
+     */
+    public static long getDuration(ZWaveCommandClassPayload report) {
+        int duration = report.getPayloadByte(4);
+        if (duration < 0x80) {
+            return duration * 1000L;
+        }
+        if (duration < DURATION_UNKNOWN) {
+            return (duration - 0x7F) * 60000L;
+        }
+        return -1;
+    }
+
+    /**
+     * Unwraps the command held in a SUPERVISION_GET. The command is not copied - it is held within the buffer of the
+     * SUPERVISION_GET.
+     *
+     * @param command the SUPERVISION_GET {@link ZWaveCommandClassPayload}
+     * @return the encapsulated {@link ZWaveCommandClassPayload}, or null if the command is truncated
+     */
+    public static ZWaveCommandClassPayload decapsulate(ZWaveCommandClassPayload command) {
+        int length = command.getPayloadByte(3);
+        if (length == 0 || OVERHEAD + length > command.getPayloadLength()) {
+            return null;
+        }
+        return new ZWaveCommandClassPayload(command.getBuffer(), command.getOffset() + OVERHEAD, length);
+    }
+
+    /**
+     * Creates the SUPERVISION_REPORT to send in response to a SUPERVISION_GET received from a node
+     *
+     * @param sessionId the session ID of the SUPERVISION_GET
+     * @param status the status - one of the STATUS constants
+     * @return the SUPERVISION_REPORT {@link ZWaveCommandClassPayload}
+     */
+    public static ZWaveCommandClassPayload getReport(int sessionId, int status) {
+        return new ZWaveCommandClassPayload(new byte[] { (byte) COMMAND_CLASS_KEY,
+                (byte) CommandClassSupervisionV1.SUPERVISION_REPORT, (byte) (sessionId & SESSION_ID_MASK),
+                (byte) status, 0 });
+    }
+}
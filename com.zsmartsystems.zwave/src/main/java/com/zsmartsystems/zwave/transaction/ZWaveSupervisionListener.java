@@ -0,0 +1,23 @@
+package com.zsmartsystems.zwave.transaction;
+
+import com.zsmartsystems.zwave.ZWaveCommandClassPayload;
+
+/**
+ * Listener notified of the status updates a node sends while it executes a supervised command. The final status
+ * completes the transaction future.
+ *
+ * @author Chris Jackson
+ *
+ */
+public interface ZWaveSupervisionListener {
+    /**
+     * Called when a node reports that it is still executing a supervised command, and that it will report again once
+     * the command completes
+     *
+     * @param nodeId the node executing the command
+     * @param command the supervised {@link ZWaveCommandClassTransactionPayload}
+     * @param report the SUPERVISION_REPORT {@link ZWaveCommandClassPayload} holding the status and time remaining
+     */
+    void supervisionStatusUpdate(int nodeId, ZWaveCommandClassTransactionPayload command,
+            ZWaveCommandClassPayload report);
+}
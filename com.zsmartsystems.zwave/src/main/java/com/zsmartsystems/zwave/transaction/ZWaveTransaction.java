@@ -1,7 +1,6 @@
 package com.zsmartsystems.zwave.transaction;
 
-import java.util.Arrays;
-import java.util.Date;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
@@ -9,6 +8,7 @@ import org.slf4j.LoggerFactory;
 
 import com.zsmartsystems.zwave.ZWaveCommandClassPayload;
 import com.zsmartsystems.zwave.commandclass.ZWaveCommandClassEnum;
+import com.zsmartsystems.zwave.timer.ZWaveTimeout;
 
 /**
  * This class handles transaction tracking for ZWave.
@@ -56,6 +56,11 @@ public class ZWaveTransaction {
     private TransactionPriority priority;
     private long dataTimeout;
 
+    /**
+     * The report that completed the transaction
+     */
+    private ZWaveCommandClassPayload responsePayload;
+
     private TransactionState transactionStateCancelled = TransactionState.UNINTIALIZED;
     private TransactionState transactionStateTracker = TransactionState.UNINTIALIZED;
 
@@ -65,7 +70,38 @@ public class ZWaveTransaction {
     private boolean requiresResponse = true;
 
     private long startTime;
-    private Date timeout;
+    private ZWaveTimeout timeout;
+
+    /**
+     * Completed with the response once the transaction finishes
+     */
+    private final CompletableFuture<ZWaveTransactionResponse> future = new CompletableFuture<ZWaveTransactionResponse>();
+
+    /**
+     * Next transaction waiting for the same response in the {@link ZWaveTransactionIndex}
+     */
+    ZWaveTransaction nextIndexed;
+
+    /**
+     * The node queue this transaction was taken from by the {@link ZWaveTransactionScheduler} while it is in flight
+     */
+    ZWaveNodeTransactionQueue scheduledQueue;
+
+    /**
+     * The {@link ZWaveSupervision} session ID while the transaction is supervised, or -1
+     */
+    int supervisionSessionId = -1;
+
+    /**
+     * The command held in the SUPERVISION_GET while the transaction is supervised
+     */
+    ZWaveCommandClassTransactionPayload supervisedPayload;
+
+    /**
+     * The payload the transaction was created with. The payload that is sent can be replaced - eg when the transaction
+     * is supervised - so transactions are compared on this, which doesn't change once the transaction is queued.
+     */
+    private final ZWaveCommandClassTransactionPayload requestPayload;
 
     public ZWaveTransaction(final ZWaveCommandClassTransactionPayload payload) {
         this.priority = payload.getPriority();
@@ -82,6 +118,7 @@ public class ZWaveTransaction {
             this.requiresResponse = payload.getRequiresResponse();
         }
         this.payload = payload;
+        this.requestPayload = payload;
     }
 
     public void setPayload(ZWaveCommandClassTransactionPayload payload) {
@@ -108,6 +145,12 @@ public class ZWaveTransaction {
         // return;
         // }
 
+        // If we're expecting data from the node, then we wait for the response
+        if (requiresResponse && payload.getExpectedResponseCommandClass() != null) {
+            transactionStateTracker = TransactionState.WAIT_DATA;
+            return;
+        }
+
         // If we get here, we don't require any response, so we're done!
         transactionStateTracker = TransactionState.DONE;
     }
@@ -116,6 +159,10 @@ public class ZWaveTransaction {
         return payload.getPayloadBuffer();
     }
 
+    public ZWaveCommandClassTransactionPayload getPayload() {
+        return payload;
+    }
+
     public int getNodeId() {
         return payload.getDestinationNode();
     }
@@ -164,14 +211,24 @@ public class ZWaveTransaction {
         return System.currentTimeMillis() - startTime;
     }
 
-    public void setTimeout(Date timeout) {
+    public void setTimeout(ZWaveTimeout timeout) {
         this.timeout = timeout;
     }
 
-    public Date getTimeout() {
+    public ZWaveTimeout getTimeout() {
         return timeout;
     }
 
+    /**
+     * Gets the future that is completed with the {@link ZWaveTransactionResponse} when this transaction finishes,
+     * either because the response has been received or because the transaction was cancelled.
+     *
+     * @return the {@link CompletableFuture} for this transaction
+     */
+    public CompletableFuture<ZWaveTransactionResponse> getFuture() {
+        return future;
+    }
+
     public void setTransactionCanceled() {
         logger.debug("Transaction {} CANCELLED", transactionId);
         transactionStateCancelled = transactionStateTracker;
@@ -213,6 +270,15 @@ public class ZWaveTransaction {
         return dataTimeout;
     }
 
+    /**
+     * Gets the report received from the node that completed the transaction
+     *
+     * @return the response {@link ZWaveCommandClassPayload} or null if no report has been received
+     */
+    public ZWaveCommandClassPayload getResponsePayload() {
+        return responsePayload;
+    }
+
     public boolean transactionAdvance(ZWaveCommandClassPayload incomingMessage) {
         logger.debug("TransactionAdvance ST: {}", transactionStateTracker);
         // logger.debug("TransactionAdvance TX: {}", serialMessageDebug);
@@ -238,6 +304,7 @@ public class ZWaveTransaction {
                 // }
 
                 // We've received the data we wanted - we're done
+                responsePayload = incomingMessage;
                 transactionStateTracker = TransactionState.DONE;
                 break;
 
@@ -279,40 +346,28 @@ public class ZWaveTransaction {
         return waitForResponse;
     }
 
+    @Override
+    public int hashCode() {
+        return 31 * (31 * requestPayload.getDestinationNode() + requestPayload.getEndpointId())
+                + requestPayload.payloadHashCode();
+    }
+
     @Override
     public boolean equals(Object arg0) {
-        if (arg0 == null) {
-            return false;
+        if (this == arg0) {
+            return true;
         }
-
-        ZWaveTransaction other = (ZWaveTransaction) arg0;
-
-        if (arg0.getClass() != this.getClass()) {
+        if (arg0 == null || arg0.getClass() != this.getClass()) {
             return false;
         }
 
-        // if (getExpectedReplyClass() != other.getExpectedReplyClass()) {
-        // return false;
-        // }
-
-        if (getNodeId() != other.getNodeId()) {
-            logger.debug(">>>>> transaction node Id is different");
+        ZWaveTransaction other = (ZWaveTransaction) arg0;
+        if (requestPayload.getDestinationNode() != other.requestPayload.getDestinationNode()
+                || requestPayload.getEndpointId() != other.requestPayload.getEndpointId()) {
             return false;
         }
 
-        // if (payload.getSerialMessageClass() != other.getSerialMessageClass()) {
-        // return false;
-        // }
-
-        if (Arrays.equals(payload.getPayloadBuffer(), other.getPayloadBuffer())) {
-            logger.debug(">>>>> transaction payload is the same [{}] == [{}]", payload.getPayloadBuffer(),
-                    other.getPayloadBuffer());
-            return true;
-        } else {
-            logger.debug(">>>>> transaction payload is NOT the same");
-        }
-
-        return false;
+        return requestPayload.payloadEquals(other.requestPayload);
     }
 
     @Override
@@ -0,0 +1,259 @@
+package com.zsmartsystems.zwave.transaction;
+
+import java.util.Arrays;
+
+import com.zsmartsystems.zwave.transaction.ZWaveTransaction.TransactionState;
+
+/**
+ * Index of outstanding transactions keyed on the node ID, and the command class and command of the expected response.
+ * <p>
+ * This allows an incoming command to be correlated with the transaction that is waiting for it in constant time.
+ * Keys are packed into an int and stored in an open addressed table so that lookups do not box or allocate.
+ * Transactions with the same key are chained in the order they were added so that the oldest transaction
+ * receives the response first.
+ * <p>
+ * This class is not thread safe - callers must synchronise access.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZWaveTransactionIndex {
+    private static final int INITIAL_CAPACITY = 32;
+
+    private static final int EMPTY = -1;
+    private static final int DELETED = -2;
+
+    private int[] keys;
+    private ZWaveTransaction[] values;
+
+    /**
+     * Number of slots holding a key
+     */
+    private int size = 0;
+
+    /**
+     * Number of slots that are not empty - ie including deleted slots
+     */
+    private int used = 0;
+
+    public ZWaveTransactionIndex() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new ZWaveTransaction[capacity];
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+        used = 0;
+    }
+
+    /**
+     * Gets the index key for the response
+     *
+     * @param nodeId the node ID
+     * @param commandClass the command class key
+     * @param command the command
+     * @return the index key
+     */
+    public static int getKey(int nodeId, int commandClass, int command) {
+        return ((nodeId & 0xFFF) << 16) | ((commandClass & 0xFF) << 8) | (command & 0xFF);
+    }
+
+    private static int getKey(ZWaveTransaction transaction) {
+        if (transaction.getExpectedCommandClass() == null || transaction.getExpectedCommandClassCommand() == null) {
+            return EMPTY;
+        }
+        return getKey(transaction.getNodeId(), transaction.getExpectedCommandClass().getKey(),
+                transaction.getExpectedCommandClassCommand());
+    }
+
+    private int findSlot(int key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private static int mix(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Adds a transaction to the index. Transactions that don't expect a response are not indexed.
+     *
+     * @param transaction the {@link ZWaveTransaction} to add
+     * @return true if the transaction was added
+     */
+    public boolean add(ZWaveTransaction transaction) {
+        int key = getKey(transaction);
+        if (key == EMPTY) {
+            return false;
+        }
+
+        transaction.nextIndexed = null;
+        int slot = findSlot(key);
+        if (slot != -1) {
+            // Append to the end of the chain
+            ZWaveTransaction last = values[slot];
+            while (last.nextIndexed != null) {
+                last = last.nextIndexed;
+            }
+            last.nextIndexed = transaction;
+            return true;
+        }
+
+        if ((used + 1) * 2 > keys.length) {
+            rehash(size * 4 > keys.length ? keys.length * 2 : keys.length);
+        }
+
+        int mask = keys.length - 1;
+        slot = mix(key) & mask;
+        while (keys[slot] >= 0) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == EMPTY) {
+            used++;
+        }
+        keys[slot] = key;
+        values[slot] = transaction;
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes a transaction from the index
+     *
+     * @param transaction the {@link ZWaveTransaction} to remove
+     * @return true if the transaction was removed
+     */
+    public boolean remove(ZWaveTransaction transaction) {
+        int key = getKey(transaction);
+        if (key == EMPTY) {
+            return false;
+        }
+
+        int slot = findSlot(key);
+        if (slot == -1) {
+            return false;
+        }
+
+        ZWaveTransaction previous = null;
+        ZWaveTransaction current = values[slot];
+        while (current != null && current != transaction) {
+            previous = current;
+            current = current.nextIndexed;
+        }
+        if (current == null) {
+            return false;
+        }
+
+        if (previous != null) {
+            previous.nextIndexed = current.nextIndexed;
+        } else if (current.nextIndexed != null) {
+            values[slot] = current.nextIndexed;
+        } else {
+            keys[slot] = DELETED;
+            values[slot] = null;
+            size--;
+        }
+        current.nextIndexed = null;
+        return true;
+    }
+
+    /**
+     * Gets the oldest transaction that is waiting for the specified response
+     *
+     * @param nodeId the node ID the response was received from
+     * @param commandClass the command class key of the response
+     * @param command the command of the response
+     * @return the {@link ZWaveTransaction} waiting for this response, or null if there is none
+     */
+    public ZWaveTransaction get(int nodeId, int commandClass, int command) {
+        int slot = findSlot(getKey(nodeId, commandClass, command));
+        if (slot == -1) {
+            return null;
+        }
+
+        ZWaveTransaction transaction = values[slot];
+        while (transaction != null && transaction.getTransactionState() != TransactionState.WAIT_DATA) {
+            transaction = transaction.nextIndexed;
+        }
+        return transaction;
+    }
+
+    /**
+     * Gets the oldest transaction to an endpoint that is waiting for the specified response. Transactions to different
+     * endpoints of a node wait for the same response, so the endpoint the response was received from is checked as the
+     * chain is walked.
+     *
+     * @param nodeId the node ID the response was received from
+     * @param endpointId the endpoint the response was received from
+     * @param commandClass the command class key of the response
+     * @param command the command of the response
+     * @return the {@link ZWaveTransaction} waiting for this response, or null if there is none
+     */
+    public ZWaveTransaction get(int nodeId, int endpointId, int commandClass, int command) {
+        int slot = findSlot(getKey(nodeId, commandClass, command));
+        if (slot == -1) {
+            return null;
+        }
+
+        ZWaveTransaction transaction = values[slot];
+        while (transaction != null && (transaction.getTransactionState() != TransactionState.WAIT_DATA
+                || transaction.getPayload().getEndpointId() != endpointId)) {
+            transaction = transaction.nextIndexed;
+        }
+        return transaction;
+    }
+
+    /**
+     * Gets the number of distinct responses being waited for
+     *
+     * @return the number of keys in the index
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all transactions from the index
+     */
+    public void clear() {
+        for (ZWaveTransaction transaction : values) {
+            while (transaction != null) {
+                ZWaveTransaction next = transaction.nextIndexed;
+                transaction.nextIndexed = null;
+                transaction = next;
+            }
+        }
+        allocate(keys.length);
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        ZWaveTransaction[] oldValues = values;
+        allocate(capacity);
+
+        int mask = capacity - 1;
+        for (int cnt = 0; cnt < oldKeys.length; cnt++) {
+            if (oldKeys[cnt] < 0) {
+                continue;
+            }
+            int slot = mix(oldKeys[cnt]) & mask;
+            while (keys[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[cnt];
+            values[slot] = oldValues[cnt];
+            size++;
+            used++;
+        }
+    }
+}
@@ -1,27 +1,29 @@
 package com.zsmartsystems.zwave.transaction;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.Date;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Timer;
-import java.util.TimerTask;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.Callable;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.zsmartsystems.zwave.ZWaveCommandClassPayload;
+import com.zsmartsystems.zwave.ZWaveEndpoint;
 import com.zsmartsystems.zwave.ZWaveNetwork;
 import com.zsmartsystems.zwave.ZWaveNode;
+import com.zsmartsystems.zwave.ZWaveNodeListener;
+import com.zsmartsystems.zwave.ZWaveTransportReceive;
 import com.zsmartsystems.zwave.commandclass.ZWaveCommandClassEnum;
 import com.zsmartsystems.zwave.commandclass.ZWaveSecurityCommandClass;
+import com.zsmartsystems.zwave.timer.ZWaveTimeout;
 import com.zsmartsystems.zwave.transaction.ZWaveTransaction.TransactionState;
 import com.zsmartsystems.zwave.transaction.ZWaveTransactionResponse.State;
 
@@ -65,9 +67,15 @@ import com.zsmartsystems.zwave.transaction.ZWaveTransactionResponse.State;
  * <li>Only a single transaction still awaiting a <i>RES</i>ponse can be outstanding to ANY node.</li>
  * <li>Only a single transaction still awaiting a <i>REQ</i>uest can be outstanding to a specific node.</li>
  * <li>Only a single transaction requiring a <i>DATA</i> response can be released at once to a specific node.</li>
- * <li>A total of MAX_OUTSTANDING_TRANSACTIONS can be outstanding at once.</li>
+ * <li>A total of {@link #setMaxOutstandingTransactions maxOutstandingTransactions} can be outstanding at once.</li>
  * </ul>
  * </p>
+ * <p>
+ * Transactions to different nodes are pipelined - while one node is waiting for its <i>DATA</i>, transactions can be
+ * released to other nodes up to the global limit, so slow or routed nodes don't hold up the rest of the network. The
+ * number of transactions released to a single node is set with {@link #setMaxNodeOutstandingTransactions} and defaults
+ * to one. Setting the global limit to one sends a single transaction at a time across the whole network.
+ * </p>
  * <h2>Transaction Flow</h2>
  * <p>
  * Transactions are processed as follows -:
@@ -88,6 +96,11 @@ import com.zsmartsystems.zwave.transaction.ZWaveTransactionResponse.State;
  * per node at once (with the exception below).
  * </p>
  * <p>
+ * Each node has its own queue, and the {@link ZWaveTransactionScheduler} maintains a ready set of the nodes that are
+ * able to receive messages. Queueing a transaction only touches the queue of the destination node, so application
+ * threads do not contend with the receive thread, and sleeping nodes cost nothing when selecting the next transaction.
+ * </p>
+ * <p>
  * This class provides a semaphore to block the send thread (or maybe this should directly call the send method?)
  * </p>
  * <p>
@@ -96,7 +109,8 @@ import com.zsmartsystems.zwave.transaction.ZWaveTransactionResponse.State;
  * <p>
  * <h2>Timeouts</h2>
  * <p>
- * A timer thread manages timeouts - different times are used for the different stages of a transaction.
+ * Each outstanding transaction has its own timeout scheduled on the shared network timer - different times are used
+ * for the different stages of a transaction.
  * Defaults for each timer are as follows -:
  * <ul>
  * <li><i>RES</i>ponse - should be received within <b>250ms</b> of the <i>REQ</i>uest</li>
@@ -104,22 +118,39 @@ import com.zsmartsystems.zwave.transaction.ZWaveTransactionResponse.State;
  * </li>
  * <li><i>DATA</i> - should be received within <b>2500ms</b> of the <i>REQ</i>uest.</li>
  * </ul>
- * When a timeout occurs - what????
+ * When a timeout occurs the transaction is removed from the outstanding list and requeued if it has attempts
+ * remaining, otherwise it is cancelled and the sender is notified.
  * </p>
  * <h2>Cancelled Transactions</h2>
  * <p>
  * Transactions can be cancelled by a message handler - for example if there's a timeout in a transaction we can
  * cancel the transaction without waiting for the DATA response.
  * </p>
+ * <h2>Supervision</h2>
+ * <p>
+ * SETs to nodes that support COMMAND_CLASS_SUPERVISION are wrapped in a SUPERVISION_GET when they are sent, and
+ * complete when the node reports the result, so a GET isn't needed to confirm the SET. While the node reports it is
+ * still working, the timeout is extended by the time it reports and {@link ZWaveSupervisionListener}s are notified.
+ * A failed status completes the transaction as {@link State#CANCELLED} with the report as the payload.
+ * </p>
  *
  * @author Chris Jackson - Initial Contribution
  *
  */
-public class ZWaveTransactionManager {
+public class ZWaveTransactionManager implements ZWaveTransportReceive {
     private Logger logger = LoggerFactory.getLogger(ZWaveTransactionManager.class);
 
+    private static final int COMMAND_CLASS_SECURITY_KEY = ZWaveCommandClassEnum.COMMAND_CLASS_SECURITY.getKey();
+    private static final int COMMAND_CLASS_SECURITY_2_KEY = ZWaveCommandClassEnum.COMMAND_CLASS_SECURITY_2.getKey();
+
+    /**
+     * The serial API request the controller uses to pass a command received from a node
+     */
+    private static final int APPLICATION_COMMAND_HANDLER = 0x04;
+    private static final int REQUEST = 0x00;
+
     private final int INITIAL_TX_QUEUE_SIZE = 128;
-    // private final int MAX_OUTSTANDING_TRANSACTIONS = 3;
+    private final int MAX_OUTSTANDING_TRANSACTIONS = 3;
 
     private ZWaveNetwork controller;
 
@@ -138,64 +169,131 @@ public class ZWaveTransactionManager {
      */
     private final long timerAbort = 12000;
 
-    private final Timer timer = new Timer();
-    private TimerTask timerTask = null;
-
-    private final ArrayBlockingQueue<ZWaveCommandClassPayload> recvQueue;
+    private final ZWaveReceiveRing recvQueue;
 
-    private final PriorityBlockingQueue<ZWaveTransaction> sendQueue = new PriorityBlockingQueue<ZWaveTransaction>(
-            INITIAL_TX_QUEUE_SIZE, new ZWaveTransactionComparator());
-    private final PriorityBlockingQueue<ZWaveTransaction> secureQueue = new PriorityBlockingQueue<ZWaveTransaction>(
-            INITIAL_TX_QUEUE_SIZE, new ZWaveTransactionComparator());
-    private final PriorityBlockingQueue<ZWaveTransaction> controllerQueue = new PriorityBlockingQueue<ZWaveTransaction>(
-            INITIAL_TX_QUEUE_SIZE, new ZWaveTransactionComparator());
+    private final ZWaveTransactionScheduler sendQueue;
+    private final ZWaveTransactionPriorityQueue secureQueue = new ZWaveTransactionPriorityQueue();
+    private final ZWaveTransactionPriorityQueue controllerQueue = new ZWaveTransactionPriorityQueue();
 
     private ZWaveReceiveThread receiveThread;
 
-    private ExecutorService executor = Executors.newCachedThreadPool();
-    private final List<TransactionListener> transactionListeners = new ArrayList<TransactionListener>();
-
     private final List<ZWaveTransaction> outstandingTransactions = new ArrayList<ZWaveTransaction>();
 
+    /**
+     * Index of the outstanding transactions keyed on the response they are waiting for. Guarded by
+     * outstandingTransactions.
+     */
+    private final ZWaveTransactionIndex outstandingIndex = new ZWaveTransactionIndex();
+
     private ZWaveTransaction lastTransaction = null;
 
-    public ZWaveTransactionManager(ZWaveNetwork controller) {
-        this.controller = controller;
+    /**
+     * GET transactions that are queued or in flight, so that an identical GET can share the same transaction rather
+     * than being sent again. Guarded by itself.
+     */
+    private final Map<ZWaveTransaction, ZWaveTransaction> pendingGets = new HashMap<ZWaveTransaction, ZWaveTransaction>();
 
-        recvQueue = new ArrayBlockingQueue<ZWaveCommandClassPayload>(INITIAL_TX_QUEUE_SIZE);
+    /**
+     * The maximum number of transactions outstanding across all nodes. Guarded by outstandingTransactions.
+     */
+    private int maxOutstandingTransactions = MAX_OUTSTANDING_TRANSACTIONS;
 
-        receiveThread = new ZWaveReceiveThread();
-        receiveThread.start();
-    }
+    /**
+     * Transactions that completed as soon as they were sent, waiting to be notified once the lock is released. Only
+     * accessed by the thread servicing the queues.
+     */
+    private final List<ZWaveTransaction> completedOnSend = new ArrayList<ZWaveTransaction>();
 
-    private void addTransactionListener(TransactionListener listener) {
-        synchronized (transactionListeners) {
-            if (transactionListeners.contains(listener)) {
-                return;
-            }
+    /**
+     * True if queued transactions for a sleeping node are packed into MULTI_CMD_ENCAP frames when it wakes up
+     */
+    private volatile boolean multiCommandEnabled = true;
+
+    /**
+     * True if SETs to nodes supporting COMMAND_CLASS_SUPERVISION are wrapped in a SUPERVISION_GET
+     */
+    private volatile boolean supervisionEnabled = true;
+
+    /**
+     * Allocates supervision sessions and correlates SUPERVISION_REPORTs with the supervised transactions
+     */
+    private final ZWaveSupervision supervision = new ZWaveSupervision();
+
+    private final List<ZWaveSupervisionListener> supervisionListeners = new CopyOnWriteArrayList<ZWaveSupervisionListener>();
 
-            transactionListeners.add(listener);
+    /**
+     * Cache of responses to GET transactions, or null if responses are not cached
+     */
+    private volatile ZWaveResponseCache responseCache;
+
+    /**
+     * Counts requests to send the next message so that only a single thread services the queues at once
+     */
+    private final AtomicInteger sendRequests = new AtomicInteger();
+
+    /**
+     * The transmitter that released commands are sent to, or null if commands are not sent
+     */
+    private volatile ZWaveCommandTransmitter transmitter;
+
+    /**
+     * Segments commands that are too long for a single frame, and reassembles segmented commands from nodes
+     */
+    private final ZWaveTransportService transportService;
+
+    /**
+     * Cancels the transactions queued for nodes that are removed from the network
+     */
+    private final ZWaveNodeListener nodeListener = new ZWaveNodeListener() {
+        @Override
+        public void nodeAdded(ZWaveNode node) {
         }
-    }
 
-    private void removeTransactionListener(TransactionListener listener) {
-        synchronized (transactionListeners) {
-            transactionListeners.remove(listener);
+        @Override
+        public void nodeRemoved(ZWaveNode node) {
+            cancelNodeTransactions(node.getNodeId());
         }
+    };
+
+    /**
+     * Creates the transaction manager for a network. The manager registers itself with the network, so transactions
+     * sent through the {@link ZWaveNetwork} are queued here.
+     *
+     * @param controller the {@link ZWaveNetwork}
+     */
+    public ZWaveTransactionManager(ZWaveNetwork controller) {
+        this.controller = controller;
+
+        transportService = new ZWaveTransportService(controller.getTimer(), (nodeId, buffer, offset, length) -> {
+            ZWaveCommandTransmitter commandTransmitter = transmitter;
+            return commandTransmitter != null && commandTransmitter.sendCommand(nodeId, buffer, offset, length);
+        });
+
+        sendQueue = new ZWaveTransactionScheduler(controller);
+
+        recvQueue = new ZWaveReceiveRing(INITIAL_TX_QUEUE_SIZE);
+
+        receiveThread = new ZWaveReceiveThread();
+        receiveThread.start();
+
+        controller.setTransactionManager(this);
+        controller.addNodeListener(nodeListener);
     }
 
+    /**
+     * Completes the future of a transaction that has finished. This is called directly from the thread that finished
+     * the transaction (the receive thread, the timer or the sender) and must be called without holding the
+     * outstandingTransactions lock as dependent stages of the future run on this thread and may queue further
+     * transactions.
+     *
+     * @param transaction the finished {@link ZWaveTransaction}
+     */
     private void notifyTransactionComplete(final ZWaveTransaction transaction) {
         logger.debug("NODE {}: notifyTransactionResponse {}", transaction.getNodeId(), transaction.getTransactionId());
-        new Thread() {
-            @Override
-            public void run() {
-                synchronized (transactionListeners) {
-                    for (TransactionListener listener : transactionListeners) {
-                        listener.transactionEvent(transaction);
-                    }
-                }
-            }
-        }.start();
+
+        ZWaveTransactionResponse response = new ZWaveTransactionResponse(getResponseState(transaction),
+                transaction.getResponsePayload());
+        transaction.getFuture().complete(response);
 
         // If this transaction isn't complete, check if it's a secure transaction as we need to
         // abort the original request.
@@ -205,15 +303,28 @@ public class ZWaveTransactionManager {
             logger.debug("NODE {}: processing secure transaction -- {}", transaction.getNodeId(),
                     secureTransaction.getLinkedTransaction().getTransactionId());
 
-            synchronized (transactionListeners) {
-                for (TransactionListener listener : transactionListeners) {
-                    listener.transactionEvent(secureTransaction.getLinkedTransaction());
-                }
-            }
+            sendQueue.remove(secureTransaction.getLinkedTransaction());
+            secureTransaction.getLinkedTransaction().getFuture().complete(response);
+        }
+    }
 
-            synchronized (sendQueue) {
-                sendQueue.remove(secureTransaction.getLinkedTransaction());
-            }
+    private ZWaveTransactionResponse.State getResponseState(ZWaveTransaction transaction) {
+        if (transaction.getTransactionState() == TransactionState.DONE) {
+            return State.COMPLETE;
+        }
+
+        switch (transaction.getTransactionCancelledState()) {
+            case WAIT_DATA:
+                return State.TIMEOUT_WAITING_FOR_DATA;
+            case WAIT_RESPONSE:
+                return State.TIMEOUT_WAITING_FOR_CONTROLLER;
+            case WAIT_REQUEST:
+                return State.TIMEOUT_WAITING_FOR_RESPONSE;
+            case UNINTIALIZED:
+                logger.debug("Completing UNINTIALIZED transaction {}!!! How?!?", transaction.getTransactionId());
+                return State.CANCELLED;
+            default:
+                return State.CANCELLED;
         }
     }
 
@@ -239,7 +350,15 @@ public class ZWaveTransactionManager {
     }
 
     public long queueTransactionForSend(ZWaveCommandClassTransactionPayload payload) {
+        ZWaveTransaction transaction = createTransaction(payload);
+
+        // Add the transaction to the queue
+        addTransactionToQueue(transaction);
 
+        return transaction.getTransactionId();
+    }
+
+    private ZWaveTransaction createTransaction(ZWaveCommandClassTransactionPayload payload) {
         // Create a transaction from our payload data
         ZWaveTransaction transaction = new ZWaveTransaction(payload);
         if (payload.getMaxAttempts() != 0) {
@@ -247,24 +366,175 @@ public class ZWaveTransactionManager {
         }
         // transaction.getSerialMessageClass();
 
-        // Add the transaction to the queue
-        addTransactionToQueue(transaction);
+        return transaction;
+    }
 
-        return transaction.getTransactionId();
+    /**
+     * Sets the maximum number of transactions that can be outstanding across the whole network at once. This should
+     * not exceed the number of transactions the controller can handle.
+     *
+     * @param maxOutstandingTransactions the maximum number of outstanding transactions. Must be at least 1.
+     */
+    public void setMaxOutstandingTransactions(int maxOutstandingTransactions) {
+        if (maxOutstandingTransactions < 1) {
+            throw new IllegalArgumentException("Maximum outstanding transactions must be at least 1");
+        }
+        synchronized (outstandingTransactions) {
+            this.maxOutstandingTransactions = maxOutstandingTransactions;
+        }
+        sendNextMessage();
+    }
+
+    /**
+     * Sets the maximum number of transactions that can be outstanding to a single node at once
+     *
+     * @param maxNodeOutstandingTransactions the maximum number of outstanding transactions per node. Must be at least
+     *            1.
+     */
+    public void setMaxNodeOutstandingTransactions(int maxNodeOutstandingTransactions) {
+        sendQueue.setNodeWindow(maxNodeOutstandingTransactions);
+        sendNextMessage();
+    }
+
+    /**
+     * Sets the time a queued transaction waits before it is treated as the next priority level up. This ensures that
+     * low priority transactions such as polls are eventually sent when the network is busy.
+     *
+     * @param agingTime the aging time in milliseconds, or 0 to disable aging
+     */
+    public void setQueueAgingTime(long agingTime) {
+        sendQueue.setAgingTime(agingTime);
+        secureQueue.setAgingTime(agingTime);
+        controllerQueue.setAgingTime(agingTime);
+        sendNextMessage();
+    }
+
+    /**
+     * Sets whether queued transactions for a sleeping node are packed into MULTI_CMD_ENCAP frames when it wakes up.
+     * This only applies to nodes that list COMMAND_CLASS_MULTI_CMD in their NIF.
+     *
+     * @param multiCommandEnabled true to pack transactions into MULTI_CMD_ENCAP frames
+     */
+    public void setMultiCommandEnabled(boolean multiCommandEnabled) {
+        this.multiCommandEnabled = multiCommandEnabled;
+    }
+
+    /**
+     * Sets whether SETs to nodes that list COMMAND_CLASS_SUPERVISION in their NIF are wrapped in a SUPERVISION_GET. The
+     * transaction then completes once the node reports the SET has been executed, so no GET is needed to confirm it.
+     *
+     * @param supervisionEnabled true to supervise SETs
+     */
+    public void setSupervisionEnabled(boolean supervisionEnabled) {
+        this.supervisionEnabled = supervisionEnabled;
+    }
+
+    /**
+     * Adds a listener notified of the status updates a node sends while it executes a supervised SET
+     *
+     * @param listener the {@link ZWaveSupervisionListener} to add
+     */
+    public void addSupervisionListener(ZWaveSupervisionListener listener) {
+        supervisionListeners.add(listener);
+    }
+
+    /**
+     * Removes a supervision listener
+     *
+     * @param listener the {@link ZWaveSupervisionListener} to remove
+     */
+    public void removeSupervisionListener(ZWaveSupervisionListener listener) {
+        supervisionListeners.remove(listener);
     }
 
-    private void addTransactionToQueue(ZWaveTransaction transaction) {
-        synchronized (sendQueue) {
-            if (sendQueue.contains(transaction)) {
-                logger.debug("NODE {}: Transaction already in queue - removing original", transaction.getNodeId());
-                sendQueue.remove(transaction);
+    private void addTransactionToQueue(final ZWaveTransaction transaction) {
+        invalidateCachedResponses(transaction);
+        if (coalesceTransaction(transaction)) {
+            return;
+        }
+
+        sendQueue.add(transaction);
+        logger.debug("NODE {}: Added to queue - size {}", transaction.getNodeId(),
+                sendQueue.size(transaction.getQueueId()));
+
+        sendNextMessage();
+    }
+
+    /**
+     * Discards the cached responses that a transaction may change. A transaction that doesn't wait for a report, such
+     * as a SET, invalidates the cached responses for its node, endpoint and command class when it is queued, and again
+     * when it completes in case a GET was answered in the meantime with the original value.
+     *
+     * @param transaction the {@link ZWaveTransaction} being queued
+     */
+    private void invalidateCachedResponses(ZWaveTransaction transaction) {
+        final ZWaveResponseCache cache = responseCache;
+        final ZWaveCommandClassTransactionPayload payload = transaction.getPayload();
+        if (cache == null || payload.getPayloadLength() == 0
+                || (payload.getRequiresResponse() && payload.getExpectedResponseCommandClass() != null)) {
+            return;
+        }
+
+        final int nodeId = payload.getDestinationNode();
+        final int endpointId = payload.getEndpointId();
+        final int commandClass = payload.getCommandClassId();
+        cache.invalidate(nodeId, endpointId, commandClass);
+        transaction.getFuture()
+                .whenComplete((response, exception) -> cache.invalidate(nodeId, endpointId, commandClass));
+    }
+
+    /**
+     * Coalesces GET transactions. If an identical GET to the same node is already queued or in flight, the transaction
+     * is not sent - instead it is completed with the response to the pending transaction. Otherwise a GET is recorded
+     * as pending until it completes.
+     *
+     * @param transaction the {@link ZWaveTransaction} being queued
+     * @return true if the transaction was coalesced with a pending transaction and must not be queued
+     */
+    private boolean coalesceTransaction(final ZWaveTransaction transaction) {
+        if (!transaction.getRequiresResponse() || transaction.getExpectedCommandClass() == null) {
+            return false;
+        }
+
+        final ZWaveTransaction pending;
+        synchronized (pendingGets) {
+            pending = pendingGets.get(transaction);
+            if (pending == null) {
+                pendingGets.put(transaction, transaction);
             }
-            sendQueue.add(transaction);
-            logger.debug("NODE {}: Added to queue - size {}", transaction.getNodeId(), controllerQueue.size());
         }
 
+        if (pending == null) {
+            transaction.getFuture().whenComplete((response, exception) -> {
+                synchronized (pendingGets) {
+                    if (pendingGets.get(transaction) == transaction) {
+                        pendingGets.remove(transaction);
+                    }
+                }
+            });
+            return false;
+        }
+
+        logger.debug("NODE {}: Transaction {} coalesced with pending transaction {}", transaction.getNodeId(),
+                transaction.getTransactionId(), pending.getTransactionId());
+        pending.getFuture().whenComplete((response, exception) -> {
+            if (exception != null) {
+                transaction.getFuture().completeExceptionally(exception);
+            } else {
+                transaction.getFuture().complete(response);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Notifies the transaction manager that a node has woken up so that any queued transactions can be released.
+     *
+     * @param nodeId the node that is now awake
+     */
+    public void notifyNodeAwake(int nodeId) {
+        sendQueue.notifyNodeReady(nodeId);
         sendNextMessage();
-        startTransactionTimer();
     }
 
     /**
@@ -278,18 +548,9 @@ public class ZWaveTransactionManager {
             return controllerQueue.size();
         }
 
-        synchronized (sendQueue) {
-            int outstandingCount = 0;
-            for (ZWaveTransaction transaction : secureQueue) {
-                if (transaction.getNodeId() == nodeId) {
-                    outstandingCount++;
-                }
-            }
-            for (ZWaveTransaction transaction : sendQueue) {
-                if (transaction.getNodeId() == nodeId) {
-                    outstandingCount++;
-                }
-            }
+        int outstandingCount = sendQueue.size(nodeId) + secureQueue.size(nodeId);
+
+        synchronized (outstandingTransactions) {
             for (ZWaveTransaction transaction : outstandingTransactions) {
                 if (transaction.getNodeId() == nodeId) {
                     outstandingCount++;
@@ -301,209 +562,506 @@ public class ZWaveTransactionManager {
     }
 
     /**
-     * Clear the send queue
+     * Cancels the transactions queued for a node. The futures of the transactions are completed as
+     * {@link State#CANCELLED}. Transactions that are already in flight complete or time out as normal.
+     *
+     * @param nodeId the node ID
+     */
+    private void cancelNodeTransactions(int nodeId) {
+        List<ZWaveTransaction> transactions = sendQueue.clear(nodeId);
+        if (transactions.isEmpty()) {
+            return;
+        }
+
+        logger.debug("NODE {}: Cancelling {} queued transactions", nodeId, transactions.size());
+        cancelTransactions(transactions);
+    }
+
+    /**
+     * Clears the send queues. The futures of the queued transactions are completed as {@link State#CANCELLED}, along
+     * with any GETs coalesced with them. Transactions that are already in flight complete or time out as normal.
      */
     public void clearSendQueue() {
-        synchronized (sendQueue) {
-            sendQueue.clear();
-            secureQueue.clear();
-            controllerQueue.clear();
+        List<ZWaveTransaction> transactions = new ArrayList<ZWaveTransaction>();
+        transactions.addAll(sendQueue.clear());
+        transactions.addAll(secureQueue.clear());
+        transactions.addAll(controllerQueue.clear());
+        synchronized (pendingGets) {
+            pendingGets.clear();
+        }
+
+        logger.debug("Cancelling {} queued transactions", transactions.size());
+        cancelTransactions(transactions);
+    }
+
+    /**
+     * Completes the futures of transactions that have been removed from the queues as {@link State#CANCELLED}
+     *
+     * @param transactions the transactions to cancel
+     */
+    private void cancelTransactions(List<ZWaveTransaction> transactions) {
+        ZWaveTransactionResponse response = new ZWaveTransactionResponse(State.CANCELLED, null);
+        for (ZWaveTransaction transaction : transactions) {
+            transaction.setTransactionCanceled();
+            transaction.getFuture().complete(response);
         }
     }
 
     /**
      * Processes an incoming {@link ZWaveCommandClassPayload}
-     * This is called by the receive processing queue.
+     * The message is copied into the receive ring and processed by the receive thread. This must only be called from
+     * a single thread - normally the transport reader. The node ID is not known, so the message is processed for node
+     * 0.
      *
      * @param incomingMessage
+     * @return true if the message was queued, false if it was dropped
+     */
+    public boolean processReceiveMessage(ZWaveCommandClassPayload incomingMessage) {
+        return recvQueue.publish(0, incomingMessage.getBuffer(), incomingMessage.getOffset(),
+                incomingMessage.getPayloadLength());
+    }
+
+    /**
+     * Processes a command received from a node. The command is copied into the receive ring and processed by the
+     * receive thread. This must only be called from a single thread - normally the transport reader.
+     *
+     * @param nodeId the node the command was received from
+     * @param command the {@link ByteBuffer} holding the command, from its position to its limit
+     * @return true if the command was queued, false if it was dropped
      */
-    public void processReceiveMessage(ZWaveCommandClassPayload incomingMessage) {
-        logger.debug("processReceiveMessage input" + incomingMessage.toString());
+    public boolean processReceiveMessage(int nodeId, ByteBuffer command) {
+        return recvQueue.publish(nodeId, command);
+    }
+
+    /**
+     * Processes a message received from the controller. Commands that nodes send in an ApplicationCommandHandler
+     * request are copied into the receive ring, and other messages are ignored. This must only be called from a single
+     * thread - normally the transport reader.
+     *
+     * @param type the message type - 0 for a request, 1 for a response
+     * @param function the serial API function ID
+     * @param data the {@link ByteBuffer} holding the message data - the receive status, the source node, the command
+     *            length and the command
+     */
+    @Override
+    public void receiveMessage(int type, int function, ByteBuffer data) {
+        if (type != REQUEST || function != APPLICATION_COMMAND_HANDLER || data.remaining() < 3) {
+            return;
+        }
+
+        int position = data.position();
+        int limit = data.limit();
+        int nodeId = data.get(position + 1) & 0xFF;
+        int length = data.get(position + 2) & 0xFF;
+        if (length > limit - position - 3) {
+            logger.debug("NODE {}: ApplicationCommandHandler command is truncated", nodeId);
+            return;
+        }
+
+        data.position(position + 3);
+        data.limit(position + 3 + length);
+        processReceiveMessage(nodeId, data);
+        data.limit(limit);
+        data.position(position);
+    }
 
-        synchronized (recvQueue) {
-            logger.debug("processReceiveMessage past lock" + incomingMessage.toString());
-            recvQueue.add(incomingMessage);
-            recvQueue.notify();
+    /**
+     * Stops the receive thread. Queued transactions are not completed.
+     */
+    public void shutdown() {
+        controller.removeNodeListener(nodeListener);
+        receiveThread.interrupt();
+        try {
+            receiveThread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
     }
 
-    private class ZWaveReceiveThread extends Thread {
+    /**
+     * Sets the transmitter that commands are sent to once they are released from the queues
+     *
+     * @param transmitter the {@link ZWaveCommandTransmitter}
+     */
+    public void setCommandTransmitter(ZWaveCommandTransmitter transmitter) {
+        this.transmitter = transmitter;
+    }
+
+    /**
+     * Gets the {@link ZWaveTransportService} so that the frame size and timeouts can be configured
+     *
+     * @return the {@link ZWaveTransportService}
+     */
+    public ZWaveTransportService getTransportService() {
+        return transportService;
+    }
+
+    /**
+     * Sets the action taken when a message is received while the receive ring is full
+     *
+     * @param overflowPolicy the {@link ZWaveReceiveRing.OverflowPolicy}
+     */
+    public void setReceiveOverflowPolicy(ZWaveReceiveRing.OverflowPolicy overflowPolicy) {
+        recvQueue.setOverflowPolicy(overflowPolicy);
+    }
+
+    /**
+     * Gets the number of received messages that were dropped as the receive ring was full
+     *
+     * @return the number of dropped messages
+     */
+    public long getReceiveDroppedCount() {
+        return recvQueue.getDroppedCount();
+    }
+
+    private class ZWaveReceiveThread extends Thread implements ZWaveReceiveRing.ZWaveReceiveHandler {
+        /**
+         * The ring slot holding the message being processed. It is reused once {@link #messageReceived} returns.
+         */
+        private byte[] receiveSlot;
+
         @Override
         public void run() {
-            ZWaveCommandClassPayload incomingMessage;
             while (!interrupted()) {
                 if (recvQueue.isEmpty()) {
                     logger.debug("ZWaveReceiveThread queue empty");
 
                     // See if we need to send another message
                     sendNextMessage();
-                    startTransactionTimer();
                 }
 
                 try {
-                    incomingMessage = recvQueue.take();
+                    recvQueue.take(this);
                 } catch (InterruptedException e) {
-                    e.printStackTrace();
-                    continue;
+                    break;
                 }
+            }
+            logger.debug("**************************** Exiting Receive Thread");
+        }
+
+        @Override
+        public void messageReceived(int nodeId, byte[] buffer, int length) {
+            receiveSlot = buffer;
+            try {
+                processMessage(nodeId, buffer, length);
+            } catch (RuntimeException e) {
+                // Keep the receive thread running so that messages from other nodes are still processed
+                logger.warn("NODE {}: Exception processing received message: ", nodeId, e);
+            } finally {
+                receiveSlot = null;
+            }
+        }
 
-                ZWaveTransaction currentTransaction = null;
-                logger.debug("Received msg " + incomingMessage.toString());
-                logger.debug("lastTransaction " + lastTransaction);
+        /**
+         * Copies a command that is held in the ring slot, so that it can be kept once the slot is released. Commands
+         * that have already been copied out of the slot - for example by the transport service or security
+         * decapsulation - are returned unchanged.
+         *
+         * @param command the {@link ZWaveCommandClassPayload}
+         * @return a {@link ZWaveCommandClassPayload} that is not held in the ring slot
+         */
+        private ZWaveCommandClassPayload retain(ZWaveCommandClassPayload command) {
+            if (command.getBuffer() != receiveSlot) {
+                return command;
+            }
+            return new ZWaveCommandClassPayload(command.getPayloadBuffer());
+        }
 
-                // TODO: Get the node from somewhere!!!!!!
-                int nodeId = 0;// incomingMessage.getMessagePayloadByte(1);
-                ZWaveNode node = controller.getNode(nodeId);
+        private void processMessage(int nodeId, byte[] buffer, int length) {
+            ZWaveCommandClassPayload incomingMessage;
+            if (length != 0 && (buffer[0] & 0xFF) == ZWaveTransportService.COMMAND_CLASS_KEY) {
+                // Segments are reassembled straight from the slot, and only a completed datagram is processed
+                incomingMessage = transportService.processCommand(nodeId, buffer, 0, length);
+                if (incomingMessage == null) {
+                    return;
+                }
+            } else {
+                // The message is processed in place, and only copied if it is kept once we return
+                incomingMessage = new ZWaveCommandClassPayload(buffer, 0, length);
+            }
+            logger.debug("NODE {}: Received msg {}", nodeId, incomingMessage);
+            logger.debug("lastTransaction {}", lastTransaction);
+
+            // Commands with a bad CRC are dropped before they are dispatched
+            if (ZWaveCrc16Encapsulation.isEncapsulated(incomingMessage)) {
+                incomingMessage = ZWaveCrc16Encapsulation.decapsulate(incomingMessage);
+                if (incomingMessage == null) {
+                    logger.debug("NODE {}: CRC_16_ENCAP checksum error", nodeId);
+                    return;
+                }
+            }
 
-                if (node == null) {
-                    logger.warn("NODE {}: Not initialized (ie node unknown), ignoring message.", nodeId);
-                } else {
-                    // logger.debug("NODE {}: Application Command Request ({}:{})", nodeId,
-                    // node.getNodeState().toString(),
-                    // node.getNodeInitStage().toString());
-
-                    List<ZWaveCommandClassPayload> commands = node.processCommand(incomingMessage);
-                    if (commands != null) {
-                        logger.debug("NODE {}: Commands processed {}.", nodeId, commands.size());
-
-                        for (ZWaveCommandClassPayload command : commands) {
-                            logger.debug("NODE {}: Checking command {}.", nodeId, command);
-                            // Correlate transactions
-                            List<ZWaveTransaction> completed = new ArrayList<ZWaveTransaction>();
-
-                            synchronized (sendQueue) {
-                                for (ZWaveTransaction transaction : outstandingTransactions) {
-                                    logger.debug("NODE {}: Checking transaction : state >> {}", nodeId,
-                                            transaction.getTransactionState());
-                                    logger.debug("NODE {}: Checking transaction : node  >> {}", nodeId,
-                                            transaction.getNodeId());
-                                    logger.debug("NODE {}: Checking transaction : class >> {} == {}.", nodeId,
-                                            command.getCommandClassId(), transaction.getExpectedCommandClass() == null
-                                                    ? null : transaction.getExpectedCommandClass().getKey());
-                                    logger.debug("NODE {}: Checking transaction : commd >> {} == {}.", nodeId,
-                                            command.getCommandClassCommand(),
-                                            transaction.getExpectedCommandClassCommand());
-
-                                    if (transaction.getTransactionState() != TransactionState.WAIT_DATA) {
-                                        logger.debug("NODE {}: Ignoring transaction since not waiting for data.",
-                                                nodeId);
-                                        continue;
-                                    }
-
-                                    if (transaction.getExpectedCommandClass() != null
-                                            && command.getCommandClassId() == transaction.getExpectedCommandClass()
-                                                    .getKey()
-                                            && nodeId == transaction.getNodeId()
-                                            && command.getCommandClassCommand() == transaction
-                                                    .getExpectedCommandClassCommand()) {
-                                        logger.debug("NODE {}: Command verified {}.", nodeId, command);
-
-                                        transaction.transactionAdvance(incomingMessage);
-
-                                        // Notify the sender
-                                        notifyTransactionComplete(transaction);
-
-                                        // Remove the transaction from the outstanding transaction list
-                                        if (transaction.equals(lastTransaction)) {
-                                            lastTransaction = null;
-                                        }
-                                        completed.add(transaction);
-
-                                        // Handle secure transactions - these are ones where we have
-                                        // requested a NONCE which we've just received, and we now need
-                                        // to encrypt and send the original message
-                                        if (transaction instanceof ZWaveSecureTransaction) {
-                                            secureQueue
-                                                    .add(((ZWaveSecureTransaction) transaction).getLinkedTransaction());
-                                        }
-                                    } else {
-                                        logger.debug("NODE {}: Command NOT verified {}.", nodeId, command);
-                                    }
-                                }
-
-                                logger.debug("Transaction completed - outstandingTransactions {}",
-                                        outstandingTransactions.size());
-                                outstandingTransactions.removeAll(completed);
-                                logger.debug("Transaction completed - outstandingTransactions {}",
-                                        outstandingTransactions.size());
-                            }
+            ZWaveNode node = controller.getNode(nodeId);
+            if (node == null) {
+                logger.warn("NODE {}: Not initialized (ie node unknown), ignoring message.", nodeId);
+                return;
+            }
+
+            // The remaining encapsulations are removed in the reverse order to the send path. Each one is removed in
+            // place, so the command that is dispatched is still held in the received buffer.
+            if (ZWaveSecurityCommandClass.isMessageEncapsulation(incomingMessage)) {
+                ZWaveEndpoint rootEndpoint = node.getEndpoint(0);
+                ZWaveSecurityCommandClass securityCommandClass = rootEndpoint == null ? null
+                        : (ZWaveSecurityCommandClass) rootEndpoint
+                                .getCommandClass(ZWaveCommandClassEnum.COMMAND_CLASS_SECURITY);
+                if (securityCommandClass == null) {
+                    logger.debug("NODE {}: COMMAND_CLASS_SECURITY not found.", nodeId);
+                    return;
+                }
+                incomingMessage = securityCommandClass.getSecurityMessageDecapsulation(incomingMessage);
+                if (incomingMessage == null) {
+                    return;
+                }
+            }
+
+            if (ZWaveMultiCommand.isEncapsulated(incomingMessage)) {
+                // Each command is processed on its own, so the reports to a batch reach the original transactions
+                for (ZWaveCommandClassPayload command : ZWaveMultiCommand.decapsulate(incomingMessage)) {
+                    processEncapsulatedCommand(nodeId, node, command);
+                }
+            } else {
+                processEncapsulatedCommand(nodeId, node, incomingMessage);
+            }
+        }
+
+        /**
+         * Removes the endpoint and supervision encapsulation from a command and processes it
+         *
+         * @param nodeId the node the command was received from
+         * @param node the {@link ZWaveNode}
+         * @param command the received {@link ZWaveCommandClassPayload}
+         */
+        private void processEncapsulatedCommand(int nodeId, ZWaveNode node, ZWaveCommandClassPayload command) {
+            int endpointId = 0;
+            if (ZWaveMultiChannel.isEncapsulated(command)) {
+                endpointId = ZWaveMultiChannel.getSourceEndpoint(command);
+                command = ZWaveMultiChannel.decapsulate(command);
+            }
+
+            if (!ZWaveSupervision.isGet(command)) {
+                processCommand(nodeId, node, endpointId, command);
+                return;
+            }
+
+            // A command the node supervises is confirmed once it has been processed, with a status that shows if it
+            // was handled
+            int sessionId = ZWaveSupervision.getSessionId(command);
+            ZWaveCommandClassPayload supervisedCommand = ZWaveSupervision.decapsulate(command);
+            int status;
+            if (supervisedCommand == null) {
+                logger.debug("NODE {}: SUPERVISION_GET is truncated", nodeId);
+                status = ZWaveSupervision.STATUS_NO_SUPPORT;
+            } else if (processCommand(nodeId, node, endpointId, supervisedCommand)) {
+                status = ZWaveSupervision.STATUS_SUCCESS;
+            } else {
+                status = ZWaveSupervision.STATUS_NO_SUPPORT;
+            }
+
+            ZWaveCommandClassPayload report = ZWaveSupervision.getReport(sessionId, status);
+            logger.debug("NODE {}: Sending SUPERVISION_REPORT for session {} with status {}", nodeId, sessionId,
+                    status);
+
+            // The send queues transmit under the same lock, so the report is not interleaved with their frames
+            synchronized (outstandingTransactions) {
+                transmit(nodeId, endpointId == 0 ? report : ZWaveMultiChannel.encapsulate(report, 0, endpointId));
+            }
+        }
+
+        /**
+         * Passes a command to the node, and completes the transactions waiting for it
+         *
+         * @param nodeId the node the command was received from
+         * @param node the {@link ZWaveNode}
+         * @param endpointId the endpoint the command was received from
+         * @param incomingMessage the received {@link ZWaveCommandClassPayload}
+         * @return true if the node handled the command
+         */
+        private boolean processCommand(int nodeId, ZWaveNode node, int endpointId,
+                ZWaveCommandClassPayload incomingMessage) {
+            // logger.debug("NODE {}: Application Command Request ({}:{})", nodeId,
+            // node.getNodeState().toString(),
+            // node.getNodeInitStage().toString());
+
+            List<ZWaveCommandClassPayload> commands = node.processCommand(endpointId, incomingMessage);
+            boolean handled = commands != null;
+            if (!handled) {
+                // The command may still be the response to a transaction sent while the node is being initialised
+                commands = Collections.singletonList(incomingMessage);
+            }
+            logger.debug("NODE {}: Commands processed {}.", nodeId, commands.size());
+
+            for (ZWaveCommandClassPayload command : commands) {
+                ZWaveTransaction transaction;
+                boolean statusUpdate = false;
+
+                // Correlate transactions
+                synchronized (outstandingTransactions) {
+                    boolean supervisionReport = ZWaveSupervision.isReport(command);
+                    if (supervisionReport) {
+                        // Several supervised transactions can be outstanding to a node, so use the session ID
+                        transaction = supervision.getTransaction(nodeId, command);
+                        if (transaction != null
+                                && transaction.getTransactionState() != TransactionState.WAIT_DATA) {
+                            transaction = null;
+                        }
+                    } else {
+                        transaction = outstandingIndex.get(nodeId, endpointId, command.getCommandClassId(),
+                                command.getCommandClassCommand());
+                    }
+                    if (transaction == null) {
+                        logger.debug("NODE {}: Command NOT verified {}.", nodeId, command);
+                        ZWaveResponseCache cache = responseCache;
+                        if (cache != null) {
+                            cache.reportReceived(nodeId, endpointId, command);
+                        }
+                        continue;
+                    }
+
+                    logger.debug("NODE {}: Command verified {}.", nodeId, command);
+
+                    int status = supervisionReport ? ZWaveSupervision.getStatus(command)
+                            : ZWaveSupervision.STATUS_SUCCESS;
+                    if (status == ZWaveSupervision.STATUS_WORKING
+                            && ZWaveSupervision.hasMoreStatusUpdates(command)) {
+                        // The node is still executing the command, so wait for its final status
+                        long duration = ZWaveSupervision.getDuration(command);
+                        logger.debug("NODE {}: Supervised transaction {} working - {}ms remaining", nodeId,
+                                transaction.getTransactionId(), duration);
+                        startTransactionTimer(transaction, transaction.getDataTimeout() + Math.max(duration, 0));
+                        statusUpdate = true;
+                    } else {
+                        // The response is kept by the transaction, so it can't stay in the ring slot
+                        command = retain(command);
+                        transaction.transactionAdvance(command);
+                        if (status != ZWaveSupervision.STATUS_SUCCESS
+                                && status != ZWaveSupervision.STATUS_WORKING) {
+                            logger.debug("NODE {}: Supervised transaction {} failed with status {}", nodeId,
+                                    transaction.getTransactionId(), status);
+                            transaction.setTransactionCanceled();
                         }
+
+                        // Remove the transaction from the outstanding transaction list
+                        if (transaction == lastTransaction) {
+                            lastTransaction = null;
+                        }
+                        removeOutstandingTransaction(transaction);
+
+                        // Handle secure transactions - these are ones where we have
+                        // requested a NONCE which we've just received, and we now need
+                        // to encrypt and send the original message
+                        if (transaction instanceof ZWaveSecureTransaction) {
+                            secureQueue.add(((ZWaveSecureTransaction) transaction).getLinkedTransaction());
+                        }
+
+                        logger.debug("Transaction completed - outstandingTransactions {}",
+                                outstandingTransactions.size());
                     }
                 }
 
+                if (statusUpdate) {
+                    ZWaveCommandClassPayload report = retain(command);
+                    for (ZWaveSupervisionListener listener : supervisionListeners) {
+                        listener.supervisionStatusUpdate(nodeId, transaction.supervisedPayload, report);
+                    }
+                    continue;
+                }
+
+                // Notify the sender
+                notifyTransactionComplete(transaction);
             }
-            logger.debug("**************************** Exiting Receive Thread");
+            return handled;
         }
     }
 
-    private Date getNextTimer(ZWaveTransaction transaction) {
-        long nextTimer = 0;
+    /**
+     * Removes a transaction from the outstanding transaction list and index. Transactions are compared by identity as
+     * two outstanding transactions can hold the same payload. Must be called with outstandingTransactions locked.
+     *
+     * @param transaction the {@link ZWaveTransaction} to remove
+     * @return true if the transaction was outstanding
+     */
+    private boolean removeOutstandingTransaction(ZWaveTransaction transaction) {
+        stopTransactionTimer(transaction);
+        outstandingIndex.remove(transaction);
+        for (int cnt = 0; cnt < outstandingTransactions.size(); cnt++) {
+            if (outstandingTransactions.get(cnt) == transaction) {
+                outstandingTransactions.remove(cnt);
+                sendQueue.transactionComplete(transaction);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the time until the transaction times out in its current state
+     *
+     * @param transaction the {@link ZWaveTransaction}
+     * @return the timeout in milliseconds, or 0 if the transaction should not time out
+     */
+    private long getNextTimer(ZWaveTransaction transaction) {
         switch (transaction.getTransactionState()) {
-            case CANCELLED:
-            case DONE:
-            case UNINTIALIZED:
-                break;
             case WAIT_RESPONSE:
-                nextTimer = System.currentTimeMillis() + timer1;
-                break;
+                return timer1;
             case WAIT_REQUEST:
-                nextTimer = System.currentTimeMillis() + timer2;
-                break;
+                return timer2;
             case WAIT_DATA:
-                nextTimer = System.currentTimeMillis() + transaction.getDataTimeout();
-                break;
+                return transaction.getDataTimeout();
             case ABORTED:
-                nextTimer = System.currentTimeMillis() + timerAbort;
-                break;
+                return timerAbort;
             default:
-                break;
+                return 0;
         }
-
-        if (nextTimer == 0) {
-            return null;
-        }
-
-        return new Date(nextTimer);
     }
 
-    private ZWaveTransaction getMessageFromQueue(PriorityBlockingQueue<ZWaveTransaction> queue) {
-        for (ZWaveTransaction tmp : queue) {
-            ZWaveNode node = controller.getNode(tmp.getNodeId());
-            if (node == null) {
-                logger.debug("NODE {}: Node not found - has this node been removed?!?", tmp.getNodeId());
-                continue;
-            }
-
-            // Check if the node is awake
-            if (!node.isAwake()) {
-                logger.debug("NODE {}: Node not awake!", node.getNodeId());
-                continue;
-            }
-
-            // Node is awake - remove this transaction and return it
-            queue.remove(tmp);
-            return tmp;
+    /**
+     * Requests that the next message is sent if possible. Only a single thread services the queues at once - if another
+     * thread is already doing so, the request is recorded and that thread will check the queues again before it
+     * finishes, so callers queueing transactions never block waiting for the queues to be serviced.
+     */
+    private void sendNextMessage() {
+        if (sendRequests.getAndIncrement() != 0) {
+            return;
         }
 
-        return null;
+        int requests = 1;
+        do {
+            while (processSendQueue()) {
+                // Transactions that don't wait for a response complete as soon as they are sent
+                for (int cnt = 0; cnt < completedOnSend.size(); cnt++) {
+                    notifyTransactionComplete(completedOnSend.get(cnt));
+                }
+                completedOnSend.clear();
+            }
+            requests = sendRequests.addAndGet(-requests);
+        } while (requests != 0);
     }
 
-    private void sendNextMessage() {
-        logger.debug("Transaction SendNextMessage {} out at start", outstandingTransactions.size());
+    /**
+     * Sends the next transaction if possible. Transactions that complete as soon as they are sent are left in
+     * completedOnSend for the caller to notify once the lock is released.
+     *
+     * @return true if a transaction was sent, false if nothing can be sent at the moment
+     */
+    private boolean processSendQueue() {
+        synchronized (outstandingTransactions) {
+            logger.debug("Transaction SendNextMessage {} out at start", outstandingTransactions.size());
 
-        synchronized (sendQueue) {
             // If we're currently processing the core of a transaction, or there are too many
             // outstanding transactions, then don't start another right now.
             if (lastTransaction != null) {
                 logger.debug("Transaction lastTransaction outstanding...", outstandingTransactions.size());
-                return;
+                return false;
             }
 
             // If we're sending a NONCE then we want to ignore the sleeping state of the device.
             // We assume that if the device just sent us a NONCE_REQUEST then it must be awake
             ZWaveTransaction transaction = secureQueue.poll();
+            List<ZWaveTransaction> batch = null;
 
-            if (outstandingTransactions.size() == 0) {
+            // The scheduler only releases nodes with space in their window, so here we only need to apply the
+            // global limit
+            if (outstandingTransactions.size() < maxOutstandingTransactions) {
                 // logger.debug("Transaction lastTransaction outstanding {}, {}", outstandingTransactions.size(),
                 // lastTransaction);
 
@@ -511,9 +1069,14 @@ public class ZWaveTransactionManager {
                 // Get a message from the different queues
                 // Security first, then standard messages, then controller messages
                 if (transaction == null) {
-                    transaction = getMessageFromQueue(sendQueue);
+                    transaction = sendQueue.poll();
                     if (transaction != null) {
                         logger.debug("Transaction from sendQueue");
+                        if (ZWaveSupervision.isSupervisable(transaction)
+                                && isSupervisionSupported(controller.getNode(transaction.getNodeId()))) {
+                            startSupervision(transaction);
+                        }
+                        batch = getMultiCommandBatch(transaction);
                     }
                 } else {
                     logger.debug("Transaction from secureQueue");
@@ -527,10 +1090,22 @@ public class ZWaveTransactionManager {
             if (transaction == null) {
                 // Nothing to send
                 logger.debug("Transaction SendNextMessage nothing");
-                return;
+                return false;
+            }
+
+            ZWaveCommandClassPayload command = getCommand(transaction);
+            if (batch != null) {
+                List<ZWaveCommandClassPayload> commands = new ArrayList<ZWaveCommandClassPayload>(batch.size());
+                for (ZWaveTransaction batched : batch) {
+                    commands.add(getCommand(batched));
+                }
+                command = ZWaveMultiCommand.encapsulate(commands);
+                logger.debug("NODE {}: Sending {} transactions in MULTI_CMD_ENCAP", transaction.getNodeId(),
+                        batch.size());
+            } else {
+                batch = Collections.singletonList(transaction);
             }
 
-            ZWaveCommandClassPayload serialMessage;
             // If this requires security, then check if we have a NONCE
             if (transaction.getRequiresSecurity()) {
                 logger.debug("NODE {}: Transaction requires security", transaction.getNodeId());
@@ -539,23 +1114,27 @@ public class ZWaveTransactionManager {
                         .getCommandClass(ZWaveCommandClassEnum.COMMAND_CLASS_SECURITY);
                 if (securityCommandClass == null) {
                     logger.debug("NODE {}: COMMAND_CLASS_SECURITY not found.", transaction.getNodeId());
-                    return;
+                    cancelBatch(batch);
+                    return true;
                 }
 
                 if (securityCommandClass.isNonceAvailable()) {
                     // We have a NONCE, so encapsulate and send
                     logger.debug("NODE {}: NONCE available so encap and send.", transaction.getNodeId());
 
+                    byte[] secureCommand = securityCommandClass
+                            .getSecurityMessageEncapsulation(command.getPayloadBuffer());
+                    if (secureCommand == null) {
+                        logger.debug("NODE {}: Unable to encapsulate secure transaction.", transaction.getNodeId());
+                        cancelBatch(batch);
+                        return true;
+                    }
+
                     ZWaveCommandClassTransactionPayload securePayload = new ZWaveCommandClassTransactionPayload(
-                            transaction.getNodeId(),
-                            securityCommandClass.getSecurityMessageEncapsulation(transaction.getPayloadBuffer()),
-                            TransactionPriority.RealTime, transaction.getExpectedCommandClass(),
-                            transaction.getExpectedCommandClassCommand());
-
-                    // Get the serial message for the secure message and add it to our transaction so it correlates
-                    // properly
-                    // serialMessage = securePayload.getSerialMessage();
-                    // transaction.setSerialMessage(serialMessage);
+                            transaction.getNodeId(), secureCommand, TransactionPriority.RealTime,
+                            transaction.getExpectedCommandClass(), transaction.getExpectedCommandClassCommand());
+
+                    command = securePayload;
                 } else {
                     // Request a nonce - create a temporary transaction
                     // We keep a reference to the original transaction so that if the nonce transaction fails, then we
@@ -563,245 +1142,339 @@ public class ZWaveTransactionManager {
                     // transaction = new ZWaveSecureTransaction(transaction,
                     // securityCommandClass.getSecurityNonceGet());
                     // serialMessage = transaction.getSerialMessage();
+                    command = null;
                 }
             } else {
                 logger.debug("getTransactionToSend 6");
-                // serialMessage = transaction.getSerialMessage();
             }
 
-            // Add this message to the outstandingTransactions list
-            // SerialMessage serialMessage = transaction.getSerialMessage();
-            // serialMessage
-            // .setTransmitOptions(TRANSMIT_OPTION_ACK | TRANSMIT_OPTION_AUTO_ROUTE | TRANSMIT_OPTION_EXPLORE);
-            // controller.sendPacket(serialMessage);
+            if (command != null && !transmit(transaction.getNodeId(), command)) {
+                cancelBatch(batch);
+                return true;
+            }
+
+            for (ZWaveTransaction batched : batch) {
+                startTransaction(batched);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Cancels transactions that were taken from the queues but can't be sent. The transactions are added to
+     * completedOnSend. Must be called with outstandingTransactions locked.
+     *
+     * @param batch the {@link ZWaveTransaction}s to cancel
+     */
+    private void cancelBatch(List<ZWaveTransaction> batch) {
+        for (ZWaveTransaction batched : batch) {
+            batched.setTransactionCanceled();
+            sendQueue.transactionComplete(batched);
+            completedOnSend.add(batched);
+        }
+    }
+
+    /**
+     * Starts a transaction once it has been sent. Transactions that don't wait for a response are complete, and are
+     * added to completedOnSend. Must be called with outstandingTransactions locked.
+     *
+     * @param transaction the {@link ZWaveTransaction} that has been sent
+     */
+    private void startTransaction(ZWaveTransaction transaction) {
+        transaction.transactionStart();
+        logger.debug("Transaction SendNextMessage started: {}", transaction);
+
+        // If we're not waiting for a response, then the transaction is already complete
+        if (transaction.getTransactionState() == TransactionState.DONE) {
+            sendQueue.transactionComplete(transaction);
+            completedOnSend.add(transaction);
+            return;
+        }
 
-            transaction.transactionStart();
-            logger.debug("Transaction SendNextMessage started: {}", transaction);
+        logger.debug("Transaction SendNextMessage started: expected cmd class: {}",
+                transaction.getExpectedCommandClass());
+        logger.debug("Transaction SendNextMessage started: expected cmd: {}",
+                transaction.getExpectedCommandClassCommand());
 
-            logger.debug("Transaction SendNextMessage started: expected cmd class: {}",
-                    transaction.getExpectedCommandClass());
-            logger.debug("Transaction SendNextMessage started: expected cmd: {}",
-                    transaction.getExpectedCommandClassCommand());
+        outstandingTransactions.add(transaction);
+        outstandingIndex.add(transaction);
+        logger.debug("Transaction SendNextMessage Transactions outstanding: {}", outstandingTransactions.size());
+        startTransactionTimer(transaction);
 
-            outstandingTransactions.add(transaction);
-            logger.debug("Transaction SendNextMessage Transactions outstanding: {}", outstandingTransactions.size());
-            transaction.setTimeout(getNextTimer(transaction));
-            startTransactionTimer();
+        // Only a single transaction can be waiting for the controller at once. Once we're waiting for DATA from
+        // the node, transactions to other nodes can be released.
+        if (transaction.getTransactionState() == TransactionState.WAIT_RESPONSE
+                || transaction.getTransactionState() == TransactionState.WAIT_REQUEST) {
             lastTransaction = transaction;
             logger.debug("Transaction SendNextMessage lastTransaction: {}", lastTransaction);
         }
     }
 
-    private synchronized void startTransactionTimer() {
-        // Stop any existing timer
-        resetTransactionTimer();
+    /**
+     * Collects the queued transactions for a sleeping node that can be sent in the same MULTI_CMD_ENCAP frame as a
+     * transaction. Transactions are only taken in queue order, and must have the same security as the transaction and
+     * fit in a single frame. Must be called with outstandingTransactions locked.
+     *
+     * @param transaction the {@link ZWaveTransaction} being sent
+     * @return the transactions to send in the frame starting with the transaction, or null if the transaction is sent
+     *         on its own
+     */
+    private List<ZWaveTransaction> getMultiCommandBatch(final ZWaveTransaction transaction) {
+        if (!multiCommandEnabled) {
+            return null;
+        }
+
+        ZWaveNode node = controller.getNode(transaction.getNodeId());
+        if (node == null || node.isListening() || node.isFrequentlyListening()
+                || !node.isCommandClassInNif(ZWaveCommandClassEnum.COMMAND_CLASS_MULTI_CMD)) {
+            return null;
+        }
 
-        // Find the time till the next timer
-        Date nextTimer = null;
-        for (ZWaveTransaction transaction : outstandingTransactions) {
-            if (nextTimer == null) {
-                nextTimer = transaction.getTimeout();
-                continue;
+        // Batched SETs are supervised in the same way as a SET sent on its own
+        final boolean supervised = isSupervisionSupported(node);
+        int maxFrameSize = transportService.getMaxFrameSize();
+        if (transaction.getRequiresSecurity()) {
+            // The batch is encrypted as a single command, so leave room for the security encapsulation
+            maxFrameSize -= ZWaveSecurityCommandClass.OVERHEAD;
+        }
+        int length = ZWaveMultiCommand.HEADER_LENGTH + getBatchedLength(transaction);
+        List<ZWaveTransaction> batch = null;
+        while (length < maxFrameSize && (batch == null || batch.size() < ZWaveMultiCommand.MAX_COMMANDS)) {
+            final int remaining = maxFrameSize - length;
+            ZWaveTransaction next = sendQueue.pollIf(transaction.getQueueId(),
+                    candidate -> candidate.getRequiresSecurity() == transaction.getRequiresSecurity()
+                            && getBatchedLength(candidate)
+                                    + (supervised && ZWaveSupervision.isSupervisable(candidate)
+                                            ? ZWaveSupervision.OVERHEAD
+                                            : 0) <= remaining);
+            if (next == null) {
+                break;
+            }
+            if (supervised && ZWaveSupervision.isSupervisable(next)) {
+                startSupervision(next);
             }
 
-            Date time = transaction.getTimeout();
-            if (time != null && time.before(nextTimer)) {
-                nextTimer = time;
+            if (batch == null) {
+                batch = new ArrayList<ZWaveTransaction>();
+                batch.add(transaction);
             }
+            batch.add(next);
+            length += getBatchedLength(next);
         }
 
-        // Start the timer if required
-        if (nextTimer != null) {
-            // Create the timer task
-            timerTask = new ZWaveTransactionTimer();
+        return batch;
+    }
 
-            logger.debug("Start transaction timer to {} - {}ms", nextTimer,
-                    (nextTimer.getTime() - System.currentTimeMillis()));
-            timer.schedule(timerTask, nextTimer);
+    /**
+     * Gets the command to send for a transaction. Commands to an endpoint are wrapped in a MULTI_CHANNEL_CMD_ENCAP - this
+     * is the innermost encapsulation other than supervision, and is applied before the MULTI_CMD, security and
+     * CRC_16_ENCAP or transport service encapsulation.
+     *
+     * @param transaction the {@link ZWaveTransaction} to send
+     * @return the {@link ZWaveCommandClassPayload} to send
+     */
+    private ZWaveCommandClassPayload getCommand(ZWaveTransaction transaction) {
+        ZWaveCommandClassTransactionPayload payload = transaction.getPayload();
+        if (payload.getEndpointId() == 0) {
+            return payload;
         }
+        return ZWaveMultiChannel.encapsulate(payload, 0, payload.getEndpointId());
     }
 
-    private synchronized void resetTransactionTimer() {
-        // Stop any existing timer
-        if (timerTask != null) {
-            logger.debug("STOP transaction timer");
+    /**
+     * Gets the length of the command for a transaction once it's added to a MULTI_CMD_ENCAP
+     *
+     * @param transaction the {@link ZWaveTransaction}
+     * @return the length of the command in the MULTI_CMD_ENCAP
+     */
+    private int getBatchedLength(ZWaveTransaction transaction) {
+        ZWaveCommandClassTransactionPayload payload = transaction.getPayload();
+        return ZWaveMultiCommand.getEncapsulatedLength(payload)
+                + (payload.getEndpointId() == 0 ? 0 : ZWaveMultiChannel.OVERHEAD);
+    }
 
-            timerTask.cancel();
-            timerTask = null;
+    /**
+     * Wraps a transaction in a SUPERVISION_GET. If all the supervision sessions for the node are in use, the transaction
+     * is sent unsupervised and completes once the controller has sent it.
+     *
+     * @param transaction the {@link ZWaveTransaction} to supervise
+     */
+    private void startSupervision(ZWaveTransaction transaction) {
+        if (!supervision.startSession(transaction)) {
+            logger.debug("NODE {}: Supervision sessions exhausted - sending transaction {} unsupervised",
+                    transaction.getNodeId(), transaction.getTransactionId());
         }
     }
 
-    private class ZWaveTransactionTimer extends TimerTask {
-        private final Logger logger = LoggerFactory.getLogger(ZWaveTransactionTimer.class);
-
-        @Override
-        public void run() {
-            // if (true) {
-            // return;
-            // }
-
-            synchronized (sendQueue) {
-                logger.debug("XXXXXXXXX Timeout.......... {} outstanding transactions", outstandingTransactions.size());
-                Date now = new Date();
-                // List<ZWaveTransaction> retries = new ArrayList<ZWaveTransaction>();
-
-                // Loop through all outstanding transactions to see if any have timed out
-                Iterator<ZWaveTransaction> iterator = outstandingTransactions.iterator();
-                while (iterator.hasNext()) {
-                    ZWaveTransaction transaction = iterator.next();
-                    Date timer = transaction.getTimeout();
-                    if (timer != null && !timer.after(now)) {
-                        // Timeout
-                        logger.debug("NODE {}: XXXXXXX Timeout at state {}. {} retries remaining.",
-                                transaction.getNodeId(), transaction.getTransactionState(),
-                                transaction.getAttemptsRemaining());
-                        /*
-                         * // If this is a SendData message, and we're not waiting for DATA
-                         * // Then we need to cancel this request.
-                         * // TODO: Maybe this should be generalised to allow for other commands?
-                         * if (transaction.getSerialMessageClass() == SerialMessageClass.SendData
-                         * && (transaction.getTransactionState() == TransactionState.WAIT_REQUEST
-                         * || transaction.getTransactionState() == TransactionState.WAIT_RESPONSE)) {
-                         * // SendData requests need to be aborted - so we don't cancel the transaction.
-                         * // Once aborted we will get the completion of the transaction which will cancel the
-                         * // transaction.
-                         * logger.debug("Aborting Transaction!");
-                         * transaction.setTransactionAborted();
-                         * transaction.setTimeout(getNextTimer(transaction));
-                         * 
-                         * controller.sendPacket(new ZWaveTransactionMessageBuilder(SerialMessageClass.SendDataAbort)
-                         * .build().getSerialMessage());
-                         * } else {
-                         * // Remove this transaction from the outstanding transactions list
-                         * iterator.remove();
-                         * 
-                         * if (lastTransaction == transaction) {
-                         * // If this is the current transaction, then reset it.
-                         * lastTransaction = null;
-                         * logger.debug("Transaction is current transaction, so clearing!!!!!");
-                         * }
-                         * 
-                         * // Resend if there are still attempts remaining
-                         * // if (transaction.decrementAttemptsRemaining() <= 0) {
-                         * transaction.setTransactionCanceled();
-                         * controller.handleTransactionComplete(transaction, null);
-                         * notifyTransactionComplete(transaction);
-                         * // } else {
-                         * // Resend - add to a separate list so as not to impact iterator
-                         * // transaction.resetTransaction();
-                         * // retries.add(transaction);
-                         * // }
-                         * }
-                         */
-                    }
-                }
+    /**
+     * Checks if SETs to a node are wrapped in a SUPERVISION_GET
+     *
+     * @param node the {@link ZWaveNode}
+     * @return true if SETs to the node are supervised
+     */
+    private boolean isSupervisionSupported(ZWaveNode node) {
+        return supervisionEnabled && node != null
+                && node.isCommandClassInNif(ZWaveCommandClassEnum.COMMAND_CLASS_SUPERVISION);
+    }
 
-                // Add retries to the queue
-                // for (ZWaveTransaction transaction : retries) {
-                // logger.debug("Resending... Transaction " + transaction.getTransactionId());
-                // addTransactionToQueue(transaction);
-                // }
+    /**
+     * Sends a command to the node. Commands that are too long for a single frame are segmented with the transport
+     * service if the node supports it, as segments carry their own CRC. Other commands are wrapped in CRC_16_ENCAP if
+     * the node supports it, unless they are security encapsulated, as the security MAC already protects the command.
+     *
+     * @param nodeId the node to send the command to
+     * @param command the {@link ZWaveCommandClassPayload} to send
+     * @return false if the command is too long to send to the node
+     */
+    private boolean transmit(int nodeId, ZWaveCommandClassPayload command) {
+        ZWaveCommandTransmitter commandTransmitter = transmitter;
+        if (commandTransmitter == null) {
+            return true;
+        }
 
-                // If there's no outstanding transaction, try and send one
-                sendNextMessage();
-                startTransactionTimer();
+        ZWaveNode node = controller.getNode(nodeId);
+        if (transportService.requiresSegmentation(command.getPayloadLength())) {
+            if (node != null && node.isCommandClassInNif(ZWaveCommandClassEnum.COMMAND_CLASS_TRANSPORT_SERVICE)) {
+                logger.debug("NODE {}: Segmenting command of {} bytes", nodeId, command.getPayloadLength());
+                transportService.sendDatagram(nodeId, command.getBuffer(), command.getOffset(),
+                        command.getPayloadLength());
+                return true;
             }
+            logger.debug("NODE {}: Command of {} bytes is too long, and transport service is not supported", nodeId,
+                    command.getPayloadLength());
+            return false;
+        } else if (node != null && node.isCommandClassInNif(ZWaveCommandClassEnum.COMMAND_CLASS_CRC_16_ENCAP)
+                && !transportService.requiresSegmentation(command.getPayloadLength() + ZWaveCrc16Encapsulation.OVERHEAD)
+                && command.getCommandClassId() != COMMAND_CLASS_SECURITY_KEY
+                && command.getCommandClassId() != COMMAND_CLASS_SECURITY_2_KEY) {
+            command = ZWaveCrc16Encapsulation.encapsulate(command);
         }
+
+        commandTransmitter.sendCommand(nodeId, command.getBuffer(), command.getOffset(), command.getPayloadLength());
+        return true;
     }
 
-    public Future<ZWaveTransactionResponse> sendTransactionAsync(
-            final ZWaveCommandClassTransactionPayload transaction) {
-        class TransactionWaiter implements Callable<ZWaveTransactionResponse>, TransactionListener {
-            private ZWaveTransactionResponse response = null;
-            private long transactionId;
+    /**
+     * Starts the timer for the current state of the transaction, replacing any timer that is already running
+     *
+     * @param transaction the {@link ZWaveTransaction}
+     */
+    private void startTransactionTimer(ZWaveTransaction transaction) {
+        startTransactionTimer(transaction, getNextTimer(transaction));
+    }
 
-            @Override
-            public ZWaveTransactionResponse call() throws Exception {
-                // Register a listener
-                addTransactionListener(this);
+    /**
+     * Starts the timer for the transaction, replacing any timer that is already running
+     *
+     * @param transaction the {@link ZWaveTransaction}
+     * @param nextTimer the timeout in milliseconds, or 0 if the transaction should not time out
+     */
+    private void startTransactionTimer(ZWaveTransaction transaction, long nextTimer) {
+        stopTransactionTimer(transaction);
 
-                // Send the transaction
-                transactionId = queueTransactionForSend(transaction);
-                if (transactionId == 0) {
-                    logger.debug(">>>>>>>>> transaction rejected !!");
+        if (nextTimer == 0) {
+            return;
+        }
 
-                    // The transaction failed!
-                    // Remove the listener
-                    removeTransactionListener(this);
+        logger.debug("NODE {}: Start transaction timer {}ms", transaction.getNodeId(), nextTimer);
+        transaction.setTimeout(controller.getTimer().schedule(new ZWaveTransactionTimer(transaction), nextTimer,
+                TimeUnit.MILLISECONDS));
+    }
 
-                    return response;
-                }
+    private void stopTransactionTimer(ZWaveTransaction transaction) {
+        ZWaveTimeout timeout = transaction.getTimeout();
+        if (timeout != null) {
+            timeout.cancel();
+            transaction.setTimeout(null);
+        }
+    }
 
-                // Wait for the transaction to complete
-                synchronized (this) {
-                    while (response == null) {
-                        wait();
-                    }
+    private class ZWaveTransactionTimer implements Runnable {
+        private final ZWaveTransaction transaction;
+
+        ZWaveTransactionTimer(ZWaveTransaction transaction) {
+            this.transaction = transaction;
+        }
+
+        @Override
+        public void run() {
+            boolean cancelled = false;
+            synchronized (outstandingTransactions) {
+                // The transaction may have completed while the timer was expiring
+                if (!removeOutstandingTransaction(transaction)) {
+                    return;
                 }
 
-                // Remove the listener
-                removeTransactionListener(this);
+                logger.debug("NODE {}: Timeout at state {}. {} retries remaining.", transaction.getNodeId(),
+                        transaction.getTransactionState(), transaction.getAttemptsRemaining());
 
-                logger.debug("********* Transaction Response Complete " + transactionId + " -- ");
+                if (lastTransaction == transaction) {
+                    lastTransaction = null;
+                }
 
-                return response;
+                // Resend if there are still attempts remaining
+                if (transaction.decrementAttemptsRemaining() > 0) {
+                    logger.debug("NODE {}: Resending transaction {}", transaction.getNodeId(),
+                            transaction.getTransactionId());
+                    transaction.resetTransaction();
+                    sendQueue.add(transaction);
+                } else {
+                    transaction.setTransactionCanceled();
+                    cancelled = true;
+                }
             }
 
-            @Override
-            public void transactionEvent(ZWaveTransaction transactionEvent) {
-                logger.debug("********* Transaction event listener " + transactionId + " -- "
-                        + transactionEvent.getTransactionId());
+            if (cancelled) {
+                notifyTransactionComplete(transaction);
+            }
 
-                // Check if this transaction is ours
-                if (transactionEvent.getTransactionId() != transactionId) {
-                    return;
-                }
-                logger.debug("********* Transaction event listener " + transactionId + " -- DONE -- "
-                        + transactionEvent.getTransactionState() + " "
-                        + transactionEvent.getTransactionCancelledState());
-
-                // Return the response
-                ZWaveTransactionResponse.State state = State.COMPLETE;
-                if (transactionEvent.getTransactionState() != TransactionState.DONE) {
-                    switch (transactionEvent.getTransactionCancelledState()) {
-                        case CANCELLED:
-                            // state = State.CANCELLED;
-                            break;
-                        case DONE:
-                            break;
-                        case UNINTIALIZED:
-                            logger.debug("Completing UNINTIALIZED transaction {}!!! How?!?", transactionId);
-                            break;
-                        case WAIT_DATA:
-                            // state = State.TIMEOUT_WAITING_FOR_DATA;
-                            break;
-                        case WAIT_RESPONSE:
-                            // state = State.TIMEOUT_WAITING_FOR_CONTROLLER;
-                            break;
-                        case WAIT_REQUEST:
-                            // state = State.TIMEOUT_WAITING_FOR_RESPONSE;
-                            break;
-                        default:
-                            break;
-                    }
-                }
-                response = new ZWaveTransactionResponse(state);
+            // If there's no outstanding transaction, try and send one
+            sendNextMessage();
+        }
+    }
 
-                logger.debug("NODE {}: -- To notify -- {}", transaction.getDestinationNode(), state);
-                synchronized (this) {
-                    notify();
-                }
+    /**
+     * Queues a transaction for sending and returns a future that is completed once the transaction completes. No thread
+     * is used while waiting - the future is completed directly by the thread that receives the response, or by the
+     * timer if the transaction times out.
+     *
+     * @param payload the {@link ZWaveCommandClassTransactionPayload} to send
+     * @return a {@link CompletableFuture} completed with the {@link ZWaveTransactionResponse}
+     */
+    public CompletableFuture<ZWaveTransactionResponse> sendTransactionAsync(
+            final ZWaveCommandClassTransactionPayload payload) {
+        final ZWaveResponseCache cache = responseCache;
+        if (cache != null) {
+            ZWaveTransactionResponse response = cache.get(payload);
+            if (response != null) {
+                return CompletableFuture.completedFuture(response);
             }
         }
 
-        Callable<ZWaveTransactionResponse> worker = new TransactionWaiter();
-        return executor.submit(worker);
+        ZWaveTransaction transaction = createTransaction(payload);
+        CompletableFuture<ZWaveTransactionResponse> future = transaction.getFuture();
+        if (cache != null) {
+            future.thenAccept(response -> cache.put(payload, response));
+        }
+
+        addTransactionToQueue(transaction);
+
+        return future;
+    }
+
+    /**
+     * Sets the cache used to answer GET transactions without sending them to the node
+     *
+     * @param responseCache the {@link ZWaveResponseCache}, or null to disable caching
+     */
+    public void setResponseCache(ZWaveResponseCache responseCache) {
+        this.responseCache = responseCache;
     }
 
     public ZWaveTransactionResponse sendTransaction(ZWaveCommandClassTransactionPayload transaction) {
         logger.debug("NODE {}: sendTransaction {}", transaction.getDestinationNode(), transaction);
 
-        Future<ZWaveTransactionResponse> futureResponse = sendTransactionAsync(transaction);
+        CompletableFuture<ZWaveTransactionResponse> futureResponse = sendTransactionAsync(transaction);
         try {
             ZWaveTransactionResponse response = futureResponse.get();
             return response;
@@ -813,8 +1486,4 @@ public class ZWaveTransactionManager {
 
         return null;
     }
-
-    interface TransactionListener {
-        void transactionEvent(ZWaveTransaction transaction);
-    }
 }
@@ -0,0 +1,270 @@
+package com.zsmartsystems.zwave.transaction;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A multi-level transaction queue with one FIFO per {@link TransactionPriority}.
+ * <p>
+ * Transactions of the same priority are always sent in the order they were queued. Lower priority transactions age
+ * while they wait - for every aging period spent in the queue a transaction is treated as one priority level higher,
+ * so that Poll and Config traffic is eventually sent even when the network is busy. Aging never raises a transaction
+ * above {@link TransactionPriority#High}, so time critical transactions are never delayed by aged ones.
+ * <p>
+ * Queued transactions are indexed by their node and payload so that a duplicate can be found in constant time. When
+ * an equal transaction is already queued the original is removed so that only the latest request is sent, and the
+ * original is completed with the response to the new one.
+ * <p>
+ * Removal is lazy - the entry is marked and discarded when it reaches the head of its FIFO - so adding, removing and
+ * polling are all O(1) in the number of queued transactions.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZWaveTransactionPriorityQueue {
+    private static final Logger logger = LoggerFactory.getLogger(ZWaveTransactionPriorityQueue.class);
+
+    /**
+     * The default time a transaction waits before it is treated as the next priority level up
+     */
+    public static final long DEFAULT_AGING_TIME = 5000;
+
+    private static final TransactionPriority[] priorities = TransactionPriority.values();
+
+    private static final int MAX_AGED_PRIORITY = TransactionPriority.High.ordinal();
+
+    private final ArrayDeque<Entry>[] levels;
+
+    private final Map<ZWaveTransaction, Entry> index = new HashMap<ZWaveTransaction, Entry>();
+
+    private long sequence = 0;
+
+    private long agingTime = TimeUnit.MILLISECONDS.toNanos(DEFAULT_AGING_TIME);
+
+    /**
+     * A queued transaction
+     */
+    private static class Entry {
+        private final ZWaveTransaction transaction;
+        private final long sequence;
+        private final long queueTime;
+        private boolean removed;
+
+        Entry(ZWaveTransaction transaction, long sequence, long queueTime) {
+            this.transaction = transaction;
+            this.sequence = sequence;
+            this.queueTime = queueTime;
+        }
+    }
+
+    public ZWaveTransactionPriorityQueue() {
+        @SuppressWarnings("unchecked")
+        ArrayDeque<Entry>[] fifos = (ArrayDeque<Entry>[]) new ArrayDeque<?>[priorities.length];
+        for (int level = 0; level < priorities.length; level++) {
+            fifos[level] = new ArrayDeque<Entry>();
+        }
+        levels = fifos;
+    }
+
+    /**
+     * Sets the time a transaction waits in the queue before it is treated as the next priority level up
+     *
+     * @param agingTime the aging time in milliseconds, or 0 to disable aging
+     */
+    public synchronized void setAgingTime(long agingTime) {
+        if (agingTime < 0) {
+            throw new IllegalArgumentException("Aging time must not be negative");
+        }
+        this.agingTime = TimeUnit.MILLISECONDS.toNanos(agingTime);
+    }
+
+    /**
+     * Gets the time a transaction waits in the queue before it is treated as the next priority level up
+     *
+     * @return the aging time in milliseconds, or 0 if aging is disabled
+     */
+    public synchronized long getAgingTime() {
+        return TimeUnit.NANOSECONDS.toMillis(agingTime);
+    }
+
+    /**
+     * Adds a transaction to the queue. If an equal transaction is already queued, the original is removed so that
+     * only the latest request is sent. The original transaction is completed with the response to the new one.
+     *
+     * @param transaction the {@link ZWaveTransaction} to add
+     */
+    public synchronized void add(ZWaveTransaction transaction) {
+        Entry entry = new Entry(transaction, sequence++, System.nanoTime());
+        final Entry original = index.put(transaction, entry);
+        if (original != null) {
+            logger.debug("NODE {}: Transaction already in queue - removing original", transaction.getNodeId());
+            original.removed = true;
+            transaction.getFuture().whenComplete((response, exception) -> {
+                if (exception != null) {
+                    original.transaction.getFuture().completeExceptionally(exception);
+                } else {
+                    original.transaction.getFuture().complete(response);
+                }
+            });
+        }
+        levels[transaction.getPriority().ordinal()].addLast(entry);
+    }
+
+    /**
+     * Removes a transaction from the queue
+     *
+     * @param transaction the {@link ZWaveTransaction} to remove
+     * @return true if the transaction was removed
+     */
+    public synchronized boolean remove(ZWaveTransaction transaction) {
+        Entry entry = index.get(transaction);
+        if (entry == null || entry.transaction != transaction) {
+            return false;
+        }
+        index.remove(transaction);
+        entry.removed = true;
+        return true;
+    }
+
+    /**
+     * Retrieves and removes the transaction with the highest aged priority, or returns null if the queue is empty
+     *
+     * @return the next {@link ZWaveTransaction} or null
+     */
+    public synchronized ZWaveTransaction poll() {
+        int level = getHeadLevel(System.nanoTime());
+        if (level == -1) {
+            return null;
+        }
+        Entry entry = levels[level].pollFirst();
+        index.remove(entry.transaction);
+        return entry.transaction;
+    }
+
+    /**
+     * Retrieves and removes the transaction that would be returned by {@link #poll()}, but only if it meets the
+     * condition. The queue order is preserved as the transaction is left at the head if it doesn't meet the condition.
+     *
+     * @param condition the {@link Predicate} the transaction must meet
+     * @return the next {@link ZWaveTransaction}, or null if the queue is empty or the next transaction doesn't meet the
+     *         condition
+     */
+    public synchronized ZWaveTransaction pollIf(Predicate<ZWaveTransaction> condition) {
+        int level = getHeadLevel(System.nanoTime());
+        if (level == -1) {
+            return null;
+        }
+        Entry entry = levels[level].peekFirst();
+        if (!condition.test(entry.transaction)) {
+            return null;
+        }
+        levels[level].pollFirst();
+        index.remove(entry.transaction);
+        return entry.transaction;
+    }
+
+    /**
+     * Gets the aged priority of the transaction that will be returned by the next call to {@link #poll()}
+     *
+     * @return the head {@link TransactionPriority} or null if the queue is empty
+     */
+    public synchronized TransactionPriority peekPriority() {
+        long now = System.nanoTime();
+        int level = getHeadLevel(now);
+        if (level == -1) {
+            return null;
+        }
+        return priorities[getAgedLevel(levels[level].peekFirst(), now)];
+    }
+
+    /**
+     * Gets the number of transactions queued for a node
+     *
+     * @param nodeId the node ID
+     * @return the number of queued transactions for the node
+     */
+    public synchronized int size(int nodeId) {
+        int count = 0;
+        for (ZWaveTransaction transaction : index.keySet()) {
+            if (transaction.getNodeId() == nodeId) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public synchronized int size() {
+        return index.size();
+    }
+
+    public synchronized boolean isEmpty() {
+        return index.isEmpty();
+    }
+
+    /**
+     * Removes all the queued transactions
+     *
+     * @return the removed transactions
+     */
+    public synchronized List<ZWaveTransaction> clear() {
+        List<ZWaveTransaction> transactions = new ArrayList<ZWaveTransaction>(index.size());
+        for (ArrayDeque<Entry> level : levels) {
+            for (Entry entry : level) {
+                if (!entry.removed) {
+                    transactions.add(entry.transaction);
+                }
+            }
+            level.clear();
+        }
+        index.clear();
+        return transactions;
+    }
+
+    /**
+     * Finds the FIFO whose head should be sent next. Only the heads need to be considered as the head is the oldest
+     * transaction in each FIFO, and therefore the most aged.
+     *
+     * @param now the current time in nanoseconds
+     * @return the level of the FIFO, or -1 if the queue is empty
+     */
+    private int getHeadLevel(long now) {
+        int bestLevel = -1;
+        int bestAged = Integer.MAX_VALUE;
+        long bestSequence = 0;
+        for (int level = 0; level < levels.length; level++) {
+            Entry entry = levels[level].peekFirst();
+            while (entry != null && entry.removed) {
+                levels[level].pollFirst();
+                entry = levels[level].peekFirst();
+            }
+            if (entry == null) {
+                continue;
+            }
+
+            int aged = getAgedLevel(entry, now);
+            if (aged < bestAged || (aged == bestAged && entry.sequence < bestSequence)) {
+                bestLevel = level;
+                bestAged = aged;
+                bestSequence = entry.sequence;
+            }
+        }
+        return bestLevel;
+    }
+
+    private int getAgedLevel(Entry entry, long now) {
+        int level = entry.transaction.getPriority().ordinal();
+        if (agingTime == 0 || level <= MAX_AGED_PRIORITY) {
+            return level;
+        }
+        long steps = (now - entry.queueTime) / agingTime;
+        return (int) Math.max(level - steps, MAX_AGED_PRIORITY);
+    }
+}
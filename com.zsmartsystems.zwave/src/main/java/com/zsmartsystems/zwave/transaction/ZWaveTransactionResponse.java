@@ -1,5 +1,7 @@
 package com.zsmartsystems.zwave.transaction;
 
+import com.zsmartsystems.zwave.ZWaveCommandClassPayload;
+
 /**
  *
  * @author Chris Jackson
@@ -15,12 +17,27 @@ public class ZWaveTransactionResponse {
     };
 
     private State state;
+    private ZWaveCommandClassPayload payload;
 
     ZWaveTransactionResponse(State state) {
         this.state = state;
     }
 
+    ZWaveTransactionResponse(State state, ZWaveCommandClassPayload payload) {
+        this.state = state;
+        this.payload = payload;
+    }
+
     public State getState() {
         return state;
     }
+
+    /**
+     * Gets the report received from the node in response to the transaction
+     *
+     * @return the report {@link ZWaveCommandClassPayload} or null if the transaction did not complete with a report
+     */
+    public ZWaveCommandClassPayload getPayload() {
+        return payload;
+    }
 }
@@ -0,0 +1,458 @@
+package com.zsmartsystems.zwave.transaction;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zsmartsystems.zwave.ZWaveNetwork;
+import com.zsmartsystems.zwave.ZWaveNode;
+
+/**
+ * Schedules queued transactions across all nodes.
+ * <p>
+ * Every node has its own {@link ZWaveNodeTransactionQueue}. The scheduler keeps a ready set of nodes that are able to
+ * receive (listening, or currently awake) and have transactions waiting, ordered by the priority of the transaction
+ * at the head of each node queue. Selecting the next transaction is therefore O(log n) in the number of ready nodes
+ * and does no work at all for sleeping nodes.
+ * <p>
+ * Queueing is lock free with respect to the scheduler - the transaction is added to the node queue, and the node is
+ * signalled through a concurrent list. Signalled nodes are moved into the ready set by the thread that polls for the
+ * next transaction, so application threads never contend with the threads servicing the queue.
+ * <p>
+ * The number of transactions in flight to each node is limited by the node window. Once a node has a full window it
+ * is removed from the ready set until {@link #transactionComplete(ZWaveTransaction)} is called for one of its
+ * transactions, so a slow node never blocks transactions to other nodes.
+ * <p>
+ * Transactions age while they wait in the node queues, so the priority of a node in the ready set is checked again
+ * several times in each aging period. A node whose head transaction has aged is re-added at its new priority, so
+ * Poll and Config traffic to one node is eventually sent ahead of higher priority traffic to other nodes.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZWaveTransactionScheduler {
+    private static final Logger logger = LoggerFactory.getLogger(ZWaveTransactionScheduler.class);
+
+    /**
+     * The maximum number of node queues. This covers standard node IDs and Z-Wave Long Range IDs.
+     */
+    private static final int MAX_NODES = 4096;
+
+    /**
+     * The number of times in each aging period that the priorities in the ready set are checked
+     */
+    private static final int AGING_CHECKS = 4;
+
+    private final ZWaveNetwork controller;
+
+    private final AtomicReferenceArray<ZWaveNodeTransactionQueue> nodeQueues = new AtomicReferenceArray<ZWaveNodeTransactionQueue>(
+            MAX_NODES);
+
+    /**
+     * Nodes that have had transactions queued, or have woken up, since the ready set was last updated
+     */
+    private final ConcurrentLinkedQueue<ZWaveNodeTransactionQueue> signalledQueues = new ConcurrentLinkedQueue<ZWaveNodeTransactionQueue>();
+
+    /**
+     * Ready set of nodes ordered by the priority of their head transaction. Guarded by itself.
+     */
+    private final PriorityQueue<ReadyEntry> readyQueues = new PriorityQueue<ReadyEntry>(16, new ReadyEntryComparator());
+
+    private long readySequence = 0;
+
+    /**
+     * The time the aged priorities in the ready set are next checked. Guarded by readyQueues.
+     */
+    private long nextAgingCheck = System.nanoTime();
+
+    /**
+     * Node queues whose priority has risen, reused for each check. Guarded by readyQueues.
+     */
+    private final List<ZWaveNodeTransactionQueue> agedQueues = new ArrayList<ZWaveNodeTransactionQueue>();
+
+    /**
+     * The maximum number of transactions in flight to a single node
+     */
+    private volatile int nodeWindow = 1;
+
+    /**
+     * The time a transaction waits before it is treated as the next priority level up
+     */
+    private volatile long agingTime = ZWaveTransactionPriorityQueue.DEFAULT_AGING_TIME;
+
+    /**
+     * An entry in the ready set. Entries are never updated in place - when a node's head priority changes a new entry
+     * is added and the old one becomes stale and is discarded when it reaches the head of the ready set.
+     */
+    static class ReadyEntry {
+        private final ZWaveNodeTransactionQueue queue;
+        private final TransactionPriority priority;
+        private final long sequence;
+
+        ReadyEntry(ZWaveNodeTransactionQueue queue, TransactionPriority priority, long sequence) {
+            this.queue = queue;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+    }
+
+    private static class ReadyEntryComparator implements Comparator<ReadyEntry> {
+        @Override
+        public int compare(ReadyEntry arg0, ReadyEntry arg1) {
+            int result = arg0.priority.compareTo(arg1.priority);
+            if (result != 0) {
+                return result;
+            }
+            return Long.compare(arg0.sequence, arg1.sequence);
+        }
+    }
+
+    public ZWaveTransactionScheduler(ZWaveNetwork controller) {
+        this.controller = controller;
+    }
+
+    /**
+     * Sets the maximum number of transactions that may be in flight to a single node at once
+     *
+     * @param nodeWindow the number of transactions per node. Must be at least 1.
+     */
+    public void setNodeWindow(int nodeWindow) {
+        if (nodeWindow < 1) {
+            throw new IllegalArgumentException("Node window must be at least 1");
+        }
+        this.nodeWindow = nodeWindow;
+
+        // Nodes with a full window may now be able to send
+        for (int nodeId = 0; nodeId < MAX_NODES; nodeId++) {
+            notifyNodeReady(nodeId);
+        }
+    }
+
+    /**
+     * Gets the maximum number of transactions that may be in flight to a single node at once
+     *
+     * @return the number of transactions per node
+     */
+    public int getNodeWindow() {
+        return nodeWindow;
+    }
+
+    /**
+     * Sets the time a queued transaction waits before it is treated as the next priority level up, so that low
+     * priority transactions are eventually sent on a busy network
+     *
+     * @param agingTime the aging time in milliseconds, or 0 to disable aging
+     */
+    public void setAgingTime(long agingTime) {
+        if (agingTime < 0) {
+            throw new IllegalArgumentException("Aging time must not be negative");
+        }
+        this.agingTime = agingTime;
+
+        for (int nodeId = 0; nodeId < MAX_NODES; nodeId++) {
+            ZWaveNodeTransactionQueue queue = nodeQueues.get(nodeId);
+            if (queue != null) {
+                queue.setAgingTime(agingTime);
+            }
+        }
+    }
+
+    /**
+     * Gets the queue for the specified node, creating it if it doesn't exist
+     *
+     * @param nodeId the node ID
+     * @return the {@link ZWaveNodeTransactionQueue} for the node
+     */
+    private ZWaveNodeTransactionQueue getNodeQueue(int nodeId) {
+        ZWaveNodeTransactionQueue queue = nodeQueues.get(nodeId);
+        if (queue == null) {
+            ZWaveNodeTransactionQueue newQueue = new ZWaveNodeTransactionQueue(nodeId);
+            newQueue.setAgingTime(agingTime);
+            nodeQueues.compareAndSet(nodeId, null, newQueue);
+            queue = nodeQueues.get(nodeId);
+        }
+        return queue;
+    }
+
+    /**
+     * Adds a transaction to the queue for its node and signals the node to the scheduler.
+     *
+     * @param transaction the {@link ZWaveTransaction} to queue
+     */
+    public void add(ZWaveTransaction transaction) {
+        ZWaveNodeTransactionQueue queue = getNodeQueue(transaction.getQueueId());
+        queue.add(transaction);
+        signal(queue);
+    }
+
+    /**
+     * Removes a transaction from the queue
+     *
+     * @param transaction the {@link ZWaveTransaction} to remove
+     * @return true if the transaction was removed
+     */
+    public boolean remove(ZWaveTransaction transaction) {
+        ZWaveNodeTransactionQueue queue = nodeQueues.get(transaction.getQueueId());
+        if (queue == null) {
+            return false;
+        }
+        return queue.remove(transaction);
+    }
+
+    /**
+     * Notifies the scheduler that a node is now able to receive messages - eg it has woken up.
+     *
+     * @param nodeId the node ID
+     */
+    public void notifyNodeReady(int nodeId) {
+        if (nodeId < 0 || nodeId >= MAX_NODES) {
+            return;
+        }
+        ZWaveNodeTransactionQueue queue = nodeQueues.get(nodeId);
+        if (queue == null || queue.isEmpty()) {
+            return;
+        }
+        signal(queue);
+    }
+
+    private void signal(ZWaveNodeTransactionQueue queue) {
+        if (queue.signalled.compareAndSet(false, true)) {
+            signalledQueues.offer(queue);
+        }
+    }
+
+    /**
+     * Retrieves and removes the highest priority transaction for any node that is able to receive messages.
+     *
+     * @return the next {@link ZWaveTransaction} to send, or null if there is nothing that can be sent
+     */
+    public ZWaveTransaction poll() {
+        synchronized (readyQueues) {
+            updateReadyQueues();
+            updateAgedPriorities();
+
+            ReadyEntry entry;
+            while ((entry = readyQueues.poll()) != null) {
+                ZWaveNodeTransactionQueue queue = entry.queue;
+                if (queue.readyEntry != entry) {
+                    // Stale entry - the node has been re-prioritised since this was added
+                    continue;
+                }
+                queue.readyEntry = null;
+
+                if (queue.outstanding >= nodeWindow) {
+                    // Node window is full - it will be signalled again when a transaction completes
+                    continue;
+                }
+
+                if (!isNodeReady(queue.getNodeId())) {
+                    // Node has gone to sleep - it will be signalled again when it wakes up
+                    continue;
+                }
+
+                ZWaveTransaction transaction = queue.poll();
+                if (transaction != null) {
+                    transaction.scheduledQueue = queue;
+                    queue.outstanding++;
+                }
+                if (queue.outstanding < nodeWindow) {
+                    addReadyEntry(queue);
+                }
+                if (transaction != null) {
+                    return transaction;
+                }
+            }
+
+            return null;
+        }
+    }
+
+    /**
+     * Retrieves and removes the next transaction for a node if it meets the condition. This is used to send further
+     * transactions in the same frame as one returned by {@link #poll()}, so the node window is not checked, but the
+     * transaction is counted in the window until {@link #transactionComplete(ZWaveTransaction)} is called.
+     *
+     * @param nodeId the node ID
+     * @param condition the {@link Predicate} the transaction must meet
+     * @return the next {@link ZWaveTransaction} for the node, or null if there is none or it doesn't meet the condition
+     */
+    public ZWaveTransaction pollIf(int nodeId, Predicate<ZWaveTransaction> condition) {
+        if (nodeId < 0 || nodeId >= MAX_NODES) {
+            return null;
+        }
+        ZWaveNodeTransactionQueue queue = nodeQueues.get(nodeId);
+        if (queue == null) {
+            return null;
+        }
+
+        synchronized (readyQueues) {
+            ZWaveTransaction transaction = queue.pollIf(condition);
+            if (transaction != null) {
+                transaction.scheduledQueue = queue;
+                queue.outstanding++;
+            }
+            return transaction;
+        }
+    }
+
+    /**
+     * Notifies the scheduler that a transaction returned from {@link #poll()} is no longer in flight, releasing its
+     * place in the node window. Calling this more than once for a transaction, or for a transaction that was not
+     * returned by {@link #poll()}, has no effect.
+     *
+     * @param transaction the {@link ZWaveTransaction} that has completed
+     */
+    public void transactionComplete(ZWaveTransaction transaction) {
+        ZWaveNodeTransactionQueue queue;
+        synchronized (readyQueues) {
+            queue = transaction.scheduledQueue;
+            if (queue == null) {
+                return;
+            }
+            transaction.scheduledQueue = null;
+            queue.outstanding--;
+        }
+
+        if (!queue.isEmpty()) {
+            signal(queue);
+        }
+    }
+
+    /**
+     * Moves all signalled node queues into the ready set. Must be called with the ready set locked.
+     */
+    private void updateReadyQueues() {
+        ZWaveNodeTransactionQueue queue;
+        while ((queue = signalledQueues.poll()) != null) {
+            queue.signalled.set(false);
+
+            if (queue.outstanding >= nodeWindow) {
+                queue.readyEntry = null;
+                continue;
+            }
+
+            if (!isNodeReady(queue.getNodeId())) {
+                logger.debug("NODE {}: Node not awake!", queue.getNodeId());
+                queue.readyEntry = null;
+                continue;
+            }
+
+            addReadyEntry(queue);
+        }
+    }
+
+    /**
+     * Re-adds the nodes in the ready set whose head transaction has aged to a higher priority since the node was added.
+     * This is only done {@link #AGING_CHECKS} times in each aging period. Must be called with the ready set locked.
+     */
+    private void updateAgedPriorities() {
+        long agingPeriod = TimeUnit.MILLISECONDS.toNanos(agingTime);
+        long now = System.nanoTime();
+        if (agingPeriod == 0 || now - nextAgingCheck < 0) {
+            return;
+        }
+        nextAgingCheck = now + agingPeriod / AGING_CHECKS;
+
+        for (ReadyEntry entry : readyQueues) {
+            if (entry.queue.readyEntry != entry) {
+                continue;
+            }
+            TransactionPriority priority = entry.queue.peekPriority();
+            if (priority != null && priority.compareTo(entry.priority) < 0) {
+                agedQueues.add(entry.queue);
+            }
+        }
+        for (ZWaveNodeTransactionQueue queue : agedQueues) {
+            logger.debug("NODE {}: Queued transaction has aged", queue.getNodeId());
+            addReadyEntry(queue);
+        }
+        agedQueues.clear();
+    }
+
+    /**
+     * Adds a new entry for the queue to the ready set if it has transactions waiting. Any existing entry becomes stale.
+     * Must be called with the ready set locked.
+     */
+    private void addReadyEntry(ZWaveNodeTransactionQueue queue) {
+        TransactionPriority priority = queue.peekPriority();
+        if (priority == null) {
+            queue.readyEntry = null;
+            return;
+        }
+        ReadyEntry entry = new ReadyEntry(queue, priority, readySequence++);
+        queue.readyEntry = entry;
+        readyQueues.add(entry);
+    }
+
+    private boolean isNodeReady(int nodeId) {
+        ZWaveNode node = controller.getNode(nodeId);
+        if (node == null) {
+            logger.debug("NODE {}: Node not found - has this node been removed?!?", nodeId);
+            return false;
+        }
+
+        return node.isAwake();
+    }
+
+    /**
+     * Gets the number of transactions queued for a node
+     *
+     * @param nodeId the node ID
+     * @return the number of queued transactions
+     */
+    public int size(int nodeId) {
+        if (nodeId < 0 || nodeId >= MAX_NODES) {
+            return 0;
+        }
+        ZWaveNodeTransactionQueue queue = nodeQueues.get(nodeId);
+        return queue == null ? 0 : queue.size();
+    }
+
+    /**
+     * Removes all the transactions queued for a node - eg when the node is removed from the network. Transactions that
+     * are already in flight are not affected.
+     *
+     * @param nodeId the node ID
+     * @return the removed transactions
+     */
+    public List<ZWaveTransaction> clear(int nodeId) {
+        List<ZWaveTransaction> transactions = new ArrayList<ZWaveTransaction>();
+        if (nodeId < 0 || nodeId >= MAX_NODES) {
+            return transactions;
+        }
+        ZWaveNodeTransactionQueue queue = nodeQueues.get(nodeId);
+        if (queue == null) {
+            return transactions;
+        }
+
+        ZWaveTransaction transaction;
+        while ((transaction = queue.poll()) != null) {
+            transactions.add(transaction);
+        }
+        return transactions;
+    }
+
+    /**
+     * Removes all queued transactions. Transactions that are already in flight are not affected.
+     *
+     * @return the removed transactions
+     */
+    public List<ZWaveTransaction> clear() {
+        List<ZWaveTransaction> transactions = new ArrayList<ZWaveTransaction>();
+        for (int nodeId = 0; nodeId < MAX_NODES; nodeId++) {
+            ZWaveNodeTransactionQueue queue = nodeQueues.get(nodeId);
+            if (queue != null) {
+                transactions.addAll(queue.clear());
+            }
+        }
+        return transactions;
+    }
+}
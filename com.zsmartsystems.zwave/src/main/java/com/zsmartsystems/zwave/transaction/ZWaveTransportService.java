@@ -0,0 +1,530 @@
+package com.zsmartsystems.zwave.transaction;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zsmartsystems.zwave.ZWaveCommandClassPayload;
+import com.zsmartsystems.zwave.commandclass.impl.CommandClassTransportServiceV2;
+import com.zsmartsystems.zwave.timer.ZWaveTimeout;
+import com.zsmartsystems.zwave.timer.ZWaveTimer;
+
+/**
+ * Implements the transport service, which carries commands that are too long for a single frame as a datagram split
+ * into segments. Each segment carries the size of the datagram, the offset of the segment within it and a CRC-16.
+ * <p>
+ * Inbound segments are reassembled per node. The datagram buffer is allocated once, at the size given in the header of
+ * the first segment received, and each segment is copied straight from the receive buffer to its offset in the
+ * datagram. The bytes received are tracked in a bitmap, so segments may arrive in any order. If the datagram is still
+ * incomplete when the timer expires, or when the last segment is received, the first missing segment is requested from
+ * the node. Once all segments are received the node is sent SEGMENT_COMPLETE and the datagram buffer is handed on
+ * without being copied.
+ * <p>
+ * Outbound datagrams are not copied or split into separate arrays. The segments are sent back to back, with each
+ * segment header, the slice of the original datagram and the CRC written into a single reused frame buffer. The
+ * datagram is held until the node sends SEGMENT_COMPLETE, so that segments requested by the node can be resent from
+ * the original buffer.
+ * <p>
+ * A single session is supported to each node in each direction.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZWaveTransportService {
+    private static final Logger logger = LoggerFactory.getLogger(ZWaveTransportService.class);
+
+    public static final int COMMAND_CLASS_KEY = CommandClassTransportServiceV2.COMMAND_CLASS_KEY;
+
+    /**
+     * The maximum size of a datagram - the size is an 11 bit field
+     */
+    public static final int MAX_DATAGRAM_SIZE = 0x7FF;
+
+    private static final int DEFAULT_MAX_FRAME_SIZE = 46;
+    private static final long DEFAULT_SEGMENT_TIMEOUT = 800;
+    private static final long DEFAULT_COMPLETE_TIMEOUT = 1000;
+
+    /**
+     * The number of times a missing segment is requested, or a datagram is resent after SEGMENT_WAIT, before the
+     * session is abandoned
+     */
+    private static final int MAX_ATTEMPTS = 2;
+
+    /**
+     * The lower 3 bits of the segment commands hold the upper bits of the datagram size
+     */
+    private static final int COMMAND_MASK = 0xF8;
+
+    private static final int FIRST_SEGMENT_HEADER = 4;
+    private static final int SUBSEQUENT_SEGMENT_HEADER = 5;
+    private static final int CRC_LENGTH = 2;
+    private static final int EXTENSION_FLAG = 0x08;
+
+    private final ZWaveTimer timer;
+    private final ZWaveCommandTransmitter transmitter;
+
+    /**
+     * The longest command that can be sent in a single frame
+     */
+    private volatile int maxFrameSize = DEFAULT_MAX_FRAME_SIZE;
+
+    private long segmentTimeout = DEFAULT_SEGMENT_TIMEOUT;
+    private long completeTimeout = DEFAULT_COMPLETE_TIMEOUT;
+
+    /**
+     * The buffer that segments and control commands are built in. Guarded by this.
+     */
+    private byte[] frame = new byte[DEFAULT_MAX_FRAME_SIZE];
+
+    private final Map<Integer, ReceiveSession> receiveSessions = new HashMap<Integer, ReceiveSession>();
+    private final Map<Integer, SendSession> sendSessions = new HashMap<Integer, SendSession>();
+    private int nextSessionId;
+
+    /**
+     * Creates the transport service
+     *
+     * @param timer the {@link ZWaveTimer} used for the segment timeouts
+     * @param transmitter the {@link ZWaveCommandTransmitter} used to send segments and control commands to the node
+     */
+    public ZWaveTransportService(ZWaveTimer timer, ZWaveCommandTransmitter transmitter) {
+        this.timer = timer;
+        this.transmitter = transmitter;
+    }
+
+    /**
+     * Sets the longest command that can be sent in a single frame. Longer commands are segmented.
+     *
+     * @param maxFrameSize the maximum frame size in bytes
+     */
+    public synchronized void setMaxFrameSize(int maxFrameSize) {
+        if (maxFrameSize <= SUBSEQUENT_SEGMENT_HEADER + CRC_LENGTH) {
+            throw new IllegalArgumentException("Maximum frame size must be greater than "
+                    + (SUBSEQUENT_SEGMENT_HEADER + CRC_LENGTH));
+        }
+        this.maxFrameSize = maxFrameSize;
+        frame = new byte[maxFrameSize];
+    }
+
+    /**
+     * Gets the longest command that can be sent in a single frame
+     *
+     * @return the maximum frame size in bytes
+     */
+    public int getMaxFrameSize() {
+        return maxFrameSize;
+    }
+
+    /**
+     * Sets the time to wait for the next segment of an inbound datagram before the missing segment is requested
+     *
+     * @param segmentTimeout the timeout in milliseconds
+     */
+    public synchronized void setSegmentTimeout(long segmentTimeout) {
+        this.segmentTimeout = segmentTimeout;
+    }
+
+    /**
+     * Sets the time to wait for SEGMENT_COMPLETE once an outbound datagram has been sent
+     *
+     * @param completeTimeout the timeout in milliseconds
+     */
+    public synchronized void setCompleteTimeout(long completeTimeout) {
+        this.completeTimeout = completeTimeout;
+    }
+
+    /**
+     * Checks if a command is too long to be sent in a single frame
+     *
+     * @param length the length of the command
+     * @return true if the command must be segmented
+     */
+    public boolean requiresSegmentation(int length) {
+        return length > maxFrameSize;
+    }
+
+    /**
+     * Sends a datagram to a node as a series of segments. The datagram is not copied, so the buffer must not be
+     * modified until the returned future completes.
+     *
+     * @param nodeId the node to send the datagram to
+     * @param buffer the buffer holding the datagram
+     * @param offset the offset of the datagram within the buffer
+     * @param length the length of the datagram
+     * @return a {@link CompletableFuture} completed with true when the node confirms the datagram is complete, or false
+     *         if the session fails
+     */
+    public CompletableFuture<Boolean> sendDatagram(int nodeId, byte[] buffer, int offset, int length) {
+        if (length <= 0 || length > MAX_DATAGRAM_SIZE) {
+            throw new IllegalArgumentException(
+                    "Datagram length " + length + " is not between 1 and " + MAX_DATAGRAM_SIZE);
+        }
+
+        SendSession session;
+        SendSession previous;
+        synchronized (this) {
+            session = new SendSession(nodeId, nextSessionId, buffer, offset, length);
+            nextSessionId = (nextSessionId + 1) & 0x0F;
+
+            previous = sendSessions.put(nodeId, session);
+            if (previous != null) {
+                previous.cancelTimeout();
+            }
+
+            logger.debug("NODE {}: Transport service sending {} bytes in session {}", nodeId, length,
+                    session.sessionId);
+            sendSegments(session);
+        }
+
+        if (previous != null) {
+            logger.debug("NODE {}: Transport service session {} replaced", nodeId, previous.sessionId);
+            previous.future.complete(false);
+        }
+        return session.future;
+    }
+
+    /**
+     * Processes a transport service command received from a node. The command is processed from the buffer without
+     * being copied, so the buffer may be reused once this returns.
+     *
+     * @param nodeId the node the command was received from
+     * @param buffer the buffer holding the command
+     * @param offset the offset of the command class key within the buffer
+     * @param length the length of the command
+     * @return the reassembled datagram if this command completed it, otherwise null
+     */
+    public ZWaveCommandClassPayload processCommand(int nodeId, byte[] buffer, int offset, int length) {
+        if (length < 3) {
+            logger.debug("NODE {}: Transport service command too short", nodeId);
+            return null;
+        }
+
+        switch ((buffer[offset + 1] & 0xFF) & COMMAND_MASK) {
+            case CommandClassTransportServiceV2.COMMAND_FIRST_SEGMENT:
+                return processSegment(nodeId, buffer, offset, length, true);
+            case CommandClassTransportServiceV2.COMMAND_SUBSEQUENT_SEGMENT:
+                return processSegment(nodeId, buffer, offset, length, false);
+            case CommandClassTransportServiceV2.COMMAND_SEGMENT_REQUEST:
+                processSegmentRequest(nodeId, buffer, offset, length);
+                return null;
+            case CommandClassTransportServiceV2.COMMAND_SEGMENT_COMPLETE:
+                processSegmentComplete(nodeId, buffer, offset);
+                return null;
+            case CommandClassTransportServiceV2.COMMAND_SEGMENT_WAIT:
+                processSegmentWait(nodeId, buffer, offset);
+                return null;
+            default:
+                logger.debug("NODE {}: Unknown transport service command {}", nodeId,
+                        String.format("%02X", buffer[offset + 1] & 0xFF));
+                return null;
+        }
+    }
+
+    private ZWaveCommandClassPayload processSegment(int nodeId, byte[] buffer, int offset, int length,
+            boolean first) {
+        int header = first ? FIRST_SEGMENT_HEADER : SUBSEQUENT_SEGMENT_HEADER;
+        if (length < header + CRC_LENGTH) {
+            logger.debug("NODE {}: Transport service segment too short", nodeId);
+            return null;
+        }
+
+        int crc = ((buffer[offset + length - 2] & 0xFF) << 8) | (buffer[offset + length - 1] & 0xFF);
+        if (ZWaveCrc16.calculate(buffer, offset, length - CRC_LENGTH) != crc) {
+            logger.debug("NODE {}: Transport service segment checksum error", nodeId);
+            return null;
+        }
+
+        int size = ((buffer[offset + 1] & 0x07) << 8) | (buffer[offset + 2] & 0xFF);
+        int properties = buffer[offset + 3] & 0xFF;
+        int sessionId = properties >> 4;
+        int datagramOffset = first ? 0 : ((properties & 0x07) << 8) | (buffer[offset + 4] & 0xFF);
+        if ((properties & EXTENSION_FLAG) != 0) {
+            if (length < header + 1 + CRC_LENGTH) {
+                logger.debug("NODE {}: Transport service segment too short", nodeId);
+                return null;
+            }
+            header += 1 + (buffer[offset + header] & 0xFF);
+        }
+
+        int segmentLength = length - header - CRC_LENGTH;
+        if (size == 0 || segmentLength < 0 || datagramOffset + segmentLength > size) {
+            logger.debug("NODE {}: Transport service segment at {} is outside datagram of {} bytes", nodeId,
+                    datagramOffset, size);
+            return null;
+        }
+
+        synchronized (this) {
+            ReceiveSession session = receiveSessions.get(nodeId);
+            if (session == null || session.sessionId != sessionId || session.datagram.length != size) {
+                if (session != null) {
+                    logger.debug("NODE {}: Transport service session {} abandoned", nodeId, session.sessionId);
+                    session.cancelTimeout();
+                }
+                session = new ReceiveSession(nodeId, sessionId, size);
+                receiveSessions.put(nodeId, session);
+            }
+
+            System.arraycopy(buffer, offset + header, session.datagram, datagramOffset, segmentLength);
+            session.received.set(datagramOffset, datagramOffset + segmentLength);
+            session.cancelTimeout();
+
+            if (session.received.nextClearBit(0) >= size) {
+                logger.debug("NODE {}: Transport service session {} complete with {} bytes", nodeId, sessionId, size);
+                receiveSessions.remove(nodeId);
+                sendSegmentComplete(nodeId, sessionId);
+                return new ZWaveCommandClassPayload(session.datagram);
+            }
+
+            // Once the last segment is received there's no need to wait for the others
+            if (datagramOffset + segmentLength == size) {
+                requestMissingSegment(session);
+            }
+            session.timeout = timer.schedule(new ReceiveTimer(session), segmentTimeout, TimeUnit.MILLISECONDS);
+            return null;
+        }
+    }
+
+    private void processSegmentRequest(int nodeId, byte[] buffer, int offset, int length) {
+        if (length < 4) {
+            logger.debug("NODE {}: Transport service segment request too short", nodeId);
+            return;
+        }
+        int sessionId = (buffer[offset + 2] & 0xFF) >> 4;
+        int datagramOffset = ((buffer[offset + 2] & 0x07) << 8) | (buffer[offset + 3] & 0xFF);
+
+        synchronized (this) {
+            SendSession session = sendSessions.get(nodeId);
+            if (session == null || session.sessionId != sessionId || datagramOffset >= session.length) {
+                logger.debug("NODE {}: Transport service segment {} requested for unknown session {}", nodeId,
+                        datagramOffset, sessionId);
+                return;
+            }
+
+            logger.debug("NODE {}: Transport service resending segment {} in session {}", nodeId, datagramOffset,
+                    sessionId);
+            session.cancelTimeout();
+            sendSegment(session, datagramOffset);
+            session.timeout = timer.schedule(new SendTimer(session, false), completeTimeout, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void processSegmentComplete(int nodeId, byte[] buffer, int offset) {
+        int sessionId = (buffer[offset + 2] & 0xFF) >> 4;
+
+        SendSession session;
+        synchronized (this) {
+            session = sendSessions.get(nodeId);
+            if (session == null || session.sessionId != sessionId) {
+                logger.debug("NODE {}: Transport service complete for unknown session {}", nodeId, sessionId);
+                return;
+            }
+            sendSessions.remove(nodeId);
+            session.cancelTimeout();
+        }
+
+        logger.debug("NODE {}: Transport service session {} sent", nodeId, sessionId);
+        session.future.complete(true);
+    }
+
+    private void processSegmentWait(int nodeId, byte[] buffer, int offset) {
+        int pendingSegments = buffer[offset + 2] & 0xFF;
+
+        synchronized (this) {
+            SendSession session = sendSessions.get(nodeId);
+            if (session == null) {
+                return;
+            }
+
+            // The node is busy receiving another datagram, so we send this one again once it has finished
+            logger.debug("NODE {}: Transport service wait with {} segments pending", nodeId, pendingSegments);
+            session.cancelTimeout();
+            session.timeout = timer.schedule(new SendTimer(session, true), segmentTimeout, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Sends all segments of a datagram and starts the timer waiting for SEGMENT_COMPLETE. Must be called with this
+     * locked.
+     */
+    private void sendSegments(SendSession session) {
+        int datagramOffset = 0;
+        while (datagramOffset < session.length) {
+            datagramOffset += sendSegment(session, datagramOffset);
+        }
+        session.timeout = timer.schedule(new SendTimer(session, false), completeTimeout, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sends the segment of a datagram starting at the specified offset. Must be called with this locked.
+     *
+     * @return the number of bytes of the datagram sent in the segment
+     */
+    private int sendSegment(SendSession session, int datagramOffset) {
+        int size = session.length;
+        int header;
+
+        frame[0] = (byte) COMMAND_CLASS_KEY;
+        frame[2] = (byte) size;
+        if (datagramOffset == 0) {
+            frame[1] = (byte) (CommandClassTransportServiceV2.COMMAND_FIRST_SEGMENT | ((size >> 8) & 0x07));
+            frame[3] = (byte) (session.sessionId << 4);
+            header = FIRST_SEGMENT_HEADER;
+        } else {
+            frame[1] = (byte) (CommandClassTransportServiceV2.COMMAND_SUBSEQUENT_SEGMENT | ((size >> 8) & 0x07));
+            frame[3] = (byte) ((session.sessionId << 4) | ((datagramOffset >> 8) & 0x07));
+            frame[4] = (byte) datagramOffset;
+            header = SUBSEQUENT_SEGMENT_HEADER;
+        }
+
+        int segmentLength = Math.min(maxFrameSize - header - CRC_LENGTH, size - datagramOffset);
+        System.arraycopy(session.buffer, session.offset + datagramOffset, frame, header, segmentLength);
+
+        int crc = ZWaveCrc16.calculate(frame, 0, header + segmentLength);
+        frame[header + segmentLength] = (byte) (crc >> 8);
+        frame[header + segmentLength + 1] = (byte) crc;
+
+        transmitter.sendCommand(session.nodeId, frame, 0, header + segmentLength + CRC_LENGTH);
+        return segmentLength;
+    }
+
+    /**
+     * Requests the first missing segment of a datagram. Must be called with this locked.
+     */
+    private void requestMissingSegment(ReceiveSession session) {
+        int missing = session.received.nextClearBit(0);
+        session.requests++;
+
+        logger.debug("NODE {}: Transport service requesting segment {} in session {}", session.nodeId, missing,
+                session.sessionId);
+        frame[0] = (byte) COMMAND_CLASS_KEY;
+        frame[1] = (byte) CommandClassTransportServiceV2.COMMAND_SEGMENT_REQUEST;
+        frame[2] = (byte) ((session.sessionId << 4) | ((missing >> 8) & 0x07));
+        frame[3] = (byte) missing;
+        transmitter.sendCommand(session.nodeId, frame, 0, 4);
+    }
+
+    /**
+     * Confirms to the node that a datagram is complete. Must be called with this locked.
+     */
+    private void sendSegmentComplete(int nodeId, int sessionId) {
+        frame[0] = (byte) COMMAND_CLASS_KEY;
+        frame[1] = (byte) CommandClassTransportServiceV2.COMMAND_SEGMENT_COMPLETE;
+        frame[2] = (byte) (sessionId << 4);
+        transmitter.sendCommand(nodeId, frame, 0, 3);
+    }
+
+    private static class ReceiveSession {
+        private final int nodeId;
+        private final int sessionId;
+        private final byte[] datagram;
+        private final BitSet received;
+        private int requests;
+        private ZWaveTimeout timeout;
+
+        ReceiveSession(int nodeId, int sessionId, int size) {
+            this.nodeId = nodeId;
+            this.sessionId = sessionId;
+            this.datagram = new byte[size];
+            this.received = new BitSet(size);
+        }
+
+        void cancelTimeout() {
+            if (timeout != null) {
+                timeout.cancel();
+                timeout = null;
+            }
+        }
+    }
+
+    private static class SendSession {
+        private final int nodeId;
+        private final int sessionId;
+        private final byte[] buffer;
+        private final int offset;
+        private final int length;
+        private final CompletableFuture<Boolean> future = new CompletableFuture<Boolean>();
+        private int attempts;
+        private ZWaveTimeout timeout;
+
+        SendSession(int nodeId, int sessionId, byte[] buffer, int offset, int length) {
+            this.nodeId = nodeId;
+            this.sessionId = sessionId;
+            this.buffer = buffer;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        void cancelTimeout() {
+            if (timeout != null) {
+                timeout.cancel();
+                timeout = null;
+            }
+        }
+    }
+
+    private class ReceiveTimer implements Runnable {
+        private final ReceiveSession session;
+
+        ReceiveTimer(ReceiveSession session) {
+            this.session = session;
+        }
+
+        @Override
+        public void run() {
+            synchronized (ZWaveTransportService.this) {
+                // The session may have completed while the timer was expiring
+                if (receiveSessions.get(session.nodeId) != session) {
+                    return;
+                }
+
+                if (session.requests >= MAX_ATTEMPTS) {
+                    logger.debug("NODE {}: Transport service session {} timed out", session.nodeId,
+                            session.sessionId);
+                    receiveSessions.remove(session.nodeId);
+                    return;
+                }
+
+                requestMissingSegment(session);
+                session.timeout = timer.schedule(this, segmentTimeout, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private class SendTimer implements Runnable {
+        private final SendSession session;
+        private final boolean resend;
+
+        /**
+         * @param session the {@link SendSession}
+         * @param resend true to send the datagram again, false if the session fails when the timer expires
+         */
+        SendTimer(SendSession session, boolean resend) {
+            this.session = session;
+            this.resend = resend;
+        }
+
+        @Override
+        public void run() {
+            synchronized (ZWaveTransportService.this) {
+                if (sendSessions.get(session.nodeId) != session) {
+                    return;
+                }
+
+                if (resend && session.attempts++ < MAX_ATTEMPTS) {
+                    logger.debug("NODE {}: Transport service resending session {}", session.nodeId,
+                            session.sessionId);
+                    sendSegments(session);
+                    return;
+                }
+
+                logger.debug("NODE {}: Transport service session {} failed", session.nodeId, session.sessionId);
+                sendSessions.remove(session.nodeId);
+            }
+            session.future.complete(false);
+        }
+    }
+}
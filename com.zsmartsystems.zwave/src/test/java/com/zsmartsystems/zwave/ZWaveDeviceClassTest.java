@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2016-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zwave;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.EnumSet;
+
+import org.junit.Test;
+
+import com.zsmartsystems.zwave.ZWaveDeviceClass.Basic;
+import com.zsmartsystems.zwave.ZWaveDeviceClass.Generic;
+import com.zsmartsystems.zwave.ZWaveDeviceClass.Specific;
+import com.zsmartsystems.zwave.commandclass.ZWaveCommandClassEnum;
+
+/**
+ * Test cases for {@link ZWaveDeviceClass} and {@link ZWaveCommandClassEnum} lookups.
+ *
+ * @author Chris Jackson
+ */
+public class ZWaveDeviceClassTest {
+    @Test
+    public void getBasic() {
+        assertEquals(Basic.BASIC_TYPE_ROUTING_SLAVE, Basic.getBasic(0x04));
+        assertEquals(Basic.BASIC_TYPE_UNKNOWN, Basic.getBasic(Integer.MAX_VALUE));
+        assertNull(Basic.getBasic(0x7F));
+        assertNull(Basic.getBasic(-1));
+        assertNull(Basic.getBasic(0x100));
+    }
+
+    @Test
+    public void getGeneric() {
+        for (Generic generic : Generic.values()) {
+            assertEquals(generic, Generic.getGeneric(generic.getKey()));
+        }
+        assertNull(Generic.getGeneric(0x100));
+    }
+
+    @Test
+    public void getSpecific() {
+        assertEquals(Specific.SPECIFIC_TYPE_DOOR_LOCK, Specific.getSpecific(Generic.GENERIC_TYPE_ENTRY_CONTROL, 0x01));
+        assertEquals(Specific.SPECIFIC_TYPE_SIMPLE_DISPLAY, Specific.getSpecific(Generic.GENERIC_TYPE_DISPLAY, 0x01));
+        assertEquals(Specific.SPECIFIC_TYPE_NOT_USED, Specific.getSpecific(Generic.GENERIC_TYPE_DISPLAY, 0x00));
+        assertNull(Specific.getSpecific(Generic.GENERIC_TYPE_DISPLAY, 0x02));
+        assertNull(Specific.getSpecific(null, 0x01));
+        assertNull(Specific.getSpecific(Generic.GENERIC_TYPE_DISPLAY, 0x100));
+    }
+
+    @Test
+    public void getSpecificDeviceClasses() {
+        EnumSet<Specific> specific = Generic.GENERIC_TYPE_APPLIANCE.getSpecificDeviceClasses();
+        assertEquals(4, specific.size());
+        assertTrue(specific.contains(Specific.SPECIFIC_TYPE_NOT_USED));
+        assertTrue(specific.contains(Specific.SPECIFIC_TYPE_LAUNDRY_APPLIANCE));
+    }
+
+    @Test
+    public void getCommandClass() {
+        for (ZWaveCommandClassEnum commandClass : ZWaveCommandClassEnum.values()) {
+            assertEquals(commandClass, ZWaveCommandClassEnum.getCommandClass(commandClass.getKey()));
+        }
+        assertEquals(ZWaveCommandClassEnum.COMMAND_CLASS_BASIC, ZWaveCommandClassEnum.getCommandClass("command_class_basic"));
+        assertNull(ZWaveCommandClassEnum.getCommandClass(-1));
+        assertNull(ZWaveCommandClassEnum.getCommandClass(0x100));
+    }
+
+    @Test
+    public void getCommandClasses() {
+        EnumSet<ZWaveCommandClassEnum> commandClasses = ZWaveCommandClassEnum
+                .getCommandClasses(new byte[] { 0x00, 0x20, 0x25, (byte) 0xFE, 0x25 }, 1, 4);
+        assertEquals(EnumSet.of(ZWaveCommandClassEnum.COMMAND_CLASS_BASIC,
+                ZWaveCommandClassEnum.COMMAND_CLASS_SWITCH_BINARY), commandClasses);
+    }
+}
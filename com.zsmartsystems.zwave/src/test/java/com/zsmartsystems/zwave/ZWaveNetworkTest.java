@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2016-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zwave;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.zsmartsystems.zwave.transaction.TransactionPriority;
+import com.zsmartsystems.zwave.transaction.ZWaveCommandClassTransactionPayload;
+import com.zsmartsystems.zwave.transaction.ZWaveTransactionManager;
+import com.zsmartsystems.zwave.transaction.ZWaveTransactionResponse;
+
+/**
+ * Test cases for {@link ZWaveNetwork}.
+ *
+ * @author Chris Jackson
+ */
+public class ZWaveNetworkTest {
+    @Test
+    public void nodesAreRegisteredAndRemoved() {
+        ZWaveNetwork network = new ZWaveNetwork();
+        final List<String> events = new ArrayList<String>();
+        network.addNodeListener(new ZWaveNodeListener() {
+            @Override
+            public void nodeAdded(ZWaveNode node) {
+                events.add("ADD " + node.getNodeId());
+            }
+
+            @Override
+            public void nodeRemoved(ZWaveNode node) {
+                events.add("REMOVE " + node.getNodeId());
+            }
+        });
+
+        ZWaveNode node5 = new ZWaveNode(network, 5);
+        ZWaveNode node2000 = new ZWaveNode(network, 2000);
+        network.registerNode(node5);
+        network.registerNode(node2000);
+
+        assertSame(node5, network.getNode(5));
+        assertSame(node2000, network.getNode(2000));
+        assertNull(network.getNode(6));
+        assertNull(network.getNode(-1));
+        assertNull(network.getNode(5000));
+        assertEquals(Arrays.asList(node5, node2000), network.getNodes());
+
+        assertSame(node5, network.removeNode(5));
+        assertNull(network.removeNode(5));
+        assertNull(network.getNode(5));
+        assertEquals(Arrays.asList("ADD 5", "ADD 2000", "REMOVE 5"), events);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void sendTransactionRequiresManager() {
+        new ZWaveNetwork().sendTransactionAsync(new ZWaveCommandClassTransactionPayload(2,
+                new byte[] { 0x25, 0x01, 0x00 }, TransactionPriority.Set, null, null));
+    }
+
+    @Test
+    public void transactionsAreSentThroughManager() throws Exception {
+        ZWaveNetwork network = new ZWaveNetwork();
+        ZWaveNode node = new ZWaveNode(network, 2);
+        node.setListening(true);
+        network.registerNode(node);
+        ZWaveTransactionManager manager = new ZWaveTransactionManager(network);
+        assertSame(manager, network.getTransactionManager());
+
+        ZWaveTransactionResponse response = network.sendTransactionAsync(new ZWaveCommandClassTransactionPayload(2,
+                new byte[] { 0x25, 0x01, 0x00 }, TransactionPriority.Set, null, null)).get(5, TimeUnit.SECONDS);
+        assertEquals(ZWaveTransactionResponse.State.COMPLETE, response.getState());
+
+        manager.shutdown();
+        network.getTimer().shutdown();
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2016-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zwave;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.zsmartsystems.zwave.commandclass.ZWaveCommandClassEnum;
+import com.zsmartsystems.zwave.commandclass.ZWaveSecurityCommandClass;
+
+/**
+ * Test cases for {@link ZWaveNode} and {@link ZWaveEndpoint}.
+ *
+ * @author Chris Jackson
+ */
+public class ZWaveNodeTest {
+    private boolean requiresSecurity(ZWaveNode node, int endpoint, int... payload) {
+        byte[] bytes = new byte[payload.length];
+        for (int cnt = 0; cnt < payload.length; cnt++) {
+            bytes[cnt] = (byte) payload[cnt];
+        }
+        return node.doesMessageRequireSecurityEncapsulation(endpoint, new ZWaveCommandClassPayload(bytes));
+    }
+
+    @Test
+    public void securityEncapsulationFollowsSecureCommandClasses() {
+        ZWaveNode node = new ZWaveNode(new ZWaveNetwork(), 3);
+        ZWaveEndpoint root = node.addEndpoint(0);
+        assertFalse(requiresSecurity(node, 0, 0x25, 0x01, 0x00));
+
+        ZWaveSecurityCommandClass security = new ZWaveSecurityCommandClass(root);
+        root.addCommandClass(security);
+        root.addSecureCommandClass(ZWaveCommandClassEnum.COMMAND_CLASS_SWITCH_BINARY);
+
+        assertSame(security, root.getCommandClass(0x98));
+        assertSame(security, root.getCommandClass(ZWaveCommandClassEnum.COMMAND_CLASS_SECURITY));
+        assertEquals(1, root.getCommandClasses().size());
+        assertTrue(root.supportsSecureCommandClass(0x25));
+        assertFalse(root.supportsSecureCommandClass(0x26));
+
+        assertTrue(requiresSecurity(node, 0, 0x25, 0x01, 0x00));
+        assertFalse(requiresSecurity(node, 0, 0x20, 0x01, 0x00));
+        assertFalse(requiresSecurity(node, 0, 0x00));
+        assertFalse(requiresSecurity(node, 2, 0x25, 0x01, 0x00));
+
+        // Only some security commands are encapsulated
+        assertTrue(requiresSecurity(node, 0, 0x98, 0x06, 0x00));
+        assertFalse(requiresSecurity(node, 0, 0x98, 0x40));
+
+        root.removeCommandClass(ZWaveCommandClassEnum.COMMAND_CLASS_SECURITY);
+        assertNull(root.getCommandClass(0x98));
+        assertFalse(requiresSecurity(node, 0, 0x25, 0x01, 0x00));
+    }
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) 2016-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zwave.commandclass;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.zsmartsystems.zwave.ZWaveCommandClassPayload;
+import com.zsmartsystems.zwave.ZWaveEndpoint;
+import com.zsmartsystems.zwave.ZWaveNetwork;
+import com.zsmartsystems.zwave.ZWaveNode;
+
+/**
+ * Test cases for the {@link ZWaveCommandClass} response handler dispatch.
+ *
+ * @author Chris Jackson
+ */
+public class ZWaveCommandClassDispatchTest {
+    public static class TestCommandClass extends ZWaveCommandClass {
+        private final List<String> received = new ArrayList<String>();
+
+        public TestCommandClass(ZWaveEndpoint endpoint) {
+            super(endpoint, ZWaveCommandClassEnum.COMMAND_CLASS_BASIC);
+        }
+
+        @ZWaveResponseHandler(id = 0x03, name = "BASIC_REPORT")
+        public void handleBasicReport(ZWaveCommandClassPayload payload, int endpoint) {
+            received.add("REPORT " + payload.getPayloadByte(2) + " " + endpoint);
+        }
+
+        @ZWaveResponseHandler(id = 0, name = "DEFAULT")
+        public void handleDefault(ZWaveCommandClassPayload payload, int endpoint) {
+            received.add("DEFAULT " + payload.getCommandClassCommand() + " " + endpoint);
+        }
+    }
+
+    @Test
+    public void handlersAreCalledDirectly() {
+        ZWaveNode node = new ZWaveNode(new ZWaveNetwork(), 3);
+        ZWaveEndpoint endpoint = node.addEndpoint(2);
+
+        TestCommandClass commandClass = new TestCommandClass(endpoint);
+        commandClass.handleApplicationCommandRequest(new ZWaveCommandClassPayload(new byte[] { 0x20, 0x03, 0x63 }));
+        commandClass.handleApplicationCommandRequest(new ZWaveCommandClassPayload(new byte[] { 0x20, 0x07 }));
+
+        // A second instance shares the dispatch table of the class
+        TestCommandClass second = new TestCommandClass(endpoint);
+        second.handleApplicationCommandRequest(new ZWaveCommandClassPayload(new byte[] { 0x20, 0x03, 0x00 }));
+
+        assertEquals(2, commandClass.received.size());
+        assertEquals("REPORT 99 2", commandClass.received.get(0));
+        assertEquals("DEFAULT 7 2", commandClass.received.get(1));
+        assertEquals(1, second.received.size());
+        assertEquals("REPORT 0 2", second.received.get(0));
+    }
+
+    @Test
+    public void handlerExceptionIsContained() {
+        ZWaveNode node = new ZWaveNode(new ZWaveNetwork(), 3);
+        TestCommandClass commandClass = new TestCommandClass(node.addEndpoint(2));
+
+        // The truncated report makes the handler read past the end of the payload
+        assertFalse(
+                commandClass.handleApplicationCommandRequest(new ZWaveCommandClassPayload(new byte[] { 0x20, 0x03 })));
+        assertTrue(commandClass
+                .handleApplicationCommandRequest(new ZWaveCommandClassPayload(new byte[] { 0x20, 0x03, 0x01 })));
+        assertEquals(1, commandClass.received.size());
+    }
+}
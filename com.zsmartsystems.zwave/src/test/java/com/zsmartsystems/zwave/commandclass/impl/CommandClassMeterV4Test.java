@@ -1,5 +1,8 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
@@ -51,4 +54,45 @@ public class CommandClassMeterV4Test extends ZWaveCommandClassTest {
         }
     }
 
+    @Test
+    public void meterReportView() {
+        byte[] input = new byte[] { 0x32, 0x02, 0x21, 0x34, 0x00, 0x00, 0x01, (byte) 0xB7, 0x00, 0x00, 0x00, 0x00, 0x00,
+                0x00 };
+
+        CommandClassMeterV4.MeterReportView view = new CommandClassMeterV4.MeterReportView().wrap(input);
+        assertEquals(0x32, view.getCommandClassKey());
+        assertEquals(CommandClassMeterV4.METER_REPORT, view.getCommand());
+        assertEquals(1, view.getMeterType());
+        assertEquals(1, view.getRateType());
+        assertEquals(4, view.getSize());
+        assertEquals(2, view.getScaleBits10());
+        assertEquals(1, view.getPrecision());
+        assertEquals(439, view.getMeterValue());
+        assertEquals(43.9, view.getMeterValueAsDouble(), 0.0001);
+        assertEquals(0, view.getDeltaTime());
+        assertTrue(view.hasPreviousMeterValue());
+        assertEquals(0, view.getPreviousMeterValue());
+        assertEquals(0, view.getScale2());
+    }
+
+    @Test
+    public void meterReportConstants() {
+        byte[] meterValue = new byte[] { 0x00, 0x00, 0x01, (byte) 0xB7 };
+        byte[] previousMeterValue = new byte[] { 0x00, 0x00, 0x00, 0x00 };
+
+        byte[] output = CommandClassMeterV4.getMeterReport(CommandClassMeterV4.MeterType.ELECTRIC_METER,
+                CommandClassMeterV4.RateType.IMPORT, false, 2, 1, meterValue, 0, previousMeterValue, 0);
+        assertArrayEquals(CommandClassMeterV4.getMeterReport("ELECTRIC_METER", "IMPORT", false, 2, 1, meterValue, 0,
+                previousMeterValue, 0), output);
+        assertEquals(0x21, output[2]);
+
+        CommandClassMeterV4.MeterReportView view = new CommandClassMeterV4.MeterReportView().wrap(output);
+        assertEquals(CommandClassMeterV4.MeterType.ELECTRIC_METER, view.getMeterTypeEnum());
+        assertEquals(CommandClassMeterV4.RateType.IMPORT, view.getRateTypeEnum());
+
+        assertEquals(CommandClassMeterV4.MeterType.WATER_METER, CommandClassMeterV4.MeterType.getMeterType(3));
+        assertNull(CommandClassMeterV4.MeterType.getMeterType(0));
+        assertNull(CommandClassMeterV4.MeterType.getMeterType(4));
+    }
+
 }
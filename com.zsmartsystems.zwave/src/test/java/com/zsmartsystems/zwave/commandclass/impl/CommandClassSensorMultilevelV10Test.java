@@ -1,5 +1,6 @@
 package com.zsmartsystems.zwave.commandclass.impl;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
@@ -62,4 +63,27 @@ public class CommandClassSensorMultilevelV10Test extends ZWaveCommandClassTest {
         }
     }
 
+    @Test
+    public void sensorMultilevelReportView() {
+        // The view can be reused, and can wrap a frame within a larger buffer
+        CommandClassSensorMultilevelV10.SensorMultilevelReportView view =
+                new CommandClassSensorMultilevelV10.SensorMultilevelReportView();
+
+        view.wrap(new byte[] { 0x31, 0x05, 0x36, 0x21, 0x5E });
+        assertEquals(0x36, view.getSensorType());
+        assertEquals(1, view.getSize());
+        assertEquals(0, view.getScale());
+        assertEquals(1, view.getPrecision());
+        assertEquals(94, view.getSensorValue());
+        assertEquals(9.4, view.getSensorValueAsDouble(), 0.0001);
+
+        view.wrap(new byte[] { 0x00, 0x00, 0x31, 0x05, 0x01, 0x4A, (byte) 0xFF, 0x38 }, 2, 6);
+        assertEquals(0x01, view.getSensorType());
+        assertEquals(2, view.getSize());
+        assertEquals(1, view.getScale());
+        assertEquals(2, view.getPrecision());
+        assertEquals(-200, view.getSensorValue());
+        assertEquals(-2.0, view.getSensorValueAsDouble(), 0.0001);
+    }
+
 }
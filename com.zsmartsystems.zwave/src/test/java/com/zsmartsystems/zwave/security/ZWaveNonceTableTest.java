@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2016-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zwave.security;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * Test cases for {@link ZWaveNonceTable} and {@link ZWaveNoncePool}.
+ *
+ * @author Chris Jackson
+ */
+public class ZWaveNonceTableTest {
+    @Test
+    public void nonceCanOnlyBeUsedOnce() {
+        ZWaveNonceTable table = new ZWaveNonceTable(new ZWaveNoncePool(16));
+
+        ZWaveNonce nonce = table.createNonce();
+        assertEquals(8, nonce.getNonceBytes().length);
+        assertEquals(1, table.size());
+
+        assertSame(nonce, table.useNonce(nonce.getId()));
+        assertNull(table.useNonce(nonce.getId()));
+        assertEquals(0, table.size());
+    }
+
+    @Test
+    public void nonceIsKeptUntilRemoved() {
+        ZWaveNonceTable table = new ZWaveNonceTable(new ZWaveNoncePool(16));
+
+        ZWaveNonce nonce = table.createNonce();
+        assertSame(nonce, table.getNonce(nonce.getId()));
+        assertSame(nonce, table.getNonce(nonce.getId()));
+        assertEquals(1, table.size());
+
+        assertTrue(table.removeNonce(nonce));
+        assertFalse(table.removeNonce(nonce));
+        assertNull(table.getNonce(nonce.getId()));
+        assertEquals(0, table.size());
+    }
+
+    @Test
+    public void outstandingNoncesHaveUniqueIds() {
+        ZWaveNonceTable table = new ZWaveNonceTable(new ZWaveNoncePool(16));
+
+        Set<Integer> ids = new HashSet<Integer>();
+        for (int cnt = 0; cnt < ZWaveNonceTable.MAX_OUTSTANDING; cnt++) {
+            assertTrue(ids.add(table.createNonce().getId() & 0xff));
+        }
+        assertEquals(ZWaveNonceTable.MAX_OUTSTANDING, table.size());
+
+        // The table is full, so the oldest nonce makes way for the new one
+        ZWaveNonce nonce = table.createNonce();
+        assertEquals(ZWaveNonceTable.MAX_OUTSTANDING, table.size());
+        assertSame(nonce, table.useNonce(nonce.getId()));
+    }
+
+    @Test
+    public void poolIsRefilled() throws InterruptedException {
+        ZWaveNoncePool pool = new ZWaveNoncePool(16);
+
+        Set<Long> values = new HashSet<Long>();
+        values.add(pool.nextNonce());
+        for (int cnt = 0; cnt < 100 && pool.size() < 16; cnt++) {
+            Thread.sleep(10);
+        }
+        assertEquals(16, pool.size());
+
+        for (int cnt = 0; cnt < 16; cnt++) {
+            assertTrue(values.add(pool.nextNonce()));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2016-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zwave.security;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.Test;
+
+/**
+ * Test cases for {@link ZWaveSecurityCipher}.
+ *
+ * @author Chris Jackson
+ */
+public class ZWaveSecurityCipherTest {
+    private final SecretKey encryptionKey = new SecretKeySpec(
+            new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 }, "AES");
+    private final SecretKey authenticationKey = new SecretKeySpec(
+            new byte[] { 16, 15, 14, 13, 12, 11, 10, 9, 8, 7, 6, 5, 4, 3, 2, 1 }, "AES");
+    private final byte[] iv = new byte[] { 0x21, 0x22, 0x23, 0x24, 0x25, 0x26, 0x27, 0x28, 0x31, 0x32, 0x33, 0x34,
+            0x35, 0x36, 0x37, 0x38 };
+
+    private byte[] getData(int length) {
+        byte[] data = new byte[length];
+        for (int cnt = 0; cnt < length; cnt++) {
+            data[cnt] = (byte) (cnt * 7 + 3);
+        }
+        return data;
+    }
+
+    @Test
+    public void cryptMatchesOfb() throws Exception {
+        ZWaveSecurityCipher cipher = new ZWaveSecurityCipher(encryptionKey, authenticationKey);
+
+        for (int length : new int[] { 1, 15, 16, 17, 40 }) {
+            byte[] data = getData(length);
+            byte[] frame = new byte[length + 4];
+            System.arraycopy(data, 0, frame, 2, length);
+
+            Cipher reference = Cipher.getInstance("AES/OFB/NoPadding");
+            reference.init(Cipher.ENCRYPT_MODE, encryptionKey, new IvParameterSpec(iv));
+
+            cipher.crypt(iv, frame, 2, length);
+            assertArrayEquals(reference.doFinal(data), Arrays.copyOfRange(frame, 2, length + 2));
+
+            cipher.crypt(iv, frame, 2, length);
+            assertArrayEquals(data, Arrays.copyOfRange(frame, 2, length + 2));
+        }
+    }
+
+    @Test
+    public void macMatchesCbcMac() throws Exception {
+        ZWaveSecurityCipher cipher = new ZWaveSecurityCipher(encryptionKey, authenticationKey);
+
+        for (int length : new int[] { 0, 5, 12, 13, 28, 40 }) {
+            byte[] data = getData(length);
+
+            // The MAC is the last block of the CBC encryption of the IV, header and zero padded data
+            byte[] message = new byte[16 + ((length + 4 + 15) / 16) * 16];
+            System.arraycopy(iv, 0, message, 0, 16);
+            message[16] = (byte) 0x81;
+            message[17] = 1;
+            message[18] = 5;
+            message[19] = (byte) length;
+            System.arraycopy(data, 0, message, 20, length);
+            Cipher reference = Cipher.getInstance("AES/CBC/NoPadding");
+            reference.init(Cipher.ENCRYPT_MODE, authenticationKey, new IvParameterSpec(new byte[16]));
+            byte[] encrypted = reference.doFinal(message);
+
+            byte[] mac = new byte[10];
+            cipher.generateMac(iv, (byte) 0x81, (byte) 1, (byte) 5, data, 0, length, mac, 2);
+            assertArrayEquals(Arrays.copyOfRange(encrypted, encrypted.length - 16, encrypted.length - 8),
+                    Arrays.copyOfRange(mac, 2, 10));
+
+            assertTrue(cipher.checkMac(iv, (byte) 0x81, (byte) 1, (byte) 5, data, 0, length, mac, 2));
+            mac[9] ^= 1;
+            assertFalse(cipher.checkMac(iv, (byte) 0x81, (byte) 1, (byte) 5, data, 0, length, mac, 2));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2016-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zwave.timer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link ZWaveTimer}.
+ *
+ * @author Chris Jackson
+ */
+public class ZWaveTimerTest {
+    private final ZWaveTimer timer = new ZWaveTimer(1, TimeUnit.MILLISECONDS, 8);
+
+    @After
+    public void shutdown() {
+        timer.shutdown();
+    }
+
+    @Test
+    public void tasksRunInDeadlineOrder() throws InterruptedException {
+        final List<Integer> order = Collections.synchronizedList(new ArrayList<Integer>());
+        final CountDownLatch latch = new CountDownLatch(3);
+
+        long start = System.nanoTime();
+        // The delays are longer than the wheel so these also check timeouts spanning several rotations
+        for (final int delay : new int[] { 30, 10, 20 }) {
+            timer.scheduleAt(new Runnable() {
+                @Override
+                public void run() {
+                    order.add(delay);
+                    latch.countDown();
+                }
+            }, start + TimeUnit.MILLISECONDS.toNanos(delay));
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(30));
+        assertEquals(10, (int) order.get(0));
+        assertEquals(20, (int) order.get(1));
+        assertEquals(30, (int) order.get(2));
+    }
+
+    @Test
+    public void cancelledTaskDoesNotRun() throws InterruptedException {
+        final CountDownLatch cancelledLatch = new CountDownLatch(1);
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        ZWaveTimeout cancelled = timer.schedule(new Runnable() {
+            @Override
+            public void run() {
+                cancelledLatch.countDown();
+            }
+        }, 10, TimeUnit.MILLISECONDS);
+        ZWaveTimeout timeout = timer.schedule(new Runnable() {
+            @Override
+            public void run() {
+                latch.countDown();
+            }
+        }, 20, TimeUnit.MILLISECONDS);
+
+        assertTrue(cancelled.cancel());
+        assertFalse(cancelled.cancel());
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(1, cancelledLatch.getCount());
+        assertTrue(cancelled.isCancelled());
+        assertTrue(timeout.isExpired());
+        assertFalse(timeout.cancel());
+    }
+}
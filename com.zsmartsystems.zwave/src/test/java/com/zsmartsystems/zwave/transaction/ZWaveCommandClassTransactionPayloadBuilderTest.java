@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2016-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zwave.transaction;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import com.zsmartsystems.zwave.commandclass.ZWaveCommandClassEnum;
+import com.zsmartsystems.zwave.commandclass.impl.CommandClassConfigurationV1;
+
+/**
+ * Test cases for {@link ZWaveCommandClassTransactionPayloadBuilder}.
+ *
+ * @author Chris Jackson
+ */
+public class ZWaveCommandClassTransactionPayloadBuilderTest {
+    @Test
+    public void buildFromFrameBuffer() {
+        byte[] value = new byte[] { 0x12, 0x34 };
+        ByteBuffer frame = ByteBuffer.allocate(64);
+        frame.position(6);
+
+        int length = CommandClassConfigurationV1.getConfigurationSet(frame, 7, false, value);
+        assertEquals(6, length);
+        frame.limit(frame.position());
+        frame.position(6);
+
+        ZWaveCommandClassTransactionPayload payload = new ZWaveCommandClassTransactionPayloadBuilder(4, frame)
+                .build();
+        assertSame(frame.array(), payload.getBuffer());
+        assertEquals(6, payload.getOffset());
+        assertEquals(6, payload.getPayloadLength());
+        assertEquals(ZWaveCommandClassEnum.COMMAND_CLASS_CONFIGURATION.getKey(), payload.getCommandClassId());
+        assertEquals(CommandClassConfigurationV1.CONFIGURATION_SET, payload.getCommandClassCommand());
+
+        byte[] expected = CommandClassConfigurationV1.getConfigurationSet(7, false, value);
+        assertArrayEquals(expected, payload.getPayloadBuffer());
+        assertTrue(payload.payloadEquals(new ZWaveCommandClassTransactionPayloadBuilder(4, expected).build()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void frameBufferWithoutCommandRejected() {
+        ByteBuffer frame = ByteBuffer.allocate(64);
+        frame.put((byte) 0x20);
+        frame.flip();
+
+        new ZWaveCommandClassTransactionPayloadBuilder(4, frame);
+    }
+
+    @Test
+    public void buildFromCommand() {
+        ZWaveCommandClassTransactionPayload payload = new ZWaveCommandClassTransactionPayloadBuilder(4,
+                ZWaveCommandClassEnum.COMMAND_CLASS_BASIC, 0x01).withPayload(0xFF).build();
+        assertArrayEquals(new byte[] { 0x20, 0x01, (byte) 0xFF }, payload.getPayloadBuffer());
+    }
+}
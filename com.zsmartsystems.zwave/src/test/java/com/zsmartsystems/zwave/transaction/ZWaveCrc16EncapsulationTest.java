@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2016-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zwave.transaction;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.zsmartsystems.zwave.ZWaveCommandClassPayload;
+
+/**
+ * Test cases for {@link ZWaveCrc16Encapsulation}.
+ *
+ * @author Chris Jackson
+ */
+public class ZWaveCrc16EncapsulationTest {
+    @Test
+    public void encapsulate() {
+        // Basic Get example from the command class specification
+        ZWaveCommandClassPayload command = ZWaveCrc16Encapsulation
+                .encapsulate(new ZWaveCommandClassPayload(new byte[] { 0x20, 0x02 }));
+        assertArrayEquals(new byte[] { 0x56, 0x01, 0x20, 0x02, 0x4D, 0x26 }, command.getPayloadBuffer());
+        assertTrue(ZWaveCrc16Encapsulation.isEncapsulated(command));
+    }
+
+    @Test
+    public void encapsulateInReservedSpace() {
+        byte[] buffer = new byte[] { 0x00, 0x00, 0x20, 0x02, 0x00, 0x00 };
+        ZWaveCommandClassPayload command = ZWaveCrc16Encapsulation
+                .encapsulate(new ZWaveCommandClassPayload(buffer, 2, 2, true));
+        assertSame(buffer, command.getBuffer());
+        assertArrayEquals(new byte[] { 0x56, 0x01, 0x20, 0x02, 0x4D, 0x26 }, command.getPayloadBuffer());
+
+        // Space that isn't reserved is not written
+        buffer = new byte[] { 0x00, 0x00, 0x20, 0x02, 0x00, 0x00 };
+        command = ZWaveCrc16Encapsulation.encapsulate(new ZWaveCommandClassPayload(buffer, 2, 2));
+        assertArrayEquals(new byte[] { 0x00, 0x00, 0x20, 0x02, 0x00, 0x00 }, buffer);
+        assertArrayEquals(new byte[] { 0x56, 0x01, 0x20, 0x02, 0x4D, 0x26 }, command.getPayloadBuffer());
+    }
+
+    @Test
+    public void decapsulate() {
+        byte[] buffer = new byte[] { 0x56, 0x01, 0x25, 0x03, (byte) 0xFF, 0x79, 0x58 };
+        ZWaveCommandClassPayload command = ZWaveCrc16Encapsulation.decapsulate(new ZWaveCommandClassPayload(buffer));
+
+        assertEquals(0x25, command.getCommandClassId());
+        assertEquals(0x03, command.getCommandClassCommand());
+        assertEquals(3, command.getPayloadLength());
+        assertSame(buffer, command.getBuffer());
+    }
+
+    @Test
+    public void decapsulateChecksumError() {
+        assertNull(ZWaveCrc16Encapsulation.decapsulate(
+                new ZWaveCommandClassPayload(new byte[] { 0x56, 0x01, 0x25, 0x03, (byte) 0xFE, 0x79, 0x58 })));
+        assertNull(ZWaveCrc16Encapsulation
+                .decapsulate(new ZWaveCommandClassPayload(new byte[] { 0x56, 0x01, 0x79, 0x58 })));
+        assertFalse(ZWaveCrc16Encapsulation.isEncapsulated(new ZWaveCommandClassPayload(new byte[] { 0x20, 0x02 })));
+    }
+}
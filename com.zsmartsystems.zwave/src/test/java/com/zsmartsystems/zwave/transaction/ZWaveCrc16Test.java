@@ -0,0 +1,39 @@
+/**
+ * Copyright (c) 2016-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zwave.transaction;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Test cases for {@link ZWaveCrc16}.
+ *
+ * @author Chris Jackson
+ */
+public class ZWaveCrc16Test {
+    @Test
+    public void calculate() {
+        byte[] check = "123456789".getBytes();
+        assertEquals(0xE5CC, ZWaveCrc16.calculate(check, 0, check.length));
+
+        // The CRC is calculated over a range of the buffer
+        byte[] buffer = "xx123456789xx".getBytes();
+        assertEquals(0xE5CC, ZWaveCrc16.calculate(buffer, 2, check.length));
+
+        assertEquals(ZWaveCrc16.INITIAL_VALUE, ZWaveCrc16.calculate(buffer, 0, 0));
+    }
+
+    @Test
+    public void update() {
+        byte[] check = "123456789".getBytes();
+        int crc = ZWaveCrc16.update(ZWaveCrc16.INITIAL_VALUE, check, 0, 4);
+        assertEquals(0xE5CC, ZWaveCrc16.update(crc, check, 4, 5));
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2016-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zwave.transaction;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.zsmartsystems.zwave.ZWaveCommandClassPayload;
+
+/**
+ * Test cases for {@link ZWaveMultiChannel}.
+ *
+ * @author Chris Jackson
+ */
+public class ZWaveMultiChannelTest {
+    @Test
+    public void encapsulate() {
+        ZWaveCommandClassPayload command = new ZWaveCommandClassPayload(
+                new byte[] { 0x00, 0x25, 0x01, (byte) 0xFF, 0x00 }, 1, 3);
+
+        assertArrayEquals(new byte[] { 0x60, 0x0D, 0x00, 0x02, 0x25, 0x01, (byte) 0xFF },
+                ZWaveMultiChannel.encapsulate(command, 0, 2).getPayloadBuffer());
+    }
+
+    @Test
+    public void decapsulate() {
+        byte[] buffer = new byte[] { 0x60, 0x0D, (byte) 0x83, 0x00, 0x25, 0x03, (byte) 0xFF };
+        ZWaveCommandClassPayload encap = new ZWaveCommandClassPayload(buffer);
+        assertTrue(ZWaveMultiChannel.isEncapsulated(encap));
+        assertEquals(3, ZWaveMultiChannel.getSourceEndpoint(encap));
+
+        ZWaveCommandClassPayload command = ZWaveMultiChannel.decapsulate(encap);
+        assertEquals(0x25, command.getCommandClassId());
+        assertEquals(0x03, command.getCommandClassCommand());
+        assertEquals(3, command.getPayloadLength());
+        assertSame(buffer, command.getBuffer());
+
+        assertFalse(ZWaveMultiChannel
+                .isEncapsulated(new ZWaveCommandClassPayload(new byte[] { 0x60, 0x0D, 0x01, 0x00 })));
+        assertFalse(ZWaveMultiChannel
+                .isEncapsulated(new ZWaveCommandClassPayload(new byte[] { 0x60, 0x08, 0x01, 0x00, 0x00 })));
+    }
+}
@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2016-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zwave.transaction;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.zsmartsystems.zwave.ZWaveCommandClassPayload;
+
+/**
+ * Test cases for {@link ZWaveMultiCommand}.
+ *
+ * @author Chris Jackson
+ */
+public class ZWaveMultiCommandTest {
+    @Test
+    public void encapsulate() {
+        ZWaveCommandClassPayload command = ZWaveMultiCommand.encapsulate(
+                Arrays.asList(new ZWaveCommandClassPayload(new byte[] { 0x70, 0x04, 0x01, 0x01, 0x05 }),
+                        new ZWaveCommandClassPayload(new byte[] { 0x00, 0x25, 0x02, 0x00 }, 1, 2)));
+
+        assertArrayEquals(new byte[] { (byte) 0x8F, 0x01, 0x02, 0x05, 0x70, 0x04, 0x01, 0x01, 0x05, 0x02, 0x25, 0x02 },
+                command.getPayloadBuffer());
+        assertTrue(ZWaveMultiCommand.isEncapsulated(command));
+    }
+
+    @Test
+    public void decapsulate() {
+        byte[] buffer = new byte[] { (byte) 0x8F, 0x01, 0x02, 0x03, 0x25, 0x03, (byte) 0xFF, 0x03, (byte) 0x80, 0x03,
+                0x64 };
+        List<ZWaveCommandClassPayload> commands = ZWaveMultiCommand
+                .decapsulate(new ZWaveCommandClassPayload(buffer));
+
+        assertEquals(2, commands.size());
+        assertEquals(0x25, commands.get(0).getCommandClassId());
+        assertEquals(0x03, commands.get(0).getCommandClassCommand());
+        assertEquals(0x80, commands.get(1).getCommandClassId());
+        assertEquals(0x64, commands.get(1).getPayloadByte(2));
+
+        // The commands are held in the original buffer
+        assertSame(buffer, commands.get(1).getBuffer());
+    }
+
+    @Test
+    public void decapsulateTruncated() {
+        List<ZWaveCommandClassPayload> commands = ZWaveMultiCommand.decapsulate(new ZWaveCommandClassPayload(
+                new byte[] { (byte) 0x8F, 0x01, 0x02, 0x03, 0x25, 0x03, (byte) 0xFF, 0x05, (byte) 0x80, 0x03 }));
+        assertEquals(1, commands.size());
+
+        assertFalse(ZWaveMultiCommand.isEncapsulated(new ZWaveCommandClassPayload(new byte[] { 0x25, 0x03 })));
+        assertTrue(ZWaveMultiCommand.decapsulate(new ZWaveCommandClassPayload(new byte[] { 0x25, 0x03 })).isEmpty());
+    }
+}
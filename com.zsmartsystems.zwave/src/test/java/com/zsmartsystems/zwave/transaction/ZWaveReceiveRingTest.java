@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2016-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zwave.transaction;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Test cases for {@link ZWaveReceiveRing}.
+ *
+ * @author Chris Jackson
+ */
+public class ZWaveReceiveRingTest {
+    private final List<byte[]> messages = new ArrayList<byte[]>();
+    private final List<Integer> nodes = new ArrayList<Integer>();
+
+    private final ZWaveReceiveRing.ZWaveReceiveHandler handler = new ZWaveReceiveRing.ZWaveReceiveHandler() {
+        @Override
+        public void messageReceived(int nodeId, byte[] buffer, int length) {
+            nodes.add(nodeId);
+            messages.add(Arrays.copyOf(buffer, length));
+        }
+    };
+
+    @Test
+    public void messagesAreTakenInOrder() throws InterruptedException {
+        ZWaveReceiveRing ring = new ZWaveReceiveRing(4);
+
+        assertTrue(ring.isEmpty());
+        assertTrue(ring.publish(2, new byte[] { 0, 0x25, 0x03, 0x00 }, 1, 3));
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[] { 0x31, 0x05, 0x01 });
+        assertTrue(ring.publish(3, buffer));
+        assertEquals(0, buffer.position());
+        assertEquals(2, ring.size());
+
+        ring.take(handler);
+        ring.take(handler);
+        assertTrue(ring.isEmpty());
+        assertEquals(Arrays.asList(2, 3), nodes);
+        assertArrayEquals(new byte[] { 0x25, 0x03, 0x00 }, messages.get(0));
+        assertArrayEquals(new byte[] { 0x31, 0x05, 0x01 }, messages.get(1));
+    }
+
+    @Test
+    public void messagesAreDroppedWhenFull() throws InterruptedException {
+        ZWaveReceiveRing ring = new ZWaveReceiveRing(2);
+
+        assertTrue(ring.publish(2, new byte[] { 1 }, 0, 1));
+        assertTrue(ring.publish(2, new byte[] { 2 }, 0, 1));
+        assertFalse(ring.publish(2, new byte[] { 3 }, 0, 1));
+        assertFalse(ring.publish(2, new byte[ZWaveReceiveRing.MAX_MESSAGE_LENGTH + 1], 0,
+                ZWaveReceiveRing.MAX_MESSAGE_LENGTH + 1));
+        assertEquals(2, ring.getDroppedCount());
+
+        ring.take(handler);
+        assertTrue(ring.publish(2, new byte[] { 4 }, 0, 1));
+        ring.take(handler);
+        ring.take(handler);
+        assertArrayEquals(new byte[] { 1 }, messages.get(0));
+        assertArrayEquals(new byte[] { 2 }, messages.get(1));
+        assertArrayEquals(new byte[] { 4 }, messages.get(2));
+    }
+
+    @Test
+    public void producerBlocksUntilConsumerTakes() throws InterruptedException {
+        final ZWaveReceiveRing ring = new ZWaveReceiveRing(2);
+        ring.setOverflowPolicy(ZWaveReceiveRing.OverflowPolicy.BLOCK);
+
+        Thread producer = new Thread() {
+            @Override
+            public void run() {
+                for (int cnt = 0; cnt < 100; cnt++) {
+                    ring.publish(2, new byte[] { (byte) cnt }, 0, 1);
+                }
+            }
+        };
+        producer.start();
+
+        for (int cnt = 0; cnt < 100; cnt++) {
+            ring.take(handler);
+            assertEquals(cnt, messages.get(cnt)[0]);
+        }
+        producer.join(5000);
+        assertEquals(0, ring.getDroppedCount());
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2016-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zwave.transaction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.zsmartsystems.zwave.ZWaveCommandClassPayload;
+import com.zsmartsystems.zwave.commandclass.ZWaveCommandClassEnum;
+import com.zsmartsystems.zwave.transaction.ZWaveTransactionResponse.State;
+
+/**
+ * Test cases for {@link ZWaveResponseCache}.
+ *
+ * @author Chris Jackson
+ */
+public class ZWaveResponseCacheTest {
+    private ZWaveCommandClassTransactionPayload getRequest(int nodeId, int type) {
+        return new ZWaveCommandClassTransactionPayload(nodeId, new byte[] { 0x31, 0x04, (byte) type },
+                TransactionPriority.Get, ZWaveCommandClassEnum.COMMAND_CLASS_SENSOR_MULTILEVEL, 0x05);
+    }
+
+    private ZWaveTransactionResponse getResponse(int type) {
+        return new ZWaveTransactionResponse(State.COMPLETE,
+                new ZWaveCommandClassPayload(new byte[] { 0x31, 0x05, (byte) type, 0x01, 0x10 }));
+    }
+
+    @Test
+    public void responseIsCachedUntilInvalidated() {
+        ZWaveResponseCache cache = new ZWaveResponseCache();
+        cache.setTimeToLive(ZWaveCommandClassEnum.COMMAND_CLASS_SENSOR_MULTILEVEL, 60000);
+
+        ZWaveTransactionResponse response = getResponse(1);
+        assertNull(cache.get(getRequest(2, 1)));
+        cache.put(getRequest(2, 1), response);
+        assertSame(response, cache.get(getRequest(2, 1)));
+        assertNull(cache.get(getRequest(3, 1)));
+        assertNull(cache.get(getRequest(2, 2)));
+        assertEquals(1, cache.getHits());
+        assertEquals(3, cache.getMisses());
+
+        // An unsolicited report from another node has no effect
+        cache.reportReceived(3, 0, getResponse(1).getPayload());
+        assertSame(response, cache.get(getRequest(2, 1)));
+
+        cache.reportReceived(2, 0, getResponse(1).getPayload());
+        assertNull(cache.get(getRequest(2, 1)));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void invalidationIsPerEndpoint() {
+        ZWaveResponseCache cache = new ZWaveResponseCache();
+        cache.setTimeToLive(ZWaveCommandClassEnum.COMMAND_CLASS_SENSOR_MULTILEVEL, 60000);
+
+        ZWaveCommandClassTransactionPayload endpoint1 = getRequest(2, 1);
+        endpoint1.setEndpointId(1);
+        ZWaveCommandClassTransactionPayload endpoint2 = getRequest(2, 1);
+        endpoint2.setEndpointId(2);
+        cache.put(endpoint1, getResponse(1));
+        cache.put(endpoint2, getResponse(1));
+        cache.put(getRequest(2, 2), getResponse(2));
+
+        // A report from endpoint 2 leaves the responses for the other endpoints
+        cache.reportReceived(2, 2, getResponse(1).getPayload());
+        assertNull(cache.get(endpoint2));
+        assertEquals(2, cache.size());
+
+        // A SET to the root invalidates all of its responses to the command class
+        assertFalse(cache.invalidate(2, 0, 0x25));
+        assertTrue(cache.invalidate(2, 0, 0x31));
+        assertEquals(1, cache.size());
+        assertEquals(0x31, cache.get(endpoint1).getPayload().getCommandClassId());
+    }
+
+    @Test
+    public void onlyConfiguredCommandClassesAreCached() {
+        ZWaveResponseCache cache = new ZWaveResponseCache();
+
+        cache.put(getRequest(2, 1), getResponse(1));
+        assertNull(cache.get(getRequest(2, 1)));
+        assertEquals(0, cache.getMisses());
+
+        cache.setTimeToLive(ZWaveCommandClassEnum.COMMAND_CLASS_SENSOR_MULTILEVEL, 60000);
+        cache.put(getRequest(2, 1), new ZWaveTransactionResponse(State.TIMEOUT_WAITING_FOR_DATA));
+        assertNull(cache.get(getRequest(2, 1)));
+    }
+
+    @Test
+    public void responsesExpireAndAreEvicted() throws InterruptedException {
+        ZWaveResponseCache cache = new ZWaveResponseCache(2);
+        cache.setTimeToLive(ZWaveCommandClassEnum.COMMAND_CLASS_SENSOR_MULTILEVEL, 60000);
+
+        cache.put(getRequest(2, 1), getResponse(1));
+        cache.put(getRequest(2, 2), getResponse(2));
+        cache.get(getRequest(2, 1));
+        cache.put(getRequest(2, 3), getResponse(3));
+
+        // The least recently used response is evicted
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        assertNull(cache.get(getRequest(2, 2)));
+
+        cache.setTimeToLive(ZWaveCommandClassEnum.COMMAND_CLASS_SENSOR_MULTILEVEL, 1);
+        cache.put(getRequest(2, 4), getResponse(4));
+        Thread.sleep(10);
+        assertNull(cache.get(getRequest(2, 4)));
+    }
+}
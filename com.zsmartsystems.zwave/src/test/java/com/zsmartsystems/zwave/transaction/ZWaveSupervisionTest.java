@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2016-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zwave.transaction;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.zsmartsystems.zwave.ZWaveCommandClassPayload;
+import com.zsmartsystems.zwave.commandclass.ZWaveCommandClassEnum;
+
+/**
+ * Test cases for {@link ZWaveSupervision}.
+ *
+ * @author Chris Jackson
+ */
+public class ZWaveSupervisionTest {
+    private ZWaveTransaction getSet(int nodeId) {
+        return new ZWaveTransaction(new ZWaveCommandClassTransactionPayload(nodeId,
+                new byte[] { 0x25, 0x01, (byte) 0xFF }, TransactionPriority.Set, null, null));
+    }
+
+    @Test
+    public void startSession() {
+        ZWaveSupervision supervision = new ZWaveSupervision();
+        ZWaveTransaction set1 = getSet(6);
+        ZWaveTransaction set2 = getSet(6);
+
+        assertTrue(ZWaveSupervision.isSupervisable(set1));
+        assertTrue(supervision.startSession(set1));
+        assertTrue(supervision.startSession(set2));
+        assertFalse(ZWaveSupervision.isSupervisable(set1));
+
+        assertArrayEquals(new byte[] { 0x6C, 0x01, (byte) 0x80, 0x03, 0x25, 0x01, (byte) 0xFF },
+                set1.getPayloadBuffer());
+        assertEquals(ZWaveCommandClassEnum.COMMAND_CLASS_SUPERVISION, set1.getExpectedCommandClass());
+        assertEquals(Integer.valueOf(0x02), set1.getExpectedCommandClassCommand());
+        assertEquals((byte) 0x81, set2.getPayloadBuffer()[2]);
+
+        ZWaveCommandClassPayload report = new ZWaveCommandClassPayload(
+                new byte[] { 0x6C, 0x02, 0x01, (byte) 0xFF, 0x00 });
+        assertSame(set2, supervision.getTransaction(6, report));
+        assertNull(supervision.getTransaction(7, report));
+
+        // The session ends once the transaction completes
+        set2.getFuture().complete(null);
+        assertNull(supervision.getTransaction(6, report));
+    }
+
+    @Test
+    public void encapsulationsShareOneBuffer() {
+        ZWaveTransaction set = getSet(6);
+        assertTrue(new ZWaveSupervision().startSession(set));
+        ZWaveCommandClassPayload supervisionGet = set.getPayload();
+
+        ZWaveCommandClassPayload encap = ZWaveMultiChannel.encapsulate(supervisionGet, 0, 1);
+        ZWaveCommandClassPayload crc = ZWaveCrc16Encapsulation.encapsulate(encap);
+        assertSame(supervisionGet.getBuffer(), crc.getBuffer());
+        assertArrayEquals(new byte[] { 0x56, 0x01, 0x60, 0x0D, 0x00, 0x01, 0x6C, 0x01, (byte) 0x80, 0x03, 0x25, 0x01,
+                (byte) 0xFF }, Arrays.copyOfRange(crc.getPayloadBuffer(), 0, 13));
+        assertEquals(15, crc.getPayloadLength());
+        assertNotNull(ZWaveCrc16Encapsulation.decapsulate(crc));
+
+        // The SUPERVISION_GET is unchanged, so it can be sent again
+        assertArrayEquals(new byte[] { 0x6C, 0x01, (byte) 0x80, 0x03, 0x25, 0x01, (byte) 0xFF },
+                supervisionGet.getPayloadBuffer());
+    }
+
+    @Test
+    public void exhaustedSessionsLeaveTransactionUnsupervised() {
+        ZWaveSupervision supervision = new ZWaveSupervision();
+        for (int cnt = 0; cnt < 64; cnt++) {
+            assertTrue(supervision.startSession(getSet(300)));
+        }
+
+        ZWaveTransaction set = getSet(300);
+        assertFalse(supervision.startSession(set));
+        assertArrayEquals(new byte[] { 0x25, 0x01, (byte) 0xFF }, set.getPayloadBuffer());
+        assertNull(set.getExpectedCommandClass());
+
+        // Other nodes have their own sessions
+        assertTrue(supervision.startSession(getSet(2)));
+    }
+
+    @Test
+    public void supervisedTransactionKeepsIdentity() {
+        ZWaveSupervision supervision = new ZWaveSupervision();
+        ZWaveTransaction set = getSet(6);
+        ZWaveTransaction duplicate = getSet(6);
+        int hashCode = set.hashCode();
+
+        ZWaveTransactionPriorityQueue queue = new ZWaveTransactionPriorityQueue();
+        queue.add(set);
+        assertTrue(supervision.startSession(set));
+
+        assertEquals(hashCode, set.hashCode());
+        assertEquals(duplicate, set);
+        assertTrue(queue.remove(set));
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void getsAreNotSupervised() {
+        assertFalse(ZWaveSupervision.isSupervisable(new ZWaveTransaction(
+                new ZWaveCommandClassTransactionPayload(6, new byte[] { 0x25, 0x02 }, TransactionPriority.Get,
+                        ZWaveCommandClassEnum.COMMAND_CLASS_SWITCH_BINARY, 0x03))));
+        assertFalse(ZWaveSupervision.isSupervisable(new ZWaveTransaction(new ZWaveCommandClassTransactionPayload(6,
+                new byte[] { 0x6C, 0x02, 0x01, (byte) 0xFF, 0x00 }, TransactionPriority.Set, null, null))));
+    }
+
+    @Test
+    public void processReport() {
+        ZWaveCommandClassPayload report = new ZWaveCommandClassPayload(
+                new byte[] { 0x6C, 0x02, (byte) 0x85, 0x01, 0x0A });
+        assertTrue(ZWaveSupervision.isReport(report));
+        assertEquals(5, ZWaveSupervision.getSessionId(report));
+        assertEquals(ZWaveSupervision.STATUS_WORKING, ZWaveSupervision.getStatus(report));
+        assertTrue(ZWaveSupervision.hasMoreStatusUpdates(report));
+        assertEquals(10000, ZWaveSupervision.getDuration(report));
+
+        assertEquals(120000, ZWaveSupervision
+                .getDuration(new ZWaveCommandClassPayload(new byte[] { 0x6C, 0x02, 0x05, 0x01, (byte) 0x81 })));
+        assertEquals(-1, ZWaveSupervision
+                .getDuration(new ZWaveCommandClassPayload(new byte[] { 0x6C, 0x02, 0x05, 0x01, (byte) 0xFE })));
+    }
+
+    @Test
+    public void decapsulate() {
+        byte[] buffer = new byte[] { 0x6C, 0x01, 0x07, 0x03, 0x71, 0x05, 0x01 };
+        ZWaveCommandClassPayload get = new ZWaveCommandClassPayload(buffer);
+        assertTrue(ZWaveSupervision.isGet(get));
+
+        ZWaveCommandClassPayload command = ZWaveSupervision.decapsulate(get);
+        assertEquals(0x71, command.getCommandClassId());
+        assertEquals(3, command.getPayloadLength());
+        assertSame(buffer, command.getBuffer());
+
+        assertArrayEquals(new byte[] { 0x6C, 0x02, 0x07, (byte) 0xFF, 0x00 },
+                ZWaveSupervision.getReport(ZWaveSupervision.getSessionId(get), ZWaveSupervision.STATUS_SUCCESS)
+                        .getPayloadBuffer());
+
+        assertNull(ZWaveSupervision
+                .decapsulate(new ZWaveCommandClassPayload(new byte[] { 0x6C, 0x01, 0x07, 0x04, 0x71, 0x05, 0x01 })));
+    }
+}
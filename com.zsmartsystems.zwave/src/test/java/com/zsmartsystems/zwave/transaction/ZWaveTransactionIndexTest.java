@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2016-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zwave.transaction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import com.zsmartsystems.zwave.commandclass.ZWaveCommandClassEnum;
+
+/**
+ * Test cases for {@link ZWaveTransactionIndex}.
+ *
+ * @author Chris Jackson
+ */
+public class ZWaveTransactionIndexTest {
+    private ZWaveTransaction getTransaction(int nodeId, ZWaveCommandClassEnum commandClass, int command) {
+        ZWaveTransaction transaction = new ZWaveTransaction(new ZWaveCommandClassTransactionPayloadBuilder(nodeId,
+                commandClass, command - 1).withExpectedResponseCommand(command).build());
+        transaction.transactionStart();
+        return transaction;
+    }
+
+    @Test
+    public void getMatchesNodeClassAndCommand() {
+        ZWaveTransactionIndex index = new ZWaveTransactionIndex();
+
+        ZWaveTransaction meter = getTransaction(3, ZWaveCommandClassEnum.COMMAND_CLASS_METER, 2);
+        ZWaveTransaction sensor = getTransaction(3, ZWaveCommandClassEnum.COMMAND_CLASS_SENSOR_MULTILEVEL, 5);
+        index.add(meter);
+        index.add(sensor);
+
+        assertSame(meter, index.get(3, 0x32, 2));
+        assertSame(sensor, index.get(3, 0x31, 5));
+        assertNull(index.get(4, 0x32, 2));
+        assertNull(index.get(3, 0x32, 3));
+    }
+
+    @Test
+    public void chainedTransactionsAreReturnedInOrder() {
+        ZWaveTransactionIndex index = new ZWaveTransactionIndex();
+
+        ZWaveTransaction first = getTransaction(7, ZWaveCommandClassEnum.COMMAND_CLASS_BATTERY, 3);
+        ZWaveTransaction second = getTransaction(7, ZWaveCommandClassEnum.COMMAND_CLASS_BATTERY, 3);
+        index.add(first);
+        index.add(second);
+        assertEquals(1, index.size());
+
+        assertSame(first, index.get(7, 0x80, 3));
+        index.remove(first);
+        assertSame(second, index.get(7, 0x80, 3));
+        index.remove(second);
+        assertNull(index.get(7, 0x80, 3));
+        assertFalse(index.remove(second));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void indexGrowsAndSurvivesRemoval() {
+        ZWaveTransactionIndex index = new ZWaveTransactionIndex();
+
+        ZWaveTransaction[] transactions = new ZWaveTransaction[200];
+        for (int node = 0; node < transactions.length; node++) {
+            transactions[node] = getTransaction(node + 1, ZWaveCommandClassEnum.COMMAND_CLASS_METER, 2);
+            index.add(transactions[node]);
+        }
+        for (int node = 0; node < transactions.length; node += 2) {
+            index.remove(transactions[node]);
+        }
+
+        assertEquals(100, index.size());
+        for (int node = 0; node < transactions.length; node++) {
+            if (node % 2 == 0) {
+                assertNull(index.get(node + 1, 0x32, 2));
+            } else {
+                assertSame(transactions[node], index.get(node + 1, 0x32, 2));
+            }
+        }
+    }
+}
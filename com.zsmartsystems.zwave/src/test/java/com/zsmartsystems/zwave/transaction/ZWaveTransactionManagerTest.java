@@ -0,0 +1,524 @@
+/**
+ * Copyright (c) 2016-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zwave.transaction;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.zsmartsystems.zwave.ZWaveCommandClassPayload;
+import com.zsmartsystems.zwave.ZWaveEndpoint;
+import com.zsmartsystems.zwave.ZWaveNetwork;
+import com.zsmartsystems.zwave.ZWaveNode;
+import com.zsmartsystems.zwave.commandclass.ZWaveCommandClassEnum;
+import com.zsmartsystems.zwave.commandclass.ZWaveSecurityCommandClass;
+
+/**
+ * Test cases for {@link ZWaveTransactionManager}.
+ *
+ * @author Chris Jackson
+ */
+public class ZWaveTransactionManagerTest {
+    private final Map<Integer, ZWaveNode> nodes = new HashMap<Integer, ZWaveNode>();
+
+    private ZWaveNetwork network = new ZWaveNetwork() {
+        @Override
+        public ZWaveNode getNode(int nodeId) {
+            return nodes.get(nodeId);
+        }
+
+        @Override
+        public int getSendQueueLength(int nodeId) {
+            return 0;
+        }
+    };
+
+    private ZWaveTransactionManager manager;
+
+    @After
+    public void shutdown() {
+        if (manager != null) {
+            manager.shutdown();
+        }
+        network.getTimer().shutdown();
+    }
+
+    private ZWaveNode addNode(int nodeId, boolean listening) {
+        ZWaveNode node = new ZWaveNode(network, nodeId);
+        node.setListening(listening);
+        nodes.put(nodeId, node);
+        return node;
+    }
+
+    private ZWaveCommandClassTransactionPayload getPayload(int nodeId) {
+        return new ZWaveCommandClassTransactionPayload(nodeId, new byte[] { 0x25, 0x01, 0x00 },
+                TransactionPriority.Set, null, null);
+    }
+
+    @Test
+    public void sendTransactionAsyncCompletesWithoutResponse() throws Exception {
+        addNode(2, true);
+        manager = new ZWaveTransactionManager(network);
+
+        CompletableFuture<ZWaveTransactionResponse> future = manager.sendTransactionAsync(getPayload(2));
+
+        // The receive thread may be draining the queue, so the transaction can complete on that thread
+        assertEquals(ZWaveTransactionResponse.State.COMPLETE, future.get(5, TimeUnit.SECONDS).getState());
+    }
+
+    @Test
+    public void sendTransactionAsyncWaitsForSleepingNode() throws Exception {
+        ZWaveNode node = addNode(3, false);
+        manager = new ZWaveTransactionManager(network);
+
+        CompletableFuture<ZWaveTransactionResponse> future = manager.sendTransactionAsync(getPayload(3));
+        assertFalse(future.isDone());
+
+        node.setAwake(true);
+        manager.notifyNodeAwake(3);
+        assertEquals(ZWaveTransactionResponse.State.COMPLETE, future.get(5, TimeUnit.SECONDS).getState());
+    }
+
+    @Test
+    public void identicalGetsShareOneTransaction() throws Exception {
+        addNode(14, true);
+        manager = new ZWaveTransactionManager(network);
+
+        ZWaveCommandClassTransactionPayload get1 = new ZWaveCommandClassTransactionPayload(14,
+                new byte[] { 0x25, 0x02 }, TransactionPriority.Get, ZWaveCommandClassEnum.COMMAND_CLASS_SWITCH_BINARY,
+                0x03);
+        ZWaveCommandClassTransactionPayload get2 = new ZWaveCommandClassTransactionPayload(14,
+                new byte[] { 0x25, 0x02 }, TransactionPriority.Get, ZWaveCommandClassEnum.COMMAND_CLASS_SWITCH_BINARY,
+                0x03);
+        CompletableFuture<ZWaveTransactionResponse> future1 = manager.sendTransactionAsync(get1);
+        CompletableFuture<ZWaveTransactionResponse> future2 = manager.sendTransactionAsync(get2);
+        assertNotSame(future1, future2);
+        assertEquals(1, manager.getSendQueueLength(14));
+
+        // The node has no handler for the report, but it still completes the transaction
+        manager.processReceiveMessage(14, ByteBuffer.wrap(new byte[] { 0x25, 0x03, (byte) 0xFF }));
+        assertEquals(ZWaveTransactionResponse.State.COMPLETE, future1.get(5, TimeUnit.SECONDS).getState());
+        assertEquals(ZWaveTransactionResponse.State.COMPLETE, future2.get(5, TimeUnit.SECONDS).getState());
+    }
+
+    @Test
+    public void coalescedGetCancelledWithPendingGet() throws Exception {
+        addNode(16, false);
+        manager = new ZWaveTransactionManager(network);
+
+        CompletableFuture<ZWaveTransactionResponse> future1 = manager.sendTransactionAsync(
+                new ZWaveCommandClassTransactionPayload(16, new byte[] { 0x25, 0x02 }, TransactionPriority.Get,
+                        ZWaveCommandClassEnum.COMMAND_CLASS_SWITCH_BINARY, 0x03));
+        CompletableFuture<ZWaveTransactionResponse> future2 = manager.sendTransactionAsync(
+                new ZWaveCommandClassTransactionPayload(16, new byte[] { 0x25, 0x02 }, TransactionPriority.Get,
+                        ZWaveCommandClassEnum.COMMAND_CLASS_SWITCH_BINARY, 0x03));
+        assertFalse(future2.isDone());
+
+        // The coalesced GET fails with the pending GET rather than completing with no response
+        future1.cancel(true);
+        assertTrue(future2.isCancelled());
+    }
+
+    @Test
+    public void queuedTransactionsBatchedOnWakeup() throws Exception {
+        ZWaveNode node = new ZWaveNode(network, 4);
+        node.setNifClasses(Arrays.asList(ZWaveCommandClassEnum.COMMAND_CLASS_MULTI_CMD,
+                ZWaveCommandClassEnum.COMMAND_CLASS_WAKE_UP));
+        nodes.put(4, node);
+
+        final BlockingQueue<byte[]> frames = new LinkedBlockingQueue<byte[]>();
+        manager = new ZWaveTransactionManager(network);
+        manager.setCommandTransmitter((nodeId, buffer, offset, length) -> {
+            frames.add(Arrays.copyOfRange(buffer, offset, offset + length));
+            return true;
+        });
+
+        CompletableFuture<ZWaveTransactionResponse> set1 = manager.sendTransactionAsync(
+                new ZWaveCommandClassTransactionPayload(4, new byte[] { 0x70, 0x04, 0x01, 0x01, 0x05 },
+                        TransactionPriority.Config, null, null));
+        CompletableFuture<ZWaveTransactionResponse> set2 = manager.sendTransactionAsync(
+                new ZWaveCommandClassTransactionPayload(4, new byte[] { (byte) 0x85, 0x01, 0x01, 0x01 },
+                        TransactionPriority.Config, null, null));
+        CompletableFuture<ZWaveTransactionResponse> get = manager.sendTransactionAsync(
+                new ZWaveCommandClassTransactionPayload(4, new byte[] { 0x25, 0x02 }, TransactionPriority.Config,
+                        ZWaveCommandClassEnum.COMMAND_CLASS_SWITCH_BINARY, 0x03));
+        assertFalse(set1.isDone());
+        assertEquals(0, frames.size());
+
+        node.setAwake(true);
+        manager.notifyNodeAwake(4);
+
+        // All the transactions are sent in a single frame
+        byte[] frame = frames.poll(5, TimeUnit.SECONDS);
+        assertNotNull(frame);
+        assertEquals(0x8F, frame[0] & 0xFF);
+        assertEquals(3, frame[2]);
+        assertEquals(3 + 6 + 5 + 3, frame.length);
+        assertEquals(ZWaveTransactionResponse.State.COMPLETE, set1.get(5, TimeUnit.SECONDS).getState());
+        assertEquals(ZWaveTransactionResponse.State.COMPLETE, set2.get(5, TimeUnit.SECONDS).getState());
+        assertFalse(get.isDone());
+
+        // The report is returned in a MULTI_CMD_ENCAP with another report
+        manager.processReceiveMessage(4, ByteBuffer.wrap(new byte[] { (byte) 0x8F, 0x01, 0x02, 0x03, (byte) 0x80,
+                0x03, 0x64, 0x03, 0x25, 0x03, (byte) 0xFF }));
+        ZWaveTransactionResponse response = get.get(5, TimeUnit.SECONDS);
+        assertEquals(ZWaveTransactionResponse.State.COMPLETE, response.getState());
+        assertEquals(0xFF, response.getPayload().getPayloadByte(2));
+        assertEquals(0, frames.size());
+    }
+
+    @Test
+    public void crc16EncapsulatedWhenSupported() throws Exception {
+        ZWaveNode node = new ZWaveNode(network, 5);
+        node.setListening(true);
+        node.setNifClasses(Arrays.asList(ZWaveCommandClassEnum.COMMAND_CLASS_CRC_16_ENCAP));
+        nodes.put(5, node);
+
+        final BlockingQueue<byte[]> frames = new LinkedBlockingQueue<byte[]>();
+        manager = new ZWaveTransactionManager(network);
+        manager.setCommandTransmitter((nodeId, buffer, offset, length) -> {
+            frames.add(Arrays.copyOfRange(buffer, offset, offset + length));
+            return true;
+        });
+
+        CompletableFuture<ZWaveTransactionResponse> get = manager.sendTransactionAsync(
+                new ZWaveCommandClassTransactionPayload(5, new byte[] { 0x25, 0x02 }, TransactionPriority.Get,
+                        ZWaveCommandClassEnum.COMMAND_CLASS_SWITCH_BINARY, 0x03));
+        byte[] frame = frames.poll(5, TimeUnit.SECONDS);
+        assertNotNull(frame);
+        assertArrayEquals(new byte[] { 0x56, 0x01, 0x25, 0x02, (byte) 0xB2, (byte) 0xD3 }, frame);
+
+        // A report with a checksum error is dropped
+        manager.processReceiveMessage(5,
+                ByteBuffer.wrap(new byte[] { 0x56, 0x01, 0x25, 0x03, (byte) 0xFF, 0x79, 0x59 }));
+        assertFalse(get.isDone());
+
+        manager.processReceiveMessage(5,
+                ByteBuffer.wrap(new byte[] { 0x56, 0x01, 0x25, 0x03, (byte) 0xFF, 0x79, 0x58 }));
+        ZWaveTransactionResponse response = get.get(5, TimeUnit.SECONDS);
+        assertEquals(ZWaveTransactionResponse.State.COMPLETE, response.getState());
+        assertEquals(0xFF, response.getPayload().getPayloadByte(2));
+    }
+
+    @Test
+    public void setsSupervisedWhenSupported() throws Exception {
+        // The node only has a handler for notifications
+        ZWaveNode node = new ZWaveNode(network, 8) {
+            @Override
+            public List<ZWaveCommandClassPayload> processCommand(int endpointId, ZWaveCommandClassPayload payload) {
+                return payload.getCommandClassId() == 0x71 ? Collections.singletonList(payload) : null;
+            }
+        };
+        node.setListening(true);
+        node.setNifClasses(Arrays.asList(ZWaveCommandClassEnum.COMMAND_CLASS_SUPERVISION));
+        nodes.put(8, node);
+
+        final BlockingQueue<byte[]> frames = new LinkedBlockingQueue<byte[]>();
+        final BlockingQueue<ZWaveCommandClassPayload> updates = new LinkedBlockingQueue<ZWaveCommandClassPayload>();
+        manager = new ZWaveTransactionManager(network);
+        manager.setCommandTransmitter((nodeId, buffer, offset, length) -> {
+            frames.add(Arrays.copyOfRange(buffer, offset, offset + length));
+            return true;
+        });
+        manager.addSupervisionListener((nodeId, command, report) -> updates.add(report));
+
+        CompletableFuture<ZWaveTransactionResponse> set = manager.sendTransactionAsync(
+                new ZWaveCommandClassTransactionPayload(8, new byte[] { 0x26, 0x01, 0x63, 0x05 },
+                        TransactionPriority.Set, null, null));
+        byte[] frame = frames.poll(5, TimeUnit.SECONDS);
+        assertNotNull(frame);
+        assertArrayEquals(new byte[] { 0x6C, 0x01, (byte) 0x80, 0x04, 0x26, 0x01, 0x63, 0x05 }, frame);
+
+        // The node is dimming, and will report again once it is done
+        manager.processReceiveMessage(8, ByteBuffer.wrap(new byte[] { 0x6C, 0x02, (byte) 0x80, 0x01, 0x05 }));
+        ZWaveCommandClassPayload update = updates.poll(5, TimeUnit.SECONDS);
+        assertNotNull(update);
+        assertEquals(ZWaveSupervision.STATUS_WORKING, ZWaveSupervision.getStatus(update));
+        assertFalse(set.isDone());
+
+        manager.processReceiveMessage(8, ByteBuffer.wrap(new byte[] { 0x6C, 0x02, 0x00, (byte) 0xFF, 0x00 }));
+        assertEquals(ZWaveTransactionResponse.State.COMPLETE, set.get(5, TimeUnit.SECONDS).getState());
+
+        // A failed SET is cancelled with the report
+        CompletableFuture<ZWaveTransactionResponse> failed = manager.sendTransactionAsync(
+                new ZWaveCommandClassTransactionPayload(8, new byte[] { 0x25, 0x01, 0x00 }, TransactionPriority.Set,
+                        null, null));
+        frame = frames.poll(5, TimeUnit.SECONDS);
+        assertNotNull(frame);
+        assertEquals((byte) 0x81, frame[2]);
+        manager.processReceiveMessage(8, ByteBuffer.wrap(new byte[] { 0x6C, 0x02, 0x01, 0x02, 0x00 }));
+        ZWaveTransactionResponse response = failed.get(5, TimeUnit.SECONDS);
+        assertEquals(ZWaveTransactionResponse.State.CANCELLED, response.getState());
+        assertEquals(ZWaveSupervision.STATUS_FAIL, ZWaveSupervision.getStatus(response.getPayload()));
+
+        // A command the node supervises is confirmed
+        manager.processReceiveMessage(8,
+                ByteBuffer.wrap(new byte[] { 0x6C, 0x01, 0x03, 0x03, 0x71, 0x05, 0x01 }));
+        frame = frames.poll(5, TimeUnit.SECONDS);
+        assertNotNull(frame);
+        assertArrayEquals(new byte[] { 0x6C, 0x02, 0x03, (byte) 0xFF, 0x00 }, frame);
+
+        // A command the node has no handler for is reported as not supported
+        manager.processReceiveMessage(8, ByteBuffer.wrap(new byte[] { 0x6C, 0x01, 0x04, 0x03, 0x20, 0x01, 0x00 }));
+        frame = frames.poll(5, TimeUnit.SECONDS);
+        assertNotNull(frame);
+        assertArrayEquals(new byte[] { 0x6C, 0x02, 0x04, 0x00, 0x00 }, frame);
+    }
+
+    @Test
+    public void endpointCommandsUseMultiChannel() throws Exception {
+        addNode(9, true);
+
+        final BlockingQueue<byte[]> frames = new LinkedBlockingQueue<byte[]>();
+        manager = new ZWaveTransactionManager(network);
+        manager.setCommandTransmitter((nodeId, buffer, offset, length) -> {
+            frames.add(Arrays.copyOfRange(buffer, offset, offset + length));
+            return true;
+        });
+
+        ZWaveCommandClassTransactionPayload payload = new ZWaveCommandClassTransactionPayload(9,
+                new byte[] { 0x25, 0x02 }, TransactionPriority.Get, ZWaveCommandClassEnum.COMMAND_CLASS_SWITCH_BINARY,
+                0x03);
+        payload.setEndpointId(2);
+        CompletableFuture<ZWaveTransactionResponse> get = manager.sendTransactionAsync(payload);
+        byte[] frame = frames.poll(5, TimeUnit.SECONDS);
+        assertNotNull(frame);
+        assertArrayEquals(new byte[] { 0x60, 0x0D, 0x00, 0x02, 0x25, 0x02 }, frame);
+
+        // A report from another endpoint does not complete the transaction
+        manager.processReceiveMessage(9,
+                ByteBuffer.wrap(new byte[] { 0x60, 0x0D, 0x01, 0x00, 0x25, 0x03, 0x00 }));
+        manager.processReceiveMessage(9, ByteBuffer.wrap(new byte[] { 0x25, 0x03, 0x00 }));
+        assertFalse(get.isDone());
+
+        manager.processReceiveMessage(9,
+                ByteBuffer.wrap(new byte[] { 0x60, 0x0D, 0x02, 0x00, 0x25, 0x03, (byte) 0xFF }));
+        ZWaveTransactionResponse response = get.get(5, TimeUnit.SECONDS);
+        assertEquals(ZWaveTransactionResponse.State.COMPLETE, response.getState());
+        assertEquals(0x25, response.getPayload().getCommandClassId());
+        assertEquals(0xFF, response.getPayload().getPayloadByte(2));
+    }
+
+    @Test
+    public void setInvalidatesCachedResponse() throws Exception {
+        addNode(10, true);
+
+        final BlockingQueue<byte[]> frames = new LinkedBlockingQueue<byte[]>();
+        manager = new ZWaveTransactionManager(network);
+        manager.setCommandTransmitter((nodeId, buffer, offset, length) -> {
+            frames.add(Arrays.copyOfRange(buffer, offset, offset + length));
+            return true;
+        });
+        ZWaveResponseCache cache = new ZWaveResponseCache();
+        cache.setTimeToLive(ZWaveCommandClassEnum.COMMAND_CLASS_CONFIGURATION, 60000);
+        manager.setResponseCache(cache);
+
+        ZWaveCommandClassTransactionPayload get = new ZWaveCommandClassTransactionPayload(10,
+                new byte[] { 0x70, 0x05, 0x01 }, TransactionPriority.Get,
+                ZWaveCommandClassEnum.COMMAND_CLASS_CONFIGURATION, 0x06);
+        CompletableFuture<ZWaveTransactionResponse> response = manager.sendTransactionAsync(get);
+        assertNotNull(frames.poll(5, TimeUnit.SECONDS));
+        manager.processReceiveMessage(10, ByteBuffer.wrap(new byte[] { 0x70, 0x06, 0x01, 0x01, 0x05 }));
+        assertEquals(ZWaveTransactionResponse.State.COMPLETE, response.get(5, TimeUnit.SECONDS).getState());
+        assertEquals(1, cache.size());
+
+        // The SET changes the parameter, so the next GET is sent to the node
+        manager.sendTransactionAsync(new ZWaveCommandClassTransactionPayload(10,
+                new byte[] { 0x70, 0x04, 0x01, 0x01, 0x07 }, TransactionPriority.Set, null, null))
+                .get(5, TimeUnit.SECONDS);
+        assertEquals(0, cache.size());
+        assertNotNull(frames.poll(5, TimeUnit.SECONDS));
+
+        manager.sendTransactionAsync(get);
+        byte[] frame = frames.poll(5, TimeUnit.SECONDS);
+        assertNotNull(frame);
+        assertArrayEquals(new byte[] { 0x70, 0x05, 0x01 }, frame);
+    }
+
+    @Test
+    public void applicationCommandHandlerIsProcessed() throws Exception {
+        addNode(11, true);
+        manager = new ZWaveTransactionManager(network);
+
+        CompletableFuture<ZWaveTransactionResponse> get = manager.sendTransactionAsync(
+                new ZWaveCommandClassTransactionPayload(11, new byte[] { 0x25, 0x02 }, TransactionPriority.Get,
+                        ZWaveCommandClassEnum.COMMAND_CLASS_SWITCH_BINARY, 0x03));
+
+        // Other messages from the controller are ignored
+        manager.receiveMessage(0x01, 0x04, ByteBuffer.wrap(new byte[] { 0x00, 0x0B, 0x03, 0x25, 0x03, 0x00 }));
+        manager.receiveMessage(0x00, 0x04, ByteBuffer.wrap(new byte[] { 0x00, 0x0B, 0x04, 0x25, 0x03, 0x00 }));
+        assertFalse(get.isDone());
+
+        ByteBuffer data = ByteBuffer.wrap(new byte[] { 0x00, 0x00, 0x0B, 0x03, 0x25, 0x03, (byte) 0xFF, 0x00 });
+        data.position(1);
+        manager.receiveMessage(0x00, 0x04, data);
+        assertEquals(1, data.position());
+        assertEquals(8, data.limit());
+
+        ZWaveTransactionResponse response = get.get(5, TimeUnit.SECONDS);
+        assertEquals(ZWaveTransactionResponse.State.COMPLETE, response.getState());
+        assertEquals(0xFF, response.getPayload().getPayloadByte(2));
+    }
+
+    @Test
+    public void responseOutlivesReceiveSlot() throws Exception {
+        addNode(12, true);
+        manager = new ZWaveTransactionManager(network);
+
+        CompletableFuture<ZWaveTransactionResponse> get = manager.sendTransactionAsync(
+                new ZWaveCommandClassTransactionPayload(12, new byte[] { 0x25, 0x02 }, TransactionPriority.Get,
+                        ZWaveCommandClassEnum.COMMAND_CLASS_SWITCH_BINARY, 0x03));
+        manager.processReceiveMessage(12, ByteBuffer.wrap(new byte[] { 0x25, 0x03, (byte) 0xFF }));
+        ZWaveTransactionResponse response = get.get(5, TimeUnit.SECONDS);
+
+        // Reuse every slot in the receive ring
+        for (int cnt = 0; cnt < 1000; cnt++) {
+            manager.processReceiveMessage(12, ByteBuffer.wrap(new byte[] { 0x26, 0x03, 0x00 }));
+        }
+        Thread.sleep(100);
+
+        assertArrayEquals(new byte[] { 0x25, 0x03, (byte) 0xFF }, response.getPayload().getPayloadBuffer());
+    }
+
+    @Test
+    public void removedNodeTransactionsCancelled() throws Exception {
+        ZWaveNode node = addNode(13, false);
+        network.registerNode(node);
+        manager = new ZWaveTransactionManager(network);
+
+        CompletableFuture<ZWaveTransactionResponse> set = manager.sendTransactionAsync(getPayload(13));
+        CompletableFuture<ZWaveTransactionResponse> get = manager.sendTransactionAsync(
+                new ZWaveCommandClassTransactionPayload(13, new byte[] { 0x25, 0x02 }, TransactionPriority.Get,
+                        ZWaveCommandClassEnum.COMMAND_CLASS_SWITCH_BINARY, 0x03));
+        assertFalse(set.isDone());
+        assertFalse(get.isDone());
+
+        network.removeNode(13);
+        assertEquals(ZWaveTransactionResponse.State.CANCELLED, set.get(5, TimeUnit.SECONDS).getState());
+        assertEquals(ZWaveTransactionResponse.State.CANCELLED, get.get(5, TimeUnit.SECONDS).getState());
+    }
+
+    @Test
+    public void clearSendQueueCancelsTransactions() throws Exception {
+        addNode(17, false);
+        manager = new ZWaveTransactionManager(network);
+
+        CompletableFuture<ZWaveTransactionResponse> set = manager.sendTransactionAsync(getPayload(17));
+        CompletableFuture<ZWaveTransactionResponse> get1 = manager.sendTransactionAsync(
+                new ZWaveCommandClassTransactionPayload(17, new byte[] { 0x25, 0x02 }, TransactionPriority.Get,
+                        ZWaveCommandClassEnum.COMMAND_CLASS_SWITCH_BINARY, 0x03));
+        CompletableFuture<ZWaveTransactionResponse> get2 = manager.sendTransactionAsync(
+                new ZWaveCommandClassTransactionPayload(17, new byte[] { 0x25, 0x02 }, TransactionPriority.Get,
+                        ZWaveCommandClassEnum.COMMAND_CLASS_SWITCH_BINARY, 0x03));
+        assertEquals(2, manager.getSendQueueLength(17));
+
+        manager.clearSendQueue();
+        assertEquals(0, manager.getSendQueueLength(17));
+        assertEquals(ZWaveTransactionResponse.State.CANCELLED, set.get(5, TimeUnit.SECONDS).getState());
+        assertEquals(ZWaveTransactionResponse.State.CANCELLED, get1.get(5, TimeUnit.SECONDS).getState());
+        assertEquals(ZWaveTransactionResponse.State.CANCELLED, get2.get(5, TimeUnit.SECONDS).getState());
+    }
+
+    @Test
+    public void oversizedCommandCancelledWithoutTransportService() throws Exception {
+        addNode(19, true);
+
+        final BlockingQueue<byte[]> frames = new LinkedBlockingQueue<byte[]>();
+        manager = new ZWaveTransactionManager(network);
+        manager.setCommandTransmitter((nodeId, buffer, offset, length) -> {
+            frames.add(Arrays.copyOfRange(buffer, offset, offset + length));
+            return true;
+        });
+
+        byte[] command = new byte[manager.getTransportService().getMaxFrameSize() + 1];
+        command[0] = 0x70;
+        command[1] = 0x04;
+        CompletableFuture<ZWaveTransactionResponse> set = manager.sendTransactionAsync(
+                new ZWaveCommandClassTransactionPayload(19, command, TransactionPriority.Set, null, null));
+        assertEquals(ZWaveTransactionResponse.State.CANCELLED, set.get(5, TimeUnit.SECONDS).getState());
+        assertTrue(frames.isEmpty());
+    }
+
+    @Test
+    public void secureBatchFitsInFrame() throws Exception {
+        ZWaveNode node = addNode(18, false);
+        node.setNifClasses(Arrays.asList(ZWaveCommandClassEnum.COMMAND_CLASS_MULTI_CMD,
+                ZWaveCommandClassEnum.COMMAND_CLASS_WAKE_UP));
+        ZWaveEndpoint endpoint = node.addEndpoint(0);
+        ZWaveSecurityCommandClass security = new ZWaveSecurityCommandClass(endpoint);
+        endpoint.addCommandClass(security);
+        security.setNetworkKey("0102030405060708090A0B0C0D0E0F10");
+        security.handleApplicationCommandRequest(
+                new ZWaveCommandClassPayload(new byte[] { (byte) 0x98, (byte) 0x80, 1, 2, 3, 4, 5, 6, 7, 8 }));
+
+        final BlockingQueue<byte[]> frames = new LinkedBlockingQueue<byte[]>();
+        manager = new ZWaveTransactionManager(network);
+        manager.setCommandTransmitter((nodeId, buffer, offset, length) -> {
+            frames.add(Arrays.copyOfRange(buffer, offset, offset + length));
+            return true;
+        });
+
+        for (int value = 0; value < 8; value++) {
+            ZWaveCommandClassTransactionPayload payload = new ZWaveCommandClassTransactionPayload(18,
+                    new byte[] { 0x26, 0x01, (byte) value }, TransactionPriority.Set, null, null);
+            payload.setRequiresSecurity();
+            manager.sendTransactionAsync(payload);
+        }
+
+        node.setAwake(true);
+        manager.notifyNodeAwake(18);
+
+        // The batch is limited so that the encrypted MULTI_CMD_ENCAP still fits in a frame
+        byte[] frame = frames.poll(5, TimeUnit.SECONDS);
+        assertNotNull(frame);
+        assertEquals((byte) 0x98, frame[0]);
+        assertTrue(frame.length <= manager.getTransportService().getMaxFrameSize());
+    }
+
+    @Test
+    public void secureTransactionCancelledWithoutNetworkKey() throws Exception {
+        ZWaveNode node = addNode(15, true);
+        ZWaveEndpoint endpoint = node.addEndpoint(0);
+        ZWaveSecurityCommandClass security = new ZWaveSecurityCommandClass(endpoint);
+        endpoint.addCommandClass(security);
+        security.handleApplicationCommandRequest(
+                new ZWaveCommandClassPayload(new byte[] { (byte) 0x98, (byte) 0x80, 1, 2, 3, 4, 5, 6, 7, 8 }));
+        assertTrue(security.isNonceAvailable());
+
+        final BlockingQueue<byte[]> frames = new LinkedBlockingQueue<byte[]>();
+        manager = new ZWaveTransactionManager(network);
+        manager.setCommandTransmitter((nodeId, buffer, offset, length) -> {
+            frames.add(Arrays.copyOfRange(buffer, offset, offset + length));
+            return true;
+        });
+
+        ZWaveCommandClassTransactionPayload payload = getPayload(15);
+        payload.setRequiresSecurity();
+        CompletableFuture<ZWaveTransactionResponse> set = manager.sendTransactionAsync(payload);
+        assertEquals(ZWaveTransactionResponse.State.CANCELLED, set.get(5, TimeUnit.SECONDS).getState());
+        assertTrue(frames.isEmpty());
+    }
+}
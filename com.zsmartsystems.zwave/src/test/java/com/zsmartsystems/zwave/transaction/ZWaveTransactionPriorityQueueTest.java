@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2016-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zwave.transaction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.zsmartsystems.zwave.transaction.ZWaveTransactionResponse.State;
+
+/**
+ * Test cases for {@link ZWaveTransactionPriorityQueue}.
+ *
+ * @author Chris Jackson
+ */
+public class ZWaveTransactionPriorityQueueTest {
+    private ZWaveTransaction getTransaction(int nodeId, TransactionPriority priority, int command) {
+        return new ZWaveTransaction(new ZWaveCommandClassTransactionPayload(nodeId, new byte[] { 0x25, (byte) command },
+                priority, null, null));
+    }
+
+    @Test
+    public void equalPrioritiesAreFifo() {
+        ZWaveTransactionPriorityQueue queue = new ZWaveTransactionPriorityQueue();
+
+        ZWaveTransaction poll1 = getTransaction(2, TransactionPriority.Poll, 1);
+        ZWaveTransaction get = getTransaction(2, TransactionPriority.Get, 2);
+        ZWaveTransaction poll2 = getTransaction(3, TransactionPriority.Poll, 3);
+        ZWaveTransaction poll3 = getTransaction(2, TransactionPriority.Poll, 4);
+        queue.add(poll1);
+        queue.add(get);
+        queue.add(poll2);
+        queue.add(poll3);
+
+        assertEquals(4, queue.size());
+        assertEquals(3, queue.size(2));
+        assertEquals(TransactionPriority.Get, queue.peekPriority());
+        assertSame(get, queue.poll());
+        assertSame(poll1, queue.poll());
+        assertSame(poll2, queue.poll());
+        assertSame(poll3, queue.poll());
+        assertNull(queue.poll());
+        assertNull(queue.peekPriority());
+    }
+
+    @Test
+    public void duplicateReplacesOriginal() {
+        ZWaveTransactionPriorityQueue queue = new ZWaveTransactionPriorityQueue();
+
+        ZWaveTransaction original = getTransaction(2, TransactionPriority.Get, 1);
+        ZWaveTransaction other = getTransaction(2, TransactionPriority.Get, 2);
+        ZWaveTransaction duplicate = getTransaction(2, TransactionPriority.Get, 1);
+        assertEquals(original, duplicate);
+        assertEquals(original.hashCode(), duplicate.hashCode());
+
+        queue.add(original);
+        queue.add(other);
+        queue.add(duplicate);
+        assertEquals(2, queue.size());
+
+        // The original is no longer queued, but completes with the duplicate
+        assertFalse(queue.remove(original));
+        assertSame(other, queue.poll());
+        assertSame(duplicate, queue.poll());
+        assertNull(queue.poll());
+
+        duplicate.getFuture().complete(new ZWaveTransactionResponse(State.COMPLETE));
+        assertTrue(original.getFuture().isDone());
+    }
+
+    @Test
+    public void duplicateFailureIsForwardedToOriginal() {
+        ZWaveTransactionPriorityQueue queue = new ZWaveTransactionPriorityQueue();
+
+        ZWaveTransaction original = getTransaction(2, TransactionPriority.Get, 1);
+        ZWaveTransaction duplicate = getTransaction(2, TransactionPriority.Get, 1);
+        queue.add(original);
+        queue.add(duplicate);
+
+        duplicate.getFuture().cancel(true);
+        assertTrue(original.getFuture().isCompletedExceptionally());
+        assertTrue(original.getFuture().isCancelled());
+    }
+
+    @Test
+    public void clearReturnsQueuedTransactions() {
+        ZWaveTransactionPriorityQueue queue = new ZWaveTransactionPriorityQueue();
+
+        ZWaveTransaction first = getTransaction(2, TransactionPriority.Set, 1);
+        ZWaveTransaction second = getTransaction(2, TransactionPriority.Get, 2);
+        ZWaveTransaction removed = getTransaction(2, TransactionPriority.Set, 3);
+        queue.add(first);
+        queue.add(second);
+        queue.add(removed);
+        queue.remove(removed);
+
+        List<ZWaveTransaction> transactions = queue.clear();
+        assertEquals(2, transactions.size());
+        assertTrue(transactions.contains(first));
+        assertTrue(transactions.contains(second));
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void removedTransactionIsSkipped() {
+        ZWaveTransactionPriorityQueue queue = new ZWaveTransactionPriorityQueue();
+
+        ZWaveTransaction first = getTransaction(2, TransactionPriority.Set, 1);
+        ZWaveTransaction second = getTransaction(2, TransactionPriority.Set, 2);
+        queue.add(first);
+        queue.add(second);
+
+        assertTrue(queue.remove(first));
+        assertEquals(1, queue.size());
+        assertSame(second, queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void lowPriorityTransactionsAge() throws InterruptedException {
+        ZWaveTransactionPriorityQueue queue = new ZWaveTransactionPriorityQueue();
+        queue.setAgingTime(1);
+
+        ZWaveTransaction poll = getTransaction(2, TransactionPriority.Poll, 1);
+        queue.add(poll);
+        Thread.sleep(20);
+
+        // The poll has aged to the highest level aging allows, but never above it
+        ZWaveTransaction get = getTransaction(2, TransactionPriority.Get, 2);
+        ZWaveTransaction immediate = getTransaction(2, TransactionPriority.Immediate, 3);
+        queue.add(get);
+        queue.add(immediate);
+
+        assertSame(immediate, queue.poll());
+        assertEquals(TransactionPriority.High, queue.peekPriority());
+        assertSame(poll, queue.poll());
+        assertSame(get, queue.poll());
+
+        // Without aging the poll waits for the get
+        queue.setAgingTime(0);
+        queue.add(poll);
+        Thread.sleep(20);
+        queue.add(get);
+        assertSame(get, queue.poll());
+        assertSame(poll, queue.poll());
+    }
+}
@@ -0,0 +1,182 @@
+/**
+ * Copyright (c) 2016-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zwave.transaction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.zsmartsystems.zwave.ZWaveNetwork;
+import com.zsmartsystems.zwave.ZWaveNode;
+
+/**
+ * Test cases for {@link ZWaveTransactionScheduler}.
+ *
+ * @author Chris Jackson
+ */
+public class ZWaveTransactionSchedulerTest {
+    private final Map<Integer, ZWaveNode> nodes = new HashMap<Integer, ZWaveNode>();
+
+    private ZWaveNetwork network = new ZWaveNetwork() {
+        @Override
+        public ZWaveNode getNode(int nodeId) {
+            return nodes.get(nodeId);
+        }
+
+        @Override
+        public int getSendQueueLength(int nodeId) {
+            return 0;
+        }
+    };
+
+    private ZWaveNode addNode(int nodeId, boolean listening) {
+        ZWaveNode node = new ZWaveNode(network, nodeId);
+        node.setListening(listening);
+        nodes.put(nodeId, node);
+        return node;
+    }
+
+    private ZWaveTransaction getTransaction(int nodeId, TransactionPriority priority, int command) {
+        return new ZWaveTransaction(new ZWaveCommandClassTransactionPayload(nodeId, new byte[] { 0x25, (byte) command },
+                priority, null, null));
+    }
+
+    @Test
+    public void pollOrdersByPriorityAcrossNodes() {
+        addNode(2, true);
+        addNode(3, true);
+        ZWaveTransactionScheduler scheduler = new ZWaveTransactionScheduler(network);
+        scheduler.setNodeWindow(2);
+
+        ZWaveTransaction poll = getTransaction(2, TransactionPriority.Poll, 1);
+        ZWaveTransaction set = getTransaction(3, TransactionPriority.Set, 2);
+        ZWaveTransaction get = getTransaction(2, TransactionPriority.Get, 3);
+        scheduler.add(poll);
+        scheduler.add(set);
+        scheduler.add(get);
+
+        assertEquals(2, scheduler.size(2));
+        assertEquals(set, scheduler.poll());
+        assertEquals(get, scheduler.poll());
+        assertEquals(poll, scheduler.poll());
+        assertNull(scheduler.poll());
+    }
+
+    @Test
+    public void nodeWindowLimitsTransactionsInFlight() {
+        addNode(2, true);
+        addNode(3, true);
+        ZWaveTransactionScheduler scheduler = new ZWaveTransactionScheduler(network);
+
+        ZWaveTransaction first = getTransaction(2, TransactionPriority.Get, 1);
+        ZWaveTransaction second = getTransaction(2, TransactionPriority.Get, 2);
+        ZWaveTransaction other = getTransaction(3, TransactionPriority.Poll, 3);
+        scheduler.add(first);
+        scheduler.add(second);
+        scheduler.add(other);
+
+        // Node 2 is blocked once it has a transaction in flight, but node 3 is not
+        assertSame(first, scheduler.poll());
+        assertSame(other, scheduler.poll());
+        assertNull(scheduler.poll());
+
+        scheduler.transactionComplete(first);
+        scheduler.transactionComplete(first);
+        assertSame(second, scheduler.poll());
+        assertNull(scheduler.poll());
+
+        // A larger window allows transactions to the same node to be pipelined
+        scheduler.setNodeWindow(3);
+        ZWaveTransaction third = getTransaction(2, TransactionPriority.Get, 4);
+        scheduler.add(third);
+        assertSame(third, scheduler.poll());
+    }
+
+    @Test
+    public void sleepingNodeIsNotPolled() {
+        ZWaveNode node = addNode(4, false);
+        ZWaveTransactionScheduler scheduler = new ZWaveTransactionScheduler(network);
+
+        ZWaveTransaction transaction = getTransaction(4, TransactionPriority.Config, 1);
+        scheduler.add(transaction);
+        assertNull(scheduler.poll());
+        assertEquals(1, scheduler.size(4));
+
+        node.setAwake(true);
+        scheduler.notifyNodeReady(4);
+        assertEquals(transaction, scheduler.poll());
+        assertEquals(0, scheduler.size(4));
+    }
+
+    @Test
+    public void duplicateReplacesOriginal() {
+        addNode(5, true);
+        ZWaveTransactionScheduler scheduler = new ZWaveTransactionScheduler(network);
+
+        ZWaveTransaction original = getTransaction(5, TransactionPriority.Get, 1);
+        scheduler.add(original);
+        ZWaveTransaction duplicate = getTransaction(5, TransactionPriority.Get, 1);
+        scheduler.add(duplicate);
+
+        assertEquals(1, scheduler.size(5));
+        assertSame(duplicate, scheduler.poll());
+
+        // The original is completed with the response to the duplicate
+        ZWaveTransactionResponse response = new ZWaveTransactionResponse(ZWaveTransactionResponse.State.COMPLETE);
+        duplicate.getFuture().complete(response);
+        assertSame(response, original.getFuture().getNow(null));
+    }
+
+    @Test
+    public void agedTransactionOvertakesOtherNodes() throws Exception {
+        addNode(6, true);
+        addNode(7, true);
+        ZWaveTransactionScheduler scheduler = new ZWaveTransactionScheduler(network);
+        scheduler.setAgingTime(20);
+
+        ZWaveTransaction poll = getTransaction(6, TransactionPriority.Poll, 1);
+        ZWaveTransaction get = getTransaction(7, TransactionPriority.Get, 2);
+        scheduler.add(poll);
+        scheduler.add(get);
+        assertSame(get, scheduler.poll());
+        scheduler.transactionComplete(get);
+
+        // Once the poll has aged it is sent before a new GET to the other node
+        Thread.sleep(100);
+        scheduler.add(getTransaction(7, TransactionPriority.Get, 3));
+        assertSame(poll, scheduler.poll());
+    }
+
+    @Test
+    public void clearNodeRemovesOnlyThatNode() {
+        addNode(2, true);
+        addNode(3, true);
+        ZWaveTransactionScheduler scheduler = new ZWaveTransactionScheduler(network);
+
+        ZWaveTransaction first = getTransaction(2, TransactionPriority.Set, 1);
+        ZWaveTransaction second = getTransaction(2, TransactionPriority.Get, 2);
+        ZWaveTransaction other = getTransaction(3, TransactionPriority.Poll, 3);
+        scheduler.add(first);
+        scheduler.add(second);
+        scheduler.add(other);
+
+        assertEquals(Arrays.asList(first, second), scheduler.clear(2));
+        assertEquals(0, scheduler.size(2));
+        assertSame(other, scheduler.poll());
+        assertNull(scheduler.poll());
+        assertTrue(scheduler.clear(4).isEmpty());
+    }
+}
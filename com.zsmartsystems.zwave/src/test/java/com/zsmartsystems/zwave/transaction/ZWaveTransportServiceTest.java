@@ -0,0 +1,171 @@
+/**
+ * Copyright (c) 2016-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zwave.transaction;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.zsmartsystems.zwave.ZWaveCommandClassPayload;
+import com.zsmartsystems.zwave.timer.ZWaveTimer;
+
+/**
+ * Test cases for {@link ZWaveTransportService}.
+ *
+ * @author Chris Jackson
+ */
+public class ZWaveTransportServiceTest {
+    private final ZWaveTimer timer = new ZWaveTimer();
+
+    private final BlockingQueue<byte[]> sent = new LinkedBlockingQueue<byte[]>();
+    private final BlockingQueue<byte[]> received = new LinkedBlockingQueue<byte[]>();
+
+    private final ZWaveTransportService sender = new ZWaveTransportService(timer,
+            (nodeId, buffer, offset, length) -> sent.add(Arrays.copyOfRange(buffer, offset, offset + length)));
+    private final ZWaveTransportService receiver = new ZWaveTransportService(timer,
+            (nodeId, buffer, offset, length) -> received.add(Arrays.copyOfRange(buffer, offset, offset + length)));
+
+    private byte[] getDatagram(int length) {
+        byte[] datagram = new byte[length];
+        datagram[0] = 0x70;
+        datagram[1] = 0x06;
+        for (int cnt = 2; cnt < length; cnt++) {
+            datagram[cnt] = (byte) cnt;
+        }
+        return datagram;
+    }
+
+    private ZWaveCommandClassPayload receive(ZWaveTransportService service, byte[] command) {
+        return service.processCommand(2, command, 0, command.length);
+    }
+
+    @Test
+    public void requiresSegmentation() {
+        assertFalse(sender.requiresSegmentation(46));
+        assertTrue(sender.requiresSegmentation(47));
+
+        sender.setMaxFrameSize(20);
+        assertTrue(sender.requiresSegmentation(21));
+    }
+
+    @Test
+    public void sendAndReassemble() throws Exception {
+        byte[] datagram = getDatagram(100);
+        CompletableFuture<Boolean> future = sender.sendDatagram(2, datagram, 0, datagram.length);
+
+        // 40 bytes in the first segment, then 39 bytes in each subsequent segment
+        List<byte[]> segments = Arrays.asList(sent.toArray(new byte[0][]));
+        assertEquals(3, segments.size());
+        assertEquals(46, segments.get(0).length);
+        assertEquals(0xC0, segments.get(0)[1] & 0xFF);
+        assertEquals(0xE0, segments.get(1)[1] & 0xFF);
+        assertEquals(100, segments.get(0)[2]);
+
+        assertNull(receive(receiver, segments.get(0)));
+        assertNull(receive(receiver, segments.get(1)));
+        ZWaveCommandClassPayload reassembled = receive(receiver, segments.get(2));
+        assertNotNull(reassembled);
+        assertArrayEquals(datagram, reassembled.getPayloadBuffer());
+        assertEquals(0x70, reassembled.getCommandClassId());
+
+        // The receiver confirms the datagram, which completes the sender session
+        byte[] complete = received.poll();
+        assertEquals(0xE8, complete[1] & 0xFF);
+        assertFalse(future.isDone());
+        receive(sender, complete);
+        assertTrue(future.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void sendFromOffset() throws Exception {
+        byte[] buffer = new byte[120];
+        System.arraycopy(getDatagram(100), 0, buffer, 20, 100);
+        sender.sendDatagram(2, buffer, 20, 100);
+
+        ZWaveCommandClassPayload reassembled = null;
+        for (byte[] segment : sent) {
+            reassembled = receive(receiver, segment);
+        }
+        assertNotNull(reassembled);
+        assertArrayEquals(getDatagram(100), reassembled.getPayloadBuffer());
+    }
+
+    @Test
+    public void missingSegmentRequested() throws Exception {
+        byte[] datagram = getDatagram(120);
+        sender.sendDatagram(2, datagram, 0, datagram.length);
+        assertEquals(4, sent.size());
+
+        assertNull(receive(receiver, sent.poll()));
+        sent.poll();
+        assertNull(receive(receiver, sent.poll()));
+        assertNull(receive(receiver, sent.poll()));
+
+        // The last segment is received, so the missing segment is requested straight away
+        byte[] request = received.poll();
+        assertNotNull(request);
+        assertEquals(0xC8, request[1] & 0xFF);
+        assertEquals(40, request[3]);
+
+        // The sender resends the missing segment from the original datagram
+        receive(sender, request);
+        assertEquals(1, sent.size());
+        ZWaveCommandClassPayload reassembled = receive(receiver, sent.poll());
+        assertNotNull(reassembled);
+        assertArrayEquals(datagram, reassembled.getPayloadBuffer());
+    }
+
+    @Test
+    public void missingSegmentRequestedOnTimeout() throws Exception {
+        receiver.setSegmentTimeout(50);
+
+        byte[] datagram = getDatagram(100);
+        sender.sendDatagram(2, datagram, 0, datagram.length);
+        receive(receiver, sent.poll());
+        sent.poll();
+
+        byte[] request = received.poll(2, TimeUnit.SECONDS);
+        assertNotNull(request);
+        assertEquals(0xC8, request[1] & 0xFF);
+        assertEquals(40, request[3]);
+    }
+
+    @Test
+    public void corruptSegmentIgnored() {
+        byte[] datagram = getDatagram(30);
+        sender.setMaxFrameSize(20);
+        sender.sendDatagram(2, datagram, 0, datagram.length);
+
+        byte[] segment = sent.poll();
+        segment[6] ^= 0x01;
+        assertNull(receive(receiver, segment));
+        assertEquals(0, received.size());
+    }
+
+    @Test
+    public void sessionFailsWithoutComplete() throws Exception {
+        sender.setCompleteTimeout(50);
+
+        byte[] datagram = getDatagram(100);
+        CompletableFuture<Boolean> future = sender.sendDatagram(2, datagram, 0, datagram.length);
+        assertFalse(future.get(2, TimeUnit.SECONDS));
+    }
+}